@@ -17,12 +17,17 @@ package org.github.krashpad;
 
 import static org.github.krashpad.OptionsParser.parseOptions;
 import static org.github.krashpad.util.Constants.OPTION_HELP_LONG;
+import static org.github.krashpad.util.Constants.OPTION_PROFILE_FILE_LONG;
+import static org.github.krashpad.util.Constants.OPTION_PROFILE_LONG;
+import static org.github.krashpad.util.Constants.OPTION_SIGNATURES_LONG;
 import static org.github.krashpad.util.Constants.OPTION_REPORT_CONSOLE_LONG;
 
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.PrintWriter;
 import java.math.BigDecimal;
 import java.util.ArrayList;
@@ -39,7 +44,9 @@ import org.github.krashpad.domain.jdk.FatalErrorLog;
 import org.github.krashpad.domain.jdk.Stack;
 import org.github.krashpad.service.Manager;
 import org.github.krashpad.util.Constants;
+import org.github.krashpad.util.KrashUtil;
 import org.github.krashpad.util.jdk.Analysis;
+import org.github.krashpad.util.jdk.CrashSignatureDatabase;
 import org.github.krashpad.util.jdk.JdkMath;
 import org.github.krashpad.util.jdk.JdkUtil;
 
@@ -82,10 +89,37 @@ public class Main {
         if (logFile.equals(reportFile)) {
             throw new IllegalArgumentException("Fatal error log and report are the same file.");
         }
+        boolean reportProfile = cmd.hasOption(OPTION_PROFILE_LONG);
         Manager manager = new Manager();
-        FatalErrorLog fel = manager.parse(logFile);
+        manager.setProfile(reportProfile || cmd.hasOption(OPTION_PROFILE_FILE_LONG));
+        if (cmd.hasOption(OPTION_SIGNATURES_LONG)) {
+            manager.setCrashSignatureDatabase(
+                    CrashSignatureDatabase.load(new File(cmd.getOptionValue(OPTION_SIGNATURES_LONG)).toPath()));
+        }
+        FatalErrorLog fel;
+        if (logFileName.equals(Constants.INPUT_STANDARD_IN)) {
+            fel = manager.parse(System.in);
+        } else if (KrashUtil.isCompressed(logFile)) {
+            // Decompress gzip and zip input as it is parsed
+            InputStream inputStream = new FileInputStream(logFile);
+            try {
+                fel = manager.parse(inputStream);
+            } finally {
+                inputStream.close();
+            }
+        } else {
+            fel = manager.parse(logFile.toPath());
+        }
+        if (cmd.hasOption(OPTION_PROFILE_FILE_LONG)) {
+            FileWriter profileWriter = new FileWriter(cmd.getOptionValue(OPTION_PROFILE_FILE_LONG));
+            try {
+                profileWriter.write(fel.getAnalysisProfile().toCsv());
+            } finally {
+                profileWriter.close();
+            }
+        }
         boolean reportConsole = cmd.hasOption(OPTION_REPORT_CONSOLE_LONG);
-        createReport(fel, reportConsole, reportFile, logFile.getName());
+        createReport(fel, reportConsole, reportProfile, reportFile, logFile.getName());
     }
 
     /**
@@ -95,12 +129,15 @@ public class Main {
      *            Fatal error log object.
      * @param reportConsole
      *            Whether print the report to the console or to a file.
+     * @param reportProfile
+     *            Whether to report the cost of each analysis rule.
      * @param reportFile
      *            Report file.
      * @param logFileName
      *            The fatal error log that was parsed.
      */
-    private static void createReport(FatalErrorLog fel, boolean reportConsole, File reportFile, String logFileName) {
+    private static void createReport(FatalErrorLog fel, boolean reportConsole, boolean reportProfile, File reportFile,
+            String logFileName) {
         FileWriter fileWriter = null;
         PrintWriter printWriter = null;
         try {
@@ -334,7 +371,11 @@ public class Main {
             if (fel.getThreadStackSize() > 0) {
                 printWriter.write("Thread Stack Size: " + fel.getThreadStackSize() + "K" + Constants.LINE_SEPARATOR);
             }
-            printWriter.write("# Java threads: " + fel.getJavaThreadCount() + Constants.LINE_SEPARATOR);
+            if (fel.getJavaThreadCount() >= 0) {
+                printWriter.write("# Java threads: " + fel.getJavaThreadCount() + Constants.LINE_SEPARATOR);
+            } else {
+                printWriter.write("# Java threads: " + Constants.PROPERTY_UNKNOWN + Constants.LINE_SEPARATOR);
+            }
             if (fel.getThreadStackMemory() > 0) {
                 printWriter.write("Thread Stack Memory: "
                         + JdkUtil.convertSize(fel.getThreadStackMemory(), 'B', org.github.joa.util.Constants.UNITS)
@@ -563,6 +604,14 @@ public class Main {
                 printWriter.write("========================================" + Constants.LINE_SEPARATOR);
             }
 
+            // Analysis rule costs
+            if (reportProfile && fel.getAnalysisProfile() != null) {
+                printWriter.write("ANALYSIS PROFILE:" + Constants.LINE_SEPARATOR);
+                printWriter.write("----------------------------------------" + Constants.LINE_SEPARATOR);
+                printWriter.write(fel.getAnalysisProfile().toTable());
+                printWriter.write("========================================" + Constants.LINE_SEPARATOR);
+            }
+
             // Unidentified log lines
             List<String> unidentifiedLogLines = fel.getUnidentifiedLogLines();
             if (!unidentifiedLogLines.isEmpty()) {
@@ -14,12 +14,19 @@
  *********************************************************************************************************************/
 package org.github.krashpad;
 
+import static org.github.krashpad.util.Constants.INPUT_STANDARD_IN;
 import static org.github.krashpad.util.Constants.OPTION_HELP_LONG;
 import static org.github.krashpad.util.Constants.OPTION_HELP_SHORT;
 import static org.github.krashpad.util.Constants.OPTION_OUTPUT_LONG;
 import static org.github.krashpad.util.Constants.OPTION_OUTPUT_SHORT;
+import static org.github.krashpad.util.Constants.OPTION_PROFILE_FILE_LONG;
+import static org.github.krashpad.util.Constants.OPTION_PROFILE_FILE_SHORT;
+import static org.github.krashpad.util.Constants.OPTION_PROFILE_LONG;
+import static org.github.krashpad.util.Constants.OPTION_PROFILE_SHORT;
 import static org.github.krashpad.util.Constants.OPTION_REPORT_CONSOLE_LONG;
 import static org.github.krashpad.util.Constants.OPTION_REPORT_CONSOLE_SHORT;
+import static org.github.krashpad.util.Constants.OPTION_SIGNATURES_LONG;
+import static org.github.krashpad.util.Constants.OPTION_SIGNATURES_SHORT;
 import static org.github.krashpad.util.Constants.OUTPUT_FILE_NAME;
 
 import java.io.File;
@@ -43,8 +50,12 @@ public class OptionsParser {
         options.addOption(OPTION_HELP_SHORT, OPTION_HELP_LONG, false, "help");
         options.addOption(OPTION_OUTPUT_SHORT, OPTION_OUTPUT_LONG, true,
                 "output file name (default " + OUTPUT_FILE_NAME + ")");
+        options.addOption(OPTION_PROFILE_SHORT, OPTION_PROFILE_LONG, false, "report the cost of each analysis rule");
+        options.addOption(OPTION_PROFILE_FILE_SHORT, OPTION_PROFILE_FILE_LONG, true,
+                "write the analysis rule costs to a csv file");
         options.addOption(OPTION_REPORT_CONSOLE_SHORT, OPTION_REPORT_CONSOLE_LONG, false,
                 "print report to stdout instead of file");
+        options.addOption(OPTION_SIGNATURES_SHORT, OPTION_SIGNATURES_LONG, true, "known bug signature database file");
     }
 
     /**
@@ -85,9 +96,9 @@ public class OptionsParser {
             if (logFileName == null) {
                 throw new ParseException("Missing file");
             } else {
-                // Ensure file exists.
+                // Ensure file exists (unless reading standard input).
                 File logFile = new File(logFileName);
-                if (!logFile.exists()) {
+                if (!logFileName.equals(INPUT_STANDARD_IN) && !logFile.exists()) {
                     throw new ParseException("Invalid file: '" + logFileName + "'");
                 }
             }
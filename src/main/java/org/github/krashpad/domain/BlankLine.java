@@ -14,8 +14,11 @@
  *********************************************************************************************************************/
 package org.github.krashpad.domain;
 
+import java.util.regex.Pattern;
+
 import org.github.krashpad.util.jdk.JdkRegEx;
 import org.github.krashpad.util.jdk.JdkUtil;
+import org.github.krashpad.util.jdk.PatternRegistry;
 
 /**
  * <p>
@@ -27,6 +30,11 @@ import org.github.krashpad.util.jdk.JdkUtil;
  */
 public class BlankLine implements ThrowAwayEvent {
 
+    /**
+     * Compiled <code>REGEX</code>.
+     */
+    public static final Pattern PATTERN = PatternRegistry.getPattern(BlankLine.REGEX);
+
     /**
      * Regular expression defining the logging.
      */
@@ -39,8 +47,8 @@ public class BlankLine implements ThrowAwayEvent {
      *            The log line to test.
      * @return true if the log line matches the event pattern, false otherwise.
      */
-    public static final boolean match(String logLine) {
-        return logLine.matches(REGEX) || logLine.length() == 0;
+    public static final boolean match(CharSequence logLine) {
+        return PatternRegistry.matcher(PATTERN, logLine).matches() || logLine.length() == 0;
     }
 
     /**
@@ -14,10 +14,13 @@
  *********************************************************************************************************************/
 package org.github.krashpad.domain.jdk;
 
+import java.util.regex.Pattern;
+
 import org.github.krashpad.domain.HeaderEvent;
 import org.github.krashpad.domain.LogEvent;
 import org.github.krashpad.domain.ThrowAwayEvent;
 import org.github.krashpad.util.jdk.JdkUtil;
+import org.github.krashpad.util.jdk.PatternRegistry;
 
 /**
  * <p>
@@ -51,6 +54,11 @@ public class ActiveLocale implements LogEvent, ThrowAwayEvent, HeaderEvent {
      */
     public static final String _REGEX_HEADER = "Active Locale:";
 
+    /**
+     * Compiled <code>REGEX</code>.
+     */
+    public static final Pattern PATTERN = PatternRegistry.getPattern(ActiveLocale.REGEX);
+
     /**
      * Regular expression defining the logging.
      */
@@ -64,14 +72,19 @@ public class ActiveLocale implements LogEvent, ThrowAwayEvent, HeaderEvent {
      *            The log line to test.
      * @return true if the log line matches the event pattern, false otherwise.
      */
-    public static final boolean match(String logLine) {
-        return logLine.matches(REGEX);
+    public static final boolean match(CharSequence logLine) {
+        return PatternRegistry.matcher(PATTERN, logLine).matches();
     }
 
+    /**
+     * Whether the log entry is the header, determined when the event is created.
+     */
+    private final boolean header;
+
     /**
      * The log entry for the event.
      */
-    private String logEntry;
+    private final String logEntry;
 
     /**
      * Create event from log entry.
@@ -81,6 +94,7 @@ public class ActiveLocale implements LogEvent, ThrowAwayEvent, HeaderEvent {
      */
     public ActiveLocale(String logEntry) {
         this.logEntry = logEntry;
+        header = logEntry != null && PatternRegistry.matches(logEntry, _REGEX_HEADER);
     }
 
     public String getLogEntry() {
@@ -93,10 +107,6 @@ public class ActiveLocale implements LogEvent, ThrowAwayEvent, HeaderEvent {
 
     @Override
     public boolean isHeader() {
-        boolean isHeader = false;
-        if (this.logEntry != null) {
-            isHeader = logEntry.matches(_REGEX_HEADER);
-        }
-        return isHeader;
+        return header;
     }
 }
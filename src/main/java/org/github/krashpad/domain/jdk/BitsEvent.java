@@ -14,10 +14,13 @@
  *********************************************************************************************************************/
 package org.github.krashpad.domain.jdk;
 
+import java.util.regex.Pattern;
+
 import org.github.krashpad.domain.HeaderEvent;
 import org.github.krashpad.domain.LogEvent;
 import org.github.krashpad.domain.ThrowAwayEvent;
 import org.github.krashpad.util.jdk.JdkUtil;
+import org.github.krashpad.util.jdk.PatternRegistry;
 
 /**
  * <p>
@@ -54,6 +57,11 @@ public class BitsEvent implements LogEvent, ThrowAwayEvent, HeaderEvent {
      */
     private static final String _REGEX_HEADER = "(Marking Bits( \\(Prev, Next\\))?|Mod Union Table):";
 
+    /**
+     * Compiled <code>REGEX</code>.
+     */
+    public static final Pattern PATTERN = PatternRegistry.getPattern(BitsEvent.REGEX);
+
     /**
      * Regular expression defining the logging.
      */
@@ -66,14 +74,19 @@ public class BitsEvent implements LogEvent, ThrowAwayEvent, HeaderEvent {
      *            The log line to test.
      * @return true if the log line matches the event pattern, false otherwise.
      */
-    public static final boolean match(String logLine) {
-        return logLine.matches(REGEX);
+    public static final boolean match(CharSequence logLine) {
+        return PatternRegistry.matcher(PATTERN, logLine).matches();
     }
 
+    /**
+     * Whether the log entry is the header, determined when the event is created.
+     */
+    private final boolean header;
+
     /**
      * The log entry for the event.
      */
-    private String logEntry;
+    private final String logEntry;
 
     /**
      * Create event from log entry.
@@ -83,6 +96,7 @@ public class BitsEvent implements LogEvent, ThrowAwayEvent, HeaderEvent {
      */
     public BitsEvent(String logEntry) {
         this.logEntry = logEntry;
+        header = logEntry != null && PatternRegistry.matches(logEntry, _REGEX_HEADER);
     }
 
     public String getLogEntry() {
@@ -95,10 +109,6 @@ public class BitsEvent implements LogEvent, ThrowAwayEvent, HeaderEvent {
 
     @Override
     public boolean isHeader() {
-        boolean isHeader = false;
-        if (this.logEntry != null) {
-            isHeader = logEntry.matches(_REGEX_HEADER);
-        }
-        return isHeader;
+        return header;
     }
 }
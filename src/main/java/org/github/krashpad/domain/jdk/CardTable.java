@@ -14,9 +14,12 @@
  *********************************************************************************************************************/
 package org.github.krashpad.domain.jdk;
 
+import java.util.regex.Pattern;
+
 import org.github.krashpad.domain.LogEvent;
 import org.github.krashpad.domain.ThrowAwayEvent;
 import org.github.krashpad.util.jdk.JdkUtil;
+import org.github.krashpad.util.jdk.PatternRegistry;
 
 /**
  * <p>
@@ -38,6 +41,11 @@ import org.github.krashpad.util.jdk.JdkUtil;
  */
 public class CardTable implements LogEvent, ThrowAwayEvent {
 
+    /**
+     * Compiled <code>REGEX</code>.
+     */
+    public static final Pattern PATTERN = PatternRegistry.getPattern(CardTable.REGEX);
+
     /**
      * Regular expression defining the logging.
      */
@@ -50,14 +58,14 @@ public class CardTable implements LogEvent, ThrowAwayEvent {
      *            The log line to test.
      * @return true if the log line matches the event pattern, false otherwise.
      */
-    public static final boolean match(String logLine) {
-        return logLine.matches(REGEX);
+    public static final boolean match(CharSequence logLine) {
+        return PatternRegistry.matcher(PATTERN, logLine).matches();
     }
 
     /**
      * The log entry for the event.
      */
-    private String logEntry;
+    private final String logEntry;
 
     /**
      * Create event from log entry.
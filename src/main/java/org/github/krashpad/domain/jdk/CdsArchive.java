@@ -14,8 +14,11 @@
  *********************************************************************************************************************/
 package org.github.krashpad.domain.jdk;
 
+import java.util.regex.Pattern;
+
 import org.github.krashpad.domain.LogEvent;
 import org.github.krashpad.util.jdk.JdkUtil;
+import org.github.krashpad.util.jdk.PatternRegistry;
 
 /**
  * <p>
@@ -41,6 +44,11 @@ import org.github.krashpad.util.jdk.JdkUtil;
  */
 public class CdsArchive implements LogEvent {
 
+    /**
+     * Compiled <code>REGEX</code>.
+     */
+    public static final Pattern PATTERN = PatternRegistry.getPattern(CdsArchive.REGEX);
+
     /**
      * Regular expression defining the logging.
      */
@@ -53,14 +61,14 @@ public class CdsArchive implements LogEvent {
      *            The log line to test.
      * @return true if the log line matches the event pattern, false otherwise.
      */
-    public static final boolean match(String logLine) {
-        return logLine.matches(REGEX);
+    public static final boolean match(CharSequence logLine) {
+        return PatternRegistry.matcher(PATTERN, logLine).matches();
     }
 
     /**
      * The log entry for the event.
      */
-    private String logEntry;
+    private final String logEntry;
 
     /**
      * Create event from log entry.
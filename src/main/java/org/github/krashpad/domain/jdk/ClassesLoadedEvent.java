@@ -14,10 +14,13 @@
  *********************************************************************************************************************/
 package org.github.krashpad.domain.jdk;
 
+import java.util.regex.Pattern;
+
 import org.github.krashpad.domain.HeaderEvent;
 import org.github.krashpad.domain.LogEvent;
 import org.github.krashpad.util.jdk.JdkRegEx;
 import org.github.krashpad.util.jdk.JdkUtil;
+import org.github.krashpad.util.jdk.PatternRegistry;
 
 /**
  * <p>
@@ -44,6 +47,11 @@ public class ClassesLoadedEvent implements LogEvent, HeaderEvent {
      */
     public static final String _REGEX_HEADER = "Classes loaded \\(\\d{1,} events\\):";
 
+    /**
+     * Compiled <code>REGEX</code>.
+     */
+    public static final Pattern PATTERN = PatternRegistry.getPattern(ClassesLoadedEvent.REGEX);
+
     /**
      * Regular expression defining the logging.
      */
@@ -57,14 +65,19 @@ public class ClassesLoadedEvent implements LogEvent, HeaderEvent {
      *            The log line to test.
      * @return true if the log line matches the event pattern, false otherwise.
      */
-    public static final boolean match(String logLine) {
-        return logLine.matches(REGEX);
+    public static final boolean match(CharSequence logLine) {
+        return PatternRegistry.matcher(PATTERN, logLine).matches();
     }
 
+    /**
+     * Whether the log entry is the header, determined when the event is created.
+     */
+    private final boolean header;
+
     /**
      * The log entry for the event.
      */
-    private String logEntry;
+    private final String logEntry;
 
     /**
      * Create event from log entry.
@@ -74,6 +87,7 @@ public class ClassesLoadedEvent implements LogEvent, HeaderEvent {
      */
     public ClassesLoadedEvent(String logEntry) {
         this.logEntry = logEntry;
+        header = logEntry != null && PatternRegistry.matches(logEntry, _REGEX_HEADER);
     }
 
     public String getLogEntry() {
@@ -86,10 +100,6 @@ public class ClassesLoadedEvent implements LogEvent, HeaderEvent {
 
     @Override
     public boolean isHeader() {
-        boolean isHeader = false;
-        if (this.logEntry != null) {
-            isHeader = logEntry.matches(_REGEX_HEADER);
-        }
-        return isHeader;
+        return header;
     }
 }
@@ -14,11 +14,14 @@
  *********************************************************************************************************************/
 package org.github.krashpad.domain.jdk;
 
+import java.util.regex.Pattern;
+
 import org.github.krashpad.domain.HeaderEvent;
 import org.github.krashpad.domain.LogEvent;
 import org.github.krashpad.domain.ThrowAwayEvent;
 import org.github.krashpad.util.jdk.JdkRegEx;
 import org.github.krashpad.util.jdk.JdkUtil;
+import org.github.krashpad.util.jdk.PatternRegistry;
 
 /**
  * <p>
@@ -49,6 +52,11 @@ public class ClassesRedefinedEvent implements LogEvent, ThrowAwayEvent, HeaderEv
      */
     public static final String _REGEX_HEADER = "Classes redefined \\(\\d{1,} events\\):";
 
+    /**
+     * Compiled <code>REGEX</code>.
+     */
+    public static final Pattern PATTERN = PatternRegistry.getPattern(ClassesRedefinedEvent.REGEX);
+
     /**
      * Regular expression defining the logging.
      */
@@ -62,14 +70,19 @@ public class ClassesRedefinedEvent implements LogEvent, ThrowAwayEvent, HeaderEv
      *            The log line to test.
      * @return true if the log line matches the event pattern, false otherwise.
      */
-    public static final boolean match(String logLine) {
-        return logLine.matches(REGEX);
+    public static final boolean match(CharSequence logLine) {
+        return PatternRegistry.matcher(PATTERN, logLine).matches();
     }
 
+    /**
+     * Whether the log entry is the header, determined when the event is created.
+     */
+    private final boolean header;
+
     /**
      * The log entry for the event.
      */
-    private String logEntry;
+    private final String logEntry;
 
     /**
      * Create event from log entry.
@@ -79,6 +92,7 @@ public class ClassesRedefinedEvent implements LogEvent, ThrowAwayEvent, HeaderEv
      */
     public ClassesRedefinedEvent(String logEntry) {
         this.logEntry = logEntry;
+        header = logEntry != null && PatternRegistry.matches(logEntry, _REGEX_HEADER);
     }
 
     public String getLogEntry() {
@@ -91,10 +105,6 @@ public class ClassesRedefinedEvent implements LogEvent, ThrowAwayEvent, HeaderEv
 
     @Override
     public boolean isHeader() {
-        boolean isHeader = false;
-        if (this.logEntry != null) {
-            isHeader = logEntry.matches(_REGEX_HEADER);
-        }
-        return isHeader;
+        return header;
     }
 }
@@ -19,6 +19,7 @@ import java.util.regex.Pattern;
 
 import org.github.krashpad.domain.LogEvent;
 import org.github.krashpad.util.jdk.JdkUtil;
+import org.github.krashpad.util.jdk.PatternRegistry;
 
 /**
  * <p>
@@ -40,7 +41,7 @@ import org.github.krashpad.util.jdk.JdkUtil;
  */
 public class CommandLine implements LogEvent {
 
-    private static Pattern pattern = Pattern.compile(CommandLine.REGEX);
+    public static final Pattern PATTERN = PatternRegistry.getPattern(CommandLine.REGEX);
 
     /**
      * Regular expression defining the logging.
@@ -54,14 +55,24 @@ public class CommandLine implements LogEvent {
      *            The log line to test.
      * @return true if the log line matches the event pattern, false otherwise.
      */
-    public static final boolean match(String logLine) {
-        return logLine.matches(REGEX);
+    public static final boolean match(CharSequence logLine) {
+        return PatternRegistry.matcher(PATTERN, logLine).matches();
     }
 
+    /**
+     * The JVM options, or null if none exist.
+     */
+    private final String jvmOptions;
+
     /**
      * The log entry for the event.
      */
-    private String logEntry;
+    private final String logEntry;
+
+    /**
+     * The value of the VM argument.
+     */
+    private final String value;
 
     /**
      * Create event from log entry.
@@ -71,33 +82,43 @@ public class CommandLine implements LogEvent {
      */
     public CommandLine(String logEntry) {
         this.logEntry = logEntry;
+        String value = null;
+        String jvmOptions = null;
+        if (logEntry != null) {
+            Matcher matcher = PatternRegistry.matcher(PATTERN, logEntry);
+            if (matcher.find()) {
+                value = matcher.group(1);
+            }
+            if (value != null) {
+                String[] options = value.split(org.github.joa.util.JdkRegEx.JVM_OPTIONS);
+                StringBuilder sb = new StringBuilder();
+                for (int i = 0; i < options.length; i++) {
+                    if (i < options.length - 1) {
+                        sb.append(options[i]);
+                    } else {
+                        // strip java command from last option
+                        Pattern opt = PatternRegistry
+                                .getPattern("^( " + org.github.joa.util.JdkRegEx.JVM_OPTION + "[^ ]*)");
+                        Matcher optionMatcher = PatternRegistry.matcher(opt, options[i]);
+                        if (optionMatcher.find()) {
+                            sb.append(optionMatcher.group(1));
+                        }
+                    }
+                }
+                if (sb.length() > 0) {
+                    jvmOptions = sb.toString();
+                }
+            }
+        }
+        this.value = value;
+        this.jvmOptions = jvmOptions;
     }
 
     /**
      * @return The JVM options, or null if none exist.
      */
     public String getJvmOptions() {
-        String jvmArgs = null;
-        if (getValue() != null) {
-            String[] options = getValue().split(org.github.joa.util.JdkRegEx.JVM_OPTIONS);
-            StringBuilder sb = new StringBuilder();
-            for (int i = 0; i < options.length; i++) {
-                if (i < options.length - 1) {
-                    sb.append(options[i]);
-                } else {
-                    // strip java command from last option
-                    Pattern opt = Pattern.compile("^( " + org.github.joa.util.JdkRegEx.JVM_OPTION + "[^ ]*)");
-                    Matcher matcher = opt.matcher(options[i]);
-                    if (matcher.find()) {
-                        sb.append(matcher.group(1));
-                    }
-                }
-            }
-            if (sb.length() > 0) {
-                jvmArgs = sb.toString();
-            }
-        }
-        return jvmArgs;
+        return jvmOptions;
     }
 
     public String getLogEntry() {
@@ -112,11 +133,6 @@ public class CommandLine implements LogEvent {
      * @return The value of the VM argument.
      */
     public String getValue() {
-        String value = null;
-        Matcher matcher = pattern.matcher(logEntry);
-        if (matcher.find()) {
-            value = matcher.group(1);
-        }
         return value;
     }
 }
@@ -20,6 +20,7 @@ import java.util.regex.Pattern;
 import org.github.krashpad.domain.HeaderEvent;
 import org.github.krashpad.domain.LogEvent;
 import org.github.krashpad.util.jdk.JdkUtil;
+import org.github.krashpad.util.jdk.PatternRegistry;
 
 /**
  * <p>
@@ -56,12 +57,12 @@ public class ContainerInfo implements LogEvent, HeaderEvent {
     /**
      * Regular expression for the header.
      */
-    private static final String _REGEX_HEADER = "^container \\(cgroup\\) information:$";
+    public static final String _REGEX_HEADER = "^container \\(cgroup\\) information:$";
 
     /**
      * Regular expression for a setting.
      */
-    private static final String _SETTING = "^(active_processor_count|container_type|"
+    public static final String _SETTING = "^(active_processor_count|container_type|"
             + "cpu_(cpuset_cpus|memory_nodes|period|shares|quota)|current number of tasks|"
             + "kernel_memory_(limit_in_bytes|max_usage_in_bytes|usage_in_bytes)|maximum number of tasks|"
             + "memory_(and_swap_limit_in_bytes|limit_in_bytes|max_usage_in_bytes|soft_limit_in_bytes|usage_in_bytes)):"
@@ -74,14 +75,29 @@ public class ContainerInfo implements LogEvent, HeaderEvent {
      *            The log line to test.
      * @return true if the log line matches the event pattern, false otherwise.
      */
-    public static final boolean match(String logLine) {
-        return logLine.matches(_REGEX_HEADER) || logLine.matches(_SETTING);
+    public static final boolean match(CharSequence logLine) {
+        return PatternRegistry.matches(logLine, _REGEX_HEADER) || PatternRegistry.matches(logLine, _SETTING);
     }
 
+    /**
+     * Whether the log entry is the header, determined when the event is created.
+     */
+    private final boolean header;
+
     /**
      * The log entry for the event.
      */
-    private String logEntry;
+    private final String logEntry;
+
+    /**
+     * The setting, or null if the log entry is not a setting.
+     */
+    private final String setting;
+
+    /**
+     * The setting value.
+     */
+    private final String settingValue;
 
     /**
      * Create event from log entry.
@@ -91,6 +107,18 @@ public class ContainerInfo implements LogEvent, HeaderEvent {
      */
     public ContainerInfo(String logEntry) {
         this.logEntry = logEntry;
+        header = logEntry != null && PatternRegistry.matches(logEntry, _REGEX_HEADER);
+        String setting = null;
+        String value = null;
+        if (logEntry != null && PatternRegistry.matches(logEntry, _SETTING)) {
+            Matcher matcher = PatternRegistry.matcher(PatternRegistry.getPattern(_SETTING), logEntry);
+            if (matcher.find()) {
+                setting = matcher.group(1);
+                value = matcher.group(5);
+            }
+        }
+        this.setting = setting;
+        settingValue = value;
     }
 
     public String getLogEntry() {
@@ -105,14 +133,6 @@ public class ContainerInfo implements LogEvent, HeaderEvent {
      * @return The setting name, or null if the log line is not a setting.
      */
     public String getSetting() {
-        String setting = null;
-        if (logEntry.matches(_SETTING)) {
-            Pattern pattern = Pattern.compile(_SETTING);
-            Matcher matcher = pattern.matcher(logEntry);
-            if (matcher.find()) {
-                setting = matcher.group(1);
-            }
-        }
         return setting;
     }
 
@@ -120,23 +140,11 @@ public class ContainerInfo implements LogEvent, HeaderEvent {
      * @return The setting value, or null if the log line is not a setting.
      */
     public String getSettingValue() {
-        String value = null;
-        if (logEntry.matches(_SETTING)) {
-            Pattern pattern = Pattern.compile(_SETTING);
-            Matcher matcher = pattern.matcher(logEntry);
-            if (matcher.find()) {
-                value = matcher.group(5);
-            }
-        }
-        return value;
+        return settingValue;
     }
 
     @Override
     public boolean isHeader() {
-        boolean isHeader = false;
-        if (this.logEntry != null) {
-            isHeader = logEntry.matches(_REGEX_HEADER);
-        }
-        return isHeader;
+        return header;
     }
 }
@@ -14,10 +14,13 @@
  *********************************************************************************************************************/
 package org.github.krashpad.domain.jdk;
 
+import java.util.regex.Pattern;
+
 import org.github.krashpad.domain.HeaderEvent;
 import org.github.krashpad.domain.LogEvent;
 import org.github.krashpad.util.jdk.JdkRegEx;
 import org.github.krashpad.util.jdk.JdkUtil;
+import org.github.krashpad.util.jdk.PatternRegistry;
 
 /**
  * <p>
@@ -104,6 +107,11 @@ public class CpuInfo implements LogEvent, HeaderEvent {
     private static final String _REGEX_VALUE = "^(\\d{1,}|\\d{1,}-\\d{1,}|" + JdkRegEx.SIZE
             + "|\\d{1,2}KFrequency|Data|Instruction|Unified|performance|performance powersave|powersave)$";
 
+    /**
+     * Compiled <code>REGEX</code>.
+     */
+    public static final Pattern PATTERN = PatternRegistry.getPattern(CpuInfo.REGEX);
+
     /**
      * Regular expression defining the logging.
      */
@@ -125,14 +133,19 @@ public class CpuInfo implements LogEvent, HeaderEvent {
      *            The log line to test.
      * @return true if the log line matches the event pattern, false otherwise.
      */
-    public static final boolean match(String logLine) {
-        return logLine.matches(REGEX);
+    public static final boolean match(CharSequence logLine) {
+        return PatternRegistry.matcher(PATTERN, logLine).matches();
     }
 
+    /**
+     * Whether the log entry is the header, determined when the event is created.
+     */
+    private final boolean header;
+
     /**
      * The log entry for the event.
      */
-    private String logEntry;
+    private final String logEntry;
 
     /**
      * Create event from log entry.
@@ -142,6 +155,7 @@ public class CpuInfo implements LogEvent, HeaderEvent {
      */
     public CpuInfo(String logEntry) {
         this.logEntry = logEntry;
+        header = logEntry != null && PatternRegistry.matches(logEntry, _REGEX_HEADER);
     }
 
     public String getLogEntry() {
@@ -156,15 +170,11 @@ public class CpuInfo implements LogEvent, HeaderEvent {
      * @return True if the event is the CPU header with summary information, false otherwise.
      */
     public boolean isCpuHeader() {
-        return logEntry.matches(_REGEX_HEADER);
+        return header;
     }
 
     @Override
     public boolean isHeader() {
-        boolean isHeader = false;
-        if (this.logEntry != null) {
-            isHeader = logEntry.matches(_REGEX_HEADER);
-        }
-        return isHeader;
+        return header;
     }
 }
@@ -20,6 +20,7 @@ import java.util.regex.Pattern;
 import org.github.krashpad.domain.LogEvent;
 import org.github.krashpad.util.jdk.JdkRegEx;
 import org.github.krashpad.util.jdk.JdkUtil;
+import org.github.krashpad.util.jdk.PatternRegistry;
 
 /**
  * <p>
@@ -41,7 +42,7 @@ import org.github.krashpad.util.jdk.JdkUtil;
  */
 public class CurrentThread implements LogEvent {
 
-    private static final Pattern PATTERN;
+    public static final Pattern PATTERN;
 
     /**
      * Regular expression defining the logging.
@@ -49,7 +50,7 @@ public class CurrentThread implements LogEvent {
     private static final String REGEX = "^Current thread( \\(" + JdkRegEx.ADDRESS + "\\):)?[ ]{1,2}(.+)$";
 
     static {
-        PATTERN = Pattern.compile(CurrentThread.REGEX);
+        PATTERN = PatternRegistry.getPattern(CurrentThread.REGEX);
     }
 
     /**
@@ -59,14 +60,29 @@ public class CurrentThread implements LogEvent {
      *            The log line to test.
      * @return true if the log line matches the event pattern, false otherwise.
      */
-    public static final boolean match(String logLine) {
-        return logLine.matches(REGEX);
+    public static final boolean match(CharSequence logLine) {
+        return PatternRegistry.matcher(PATTERN, logLine).matches();
     }
 
+    /**
+     * True if the current thread is a CompilerThread, false otherwise.
+     */
+    private final boolean compilerThread;
+
     /**
      * The log entry for the event.
      */
-    private String logEntry;
+    private final String logEntry;
+
+    /**
+     * The thread running when the JVM crashed.
+     */
+    private final String threadName;
+
+    /**
+     * True if the current thread is a VMThread, false otherwise.
+     */
+    private final boolean vmThread;
 
     /**
      * Create event from log entry.
@@ -76,6 +92,16 @@ public class CurrentThread implements LogEvent {
      */
     public CurrentThread(String logEntry) {
         this.logEntry = logEntry;
+        compilerThread = logEntry != null && PatternRegistry.matches(logEntry, "^.+C[12] CompilerThread\\d{1,}.+$");
+        vmThread = logEntry != null && PatternRegistry.matches(logEntry, "^.+VMThread.+$");
+        String threadName = null;
+        if (logEntry != null) {
+            Matcher matcher = PatternRegistry.matcher(PATTERN, logEntry);
+            if (matcher.find()) {
+                threadName = matcher.group(7);
+            }
+        }
+        this.threadName = threadName;
     }
 
     public String getLogEntry() {
@@ -90,25 +116,20 @@ public class CurrentThread implements LogEvent {
      * @return The thread running when the JVM crashed.
      */
     public String getThreadName() {
-        String currentThread = null;
-        Matcher matcher = PATTERN.matcher(logEntry);
-        if (matcher.find()) {
-            currentThread = matcher.group(7);
-        }
-        return currentThread;
+        return threadName;
     }
 
     /**
      * @return True if the current thread is a CompilerThread, false otherwise.
      */
     public boolean isCompilerThread() {
-        return logEntry.matches("^.+C[12] CompilerThread\\d{1,}.+$");
+        return compilerThread;
     }
 
     /**
      * @return True if the current thread is a VMThread, false otherwise.
      */
     public boolean isVmThread() {
-        return logEntry.matches("^.+VMThread.+$");
+        return vmThread;
     }
 }
@@ -22,6 +22,7 @@ import org.github.krashpad.domain.LogEvent;
 import org.github.krashpad.util.Constants.Device;
 import org.github.krashpad.util.jdk.JdkRegEx;
 import org.github.krashpad.util.jdk.JdkUtil;
+import org.github.krashpad.util.jdk.PatternRegistry;
 
 /**
  * <p>
@@ -88,7 +89,7 @@ public class DynamicLibrary implements LogEvent, HeaderEvent {
      */
     public static final String _REGEX_HEADER = "Dynamic libraries:";
 
-    private static Pattern pattern = Pattern.compile(DynamicLibrary.REGEX);
+    public static final Pattern PATTERN = PatternRegistry.getPattern(DynamicLibrary.REGEX);
 
     /**
      * Regular expression defining the logging.
@@ -105,14 +106,49 @@ public class DynamicLibrary implements LogEvent, HeaderEvent {
      *            The log line to test.
      * @return true if the log line matches the event pattern, false otherwise.
      */
-    public static final boolean match(String logLine) {
-        return logLine.matches(REGEX);
+    public static final boolean match(CharSequence logLine) {
+        return PatternRegistry.matcher(PATTERN, logLine).matches();
     }
 
+    /**
+     * The device the file is stored on.
+     */
+    private final Device device;
+
+    /**
+     * True if the log entry is an error, false otherwise.
+     */
+    private final boolean error;
+
+    /**
+     * The file path, or null if the mapping does not have a file path.
+     */
+    private final String filePath;
+
+    /**
+     * True if the log entry is the footer, false otherwise.
+     */
+    private final boolean footer;
+
+    /**
+     * Whether the log entry is the header, determined when the event is created.
+     */
+    private final boolean header;
+
+    /**
+     * True if the file is a jar, false otherwise.
+     */
+    private final boolean jar;
+
     /**
      * The log entry for the event.
      */
-    private String logEntry;
+    private final String logEntry;
+
+    /**
+     * True if the file is a native library, false otherwise.
+     */
+    private final boolean nativeLibrary;
 
     /**
      * Create event from log entry.
@@ -122,29 +158,54 @@ public class DynamicLibrary implements LogEvent, HeaderEvent {
      */
     public DynamicLibrary(String logEntry) {
         this.logEntry = logEntry;
+        header = logEntry != null && PatternRegistry.matches(logEntry, _REGEX_HEADER);
+        footer = logEntry != null && PatternRegistry.matches(logEntry, _REGEX_FOOTER);
+        error = logEntry != null && PatternRegistry.matches(logEntry, _REGEX_ERROR);
+        Device device = Device.UNIDENTIFIED;
+        String filePath = null;
+        if (logEntry != null) {
+            Matcher matcher = PatternRegistry.matcher(PATTERN, logEntry);
+            if (matcher.find()) {
+                int deviceIdIndex = 14;
+                String deviceId = matcher.group(deviceIdIndex);
+                if (deviceId != null) {
+                    if (PatternRegistry.matches(deviceId, "fd:[a-z0-9]{2}")) {
+                        device = Device.FIXED_DISK;
+                    } else if (PatternRegistry.matches(deviceId, "103:0[03]")) {
+                        device = Device.AWS_BLOCK_STORAGE;
+                    } else if (PatternRegistry.matches(deviceId, "00:[a-z0-9]{2}")) {
+                        device = Device.NFS;
+                    } else if (PatternRegistry.matches(deviceId, "08:[0-9]{2}")) {
+                        device = Device.SCSI_DISK;
+                    }
+                }
+                int filePathIndex = 16;
+                filePath = matcher.group(filePathIndex);
+                // Directories and file names can include spaces and parenthesis, but assume any file name that ends
+                // with " (deleted)" indicates an mmapped file in a deleted state and should be removed from the file
+                // name.
+                if (filePath != null && PatternRegistry.matches(filePath, JdkRegEx.MMAPPED_FILE_DELETED)) {
+                    int position = filePath.lastIndexOf(" (deleted)");
+                    if (position != -1) {
+                        filePath = filePath.substring(0, position);
+                    }
+                }
+            }
+        }
+        this.device = device;
+        this.filePath = filePath;
+        // ".+" + JdkRegEx.JAR + "$" with the file name character class not repeated. Equivalent, since ".+" takes all
+        // but the last character of the file name, and linear instead of quadratic in the length of the log line.
+        jar = logEntry != null && PatternRegistry.matches(logEntry, ".+[a-zA-Z\\d-_\\.\\(\\)]\\.jar$");
+        // ".+" + JdkRegEx.NATIVE_LIBRARY with the file name character class not repeated
+        nativeLibrary = logEntry != null && PatternRegistry.matches(logEntry,
+                ".+[a-zA-Z\\d-_\\.]\\.(DLL|dll|so)(\\.\\d{1,}){0,}( \\(deleted\\))?$");
     }
 
     /**
      * @return Device.
      */
     public Device getDevice() {
-        Device device = Device.UNIDENTIFIED;
-        Matcher matcher = pattern.matcher(logEntry);
-        if (matcher.find()) {
-            int deviceIdIndex = 14;
-            String deviceId = matcher.group(deviceIdIndex);
-            if (deviceId != null) {
-                if (deviceId.matches("fd:[a-z0-9]{2}")) {
-                    device = Device.FIXED_DISK;
-                } else if (deviceId.matches("103:0[03]")) {
-                    device = Device.AWS_BLOCK_STORAGE;
-                } else if (deviceId.matches("00:[a-z0-9]{2}")) {
-                    device = Device.NFS;
-                } else if (deviceId.matches("08:[0-9]{2}")) {
-                    device = Device.SCSI_DISK;
-                }
-            }
-        }
         return device;
     }
 
@@ -152,20 +213,6 @@ public class DynamicLibrary implements LogEvent, HeaderEvent {
      * @return Dynamic library file path.
      */
     public String getFilePath() {
-        String filePath = null;
-        Matcher matcher = pattern.matcher(logEntry);
-        if (matcher.find()) {
-            int filePathIndex = 16;
-            filePath = matcher.group(filePathIndex);
-            // Directories and file names can include spaces and parenthesis, but assume any file name that ends with "
-            // (deleted)" indicates an mmapped file in a deleted state and should be removed from the file name.
-            if (filePath != null && filePath.matches(JdkRegEx.MMAPPED_FILE_DELETED)) {
-                int position = filePath.lastIndexOf(" (deleted)");
-                if (position != -1) {
-                    filePath = filePath.substring(0, position);
-                }
-            }
-        }
         return filePath;
     }
 
@@ -178,28 +225,16 @@ public class DynamicLibrary implements LogEvent, HeaderEvent {
     }
 
     public boolean isError() {
-        boolean isError = false;
-        if (this.logEntry != null) {
-            isError = logEntry.matches(_REGEX_ERROR);
-        }
-        return isError;
+        return error;
     }
 
     public boolean isFooter() {
-        boolean isFooter = false;
-        if (this.logEntry != null) {
-            isFooter = logEntry.matches(_REGEX_FOOTER);
-        }
-        return isFooter;
+        return footer;
     }
 
     @Override
     public boolean isHeader() {
-        boolean isHeader = false;
-        if (this.logEntry != null) {
-            isHeader = logEntry.matches(_REGEX_HEADER);
-        }
-        return isHeader;
+        return header;
     }
 
     /**
@@ -207,30 +242,24 @@ public class DynamicLibrary implements LogEvent, HeaderEvent {
      *         any details), false otherwise.
      */
     public boolean isInteresting() {
-        boolean isInteresting = false;
-        if (this.isHeader() || this.isFooter()) {
-            isInteresting = true;
-        } else if (logEntry != null) {
-            isInteresting = (getFilePath() != null);
-        }
-        return isInteresting;
+        return header || footer || filePath != null;
     }
 
     /**
      * @return True if a jar, false otherwise.
      */
     public boolean isJar() {
-        return logEntry.matches(".+" + JdkRegEx.JAR + "$");
+        return jar;
     }
 
     public boolean isMapping() {
-        return !(isHeader() || isFooter() || isError());
+        return !(header || footer || error);
     }
 
     /**
      * @return True if a native library, false otherwise.
      */
     public boolean isNativeLibrary() {
-        return logEntry.matches(".+" + JdkRegEx.NATIVE_LIBRARY + "( \\(deleted\\))?$");
+        return nativeLibrary;
     }
 }
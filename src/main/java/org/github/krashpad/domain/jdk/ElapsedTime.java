@@ -21,6 +21,7 @@ import java.util.regex.Pattern;
 
 import org.github.krashpad.domain.LogEvent;
 import org.github.krashpad.util.jdk.JdkUtil;
+import org.github.krashpad.util.jdk.PatternRegistry;
 
 /**
  * <p>
@@ -62,7 +63,7 @@ import org.github.krashpad.util.jdk.JdkUtil;
  */
 public class ElapsedTime implements LogEvent {
 
-    private static Pattern pattern = Pattern.compile(ElapsedTime.REGEX);
+    public static final Pattern PATTERN = PatternRegistry.getPattern(ElapsedTime.REGEX);
 
     /**
      * Regular expression defining the logging.
@@ -77,14 +78,24 @@ public class ElapsedTime implements LogEvent {
      *            The log line to test.
      * @return true if the log line matches the event pattern, false otherwise.
      */
-    public static final boolean match(String logLine) {
-        return logLine.matches(REGEX);
+    public static final boolean match(CharSequence logLine) {
+        return PatternRegistry.matcher(PATTERN, logLine).matches();
     }
 
+    /**
+     * The elapsed time for display purposes in #d #h #m #s format if available, otherwise as seconds.
+     */
+    private final String literal;
+
     /**
      * The log entry for the event.
      */
-    private String logEntry;
+    private final String logEntry;
+
+    /**
+     * The uptime in milliseconds.
+     */
+    private final Long uptime;
 
     /**
      * Create event from log entry.
@@ -94,22 +105,32 @@ public class ElapsedTime implements LogEvent {
      */
     public ElapsedTime(String logEntry) {
         this.logEntry = logEntry;
+        String literal = null;
+        Long uptime = Long.MIN_VALUE;
+        if (logEntry != null) {
+            Matcher matcher = PatternRegistry.matcher(PATTERN, logEntry);
+            if (matcher.find()) {
+                if (matcher.group(5) != null) {
+                    literal = matcher.group(5);
+                } else {
+                    literal = matcher.group(1);
+                }
+                if (matcher.group(2) != null) {
+                    BigDecimal millis = new BigDecimal(matcher.group(2)).movePointRight(3);
+                    millis.setScale(0, RoundingMode.HALF_EVEN);
+                    uptime = millis.longValue();
+                }
+            }
+        }
+        this.literal = literal;
+        this.uptime = uptime;
     }
 
     /**
      * @return The elapsed time for display purposes in #d #h #m #s format if available, otherwise as seconds.
      */
     public String getLiteral() {
-        String time = null;
-        Matcher matcher = pattern.matcher(logEntry);
-        if (matcher.find()) {
-            if (matcher.group(5) != null) {
-                time = matcher.group(5);
-            } else {
-                time = matcher.group(1);
-            }
-        }
-        return time;
+        return literal;
     }
 
     public String getLogEntry() {
@@ -124,15 +145,6 @@ public class ElapsedTime implements LogEvent {
      * @return The uptime in milliseconds.
      */
     public Long getUptime() {
-        Long uptime = Long.MIN_VALUE;
-        Matcher matcher = pattern.matcher(logEntry);
-        if (matcher.find()) {
-            if (matcher.group(2) != null) {
-                BigDecimal millis = new BigDecimal(matcher.group(2)).movePointRight(3);
-                millis.setScale(0, RoundingMode.HALF_EVEN);
-                uptime = millis.longValue();
-            }
-        }
         return uptime;
     }
 }
@@ -14,8 +14,11 @@
  *********************************************************************************************************************/
 package org.github.krashpad.domain.jdk;
 
+import java.util.regex.Pattern;
+
 import org.github.krashpad.domain.ThrowAwayEvent;
 import org.github.krashpad.util.jdk.JdkUtil;
+import org.github.krashpad.util.jdk.PatternRegistry;
 
 /**
  * <p>
@@ -27,6 +30,11 @@ import org.github.krashpad.util.jdk.JdkUtil;
  */
 public class End implements ThrowAwayEvent {
 
+    /**
+     * Compiled <code>REGEX</code>.
+     */
+    public static final Pattern PATTERN = PatternRegistry.getPattern(End.REGEX);
+
     /**
      * Regular expression defining the logging.
      */
@@ -39,14 +47,14 @@ public class End implements ThrowAwayEvent {
      *            The log line to test.
      * @return true if the log line matches the event pattern, false otherwise.
      */
-    public static final boolean match(String logLine) {
-        return logLine.matches(REGEX);
+    public static final boolean match(CharSequence logLine) {
+        return PatternRegistry.matcher(PATTERN, logLine).matches();
     }
 
     /**
      * The log entry for the event. Can be used for debugging purposes.
      */
-    private String logEntry;
+    private final String logEntry;
 
     /**
      * Create event from log entry.
@@ -21,12 +21,18 @@ import static java.util.stream.Collectors.summingLong;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.Date;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
@@ -38,12 +44,18 @@ import org.github.joa.domain.BuiltBy;
 import org.github.joa.domain.GarbageCollector;
 import org.github.joa.domain.JvmContext;
 import org.github.joa.domain.Os;
+import org.github.krashpad.domain.LogEvent;
 import org.github.krashpad.util.Constants.CpuArch;
 import org.github.krashpad.util.Constants.Device;
 import org.github.krashpad.util.Constants.OsVendor;
 import org.github.krashpad.util.Constants.OsVersion;
 import org.github.krashpad.util.KrashUtil;
 import org.github.krashpad.util.jdk.Analysis;
+import org.github.krashpad.util.jdk.AnalysisList;
+import org.github.krashpad.util.jdk.AnalysisProfile;
+import org.github.krashpad.util.jdk.AnalysisTemplate.Placeholder;
+import org.github.krashpad.util.jdk.CrashSignature;
+import org.github.krashpad.util.jdk.CrashSignatureDatabase;
 import org.github.krashpad.util.jdk.Jdk11;
 import org.github.krashpad.util.jdk.Jdk17;
 import org.github.krashpad.util.jdk.Jdk21;
@@ -55,8 +67,11 @@ import org.github.krashpad.util.jdk.JdkUtil.Application;
 import org.github.krashpad.util.jdk.JdkUtil.CompressedOopMode;
 import org.github.krashpad.util.jdk.JdkUtil.JavaSpecification;
 import org.github.krashpad.util.jdk.JdkUtil.JavaVendor;
+import org.github.krashpad.util.jdk.JdkUtil.LogEventType;
 import org.github.krashpad.util.jdk.JdkUtil.SignalCode;
 import org.github.krashpad.util.jdk.JdkUtil.SignalNumber;
+import org.github.krashpad.util.jdk.MultiPatternMatcher;
+import org.github.krashpad.util.jdk.PatternRegistry;
 
 /**
  * Fatal error log data.
@@ -66,6 +81,431 @@ import org.github.krashpad.util.jdk.JdkUtil.SignalNumber;
  */
 public class FatalErrorLog {
 
+    /**
+     * Values derived from the events that are cached while the fatal error log is frozen, with the inputs set after
+     * parsing that they depend on.
+     */
+    private enum Derived {
+        //
+        ANALYSIS(Input.ANALYSIS, Input.COMMAND_LINE, Input.HEAP_ADDRESS, Input.HOST, Input.JVM_OPTIONS,
+                Input.SKIPPED_EVENT_TYPES, Input.UNAME, Input.VM_INFO),
+        //
+        APPLICATION(Input.COMMAND_LINE),
+        //
+        ARCH(Input.UNAME, Input.VM_INFO),
+        //
+        JAVA_SPECIFICATION(Input.HOST, Input.VM_INFO),
+        //
+        JAVA_THREAD_COUNT(Input.SKIPPED_EVENT_TYPES),
+        //
+        JAVA_VENDOR(Input.HOST, Input.UNAME, Input.VM_INFO),
+        //
+        JDK_RELEASE_STRING(Input.HOST, Input.UNAME, Input.VM_INFO),
+        //
+        JVM_ARGS(Input.COMMAND_LINE),
+        //
+        JVM_MEMORY_MAX(Input.HEAP_ADDRESS, Input.JVM_OPTIONS, Input.SKIPPED_EVENT_TYPES, Input.UNAME, Input.VM_INFO),
+        //
+        JVM_MEM_TOTAL,
+        //
+        NATIVE_LIBRARIES_UNKNOWN,
+        //
+        OS(Input.HOST),
+        //
+        OS_COMMIT_LIMIT,
+        //
+        OS_MEM_TOTAL,
+        //
+        OS_STRING(Input.HOST),
+        //
+        OS_VERSION(Input.UNAME),
+        //
+        RHEL,
+        //
+        RHEL_VERSION(Input.HOST),
+        //
+        RH_BUILD_OPEN_JDK(Input.HOST, Input.UNAME, Input.VM_INFO),
+        //
+        RH_RPM_INSTALL(Input.HOST, Input.UNAME, Input.VM_INFO),
+        //
+        RPM_DIRECTORY(Input.HOST),
+        //
+        STACK_FRAME_TOP;
+
+        /**
+         * The inputs the value is computed from, other than the event lists (which do not change while frozen).
+         */
+        private final Set<Input> inputs;
+
+        private Derived(Input... inputs) {
+            this.inputs = EnumSet.noneOf(Input.class);
+            for (Input input : inputs) {
+                this.inputs.add(input);
+            }
+        }
+    }
+
+    /**
+     * Fields that can change while the fatal error log is frozen, invalidating the cached values derived from them.
+     */
+    private enum Input {
+        ANALYSIS, COMMAND_LINE, HEAP_ADDRESS, HOST, JVM_OPTIONS, SKIPPED_EVENT_TYPES, UNAME, VM_INFO
+    }
+
+    /**
+     * Regular expressions looked for in the event lists by the analysis. The probes for each list are found in one pass
+     * over the list (see {@link #probe()}).
+     */
+    private enum Probe {
+        //
+        COMPILATION_EVENTS_APP_DYNAMICS(ProbeTarget.COMPILATION_EVENTS, JdkRegEx.PACKAGE_APP_DYNAMICS),
+        //
+        COMPILATION_EVENTS_GREGORIANCALENDAR_COMPUTETIME(ProbeTarget.COMPILATION_EVENTS,
+                "java\\.util\\.GregorianCalendar::computeTime"),
+        //
+        ENVIRONMENT_VARIABLES_JAVA_SR_SIGNUM(ProbeTarget.ENVIRONMENT_VARIABLES, "_JAVA_SR_SIGNUM"),
+        //
+        EVENTS_LIBOCIJDBC_LOADED(ProbeTarget.EVENTS,
+                "^Event: (\\d{1,}\\.\\d{3}) Loaded shared library .+libocijdbc.+.(dll|so)$"),
+        //
+        HEADER_COMPRESSED_OOPS(ProbeTarget.HEADER, "compressed oops"),
+        //
+        HEADER_NATIVE_HEAP_BLOCKED(ProbeTarget.HEADER, "Java Heap may be blocking the growth of the native heap"),
+        //
+        HEADER_NO_NODE(ProbeTarget.HEADER, "guarantee\\(n != NULL\\) failed: No Node."),
+        //
+        HEADER_OK_TO_CONVERT(ProbeTarget.HEADER, "ok_to_convert\\(Node\\*, Node\\*\\)"),
+        //
+        HEADER_SUBINODE_IDEAL(ProbeTarget.HEADER, "SubINode::Ideal\\(PhaseGVN\\*, bool\\)"),
+        //
+        STACK_BEAUTIFY_LOOPS(ProbeTarget.STACK, "IdealLoopTree::beautify_loops"),
+        //
+        STACK_DBCP2(ProbeTarget.STACK, "org[\\.\\/]apache[\\.\\/]commons[\\.\\/]dbcp2[\\.\\/]"),
+        //
+        STACK_DYNATRACE(ProbeTarget.STACK, JdkRegEx.NATIVE_LIBRARY_DYNATRACE),
+        //
+        STACK_IFNODE_FOLD_COMPARES(ProbeTarget.STACK, "^.*IfNode::fold_compares\\(PhaseIterGVN\\*\\).*$"),
+        //
+        STACK_ITEXT(ProbeTarget.STACK, "com\\.itextpdf\\.text"),
+        //
+        STACK_ITEXT_IO(ProbeTarget.STACK, "(com[\\./]itextpdf[\\./](text[\\./])?io|"
+                + "com[\\./]itextpdf[\\./]text[\\./]pdf[\\./]RandomAccessFileOrArray)"),
+        //
+        STACK_JAVA_NIO_BYTEBUFFER(ProbeTarget.STACK, JdkRegEx.JAVA_NIO_BYTEBUFFER),
+        //
+        STACK_JLI_LAUNCH(ProbeTarget.STACK, "JLI_Launch"),
+        //
+        STACK_JSS(ProbeTarget.STACK, " org\\.mozilla\\.jss\\."),
+        //
+        STACK_LIBCLNTSH(ProbeTarget.STACK, "libclntsh.(dll|so)"),
+        //
+        STACK_LUCENE(ProbeTarget.STACK, "org\\.apache\\.lucene\\."),
+        //
+        STACK_POSTGRESQL_CONNECTION(ProbeTarget.STACK, "org[\\.\\/]postgresql[\\.\\/]Driver[\\.\\/]connect\\("),
+        //
+        STACK_WILY(ProbeTarget.STACK, " com\\.wily\\.introscope\\.");
+
+        /**
+         * The matcher for the probes of each target.
+         */
+        private static final EnumMap<ProbeTarget, MultiPatternMatcher> MATCHERS;
+
+        /**
+         * The probes of each target, in matcher order.
+         */
+        private static final EnumMap<ProbeTarget, List<Probe>> PROBES;
+
+        static {
+            MATCHERS = new EnumMap<ProbeTarget, MultiPatternMatcher>(ProbeTarget.class);
+            PROBES = new EnumMap<ProbeTarget, List<Probe>>(ProbeTarget.class);
+            for (ProbeTarget target : ProbeTarget.values()) {
+                List<Probe> probes = new ArrayList<Probe>();
+                List<String> regexes = new ArrayList<String>();
+                for (Probe probe : values()) {
+                    if (probe.target == target) {
+                        probes.add(probe);
+                        regexes.add(probe.regex);
+                    }
+                }
+                MATCHERS.put(target, new MultiPatternMatcher(regexes));
+                PROBES.put(target, probes);
+            }
+        }
+
+        /**
+         * The regular expression, with the target's prefix and suffix.
+         */
+        private final String regex;
+
+        /**
+         * The event list searched.
+         */
+        private final ProbeTarget target;
+
+        private Probe(ProbeTarget target, String regex) {
+            this.target = target;
+            this.regex = target.prefix + regex + target.suffix;
+        }
+    }
+
+    /**
+     * The event lists searched by probes, with how a probe's regular expression is matched against a log entry (the
+     * same as {@link #isInStack(String)}, {@link #isInHeader(String)}, etc.).
+     */
+    private enum ProbeTarget {
+        //
+        COMPILATION_EVENTS("^.*", ".*$"),
+        //
+        ENVIRONMENT_VARIABLES("^.*", ".*$"),
+        //
+        EVENTS("", ""),
+        //
+        HEADER("^.*", ".*$"),
+        //
+        STACK("^.+", ".+$");
+
+        /**
+         * The regular expression prefix.
+         */
+        private final String prefix;
+
+        /**
+         * The regular expression suffix.
+         */
+        private final String suffix;
+
+        private ProbeTarget(String prefix, String suffix) {
+            this.prefix = prefix;
+            this.suffix = suffix;
+        }
+    }
+
+    /**
+     * The analysis rules, in the order they are run. A rule can depend on the analysis of the rules run before it (e.g.
+     * to not double report), so the order is significant. A rule with input event types is skipped when there are no
+     * events of those types, including the events a derived value is computed from (e.g. the top stack frame from the
+     * stack or header, the JVM options from the VM arguments or command line, the stack probes from the stack and the
+     * register and stack slot to memory mappings).
+     */
+    private enum Rule {
+        //
+        JVM_OPTIONS,
+        //
+        PARSE,
+        //
+        ORACLE_JDBC_OCI(LogEventType.EVENT, LogEventType.HEADER, LogEventType.REGISTER_TO_MEMORY_MAPPING,
+                LogEventType.STACK, LogEventType.STACK_SLOT_TO_MEMORY_MAPPING),
+        //
+        ORACLE_JDBC_JDK_COMPATIBILITY(LogEventType.DYNAMIC_LIBRARY),
+        //
+        POSTGRESQL_JDBC_JDK8_COMPATIBILITY(LogEventType.DYNAMIC_LIBRARY),
+        //
+        ANCIENT,
+        //
+        JDK_VERSION,
+        //
+        JVM_STARTUP_FAILS(LogEventType.ELAPSED_TIME, LogEventType.TIME_ELAPSED_TIME),
+        //
+        DEBUG_SYMBOLS(LogEventType.HEADER, LogEventType.STACK),
+        //
+        JDK_LATEST,
+        //
+        JDK_BUILD,
+        //
+        STACK_VM_CODE(LogEventType.STACK),
+        //
+        JDK_LTS,
+        //
+        JNA(LogEventType.DYNAMIC_LIBRARY, LogEventType.STACK),
+        //
+        ZIP_CONTENTION(LogEventType.HEADER, LogEventType.STACK),
+        //
+        STUBROUTINES(LogEventType.HEADER, LogEventType.STACK),
+        //
+        PHYSICAL_MEMORY,
+        //
+        OOME,
+        //
+        SWAP,
+        //
+        LIBJVM(LogEventType.CURRENT_THREAD, LogEventType.HEADER, LogEventType.STACK),
+        //
+        SIGNAL,
+        //
+        PTHREAD_GETCPUCLOCKID(LogEventType.HEADER, LogEventType.STACK),
+        //
+        BUFFERBLOB_FLUSH_ICACHE_STUB(LogEventType.HEADER, LogEventType.STACK),
+        //
+        STACKOVERFLOW(LogEventType.EXCEPTION_COUNTS, LogEventType.STACK),
+        //
+        LINKAGE_ERROR(LogEventType.EXCEPTION_COUNTS),
+        //
+        THREAD_STACK_SIZE,
+        //
+        OOME_THROWN(LogEventType.EXCEPTION_COUNTS),
+        //
+        SHENANDOAH_MARK_LOOP_WORK(LogEventType.HEADER, LogEventType.STACK),
+        //
+        LIBAIO_CONTEXT_DONE(LogEventType.HEADER, LogEventType.STACK),
+        //
+        CGROUP,
+        //
+        TRUNCATED,
+        //
+        STORAGE(LogEventType.DYNAMIC_LIBRARY),
+        //
+        EXPLICIT_GC_DISABLED_EAP7(LogEventType.COMMAND_LINE, LogEventType.VM_ARGUMENTS),
+        //
+        CMS_INCREMENTAL_MODE(LogEventType.COMMAND_LINE, LogEventType.VM_ARGUMENTS),
+        //
+        POINTER(LogEventType.SIGINFO),
+        //
+        COMPILED_JAVA_CODE(LogEventType.HEADER, LogEventType.STACK),
+        //
+        JFFI(LogEventType.DYNAMIC_LIBRARY),
+        //
+        FREETYPE_FONT_SCALER(LogEventType.STACK),
+        //
+        JFR_PD_GET_TOP_FRAME(LogEventType.HEADER, LogEventType.STACK),
+        //
+        CANNOT_GET_LIBRARY_INFORMATION(LogEventType.DYNAMIC_LIBRARY),
+        //
+        COPY_TO_SURVIVOR_SPACE(LogEventType.HEADER, LogEventType.STACK),
+        //
+        JVM_USER(LogEventType.DYNAMIC_LIBRARY),
+        //
+        THREADS_MANY(LogEventType.THREAD),
+        //
+        ENVIRONMENT,
+        //
+        MMAP_DELETED(LogEventType.DYNAMIC_LIBRARY),
+        //
+        RHEL_JDK_RPM_MISMATCH,
+        //
+        HASHMAP(LogEventType.HEADER, LogEventType.STACK),
+        //
+        COMPILER_THREAD_C2(LogEventType.CURRENT_THREAD),
+        //
+        SHUTDOWN(LogEventType.EVENT),
+        //
+        ITEXT(LogEventType.DYNAMIC_LIBRARY, LogEventType.REGISTER_TO_MEMORY_MAPPING, LogEventType.STACK,
+                LogEventType.STACK_SLOT_TO_MEMORY_MAPPING),
+        //
+        LUCENE(LogEventType.REGISTER_TO_MEMORY_MAPPING, LogEventType.STACK, LogEventType.STACK_SLOT_TO_MEMORY_MAPPING),
+        //
+        IBM_TOOLKIT(LogEventType.DYNAMIC_LIBRARY),
+        //
+        JDK8_LIBC_CFREE(LogEventType.HEADER),
+        //
+        VM_OPERATION(LogEventType.VM_OPERATION),
+        //
+        DBCP2(LogEventType.REGISTER_TO_MEMORY_MAPPING, LogEventType.STACK, LogEventType.STACK_SLOT_TO_MEMORY_MAPPING),
+        //
+        POSTGRESQL_CONNECTION(LogEventType.REGISTER_TO_MEMORY_MAPPING, LogEventType.STACK,
+                LogEventType.STACK_SLOT_TO_MEMORY_MAPPING),
+        //
+        LD_SO_PRELOAD(LogEventType.LD_PRELOAD_FILE),
+        //
+        NATIVE_LIBRARIES_UNKNOWN(LogEventType.DYNAMIC_LIBRARY),
+        //
+        DYNATRACE(LogEventType.DYNAMIC_LIBRARY, LogEventType.HEADER, LogEventType.REGISTER_TO_MEMORY_MAPPING,
+                LogEventType.STACK, LogEventType.STACK_SLOT_TO_MEMORY_MAPPING),
+        //
+        WILY(LogEventType.DYNAMIC_LIBRARY, LogEventType.HEADER, LogEventType.REGISTER_TO_MEMORY_MAPPING,
+                LogEventType.STACK, LogEventType.STACK_SLOT_TO_MEMORY_MAPPING),
+        //
+        APP_DYNAMICS(LogEventType.COMMAND_LINE, LogEventType.COMPILATION_EVENT, LogEventType.VM_ARGUMENTS),
+        //
+        RHEL9_JDK8,
+        //
+        CRASH_NATIVE_LIBRARY_UNKNOWN(LogEventType.DYNAMIC_LIBRARY),
+        //
+        PKI_TOMCAT,
+        //
+        JSS(LogEventType.DYNAMIC_LIBRARY, LogEventType.HEADER, LogEventType.REGISTER_TO_MEMORY_MAPPING,
+                LogEventType.STACK, LogEventType.STACK_SLOT_TO_MEMORY_MAPPING),
+        //
+        MICROSOFT_SQL_SERVER(LogEventType.DYNAMIC_LIBRARY),
+        //
+        MODULE_ENTRY_PURGE_READS_POSSIBLE(LogEventType.HEADER, LogEventType.STACK),
+        //
+        NATIVE_LIBRARIES(LogEventType.DYNAMIC_LIBRARY),
+        //
+        MAX_MAP_COUNT,
+        //
+        GREGORIANCALENDAR_COMPUTETIME(LogEventType.COMPILATION_EVENT, LogEventType.STACK),
+        //
+        JAVA_SR_SIGNUM(LogEventType.ENVIRONMENT_VARIABLES),
+        //
+        EXPERIMENTAL_ERGONOMIC(LogEventType.GLOBAL_FLAGS),
+        //
+        OVERCOMMIT_RATIO_100,
+        //
+        MAX_RAM_LIMIT(LogEventType.COMMAND_LINE, LogEventType.VM_ARGUMENTS),
+        //
+        TIMEOUT(LogEventType.HEADER, LogEventType.TIMEOUT),
+        //
+        LARGE_PAGES,
+        //
+        RHEL7_ELS,
+        //
+        CRASH_SIGNATURE;
+
+        /**
+         * The event types the rule reads, or empty if the rule is always run.
+         */
+        private final Set<LogEventType> inputs;
+
+        private Rule(LogEventType... inputs) {
+            this.inputs = EnumSet.noneOf(LogEventType.class);
+            Collections.addAll(this.inputs, inputs);
+        }
+    }
+
+    /**
+     * Publishes a snapshot through a final field: the state copied into the (non-final) fields of the snapshot is
+     * written before the final field is frozen, so it is visible with the snapshot (JLS 17.5).
+     */
+    private static final class Snapshot {
+
+        /**
+         * The snapshot.
+         */
+        private final FatalErrorLog fatalErrorLog;
+
+        /**
+         * @param fatalErrorLog
+         *            The fatal error log to snapshot.
+         */
+        private Snapshot(FatalErrorLog fatalErrorLog) {
+            this.fatalErrorLog = new FatalErrorLog(fatalErrorLog);
+        }
+    }
+
+    /**
+     * @param context
+     *            The JVM context the JVM options are parsed from.
+     * @param jvmOptions
+     *            The JVM options.
+     * @return A copy of the JVM options parsed from the same JVM context, with the same analysis in the same order, or
+     *         null if there are no JVM options.
+     */
+    private static JvmOptions copy(JvmContext context, JvmOptions jvmOptions) {
+        if (jvmOptions == null) {
+            return null;
+        }
+        JvmOptions copy = new JvmOptions(context);
+        for (String[] item : jvmOptions.getAnalysis()) {
+            for (org.github.joa.util.Analysis key : org.github.joa.util.Analysis.values()) {
+                if (key.getKey().equals(item[0])) {
+                    copy.addAnalysis(key);
+                    break;
+                }
+            }
+        }
+        return copy;
+    }
+
     /**
      * @param <T>
      * @param list
@@ -76,10 +516,31 @@ public class FatalErrorLog {
         return list.stream().map(function).filter(Objects::nonNull);
     }
 
+    /**
+     * @param <T>
+     *            The element type.
+     * @param list
+     *            The list.
+     * @return An unmodifiable copy of the list, sized to the number of elements.
+     */
+    private static <T> List<T> unmodifiableCopy(List<T> list) {
+        return list.isEmpty() ? Collections.<T> emptyList() : Collections.unmodifiableList(new ArrayList<T>(list));
+    }
+
     /**
      * Analysis.
      */
-    private List<Analysis> analysis;
+    private AnalysisList analysis;
+
+    /**
+     * The cost of each analysis rule, or null if the analysis is not profiled.
+     */
+    private AnalysisProfile analysisProfile;
+
+    /**
+     * Derived values cached while frozen.
+     */
+    private final EnumMap<Derived, Object> cache;
 
     /**
      * Classes unloaded information.
@@ -111,6 +572,16 @@ public class FatalErrorLog {
      */
     private List<CpuInfo> cpuInfos;
 
+    /**
+     * The known bug signatures to match the crash against, or null for none.
+     */
+    private CrashSignatureDatabase crashSignatureDatabase;
+
+    /**
+     * The known bug signatures the crash matches.
+     */
+    private List<CrashSignature> crashSignatures;
+
     /**
      * Current compile task information.
      */
@@ -169,6 +640,11 @@ public class FatalErrorLog {
      */
     private List<ExceptionCounts> exceptionCounts;
 
+    /**
+     * Whether parsing is complete, so derived values can be cached.
+     */
+    private boolean frozen;
+
     /**
      * Garbage collection events.
      */
@@ -209,6 +685,16 @@ public class FatalErrorLog {
      */
     private Host host;
 
+    /**
+     * Whether the fatal error log is an immutable snapshot (see {@link #snapshot()}).
+     */
+    private final boolean immutable;
+
+    /**
+     * Whether parsing stopped before the end of the fatal error log (time budget exceeded or cancelled).
+     */
+    private boolean incomplete;
+
     /**
      * Exceptions information.
      */
@@ -219,6 +705,11 @@ public class FatalErrorLog {
      */
     private List<InternalStatistic> internalStatistics;
 
+    /**
+     * The JVM context {@link #jvmOptions} is parsed from.
+     */
+    private JvmContext jvmContext;
+
     /**
      * JvmOptions object.
      */
@@ -284,6 +775,11 @@ public class FatalErrorLog {
      */
     private SigInfo sigInfo;
 
+    /**
+     * Event types that were not parsed (see <code>org.github.krashpad.service.ParseProfile</code>).
+     */
+    private Set<LogEventType> skippedEventTypes;
+
     /**
      * Stack information.
      */
@@ -378,11 +874,13 @@ public class FatalErrorLog {
      * Default constructor.
      */
     public FatalErrorLog() {
-        analysis = new ArrayList<Analysis>();
+        analysis = new AnalysisList();
+        cache = new EnumMap<Derived, Object>(Derived.class);
         classesUnloadedEvents = new ArrayList<ClassesUnloadedEvent>();
         compilationEvents = new ArrayList<CompilationEvent>();
         containerInfos = new ArrayList<ContainerInfo>();
         cpuInfos = new ArrayList<CpuInfo>();
+        crashSignatures = new ArrayList<CrashSignature>();
         currentCompileTasks = new ArrayList<CurrentCompileTask>();
         deoptimizationEvents = new ArrayList<DeoptimizationEvent>();
         dllOperationEvents = new ArrayList<DllOperationEvent>();
@@ -395,6 +893,7 @@ public class FatalErrorLog {
         globalFlags = new ArrayList<GlobalFlag>();
         headers = new ArrayList<Header>();
         heaps = new ArrayList<Heap>();
+        immutable = false;
         internalExceptionEvents = new ArrayList<InternalExceptionEvent>();
         internalStatistics = new ArrayList<InternalStatistic>();
         ldPreloadFiles = new ArrayList<LdPreloadFile>();
@@ -403,6 +902,7 @@ public class FatalErrorLog {
         nativeMemoryTrackings = new ArrayList<NativeMemoryTracking>();
         osInfos = new ArrayList<OsInfo>();
         registerToMemoryMappings = new ArrayList<RegisterToMemoryMapping>();
+        skippedEventTypes = EnumSet.noneOf(LogEventType.class);
         stacks = new ArrayList<Stack>();
         stackSlotToMemoryMappings = new ArrayList<StackSlotToMemoryMapping>();
         threads = new ArrayList<Thread>();
@@ -415,6 +915,91 @@ public class FatalErrorLog {
         zgcPhaseSwitchEvents = new ArrayList<ZgcPhaseSwitchEvent>();
     }
 
+    /**
+     * Create an immutable snapshot of a fatal error log, with every derived value computed.
+     * 
+     * @param fatalErrorLog
+     *            The fatal error log.
+     */
+    private FatalErrorLog(FatalErrorLog fatalErrorLog) {
+        analysis = new AnalysisList(fatalErrorLog.analysis);
+        analysisProfile = fatalErrorLog.analysisProfile;
+        cache = new EnumMap<Derived, Object>(Derived.class);
+        classesUnloadedEvents = unmodifiableCopy(fatalErrorLog.classesUnloadedEvents);
+        commandLine = fatalErrorLog.commandLine;
+        compilationEvents = unmodifiableCopy(fatalErrorLog.compilationEvents);
+        compressedClassSpaceEvent = fatalErrorLog.compressedClassSpaceEvent;
+        containerInfos = unmodifiableCopy(fatalErrorLog.containerInfos);
+        cpuInfos = unmodifiableCopy(fatalErrorLog.cpuInfos);
+        crashSignatureDatabase = fatalErrorLog.crashSignatureDatabase;
+        crashSignatures = unmodifiableCopy(fatalErrorLog.crashSignatures);
+        currentCompileTasks = unmodifiableCopy(fatalErrorLog.currentCompileTasks);
+        currentThread = fatalErrorLog.currentThread;
+        deoptimizationEvents = unmodifiableCopy(fatalErrorLog.deoptimizationEvents);
+        dllOperationEvents = unmodifiableCopy(fatalErrorLog.dllOperationEvents);
+        dynamicLibraries = unmodifiableCopy(fatalErrorLog.dynamicLibraries);
+        dynamicLibrariesMappingCount = fatalErrorLog.dynamicLibrariesMappingCount;
+        elapsedTime = fatalErrorLog.elapsedTime;
+        end = fatalErrorLog.end;
+        environmentVariables = unmodifiableCopy(fatalErrorLog.environmentVariables);
+        events = unmodifiableCopy(fatalErrorLog.events);
+        exceptionCounts = unmodifiableCopy(fatalErrorLog.exceptionCounts);
+        frozen = true;
+        garbageCollections = unmodifiableCopy(fatalErrorLog.garbageCollections);
+        gcHeapHistoryEvents = unmodifiableCopy(fatalErrorLog.gcHeapHistoryEvents);
+        gcPreciousLogs = unmodifiableCopy(fatalErrorLog.gcPreciousLogs);
+        globalFlags = unmodifiableCopy(fatalErrorLog.globalFlags);
+        headers = unmodifiableCopy(fatalErrorLog.headers);
+        heapAddress = fatalErrorLog.heapAddress;
+        heaps = unmodifiableCopy(fatalErrorLog.heaps);
+        host = fatalErrorLog.host;
+        immutable = true;
+        incomplete = fatalErrorLog.incomplete;
+        internalExceptionEvents = unmodifiableCopy(fatalErrorLog.internalExceptionEvents);
+        internalStatistics = unmodifiableCopy(fatalErrorLog.internalStatistics);
+        jvmContext = fatalErrorLog.jvmContext;
+        jvmOptions = copy(fatalErrorLog.jvmContext, fatalErrorLog.jvmOptions);
+        ldPreloadFiles = unmodifiableCopy(fatalErrorLog.ldPreloadFiles);
+        maxMapCount = fatalErrorLog.maxMapCount;
+        meminfos = unmodifiableCopy(fatalErrorLog.meminfos);
+        memories = unmodifiableCopy(fatalErrorLog.memories);
+        narrowKlass = fatalErrorLog.narrowKlass;
+        nativeMemoryTrackings = unmodifiableCopy(fatalErrorLog.nativeMemoryTrackings);
+        osInfos = unmodifiableCopy(fatalErrorLog.osInfos);
+        periodicNativeTrim = fatalErrorLog.periodicNativeTrim;
+        pidMax = fatalErrorLog.pidMax;
+        registerToMemoryMappings = unmodifiableCopy(fatalErrorLog.registerToMemoryMappings);
+        rlimit = fatalErrorLog.rlimit;
+        sigInfo = fatalErrorLog.sigInfo;
+        EnumSet<LogEventType> skipped = EnumSet.noneOf(LogEventType.class);
+        skipped.addAll(fatalErrorLog.skippedEventTypes);
+        skippedEventTypes = Collections.unmodifiableSet(skipped);
+        stacks = unmodifiableCopy(fatalErrorLog.stacks);
+        stackSlotToMemoryMappings = unmodifiableCopy(fatalErrorLog.stackSlotToMemoryMappings);
+        threads = unmodifiableCopy(fatalErrorLog.threads);
+        threadsMax = fatalErrorLog.threadsMax;
+        time = fatalErrorLog.time;
+        timeElapsedTime = fatalErrorLog.timeElapsedTime;
+        timeouts = unmodifiableCopy(fatalErrorLog.timeouts);
+        timezone = fatalErrorLog.timezone;
+        transparentHugepageDefrags = unmodifiableCopy(fatalErrorLog.transparentHugepageDefrags);
+        transparentHugepageEnableds = unmodifiableCopy(fatalErrorLog.transparentHugepageEnableds);
+        uname = fatalErrorLog.uname;
+        unidentifiedLogLines = unmodifiableCopy(fatalErrorLog.unidentifiedLogLines);
+        virtualizationInfos = unmodifiableCopy(fatalErrorLog.virtualizationInfos);
+        vmArguments = unmodifiableCopy(fatalErrorLog.vmArguments);
+        vmInfo = fatalErrorLog.vmInfo;
+        vmOperation = fatalErrorLog.vmOperation;
+        vmState = fatalErrorLog.vmState;
+        zgcPhaseSwitchEvents = unmodifiableCopy(fatalErrorLog.zgcPhaseSwitchEvents);
+        for (Derived key : Derived.values()) {
+            compute(key);
+            if (cache.get(key) instanceof List) {
+                cache.put(key, Collections.unmodifiableList((List<?>) cache.get(key)));
+            }
+        }
+    }
+
     /**
      * Convenience method to add <code>Analysis</code>.
      * 
@@ -422,7 +1007,9 @@ public class FatalErrorLog {
      *            The <code>Analysis</code> to add.
      */
     public void addAnalysis(Analysis key) {
+        checkMutable();
         analysis.add(key);
+        invalidate(Input.ANALYSIS);
     }
 
     /**
@@ -432,108 +1019,272 @@ public class FatalErrorLog {
      *            The <code>org.github.joa.util.Analysis</code> to add.
      */
     public void addAnalysis(org.github.joa.util.Analysis key) {
+        checkMutable();
         if (jvmOptions == null) {
             // Create JvmOptions for analysis
             JvmContext context = new JvmContext(null);
             JvmOptions options = new JvmOptions(context);
+            jvmContext = context;
             jvmOptions = options;
+            invalidate(Input.JVM_OPTIONS);
         }
         jvmOptions.addAnalysis(key);
+        invalidate(Input.ANALYSIS);
     }
 
     /**
-     * Do analysis.
-     */
-    public void doAnalysis() {
-        String opts = getJvmArgs();
-        if (opts != null) {
-            JvmContext context = new JvmContext(opts, getJavaVersionMajor(), getJavaVersionMinor());
-            context.setGarbageCollectors(getGarbageCollectorsFromHeapEvents());
-            context.setContainer(isContainer());
-            context.setOs(getOs());
-            context.setBit(getBit());
-            context.setContainer(isContainer());
-            context.setMemory(getOsMemTotal());
-            jvmOptions = new JvmOptions(context);
-            jvmOptions.doAnalysis();
-            if (jvmOptions.getOptions().size() == 0) {
-                analysis.add(0, Analysis.INFO_OPTS_NONE);
-            }
-        } else {
-            analysis.add(0, Analysis.INFO_OPTS_UNKNOWN);
-        }
-        // Unidentified logging lines
-        if (JdkUtil.getJavaSpecificationNumber(getJavaSpecification()) >= 8 && !getUnidentifiedLogLines().isEmpty()) {
-            analysis.add(0, Analysis.WARN_UNIDENTIFIED_LOG_LINE);
-        }
-        // Crashes related to Oracle JDBC OCI (native) driver
-        if (getStackFrameTop() != null && getStackFrameTop().matches("^C  \\[libocijdbc.+$")) {
-            analysis.add(Analysis.ERROR_ORACLE_JDBC_OCI_DRIVER);
-        }
-        if (getEventTimestamp("^Event: (\\d{1,}\\.\\d{3}) Loaded shared library .+libocijdbc.+.(dll|so)$") > 0
-                && getUptime() > 0 && getUptime() - getEventTimestamp(
-                        "^Event: (\\d{1,}\\.\\d{3}) Loaded shared library .+libocijdbc.+.(dll|so)$") <= 1000) {
-            analysis.add(Analysis.ERROR_ORACLE_JDBC_OCI_LOADING);
-        }
-        if ((getStackFrame(2) != null && getStackFrame(2).matches("^C  \\[libocijdbc.+$"))
-                || isInStack("libclntsh.(dll|so)")) {
-            analysis.add(Analysis.WARN_ORACLE_JDBC_OCI_CONNECION);
-        }
-        // Check Oracle JDBC driver / JDK compatibility
-        List<String> nativeLibrariesUnknown = getNativeLibrariesUnknown();
-        if (!nativeLibrariesUnknown.isEmpty()) {
-            Iterator<String> iterator = nativeLibrariesUnknown.iterator();
-            Pattern pattern = Pattern.compile(JdkRegEx.ORACLE_JDBC_OCI_DRIVER_PATH);
-            Matcher matcher;
-            while (iterator.hasNext()) {
-                String nativeLibraryPath = iterator.next();
-                matcher = pattern.matcher(nativeLibraryPath);
-                if (matcher.find()) {
-                    if (!analysis.contains(Analysis.INFO_ORACLE_JDBC_OCI)
-                            && !analysis.contains(Analysis.ERROR_ORACLE_JDBC_OCI_DRIVER)
-                            && !analysis.contains(Analysis.ERROR_ORACLE_JDBC_OCI_LOADING)
-                            && !analysis.contains(Analysis.WARN_ORACLE_JDBC_OCI_CONNECION)) {
-                        analysis.add(Analysis.INFO_ORACLE_JDBC_OCI);
-                    }
-                    String versionRegEx = "^.*[/\\\\]oracle[/\\\\]product[/\\\\](\\d{1,})\\.\\d{1,}\\.\\d{1,}"
-                            + "(\\.\\d{1,})?[/\\\\].*$";
-                    Pattern pattern2 = Pattern.compile(versionRegEx);
-                    Matcher matcher2 = pattern2.matcher(nativeLibraryPath);
-                    if (matcher2.find()) {
-                        Integer oracleDatabaseVersion = Integer.parseInt(matcher2.group(1));
-                        if (JdkUtil.getJavaSpecificationNumber(getJavaSpecification()) > 11
-                                && oracleDatabaseVersion < 21) {
-                            analysis.add(Analysis.ERROR_ORACLE_JDBC_JDK_INCOMPATIBLE);
-                            break;
-                        }
-                    }
-                }
-            }
-        }
-        // Check PostgreSQL JDBC driver / JDK8 compatibility
-        List<String> jars = getJars();
-        if (!jars.isEmpty()) {
-            String postgresqlJdbcDriverPath = null;
-            Iterator<String> iterator = jars.iterator();
-            while (iterator.hasNext()) {
-                String jar = iterator.next();
-                if (jar.matches(JdkRegEx.POSTGRESQL_JDBC_DRIVER_PATH)) {
-                    postgresqlJdbcDriverPath = jar;
-                    break;
-                }
-            }
-            if (postgresqlJdbcDriverPath != null) {
-                Pattern pattern = Pattern.compile(JdkRegEx.POSTGRESQL_JDBC_DRIVER_PATH);
-                Matcher matcher = pattern.matcher(postgresqlJdbcDriverPath);
-                if (matcher.find()) {
-                    Integer minorVersion = Integer.parseInt(matcher.group(3));
-                    if (JdkUtil.getJavaSpecificationNumber(getJavaSpecification()) == 8 && minorVersion < 5) {
-                        analysis.add(Analysis.ERROR_POSTGRESQL_JDBC_JDK8_INCOMPATIBLE);
-                    }
-                }
-            }
+     * Do the analysis of a rule.
+     * 
+     * @param rule
+     *            The rule.
+     * @param probeHits
+     *            The log entry of the first hit of each probe.
+     */
+    private void analyze(Rule rule, EnumMap<Probe, String> probeHits) {
+        switch (rule) {
+        case JVM_OPTIONS:
+            analyzeJvmOptions();
+            break;
+        case PARSE:
+            analyzeParse();
+            break;
+        case ORACLE_JDBC_OCI:
+            analyzeOracleJdbcOci(probeHits);
+            break;
+        case ORACLE_JDBC_JDK_COMPATIBILITY:
+            analyzeOracleJdbcJdkCompatibility();
+            break;
+        case POSTGRESQL_JDBC_JDK8_COMPATIBILITY:
+            analyzePostgresqlJdbcJdk8Compatibility();
+            break;
+        case ANCIENT:
+            analyzeAncient();
+            break;
+        case JDK_VERSION:
+            analyzeJdkVersion();
+            break;
+        case JVM_STARTUP_FAILS:
+            analyzeJvmStartupFails();
+            break;
+        case DEBUG_SYMBOLS:
+            analyzeDebugSymbols();
+            break;
+        case JDK_LATEST:
+            analyzeJdkLatest();
+            break;
+        case JDK_BUILD:
+            analyzeJdkBuild();
+            break;
+        case STACK_VM_CODE:
+            analyzeStackVmCode();
+            break;
+        case JDK_LTS:
+            analyzeJdkLts();
+            break;
+        case JNA:
+            analyzeJna();
+            break;
+        case ZIP_CONTENTION:
+            analyzeZipContention();
+            break;
+        case STUBROUTINES:
+            analyzeStubroutines(probeHits);
+            break;
+        case PHYSICAL_MEMORY:
+            analyzePhysicalMemory();
+            break;
+        case OOME:
+            analyzeOome(probeHits);
+            break;
+        case SWAP:
+            analyzeSwap();
+            break;
+        case LIBJVM:
+            analyzeLibjvm();
+            break;
+        case SIGNAL:
+            analyzeSignal();
+            break;
+        case PTHREAD_GETCPUCLOCKID:
+            analyzePthreadGetcpuclockid();
+            break;
+        case BUFFERBLOB_FLUSH_ICACHE_STUB:
+            analyzeBufferblobFlushIcacheStub();
+            break;
+        case STACKOVERFLOW:
+            analyzeStackoverflow(probeHits);
+            break;
+        case LINKAGE_ERROR:
+            analyzeLinkageError();
+            break;
+        case THREAD_STACK_SIZE:
+            analyzeThreadStackSize();
+            break;
+        case OOME_THROWN:
+            analyzeOomeThrown();
+            break;
+        case SHENANDOAH_MARK_LOOP_WORK:
+            analyzeShenandoahMarkLoopWork();
+            break;
+        case LIBAIO_CONTEXT_DONE:
+            analyzeLibaioContextDone();
+            break;
+        case CGROUP:
+            analyzeCgroup();
+            break;
+        case TRUNCATED:
+            analyzeTruncated();
+            break;
+        case STORAGE:
+            analyzeStorage();
+            break;
+        case EXPLICIT_GC_DISABLED_EAP7:
+            analyzeExplicitGcDisabledEap7();
+            break;
+        case CMS_INCREMENTAL_MODE:
+            analyzeCmsIncrementalMode();
+            break;
+        case POINTER:
+            analyzePointer();
+            break;
+        case COMPILED_JAVA_CODE:
+            analyzeCompiledJavaCode();
+            break;
+        case JFFI:
+            analyzeJffi();
+            break;
+        case FREETYPE_FONT_SCALER:
+            analyzeFreetypeFontScaler();
+            break;
+        case JFR_PD_GET_TOP_FRAME:
+            analyzeJfrPdGetTopFrame();
+            break;
+        case CANNOT_GET_LIBRARY_INFORMATION:
+            analyzeCannotGetLibraryInformation();
+            break;
+        case COPY_TO_SURVIVOR_SPACE:
+            analyzeCopyToSurvivorSpace();
+            break;
+        case JVM_USER:
+            analyzeJvmUser();
+            break;
+        case THREADS_MANY:
+            analyzeThreadsMany();
+            break;
+        case ENVIRONMENT:
+            analyzeEnvironment();
+            break;
+        case MMAP_DELETED:
+            analyzeMmapDeleted();
+            break;
+        case RHEL_JDK_RPM_MISMATCH:
+            analyzeRhelJdkRpmMismatch();
+            break;
+        case HASHMAP:
+            analyzeHashmap();
+            break;
+        case COMPILER_THREAD_C2:
+            analyzeCompilerThreadC2(probeHits);
+            break;
+        case SHUTDOWN:
+            analyzeShutdown();
+            break;
+        case ITEXT:
+            analyzeItext(probeHits);
+            break;
+        case LUCENE:
+            analyzeLucene(probeHits);
+            break;
+        case IBM_TOOLKIT:
+            analyzeIbmToolkit();
+            break;
+        case JDK8_LIBC_CFREE:
+            analyzeJdk8LibcCfree();
+            break;
+        case VM_OPERATION:
+            analyzeVmOperation();
+            break;
+        case DBCP2:
+            analyzeDbcp2(probeHits);
+            break;
+        case POSTGRESQL_CONNECTION:
+            analyzePostgresqlConnection(probeHits);
+            break;
+        case LD_SO_PRELOAD:
+            analyzeLdSoPreload();
+            break;
+        case NATIVE_LIBRARIES_UNKNOWN:
+            analyzeNativeLibrariesUnknown();
+            break;
+        case DYNATRACE:
+            analyzeDynatrace(probeHits);
+            break;
+        case WILY:
+            analyzeWily(probeHits);
+            break;
+        case APP_DYNAMICS:
+            analyzeAppDynamics(probeHits);
+            break;
+        case RHEL9_JDK8:
+            analyzeRhel9Jdk8();
+            break;
+        case CRASH_NATIVE_LIBRARY_UNKNOWN:
+            analyzeCrashNativeLibraryUnknown();
+            break;
+        case PKI_TOMCAT:
+            analyzePkiTomcat();
+            break;
+        case JSS:
+            analyzeJss(probeHits);
+            break;
+        case MICROSOFT_SQL_SERVER:
+            analyzeMicrosoftSqlServer();
+            break;
+        case MODULE_ENTRY_PURGE_READS_POSSIBLE:
+            analyzeModuleEntryPurgeReadsPossible();
+            break;
+        case NATIVE_LIBRARIES:
+            analyzeNativeLibraries();
+            break;
+        case MAX_MAP_COUNT:
+            analyzeMaxMapCount();
+            break;
+        case GREGORIANCALENDAR_COMPUTETIME:
+            analyzeGregoriancalendarComputetime(probeHits);
+            break;
+        case JAVA_SR_SIGNUM:
+            analyzeJavaSrSignum(probeHits);
+            break;
+        case EXPERIMENTAL_ERGONOMIC:
+            analyzeExperimentalErgonomic();
+            break;
+        case OVERCOMMIT_RATIO_100:
+            analyzeOvercommitRatio100();
+            break;
+        case MAX_RAM_LIMIT:
+            analyzeMaxRamLimit();
+            break;
+        case TIMEOUT:
+            analyzeTimeout();
+            break;
+        case LARGE_PAGES:
+            analyzeLargePages();
+            break;
+        case RHEL7_ELS:
+            analyzeRhel7Els();
+            break;
+        case CRASH_SIGNATURE:
+            analyzeCrashSignature();
+            break;
+        default:
+            throw new AssertionError("Unexpected Rule value: " + rule);
         }
-        // Check for ancient fatal error log
+    }
+
+    /**
+     * Check for an ancient fatal error log or JDK.
+     */
+    private void analyzeAncient() {
         if (KrashUtil.dayDiff(getCrashDate(), new Date()) > 30) {
             analysis.add(Analysis.WARN_FATAL_ERROR_LOG_ANCIENT);
         }
@@ -541,1004 +1292,2681 @@ public class FatalErrorLog {
         if (getJdkReleaseDate() != null && KrashUtil.dayDiff(getJdkReleaseDate(), new Date()) > 365) {
             analysis.add(Analysis.INFO_JDK_ANCIENT);
         }
-        // Check for unknown JDK version
-        if (getJavaSpecification() == JavaSpecification.UNKNOWN) {
-            analysis.add(Analysis.ERROR_JDK_VERSION_UNKNOWN);
-        }
-        // Check for unsupported JDK version
-        if (getJavaSpecification() == JavaSpecification.JDK6 || getJavaSpecification() == JavaSpecification.JDK7) {
-            analysis.add(Analysis.ERROR_JDK_VERSION_UNSUPPORTED);
-        }
-        // Check for JVM failing to start
-        if (isCrashOnStartup()) {
-            analysis.add(Analysis.INFO_JVM_STARTUP_FAILS);
-        }
-        // Check if JDK debugging symbols are installed
-        if ((haveVmFrameInStack() || haveVmFrameInHeader()) && !haveJdkDebugSymbols()) {
-            analysis.add(Analysis.WARN_DEBUG_SYMBOLS);
+    }
+
+    /**
+     * Check for AppDynamics.
+     * 
+     * @param probeHits
+     *            The log entry of the first hit of each probe.
+     */
+    private void analyzeAppDynamics(EnumMap<Probe, String> probeHits) {
+        if (getJvmOptions() != null && getJvmOptions().getJavaagent() != null) {
+            Iterator<String> iterator = getJvmOptions().getJavaagent().iterator();
+            while (iterator.hasNext()) {
+                String javaagent = iterator.next();
+                if (PatternRegistry.matches(javaagent, JdkRegEx.JAVAAGENT_APP_DYNAMICS)) {
+                    analysis.add(Analysis.INFO_APP_DYNAMICS_DETECTED);
+                    break;
+                }
+            }
         }
-        // Check if latest JDK release
-        if (!JdkUtil.isLatestJdkRelease(this)) {
-            analysis.add(0, Analysis.WARN_JDK_NOT_LATEST);
+        if (!analysis.contains(Analysis.INFO_APP_DYNAMICS_DETECTED) && compilationEvents != null
+                && probeHits.containsKey(Probe.COMPILATION_EVENTS_APP_DYNAMICS)) {
+            analysis.add(Analysis.INFO_APP_DYNAMICS_DETECTED);
         }
-        // Identify vendor/build
-        if (isRhBuildOpenJdk()) {
-            if (getOs() == Os.LINUX) {
-                if (getOsVendor() == OsVendor.CENTOS) {
-                    // CentOs redistributes RH build of OpenJDK
-                    analysis.add(0, Analysis.INFO_RH_BUILD_CENTOS);
-                } else if (getRpmDirectory() != null) {
-                    analysis.add(0, Analysis.INFO_RH_BUILD_RPM_INSTALL);
-                    if (getCpuArch() == CpuArch.POWER9 && getJavaSpecification() == JavaSpecification.JDK8
-                            && getOsString().matches(".+7\\.(7|8|9).+")) {
-                        // power8 JDK8 deployed on power9 on RHEL 7
-                        analysis.add(Analysis.ERROR_JDK8_RHEL7_POWER8_RPM_ON_POWER9);
-                    }
-                } else if (isRhRpm()) {
-                    analysis.add(0, Analysis.INFO_RH_BUILD_RPM_BASED);
-                } else {
-                    analysis.add(0, Analysis.INFO_RH_BUILD_LINUX_ZIP);
-                }
-                // Check for RHEL6
-                if (getOsVersion() == OsVersion.RHEL6) {
-                    analysis.add(Analysis.WARN_RHEL6);
-                }
-                // Check for RHEL7 Power9
-                if (getOsVersion() == OsVersion.RHEL7 && (getArch() == Arch.PPC64 || getArch() == Arch.PPC64LE)) {
-                    analysis.add(Analysis.WARN_RHEL7_POWER9);
-                }
-                // Check for unnecessary use of -XX:+UnlockExperimentalVMOptions with Shenandoah on RH build.
-                if (getJvmOptions() != null) {
-                    if (JdkUtil.isOptionEnabled(getJvmOptions().getUseShenandoahGc())
-                            && JdkUtil.isOptionEnabled(getJvmOptions().getUnlockExperimentalVmOptions())) {
-                        analysis.add(Analysis.INFO_RH_OPT_EXPERIMENTAL_SHENANDOAH);
-                    }
+        if (!analysis.contains(Analysis.INFO_APP_DYNAMICS_DETECTED) && getJvmOptions() != null
+                && getJvmOptions().getJavaagent() != null) {
+            Iterator<String> iterator = getJvmOptions().getJavaagent().iterator();
+            while (iterator.hasNext()) {
+                String javaagent = iterator.next();
+                if (javaagent.endsWith(JdkRegEx.JAR_APP_DYNAMICS)) {
+                    analysis.add(Analysis.INFO_APP_DYNAMICS_POSSIBLE);
+                    break;
                 }
-            } else if (isWindows()) {
-                analysis.add(0, Analysis.INFO_RH_BUILD_WINDOWS_ZIP);
             }
-        } else {
-            if (getJavaVendor() == JavaVendor.UNIDENTIFIED && isRhVersion()
-                    && (isRhBuildDate() || isRhBuildDateUnknown())) {
-                analysis.add(Analysis.INFO_RH_BUILD_POSSIBLE);
-            } else if (isAdoptOpenJdkBuildString()) {
-                analysis.add(Analysis.INFO_ADOPTOPENJDK_POSSIBLE);
-            } else if (vmInfo != null || getJavaVendor() == JavaVendor.NOT_RED_HAT) {
-                analysis.add(0, Analysis.INFO_RH_BUILD_NOT);
-            }
-        }
-        // Check if there is vm code in the stack
-        if (haveFramesInStack() && !haveVmCodeInStack()) {
-            analysis.add(Analysis.INFO_STACK_NO_VM_CODE);
         }
-        if (getJavaSpecification() != JavaSpecification.UNKNOWN && !isJdkLts()) {
-            analysis.add(Analysis.WARN_JDK_NOT_LTS);
+    }
+
+    /**
+     * Check for BufferBlob::flush_icache_stub.
+     */
+    private void analyzeBufferblobFlushIcacheStub() {
+        if (getStackFrameTop() != null
+                && PatternRegistry.matches(getStackFrameTop(), "^v  ~BufferBlob::flush_icache_stub+$")) {
+            analysis.add(Analysis.ERROR_BUFFERBLOB_FLUSH_ICACHE_STUB);
         }
-        // JNA
-        if (isJnaCrash()) {
-            if (getStackFrameTop() != null && getStackFrameTop().matches("^C  .+ffi_prep_closure_loc.+$")) {
-                analysis.add(Analysis.ERROR_JNA_FFI_PREP_CLOSURE_LOC);
-            } else if (getJavaVendor() == JavaVendor.RED_HAT) {
-                analysis.add(Analysis.ERROR_JNA_RH);
-            } else {
-                analysis.add(Analysis.ERROR_JNA);
-            }
-        } else {
+    }
+
+    /**
+     * Check for cannot get library information.
+     */
+    private void analyzeCannotGetLibraryInformation() {
+        if (!dynamicLibraries.isEmpty()) {
             Iterator<DynamicLibrary> iterator = dynamicLibraries.iterator();
             while (iterator.hasNext()) {
                 DynamicLibrary event = iterator.next();
-                if (event.getFilePath() != null && event.getFilePath().matches("^.+[\\\\/](jna|JNA).+$")) {
-                    analysis.add(Analysis.INFO_JNA);
+                if (PatternRegistry.matches(event.getLogEntry(),
+                        "^Can not get library information for pid = \\d{1,}$")) {
+                    analysis.add(Analysis.ERROR_CANNOT_GET_LIBRARY_INFORMATION);
                     break;
                 }
             }
         }
-        // Check for JDK8 ZipFile contention
-        if (JdkUtil.getJavaSpecificationNumber(getJavaSpecification()) >= 6
-                && JdkUtil.getJavaSpecificationNumber(getJavaSpecification()) <= 8) {
-            if ((getStackFrameTopCompiledJavaCode() != null && getStackFrameTopCompiledJavaCode()
-                    .matches("^.+java\\.util\\.zip\\.ZipFile\\.(getEntry|open).+$"))
-                    || (getStackFrameTop() != null
-                            && getStackFrameTop().matches("^C[ ]{1,}\\[libzip\\.so.*\\][ ]{1,}readCEN.*$"))) {
-                analysis.add(Analysis.ERROR_JDK8_ZIPFILE_CONTENTION);
-            }
-        }
-        // Check for JDK8 Deflator contention
-        if (getJavaSpecification() == JavaSpecification.JDK8 && getStackFrameTopCompiledJavaCode() != null
-                && getStackFrameTopCompiledJavaCode().matches("^.+java\\.util\\.zip\\.Deflater\\.deflateBytes.+$")) {
-            analysis.add(Analysis.ERROR_JDK8_DEFLATER_CONTENTION);
+    }
+
+    /**
+     * Check cgroup version and memory limit.
+     */
+    private void analyzeCgroup() {
+        if (getCgroupVersion() != null) {
+            analysis.add(Analysis.INFO_CGROUP_VERSION);
         }
-        // Check for unsynchronized access to DirectByteBuffer
-        String regexStubRoutines = "^v  ~(BufferBlob::)?StubRoutines.*$";
-        if (getStackFrameTop() != null && getStackFrameTop().matches(regexStubRoutines)) {
-            if (isInStack(JdkRegEx.JAVA_NIO_BYTEBUFFER)) {
-                analysis.add(Analysis.ERROR_DIRECT_BYTE_BUFFER_CONTENTION);
-            } else if (isInStack("(com[\\./]itextpdf[\\./](text[\\./])?io|"
-                    + "com[\\./]itextpdf[\\./]text[\\./]pdf[\\./]RandomAccessFileOrArray)")) {
-                analysis.add(Analysis.ERROR_ITEXT_IO);
-            } else {
-                analysis.add(Analysis.ERROR_STUBROUTINES);
+        if (getJvmMemTotal() > 0 && getOsMemTotal() > 0 && getJvmMemTotal() != getOsMemTotal()) {
+            analysis.add(Analysis.INFO_MEMORY_JVM_NE_SYSTEM);
+            if (haveCgroupMemoryLimit()) {
+                analysis.add(Analysis.INFO_CGROUP_MEMORY_LIMIT);
             }
         }
-        // Check for insufficient physical memory
-        if (getHeapMaxSize() > 0 && getMetaspaceMaxSize() > 0 && getJvmMemTotal() > 0
-                && (getHeapMaxSize() + getMetaspaceMaxSize()) > getJvmMemTotal()) {
-            if (getOsSwap() == 0 || getJvmSwap() == 0) {
-                analysis.add(Analysis.WARN_HEAP_PLUS_METASPACE_GT_PHYSICAL_MEMORY_NOSWAP);
-            } else {
-                analysis.add(Analysis.WARN_HEAP_PLUS_METASPACE_GT_PHYSICAL_MEMORY_SWAP);
-            }
+    }
+
+    /**
+     * Check for CMS incremental mode with &gt; 2 cpu.
+     */
+    private void analyzeCmsIncrementalMode() {
+        if (getCpusLogical() > 2 && jvmOptions != null && !JdkUtil.isOptionDisabled(jvmOptions.getUseConcMarkSweepGc())
+                && JdkUtil.isOptionEnabled(jvmOptions.getCmsIncrementalMode())) {
+            analysis.add(Analysis.WARN_CMS_INCREMENTAL_MODE);
         }
-        // CrashOnOutOfMemoryError
-        if (jvmOptions != null && JdkUtil.isOptionEnabled(jvmOptions.getCrashOnOutOfMemoryError())
-                && isError("OutOfMemory encountered: Java heap space")) {
-            analysis.add(Analysis.ERROR_CRASH_ON_OOME_HEAP);
+    }
+
+    /**
+     * Check for crashes in Java compiled code.
+     */
+    private void analyzeCompiledJavaCode() {
+        if (getStackFrameTop() != null
+                && PatternRegistry.matches(getStackFrameTop(),
+                        "J \\d{1,} C2 java\\.lang\\.String\\.compareTo\\(Ljava/lang/Object;\\)I")) {
+            if (getCpuInfos().size() > 0) {
+
+            }
         }
-        // OOME
-        if (isMemoryAllocationFail()) {
-            if (isCrashOnStartup()) {
-                long allocation = Long.MIN_VALUE;
-                allocation = getMemoryAllocation();
-                if (allocation < 0) {
-                    // Use JVM estimated initial process size
-                    allocation = getJvmMemoryInitial();
-                }
-                if (getApplication() == Application.TOMCAT_SHUTDOWN) {
-                    analysis.add(Analysis.ERROR_OOME_TOMCAT_SHUTDOWN);
-                } else if (getApplication() == Application.JBOSS_VERSION) {
-                    analysis.add(Analysis.ERROR_OOME_JBOSS_VERSION);
-                } else if (getApplication() == Application.AMQ_CLI) {
-                    analysis.add(Analysis.ERROR_OOME_AMQ_CLI);
-                } else if (allocation > 0 && getOsCommitLimit() >= 0 && getOsCommittedAs() >= 0
-                        && allocation > (getOsCommitLimit() - getOsCommittedAs()) && !isOvercommitted()) {
-                    // Strong evidence for vm.overcommit_memory=2, but possible resource limit
-                    analysis.add(Analysis.ERROR_OOME_OVERCOMMIT_LIMIT_STARTUP);
-                    if (jvmOptions == null
-                            || (jvmOptions.getInitialHeapSize() != null && jvmOptions.getMaxHeapSize() != null
-                                    && (JdkUtil.getByteOptionBytes(JdkUtil.getByteOptionValue(
-                                            jvmOptions.getInitialHeapSize())) == JdkUtil.getByteOptionBytes(
-                                                    JdkUtil.getByteOptionValue(jvmOptions.getMaxHeapSize()))))) {
-                        analysis.add(Analysis.INFO_OOME_STARTUP_HEAP_MIN_EQUAL_MAX);
-                    }
-                } else if (allocation >= 0 && getOsCommitLimit() >= 0 && getOsCommittedAs() >= 0
-                        && getOsCommitLimit() >= getOsCommittedAs() && isOvercommitDisabled()
-                        && allocation > (getOsCommitLimit() - getOsCommittedAs()
-                                - JdkUtil.convertSize(Long.parseLong("136"), 'M', 'B'))) {
-                    // Allocation > (available commit limit - user_reserve_kbytes [assume worse case 128M] -
-                    // admin_reserve_kbytes [assume worse case 8M])
-                    analysis.add(Analysis.ERROR_OOME_OVERCOMMIT_LIMIT_STARTUP);
-                } else if (allocation >= 0 && (getJvmMemFree() >= 0 || getJvmSwapFree() >= 0)
-                        && allocation >= (getJvmMemFree() + getJvmSwapFree())) {
-                    // Allocation > available physical memory
-                    if (JdkMath.calcPercent(allocation, getOsMemTotal()) < 50) {
-                        analysis.add(Analysis.ERROR_OOME_EXTERNAL_STARTUP);
-                    } else {
-                        analysis.add(Analysis.ERROR_OOME_JVM_STARTUP);
-                    }
-                    if (jvmOptions == null
-                            || (jvmOptions.getInitialHeapSize() != null && jvmOptions.getMaxHeapSize() != null
-                                    && (JdkUtil.getByteOptionBytes(JdkUtil.getByteOptionValue(
-                                            jvmOptions.getInitialHeapSize())) == JdkUtil.getByteOptionBytes(
-                                                    JdkUtil.getByteOptionValue(jvmOptions.getMaxHeapSize()))))) {
-                        analysis.add(Analysis.INFO_OOME_STARTUP_HEAP_MIN_EQUAL_MAX);
-                    }
-                } else {
-                    // Resource limit
-                    analysis.add(Analysis.ERROR_OOME_LIMIT_STARTUP);
-                }
-                // Don't double report the JVM failing to start
-                analysis.remove(Analysis.INFO_JVM_STARTUP_FAILS);
+        // Crashes in Java compiled code
+        if (getStackFrameTop() != null && PatternRegistry.matches(getStackFrameTop(), "^J \\d{1,}%{0,1} C[12].+$")) {
+            if (PatternRegistry.matches(getStackFrameTop(),
+                    "^.+java\\.lang\\.String\\.compareTo\\(Ljava\\/lang/Object;\\)I.+$")
+                    && hasCpuCapability("avx2") && (getJvmOptions() == null || !(getJvmOptions().getUseAvx() != null
+                            && getJvmOptions().getUseAvx().equals("-XX:UseAVX=0")))) {
+                analysis.add(Analysis.ERROR_AVX2_STRING_COMPARE_TO);
             } else {
-                // Crash after startup
-                if (getThreadStackMemory() > 0 && getJvmMemTotal() > 0
-                        && JdkMath.calcPercent(getThreadStackMemory(), getJvmMemTotal()) > 50) {
-                    // thread leak
-                    int executorPoolThreadCount = getJavaThreadCount(JdkRegEx.WILDFLY_EXECUTOR_POOL_THREAD);
-                    if (executorPoolThreadCount > 0 && getJavaThreadCount() > 0
-                            && JdkMath.calcPercent(executorPoolThreadCount, getJavaThreadCount()) > 50) {
-                        analysis.add(Analysis.ERROR_OOME_THREAD_LEAK_EAP_EXECUTOR_POOL);
-                    } else {
-                        analysis.add(Analysis.ERROR_OOME_THREAD_LEAK);
-                    }
-                } else if (getMemoryAllocation() >= 0 && getOsCommitLimit() >= 0 && getOsCommittedAs() >= 0
-                        && getOsCommitLimit() >= getOsCommittedAs()
-                        && getMemoryAllocation() > (getOsCommitLimit() - getOsCommittedAs())
-                        && !isOvercommitDisabled()) {
-                    // Allocation > available commit limit
-                    analysis.add(Analysis.ERROR_OOME_OVERCOMMIT_LIMIT);
-                } else if (getMemoryAllocation() >= 0 && getOsCommitLimit() >= 0 && getOsCommittedAs() >= 0
-                        && getOsCommitLimit() >= getOsCommittedAs() && isOvercommitDisabled()
-                        && getMemoryAllocation() > (getOsCommitLimit() - getOsCommittedAs()
-                                - JdkUtil.convertSize(Long.parseLong("136"), 'M', 'B'))) {
-                    // Allocation > (available commit limit - user_reserve_kbytes [assume worse case 128M] -
-                    // admin_reserve_kbytes [assume worse case 8M])
-                    analysis.add(Analysis.ERROR_OOME_OVERCOMMIT_LIMIT);
-                } else if (getMemoryAllocation() >= 0 && (getJvmMemFree() >= 0 || getJvmSwapFree() >= 0)
-                        && getMemoryAllocation() >= (getJvmMemFree() + getJvmSwapFree())) {
-                    // Allocation > available physical memory
-                    if (getJvmMemoryMax() > 0 && getJvmMemTotal() > 0) {
-                        if (JdkMath.calcPercent(getJvmMemoryMax(), getJvmMemTotal()) >= 95) {
-                            analysis.add(Analysis.ERROR_OOME_JVM);
-                        } else {
-                            if (getOsCommitCharge() > 0
-                                    && JdkMath.calcPercent(getOsCommitCharge(), getJvmMemTotal()) < 95) {
-                                // Windows has a good process size approximation
-                                if (getMemBalloonedNow() > 0) {
-                                    analysis.add(Analysis.ERROR_OOME_EXTERNAL_OR_HYPERVISOR);
-                                } else {
-                                    analysis.add(Analysis.ERROR_OOME_EXTERNAL);
-                                }
-                            } else {
-                                analysis.add(Analysis.ERROR_OOME_NATIVE_OR_EXTERNAL);
-                            }
+                analysis.add(Analysis.ERROR_COMPILED_JAVA_CODE);
+                if (hasCpuCapability("avx2") && (getJvmOptions() == null || (getJvmOptions().getUseAvx() != null
+                        && !getJvmOptions().getUseAvx().equals("-XX:UseAVX=0")))) {
+                    analysis.add(Analysis.INFO_COMPILED_JAVA_CODE_AVX2);
+                }
+            }
+        }
+    }
+
+    /**
+     * Check for specific CompilerThread crashes.
+     * 
+     * @param probeHits
+     *            The log entry of the first hit of each probe.
+     */
+    private void analyzeCompilerThreadC2(EnumMap<Probe, String> probeHits) {
+        if (getCurrentThreadName() != null
+                && PatternRegistry.matches(getCurrentThreadName(), "^.+C2 CompilerThread\\d{1,}.+$")) {
+            if (probeHits.containsKey(Probe.HEADER_NO_NODE) && probeHits.containsKey(Probe.STACK_BEAUTIFY_LOOPS)) {
+                analysis.add(Analysis.ERROR_COMPILER_THREAD_C2_BEAUTIFY_LOOPS);
+                // Don't double report
+                analysis.remove(Analysis.ERROR_COMPILER_THREAD);
+            } else if (getStackFrameTop() != null
+                    && PatternRegistry.matches(getStackFrameTop(), "^.*MinINode::Ideal\\(PhaseGVN\\*, bool\\).*$")
+                    && ((getJavaSpecification() == JavaSpecification.JDK8
+                            && JdkUtil.getJdk8UpdateNumber(getJdkReleaseString()) > 0
+                            && JdkUtil.getJdk8UpdateNumber(getJdkReleaseString()) < 275)
+                            || (getJavaSpecification() == JavaSpecification.JDK11
+                                    && JdkUtil.getJdk11UpdateNumber(getJdkReleaseString()) > 0
+                                    && JdkUtil.getJdk11UpdateNumber(getJdkReleaseString()) < 10))) {
+                analysis.add(Analysis.ERROR_COMPILER_THREAD_C2_MININODE_IDEAL);
+                // Don't double report
+                analysis.remove(Analysis.ERROR_COMPILER_THREAD);
+            } else if ((probeHits.containsKey(Probe.HEADER_OK_TO_CONVERT)
+                    || probeHits.containsKey(Probe.HEADER_SUBINODE_IDEAL)
+                    || probeHits.containsKey(Probe.STACK_IFNODE_FOLD_COMPARES))
+                    && ((getJavaSpecification() == JavaSpecification.JDK11
+                            && JdkUtil.getJdk11UpdateNumber(getJdkReleaseString()) > 0
+                            && JdkUtil.getJdk11UpdateNumber(getJdkReleaseString()) < 9))) {
+                analysis.add(Analysis.ERROR_COMPILER_THREAD_C2_IFNODE_FOLDCOMPARES);
+                // Don't double report
+                analysis.remove(Analysis.ERROR_COMPILER_THREAD);
+            } else if (!getCurrentCompileTasks().isEmpty()) {
+                Iterator<CurrentCompileTask> iterator = getCurrentCompileTasks().iterator();
+                while (iterator.hasNext()) {
+                    CurrentCompileTask event = iterator.next();
+                    if (event.getLogEntry() != null
+                            && PatternRegistry.matches(event.getLogEntry(),
+                                    "^.+sun\\.security\\.ssl\\.SSLEngineInputRecord::decodeInputRecord.+")) {
+                        if ((getJavaSpecification() == JavaSpecification.JDK11
+                                && JdkUtil.getJdk11UpdateNumber(getJdkReleaseString()) == 16)
+                                || (getJavaSpecification() == JavaSpecification.JDK17
+                                        && JdkUtil.getJdk17UpdateNumber(getJdkReleaseString()) == 4)) {
+                            analysis.add(Analysis.ERROR_OOME_COMPILER_THREAD_C2_SSL_DECODE);
+                            // Don't double report
+                            analysis.remove(Analysis.ERROR_COMPILER_THREAD);
+                            analysis.remove(Analysis.ERROR_OOME_NATIVE_OR_EXTERNAL);
+                            analysis.remove(Analysis.ERROR_OOME_JVM);
                         }
-                    }
-                } else if ((getMemoryAllocation() >= 0 && (getJvmMemFree() >= 0 || getJvmSwapFree() >= 0)
-                        && getMemoryAllocation() < (getJvmMemFree() + getJvmSwapFree()))
-                        || ((getJvmMemFree() >= 0 && getJvmMemTotal() > 0
-                                && JdkMath.calcPercent(getJvmMemFree(), getJvmMemTotal()) >= 50)
-                                || (getJvmMemoryMax() >= 0 && getJvmMemTotal() > 0
-                                        && JdkMath.calcPercent(getJvmMemoryMax(), getJvmMemTotal()) < 50))) {
-                    // Likely a limit if: (1) allocation < available physical memory. (2) JVM memory < 1/2 total memory.
-                    if ((isInHeader("Java Heap may be blocking the growth of the native heap")
-                            || isInHeader("compressed oops")) && isCompressedOops()) {
-                        analysis.add(Analysis.ERROR_OOME_LIMIT_OOPS);
-                    } else {
-                        analysis.add(Analysis.ERROR_OOME_LIMIT);
-                    }
-                } else {
-                    if ((isTruncated() || isInHeader("Java Heap may be blocking the growth of the native heap")
-                            || isInHeader("compressed oops")) && isCompressedOops()) {
-                        analysis.add(Analysis.ERROR_OOME_OOPS);
-                    } else {
-                        analysis.add(Analysis.ERROR_OOME);
+                        break;
                     }
                 }
             }
-            // G1 collector is not good when memory is tight
-            if (getGarbageCollectors().contains(GarbageCollector.G1)) {
-                analysis.add(Analysis.WARN_OOM_G1);
-            }
         }
-        // swap
-        if (getJvmSwap() > 0) {
-            // Check for excessive swap usage
-            int swapUsedPercent = 100 - JdkMath.calcPercent(getJvmSwapFree(), getJvmSwap());
-            if (swapUsedPercent > 5 && swapUsedPercent < 20) {
-                analysis.add(Analysis.INFO_SWAPPING);
-            } else if (swapUsedPercent >= 20) {
-                analysis.add(Analysis.WARN_SWAPPING);
-            }
+    }
+
+    /**
+     * Check for G1ParScanThreadState/PSPromotionManager::copy_to_survivor_space.
+     */
+    private void analyzeCopyToSurvivorSpace() {
+        if (getStackFrameTop() != null
+                && PatternRegistry.matches(getStackFrameTop(), "^V.+G1ParScanThreadState::copy_to_survivor_space.+$")
+                && (getJavaVersionMajor() == 8 || (getJavaVersionMajor() == 11 && getJavaVersionMinor() < 10))) {
+            analysis.add(Analysis.ERROR_G1_PAR_SCAN_THREAD_STATE_COPY_TO_SURVIVOR_SPACE);
+            // Don't double report
+            analysis.remove(Analysis.ERROR_LIBJVM_SO);
         }
-        // Check for swap disabled
-        if (getJvmSwap() == 0) {
-            analysis.add(Analysis.INFO_SWAP_DISABLED);
-            // Check if collector is appropriate for no-swap (e.g. container) use cases
-            if (getGarbageCollectors().contains(GarbageCollector.G1) && getJvmSwap() == 0) {
-                analysis.add(Analysis.WARN_SWAP_DISABLED_G1);
-            } else if (getGarbageCollectors().contains(GarbageCollector.CMS) && getJvmSwap() == 0) {
-                analysis.add(Analysis.WARN_SWAP_DISABLED_CMS);
+        // Check for PSPromotionManager::copy_to_survivor_space
+        if (getStackFrameTop() != null
+                && PatternRegistry.matches(getStackFrameTop(), "^V.+PSPromotionManager::copy_to_survivor_space.+$")) {
+            analysis.add(Analysis.ERROR_PS_PROMOTION_MANAGER_COPY_TO_SURVIVOR_SPACE);
+            // Don't double report
+            analysis.remove(Analysis.ERROR_LIBJVM_SO);
+        }
+    }
+
+    /**
+     * Check for crash in 3rd party or unknown library.
+     */
+    private void analyzeCrashNativeLibraryUnknown() {
+        if (getNativeLibraryInCrash() != null) {
+            if (!getNativeLibrariesUnknown().isEmpty()) {
+                Iterator<String> iterator = getNativeLibrariesUnknown().iterator();
+                while (iterator.hasNext()) {
+                    String unknownNativeLibary = iterator.next();
+                    if (unknownNativeLibary.contains(getNativeLibraryInCrash())) {
+                        analysis.add(Analysis.ERROR_CRASH_NATIVE_LIBRARY_UNKNOWN);
+                        break;
+                    }
+                }
             }
         }
-        // libjvm.so/jvm.dll
-        if (getJavaSpecification() == JavaSpecification.JDK8 && JdkUtil.getJdk8UpdateNumber(getJdkReleaseString()) > 0
-                && JdkUtil.getJdk8UpdateNumber(getJdkReleaseString()) < 282 && getStackFrameTop() != null
-                && getStackFrameTop()
-                        .matches("^V  \\[(libjvm\\.so|jvm\\.dll).+\\]  ShenandoahUpdateRefsClosure::do_oop.+$")) {
-            analysis.add(Analysis.ERROR_JDK8_SHENANDOAH_ROOT_UPDATER);
-        } else if (getJavaSpecification() == JavaSpecification.JDK8
-                && JdkUtil.getJdk8UpdateNumber(getJdkReleaseString()) > 0
-                && JdkUtil.getJdk8UpdateNumber(getJdkReleaseString()) < 312 && getStackFrameTop() != null
-                && getStackFrameTop()
-                        .matches("^V  \\[(libjvm\\.so|jvm\\.dll).+\\]  MetadataOnStackMark::~MetadataOnStackMark.+$")) {
-            analysis.add(Analysis.ERROR_JDK8_SHENANDOAH_METADATA_ON_STACK_MARK);
-        } else if (getCurrentThreadName() != null && getCurrentThreadName().matches("^.+CompilerThread\\d{1,}.+$")) {
-            analysis.add(Analysis.ERROR_COMPILER_THREAD);
-        } else if (getStackFrameTop() != null
-                && getStackFrameTop().matches("^V  \\[(libjvm\\.so|jvm\\.dll).+\\]  (ModuleEntry::purge_reads|"
-                        + "ModuleEntryTable::purge_all_module_reads).+$")) {
-            analysis.add(Analysis.ERROR_MODULE_ENTRY_PURGE_READS);
-        } else if (getJavaSpecification() == JavaSpecification.JDK8
-                && JdkUtil.getJdk8UpdateNumber(getJdkReleaseString()) >= 262
-                && JdkUtil.getJdk8UpdateNumber(getJdkReleaseString()) < 282 && getStackFrameTop() != null
-                && getStackFrameTop().matches("^V.+JfrEventClassTransformer::on_klass_creation.+$")) {
-            analysis.add(Analysis.ERROR_JDK8_JFR_CLASS_TRANSFORMED);
-        } else if (getStackFrameTop() != null
-                && !isError("There is insufficient memory for the Java Runtime Environment to continue")
-                && !isError("#  fatal error: OutOfMemory encountered: Java heap space")) {
-            // Other libjvm.so/jvm.dll analysis
-            if (getStackFrameTop().matches("^V  \\[libjvm\\.so.+\\](.+)?$")) {
-                analysis.add(Analysis.ERROR_LIBJVM_SO);
-            } else if (getStackFrameTop().matches("^V  \\[jvm\\.dll.+\\](.+)?$")) {
-                analysis.add(Analysis.ERROR_JVM_DLL);
+    }
+
+    /**
+     * Check for known bug crash signatures.
+     */
+    private void analyzeCrashSignature() {
+        crashSignatures.clear();
+        if (crashSignatureDatabase != null) {
+            crashSignatures.addAll(crashSignatureDatabase.match(this));
+            if (!crashSignatures.isEmpty()) {
+                analysis.add(Analysis.ERROR_CRASH_SIGNATURE);
             }
         }
-        // Signal numbers
-        switch (getSignalNumber()) {
-        case EXCEPTION_ACCESS_VIOLATION:
-            analysis.add(Analysis.INFO_SIGNO_EXCEPTION_ACCESS_VIOLATION);
-            break;
-        case EXCEPTION_STACK_OVERFLOW:
-            analysis.add(Analysis.INFO_SIGNO_EXCEPTION_STACK_OVERFLOW);
-            break;
-        case SIGBUS:
-            analysis.add(Analysis.INFO_SIGNO_SIGBUS);
-            break;
-        case SIGFPE:
-            analysis.add(Analysis.INFO_SIGNO_SIGFPE);
-            break;
-        case SIGILL:
-            analysis.add(Analysis.INFO_SIGNO_SIGILL);
-            break;
-        case SIGSEGV:
-            analysis.add(Analysis.INFO_SIGNO_SIGSEGV);
-            break;
-        case UNKNOWN:
-        default:
-            break;
+    }
+
+    /**
+     * Check for DBCP2.
+     * 
+     * @param probeHits
+     *            The log entry of the first hit of each probe.
+     */
+    private void analyzeDbcp2(EnumMap<Probe, String> probeHits) {
+        if (probeHits.containsKey(Probe.STACK_DBCP2)) {
+            analysis.add(Analysis.INFO_DBCP2);
         }
-        // Signal codes
-        switch (getSignalCode()) {
-        case BUS_ADRALN:
-            analysis.add(Analysis.INFO_SIGCODE_BUS_ADRALN);
-            break;
-        case BUS_ADRERR:
-            if (getOs() == Os.LINUX) {
-                analysis.add(Analysis.INFO_SIGCODE_BUS_ADDERR_LINUX);
-            } else {
-                analysis.add(Analysis.INFO_SIGCODE_BUS_ADDERR);
+    }
+
+    /**
+     * Check if JDK debugging symbols are installed.
+     */
+    private void analyzeDebugSymbols() {
+        if ((haveVmFrameInStack() || haveVmFrameInHeader()) && !haveJdkDebugSymbols()) {
+            analysis.add(Analysis.WARN_DEBUG_SYMBOLS);
+        }
+    }
+
+    /**
+     * Check for Dynatrace.
+     * 
+     * @param probeHits
+     *            The log entry of the first hit of each probe.
+     */
+    private void analyzeDynatrace(EnumMap<Probe, String> probeHits) {
+        if (getStackFrameTop() != null
+                && PatternRegistry.matches(getStackFrameTop(), "^.*" + JdkRegEx.NATIVE_LIBRARY_DYNATRACE + ".*$")) {
+            // Crash in Dynatrace
+            analysis.add(Analysis.ERROR_DYNATRACE);
+        } else if (probeHits.containsKey(Probe.STACK_DYNATRACE)) {
+            // Dynatrace in stack
+            analysis.add(0, Analysis.WARN_DYNATRACE);
+        } else if (!getNativeLibrariesUnknown().isEmpty()) {
+            // Dynatrace detected
+            Iterator<String> iterator = getNativeLibrariesUnknown().iterator();
+            while (iterator.hasNext()) {
+                String nativeLibraryPath = iterator.next();
+                String nativeLibrary = org.github.joa.util.JdkRegEx.getFile(nativeLibraryPath);
+                if (nativeLibrary != null
+                        && PatternRegistry.matches(nativeLibrary, JdkRegEx.NATIVE_LIBRARY_DYNATRACE)) {
+                    analysis.add(Analysis.INFO_DYNATRACE);
+                    break;
+                }
             }
-            break;
-        case BUS_OBJERR:
-            analysis.add(Analysis.INFO_SIGCODE_BUS_OBJERR);
-            break;
-        case FPE_INTDIV:
-            analysis.add(Analysis.INFO_SIGCODE_FPE_INTDIV);
-            break;
-        case ILL_ILLOPN:
-            analysis.add(Analysis.INFO_SIGCODE_ILL_ILLOPN);
-            break;
-        case SEGV_ACCERR:
-            analysis.add(Analysis.INFO_SIGCODE_SEGV_ACCERR);
-            break;
-        case SEGV_MAPERR:
-            analysis.add(Analysis.INFO_SIGCODE_SEGV_MAPERR);
-            break;
-        case SI_KERNEL:
-            analysis.add(Analysis.INFO_SIGCODE_SI_KERNEL);
-            break;
-        case SI_USER:
-            analysis.add(Analysis.INFO_SIGCODE_SI_USER);
-            break;
-        case UNKNOWN:
-        default:
-            break;
         }
-        // Floating point error
-        if (getSignalNumber().equals(SignalNumber.SIGFPE) || getSignalCode().equals(SignalCode.FPE_INTDIV)) {
-            analysis.add(Analysis.ERROR_FPE);
+    }
+
+    /**
+     * Check environments.
+     */
+    private void analyzeEnvironment() {
+        if (isVMWareEnvironment()) {
+            analysis.add(Analysis.INFO_VMWARE);
+        } else if (isHyperVEnvironment()) {
+            analysis.add(Analysis.INFO_HYPERV);
         }
-        // pthread_getcpuclockid
-        if (getStackFrameTop() != null
-                && getStackFrameTop().matches("^C  \\[libpthread\\.so.+\\]  pthread_getcpuclockid.+$")) {
-            analysis.add(Analysis.ERROR_PTHREAD_GETCPUCLOCKID);
+    }
+
+    /**
+     * Check for experimental options being set by ergonomics.
+     */
+    private void analyzeExperimentalErgonomic() {
+        if (!getGlobalFlagsExperimentalErgonomic().isEmpty()) {
+            analysis.add(Analysis.WARN_EXPERIMENTAL_ERGONOMIC);
         }
-        // BufferBlob::flush_icache_stub
-        if (getStackFrameTop() != null && getStackFrameTop().matches("^v  ~BufferBlob::flush_icache_stub+$")) {
-            analysis.add(Analysis.ERROR_BUFFERBLOB_FLUSH_ICACHE_STUB);
+    }
+
+    /**
+     * Check for explicit gc disabled on EAP7.
+     */
+    private void analyzeExplicitGcDisabledEap7() {
+        if (getApplication() == Application.JBOSS_EAP7 && jvmOptions != null
+                && JdkUtil.isOptionEnabled(jvmOptions.getDisableExplicitGc())) {
+            // Don't double report
+            if (hasAnalysis(org.github.joa.util.Analysis.WARN_EXPLICIT_GC_DISABLED.getKey())) {
+                jvmOptions.removeAnalysis(org.github.joa.util.Analysis.WARN_EXPLICIT_GC_DISABLED);
+            }
+            analysis.add(Analysis.ERROR_EXPLICIT_GC_DISABLED_EAP7);
         }
-        // StackOverflowError
-        if (getSignalNumber() != SignalNumber.EXCEPTION_STACK_OVERFLOW && haveStackOverFlowError()) {
-            analysis.add(Analysis.ERROR_STACKOVERFLOW);
+    }
+
+    /**
+     * Check for JVM crash due to temporary font file being removed from java.io.tmpdir.
+     */
+    private void analyzeFreetypeFontScaler() {
+        if (getStackFrameTopJava() != null
+                && PatternRegistry.matches(getStackFrameTopJava(),
+                        "^.+sun\\.font\\.FreetypeFontScaler\\.getGlyphImageNative.+$")) {
+            analysis.add(Analysis.ERROR_FREETYPE_FONT_SCALER_GET_GLYPH_IMAGE_NATIVE);
+        }
+    }
+
+    /**
+     * Check for java.util.GregorianCalendar.computeTime().
+     * 
+     * @param probeHits
+     *            The log entry of the first hit of each probe.
+     */
+    private void analyzeGregoriancalendarComputetime(EnumMap<Probe, String> probeHits) {
+        if ((getJavaSpecification() == JavaSpecification.JDK8
+                && JdkUtil.getJdk8UpdateNumber(getJdkReleaseString()) == 372)
+                || (getJavaSpecification() == JavaSpecification.JDK11
+                        && JdkUtil.getJdk11UpdateNumber(getJdkReleaseString()) == 19)
+                || (getJavaSpecification() == JavaSpecification.JDK17
+                        && JdkUtil.getJdk17UpdateNumber(getJdkReleaseString()) == 7)) {
+            if ((getStackFrameTopCompiledJavaCode() != null
+                    && PatternRegistry.matches(getStackFrameTopCompiledJavaCode(),
+                            "^.+java\\.util\\.GregorianCalendar\\.computeTime\\(\\).+$"))
+                    || probeHits.containsKey(Probe.COMPILATION_EVENTS_GREGORIANCALENDAR_COMPUTETIME)) {
+                analysis.add(Analysis.ERROR_GREGORIANCALENDAR_COMPUTETIME);
+                if (hasAnalysis(Analysis.ERROR_POINTER_NULL.getKey())) {
+                    removeAnalysis(Analysis.ERROR_POINTER_NULL);
+                }
+            }
+        }
+    }
+
+    /**
+     * Check for crash in HashMap.
+     */
+    private void analyzeHashmap() {
+        if (getStackFrameTop() != null && PatternRegistry.matches(getStackFrameTop(), "^J.+java\\.util\\.HashMap.+$")) {
+            analysis.add(Analysis.ERROR_HASHMAP);
+        }
+    }
+
+    /**
+     * Check for IBM Toolkit.
+     */
+    private void analyzeIbmToolkit() {
+        if (!dynamicLibraries.isEmpty()) {
+            Iterator<DynamicLibrary> iterator = dynamicLibraries.iterator();
+            while (iterator.hasNext()) {
+                DynamicLibrary event = iterator.next();
+                if (event.getLogEntry() != null && PatternRegistry.matches(event.getLogEntry(), "^.+jt400\\.jar$")) {
+                    analysis.add(Analysis.INFO_IBM_TOOLKIT);
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Check for iText.
+     * 
+     * @param probeHits
+     *            The log entry of the first hit of each probe.
+     */
+    private void analyzeItext(EnumMap<Probe, String> probeHits) {
+        if (probeHits.containsKey(Probe.STACK_ITEXT)) {
+            analysis.add(0, Analysis.WARN_ITEXT);
+        } else if (!dynamicLibraries.isEmpty()) {
+            Iterator<DynamicLibrary> iterator = dynamicLibraries.iterator();
+            while (iterator.hasNext()) {
+                DynamicLibrary event = iterator.next();
+                if (event.getLogEntry() != null && PatternRegistry.matches(event.getLogEntry(), "^.+itext.*\\.jar$")) {
+                    analysis.add(Analysis.INFO_ITEXT);
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Check for _JAVA_SR_SIGNUM environment variable.
+     * 
+     * @param probeHits
+     *            The log entry of the first hit of each probe.
+     */
+    private void analyzeJavaSrSignum(EnumMap<Probe, String> probeHits) {
+        if (probeHits.containsKey(Probe.ENVIRONMENT_VARIABLES_JAVA_SR_SIGNUM)) {
+            analysis.add(Analysis.INFO_JAVA_SR_SIGNO);
+        }
+    }
+
+    /**
+     * Check for ERROR_JDK8_LIBC_CFREE.
+     */
+    private void analyzeJdk8LibcCfree() {
+        if (getJavaSpecification() == JavaSpecification.JDK8
+                && JdkUtil.getJdk8UpdateNumber(getJdkReleaseString()) < 262) {
+            if (!headers.isEmpty()) {
+                Iterator<Header> iterator = headers.iterator();
+                while (iterator.hasNext()) {
+                    Header event = iterator.next();
+                    if (event.isProblematicFrame()
+                            && PatternRegistry.matches(event.getLogEntry(), "^(?>.+?libc).+cfree\\+0x1c$")
+                            && (getJvmOptions() == null || getJvmOptions().getUseGcLogFileRotation() != null)
+                            && getCurrentThreadName() != null
+                            && PatternRegistry.matches(getCurrentThreadName(), "^ConcurrentGCThread .+$")) {
+                        analysis.add(Analysis.ERROR_JDK8_LIBC_CFREE);
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Identify vendor/build.
+     */
+    private void analyzeJdkBuild() {
+        if (isRhBuildOpenJdk()) {
+            if (getOs() == Os.LINUX) {
+                if (getOsVendor() == OsVendor.CENTOS) {
+                    // CentOs redistributes RH build of OpenJDK
+                    analysis.add(0, Analysis.INFO_RH_BUILD_CENTOS);
+                } else if (getRpmDirectory() != null) {
+                    analysis.add(0, Analysis.INFO_RH_BUILD_RPM_INSTALL);
+                    if (getCpuArch() == CpuArch.POWER9 && getJavaSpecification() == JavaSpecification.JDK8
+                            && PatternRegistry.matches(getOsString(), ".+7\\.(7|8|9).+")) {
+                        // power8 JDK8 deployed on power9 on RHEL 7
+                        analysis.add(Analysis.ERROR_JDK8_RHEL7_POWER8_RPM_ON_POWER9);
+                    }
+                } else if (isRhRpm()) {
+                    analysis.add(0, Analysis.INFO_RH_BUILD_RPM_BASED);
+                } else {
+                    analysis.add(0, Analysis.INFO_RH_BUILD_LINUX_ZIP);
+                }
+                // Check for RHEL6
+                if (getOsVersion() == OsVersion.RHEL6) {
+                    analysis.add(Analysis.WARN_RHEL6);
+                }
+                // Check for RHEL7 Power9
+                if (getOsVersion() == OsVersion.RHEL7 && (getArch() == Arch.PPC64 || getArch() == Arch.PPC64LE)) {
+                    analysis.add(Analysis.WARN_RHEL7_POWER9);
+                }
+                // Check for unnecessary use of -XX:+UnlockExperimentalVMOptions with Shenandoah on RH build.
+                if (getJvmOptions() != null) {
+                    if (JdkUtil.isOptionEnabled(getJvmOptions().getUseShenandoahGc())
+                            && JdkUtil.isOptionEnabled(getJvmOptions().getUnlockExperimentalVmOptions())) {
+                        analysis.add(Analysis.INFO_RH_OPT_EXPERIMENTAL_SHENANDOAH);
+                    }
+                }
+            } else if (isWindows()) {
+                analysis.add(0, Analysis.INFO_RH_BUILD_WINDOWS_ZIP);
+            }
         } else {
-            if (getThreadStackFreeSpace() > getThreadStackSize()) {
-                // Applies only to ThreadStackSize (not CompilerThreadStackSize, VMThreadStackSize, MarkStackSize, the
-                // JLI_Launch method in main.c that starts the JVM, or C code).
-                if (currentThread != null && !(currentThread.isCompilerThread() || currentThread.isVmThread())
-                        && stacks.size() > 0 && !isInStack("JLI_Launch")) {
-                    analysis.add(Analysis.INFO_STACK_FREESPACE_GT_STACK_SIZE);
+            if (getJavaVendor() == JavaVendor.UNIDENTIFIED && isRhVersion()
+                    && (isRhBuildDate() || isRhBuildDateUnknown())) {
+                analysis.add(Analysis.INFO_RH_BUILD_POSSIBLE);
+            } else if (isAdoptOpenJdkBuildString()) {
+                analysis.add(Analysis.INFO_ADOPTOPENJDK_POSSIBLE);
+            } else if (vmInfo != null || getJavaVendor() == JavaVendor.NOT_RED_HAT) {
+                analysis.add(0, Analysis.INFO_RH_BUILD_NOT);
+            }
+        }
+    }
+
+    /**
+     * Check if latest JDK release.
+     */
+    private void analyzeJdkLatest() {
+        if (!JdkUtil.isLatestJdkRelease(this)) {
+            analysis.add(0, Analysis.WARN_JDK_NOT_LATEST);
+        }
+    }
+
+    /**
+     * Check for a JDK that is not a long term support release.
+     */
+    private void analyzeJdkLts() {
+        if (getJavaSpecification() != JavaSpecification.UNKNOWN && !isJdkLts()) {
+            analysis.add(Analysis.WARN_JDK_NOT_LTS);
+        }
+    }
+
+    /**
+     * Check for an unknown or unsupported JDK version.
+     */
+    private void analyzeJdkVersion() {
+        if (getJavaSpecification() == JavaSpecification.UNKNOWN) {
+            analysis.add(Analysis.ERROR_JDK_VERSION_UNKNOWN);
+        }
+        // Check for unsupported JDK version
+        if (getJavaSpecification() == JavaSpecification.JDK6 || getJavaSpecification() == JavaSpecification.JDK7) {
+            analysis.add(Analysis.ERROR_JDK_VERSION_UNSUPPORTED);
+        }
+    }
+
+    /**
+     * Check for possible JFFI usage.
+     */
+    private void analyzeJffi() {
+        if (!dynamicLibraries.isEmpty()) {
+            Iterator<DynamicLibrary> iterator = dynamicLibraries.iterator();
+            while (iterator.hasNext()) {
+                DynamicLibrary event = iterator.next();
+                if (event.getFilePath() != null
+                        && PatternRegistry.matches(event.getFilePath(), "^.+[\\\\/](jffi|JFFI).+$")) {
+                    analysis.add(Analysis.INFO_JFFI);
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Check for JavaThread::pd_get_top_frame_for_profiling on ppc64.
+     */
+    private void analyzeJfrPdGetTopFrame() {
+        if ((getArch().equals(Arch.PPC64) || getArch().equals(Arch.PPC64LE)) && getStackFrameTop() != null
+                && PatternRegistry.matches(getStackFrameTop(), "^V.+JavaThread::pd_get_top_frame_for_profiling.+$")) {
+            analysis.add(Analysis.ERROR_JFR_PD_GET_TOP_FRAME);
+        }
+    }
+
+    /**
+     * Check for JNA.
+     */
+    private void analyzeJna() {
+        if (isJnaCrash()) {
+            if (getStackFrameTop() != null
+                    && PatternRegistry.matches(getStackFrameTop(), "^C  .+ffi_prep_closure_loc.+$")) {
+                analysis.add(Analysis.ERROR_JNA_FFI_PREP_CLOSURE_LOC);
+            } else if (getJavaVendor() == JavaVendor.RED_HAT) {
+                analysis.add(Analysis.ERROR_JNA_RH);
+            } else {
+                analysis.add(Analysis.ERROR_JNA);
+            }
+        } else {
+            Iterator<DynamicLibrary> iterator = dynamicLibraries.iterator();
+            while (iterator.hasNext()) {
+                DynamicLibrary event = iterator.next();
+                if (event.getFilePath() != null
+                        && PatternRegistry.matches(event.getFilePath(), "^.+[\\\\/](jna|JNA).+$")) {
+                    analysis.add(Analysis.INFO_JNA);
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Check for JSS.
+     * 
+     * @param probeHits
+     *            The log entry of the first hit of each probe.
+     */
+    private void analyzeJss(EnumMap<Probe, String> probeHits) {
+        if ((getStackFrameTop() != null
+                && PatternRegistry.matches(getStackFrameTop(), "^.*" + JdkRegEx.NATIVE_LIBRARY_JSS + ".*$"))
+                || (getStackFrameTopJava() != null
+                        && PatternRegistry.matches(getStackFrameTopJava(), "^.+ org\\.mozilla\\.jss\\..+"))) {
+            // Crash in JSS
+            analysis.add(Analysis.ERROR_JSS);
+        } else if (probeHits.containsKey(Probe.STACK_JSS)) {
+            // JSS in stack
+            analysis.add(0, Analysis.WARN_JSS);
+        } else if (!getNativeLibraries().isEmpty()) {
+            // JSS detected
+            Iterator<String> iterator = getNativeLibraries().iterator();
+            while (iterator.hasNext()) {
+                String nativeLibraryPath = iterator.next();
+                String nativeLibrary = org.github.joa.util.JdkRegEx.getFile(nativeLibraryPath);
+                if (nativeLibrary != null && PatternRegistry.matches(nativeLibrary, JdkRegEx.NATIVE_LIBRARY_JSS)) {
+                    analysis.add(Analysis.INFO_JSS);
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Analyze the JVM options.
+     */
+    private void analyzeJvmOptions() {
+        jvmContext = null;
+        jvmOptions = null;
+        invalidate(Input.JVM_OPTIONS);
+        String opts = getJvmArgs();
+        if (opts != null) {
+            JvmContext context = new JvmContext(opts, getJavaVersionMajor(), getJavaVersionMinor());
+            context.setGarbageCollectors(getGarbageCollectorsFromHeapEvents());
+            context.setContainer(isContainer());
+            context.setOs(getOs());
+            context.setBit(getBit());
+            context.setContainer(isContainer());
+            context.setMemory(getOsMemTotal());
+            jvmContext = context;
+            jvmOptions = new JvmOptions(context);
+            invalidate(Input.JVM_OPTIONS);
+            jvmOptions.doAnalysis();
+            if (jvmOptions.getOptions().size() == 0) {
+                analysis.add(0, Analysis.INFO_OPTS_NONE);
+            }
+        } else {
+            analysis.add(0, Analysis.INFO_OPTS_UNKNOWN);
+        }
+    }
+
+    /**
+     * Check for the JVM failing to start.
+     */
+    private void analyzeJvmStartupFails() {
+        if (isCrashOnStartup()) {
+            analysis.add(Analysis.INFO_JVM_STARTUP_FAILS);
+        }
+    }
+
+    /**
+     * Check if JVM user ne USERNAME.
+     */
+    private void analyzeJvmUser() {
+        if (getJvmUser() != null && getUsername() != null && !getJvmUser().equals(getUsername())) {
+            analysis.add(Analysis.INFO_JVM_USER_NE_USERNAME);
+        }
+    }
+
+    /**
+     * Large pages JVM/OS configuration analysis.
+     */
+    private void analyzeLargePages() {
+        if (hasAnalysis(org.github.joa.util.Analysis.INFO_LARGE_PAGES_LINUX_HUGETLBFS.toString())
+                && getExplicitHugePagesPoolSize() <= 0) {
+            analysis.add(Analysis.ERROR_LARGE_PAGES_HUGETLBFS_EXPLICIT_JVM_YES_OS_NO);
+        } else {
+            // JVM is not configured to use explicit huge pages
+            if (getExplicitHugePagesPoolSize() > 0) {
+                analysis.add(Analysis.WARN_EXPLICIT_HUGE_PAGES_OS_YES_JVM_NO);
+            }
+        }
+        // Large pages JVM/OS Transparent Huge Pages configuration analysis
+        if (hasAnalysis(org.github.joa.util.Analysis.ERROR_LARGE_PAGES_LINUX_HUGETLB_THP.toString())
+                || hasAnalysis(org.github.joa.util.Analysis.INFO_LARGE_PAGES_LINUX_THPS.toString())) {
+            if (getTransparentHugePagesMode() != TransparentHugepageEnabled.MODE.UNKNOWN) {
+                if (getTransparentHugePagesMode() == TransparentHugepageEnabled.MODE.ALWAYS) {
+                    analysis.add(Analysis.ERROR_LARGE_PAGES_THP_JVM_YES_OS_ALWAYS);
+                } else if (getTransparentHugePagesMode() == TransparentHugepageEnabled.MODE.MADVISE) {
+                    analysis.add(Analysis.INFO_LARGE_PAGES_THP_JVM_YES_OS_MADVISE);
+                } else if (getTransparentHugePagesMode() == TransparentHugepageEnabled.MODE.NEVER) {
+                    analysis.add(Analysis.ERROR_LARGE_PAGES_THP_JVM_YES_OS_NEVER);
+                }
+            } else {
+                analysis.add(Analysis.INFO_LARGE_PAGES_THP_JVM_YES_OS_UNDETERMINED);
+            }
+        }
+        // Consider explicit large pages configuration for large heaps when Linux kernel THP = "all"
+        if (hasAnalysis(org.github.joa.util.Analysis.INFO_LARGE_PAGES_CONSIDER.toString())
+                && getTransparentHugePagesMode() == TransparentHugepageEnabled.MODE.ALWAYS) {
+            analysis.add(Analysis.INFO_LARGE_PAGES_CONSIDER_THP_OS_ALWAYS);
+            // Remove generic analysis
+            jvmOptions.removeAnalysis(org.github.joa.util.Analysis.INFO_LARGE_PAGES_CONSIDER);
+        }
+        if (getTransparentHugePagesMode() == TransparentHugepageEnabled.MODE.ALWAYS
+                && !((getJavaVersionMajor() == 17 && getJavaVersionMinor() >= 10)
+                        || (getJavaVersionMajor() == 21 && getJavaVersionMinor() >= 1))) {
+            analysis.add(Analysis.WARN_THP_OS_ALWAYS);
+        }
+    }
+
+    /**
+     * Check for ld.so.preload.
+     */
+    private void analyzeLdSoPreload() {
+        if (!getLdPreloadFiles().isEmpty()) {
+            analysis.add(Analysis.INFO_LD_SO_PRELOAD);
+        }
+    }
+
+    /**
+     * Check for org.apache.activemq.artemis.nativo.jlibaio.LibaioContext.done().
+     */
+    private void analyzeLibaioContextDone() {
+        if ((getStackFrameTop() != null
+                && PatternRegistry.matches(getStackFrameTop(),
+                        "^.+ org.apache.activemq.artemis.nativo.jlibaio.LibaioContext.done().+"))) {
+            analysis.add(Analysis.ERROR_LIBAIO_CONTEXT_DONE);
+        }
+    }
+
+    /**
+     * Check for libjvm.so/jvm.dll crashes.
+     */
+    private void analyzeLibjvm() {
+        if (getJavaSpecification() == JavaSpecification.JDK8 && JdkUtil.getJdk8UpdateNumber(getJdkReleaseString()) > 0
+                && JdkUtil.getJdk8UpdateNumber(getJdkReleaseString()) < 282 && getStackFrameTop() != null
+                && PatternRegistry.matches(getStackFrameTop(),
+                        "^V  \\[(libjvm\\.so|jvm\\.dll).+\\]  ShenandoahUpdateRefsClosure::do_oop.+$")) {
+            analysis.add(Analysis.ERROR_JDK8_SHENANDOAH_ROOT_UPDATER);
+        } else if (getJavaSpecification() == JavaSpecification.JDK8
+                && JdkUtil.getJdk8UpdateNumber(getJdkReleaseString()) > 0
+                && JdkUtil.getJdk8UpdateNumber(getJdkReleaseString()) < 312 && getStackFrameTop() != null
+                && PatternRegistry.matches(getStackFrameTop(),
+                        "^V  \\[(libjvm\\.so|jvm\\.dll).+\\]  MetadataOnStackMark::~MetadataOnStackMark.+$")) {
+            analysis.add(Analysis.ERROR_JDK8_SHENANDOAH_METADATA_ON_STACK_MARK);
+        } else if (getCurrentThreadName() != null
+                && PatternRegistry.matches(getCurrentThreadName(), "^.+CompilerThread\\d{1,}.+$")) {
+            analysis.add(Analysis.ERROR_COMPILER_THREAD);
+        } else if (getStackFrameTop() != null
+                && PatternRegistry.matches(getStackFrameTop(),
+                        "^V  \\[(libjvm\\.so|jvm\\.dll).+\\]  (ModuleEntry::purge_reads|"
+                        + "ModuleEntryTable::purge_all_module_reads).+$")) {
+            analysis.add(Analysis.ERROR_MODULE_ENTRY_PURGE_READS);
+        } else if (getJavaSpecification() == JavaSpecification.JDK8
+                && JdkUtil.getJdk8UpdateNumber(getJdkReleaseString()) >= 262
+                && JdkUtil.getJdk8UpdateNumber(getJdkReleaseString()) < 282 && getStackFrameTop() != null
+                && PatternRegistry.matches(getStackFrameTop(), "^V.+JfrEventClassTransformer::on_klass_creation.+$")) {
+            analysis.add(Analysis.ERROR_JDK8_JFR_CLASS_TRANSFORMED);
+        } else if (getStackFrameTop() != null
+                && !isError("There is insufficient memory for the Java Runtime Environment to continue")
+                && !isError("#  fatal error: OutOfMemory encountered: Java heap space")) {
+            // Other libjvm.so/jvm.dll analysis
+            if (PatternRegistry.matches(getStackFrameTop(), "^V  \\[libjvm\\.so.+\\](.+)?$")) {
+                analysis.add(Analysis.ERROR_LIBJVM_SO);
+            } else if (PatternRegistry.matches(getStackFrameTop(), "^V  \\[jvm\\.dll.+\\](.+)?$")) {
+                analysis.add(Analysis.ERROR_JVM_DLL);
+            }
+        }
+    }
+
+    /**
+     * Check for LinkageError.
+     */
+    private void analyzeLinkageError() {
+        if (haveLinkageError()) {
+            analysis.add(Analysis.ERROR_LINKAGE);
+        }
+    }
+
+    /**
+     * Check for Lucene.
+     * 
+     * @param probeHits
+     *            The log entry of the first hit of each probe.
+     */
+    private void analyzeLucene(EnumMap<Probe, String> probeHits) {
+        if (probeHits.containsKey(Probe.STACK_LUCENE)) {
+            analysis.add(0, Analysis.WARN_LUCENE);
+        }
+    }
+
+    /**
+     * Check max_map_count limit.
+     */
+    private void analyzeMaxMapCount() {
+        if (dynamicLibrariesMappingCount > 0) {
+            if (getMaxMapCountLimit() > 0) {
+                if (JdkMath.calcPercent(dynamicLibrariesMappingCount, getMaxMapCountLimit()) >= 99) {
+                    analysis.add(Analysis.WARN_MAX_MAP_COUNT_LIMIT);
+                }
+            } else {
+                int defaultMaxMapCountLimit = 65530;
+                if (JdkMath.calcPercent(dynamicLibrariesMappingCount, defaultMaxMapCountLimit) >= 99) {
+                    analysis.add(Analysis.WARN_MAX_MAP_COUNT_LIMIT_POSSIBLE);
+                }
+            }
+        }
+    }
+
+    /**
+     * Check if MaxRAMPercentage is used without MaxRAM when available memory &gt; 128g prior to JDK13.
+     */
+    private void analyzeMaxRamLimit() {
+        if (jvmOptions != null && jvmOptions.getMaxRAMPercentage() != null && jvmOptions.getMaxHeapSize() == null
+                && jvmOptions.getMaxRAM() == null && getJavaVersionMajor() > 0 && getJavaVersionMajor() < 13) {
+            BigDecimal oneHundredTwentyEightGigabytes = new BigDecimal("128")
+                    .multiply(org.github.joa.util.Constants.GIGABYTE);
+            if (getOsMemTotal() > oneHundredTwentyEightGigabytes.longValue()) {
+                analysis.add(Analysis.WARN_MAX_RAM_LIMIT);
+            }
+        }
+    }
+
+    /**
+     * Check for Microsoft SQL Server native driver.
+     */
+    private void analyzeMicrosoftSqlServer() {
+        if (!getNativeLibrariesUnknown().isEmpty()) {
+            Iterator<String> iterator = getNativeLibrariesUnknown().iterator();
+            while (iterator.hasNext()) {
+                String nativeLibraryPath = iterator.next();
+                String nativeLibrary = org.github.joa.util.JdkRegEx.getFile(nativeLibraryPath);
+                if (nativeLibrary != null
+                        && PatternRegistry.matches(nativeLibrary, JdkRegEx.NATIVE_LIBRARY_MICROSOFT_SQL_SERVER)) {
+                    analysis.add(Analysis.INFO_MICROSOFT_SQL_SERVER_NATIVE);
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Check for mmap resources in deleted state.
+     */
+    private void analyzeMmapDeleted() {
+        if (!getDynamicLibraries().isEmpty() && getMmapDeletedCount() > 0) {
+            analysis.add(Analysis.WARN_MMAP_DELETED);
+        }
+    }
+
+    /**
+     * Detective work when debug symbols are missing but many clues exist.
+     */
+    private void analyzeModuleEntryPurgeReadsPossible() {
+        if ((analysis.contains(Analysis.ERROR_JVM_DLL) || analysis.contains(Analysis.ERROR_LIBJVM_SO))
+                && analysis.contains(Analysis.WARN_DEBUG_SYMBOLS) && (analysis.contains(Analysis.ERROR_POINTER_NULL)
+                        || analysis.contains(Analysis.ERROR_POINTER_INVALID))) {
+            if (analysis.contains(Analysis.INFO_APP_DYNAMICS_DETECTED)
+                    || analysis.contains(Analysis.INFO_APP_DYNAMICS_POSSIBLE)
+                            && analysis.contains(Analysis.INFO_VM_OPERATION_CONCURRENT_GC)) {
+                if (getJavaSpecification() == JavaSpecification.JDK11
+                        && JdkUtil.getJdk11UpdateNumber(getJdkReleaseString()) <= 12) {
+                    analysis.add(Analysis.ERROR_MODULE_ENTRY_PURGE_READS_POSSIBLE);
+                    analysis.remove(Analysis.ERROR_JVM_DLL);
+                    analysis.remove(Analysis.ERROR_LIBJVM_SO);
+                }
+            }
+        }
+    }
+
+    /**
+     * JBoss, Tomcat, and VMware native library detection.
+     */
+    private void analyzeNativeLibraries() {
+        if (!getNativeLibrariesJBoss().isEmpty()) {
+            analysis.add(Analysis.INFO_NATIVE_LIBRARIES_JBOSS);
+        }
+        // JBoss native library detection
+        if (!getNativeLibrariesTomcat().isEmpty()) {
+            analysis.add(Analysis.INFO_NATIVE_LIBRARIES_TOMCAT);
+        }
+        // VMware native library detection
+        if (!getNativeLibrariesVmWare().isEmpty()) {
+            analysis.add(Analysis.INFO_NATIVE_LIBRARIES_VMWARE);
+        }
+    }
+
+    /**
+     * Check for unknown native libraries.
+     */
+    private void analyzeNativeLibrariesUnknown() {
+        if (!getNativeLibrariesUnknown().isEmpty()) {
+            analysis.add(Analysis.INFO_NATIVE_LIBRARIES_UNKNOWN);
+        }
+    }
+
+    /**
+     * Check for OutOfMemoryError.
+     * 
+     * @param probeHits
+     *            The log entry of the first hit of each probe.
+     */
+    private void analyzeOome(EnumMap<Probe, String> probeHits) {
+        if (jvmOptions != null && JdkUtil.isOptionEnabled(jvmOptions.getCrashOnOutOfMemoryError())
+                && isError("OutOfMemory encountered: Java heap space")) {
+            analysis.add(Analysis.ERROR_CRASH_ON_OOME_HEAP);
+        }
+        // OOME
+        if (isMemoryAllocationFail()) {
+            if (isCrashOnStartup()) {
+                long allocation = Long.MIN_VALUE;
+                allocation = getMemoryAllocation();
+                if (allocation < 0) {
+                    // Use JVM estimated initial process size
+                    allocation = getJvmMemoryInitial();
+                }
+                if (getApplication() == Application.TOMCAT_SHUTDOWN) {
+                    analysis.add(Analysis.ERROR_OOME_TOMCAT_SHUTDOWN);
+                } else if (getApplication() == Application.JBOSS_VERSION) {
+                    analysis.add(Analysis.ERROR_OOME_JBOSS_VERSION);
+                } else if (getApplication() == Application.AMQ_CLI) {
+                    analysis.add(Analysis.ERROR_OOME_AMQ_CLI);
+                } else if (allocation > 0 && getOsCommitLimit() >= 0 && getOsCommittedAs() >= 0
+                        && allocation > (getOsCommitLimit() - getOsCommittedAs()) && !isOvercommitted()) {
+                    // Strong evidence for vm.overcommit_memory=2, but possible resource limit
+                    analysis.add(Analysis.ERROR_OOME_OVERCOMMIT_LIMIT_STARTUP);
+                    if (jvmOptions == null
+                            || (jvmOptions.getInitialHeapSize() != null && jvmOptions.getMaxHeapSize() != null
+                                    && (JdkUtil.getByteOptionBytes(JdkUtil.getByteOptionValue(
+                                            jvmOptions.getInitialHeapSize())) == JdkUtil.getByteOptionBytes(
+                                                    JdkUtil.getByteOptionValue(jvmOptions.getMaxHeapSize()))))) {
+                        analysis.add(Analysis.INFO_OOME_STARTUP_HEAP_MIN_EQUAL_MAX);
+                    }
+                } else if (allocation >= 0 && getOsCommitLimit() >= 0 && getOsCommittedAs() >= 0
+                        && getOsCommitLimit() >= getOsCommittedAs() && isOvercommitDisabled()
+                        && allocation > (getOsCommitLimit() - getOsCommittedAs()
+                                - JdkUtil.convertSize(Long.parseLong("136"), 'M', 'B'))) {
+                    // Allocation > (available commit limit - user_reserve_kbytes [assume worse case 128M] -
+                    // admin_reserve_kbytes [assume worse case 8M])
+                    analysis.add(Analysis.ERROR_OOME_OVERCOMMIT_LIMIT_STARTUP);
+                } else if (allocation >= 0 && (getJvmMemFree() >= 0 || getJvmSwapFree() >= 0)
+                        && allocation >= (getJvmMemFree() + getJvmSwapFree())) {
+                    // Allocation > available physical memory
+                    if (JdkMath.calcPercent(allocation, getOsMemTotal()) < 50) {
+                        analysis.add(Analysis.ERROR_OOME_EXTERNAL_STARTUP);
+                    } else {
+                        analysis.add(Analysis.ERROR_OOME_JVM_STARTUP);
+                    }
+                    if (jvmOptions == null
+                            || (jvmOptions.getInitialHeapSize() != null && jvmOptions.getMaxHeapSize() != null
+                                    && (JdkUtil.getByteOptionBytes(JdkUtil.getByteOptionValue(
+                                            jvmOptions.getInitialHeapSize())) == JdkUtil.getByteOptionBytes(
+                                                    JdkUtil.getByteOptionValue(jvmOptions.getMaxHeapSize()))))) {
+                        analysis.add(Analysis.INFO_OOME_STARTUP_HEAP_MIN_EQUAL_MAX);
+                    }
+                } else {
+                    // Resource limit
+                    analysis.add(Analysis.ERROR_OOME_LIMIT_STARTUP);
+                }
+                // Don't double report the JVM failing to start
+                analysis.remove(Analysis.INFO_JVM_STARTUP_FAILS);
+            } else {
+                // Crash after startup
+                if (getThreadStackMemory() > 0 && getJvmMemTotal() > 0
+                        && JdkMath.calcPercent(getThreadStackMemory(), getJvmMemTotal()) > 50) {
+                    // thread leak
+                    int executorPoolThreadCount = getJavaThreadCount(JdkRegEx.WILDFLY_EXECUTOR_POOL_THREAD);
+                    if (executorPoolThreadCount > 0 && getJavaThreadCount() > 0
+                            && JdkMath.calcPercent(executorPoolThreadCount, getJavaThreadCount()) > 50) {
+                        analysis.add(Analysis.ERROR_OOME_THREAD_LEAK_EAP_EXECUTOR_POOL);
+                    } else {
+                        analysis.add(Analysis.ERROR_OOME_THREAD_LEAK);
+                    }
+                } else if (getMemoryAllocation() >= 0 && getOsCommitLimit() >= 0 && getOsCommittedAs() >= 0
+                        && getOsCommitLimit() >= getOsCommittedAs()
+                        && getMemoryAllocation() > (getOsCommitLimit() - getOsCommittedAs())
+                        && !isOvercommitDisabled()) {
+                    // Allocation > available commit limit
+                    analysis.add(Analysis.ERROR_OOME_OVERCOMMIT_LIMIT);
+                } else if (getMemoryAllocation() >= 0 && getOsCommitLimit() >= 0 && getOsCommittedAs() >= 0
+                        && getOsCommitLimit() >= getOsCommittedAs() && isOvercommitDisabled()
+                        && getMemoryAllocation() > (getOsCommitLimit() - getOsCommittedAs()
+                                - JdkUtil.convertSize(Long.parseLong("136"), 'M', 'B'))) {
+                    // Allocation > (available commit limit - user_reserve_kbytes [assume worse case 128M] -
+                    // admin_reserve_kbytes [assume worse case 8M])
+                    analysis.add(Analysis.ERROR_OOME_OVERCOMMIT_LIMIT);
+                } else if (getMemoryAllocation() >= 0 && (getJvmMemFree() >= 0 || getJvmSwapFree() >= 0)
+                        && getMemoryAllocation() >= (getJvmMemFree() + getJvmSwapFree())) {
+                    // Allocation > available physical memory
+                    if (getJvmMemoryMax() > 0 && getJvmMemTotal() > 0) {
+                        if (JdkMath.calcPercent(getJvmMemoryMax(), getJvmMemTotal()) >= 95) {
+                            analysis.add(Analysis.ERROR_OOME_JVM);
+                        } else {
+                            if (getOsCommitCharge() > 0
+                                    && JdkMath.calcPercent(getOsCommitCharge(), getJvmMemTotal()) < 95) {
+                                // Windows has a good process size approximation
+                                if (getMemBalloonedNow() > 0) {
+                                    analysis.add(Analysis.ERROR_OOME_EXTERNAL_OR_HYPERVISOR);
+                                } else {
+                                    analysis.add(Analysis.ERROR_OOME_EXTERNAL);
+                                }
+                            } else {
+                                analysis.add(Analysis.ERROR_OOME_NATIVE_OR_EXTERNAL);
+                            }
+                        }
+                    }
+                } else if ((getMemoryAllocation() >= 0 && (getJvmMemFree() >= 0 || getJvmSwapFree() >= 0)
+                        && getMemoryAllocation() < (getJvmMemFree() + getJvmSwapFree()))
+                        || ((getJvmMemFree() >= 0 && getJvmMemTotal() > 0
+                                && JdkMath.calcPercent(getJvmMemFree(), getJvmMemTotal()) >= 50)
+                                || (getJvmMemoryMax() >= 0 && getJvmMemTotal() > 0
+                                        && JdkMath.calcPercent(getJvmMemoryMax(), getJvmMemTotal()) < 50))) {
+                    // Likely a limit if: (1) allocation < available physical memory. (2) JVM memory < 1/2 total memory.
+                    if ((probeHits.containsKey(Probe.HEADER_NATIVE_HEAP_BLOCKED)
+                            || probeHits.containsKey(Probe.HEADER_COMPRESSED_OOPS)) && isCompressedOops()) {
+                        analysis.add(Analysis.ERROR_OOME_LIMIT_OOPS);
+                    } else {
+                        analysis.add(Analysis.ERROR_OOME_LIMIT);
+                    }
+                } else {
+                    if ((isTruncated() || probeHits.containsKey(Probe.HEADER_NATIVE_HEAP_BLOCKED)
+                            || probeHits.containsKey(Probe.HEADER_COMPRESSED_OOPS)) && isCompressedOops()) {
+                        analysis.add(Analysis.ERROR_OOME_OOPS);
+                    } else {
+                        analysis.add(Analysis.ERROR_OOME);
+                    }
+                }
+            }
+            // G1 collector is not good when memory is tight
+            if (getGarbageCollectors().contains(GarbageCollector.G1)) {
+                analysis.add(Analysis.WARN_OOM_G1);
+            }
+        }
+    }
+
+    /**
+     * Check for OutOfMemoryError caught and thrown.
+     */
+    private void analyzeOomeThrown() {
+        if (haveOomeThrownJavaHeap()) {
+            analysis.add(Analysis.ERROR_OOME_THROWN_JAVA_HEAP);
+        }
+        // "OutOfMemoryError: Metaspace" caught and thrown
+        if (haveOomeThrownMetaspace()) {
+            analysis.add(Analysis.ERROR_OOME_THROWN_METASPACE);
+        }
+        // "OutOfMemoryError: Compressed class space" caught and thrown
+        if (haveOomeThrownCompressedClassSpace()) {
+            analysis.add(Analysis.ERROR_OOME_THROWN_COMP_CLASS_SPACE);
+        }
+    }
+
+    /**
+     * Check Oracle JDBC driver / JDK compatibility.
+     */
+    private void analyzeOracleJdbcJdkCompatibility() {
+        List<String> nativeLibrariesUnknown = getNativeLibrariesUnknown();
+        if (!nativeLibrariesUnknown.isEmpty()) {
+            Iterator<String> iterator = nativeLibrariesUnknown.iterator();
+            Pattern pattern = PatternRegistry.getPattern(JdkRegEx.ORACLE_JDBC_OCI_DRIVER_PATH);
+            Matcher matcher;
+            while (iterator.hasNext()) {
+                String nativeLibraryPath = iterator.next();
+                matcher = PatternRegistry.matcher(pattern, nativeLibraryPath);
+                if (matcher.find()) {
+                    if (!analysis.contains(Analysis.INFO_ORACLE_JDBC_OCI)
+                            && !analysis.contains(Analysis.ERROR_ORACLE_JDBC_OCI_DRIVER)
+                            && !analysis.contains(Analysis.ERROR_ORACLE_JDBC_OCI_LOADING)
+                            && !analysis.contains(Analysis.WARN_ORACLE_JDBC_OCI_CONNECION)) {
+                        analysis.add(Analysis.INFO_ORACLE_JDBC_OCI);
+                    }
+                    String versionRegEx = "^.*[/\\\\]oracle[/\\\\]product[/\\\\](\\d{1,})\\.\\d{1,}\\.\\d{1,}"
+                            + "(\\.\\d{1,})?[/\\\\].*$";
+                    Pattern pattern2 = PatternRegistry.getPattern(versionRegEx);
+                    Matcher matcher2 = PatternRegistry.matcher(pattern2, nativeLibraryPath);
+                    if (matcher2.find()) {
+                        Integer oracleDatabaseVersion = Integer.parseInt(matcher2.group(1));
+                        if (JdkUtil.getJavaSpecificationNumber(getJavaSpecification()) > 11
+                                && oracleDatabaseVersion < 21) {
+                            analysis.add(Analysis.ERROR_ORACLE_JDBC_JDK_INCOMPATIBLE);
+                            break;
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Check for crashes related to the Oracle JDBC OCI (native) driver.
+     * 
+     * @param probeHits
+     *            The log entry of the first hit of each probe.
+     */
+    private void analyzeOracleJdbcOci(EnumMap<Probe, String> probeHits) {
+        if (getStackFrameTop() != null && PatternRegistry.matches(getStackFrameTop(), "^C  \\[libocijdbc.+$")) {
+            analysis.add(Analysis.ERROR_ORACLE_JDBC_OCI_DRIVER);
+        }
+        long ociJdbcLoaded = getEventTimestamp(probeHits, Probe.EVENTS_LIBOCIJDBC_LOADED);
+        if (ociJdbcLoaded > 0 && getUptime() > 0 && getUptime() - ociJdbcLoaded <= 1000) {
+            analysis.add(Analysis.ERROR_ORACLE_JDBC_OCI_LOADING);
+        }
+        if ((getStackFrame(2) != null && PatternRegistry.matches(getStackFrame(2), "^C  \\[libocijdbc.+$"))
+                || probeHits.containsKey(Probe.STACK_LIBCLNTSH)) {
+            analysis.add(Analysis.WARN_ORACLE_JDBC_OCI_CONNECION);
+        }
+    }
+
+    /**
+     * Check for vm.overcommit_memory=2 and vm.overcommit_ratio=100.
+     */
+    private void analyzeOvercommitRatio100() {
+        if (getMemTotal() > 0 && getOsCommitLimit() > 0 && getMemTotal() == getOsCommitLimit()) {
+            analysis.add(Analysis.INFO_OVERCOMMIT_DISABLED_RATIO_100);
+        }
+    }
+
+    /**
+     * Check for a partial or incomplete parse and unidentified logging lines.
+     */
+    private void analyzeParse() {
+        if (!skippedEventTypes.isEmpty()) {
+            analysis.add(0, Analysis.INFO_PARSE_PARTIAL);
+        }
+        // Parsing stopped early
+        if (incomplete) {
+            analysis.add(0, Analysis.WARN_PARSE_INCOMPLETE);
+        }
+        // Unidentified logging lines
+        if (JdkUtil.getJavaSpecificationNumber(getJavaSpecification()) >= 8 && !getUnidentifiedLogLines().isEmpty()) {
+            analysis.add(0, Analysis.WARN_UNIDENTIFIED_LOG_LINE);
+        }
+    }
+
+    /**
+     * Check for insufficient physical memory.
+     */
+    private void analyzePhysicalMemory() {
+        if (getHeapMaxSize() > 0 && getMetaspaceMaxSize() > 0 && getJvmMemTotal() > 0
+                && (getHeapMaxSize() + getMetaspaceMaxSize()) > getJvmMemTotal()) {
+            if (getOsSwap() == 0 || getJvmSwap() == 0) {
+                analysis.add(Analysis.WARN_HEAP_PLUS_METASPACE_GT_PHYSICAL_MEMORY_NOSWAP);
+            } else {
+                analysis.add(Analysis.WARN_HEAP_PLUS_METASPACE_GT_PHYSICAL_MEMORY_SWAP);
+            }
+        }
+    }
+
+    /**
+     * Check for pki_tomcat.
+     */
+    private void analyzePkiTomcat() {
+        if (getApplication() == Application.PKI_TOMCAT) {
+            analysis.add(Analysis.INFO_PKI_TOMCAT);
+        }
+    }
+
+    /**
+     * Check for crash caused trying to dereference a null pointer.
+     */
+    private void analyzePointer() {
+        if (sigInfo != null && sigInfo.getSignalAddress() != null) {
+            if (PatternRegistry.matches(sigInfo.getSignalAddress(), JdkRegEx.POINTER_NULL)) {
+                analysis.add(Analysis.ERROR_POINTER_NULL);
+            } else if (PatternRegistry.matches(sigInfo.getSignalAddress(), JdkRegEx.POINTER_INVALID)) {
+                analysis.add(Analysis.ERROR_POINTER_INVALID);
+            }
+        }
+    }
+
+    /**
+     * Check for PostgreSQL connection.
+     * 
+     * @param probeHits
+     *            The log entry of the first hit of each probe.
+     */
+    private void analyzePostgresqlConnection(EnumMap<Probe, String> probeHits) {
+        if (probeHits.containsKey(Probe.STACK_POSTGRESQL_CONNECTION)) {
+            analysis.add(Analysis.INFO_POSTGRESQL_CONNECTION);
+        }
+    }
+
+    /**
+     * Check PostgreSQL JDBC driver / JDK8 compatibility.
+     */
+    private void analyzePostgresqlJdbcJdk8Compatibility() {
+        List<String> jars = getJars();
+        if (!jars.isEmpty()) {
+            String postgresqlJdbcDriverPath = null;
+            Iterator<String> iterator = jars.iterator();
+            while (iterator.hasNext()) {
+                String jar = iterator.next();
+                if (PatternRegistry.matches(jar, JdkRegEx.POSTGRESQL_JDBC_DRIVER_PATH)) {
+                    postgresqlJdbcDriverPath = jar;
+                    break;
+                }
+            }
+            if (postgresqlJdbcDriverPath != null) {
+                Pattern pattern = PatternRegistry.getPattern(JdkRegEx.POSTGRESQL_JDBC_DRIVER_PATH);
+                Matcher matcher = PatternRegistry.matcher(pattern, postgresqlJdbcDriverPath);
+                if (matcher.find()) {
+                    Integer minorVersion = Integer.parseInt(matcher.group(3));
+                    if (JdkUtil.getJavaSpecificationNumber(getJavaSpecification()) == 8 && minorVersion < 5) {
+                        analysis.add(Analysis.ERROR_POSTGRESQL_JDBC_JDK8_INCOMPATIBLE);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Check for pthread_getcpuclockid.
+     */
+    private void analyzePthreadGetcpuclockid() {
+        if (getStackFrameTop() != null
+                && PatternRegistry.matches(getStackFrameTop(),
+                        "^C  \\[libpthread\\.so.+\\]  pthread_getcpuclockid.+$")) {
+            analysis.add(Analysis.ERROR_PTHREAD_GETCPUCLOCKID);
+        }
+    }
+
+    /**
+     * Check for RHEL7 ELS.
+     */
+    private void analyzeRhel7Els() {
+        Date today = new Date();
+        if (today.compareTo(KrashUtil.RHEL7_ELS_START) >= 0 && getOsVersion() == OsVersion.RHEL7
+                && getRhelVersion() != null && !getRhelVersion().equals("7.9")) {
+            analysis.add(Analysis.WARN_RHEL7_ELS_UNSUPPORTED_VERSION);
+        }
+    }
+
+    /**
+     * Check for RHEL9 + JDK8.
+     */
+    private void analyzeRhel9Jdk8() {
+        if (getOsVersion() == OsVersion.RHEL9 && getJavaSpecification() == JavaSpecification.JDK8) {
+            analysis.add(Analysis.INFO_RHEL9_JDK8);
+        }
+    }
+
+    /**
+     * Check for RHEL/JDK rpm version mismatch.
+     */
+    private void analyzeRhelJdkRpmMismatch() {
+        if (isRhRpmInstall() && getRhelVersion() != null && getJdkRhelVersion() != null) {
+            if ((getJdkRhelVersion().indexOf('.') != -1
+                    && !PatternRegistry.matcher(Pattern.compile(getJdkRhelVersion()), getRhelVersion()).matches())
+                    || (getJdkRhelVersion().indexOf('.') == -1
+                            && !getRhelVersion().startsWith((getJdkRhelVersion())))) {
+                analysis.add(0, Analysis.WARN_RHEL_JDK_RPM_MISMATCH);
+                if (analysis.contains(Analysis.WARN_JDK_NOT_LATEST)) {
+                    analysis.remove(Analysis.WARN_JDK_NOT_LATEST);
+                }
+            }
+        }
+    }
+
+    /**
+     * Check for ShenandoahConcurrentMark::mark_loop_work.
+     */
+    private void analyzeShenandoahMarkLoopWork() {
+        if ((getStackFrameTop() != null
+                && PatternRegistry.matches(getStackFrameTop(), "^.+ShenandoahConcurrentMark::mark_loop_work.+"))) {
+            analysis.add(Analysis.ERROR_JDK8_SHENANDOAH_MARK_LOOP_WORK);
+        }
+    }
+
+    /**
+     * Check for crash during shutdown.
+     */
+    private void analyzeShutdown() {
+        if (!getEvents().isEmpty()) {
+            Event lastEventEvent = getEvents().get(getEvents().size() - 1);
+            if (PatternRegistry.matches(lastEventEvent.getLogEntry(), "^.+Executing VM operation: Exit$")) {
+                analysis.add(Analysis.INFO_SHUTDOWN);
+            }
+        }
+    }
+
+    /**
+     * Check signal numbers and codes.
+     */
+    private void analyzeSignal() {
+        switch (getSignalNumber()) {
+        case EXCEPTION_ACCESS_VIOLATION:
+            analysis.add(Analysis.INFO_SIGNO_EXCEPTION_ACCESS_VIOLATION);
+            break;
+        case EXCEPTION_STACK_OVERFLOW:
+            analysis.add(Analysis.INFO_SIGNO_EXCEPTION_STACK_OVERFLOW);
+            break;
+        case SIGBUS:
+            analysis.add(Analysis.INFO_SIGNO_SIGBUS);
+            break;
+        case SIGFPE:
+            analysis.add(Analysis.INFO_SIGNO_SIGFPE);
+            break;
+        case SIGILL:
+            analysis.add(Analysis.INFO_SIGNO_SIGILL);
+            break;
+        case SIGSEGV:
+            analysis.add(Analysis.INFO_SIGNO_SIGSEGV);
+            break;
+        case UNKNOWN:
+        default:
+            break;
+        }
+        // Signal codes
+        switch (getSignalCode()) {
+        case BUS_ADRALN:
+            analysis.add(Analysis.INFO_SIGCODE_BUS_ADRALN);
+            break;
+        case BUS_ADRERR:
+            if (getOs() == Os.LINUX) {
+                analysis.add(Analysis.INFO_SIGCODE_BUS_ADDERR_LINUX);
+            } else {
+                analysis.add(Analysis.INFO_SIGCODE_BUS_ADDERR);
+            }
+            break;
+        case BUS_OBJERR:
+            analysis.add(Analysis.INFO_SIGCODE_BUS_OBJERR);
+            break;
+        case FPE_INTDIV:
+            analysis.add(Analysis.INFO_SIGCODE_FPE_INTDIV);
+            break;
+        case ILL_ILLOPN:
+            analysis.add(Analysis.INFO_SIGCODE_ILL_ILLOPN);
+            break;
+        case SEGV_ACCERR:
+            analysis.add(Analysis.INFO_SIGCODE_SEGV_ACCERR);
+            break;
+        case SEGV_MAPERR:
+            analysis.add(Analysis.INFO_SIGCODE_SEGV_MAPERR);
+            break;
+        case SI_KERNEL:
+            analysis.add(Analysis.INFO_SIGCODE_SI_KERNEL);
+            break;
+        case SI_USER:
+            analysis.add(Analysis.INFO_SIGCODE_SI_USER);
+            break;
+        case UNKNOWN:
+        default:
+            break;
+        }
+        // Floating point error
+        if (getSignalNumber().equals(SignalNumber.SIGFPE) || getSignalCode().equals(SignalCode.FPE_INTDIV)) {
+            analysis.add(Analysis.ERROR_FPE);
+        }
+    }
+
+    /**
+     * Check if there is vm code in the stack.
+     */
+    private void analyzeStackVmCode() {
+        if (haveFramesInStack() && !haveVmCodeInStack()) {
+            analysis.add(Analysis.INFO_STACK_NO_VM_CODE);
+        }
+    }
+
+    /**
+     * Check for StackOverflowError.
+     * 
+     * @param probeHits
+     *            The log entry of the first hit of each probe.
+     */
+    private void analyzeStackoverflow(EnumMap<Probe, String> probeHits) {
+        if (getSignalNumber() != SignalNumber.EXCEPTION_STACK_OVERFLOW && haveStackOverFlowError()) {
+            analysis.add(Analysis.ERROR_STACKOVERFLOW);
+        } else {
+            if (getThreadStackFreeSpace() > getThreadStackSize()) {
+                // Applies only to ThreadStackSize (not CompilerThreadStackSize, VMThreadStackSize, MarkStackSize, the
+                // JLI_Launch method in main.c that starts the JVM, or C code).
+                if (currentThread != null && !(currentThread.isCompilerThread() || currentThread.isVmThread())
+                        && stacks.size() > 0 && !probeHits.containsKey(Probe.STACK_JLI_LAUNCH)) {
+                    analysis.add(Analysis.INFO_STACK_FREESPACE_GT_STACK_SIZE);
+                }
+            }
+        }
+    }
+
+    /**
+     * Storage analysis.
+     */
+    private void analyzeStorage() {
+        if (getOs() == Os.LINUX && !dynamicLibraries.isEmpty()) {
+            switch (getStorageDevice()) {
+            case AWS_BLOCK_STORAGE:
+                analysis.add(Analysis.INFO_STORAGE_AWS);
+                break;
+            case NFS:
+                analysis.add(Analysis.INFO_STORAGE_NFS);
+                break;
+            case UNIDENTIFIED:
+                analysis.add(Analysis.INFO_STORAGE_UNKNOWN);
+                break;
+            default:
+                break;
+            }
+        }
+    }
+
+    /**
+     * Check for unsynchronized access to DirectByteBuffer and other StubRoutines crashes.
+     * 
+     * @param probeHits
+     *            The log entry of the first hit of each probe.
+     */
+    private void analyzeStubroutines(EnumMap<Probe, String> probeHits) {
+        String regexStubRoutines = "^v  ~(BufferBlob::)?StubRoutines.*$";
+        if (getStackFrameTop() != null && PatternRegistry.matches(getStackFrameTop(), regexStubRoutines)) {
+            if (probeHits.containsKey(Probe.STACK_JAVA_NIO_BYTEBUFFER)) {
+                analysis.add(Analysis.ERROR_DIRECT_BYTE_BUFFER_CONTENTION);
+            } else if (probeHits.containsKey(Probe.STACK_ITEXT_IO)) {
+                analysis.add(Analysis.ERROR_ITEXT_IO);
+            } else {
+                analysis.add(Analysis.ERROR_STUBROUTINES);
+            }
+        }
+    }
+
+    /**
+     * Check for swap usage and swap disabled.
+     */
+    private void analyzeSwap() {
+        if (getJvmSwap() > 0) {
+            // Check for excessive swap usage
+            int swapUsedPercent = 100 - JdkMath.calcPercent(getJvmSwapFree(), getJvmSwap());
+            if (swapUsedPercent > 5 && swapUsedPercent < 20) {
+                analysis.add(Analysis.INFO_SWAPPING);
+            } else if (swapUsedPercent >= 20) {
+                analysis.add(Analysis.WARN_SWAPPING);
+            }
+        }
+        // Check for swap disabled
+        if (getJvmSwap() == 0) {
+            analysis.add(Analysis.INFO_SWAP_DISABLED);
+            // Check if collector is appropriate for no-swap (e.g. container) use cases
+            if (getGarbageCollectors().contains(GarbageCollector.G1) && getJvmSwap() == 0) {
+                analysis.add(Analysis.WARN_SWAP_DISABLED_G1);
+            } else if (getGarbageCollectors().contains(GarbageCollector.CMS) && getJvmSwap() == 0) {
+                analysis.add(Analysis.WARN_SWAP_DISABLED_CMS);
+            }
+        }
+    }
+
+    /**
+     * Check thread stack size.
+     */
+    private void analyzeThreadStackSize() {
+        long threadStackMaxSize = getThreadStackSize();
+        if ((jvmOptions == null || !hasAnalysis(org.github.joa.util.Analysis.WARN_THREAD_STACK_SIZE_TINY.getKey()))
+                && threadStackMaxSize < 1) {
+            addAnalysis(org.github.joa.util.Analysis.WARN_THREAD_STACK_SIZE_TINY);
+        } else if ((jvmOptions == null
+                || !hasAnalysis(org.github.joa.util.Analysis.WARN_THREAD_STACK_SIZE_SMALL.getKey()))
+                && threadStackMaxSize < 128) {
+            addAnalysis(org.github.joa.util.Analysis.WARN_THREAD_STACK_SIZE_SMALL);
+        }
+    }
+
+    /**
+     * Check for many threads.
+     */
+    private void analyzeThreadsMany() {
+        if (getJavaThreadCount() > 1000) {
+            if (getJavaThreadCount() > 5000) {
+                analysis.add(Analysis.WARN_THREADS_MANY);
+            } else {
+                analysis.add(Analysis.INFO_THREADS_MANY);
+            }
+        }
+    }
+
+    /**
+     * Check for timeouts occurring during error reporting.
+     */
+    private void analyzeTimeout() {
+        if (!timeouts.isEmpty()) {
+            analysis.add(Analysis.ERROR_TIMEOUT);
+        } else if (!headers.isEmpty()) {
+            // Check header
+            Iterator<Header> iterator = headers.iterator();
+            while (iterator.hasNext()) {
+                Header he = iterator.next();
+                if (he.isTimeout()) {
+                    analysis.add(Analysis.ERROR_TIMEOUT);
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Check for a truncated fatal error log.
+     */
+    private void analyzeTruncated() {
+        if (isTruncated()) {
+            analysis.add(Analysis.INFO_TRUNCATED);
+        }
+    }
+
+    /**
+     * Check VM operations.
+     */
+    private void analyzeVmOperation() {
+        if (vmOperation != null) {
+            if (vmOperation.getVmOperation().equals("BulkRevokeBias")) {
+                analysis.add(Analysis.INFO_VM_OPERATION_BULK_REVOKE_BIAS);
+            } else if (vmOperation.getVmOperation().equals("CGC_Operation")) {
+                analysis.add(Analysis.INFO_VM_OPERATION_CONCURRENT_GC);
+            } else if (vmOperation.getVmOperation().equals("GetThreadListStackTraces")) {
+                analysis.add(Analysis.WARN_VM_OPERATION_THREAD_DUMP_JVMTI);
+            } else if (vmOperation.getVmOperation().equals("HeapDumper")) {
+                analysis.add(Analysis.INFO_VM_OPERATION_HEAP_DUMP);
+            } else if (vmOperation.getVmOperation().equals("PrintThreads")) {
+                analysis.add(Analysis.INFO_VM_OPERATION_THREAD_DUMP);
+            }
+        }
+    }
+
+    /**
+     * Check for Wily/DX APM.
+     * 
+     * @param probeHits
+     *            The log entry of the first hit of each probe.
+     */
+    private void analyzeWily(EnumMap<Probe, String> probeHits) {
+        if ((getStackFrameTop() != null
+                && PatternRegistry.matches(getStackFrameTop(), "^.*" + JdkRegEx.NATIVE_LIBRARY_WILY + ".*$"))
+                || (getStackFrameTopJava() != null
+                        && PatternRegistry.matches(getStackFrameTopJava(), "^.+ com\\.wily\\.introscope\\..+"))) {
+            // Crash in Wily
+            analysis.add(Analysis.ERROR_WILY);
+        } else if (probeHits.containsKey(Probe.STACK_WILY)) {
+            // Wily in stack
+            analysis.add(0, Analysis.WARN_WILY);
+        } else if (!getNativeLibrariesUnknown().isEmpty()) {
+            // Wily detected
+            Iterator<String> iterator = getNativeLibrariesUnknown().iterator();
+            while (iterator.hasNext()) {
+                String nativeLibraryPath = iterator.next();
+                String nativeLibrary = org.github.joa.util.JdkRegEx.getFile(nativeLibraryPath);
+                if (nativeLibrary != null && PatternRegistry.matches(nativeLibrary, JdkRegEx.NATIVE_LIBRARY_WILY)) {
+                    analysis.add(Analysis.INFO_WILY);
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Check for JDK8 ZipFile and Deflator contention.
+     */
+    private void analyzeZipContention() {
+        if (JdkUtil.getJavaSpecificationNumber(getJavaSpecification()) >= 6
+                && JdkUtil.getJavaSpecificationNumber(getJavaSpecification()) <= 8) {
+            if ((getStackFrameTopCompiledJavaCode() != null
+                    && PatternRegistry.matches(getStackFrameTopCompiledJavaCode(),
+                            "^.+java\\.util\\.zip\\.ZipFile\\.(getEntry|open).+$"))
+                    || (getStackFrameTop() != null
+                            && PatternRegistry.matches(getStackFrameTop(),
+                                    "^C[ ]{1,}\\[libzip\\.so.*\\][ ]{1,}readCEN.*$"))) {
+                analysis.add(Analysis.ERROR_JDK8_ZIPFILE_CONTENTION);
+            }
+        }
+        // Check for JDK8 Deflator contention
+        if (getJavaSpecification() == JavaSpecification.JDK8 && getStackFrameTopCompiledJavaCode() != null
+                && PatternRegistry.matches(getStackFrameTopCompiledJavaCode(),
+                        "^.+java\\.util\\.zip\\.Deflater\\.deflateBytes.+$")) {
+            analysis.add(Analysis.ERROR_JDK8_DEFLATER_CONTENTION);
+        }
+    }
+
+    /**
+     * @throws UnsupportedOperationException
+     *             if the fatal error log is an immutable snapshot.
+     */
+    private void checkMutable() {
+        if (immutable) {
+            throw new UnsupportedOperationException("The fatal error log snapshot is immutable.");
+        }
+    }
+
+    /**
+     * Compute a derived value into the cache.
+     * 
+     * @param key
+     *            The derived value.
+     */
+    private void compute(Derived key) {
+        switch (key) {
+        case ANALYSIS:
+            getAnalysis();
+            break;
+        case APPLICATION:
+            getApplication();
+            break;
+        case ARCH:
+            getArch();
+            break;
+        case JAVA_SPECIFICATION:
+            getJavaSpecification();
+            break;
+        case JAVA_THREAD_COUNT:
+            getJavaThreadCount();
+            break;
+        case JAVA_VENDOR:
+            getJavaVendor();
+            break;
+        case JDK_RELEASE_STRING:
+            getJdkReleaseString();
+            break;
+        case JVM_ARGS:
+            getJvmArgs();
+            break;
+        case JVM_MEMORY_MAX:
+            getJvmMemoryMax();
+            break;
+        case JVM_MEM_TOTAL:
+            getJvmMemTotal();
+            break;
+        case NATIVE_LIBRARIES_UNKNOWN:
+            getNativeLibrariesUnknown();
+            break;
+        case OS:
+            getOs();
+            break;
+        case OS_COMMIT_LIMIT:
+            getOsCommitLimit();
+            break;
+        case OS_MEM_TOTAL:
+            getOsMemTotal();
+            break;
+        case OS_STRING:
+            getOsString();
+            break;
+        case OS_VERSION:
+            getOsVersion();
+            break;
+        case RHEL:
+            isRhel();
+            break;
+        case RHEL_VERSION:
+            getRhelVersion();
+            break;
+        case RH_BUILD_OPEN_JDK:
+            isRhBuildOpenJdk();
+            break;
+        case RH_RPM_INSTALL:
+            isRhRpmInstall();
+            break;
+        case RPM_DIRECTORY:
+            getRpmDirectory();
+            break;
+        case STACK_FRAME_TOP:
+            getStackFrameTop();
+            break;
+        default:
+            throw new AssertionError("Unexpected derived value: " + key);
+        }
+    }
+
+    /**
+     * @return The value of {@link #getAnalysis()}, computed from the events.
+     */
+    private List<String[]> computeAnalysis() {
+        List<String[]> a = new ArrayList<String[]>();
+        StringBuilder literal = new StringBuilder();
+        Iterator<Analysis> itFelAnalysis = analysis.iterator();
+        while (itFelAnalysis.hasNext()) {
+            Analysis item = itFelAnalysis.next();
+            literal.setLength(0);
+            item.getTemplate().render(literal, this::getPlaceholderValue);
+            a.add(new String[] { item.getKey(), literal.toString() });
+        }
+        if (jvmOptions != null) {
+            Iterator<String[]> itJvmOptionsAnalysis = jvmOptions.getAnalysis().iterator();
+            while (itJvmOptionsAnalysis.hasNext()) {
+                String[] item = itJvmOptionsAnalysis.next();
+                a.add(new String[] { item[0], getJvmOptionsAnalysisLiteral(item) });
+            }
+        }
+        return a;
+    }
+
+    /**
+     * @return The value of {@link #getApplication()}, computed from the events.
+     */
+    private Application computeApplication() {
+        Application application = Application.UNKNOWN;
+        // Check libraries
+        if (!dynamicLibraries.isEmpty()) {
+            Iterator<DynamicLibrary> iterator = dynamicLibraries.iterator();
+            while (iterator.hasNext()) {
+                DynamicLibrary event = iterator.next();
+                if (PatternRegistry.matches(event.getLogEntry(), JdkRegEx.JAR_JBOSS_EAP6)) {
+                    application = Application.JBOSS_EAP6;
+                    break;
+                } else if (PatternRegistry.matches(event.getLogEntry(), JdkRegEx.JAR_JBOSS_EAP7)) {
+                    application = Application.JBOSS_EAP7;
+                    break;
+                } else if (PatternRegistry.matches(event.getLogEntry(), JdkRegEx.JAR_JEUS)) {
+                    application = Application.JEUS;
+                    break;
+                } else if (PatternRegistry.matches(event.getLogEntry(), JdkRegEx.JAR_TOMCAT)) {
+                    application = Application.TOMCAT;
+                    // Continue checking for known applications built on top of tomcat
+                } else if (PatternRegistry.matches(event.getLogEntry(), JdkRegEx.JAR_PKI_TOMCAT)) {
+                    application = Application.PKI_TOMCAT;
+                    break;
+                }
+            }
+        }
+        // Check threads
+        if (application == Application.UNKNOWN) {
+            if (!threads.isEmpty()) {
+                Iterator<Thread> iterator = threads.iterator();
+                while (iterator.hasNext()) {
+                    Thread event = iterator.next();
+                    if (event.getLogEntry() != null
+                            && PatternRegistry.matches(event.getLogEntry(), JdkRegEx.THREAD_JEUS)) {
+                        application = Application.JEUS;
+                        break;
+                    } else if (event.getLogEntry() != null
+                            && PatternRegistry.matches(event.getLogEntry(), JdkRegEx.THREAD_PKI_TOMCAT)) {
+                        application = Application.PKI_TOMCAT;
+                        break;
+                    } else if (event.getLogEntry() != null
+                            && PatternRegistry.matches(event.getLogEntry(), JdkRegEx.THREAD_RHSSO)) {
+                        application = Application.RHSSO;
+                        break;
+                    }
+                }
+            }
+        }
+        // Check java_command
+        if (application == Application.UNKNOWN) {
+            String javaCommand = getJavaCommand();
+            if (javaCommand != null) {
+                if (PatternRegistry.matches(javaCommand, JdkRegEx.ARTEMIS_COMMAND)) {
+                    application = Application.AMQ;
+                } else if (PatternRegistry.matches(javaCommand, JdkRegEx.COMMAND_ARTEMIS_CLI)) {
+                    application = Application.AMQ_CLI;
+                } else if (PatternRegistry.matches(javaCommand, JdkRegEx.COMMAND_CASSANDRA)) {
+                    application = Application.CASSANDRA;
+                } else if (PatternRegistry.matches(javaCommand, JdkRegEx.COMMAND_JBOSS_VERSION)) {
+                    application = Application.JBOSS_VERSION;
+                } else if (PatternRegistry.matches(javaCommand, JdkRegEx.COMMAND_JEUS)) {
+                    application = Application.JEUS;
+                } else if (PatternRegistry.matches(javaCommand, JdkRegEx.COMMAND_KAFKA)) {
+                    application = Application.KAFKA;
+                } else if (PatternRegistry.matches(javaCommand, JdkRegEx.COMMAND_SPRING_BOOT)) {
+                    application = Application.SPRING_BOOT;
+                } else if (PatternRegistry.matches(javaCommand, JdkRegEx.COMMAND_TOMCAT_START)) {
+                    application = Application.TOMCAT;
+                } else if (PatternRegistry.matches(javaCommand, JdkRegEx.COMMAND_TOMCAT_STOP)) {
+                    application = Application.TOMCAT_SHUTDOWN;
+                } else if (PatternRegistry.matches(javaCommand, JdkRegEx.JAR_WILDFLY)) {
+                    application = Application.WILDFLY;
+                }
+            }
+        }
+        // Check JVM arguments
+        if (application == Application.UNKNOWN) {
+            if (getJvmArgs() != null
+                    && PatternRegistry.matches(getJvmArgs(), "^.*-Dcatalina.base=/var/lib/pki/pki-tomcat.*$")) {
+                application = Application.PKI_TOMCAT;
+            }
+        }
+        return application;
+    }
+
+    /**
+     * @return The value of {@link #getArch()}, computed from the events.
+     */
+    private Arch computeArch() {
+        Arch arch = Arch.UNKNOWN;
+        if (uname != null) {
+            arch = uname.getArch();
+        } else if (vmInfo != null) {
+            arch = vmInfo.getArch();
+        } else if (!headers.isEmpty()) {
+            // Check header
+            Iterator<Header> iterator = headers.iterator();
+            while (iterator.hasNext()) {
+                Header he = iterator.next();
+                if (he.isJavaVm()) {
+                    if (PatternRegistry.matches(he.getLogEntry(), "^.+ppc64.+$")) {
+                        arch = Arch.PPC64;
+                    } else if (PatternRegistry.matches(he.getLogEntry(), "^.+ppc64le.+$")) {
+                        arch = Arch.PPC64LE;
+                    } else if (PatternRegistry.matches(he.getLogEntry(), "^.+solaris-sparc.+$")) {
+                        arch = Arch.SPARC;
+                    } else if (PatternRegistry.matches(he.getLogEntry(), "^.+amd64.+$")) {
+                        arch = Arch.X86_64;
+                    }
+                }
+            }
+        }
+        return arch;
+    }
+
+    /**
+     * @return The value of {@link #getJavaSpecification()}, computed from the events.
+     */
+    private JavaSpecification computeJavaSpecification() {
+        JavaSpecification version = JavaSpecification.UNKNOWN;
+        if (vmInfo != null) {
+            version = vmInfo.getJavaSpecification();
+        }
+        // Get from header
+        if (version == JavaSpecification.UNKNOWN && !headers.isEmpty()) {
+            Iterator<Header> iterator = headers.iterator();
+            while (iterator.hasNext()) {
+                Header he = iterator.next();
+                String regEx = "\\((\\d{1,2})\\..+\\)";
+                Pattern pattern = PatternRegistry.getPattern(regEx);
+                if (he.isJreVersion()) {
+                    Matcher matcher = PatternRegistry.matcher(pattern, he.getLogEntry());
+                    if (matcher.find()) {
+                        switch (Integer.parseInt(matcher.group(1))) {
+                        case 6:
+                            version = JavaSpecification.JDK6;
+                            break;
+                        case 7:
+                            version = JavaSpecification.JDK7;
+                            break;
+                        case 8:
+                            version = JavaSpecification.JDK8;
+                            break;
+                        case 11:
+                            version = JavaSpecification.JDK11;
+                            break;
+                        case 17:
+                            version = JavaSpecification.JDK17;
+                            break;
+                        case 21:
+                            version = JavaSpecification.JDK21;
+                            break;
+                        default:
+                            break;
+                        }
+                    }
+                }
+            }
+        }
+        // Check dynamic library (rpm)
+        if (version == JavaSpecification.UNKNOWN && !dynamicLibraries.isEmpty()) {
+            if (getRpmDirectory() != null) {
+                String regEx = "^java-.+-openjdk-(1.8.0|11|17|21).+-.+$";
+                Pattern pattern = PatternRegistry.getPattern(regEx);
+                Matcher matcher = PatternRegistry.matcher(pattern, getRpmDirectory());
+                if (matcher.find()) {
+                    if (matcher.group(1).equals("1.8.0")) {
+                        version = JavaSpecification.JDK8;
+                    } else if (matcher.group(1).equals("11")) {
+                        version = JavaSpecification.JDK11;
+                    } else if (matcher.group(1).equals("17")) {
+                        version = JavaSpecification.JDK17;
+                    } else if (matcher.group(1).equals("21")) {
+                        version = JavaSpecification.JDK21;
+                    }
+                }
+            }
+        }
+        return version;
+    }
+
+    /**
+     * @return The value of {@link #getJavaThreadCount()}, computed from the events.
+     */
+    private int computeJavaThreadCount() {
+        int javaThreadCount = 0;
+        if (isSkipped(LogEventType.THREAD)) {
+            javaThreadCount = Integer.MIN_VALUE;
+        } else if (!threads.isEmpty()) {
+            Iterator<Thread> iterator = threads.iterator();
+            while (iterator.hasNext()) {
+                Thread event = iterator.next();
+                if (PatternRegistry.matches(event.getLogEntry(), "^Other Threads:$")) {
+                    break;
+                } else if (!(PatternRegistry.matches(event.getLogEntry(), Thread.REGEX_HEADER)
+                        || PatternRegistry.matches(event.getLogEntry(), Thread.REGEX_FOOTER))) {
+                    javaThreadCount++;
+                }
+            }
+        }
+        return javaThreadCount;
+    }
+
+    /**
+     * @return The value of {@link #getJavaVendor()}, computed from the events.
+     */
+    private JavaVendor computeJavaVendor() {
+        JavaVendor vendor = JavaVendor.UNIDENTIFIED;
+        if (isRhBuildOpenJdk()) {
+            vendor = JavaVendor.RED_HAT;
+        } else {
+            if (vmInfo != null) {
+                switch (vmInfo.getBuiltBy()) {
+                case JAVA_RE:
+                case MACH5ONE:
+                    vendor = JavaVendor.ORACLE;
+                    break;
+                case JENKINS:
+                    vendor = JavaVendor.ADOPTOPENJDK;
+                    break;
+                case VSTS:
+                    vendor = JavaVendor.MICROSOFT;
+                    break;
+                case TEMURIN:
+                    vendor = JavaVendor.ADOPTIUM;
+                    break;
+                case TESTER:
+                case ZULU_RE:
+                    vendor = JavaVendor.AZUL;
+                    break;
+                // Indeterminate
+                case BUILD:
+                case EMPTY:
+                case MOCKBUILD:
+                case UNKNOWN:
+                default:
+                    break;
+                }
+            }
+        }
+        if (vendor == JavaVendor.UNIDENTIFIED && !headers.isEmpty()) {
+            // Check header
+            Iterator<Header> iterator = headers.iterator();
+            while (iterator.hasNext()) {
+                Header he = iterator.next();
+                if (he.isJreVersion()) {
+                    if (PatternRegistry.matches(he.getLogEntry(), "^.+AdoptOpenJDK.+$")) {
+                        vendor = JavaVendor.ADOPTOPENJDK;
+                        break;
+                    } else if (getOs() != Os.UNIDENTIFIED && !isRhVersion()) {
+                        vendor = JavaVendor.NOT_RED_HAT;
+                        // continue checking
+                    }
+                } else if (he.isVendorBugUrl()) {
+                    if (PatternRegistry.matches(he.getLogEntry(),
+                            "^#   https://github.com/adoptium/adoptium-support/issues$")) {
+                        vendor = JavaVendor.ADOPTIUM;
+                    } else if (PatternRegistry.matches(he.getLogEntry(), "^#   http://www.azulsystems.com/support/$")) {
+                        vendor = JavaVendor.AZUL;
+                    }
+                    break;
+                }
+            }
+        }
+        if (vendor == JavaVendor.UNIDENTIFIED && isRhVersion() && isOracleLinux()) {
+            vendor = JavaVendor.ORACLE;
+        }
+        return vendor;
+    }
+
+    /**
+     * @return The value of {@link #getJdkReleaseString()}, computed from the events.
+     */
+    private String computeJdkReleaseString() {
+        String jdkReleaseString = null;
+        if (vmInfo != null) {
+            jdkReleaseString = vmInfo.getJdkReleaseString();
+            // TODO: Better solution than this hack to account for 2 windows builds based on the same upstream tag?
+            if (vmInfo.getOs() == Os.WINDOWS) {
+                if (vmInfo.getJavaSpecification() == JavaSpecification.JDK8
+                        && jdkReleaseString.equals("1.8.0_332-b09")) {
+                    if (vmInfo.getBuildDate().equals(KrashUtil.getDate("Apr 19 2022 13:36:53"))) {
+                        jdkReleaseString = "1.8.0_332-b09-1";
+                    } else if (vmInfo.getBuildDate().equals(KrashUtil.getDate("Apr 27 2022 21:29:19"))) {
+                        jdkReleaseString = "1.8.0_332-b09-2";
+                    }
+                } else if (vmInfo.getJavaSpecification() == JavaSpecification.JDK11
+                        && jdkReleaseString.equals("11.0.15+9-LTS")) {
+                    if (vmInfo.getBuildDate().equals(KrashUtil.getDate("Apr 17 2022 13:56:34"))) {
+                        jdkReleaseString = "11.0.15+9-LTS-1";
+                    } else if (vmInfo.getBuildDate().equals(KrashUtil.getDate("Apr 27 2022 19:12:18"))) {
+                        jdkReleaseString = "11.0.15+9-LTS-2";
+                    }
+                } else if (vmInfo.getJavaSpecification() == JavaSpecification.JDK17
+                        && jdkReleaseString.equals("17.0.3+6-LTS")) {
+                    if (vmInfo.getBuildDate().equals(KrashUtil.getDate("Apr 17 2022 12:11:44"))) {
+                        jdkReleaseString = "17.0.3+6-LTS-1";
+                    } else if (vmInfo.getBuildDate().equals(KrashUtil.getDate("Apr 27 2022 11:51:42"))) {
+                        jdkReleaseString = "17.0.3+6-LTS-2";
+                    }
+                }
+            }
+        }
+        if (jdkReleaseString == null && !headers.isEmpty()) {
+            // Check header
+            Iterator<Header> iterator = headers.iterator();
+            while (iterator.hasNext()) {
+                Header he = iterator.next();
+                if (he.isJreVersion()) {
+                    String regEx = "^.+\\(" + JdkRegEx.VERSION_STRING + "\\)( \\(build " + JdkRegEx.BUILD_STRING
+                            + "\\))?.*$";
+                    Pattern pattern = PatternRegistry.getPattern(regEx);
+                    Matcher matcher = PatternRegistry.matcher(pattern, he.getLogEntry());
+                    if (matcher.find()) {
+                        if (matcher.group(4) != null) {
+                            jdkReleaseString = matcher.group(4);
+                        } else if (matcher.group(1) != null) {
+                            // Add leading "1."
+                            if (PatternRegistry.matches(matcher.group(1), "^[678].+$")) {
+                                jdkReleaseString = "1." + matcher.group(1);
+                            } else {
+                                jdkReleaseString = matcher.group(1);
+                            }
+                        }
+                    }
+                    break;
+                }
+            }
+        }
+        if (jdkReleaseString == null && !dynamicLibraries.isEmpty()) {
+            // Check dynamic libraries (rpm)
+            if (getRpmDirectory() != null) {
+                Iterator<Entry<String, Release>> iterator;
+                if (getJavaSpecification() == JavaSpecification.JDK8) {
+                    switch (getOsVersion()) {
+                    case CENTOS6:
+                    case RHEL6:
+                        iterator = Jdk8.RHEL6_X86_64_RPMS.entrySet().iterator();
+                        while (iterator.hasNext()) {
+                            Entry<String, Release> entry = iterator.next();
+                            if (entry.getKey().equals(getRpmDirectory())) {
+                                Release release = entry.getValue();
+                                jdkReleaseString = release.getVersion();
+                            }
+                        }
+                        break;
+                    case CENTOS7:
+                    case RHEL7:
+                        if (getArch() == Arch.X86_64) {
+                            iterator = Jdk8.RHEL7_X86_64_RPMS.entrySet().iterator();
+                            while (iterator.hasNext()) {
+                                Entry<String, Release> entry = iterator.next();
+                                if (entry.getKey().equals(getRpmDirectory())) {
+                                    Release release = entry.getValue();
+                                    jdkReleaseString = release.getVersion();
+                                }
+                            }
+                        } else if (getArch() == Arch.PPC64) {
+                            iterator = Jdk8.RHEL7_PPC64_RPMS.entrySet().iterator();
+                            while (iterator.hasNext()) {
+                                Entry<String, Release> entry = iterator.next();
+                                if (entry.getKey().equals(getRpmDirectory())) {
+                                    Release release = entry.getValue();
+                                    jdkReleaseString = release.getVersion();
+                                }
+                            }
+                        } else if (getArch() == Arch.PPC64LE) {
+                            iterator = Jdk8.RHEL7_PPC64LE_RPMS.entrySet().iterator();
+                            while (iterator.hasNext()) {
+                                Entry<String, Release> entry = iterator.next();
+                                if (entry.getKey().equals(getRpmDirectory())) {
+                                    Release release = entry.getValue();
+                                    jdkReleaseString = release.getVersion();
+                                }
+                            }
+                        }
+                        break;
+                    case CENTOS8:
+                    case RHEL8:
+                        if (getArch() == Arch.X86_64) {
+                            iterator = Jdk8.RHEL8_X86_64_RPMS.entrySet().iterator();
+                            while (iterator.hasNext()) {
+                                Entry<String, Release> entry = iterator.next();
+                                if (entry.getKey().equals(getRpmDirectory())) {
+                                    Release release = entry.getValue();
+                                    jdkReleaseString = release.getVersion();
+                                }
+                            }
+                        } else if (getArch() == Arch.PPC64LE) {
+                            iterator = Jdk8.RHEL8_PPC64LE_RPMS.entrySet().iterator();
+                            while (iterator.hasNext()) {
+                                Entry<String, Release> entry = iterator.next();
+                                if (entry.getKey().equals(getRpmDirectory())) {
+                                    Release release = entry.getValue();
+                                    jdkReleaseString = release.getVersion();
+                                }
+                            }
+                        }
+                        break;
+                    case CENTOS9:
+                    case RHEL9:
+                        iterator = Jdk8.RHEL9_X86_64_RPMS.entrySet().iterator();
+                        while (iterator.hasNext()) {
+                            Entry<String, Release> entry = iterator.next();
+                            if (entry.getKey().equals(getRpmDirectory())) {
+                                Release release = entry.getValue();
+                                jdkReleaseString = release.getVersion();
+                            }
+                        }
+                        break;
+                    case UNIDENTIFIED:
+                    default:
+                        break;
+                    }
                 }
             }
         }
-        // LinkageError
-        if (haveLinkageError()) {
-            analysis.add(Analysis.ERROR_LINKAGE);
-        }
-        // Thread stack size
-        long threadStackMaxSize = getThreadStackSize();
-        if ((jvmOptions == null || !hasAnalysis(org.github.joa.util.Analysis.WARN_THREAD_STACK_SIZE_TINY.getKey()))
-                && threadStackMaxSize < 1) {
-            addAnalysis(org.github.joa.util.Analysis.WARN_THREAD_STACK_SIZE_TINY);
-        } else if ((jvmOptions == null
-                || !hasAnalysis(org.github.joa.util.Analysis.WARN_THREAD_STACK_SIZE_SMALL.getKey()))
-                && threadStackMaxSize < 128) {
-            addAnalysis(org.github.joa.util.Analysis.WARN_THREAD_STACK_SIZE_SMALL);
-        }
-        // OutOfMemoryError other than "Metaspace" or "Compressed class space" caught and thrown
-        if (haveOomeThrownJavaHeap()) {
-            analysis.add(Analysis.ERROR_OOME_THROWN_JAVA_HEAP);
-        }
-        // "OutOfMemoryError: Metaspace" caught and thrown
-        if (haveOomeThrownMetaspace()) {
-            analysis.add(Analysis.ERROR_OOME_THROWN_METASPACE);
-        }
-        // "OutOfMemoryError: Compressed class space" caught and thrown
-        if (haveOomeThrownCompressedClassSpace()) {
-            analysis.add(Analysis.ERROR_OOME_THROWN_COMP_CLASS_SPACE);
-        }
-        // ShenandoahConcurrentMark::mark_loop_work
-        if ((getStackFrameTop() != null
-                && getStackFrameTop().matches("^.+ShenandoahConcurrentMark::mark_loop_work.+"))) {
-            analysis.add(Analysis.ERROR_JDK8_SHENANDOAH_MARK_LOOP_WORK);
-        }
-        // org.apache.activemq.artemis.nativo.jlibaio.LibaioContext.done()
-        if ((getStackFrameTop() != null && getStackFrameTop()
-                .matches("^.+ org.apache.activemq.artemis.nativo.jlibaio.LibaioContext.done().+"))) {
-            analysis.add(Analysis.ERROR_LIBAIO_CONTEXT_DONE);
-        }
-        // cgroup version
-        if (getCgroupVersion() != null) {
-            analysis.add(Analysis.INFO_CGROUP_VERSION);
-        }
-        if (getJvmMemTotal() > 0 && getOsMemTotal() > 0 && getJvmMemTotal() != getOsMemTotal()) {
-            analysis.add(Analysis.INFO_MEMORY_JVM_NE_SYSTEM);
-            if (haveCgroupMemoryLimit()) {
-                analysis.add(Analysis.INFO_CGROUP_MEMORY_LIMIT);
-            }
-        }
-        // truncated fatal error log
-        if (isTruncated()) {
-            analysis.add(Analysis.INFO_TRUNCATED);
-        }
-        // Storage analysis
-        if (getOs() == Os.LINUX && !dynamicLibraries.isEmpty()) {
-            switch (getStorageDevice()) {
-            case AWS_BLOCK_STORAGE:
-                analysis.add(Analysis.INFO_STORAGE_AWS);
-                break;
-            case NFS:
-                analysis.add(Analysis.INFO_STORAGE_NFS);
-                break;
-            case UNIDENTIFIED:
-                analysis.add(Analysis.INFO_STORAGE_UNKNOWN);
-                break;
-            default:
-                break;
-            }
-        }
-        // Check for explicit gc disabled on EAP7
-        if (getApplication() == Application.JBOSS_EAP7 && jvmOptions != null
-                && JdkUtil.isOptionEnabled(jvmOptions.getDisableExplicitGc())) {
-            // Don't double report
-            if (hasAnalysis(org.github.joa.util.Analysis.WARN_EXPLICIT_GC_DISABLED.getKey())) {
-                jvmOptions.removeAnalysis(org.github.joa.util.Analysis.WARN_EXPLICIT_GC_DISABLED);
-            }
-            analysis.add(Analysis.ERROR_EXPLICIT_GC_DISABLED_EAP7);
-        }
-        // Check for CMS incremental mode with > 2 cpu
-        if (getCpusLogical() > 2 && jvmOptions != null && !JdkUtil.isOptionDisabled(jvmOptions.getUseConcMarkSweepGc())
-                && JdkUtil.isOptionEnabled(jvmOptions.getCmsIncrementalMode())) {
-            analysis.add(Analysis.WARN_CMS_INCREMENTAL_MODE);
-        }
-        // Check for crash caused trying to dereference a null pointer.
-        if (sigInfo != null && sigInfo.getSignalAddress() != null) {
-            if (sigInfo.getSignalAddress().matches(JdkRegEx.POINTER_NULL)) {
-                analysis.add(Analysis.ERROR_POINTER_NULL);
-            } else if (sigInfo.getSignalAddress().matches(JdkRegEx.POINTER_INVALID)) {
-                analysis.add(Analysis.ERROR_POINTER_INVALID);
-            }
+        if (jdkReleaseString == null) {
+            return org.github.krashpad.util.Constants.PROPERTY_UNKNOWN;
+        } else {
+            return jdkReleaseString;
         }
-        if (getStackFrameTop() != null && getStackFrameTop()
-                .matches("J \\d{1,} C2 java\\.lang\\.String\\.compareTo\\(Ljava/lang/Object;\\)I")) {
-            if (getCpuInfos().size() > 0) {
+    }
 
-            }
-        }
-        // Crashes in Java compiled code
-        if (getStackFrameTop() != null && getStackFrameTop().matches("^J \\d{1,}%{0,1} C[12].+$")) {
-            if (getStackFrameTop().matches("^.+java\\.lang\\.String\\.compareTo\\(Ljava\\/lang/Object;\\)I.+$")
-                    && hasCpuCapability("avx2") && (getJvmOptions() == null || !(getJvmOptions().getUseAvx() != null
-                            && getJvmOptions().getUseAvx().equals("-XX:UseAVX=0")))) {
-                analysis.add(Analysis.ERROR_AVX2_STRING_COMPARE_TO);
-            } else {
-                analysis.add(Analysis.ERROR_COMPILED_JAVA_CODE);
-                if (hasCpuCapability("avx2") && (getJvmOptions() == null || (getJvmOptions().getUseAvx() != null
-                        && !getJvmOptions().getUseAvx().equals("-XX:UseAVX=0")))) {
-                    analysis.add(Analysis.INFO_COMPILED_JAVA_CODE_AVX2);
-                }
-            }
-        }
-        // Check for possible JFFI usage
-        if (!dynamicLibraries.isEmpty()) {
-            Iterator<DynamicLibrary> iterator = dynamicLibraries.iterator();
+    /**
+     * @return The value of {@link #getJvmArgs()}, computed from the events.
+     */
+    private String computeJvmArgs() {
+        String jvmArgs = null;
+        if (!vmArguments.isEmpty()) {
+            Iterator<VmArguments> iterator = vmArguments.iterator();
             while (iterator.hasNext()) {
-                DynamicLibrary event = iterator.next();
-                if (event.getFilePath() != null && event.getFilePath().matches("^.+[\\\\/](jffi|JFFI).+$")) {
-                    analysis.add(Analysis.INFO_JFFI);
+                VmArguments event = iterator.next();
+                if (event.isJvmArgs()) {
+                    jvmArgs = event.getValue();
                     break;
                 }
             }
+        } else if (commandLine != null) {
+            if (commandLine.getJvmOptions() != null) {
+                jvmArgs = commandLine.getJvmOptions();
+            }
         }
-        // Check for JVM crash due to temporary font file being removed from java.io.tmpdir.
-        if (getStackFrameTopJava() != null
-                && getStackFrameTopJava().matches("^.+sun\\.font\\.FreetypeFontScaler\\.getGlyphImageNative.+$")) {
-            analysis.add(Analysis.ERROR_FREETYPE_FONT_SCALER_GET_GLYPH_IMAGE_NATIVE);
-        }
-        // Check for JDK8 Deflator contention
-        if ((getArch().equals(Arch.PPC64) || getArch().equals(Arch.PPC64LE)) && getStackFrameTop() != null
-                && getStackFrameTop().matches("^V.+JavaThread::pd_get_top_frame_for_profiling.+$")) {
-            analysis.add(Analysis.ERROR_JFR_PD_GET_TOP_FRAME);
-        }
+        return jvmArgs;
+    }
 
-        // Cannot get library information
-        if (!dynamicLibraries.isEmpty()) {
-            Iterator<DynamicLibrary> iterator = dynamicLibraries.iterator();
+    /**
+     * @return The value of {@link #getJvmMemTotal()}, computed from the events.
+     */
+    private long computeJvmMemTotal() {
+        long physicalMemory = Long.MIN_VALUE;
+        if (!memories.isEmpty()) {
+            Iterator<Memory> iterator = memories.iterator();
             while (iterator.hasNext()) {
-                DynamicLibrary event = iterator.next();
-                if (event.getLogEntry().matches("^Can not get library information for pid = \\d{1,}$")) {
-                    analysis.add(Analysis.ERROR_CANNOT_GET_LIBRARY_INFORMATION);
-                    break;
+                Memory event = iterator.next();
+                if (event.isHeader()) {
+                    Matcher matcher = PatternRegistry.matcher(Memory.PATTERN, event.getLogEntry());
+                    if (matcher.find()) {
+                        physicalMemory = JdkUtil.convertSize(Long.parseLong(matcher.group(4)),
+                                matcher.group(6).charAt(0), 'B');
+                    }
                 }
             }
         }
-        // Check for G1ParScanThreadState::copy_to_survivor_space
-        if (getStackFrameTop() != null
-                && getStackFrameTop().matches("^V.+G1ParScanThreadState::copy_to_survivor_space.+$")
-                && (getJavaVersionMajor() == 8 || (getJavaVersionMajor() == 11 && getJavaVersionMinor() < 10))) {
-            analysis.add(Analysis.ERROR_G1_PAR_SCAN_THREAD_STATE_COPY_TO_SURVIVOR_SPACE);
-            // Don't double report
-            analysis.remove(Analysis.ERROR_LIBJVM_SO);
-        }
-        // Check for PSPromotionManager::copy_to_survivor_space
-        if (getStackFrameTop() != null
-                && getStackFrameTop().matches("^V.+PSPromotionManager::copy_to_survivor_space.+$")) {
-            analysis.add(Analysis.ERROR_PS_PROMOTION_MANAGER_COPY_TO_SURVIVOR_SPACE);
-            // Don't double report
-            analysis.remove(Analysis.ERROR_LIBJVM_SO);
-        }
-        // Check if JVM user ne USERNAME
-        if (getJvmUser() != null && getUsername() != null && !getJvmUser().equals(getUsername())) {
-            analysis.add(Analysis.INFO_JVM_USER_NE_USERNAME);
+        return physicalMemory;
+    }
+
+    /**
+     * @return The value of {@link #getJvmMemoryMax()}, computed from the events.
+     */
+    private long computeJvmMemoryMax() {
+        long jvmMemoryMax = Long.MIN_VALUE;
+        if (getHeapMaxSize() > 0) {
+            jvmMemoryMax = getHeapMaxSize();
         }
-        // Check for many threads
-        if (getJavaThreadCount() > 1000) {
-            if (getJavaThreadCount() > 5000) {
-                analysis.add(Analysis.WARN_THREADS_MANY);
+        if (getMetaspaceMaxSize() > 0) {
+            if (jvmMemoryMax > 0) {
+                jvmMemoryMax += getMetaspaceMaxSize();
             } else {
-                analysis.add(Analysis.INFO_THREADS_MANY);
+                jvmMemoryMax = getMetaspaceMaxSize();
             }
         }
-        // Check environments
-        if (isVMWareEnvironment()) {
-            analysis.add(Analysis.INFO_VMWARE);
-        } else if (isHyperVEnvironment()) {
-            analysis.add(Analysis.INFO_HYPERV);
-        }
-        // Check for mmap resources in deleted state
-        if (!getDynamicLibraries().isEmpty() && getMmapDeletedCount() > 0) {
-            analysis.add(Analysis.WARN_MMAP_DELETED);
-        }
-        // Check for RHEL/JDK rpm version mismatch
-        if (isRhRpmInstall() && getRhelVersion() != null && getJdkRhelVersion() != null) {
-            if ((getJdkRhelVersion().indexOf('.') != -1 && !getRhelVersion().matches(getJdkRhelVersion()))
-                    || (getJdkRhelVersion().indexOf('.') == -1
-                            && !getRhelVersion().startsWith((getJdkRhelVersion())))) {
-                analysis.add(0, Analysis.WARN_RHEL_JDK_RPM_MISMATCH);
-                if (analysis.contains(Analysis.WARN_JDK_NOT_LATEST)) {
-                    analysis.remove(Analysis.WARN_JDK_NOT_LATEST);
-                }
+        // Thread stack space
+        if (getThreadStackMemory() > 0) {
+            if (jvmMemoryMax > 0) {
+                jvmMemoryMax += getThreadStackMemory();
+            } else {
+                jvmMemoryMax = getThreadStackMemory();
             }
         }
-        // Crash in HashMap
-        if (getStackFrameTop() != null && getStackFrameTop().matches("^J.+java\\.util\\.HashMap.+$")) {
-            analysis.add(Analysis.ERROR_HASHMAP);
+        // code cache
+        if (jvmMemoryMax > 0) {
+            jvmMemoryMax += getCodeCacheSize();
+        } else {
+            jvmMemoryMax = getCodeCacheSize();
         }
-        // Specific CompilerThread crashes
-        if (getCurrentThreadName() != null && getCurrentThreadName().matches("^.+C2 CompilerThread\\d{1,}.+$")) {
-            if (isInHeader("guarantee\\(n != NULL\\) failed: No Node.") && isInStack("IdealLoopTree::beautify_loops")) {
-                analysis.add(Analysis.ERROR_COMPILER_THREAD_C2_BEAUTIFY_LOOPS);
-                // Don't double report
-                analysis.remove(Analysis.ERROR_COMPILER_THREAD);
-            } else if (getStackFrameTop() != null
-                    && getStackFrameTop().matches("^.*MinINode::Ideal\\(PhaseGVN\\*, bool\\).*$")
-                    && ((getJavaSpecification() == JavaSpecification.JDK8
-                            && JdkUtil.getJdk8UpdateNumber(getJdkReleaseString()) > 0
-                            && JdkUtil.getJdk8UpdateNumber(getJdkReleaseString()) < 275)
-                            || (getJavaSpecification() == JavaSpecification.JDK11
-                                    && JdkUtil.getJdk11UpdateNumber(getJdkReleaseString()) > 0
-                                    && JdkUtil.getJdk11UpdateNumber(getJdkReleaseString()) < 10))) {
-                analysis.add(Analysis.ERROR_COMPILER_THREAD_C2_MININODE_IDEAL);
-                // Don't double report
-                analysis.remove(Analysis.ERROR_COMPILER_THREAD);
-            } else if ((isInHeader("ok_to_convert\\(Node\\*, Node\\*\\)")
-                    || isInHeader("SubINode::Ideal\\(PhaseGVN\\*, bool\\)")
-                    || isInStack("^.*IfNode::fold_compares\\(PhaseIterGVN\\*\\).*$"))
-                    && ((getJavaSpecification() == JavaSpecification.JDK11
-                            && JdkUtil.getJdk11UpdateNumber(getJdkReleaseString()) > 0
-                            && JdkUtil.getJdk11UpdateNumber(getJdkReleaseString()) < 9))) {
-                analysis.add(Analysis.ERROR_COMPILER_THREAD_C2_IFNODE_FOLDCOMPARES);
-                // Don't double report
-                analysis.remove(Analysis.ERROR_COMPILER_THREAD);
-            } else if (!getCurrentCompileTasks().isEmpty()) {
-                Iterator<CurrentCompileTask> iterator = getCurrentCompileTasks().iterator();
-                while (iterator.hasNext()) {
-                    CurrentCompileTask event = iterator.next();
-                    if (event.getLogEntry() != null && event.getLogEntry()
-                            .matches("^.+sun\\.security\\.ssl\\.SSLEngineInputRecord::decodeInputRecord.+")) {
-                        if ((getJavaSpecification() == JavaSpecification.JDK11
-                                && JdkUtil.getJdk11UpdateNumber(getJdkReleaseString()) == 16)
-                                || (getJavaSpecification() == JavaSpecification.JDK17
-                                        && JdkUtil.getJdk17UpdateNumber(getJdkReleaseString()) == 4)) {
-                            analysis.add(Analysis.ERROR_OOME_COMPILER_THREAD_C2_SSL_DECODE);
-                            // Don't double report
-                            analysis.remove(Analysis.ERROR_COMPILER_THREAD);
-                            analysis.remove(Analysis.ERROR_OOME_NATIVE_OR_EXTERNAL);
-                            analysis.remove(Analysis.ERROR_OOME_JVM);
-                        }
-                        break;
-                    }
-                }
-            }
+        // Direct memory
+        if (jvmMemoryMax > 0) {
+            jvmMemoryMax += getDirectMemoryMaxSize();
+        } else {
+            jvmMemoryMax = getDirectMemoryMaxSize();
         }
-        // Crash during shutdown
-        if (!getEvents().isEmpty()) {
-            Event lastEventEvent = getEvents().get(getEvents().size() - 1);
-            if (lastEventEvent.getLogEntry().matches("^.+Executing VM operation: Exit$")) {
-                analysis.add(Analysis.INFO_SHUTDOWN);
+        return jvmMemoryMax;
+    }
+
+    /**
+     * @return The value of {@link #getNativeLibrariesUnknown()}, computed from the events.
+     */
+    private List<String> computeNativeLibrariesUnknown() {
+        List<String> unidentifiedNativeLibraries = new ArrayList<String>();
+        List<String> nativeLibraries = getNativeLibraries();
+        if (!nativeLibraries.isEmpty()) {
+            Iterator<String> iterator = nativeLibraries.iterator();
+            while (iterator.hasNext()) {
+                String nativeLibraryPath = iterator.next();
+                String nativeLibary = org.github.joa.util.JdkRegEx.getFile(nativeLibraryPath);
+                if (!KrashUtil.NATIVE_LIBRARIES_JBOSS.contains(nativeLibary)
+                        && !KrashUtil.NATIVE_LIBRARIES_LINUX.contains(nativeLibraryPath)
+                        && !KrashUtil.NATIVE_LIBRARIES_LINUX_JAVA.contains(nativeLibary)
+                        && !KrashUtil.NATIVE_LIBRARIES_ORACLE.contains(nativeLibary)
+                        && !KrashUtil.NATIVE_LIBRARIES_TOMCAT
+                                .contains(org.github.joa.util.JdkRegEx.getFile(nativeLibraryPath))
+                        && !KrashUtil.NATIVE_LIBRARIES_VMWARE
+                                .contains(org.github.joa.util.JdkRegEx.getFile(nativeLibraryPath))
+                        && !(KrashUtil.NATIVE_LIBRARIES_WINDOWS.contains(nativeLibary)
+                                && PatternRegistry.matches(nativeLibraryPath,
+                                        KrashUtil.NATIVE_LIBRARY_WINDOWS_SYSTEM_HOME + ".+"))
+                        && !KrashUtil.NATIVE_LIBRARIES_WINDOWS_JAVA.contains(nativeLibary)) {
+                    unidentifiedNativeLibraries.add(nativeLibraryPath);
+                }
             }
         }
-        // iText
-        if (isInStack("com\\.itextpdf\\.text")) {
-            analysis.add(0, Analysis.WARN_ITEXT);
-        } else if (!dynamicLibraries.isEmpty()) {
-            Iterator<DynamicLibrary> iterator = dynamicLibraries.iterator();
+        return unidentifiedNativeLibraries;
+    }
+
+    /**
+     * @return The value of {@link #getOs()}, computed from the events.
+     */
+    private Os computeOs() {
+        Os osType = Os.UNIDENTIFIED;
+        String osString = getOsString();
+        if (osString != null) {
+            if (PatternRegistry.matches(osString, ".*Linux.*")) {
+                osType = Os.LINUX;
+            } else if (PatternRegistry.matches(osString, "^Windows.+$")) {
+                osType = Os.WINDOWS;
+            } else if (PatternRegistry.matches(osString, ".+Solaris.+")) {
+                osType = Os.SOLARIS;
+            }
+        } else if (!headers.isEmpty()) {
+            // Check header
+            Iterator<Header> iterator = headers.iterator();
             while (iterator.hasNext()) {
-                DynamicLibrary event = iterator.next();
-                if (event.getLogEntry() != null && event.getLogEntry().matches("^.+itext.*\\.jar$")) {
-                    analysis.add(Analysis.INFO_ITEXT);
+                Header he = iterator.next();
+                if (he.isJavaVm()) {
+                    osType = he.getOsType();
                     break;
                 }
             }
         }
-        // Lucene
-        if (isInStack("org\\.apache\\.lucene\\.")) {
-            analysis.add(0, Analysis.WARN_LUCENE);
-        }
-        // IBM Toolkit
-        if (!dynamicLibraries.isEmpty()) {
-            Iterator<DynamicLibrary> iterator = dynamicLibraries.iterator();
+        return osType;
+    }
+
+    /**
+     * @return The value of {@link #getOsCommitLimit()}, computed from the events.
+     */
+    private long computeOsCommitLimit() {
+        long commitLimit = Long.MIN_VALUE;
+        if (!meminfos.isEmpty()) {
+            String regexCommitLimit = "CommitLimit:[ ]{0,}(\\d{1,}) kB";
+            Pattern pattern = PatternRegistry.getPattern(regexCommitLimit);
+            Iterator<Meminfo> iterator = meminfos.iterator();
             while (iterator.hasNext()) {
-                DynamicLibrary event = iterator.next();
-                if (event.getLogEntry() != null && event.getLogEntry().matches("^.+jt400\\.jar$")) {
-                    analysis.add(Analysis.INFO_IBM_TOOLKIT);
+                Meminfo event = iterator.next();
+                Matcher matcher = PatternRegistry.matcher(pattern, event.getLogEntry());
+                if (matcher.find()) {
+                    commitLimit = JdkUtil.convertSize(Long.parseLong(matcher.group(1)), 'K', 'B');
                     break;
                 }
             }
         }
-        // ERROR_JDK8_LIBC_CFREE
-        if (getJavaSpecification() == JavaSpecification.JDK8
-                && JdkUtil.getJdk8UpdateNumber(getJdkReleaseString()) < 262) {
-            if (!headers.isEmpty()) {
-                Iterator<Header> iterator = headers.iterator();
-                while (iterator.hasNext()) {
-                    Header event = iterator.next();
-                    if (event.isProblematicFrame() && event.getLogEntry().matches("^.+libc.+cfree\\+0x1c$")
-                            && (getJvmOptions() == null || getJvmOptions().getUseGcLogFileRotation() != null)
-                            && getCurrentThreadName() != null
-                            && getCurrentThreadName().matches("^ConcurrentGCThread .+$")) {
-                        analysis.add(Analysis.ERROR_JDK8_LIBC_CFREE);
-                        break;
+        return commitLimit;
+    }
+
+    /**
+     * @return The value of {@link #getOsMemTotal()}, computed from the events.
+     */
+    private long computeOsMemTotal() {
+        long memTotal = getMemTotal();
+        if (memTotal < 0 && !memories.isEmpty()) {
+            Iterator<Memory> iterator = memories.iterator();
+            while (iterator.hasNext()) {
+                Memory event = iterator.next();
+                if (event.isHeader()) {
+                    Pattern pattern = PatternRegistry.getPattern(Memory._REGEX_HEADER);
+                    Matcher matcher = PatternRegistry.matcher(pattern, event.getLogEntry());
+                    if (matcher.find()) {
+                        memTotal = JdkUtil.convertSize(Long.parseLong(matcher.group(3)), matcher.group(5).charAt(0),
+                                'B');
                     }
+                    break;
                 }
             }
         }
-        // VM operations
-        if (vmOperation != null) {
-            if (vmOperation.getVmOperation().equals("BulkRevokeBias")) {
-                analysis.add(Analysis.INFO_VM_OPERATION_BULK_REVOKE_BIAS);
-            } else if (vmOperation.getVmOperation().equals("CGC_Operation")) {
-                analysis.add(Analysis.INFO_VM_OPERATION_CONCURRENT_GC);
-            } else if (vmOperation.getVmOperation().equals("GetThreadListStackTraces")) {
-                analysis.add(Analysis.WARN_VM_OPERATION_THREAD_DUMP_JVMTI);
-            } else if (vmOperation.getVmOperation().equals("HeapDumper")) {
-                analysis.add(Analysis.INFO_VM_OPERATION_HEAP_DUMP);
-            } else if (vmOperation.getVmOperation().equals("PrintThreads")) {
-                analysis.add(Analysis.INFO_VM_OPERATION_THREAD_DUMP);
+        return memTotal;
+    }
+
+    /**
+     * @return The value of {@link #getOsString()}, computed from the events.
+     */
+    private String computeOsString() {
+        String osString = null;
+        if (!osInfos.isEmpty()) {
+            Iterator<OsInfo> iterator = osInfos.iterator();
+            while (iterator.hasNext()) {
+                OsInfo event = iterator.next();
+                if (event.isHeader()) {
+                    Matcher matcher = PatternRegistry.matcher(OsInfo.PATTERN, event.getLogEntry());
+                    if (matcher.find()) {
+                        if (matcher.group(2) != null) {
+                            osString = matcher.group(4).trim();
+                        } else if (iterator.hasNext()) {
+                            // OS is on separate line
+                            event = iterator.next();
+                            osString = event.getLogEntry().trim();
+                        }
+                    }
+                    break;
+                }
             }
+        } else if (host != null && host.getOsString() != null) {
+            osString = host.getOsString();
         }
-        // DBCP2
-        String orgApacheCommonsDbcp2 = "org[\\.\\/]apache[\\.\\/]commons[\\.\\/]dbcp2[\\.\\/]";
-        if (isInStack(orgApacheCommonsDbcp2)) {
-            analysis.add(Analysis.INFO_DBCP2);
-        }
-        // PostgreSQL connection
-        String postgreSqlConnection = "org[\\.\\/]postgresql[\\.\\/]Driver[\\.\\/]connect\\(";
-        if (isInStack(postgreSqlConnection)) {
-            analysis.add(Analysis.INFO_POSTGRESQL_CONNECTION);
-        }
-        // ld.so.preload
-        if (!getLdPreloadFiles().isEmpty()) {
-            analysis.add(Analysis.INFO_LD_SO_PRELOAD);
-        }
-        // Unknown native libraries
-        if (!getNativeLibrariesUnknown().isEmpty()) {
-            analysis.add(Analysis.INFO_NATIVE_LIBRARIES_UNKNOWN);
-        }
-        // Dynatrace
-        if (getStackFrameTop() != null
-                && getStackFrameTop().matches("^.*" + JdkRegEx.NATIVE_LIBRARY_DYNATRACE + ".*$")) {
-            // Crash in Dynatrace
-            analysis.add(Analysis.ERROR_DYNATRACE);
-        } else if (isInStack(JdkRegEx.NATIVE_LIBRARY_DYNATRACE)) {
-            // Dynatrace in stack
-            analysis.add(0, Analysis.WARN_DYNATRACE);
-        } else if (!getNativeLibrariesUnknown().isEmpty()) {
-            // Dynatrace detected
-            Iterator<String> iterator = getNativeLibrariesUnknown().iterator();
+        return osString;
+    }
+
+    /**
+     * @return The value of {@link #getOsVersion()}, computed from the events.
+     */
+    private OsVersion computeOsVersion() {
+        OsVersion osVersion = OsVersion.UNIDENTIFIED;
+        if (!osInfos.isEmpty()) {
+            Iterator<OsInfo> iterator = osInfos.iterator();
             while (iterator.hasNext()) {
-                String nativeLibraryPath = iterator.next();
-                String nativeLibrary = org.github.joa.util.JdkRegEx.getFile(nativeLibraryPath);
-                if (nativeLibrary != null && nativeLibrary.matches(JdkRegEx.NATIVE_LIBRARY_DYNATRACE)) {
-                    analysis.add(Analysis.INFO_DYNATRACE);
+                OsInfo event = iterator.next();
+                if (event.isHeader()) {
+                    if (PatternRegistry.matches(event.getLogEntry(), "^OS:$") && iterator.hasNext()) {
+                        // OS on next line
+                        event = iterator.next();
+                    }
+                    if (PatternRegistry.matches(event.getLogEntry(),
+                            "^.*Red Hat Enterprise Linux (Server|Workstation) release 6.+$")) {
+                        osVersion = OsVersion.RHEL6;
+                    } else if (PatternRegistry.matches(event.getLogEntry(),
+                            "^.*Red Hat Enterprise Linux (Server|Workstation) release 7.+$")) {
+                        osVersion = OsVersion.RHEL7;
+                    } else if (PatternRegistry.matches(event.getLogEntry(),
+                            "^.*Red Hat Enterprise Linux release 8.+$")) {
+                        osVersion = OsVersion.RHEL8;
+                    } else if (PatternRegistry.matches(event.getLogEntry(),
+                            "^.*Red Hat Enterprise Linux release 9.+$")) {
+                        osVersion = OsVersion.RHEL9;
+                    } else if (PatternRegistry.matches(event.getLogEntry(), "^.*Windows 10.+$")) {
+                        osVersion = OsVersion.WINDOWS10;
+                    } else if (PatternRegistry.matches(event.getLogEntry(), "^.*CentOS Linux release 6.+$")) {
+                        osVersion = OsVersion.CENTOS6;
+                    } else if (PatternRegistry.matches(event.getLogEntry(), "^.*CentOS Linux release 7.+$")) {
+                        osVersion = OsVersion.CENTOS7;
+                    } else if (PatternRegistry.matches(event.getLogEntry(), "^.*CentOS Linux release 8.+$")) {
+                        osVersion = OsVersion.CENTOS8;
+                    }
                     break;
                 }
             }
         }
-        // Wily/DX APM
-        if ((getStackFrameTop() != null && getStackFrameTop().matches("^.*" + JdkRegEx.NATIVE_LIBRARY_WILY + ".*$"))
-                || (getStackFrameTopJava() != null
-                        && getStackFrameTopJava().matches("^.+ com\\.wily\\.introscope\\..+"))) {
-            // Crash in Wily
-            analysis.add(Analysis.ERROR_WILY);
-        } else if (isInStack(" com\\.wily\\.introscope\\.")) {
-            // Wily in stack
-            analysis.add(0, Analysis.WARN_WILY);
-        } else if (!getNativeLibrariesUnknown().isEmpty()) {
-            // Wily detected
-            Iterator<String> iterator = getNativeLibrariesUnknown().iterator();
-            while (iterator.hasNext()) {
-                String nativeLibraryPath = iterator.next();
-                String nativeLibrary = org.github.joa.util.JdkRegEx.getFile(nativeLibraryPath);
-                if (nativeLibrary != null && nativeLibrary.matches(JdkRegEx.NATIVE_LIBRARY_WILY)) {
-                    analysis.add(Analysis.INFO_WILY);
+        if (osVersion == OsVersion.UNIDENTIFIED && uname != null) {
+            osVersion = uname.getOsVersion();
+        }
+        return osVersion;
+    }
+
+    /**
+     * @return The value of {@link #isRhBuildOpenJdk()}, computed from the events.
+     */
+    private boolean computeRhBuildOpenJdk() {
+        return isRhRpmInstall() || isRhLinuxZipInstall() || isRhWindowsZipInstall() || isRhRpm();
+    }
+
+    /**
+     * @return The value of {@link #isRhRpmInstall()}, computed from the events.
+     */
+    private boolean computeRhRpmInstall() {
+        boolean isRhelRpmInstall = false;
+        String rpmDirectory = getRpmDirectory();
+        if (rpmDirectory != null) {
+            if (getJavaSpecification() == JavaSpecification.JDK8) {
+                switch (getOsVersion()) {
+                case CENTOS6:
+                case RHEL6:
+                    isRhelRpmInstall = Jdk8.RHEL6_X86_64_RPMS.containsKey(rpmDirectory) && getJdkBuildDate() != null
+                            && getJdkBuildDate()
+                                    .compareTo(Jdk8.RHEL6_X86_64_RPMS.get(rpmDirectory).getBuildDate()) == 0;
+                    break;
+                case CENTOS7:
+                case RHEL7:
+                    if (getArch() == Arch.X86_64) {
+                        isRhelRpmInstall = Jdk8.RHEL7_X86_64_RPMS.containsKey(rpmDirectory) && getJdkBuildDate() != null
+                                && getJdkBuildDate()
+                                        .compareTo(Jdk8.RHEL7_X86_64_RPMS.get(rpmDirectory).getBuildDate()) == 0;
+                    } else if (getArch() == Arch.PPC64) {
+                        isRhelRpmInstall = Jdk8.RHEL7_PPC64_RPMS.containsKey(rpmDirectory) && getJdkBuildDate() != null
+                                && getJdkBuildDate()
+                                        .compareTo(Jdk8.RHEL7_PPC64_RPMS.get(rpmDirectory).getBuildDate()) == 0;
+                    } else if (getArch() == Arch.PPC64LE) {
+                        isRhelRpmInstall = Jdk8.RHEL7_PPC64LE_RPMS.containsKey(rpmDirectory)
+                                && getJdkBuildDate() != null && getJdkBuildDate()
+                                        .compareTo(Jdk8.RHEL7_PPC64LE_RPMS.get(rpmDirectory).getBuildDate()) == 0;
+                    }
+                    break;
+                case CENTOS8:
+                case RHEL8:
+                    if (getArch() == Arch.X86_64) {
+                        isRhelRpmInstall = Jdk8.RHEL8_X86_64_RPMS.containsKey(rpmDirectory) && getJdkBuildDate() != null
+                                && getJdkBuildDate()
+                                        .compareTo(Jdk8.RHEL8_X86_64_RPMS.get(rpmDirectory).getBuildDate()) == 0;
+                    } else if (getArch() == Arch.PPC64LE) {
+                        isRhelRpmInstall = Jdk8.RHEL8_PPC64LE_RPMS.containsKey(rpmDirectory)
+                                && getJdkBuildDate() != null && getJdkBuildDate()
+                                        .compareTo(Jdk8.RHEL8_PPC64LE_RPMS.get(rpmDirectory).getBuildDate()) == 0;
+                    }
+                    break;
+                case CENTOS9:
+                case RHEL9:
+                    isRhelRpmInstall = Jdk8.RHEL9_X86_64_RPMS.containsKey(rpmDirectory) && getJdkBuildDate() != null
+                            && getJdkBuildDate()
+                                    .compareTo(Jdk8.RHEL9_X86_64_RPMS.get(rpmDirectory).getBuildDate()) == 0;
+                    break;
+                case UNIDENTIFIED:
+                default:
+                    break;
+                }
+            } else if (getJavaSpecification() == JavaSpecification.JDK11) {
+                switch (getOsVersion()) {
+                case CENTOS7:
+                case RHEL7:
+                    isRhelRpmInstall = Jdk11.RHEL7_X86_64_RPMS.containsKey(rpmDirectory) && getJdkBuildDate() != null
+                            && getJdkBuildDate()
+                                    .compareTo(Jdk11.RHEL7_X86_64_RPMS.get(rpmDirectory).getBuildDate()) == 0;
+                    break;
+                case CENTOS8:
+                case RHEL8:
+                    isRhelRpmInstall = Jdk11.RHEL8_X86_64_RPMS.containsKey(rpmDirectory) && getJdkBuildDate() != null
+                            && getJdkBuildDate()
+                                    .compareTo(Jdk11.RHEL8_X86_64_RPMS.get(rpmDirectory).getBuildDate()) == 0;
+                    break;
+                case RHEL9:
+                    isRhelRpmInstall = Jdk11.RHEL9_X86_64_RPMS.containsKey(rpmDirectory) && getJdkBuildDate() != null
+                            && getJdkBuildDate()
+                                    .compareTo(Jdk11.RHEL9_X86_64_RPMS.get(rpmDirectory).getBuildDate()) == 0;
+                    break;
+                case CENTOS6:
+                case RHEL6:
+                case UNIDENTIFIED:
+                default:
+                    break;
+                }
+            } else if (getJavaSpecification() == JavaSpecification.JDK17) {
+                switch (getOsVersion()) {
+                case CENTOS8:
+                case RHEL8:
+                    isRhelRpmInstall = Jdk17.RHEL8_X86_64_RPMS.containsKey(rpmDirectory) && getJdkBuildDate() != null
+                            && getJdkBuildDate()
+                                    .compareTo(Jdk17.RHEL8_X86_64_RPMS.get(rpmDirectory).getBuildDate()) == 0;
+                    break;
+                case RHEL9:
+                    isRhelRpmInstall = Jdk17.RHEL9_X86_64_RPMS.containsKey(rpmDirectory) && getJdkBuildDate() != null
+                            && getJdkBuildDate()
+                                    .compareTo(Jdk17.RHEL9_X86_64_RPMS.get(rpmDirectory).getBuildDate()) == 0;
                     break;
-                }
-            }
-        }
-        // AppDynamics
-        if (getJvmOptions() != null && getJvmOptions().getJavaagent() != null) {
-            Iterator<String> iterator = getJvmOptions().getJavaagent().iterator();
-            while (iterator.hasNext()) {
-                String javaagent = iterator.next();
-                if (javaagent.matches(JdkRegEx.JAVAAGENT_APP_DYNAMICS)) {
-                    analysis.add(Analysis.INFO_APP_DYNAMICS_DETECTED);
+                case CENTOS6:
+                case RHEL6:
+                case CENTOS7:
+                case RHEL7:
+                case UNIDENTIFIED:
+                default:
                     break;
                 }
-            }
-        }
-        if (!analysis.contains(Analysis.INFO_APP_DYNAMICS_DETECTED) && compilationEvents != null
-                && isInCompilationEvents(JdkRegEx.PACKAGE_APP_DYNAMICS)) {
-            analysis.add(Analysis.INFO_APP_DYNAMICS_DETECTED);
-        }
-        if (!analysis.contains(Analysis.INFO_APP_DYNAMICS_DETECTED) && getJvmOptions() != null
-                && getJvmOptions().getJavaagent() != null) {
-            Iterator<String> iterator = getJvmOptions().getJavaagent().iterator();
-            while (iterator.hasNext()) {
-                String javaagent = iterator.next();
-                if (javaagent.endsWith(JdkRegEx.JAR_APP_DYNAMICS)) {
-                    analysis.add(Analysis.INFO_APP_DYNAMICS_POSSIBLE);
+            } else if (getJavaSpecification() == JavaSpecification.JDK21) {
+                switch (getOsVersion()) {
+                case CENTOS8:
+                case RHEL8:
+                    isRhelRpmInstall = Jdk21.RHEL8_X86_64_RPMS.containsKey(rpmDirectory) && getJdkBuildDate() != null
+                            && getJdkBuildDate()
+                                    .compareTo(Jdk21.RHEL8_X86_64_RPMS.get(rpmDirectory).getBuildDate()) == 0;
                     break;
-                }
-            }
-        }
-        // RHEL9 + JDK8
-        if (getOsVersion() == OsVersion.RHEL9 && getJavaSpecification() == JavaSpecification.JDK8) {
-            analysis.add(Analysis.INFO_RHEL9_JDK8);
-        }
-        // Crash in 3rd party or unknown library
-        if (getNativeLibraryInCrash() != null) {
-            if (!getNativeLibrariesUnknown().isEmpty()) {
-                Iterator<String> iterator = getNativeLibrariesUnknown().iterator();
-                while (iterator.hasNext()) {
-                    String unknownNativeLibary = iterator.next();
-                    if (unknownNativeLibary.contains(getNativeLibraryInCrash())) {
-                        analysis.add(Analysis.ERROR_CRASH_NATIVE_LIBRARY_UNKNOWN);
-                        break;
-                    }
-                }
-            }
-        }
-        // pki_tomcat
-        if (getApplication() == Application.PKI_TOMCAT) {
-            analysis.add(Analysis.INFO_PKI_TOMCAT);
-        }
-        // JSS
-        if ((getStackFrameTop() != null && getStackFrameTop().matches("^.*" + JdkRegEx.NATIVE_LIBRARY_JSS + ".*$"))
-                || (getStackFrameTopJava() != null && getStackFrameTopJava().matches("^.+ org\\.mozilla\\.jss\\..+"))) {
-            // Crash in JSS
-            analysis.add(Analysis.ERROR_JSS);
-        } else if (isInStack(" org\\.mozilla\\.jss\\.")) {
-            // JSS in stack
-            analysis.add(0, Analysis.WARN_JSS);
-        } else if (!getNativeLibraries().isEmpty()) {
-            // JSS detected
-            Iterator<String> iterator = getNativeLibraries().iterator();
-            while (iterator.hasNext()) {
-                String nativeLibraryPath = iterator.next();
-                String nativeLibrary = org.github.joa.util.JdkRegEx.getFile(nativeLibraryPath);
-                if (nativeLibrary != null && nativeLibrary.matches(JdkRegEx.NATIVE_LIBRARY_JSS)) {
-                    analysis.add(Analysis.INFO_JSS);
+                case RHEL9:
+                    isRhelRpmInstall = Jdk21.RHEL9_X86_64_RPMS.containsKey(rpmDirectory) && getJdkBuildDate() != null
+                            && getJdkBuildDate()
+                                    .compareTo(Jdk21.RHEL9_X86_64_RPMS.get(rpmDirectory).getBuildDate()) == 0;
+                    break;
+                case CENTOS6:
+                case RHEL6:
+                case CENTOS7:
+                case RHEL7:
+                case UNIDENTIFIED:
+                default:
                     break;
                 }
             }
         }
-        // Microsoft SQL Server native driver
-        if (!getNativeLibrariesUnknown().isEmpty()) {
-            Iterator<String> iterator = getNativeLibrariesUnknown().iterator();
+        return isRhelRpmInstall;
+    }
+
+    /**
+     * @return The value of {@link #isRhel()}, computed from the events.
+     */
+    private boolean computeRhel() {
+        boolean isRhel = false;
+        if (!osInfos.isEmpty()) {
+            Iterator<OsInfo> iterator = osInfos.iterator();
             while (iterator.hasNext()) {
-                String nativeLibraryPath = iterator.next();
-                String nativeLibrary = org.github.joa.util.JdkRegEx.getFile(nativeLibraryPath);
-                if (nativeLibrary != null && nativeLibrary.matches(JdkRegEx.NATIVE_LIBRARY_MICROSOFT_SQL_SERVER)) {
-                    analysis.add(Analysis.INFO_MICROSOFT_SQL_SERVER_NATIVE);
+                OsInfo event = iterator.next();
+                if (event.isHeader()) {
+                    if (PatternRegistry.matches(event.getLogEntry(), "^OS:$") && iterator.hasNext()) {
+                        // OS string on next line
+                        event = iterator.next();
+                    }
+                    isRhel = PatternRegistry.matches(event.getLogEntry(), "^.*Red Hat Enterprise Linux.+$");
                     break;
                 }
             }
         }
-        // Detective work when debug symbols are missing but many clues exist
-        if ((analysis.contains(Analysis.ERROR_JVM_DLL) || analysis.contains(Analysis.ERROR_LIBJVM_SO))
-                && analysis.contains(Analysis.WARN_DEBUG_SYMBOLS) && (analysis.contains(Analysis.ERROR_POINTER_NULL)
-                        || analysis.contains(Analysis.ERROR_POINTER_INVALID))) {
-            if (analysis.contains(Analysis.INFO_APP_DYNAMICS_DETECTED)
-                    || analysis.contains(Analysis.INFO_APP_DYNAMICS_POSSIBLE)
-                            && analysis.contains(Analysis.INFO_VM_OPERATION_CONCURRENT_GC)) {
-                if (getJavaSpecification() == JavaSpecification.JDK11
-                        && JdkUtil.getJdk11UpdateNumber(getJdkReleaseString()) <= 12) {
-                    analysis.add(Analysis.ERROR_MODULE_ENTRY_PURGE_READS_POSSIBLE);
-                    analysis.remove(Analysis.ERROR_JVM_DLL);
-                    analysis.remove(Analysis.ERROR_LIBJVM_SO);
-                }
-            }
-        }
-        // JBoss native library detection
-        if (!getNativeLibrariesJBoss().isEmpty()) {
-            analysis.add(Analysis.INFO_NATIVE_LIBRARIES_JBOSS);
-        }
-        // JBoss native library detection
-        if (!getNativeLibrariesTomcat().isEmpty()) {
-            analysis.add(Analysis.INFO_NATIVE_LIBRARIES_TOMCAT);
-        }
-        // VMware native library detection
-        if (!getNativeLibrariesVmWare().isEmpty()) {
-            analysis.add(Analysis.INFO_NATIVE_LIBRARIES_VMWARE);
-        }
-        // Check max_map_count limit
-        if (dynamicLibrariesMappingCount > 0) {
-            if (getMaxMapCountLimit() > 0) {
-                if (JdkMath.calcPercent(dynamicLibrariesMappingCount, getMaxMapCountLimit()) >= 99) {
-                    analysis.add(Analysis.WARN_MAX_MAP_COUNT_LIMIT);
-                }
-            } else {
-                int defaultMaxMapCountLimit = 65530;
-                if (JdkMath.calcPercent(dynamicLibrariesMappingCount, defaultMaxMapCountLimit) >= 99) {
-                    analysis.add(Analysis.WARN_MAX_MAP_COUNT_LIMIT_POSSIBLE);
-                }
+        return isRhel;
+    }
+
+    /**
+     * @return The value of {@link #getRhelVersion()}, computed from the events.
+     */
+    private String computeRhelVersion() {
+        String rhelVersion = null;
+        String osString = getOsString();
+        if (osString != null) {
+            String regex = "^.*Red Hat Enterprise Linux (Server )?release (\\d\\.\\d{1,2}).*$";
+            Pattern pattern = PatternRegistry.getPattern(regex);
+            Matcher matcher = PatternRegistry.matcher(pattern, osString);
+            if (matcher.find()) {
+                rhelVersion = matcher.group(2);
             }
         }
-        if ((getJavaSpecification() == JavaSpecification.JDK8
-                && JdkUtil.getJdk8UpdateNumber(getJdkReleaseString()) == 372)
-                || (getJavaSpecification() == JavaSpecification.JDK11
-                        && JdkUtil.getJdk11UpdateNumber(getJdkReleaseString()) == 19)
-                || (getJavaSpecification() == JavaSpecification.JDK17
-                        && JdkUtil.getJdk17UpdateNumber(getJdkReleaseString()) == 7)) {
-            if ((getStackFrameTopCompiledJavaCode() != null && getStackFrameTopCompiledJavaCode()
-                    .matches("^.+java\\.util\\.GregorianCalendar\\.computeTime\\(\\).+$"))
-                    || isInCompilationEvents("java\\.util\\.GregorianCalendar::computeTime")) {
-                analysis.add(Analysis.ERROR_GREGORIANCALENDAR_COMPUTETIME);
-                if (hasAnalysis(Analysis.ERROR_POINTER_NULL.getKey())) {
-                    removeAnalysis(Analysis.ERROR_POINTER_NULL);
+        return rhelVersion;
+    }
+
+    /**
+     * @return The value of {@link #getRpmDirectory()}, computed from the events.
+     */
+    private String computeRpmDirectory() {
+        String rpmDirectory = null;
+        if (getOs() == Os.LINUX) {
+            if (!dynamicLibraries.isEmpty()) {
+                Iterator<DynamicLibrary> iterator = dynamicLibraries.iterator();
+                while (iterator.hasNext()) {
+                    DynamicLibrary event = iterator.next();
+                    if (event.getFilePath() != null) {
+                        Pattern pattern = null;
+                        Matcher matcher = null;
+                        if (PatternRegistry.matches(event.getFilePath(), JdkRegEx.RH_RPM_OPENJDK8_LIBJVM_PATH)) {
+                            pattern = PatternRegistry.getPattern(JdkRegEx.RH_RPM_OPENJDK8_LIBJVM_PATH);
+                            matcher = PatternRegistry.matcher(pattern, event.getFilePath());
+                            if (matcher.find()) {
+                                rpmDirectory = matcher.group(1);
+                            }
+                            break;
+                        } else if (PatternRegistry.matches(event.getFilePath(),
+                                JdkRegEx.RH_RPM_OPENJDK11_LIBJVM_PATH)) {
+                            pattern = PatternRegistry.getPattern(JdkRegEx.RH_RPM_OPENJDK11_LIBJVM_PATH);
+                            matcher = PatternRegistry.matcher(pattern, event.getFilePath());
+                            if (matcher.find()) {
+                                rpmDirectory = matcher.group(1);
+                            }
+                            break;
+                        } else if (PatternRegistry.matches(event.getFilePath(),
+                                JdkRegEx.RH_RPM_OPENJDK17_LIBJVM_PATH)) {
+                            pattern = PatternRegistry.getPattern(JdkRegEx.RH_RPM_OPENJDK17_LIBJVM_PATH);
+                            matcher = PatternRegistry.matcher(pattern, event.getFilePath());
+                            if (matcher.find()) {
+                                rpmDirectory = matcher.group(1);
+                            }
+                            break;
+                        } else if (PatternRegistry.matches(event.getFilePath(),
+                                JdkRegEx.RH_RPM_OPENJDK21_LIBJVM_PATH)) {
+                            pattern = PatternRegistry.getPattern(JdkRegEx.RH_RPM_OPENJDK21_LIBJVM_PATH);
+                            matcher = PatternRegistry.matcher(pattern, event.getFilePath());
+                            if (matcher.find()) {
+                                rpmDirectory = matcher.group(1);
+                            }
+                            break;
+                        }
+                    }
                 }
             }
         }
-        // Check for _JAVA_SR_SIGNUM environment variable
-        if (isInEnvironmentVariables("_JAVA_SR_SIGNUM")) {
-            analysis.add(Analysis.INFO_JAVA_SR_SIGNO);
-        }
-        // Check for experimental options being set by ergonomics
-        if (!getGlobalFlagsExperimentalErgonomic().isEmpty()) {
-            analysis.add(Analysis.WARN_EXPERIMENTAL_ERGONOMIC);
-        }
-        // Check for vm.overcommit_memory=2 and vm.overcommit_ratio=100
-        if (getMemTotal() > 0 && getOsCommitLimit() > 0 && getMemTotal() == getOsCommitLimit()) {
-            analysis.add(Analysis.INFO_OVERCOMMIT_DISABLED_RATIO_100);
-        }
-        // Check if MaxRAMPercentage is used without MaxRAM when available memory > 128g prior to JDK13
-        if (jvmOptions != null && jvmOptions.getMaxRAMPercentage() != null && jvmOptions.getMaxHeapSize() == null
-                && jvmOptions.getMaxRAM() == null && getJavaVersionMajor() > 0 && getJavaVersionMajor() < 13) {
-            BigDecimal oneHundredTwentyEightGigabytes = new BigDecimal("128")
-                    .multiply(org.github.joa.util.Constants.GIGABYTE);
-            if (getOsMemTotal() > oneHundredTwentyEightGigabytes.longValue()) {
-                analysis.add(Analysis.WARN_MAX_RAM_LIMIT);
+        return rpmDirectory;
+    }
+
+    /**
+     * @return The value of {@link #getStackFrameTop()}, computed from the events.
+     */
+    private String computeStackFrameTop() {
+        String stackFrameTop = null;
+        Iterator<Stack> iteratorStack = stacks.iterator();
+        while (iteratorStack.hasNext()) {
+            Stack event = iteratorStack.next();
+            if (PatternRegistry.matches(event.getLogEntry(), "^(A|C|j|J|v|V)[ ]{1,2}.+$")) {
+                stackFrameTop = event.getLogEntry();
+                break;
             }
         }
-        // Check for timeouts occurring during error reporting
-        if (!timeouts.isEmpty()) {
-            analysis.add(Analysis.ERROR_TIMEOUT);
-        } else if (!headers.isEmpty()) {
-            // Check header
-            Iterator<Header> iterator = headers.iterator();
-            while (iterator.hasNext()) {
-                Header he = iterator.next();
-                if (he.isTimeout()) {
-                    analysis.add(Analysis.ERROR_TIMEOUT);
+        if (stackFrameTop == null && !headers.isEmpty()) {
+            Iterator<Header> iteratorHeader = headers.iterator();
+            while (iteratorHeader.hasNext()) {
+                Header he = iteratorHeader.next();
+                if (he.isProblematicFrame()) {
+                    stackFrameTop = he.getLogEntry().substring(2, he.getLogEntry().length());
                     break;
                 }
             }
         }
-        // Large pages JVM/OS HugeTLB configuration analysis
-        if (hasAnalysis(org.github.joa.util.Analysis.INFO_LARGE_PAGES_LINUX_HUGETLBFS.toString())
-                && getExplicitHugePagesPoolSize() <= 0) {
-            analysis.add(Analysis.ERROR_LARGE_PAGES_HUGETLBFS_EXPLICIT_JVM_YES_OS_NO);
-        } else {
-            // JVM is not configured to use explicit huge pages
-            if (getExplicitHugePagesPoolSize() > 0) {
-                analysis.add(Analysis.WARN_EXPLICIT_HUGE_PAGES_OS_YES_JVM_NO);
-            }
+        return stackFrameTop;
+    }
+
+    /**
+     * Get a derived value, from the cache if the fatal error log is frozen.
+     * 
+     * @param <T>
+     *            The type of the value.
+     * @param key
+     *            The derived value.
+     * @param supplier
+     *            Computes the value from the events.
+     * @return The derived value.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T derive(Derived key, Supplier<T> supplier) {
+        if (!frozen) {
+            return supplier.get();
         }
-        // Large pages JVM/OS Transparent Huge Pages configuration analysis
-        if (hasAnalysis(org.github.joa.util.Analysis.ERROR_LARGE_PAGES_LINUX_HUGETLB_THP.toString())
-                || hasAnalysis(org.github.joa.util.Analysis.INFO_LARGE_PAGES_LINUX_THPS.toString())) {
-            if (getTransparentHugePagesMode() != TransparentHugepageEnabled.MODE.UNKNOWN) {
-                if (getTransparentHugePagesMode() == TransparentHugepageEnabled.MODE.ALWAYS) {
-                    analysis.add(Analysis.ERROR_LARGE_PAGES_THP_JVM_YES_OS_ALWAYS);
-                } else if (getTransparentHugePagesMode() == TransparentHugepageEnabled.MODE.MADVISE) {
-                    analysis.add(Analysis.INFO_LARGE_PAGES_THP_JVM_YES_OS_MADVISE);
-                } else if (getTransparentHugePagesMode() == TransparentHugepageEnabled.MODE.NEVER) {
-                    analysis.add(Analysis.ERROR_LARGE_PAGES_THP_JVM_YES_OS_NEVER);
+        if (!cache.containsKey(key)) {
+            cache.put(key, supplier.get());
+        }
+        return (T) cache.get(key);
+    }
+
+    /**
+     * Do analysis. The analysis is redone from scratch, so it can be repeated after more log lines are parsed.
+     */
+    public void doAnalysis() {
+        checkMutable();
+        analysis.clear();
+        if (analysisProfile != null) {
+            analysisProfile.clear();
+        }
+        EnumMap<Probe, String> probeHits;
+        if (analysisProfile != null) {
+            analysisProfile.start();
+            try {
+                probeHits = probe();
+            } finally {
+                analysisProfile.stop(AnalysisProfile.PROBE, false);
+            }
+            if (frozen) {
+                // Cache the derived values up front, so they are not charged to the first rule that reads them. The
+                // analysis and the values derived from the JVM options are changed by the rules, so are left to them.
+                analysisProfile.start();
+                try {
+                    for (Derived key : Derived.values()) {
+                        if (!key.inputs.contains(Input.ANALYSIS) && !key.inputs.contains(Input.JVM_OPTIONS)) {
+                            compute(key);
+                        }
+                    }
+                } finally {
+                    analysisProfile.stop(AnalysisProfile.DERIVED, false);
                 }
-            } else {
-                analysis.add(Analysis.INFO_LARGE_PAGES_THP_JVM_YES_OS_UNDETERMINED);
             }
+        } else {
+            probeHits = probe();
         }
-        // Consider explicit large pages configuration for large heaps when Linux kernel THP = "all"
-        if (hasAnalysis(org.github.joa.util.Analysis.INFO_LARGE_PAGES_CONSIDER.toString())
-                && getTransparentHugePagesMode() == TransparentHugepageEnabled.MODE.ALWAYS) {
-            analysis.add(Analysis.INFO_LARGE_PAGES_CONSIDER_THP_OS_ALWAYS);
-            // Remove generic analysis
-            jvmOptions.removeAnalysis(org.github.joa.util.Analysis.INFO_LARGE_PAGES_CONSIDER);
-        }
-        if (getTransparentHugePagesMode() == TransparentHugepageEnabled.MODE.ALWAYS
-                && !((getJavaVersionMajor() == 17 && getJavaVersionMinor() >= 10)
-                        || (getJavaVersionMajor() == 21 && getJavaVersionMinor() >= 1))) {
-            analysis.add(Analysis.WARN_THP_OS_ALWAYS);
-        }
-        // RHEL7 ELS
-        Date today = new Date();
-        if (today.compareTo(KrashUtil.RHEL7_ELS_START) >= 0 && getOsVersion() == OsVersion.RHEL7
-                && !getRhelVersion().equals("7.9")) {
-            analysis.add(Analysis.WARN_RHEL7_ELS_UNSUPPORTED_VERSION);
+        for (Rule rule : Rule.values()) {
+            if (isInputPresent(rule)) {
+                if (analysisProfile != null) {
+                    profile(rule, probeHits);
+                } else {
+                    analyze(rule, probeHits);
+                }
+            }
         }
+        invalidate(Input.ANALYSIS);
     }
 
     /**
-     * Do processing.
+     * Do processing. The processing is redone from scratch, so it can be repeated after more log lines are parsed.
      */
     public void doProcessing() {
+        checkMutable();
+        garbageCollections.clear();
         // Create {@link org.github.krashpad.domain.jdk.GarbageCollection}s from {@link
         // org.github.krashpad.domain.jdk.GcHeapHistoryEvent}s.
         if (!gcHeapHistoryEvents.isEmpty()) {
             Iterator<GcHeapHistoryEvent> iterator = gcHeapHistoryEvents.iterator();
             GarbageCollection gc = new GarbageCollection();
-            Pattern patternBegin = Pattern.compile(GcHeapHistoryEvent._REGEX_BEGIN);
-            Pattern patternEnd = Pattern.compile(GcHeapHistoryEvent._REGEX_END);
+            Pattern patternBegin = PatternRegistry.getPattern(GcHeapHistoryEvent._REGEX_BEGIN);
+            Pattern patternEnd = PatternRegistry.getPattern(GcHeapHistoryEvent._REGEX_END);
             while (iterator.hasNext()) {
                 GcHeapHistoryEvent event = iterator.next();
                 if (event.isBeginning()) {
-                    Matcher matcher = patternBegin.matcher(event.getLogEntry());
+                    Matcher matcher = PatternRegistry.matcher(patternBegin, event.getLogEntry());
                     if (matcher.find()) {
                         gc.setTimestampStartGc(JdkMath.convertSecsToMillis(matcher.group(1)).longValue());
                     }
                 } else if (event.isEnd()) {
-                    Matcher matcher = patternEnd.matcher(event.getLogEntry());
+                    Matcher matcher = PatternRegistry.matcher(patternEnd, event.getLogEntry());
                     if (matcher.find()) {
                         gc.setTimestampEndGc(JdkMath.convertSecsToMillis(matcher.group(1)).longValue());
                     }
@@ -1550,219 +3978,23 @@ public class FatalErrorLog {
         }
     }
 
+    /**
+     * Freeze the fatal error log when parsing is complete. Until it is unfrozen (see {@link #unfreeze()}), derived
+     * values (e.g. {@link #getJavaSpecification()}) are computed once and cached, and the event lists must not change.
+     * Setting an event or the JVM options invalidates only the cached values derived from it.
+     */
+    public void freeze() {
+        checkMutable();
+        cache.clear();
+        frozen = true;
+    }
+
     /**
      * @return Analysis as a <code>List</code> of String arrays with 2 elements, the first the key, the second the
      *         display literal.
      */
     public List<String[]> getAnalysis() {
-        List<String[]> a = new ArrayList<String[]>();
-        Iterator<Analysis> itFelAnalysis = analysis.iterator();
-        while (itFelAnalysis.hasNext()) {
-            Analysis item = itFelAnalysis.next();
-            if (item.getKey().equals(Analysis.ERROR_CRASH_NATIVE_LIBRARY_UNKNOWN.toString())) {
-                StringBuffer s = new StringBuffer(item.getValue());
-                s.append(getNativeLibraryInCrash());
-                s.append(".");
-                a.add(new String[] { item.getKey(), s.toString() });
-            } else if (item.getKey().equals(Analysis.ERROR_CRASH_ON_OOME_HEAP.toString())) {
-                StringBuffer s = new StringBuffer(item.getValue());
-                s.append(" Check the following location for a heap dump: ");
-                s.append(getJvmOptions().getHeapDumpPath());
-                s.append(".");
-                a.add(new String[] { item.getKey(), s.toString() });
-            } else if (item.getKey().equals(Analysis.INFO_CGROUP_VERSION.toString())) {
-                StringBuffer s = new StringBuffer(item.getValue());
-                s.append(getCgroupVersion());
-                s.append(".");
-                a.add(new String[] { item.getKey(), s.toString() });
-            } else if (item.getKey().equals(Analysis.INFO_JDK_ANCIENT.toString())) {
-                StringBuffer s = new StringBuffer(item.getValue());
-                String replace = ">1 yr";
-                int position = s.toString().lastIndexOf(replace);
-                StringBuffer with = new StringBuffer();
-                BigDecimal years = new BigDecimal(KrashUtil.dayDiff(getJdkReleaseDate(), new Date()));
-                years = years.divide(new BigDecimal(365), 1, HALF_EVEN);
-                with.append(years.toString());
-                with.append(" years");
-                s.replace(position, position + replace.length(), with.toString());
-                a.add(new String[] { item.getKey(), s.toString() });
-            } else if (item.getKey().equals(Analysis.INFO_NATIVE_LIBRARIES_JBOSS.toString())) {
-                StringBuffer s = new StringBuffer(item.getValue());
-                Iterator<String> iterator = getNativeLibrariesJBoss().iterator();
-                boolean punctuate = false;
-                while (iterator.hasNext()) {
-                    String library = iterator.next();
-                    if (punctuate) {
-                        s.append(", ");
-                    }
-                    s.append(library);
-                    punctuate = true;
-                }
-                s.append(".");
-                a.add(new String[] { item.getKey(), s.toString() });
-            } else if (item.getKey().equals(Analysis.INFO_NATIVE_LIBRARIES_TOMCAT.toString())) {
-                StringBuffer s = new StringBuffer(item.getValue());
-                Iterator<String> iterator = getNativeLibrariesTomcat().iterator();
-                boolean punctuate = false;
-                while (iterator.hasNext()) {
-                    String library = iterator.next();
-                    if (punctuate) {
-                        s.append(", ");
-                    }
-                    s.append(library);
-                    punctuate = true;
-                }
-                s.append(".");
-                a.add(new String[] { item.getKey(), s.toString() });
-            } else if (item.getKey().equals(Analysis.INFO_NATIVE_LIBRARIES_UNKNOWN.toString())) {
-                StringBuffer s = new StringBuffer(item.getValue());
-                Iterator<String> iterator = getNativeLibrariesUnknown().iterator();
-                boolean punctuate = false;
-                while (iterator.hasNext()) {
-                    String library = iterator.next();
-                    if (punctuate) {
-                        s.append(", ");
-                    }
-                    s.append(library);
-                    punctuate = true;
-                }
-                s.append(".");
-                a.add(new String[] { item.getKey(), s.toString() });
-            } else if (item.getKey().equals(Analysis.INFO_NATIVE_LIBRARIES_VMWARE.toString())) {
-                StringBuffer s = new StringBuffer(item.getValue());
-                Iterator<String> iterator = getNativeLibrariesVmWare().iterator();
-                boolean punctuate = false;
-                while (iterator.hasNext()) {
-                    String library = iterator.next();
-                    if (punctuate) {
-                        s.append(", ");
-                    }
-                    s.append(library);
-                    punctuate = true;
-                }
-                s.append(".");
-                a.add(new String[] { item.getKey(), s.toString() });
-            } else if (item.getKey().equals(Analysis.WARN_EXPERIMENTAL_ERGONOMIC.toString())) {
-                StringBuffer s = new StringBuffer(item.getValue());
-                Iterator<GlobalFlag> iterator = getGlobalFlagsExperimentalErgonomic().iterator();
-                boolean punctuate = false;
-                while (iterator.hasNext()) {
-                    GlobalFlag globalFlag = iterator.next();
-                    if (punctuate) {
-                        s.append(", ");
-                    }
-                    s.append(globalFlag.getFlag());
-                    s.append("=");
-                    s.append(globalFlag.getValue());
-                    punctuate = true;
-                }
-                s.append(".");
-                a.add(new String[] { item.getKey(), s.toString() });
-            } else if (item.getKey().equals(Analysis.WARN_JDK_NOT_LATEST.toString())) {
-                StringBuffer s = new StringBuffer(item.getValue());
-                // Add latest release info
-                int releaseDayDiff = KrashUtil.dayDiff(JdkUtil.getJdkReleaseDate(this),
-                        JdkUtil.getLatestJdkReleaseDate(this));
-                int releaseNumberDiff = JdkUtil.getLatestJdkReleaseNumber(this) - JdkUtil.getJdkReleaseNumber(this);
-                if (releaseDayDiff > 0 && releaseNumberDiff > 0) {
-                    s.append(", which is newer by " + releaseNumberDiff);
-                    s.append(" release");
-                    if (releaseNumberDiff > 1) {
-                        s.append("s");
-                    }
-                    s.append(" and ");
-                    s.append("" + releaseDayDiff);
-                    s.append(" day");
-                    if (releaseDayDiff > 1) {
-                        s.append("s");
-                    }
-                }
-                s.append(".");
-                a.add(new String[] { item.getKey(), s.toString() });
-            } else if (item.getKey().equals(Analysis.WARN_MAX_MAP_COUNT_LIMIT.toString())) {
-                StringBuffer s = new StringBuffer(item.getValue());
-                String replace = "memory map areas";
-                int position = s.toString().lastIndexOf(replace);
-                StringBuffer with = new StringBuffer("memory map areas (");
-                with.append(getDynamicLibrariesMappingCount());
-                with.append(")");
-                s.replace(position, position + replace.length(), with.toString());
-                replace = "max_map_count limit";
-                position = s.toString().lastIndexOf(replace);
-                with.setLength(0);
-                with.append("max_map_count limit (");
-                with.append(getMaxMapCountLimit());
-                with.append(")");
-                s.replace(position, position + replace.length(), with.toString());
-                a.add(new String[] { item.getKey(), s.toString() });
-            } else if (item.getKey().equals(Analysis.WARN_MAX_MAP_COUNT_LIMIT_POSSIBLE.toString())) {
-                StringBuffer s = new StringBuffer(item.getValue());
-                String replace = "memory map areas";
-                int position = s.toString().lastIndexOf(replace);
-                StringBuffer with = new StringBuffer("memory map areas (");
-                with.append(getDynamicLibrariesMappingCount());
-                with.append(")");
-                s.replace(position, position + replace.length(), with.toString());
-                a.add(new String[] { item.getKey(), s.toString() });
-            } else if (item.getKey().equals(Analysis.WARN_RHEL_JDK_RPM_MISMATCH.toString())) {
-                StringBuffer s = new StringBuffer(item.getValue());
-                s.append("RHEL ");
-                s.append(getRhelVersion());
-                s.append(" + ");
-                s.append(getRpmDirectory());
-                s.append(".");
-                a.add(new String[] { item.getKey(), s.toString() });
-            } else {
-                a.add(new String[] { item.getKey(), item.getValue() });
-            }
-        }
-        if (jvmOptions != null) {
-            Iterator<String[]> itJvmOptionsAnalysis = jvmOptions.getAnalysis().iterator();
-            while (itJvmOptionsAnalysis.hasNext()) {
-                String[] item = itJvmOptionsAnalysis.next();
-                if (item[0].equals(org.github.joa.util.Analysis.INFO_INSTRUMENTATION.toString())) {
-                    StringBuffer s = new StringBuffer(item[1]);
-                    Iterator<String> iterator = getJvmOptions().getJavaagent().iterator();
-                    while (iterator.hasNext()) {
-                        String option = iterator.next();
-                        s.append(" ");
-                        s.append(option);
-                    }
-                    s.append(".");
-                    a.add(new String[] { item[0], s.toString() });
-                } else if (item[0].equals(org.github.joa.util.Analysis.INFO_NATIVE_AGENT.toString())) {
-                    StringBuffer s = new StringBuffer(item[1]);
-                    if (!getJvmOptions().getAgentlib().isEmpty()) {
-                        Iterator<String> iterator = getJvmOptions().getAgentlib().iterator();
-                        while (iterator.hasNext()) {
-                            String option = iterator.next();
-                            s.append(" ");
-                            s.append(option);
-                        }
-                    }
-                    if (!getJvmOptions().getAgentpath().isEmpty()) {
-                        Iterator<String> iterator = getJvmOptions().getAgentpath().iterator();
-                        while (iterator.hasNext()) {
-                            String option = iterator.next();
-                            s.append(" ");
-                            s.append(option);
-                        }
-                    }
-                    s.append(".");
-                    a.add(new String[] { item[0], s.toString() });
-                } else if (item[0].equals(org.github.joa.util.Analysis.INFO_OPTS_UNDEFINED.toString())) {
-                    StringBuffer s = new StringBuffer(item[1]);
-                    s.append(" Please submit an issue so we can investigate: "
-                            + "https://github.com/mgm3746/krashpad/issues. "
-                            + "If attaching a fatal error log, be sure to review it and remove any sensitive "
-                            + "information.");
-                    a.add(new String[] { item[0], s.toString() });
-                } else {
-                    a.add(item);
-                }
-            }
-        }
-        return a;
+        return new ArrayList<String[]>(derive(Derived.ANALYSIS, this::computeAnalysis));
     }
 
     /**
@@ -1774,17 +4006,31 @@ public class FatalErrorLog {
      */
     public String getAnalysisLiteral(String key) {
         String literal = null;
-        Iterator<String[]> i = getAnalysis().iterator();
-        while (i.hasNext()) {
-            String[] item = i.next();
-            if (item[0].equals(key)) {
-                literal = item[1];
-                break;
+        Analysis item = Analysis.fromKey(key);
+        if (item != null && analysis.contains(item)) {
+            StringBuilder s = new StringBuilder();
+            item.getTemplate().render(s, this::getPlaceholderValue);
+            literal = s.toString();
+        } else if (jvmOptions != null) {
+            Iterator<String[]> i = jvmOptions.getAnalysis().iterator();
+            while (i.hasNext()) {
+                String[] jvmOptionsItem = i.next();
+                if (jvmOptionsItem[0].equals(key)) {
+                    literal = getJvmOptionsAnalysisLiteral(jvmOptionsItem);
+                    break;
+                }
             }
         }
         return literal;
     }
 
+    /**
+     * @return The cost of each analysis rule, or null if the analysis is not profiled.
+     */
+    public AnalysisProfile getAnalysisProfile() {
+        return analysisProfile;
+    }
+
     /**
      * The total Transparent Huge Pages (THP) used in bytes.
      * 
@@ -1794,11 +4040,11 @@ public class FatalErrorLog {
         long anonHugePages = Long.MIN_VALUE;
         if (!meminfos.isEmpty()) {
             String regex = "AnonHugePages:[ ]{0,}(\\d{1,}) kB";
-            Pattern pattern = Pattern.compile(regex);
+            Pattern pattern = PatternRegistry.getPattern(regex);
             Iterator<Meminfo> iterator = meminfos.iterator();
             while (iterator.hasNext()) {
                 Meminfo event = iterator.next();
-                Matcher matcher = pattern.matcher(event.getLogEntry());
+                Matcher matcher = PatternRegistry.matcher(pattern, event.getLogEntry());
                 if (matcher.find()) {
                     anonHugePages = JdkUtil.convertSize(Long.parseLong(matcher.group(1)), 'K', 'B');
                     break;
@@ -1812,113 +4058,14 @@ public class FatalErrorLog {
      * @return The application running on the JDK
      */
     public Application getApplication() {
-        Application application = Application.UNKNOWN;
-        // Check libraries
-        if (!dynamicLibraries.isEmpty()) {
-            Iterator<DynamicLibrary> iterator = dynamicLibraries.iterator();
-            while (iterator.hasNext()) {
-                DynamicLibrary event = iterator.next();
-                if (event.getLogEntry().matches(JdkRegEx.JAR_JBOSS_EAP6)) {
-                    application = Application.JBOSS_EAP6;
-                    break;
-                } else if (event.getLogEntry().matches(JdkRegEx.JAR_JBOSS_EAP7)) {
-                    application = Application.JBOSS_EAP7;
-                    break;
-                } else if (event.getLogEntry().matches(JdkRegEx.JAR_JEUS)) {
-                    application = Application.JEUS;
-                    break;
-                } else if (event.getLogEntry().matches(JdkRegEx.JAR_TOMCAT)) {
-                    application = Application.TOMCAT;
-                    // Continue checking for known applications built on top of tomcat
-                } else if (event.getLogEntry().matches(JdkRegEx.JAR_PKI_TOMCAT)) {
-                    application = Application.PKI_TOMCAT;
-                    break;
-                }
-            }
-        }
-        // Check threads
-        if (application == Application.UNKNOWN) {
-            if (!threads.isEmpty()) {
-                Iterator<Thread> iterator = threads.iterator();
-                while (iterator.hasNext()) {
-                    Thread event = iterator.next();
-                    if (event.getLogEntry() != null && event.getLogEntry().matches(JdkRegEx.THREAD_JEUS)) {
-                        application = Application.JEUS;
-                        break;
-                    } else if (event.getLogEntry() != null && event.getLogEntry().matches(JdkRegEx.THREAD_PKI_TOMCAT)) {
-                        application = Application.PKI_TOMCAT;
-                        break;
-                    } else if (event.getLogEntry() != null && event.getLogEntry().matches(JdkRegEx.THREAD_RHSSO)) {
-                        application = Application.RHSSO;
-                        break;
-                    }
-                }
-            }
-        }
-        // Check java_command
-        if (application == Application.UNKNOWN) {
-            String javaCommand = getJavaCommand();
-            if (javaCommand != null) {
-                if (javaCommand.matches(JdkRegEx.ARTEMIS_COMMAND)) {
-                    application = Application.AMQ;
-                } else if (javaCommand.matches(JdkRegEx.COMMAND_ARTEMIS_CLI)) {
-                    application = Application.AMQ_CLI;
-                } else if (javaCommand.matches(JdkRegEx.COMMAND_CASSANDRA)) {
-                    application = Application.CASSANDRA;
-                } else if (javaCommand.matches(JdkRegEx.COMMAND_JBOSS_VERSION)) {
-                    application = Application.JBOSS_VERSION;
-                } else if (javaCommand.matches(JdkRegEx.COMMAND_JEUS)) {
-                    application = Application.JEUS;
-                } else if (javaCommand.matches(JdkRegEx.COMMAND_KAFKA)) {
-                    application = Application.KAFKA;
-                } else if (javaCommand.matches(JdkRegEx.COMMAND_SPRING_BOOT)) {
-                    application = Application.SPRING_BOOT;
-                } else if (javaCommand.matches(JdkRegEx.COMMAND_TOMCAT_START)) {
-                    application = Application.TOMCAT;
-                } else if (javaCommand.matches(JdkRegEx.COMMAND_TOMCAT_STOP)) {
-                    application = Application.TOMCAT_SHUTDOWN;
-                } else if (javaCommand.matches(JdkRegEx.JAR_WILDFLY)) {
-                    application = Application.WILDFLY;
-                }
-            }
-        }
-        // Check JVM arguments
-        if (application == Application.UNKNOWN) {
-            if (getJvmArgs() != null && getJvmArgs().matches("^.*-Dcatalina.base=/var/lib/pki/pki-tomcat.*$")) {
-                application = Application.PKI_TOMCAT;
-            }
-        }
-        return application;
+        return derive(Derived.APPLICATION, this::computeApplication);
     }
 
     /**
      * @return <code>Arch</code>
      */
     public Arch getArch() {
-        Arch arch = Arch.UNKNOWN;
-        if (uname != null) {
-            arch = uname.getArch();
-        } else if (vmInfo != null) {
-            arch = vmInfo.getArch();
-        } else if (!headers.isEmpty()) {
-            // Check header
-            Iterator<Header> iterator = headers.iterator();
-            while (iterator.hasNext()) {
-                Header he = iterator.next();
-                if (he.isJavaVm()) {
-                    if (he.getLogEntry().matches("^.+ppc64.+$")) {
-                        arch = Arch.PPC64;
-                    } else if (he.getLogEntry().matches("^.+ppc64le.+$")) {
-                        arch = Arch.PPC64LE;
-                    } else if (he.getLogEntry().matches("^.+solaris-sparc.+$")) {
-                        arch = Arch.SPARC;
-                    } else if (he.getLogEntry().matches("^.+amd64.+$")) {
-                        arch = Arch.X86_64;
-                    }
-                }
-            }
-        }
-        return arch;
+        return derive(Derived.ARCH, this::computeArch);
     }
 
     /**
@@ -1943,7 +4090,7 @@ public class FatalErrorLog {
             Iterator<ContainerInfo> iterator = containerInfos.iterator();
             while (iterator.hasNext()) {
                 ContainerInfo event = iterator.next();
-                if (!event.isHeader() && event.getSetting().matches("container_type")) {
+                if (!event.isHeader() && PatternRegistry.matches(event.getSetting(), "container_type")) {
                     cgroupVersion = event.getSettingValue();
                     break;
                 }
@@ -1972,12 +4119,12 @@ public class FatalErrorLog {
                 if (jvmOptions.getReservedCodeCacheSize() != null || jvmOptions.getMaxjitcodesize() != null) {
                     char fromUnits;
                     long value;
-                    Pattern pattern = Pattern.compile(JdkRegEx.OPTION_SIZE_BYTES);
+                    Pattern pattern = PatternRegistry.getPattern(JdkRegEx.OPTION_SIZE_BYTES);
                     Matcher matcher;
                     if (jvmOptions.getReservedCodeCacheSize() != null) {
-                        matcher = pattern.matcher(jvmOptions.getReservedCodeCacheSize());
+                        matcher = PatternRegistry.matcher(pattern, jvmOptions.getReservedCodeCacheSize());
                     } else {
-                        matcher = pattern.matcher(jvmOptions.getMaxjitcodesize());
+                        matcher = PatternRegistry.matcher(pattern, jvmOptions.getMaxjitcodesize());
                     }
                     if (matcher.find()) {
                         value = Long.parseLong(matcher.group(2));
@@ -1994,9 +4141,9 @@ public class FatalErrorLog {
                         && jvmOptions.getProfiledCodeHeapSize() != null) {
                     char fromUnits;
                     long value;
-                    Pattern pattern = Pattern.compile(JdkRegEx.OPTION_SIZE_BYTES);
+                    Pattern pattern = PatternRegistry.getPattern(JdkRegEx.OPTION_SIZE_BYTES);
                     Matcher matcher;
-                    matcher = pattern.matcher(jvmOptions.getNonNMethodCodeHeapSize());
+                    matcher = PatternRegistry.matcher(pattern, jvmOptions.getNonNMethodCodeHeapSize());
                     if (matcher.find()) {
                         value = Long.parseLong(matcher.group(2));
                         if (matcher.group(3) != null) {
@@ -2006,7 +4153,7 @@ public class FatalErrorLog {
                         }
                         reservedCodeCacheSize = JdkUtil.convertSize(value, fromUnits, 'B');
                     }
-                    matcher = pattern.matcher(jvmOptions.getNonProfiledCodeHeapSize());
+                    matcher = PatternRegistry.matcher(pattern, jvmOptions.getNonProfiledCodeHeapSize());
                     if (matcher.find()) {
                         value = Long.parseLong(matcher.group(2));
                         if (matcher.group(3) != null) {
@@ -2016,7 +4163,7 @@ public class FatalErrorLog {
                         }
                         reservedCodeCacheSize += JdkUtil.convertSize(value, fromUnits, 'B');
                     }
-                    matcher = pattern.matcher(jvmOptions.getProfiledCodeHeapSize());
+                    matcher = PatternRegistry.matcher(pattern, jvmOptions.getProfiledCodeHeapSize());
                     if (matcher.find()) {
                         value = Long.parseLong(matcher.group(2));
                         if (matcher.group(3) != null) {
@@ -2112,8 +4259,8 @@ public class FatalErrorLog {
                 } else if (jvmOptions.getCompressedClassSpaceSize() != null) {
                     char fromUnits;
                     long value;
-                    Pattern pattern = Pattern.compile(JdkRegEx.OPTION_SIZE_BYTES);
-                    Matcher matcher = pattern.matcher(jvmOptions.getCompressedClassSpaceSize());
+                    Pattern pattern = PatternRegistry.getPattern(JdkRegEx.OPTION_SIZE_BYTES);
+                    Matcher matcher = PatternRegistry.matcher(pattern, jvmOptions.getCompressedClassSpaceSize());
                     if (matcher.find()) {
                         value = Long.parseLong(matcher.group(2));
                         if (matcher.group(3) != null) {
@@ -2139,7 +4286,7 @@ public class FatalErrorLog {
             while (iterator.hasNext()) {
                 Header event = iterator.next();
                 if (event.isJavaVm()) {
-                    if (!event.getLogEntry().matches(".*compressed oops.*")) {
+                    if (!PatternRegistry.matches(event.getLogEntry(), ".*compressed oops.*")) {
                         compressedOopMode = CompressedOopMode.NONE;
                     }
                     break;
@@ -2165,7 +4312,7 @@ public class FatalErrorLog {
             Iterator<CpuInfo> iterator = cpuInfos.iterator();
             while (iterator.hasNext()) {
                 CpuInfo event = iterator.next();
-                if (event.getLogEntry().matches("^.+POWER9.+$")) {
+                if (PatternRegistry.matches(event.getLogEntry(), "^.+POWER9.+$")) {
                     cpuArch = CpuArch.POWER9;
                     break;
                 }
@@ -2188,8 +4335,8 @@ public class FatalErrorLog {
             while (iterator.hasNext()) {
                 CpuInfo event = iterator.next();
                 if (event.isCpuHeader()) {
-                    Pattern pattern = Pattern.compile(CpuInfo._REGEX_HEADER);
-                    Matcher matcher = pattern.matcher(event.getLogEntry());
+                    Pattern pattern = PatternRegistry.getPattern(CpuInfo._REGEX_HEADER);
+                    Matcher matcher = PatternRegistry.matcher(pattern, event.getLogEntry());
                     if (matcher.find() && matcher.group(1) != null) {
                         int cpus = Integer.parseInt(matcher.group(1));
                         BigDecimal calc = new BigDecimal(cpus);
@@ -2226,8 +4373,8 @@ public class FatalErrorLog {
             String HH = null;
             String mm = null;
             String ss = null;
-            Pattern pattern = Pattern.compile(JdkRegEx.CRASH_DATE_TIME);
-            Matcher matcher = pattern.matcher(getCrashTimeString());
+            Pattern pattern = PatternRegistry.getPattern(JdkRegEx.CRASH_DATE_TIME);
+            Matcher matcher = PatternRegistry.matcher(pattern, getCrashTimeString());
             if (matcher.find()) {
                 MMM = matcher.group(2);
                 d = matcher.group(3);
@@ -2241,6 +4388,13 @@ public class FatalErrorLog {
         return crashDate;
     }
 
+    /**
+     * @return The known bug signatures the crash matches.
+     */
+    public List<CrashSignature> getCrashSignatures() {
+        return crashSignatures;
+    }
+
     /**
      * The crash date/time string.
      * 
@@ -2294,8 +4448,8 @@ public class FatalErrorLog {
         } else if (jvmOptions != null && jvmOptions.getMaxDirectMemorySize() != null) {
             char fromUnits;
             long value;
-            Pattern pattern = Pattern.compile(JdkRegEx.OPTION_SIZE_BYTES);
-            Matcher matcher = pattern.matcher(jvmOptions.getMaxDirectMemorySize());
+            Pattern pattern = PatternRegistry.getPattern(JdkRegEx.OPTION_SIZE_BYTES);
+            Matcher matcher = PatternRegistry.matcher(pattern, jvmOptions.getMaxDirectMemorySize());
             if (matcher.find()) {
                 value = Long.parseLong(matcher.group(2));
                 if (matcher.group(3) != null) {
@@ -2317,7 +4471,13 @@ public class FatalErrorLog {
         return dynamicLibraries;
     }
 
+    /**
+     * @return The number of memory mappings, or <code>Integer.MIN_VALUE</code> if dynamic libraries were not parsed.
+     */
     public int getDynamicLibrariesMappingCount() {
+        if (isSkipped(LogEventType.DYNAMIC_LIBRARY)) {
+            return Integer.MIN_VALUE;
+        }
         return dynamicLibrariesMappingCount;
     }
 
@@ -2367,6 +4527,26 @@ public class FatalErrorLog {
         return events;
     }
 
+    /**
+     * @param probeHits
+     *            The log entry of the first hit of each probe.
+     * @param probe
+     *            An events probe with the timestamp in the first group.
+     * @return The timestamp (milliseconds) of the first event that matches the probe, or <code>Long.MIN_VALUE</code>
+     *         if there is none.
+     */
+    private static long getEventTimestamp(EnumMap<Probe, String> probeHits, Probe probe) {
+        long timestamp = Long.MIN_VALUE;
+        if (probeHits.containsKey(probe)) {
+            Matcher matcher = PatternRegistry.matcher(PatternRegistry.getPattern(probe.regex), probeHits.get(probe));
+            if (matcher.find()) {
+                BigDecimal millis = new BigDecimal(matcher.group(1)).movePointRight(3);
+                timestamp = millis.longValue();
+            }
+        }
+        return timestamp;
+    }
+
     /**
      * @param regex
      *            The event regex.
@@ -2376,11 +4556,11 @@ public class FatalErrorLog {
     public long getEventTimestamp(String regex) {
         long timestamp = Long.MIN_VALUE;
         if (!events.isEmpty()) {
-            Pattern pattern = Pattern.compile(regex);
+            Pattern pattern = PatternRegistry.getPattern(regex);
             Iterator<Event> iterator = events.iterator();
             while (iterator.hasNext()) {
                 Event event = iterator.next();
-                Matcher matcher = pattern.matcher(event.getLogEntry());
+                Matcher matcher = PatternRegistry.matcher(pattern, event.getLogEntry());
                 if (matcher.find()) {
                     BigDecimal millis = new BigDecimal(matcher.group(1)).movePointRight(3);
                     timestamp = millis.longValue();
@@ -2477,7 +4657,7 @@ public class FatalErrorLog {
      * 
      * @return maximum pause duration (milliseconds).
      */
-    public synchronized long getGarbageCollectionDurationMax() {
+    public long getGarbageCollectionDurationMax() {
         return longs(this.garbageCollections, GarbageCollection::getDuration).mapToLong(Long::valueOf).max().orElse(0);
     }
 
@@ -2486,7 +4666,7 @@ public class FatalErrorLog {
      * 
      * @return total pause duration (milliseconds).
      */
-    public synchronized long getGarbageCollectionDurationTotal() {
+    public long getGarbageCollectionDurationTotal() {
         return longs(this.garbageCollections, GarbageCollection::getDuration).collect(summingLong(Long::valueOf));
     }
 
@@ -2531,34 +4711,34 @@ public class FatalErrorLog {
             Iterator<Heap> iterator = heaps.iterator();
             while (iterator.hasNext()) {
                 Heap event = iterator.next();
-                if (event.getLogEntry().matches("^[ ]{0,}Shenandoah.+$")
+                if (PatternRegistry.matches(event.getLogEntry(), "^[ ]{0,}Shenandoah.+$")
                         && !garbageCollectors.contains(GarbageCollector.SHENANDOAH)) {
                     garbageCollectors.add(GarbageCollector.SHENANDOAH);
                     break;
-                } else if (event.getLogEntry().matches("^[ ]{0,}garbage-first.+$")
+                } else if (PatternRegistry.matches(event.getLogEntry(), "^[ ]{0,}garbage-first.+$")
                         && !garbageCollectors.contains(GarbageCollector.G1)) {
                     garbageCollectors.add(GarbageCollector.G1);
                     break;
-                } else if (event.getLogEntry().matches("^[ ]{0,}PSYoungGen.+$")
+                } else if (PatternRegistry.matches(event.getLogEntry(), "^[ ]{0,}PSYoungGen.+$")
                         && !garbageCollectors.contains(GarbageCollector.PARALLEL_SCAVENGE)) {
                     garbageCollectors.add(GarbageCollector.PARALLEL_SCAVENGE);
-                } else if (event.getLogEntry().matches("^[ ]{0,}ParOldGen.+$")
+                } else if (PatternRegistry.matches(event.getLogEntry(), "^[ ]{0,}ParOldGen.+$")
                         && !garbageCollectors.contains(GarbageCollector.PARALLEL_OLD)) {
                     garbageCollectors.add(GarbageCollector.PARALLEL_OLD);
-                } else if (event.getLogEntry().matches("^[ ]{0,}par new.+$")
+                } else if (PatternRegistry.matches(event.getLogEntry(), "^[ ]{0,}par new.+$")
                         && !garbageCollectors.contains(GarbageCollector.PAR_NEW)) {
                     garbageCollectors.add(GarbageCollector.PAR_NEW);
-                } else if (event.getLogEntry().matches("^[ ]{0,}concurrent mark-sweep.+$")
+                } else if (PatternRegistry.matches(event.getLogEntry(), "^[ ]{0,}concurrent mark-sweep.+$")
                         && !garbageCollectors.contains(GarbageCollector.CMS)) {
                     garbageCollectors.add(GarbageCollector.CMS);
-                } else if (event.getLogEntry().matches("^[ ]{0,}ZHeap.+$")
+                } else if (PatternRegistry.matches(event.getLogEntry(), "^[ ]{0,}ZHeap.+$")
                         && !garbageCollectors.contains(GarbageCollector.ZGC)) {
                     garbageCollectors.add(GarbageCollector.ZGC);
-                } else if (event.getLogEntry().matches("^[ ]{0,}def new.+$")
+                } else if (PatternRegistry.matches(event.getLogEntry(), "^[ ]{0,}def new.+$")
                         && !garbageCollectors.contains(GarbageCollector.SERIAL_NEW)) {
                     garbageCollectors.add(GarbageCollector.SERIAL_NEW);
-                } else if ((event.getLogEntry().matches("^[ ]{0,}PSOldGen.+$")
-                        || event.getLogEntry().matches("^[ ]{0,}tenured.+$"))
+                } else if ((PatternRegistry.matches(event.getLogEntry(), "^[ ]{0,}PSOldGen.+$")
+                        || PatternRegistry.matches(event.getLogEntry(), "^[ ]{0,}tenured.+$"))
                         && !garbageCollectors.contains(GarbageCollector.SERIAL_OLD)) {
                     garbageCollectors.add(GarbageCollector.SERIAL_OLD);
                 }
@@ -2586,7 +4766,7 @@ public class FatalErrorLog {
             Iterator<GlobalFlag> iterator = globalFlags.iterator();
             while (iterator.hasNext()) {
                 GlobalFlag event = iterator.next();
-                if (!event.isHeader() && event.getFlag().matches(flag)) {
+                if (!event.isHeader() && PatternRegistry.matches(event.getFlag(), flag)) {
                     globalFlag = event;
                     break;
                 }
@@ -2605,7 +4785,8 @@ public class FatalErrorLog {
             Iterator<GlobalFlag> iterator = globalFlags.iterator();
             while (iterator.hasNext()) {
                 GlobalFlag event = iterator.next();
-                if (!event.isHeader() && event.getLogEntry().matches("^.+\\{experimental\\} \\{ergonomic\\}$")) {
+                if (!event.isHeader()
+                        && PatternRegistry.matches(event.getLogEntry(), "^.+\\{experimental\\} \\{ergonomic\\}$")) {
                     globalFlagsExperimentalErgonomic.add(event);
                 }
             }
@@ -2636,8 +4817,8 @@ public class FatalErrorLog {
             while (iterator.hasNext()) {
                 Heap event = iterator.next();
                 if (event.isYoungGen()) {
-                    pattern = Pattern.compile(JdkRegEx.YOUNG_GEN_SIZE);
-                    matcher = pattern.matcher(event.getLogEntry());
+                    pattern = PatternRegistry.getPattern(JdkRegEx.YOUNG_GEN_SIZE);
+                    matcher = PatternRegistry.matcher(pattern, event.getLogEntry());
                     if (matcher.find()) {
                         value = Long.parseLong(matcher.group(3));
                         if (matcher.group(5) != null) {
@@ -2648,8 +4829,8 @@ public class FatalErrorLog {
                         heapAllocation += JdkUtil.convertSize(value, fromUnits, 'B');
                     }
                 } else if (event.isOldGen()) {
-                    pattern = Pattern.compile(JdkRegEx.OLD_GEN_SIZE);
-                    matcher = pattern.matcher(event.getLogEntry());
+                    pattern = PatternRegistry.getPattern(JdkRegEx.OLD_GEN_SIZE);
+                    matcher = PatternRegistry.matcher(pattern, event.getLogEntry());
                     if (matcher.find()) {
                         value = Long.parseLong(matcher.group(2));
                         if (matcher.group(4) != null) {
@@ -2660,8 +4841,8 @@ public class FatalErrorLog {
                         heapAllocation += JdkUtil.convertSize(value, fromUnits, 'B');
                     }
                 } else if (event.isShenandoah()) {
-                    pattern = Pattern.compile(JdkRegEx.SHENANDOAH_SIZE);
-                    matcher = pattern.matcher(event.getLogEntry());
+                    pattern = PatternRegistry.getPattern(JdkRegEx.SHENANDOAH_SIZE);
+                    matcher = PatternRegistry.matcher(pattern, event.getLogEntry());
                     if (matcher.find()) {
                         value = Long.parseLong(matcher.group(9));
                         if (matcher.group(11) != null) {
@@ -2672,8 +4853,8 @@ public class FatalErrorLog {
                         heapAllocation += JdkUtil.convertSize(value, fromUnits, 'B');
                     }
                 } else if (event.isG1()) {
-                    pattern = Pattern.compile(JdkRegEx.G1_SIZE);
-                    matcher = pattern.matcher(event.getLogEntry());
+                    pattern = PatternRegistry.getPattern(JdkRegEx.G1_SIZE);
+                    matcher = PatternRegistry.matcher(pattern, event.getLogEntry());
                     if (matcher.find()) {
                         value = Long.parseLong(matcher.group(1));
                         if (matcher.group(3) != null) {
@@ -2684,8 +4865,8 @@ public class FatalErrorLog {
                         heapAllocation += JdkUtil.convertSize(value, fromUnits, 'B');
                     }
                 } else if (event.isZ()) {
-                    pattern = Pattern.compile(JdkRegEx.Z_SIZE);
-                    matcher = pattern.matcher(event.getLogEntry());
+                    pattern = PatternRegistry.getPattern(JdkRegEx.Z_SIZE);
+                    matcher = PatternRegistry.matcher(pattern, event.getLogEntry());
                     if (matcher.find()) {
                         value = Long.parseLong(matcher.group(4));
                         if (matcher.group(6) != null) {
@@ -2714,8 +4895,8 @@ public class FatalErrorLog {
             // Get from jvm_args
             char fromUnits;
             long value;
-            Pattern pattern = Pattern.compile(JdkRegEx.OPTION_SIZE_BYTES);
-            Matcher matcher = pattern.matcher(jvmOptions.getInitialHeapSize());
+            Pattern pattern = PatternRegistry.getPattern(JdkRegEx.OPTION_SIZE_BYTES);
+            Matcher matcher = PatternRegistry.matcher(pattern, jvmOptions.getInitialHeapSize());
             if (matcher.find()) {
                 value = Long.parseLong(matcher.group(2));
                 if (matcher.group(3) != null) {
@@ -2753,8 +4934,8 @@ public class FatalErrorLog {
             // Get from jvm_args
             char fromUnits;
             long value;
-            Pattern pattern = Pattern.compile(JdkRegEx.OPTION_SIZE_BYTES);
-            Matcher matcher = pattern.matcher(jvmOptions.getMaxHeapSize());
+            Pattern pattern = PatternRegistry.getPattern(JdkRegEx.OPTION_SIZE_BYTES);
+            Matcher matcher = PatternRegistry.matcher(pattern, jvmOptions.getMaxHeapSize());
             if (matcher.find()) {
                 value = Long.parseLong(matcher.group(2));
                 if (matcher.group(3) != null) {
@@ -2808,8 +4989,8 @@ public class FatalErrorLog {
             while (iterator.hasNext()) {
                 Heap event = iterator.next();
                 if (event.isYoungGen()) {
-                    pattern = Pattern.compile(JdkRegEx.YOUNG_GEN_SIZE);
-                    matcher = pattern.matcher(event.getLogEntry());
+                    pattern = PatternRegistry.getPattern(JdkRegEx.YOUNG_GEN_SIZE);
+                    matcher = PatternRegistry.matcher(pattern, event.getLogEntry());
                     if (matcher.find()) {
                         value = Long.parseLong(matcher.group(6));
                         if (matcher.group(8) != null) {
@@ -2824,8 +5005,8 @@ public class FatalErrorLog {
                         }
                     }
                 } else if (event.isOldGen()) {
-                    pattern = Pattern.compile(JdkRegEx.OLD_GEN_SIZE);
-                    matcher = pattern.matcher(event.getLogEntry());
+                    pattern = PatternRegistry.getPattern(JdkRegEx.OLD_GEN_SIZE);
+                    matcher = PatternRegistry.matcher(pattern, event.getLogEntry());
                     if (matcher.find()) {
                         value = Long.parseLong(matcher.group(5));
                         if (matcher.group(7) != null) {
@@ -2840,8 +5021,8 @@ public class FatalErrorLog {
                         }
                     }
                 } else if (event.isShenandoah()) {
-                    pattern = Pattern.compile(JdkRegEx.SHENANDOAH_SIZE);
-                    matcher = pattern.matcher(event.getLogEntry());
+                    pattern = PatternRegistry.getPattern(JdkRegEx.SHENANDOAH_SIZE);
+                    matcher = PatternRegistry.matcher(pattern, event.getLogEntry());
                     if (matcher.find()) {
                         value = Long.parseLong(matcher.group(12));
                         if (matcher.group(14) != null) {
@@ -2856,8 +5037,8 @@ public class FatalErrorLog {
                         }
                     }
                 } else if (event.isG1()) {
-                    pattern = Pattern.compile(JdkRegEx.G1);
-                    matcher = pattern.matcher(event.getLogEntry());
+                    pattern = PatternRegistry.getPattern(JdkRegEx.G1);
+                    matcher = PatternRegistry.matcher(pattern, event.getLogEntry());
                     if (matcher.find()) {
                         value = Long.parseLong(matcher.group(5));
                         if (matcher.group(7) != null) {
@@ -2872,8 +5053,8 @@ public class FatalErrorLog {
                         }
                     }
                 } else if (event.isZ()) {
-                    pattern = Pattern.compile(JdkRegEx.Z);
-                    matcher = pattern.matcher(event.getLogEntry());
+                    pattern = PatternRegistry.getPattern(JdkRegEx.Z);
+                    matcher = PatternRegistry.matcher(pattern, event.getLogEntry());
                     if (matcher.find()) {
                         value = Long.parseLong(matcher.group(1));
                         if (matcher.group(3) != null) {
@@ -2906,11 +5087,11 @@ public class FatalErrorLog {
         long hugepagesize = Long.MIN_VALUE;
         if (!meminfos.isEmpty()) {
             String regex = "Hugepagesize:[ ]{0,}(\\d{1,}) kB";
-            Pattern pattern = Pattern.compile(regex);
+            Pattern pattern = PatternRegistry.getPattern(regex);
             Iterator<Meminfo> iterator = meminfos.iterator();
             while (iterator.hasNext()) {
                 Meminfo event = iterator.next();
-                Matcher matcher = pattern.matcher(event.getLogEntry());
+                Matcher matcher = PatternRegistry.matcher(pattern, event.getLogEntry());
                 if (matcher.find()) {
                     hugepagesize = JdkUtil.convertSize(Long.parseLong(matcher.group(1)), 'K', 'B');
                     break;
@@ -2929,11 +5110,11 @@ public class FatalErrorLog {
         long hugePagesTotal = Long.MIN_VALUE;
         if (!meminfos.isEmpty()) {
             String regex = "HugePages_Total:[ ]{0,}(\\d{1,})";
-            Pattern pattern = Pattern.compile(regex);
+            Pattern pattern = PatternRegistry.getPattern(regex);
             Iterator<Meminfo> iterator = meminfos.iterator();
             while (iterator.hasNext()) {
                 Meminfo event = iterator.next();
-                Matcher matcher = pattern.matcher(event.getLogEntry());
+                Matcher matcher = PatternRegistry.matcher(pattern, event.getLogEntry());
                 if (matcher.find()) {
                     hugePagesTotal = Long.parseLong(matcher.group(1));
                     break;
@@ -2952,11 +5133,11 @@ public class FatalErrorLog {
         long hugetlb = Long.MIN_VALUE;
         if (!meminfos.isEmpty()) {
             String regex = "Hugetlb:[ ]{0,}(\\d{1,}) kB";
-            Pattern pattern = Pattern.compile(regex);
+            Pattern pattern = PatternRegistry.getPattern(regex);
             Iterator<Meminfo> iterator = meminfos.iterator();
             while (iterator.hasNext()) {
                 Meminfo event = iterator.next();
-                Matcher matcher = pattern.matcher(event.getLogEntry());
+                Matcher matcher = PatternRegistry.matcher(pattern, event.getLogEntry());
                 if (matcher.find()) {
                     hugetlb = JdkUtil.convertSize(Long.parseLong(matcher.group(1)), 'K', 'B');
                     break;
@@ -2978,137 +5159,69 @@ public class FatalErrorLog {
      * @return Jar list (unique entries).
      */
     public List<String> getJars() {
-        List<String> jars = new ArrayList<String>();
-        if (!dynamicLibraries.isEmpty()) {
-            Iterator<DynamicLibrary> iterator = dynamicLibraries.iterator();
-            while (iterator.hasNext()) {
-                DynamicLibrary event = iterator.next();
-                if (event.isJar()) {
-                    if (!jars.contains(event.getFilePath())) {
-                        jars.add(event.getFilePath());
-                    }
-                }
-            }
-        }
-        return jars;
-    }
-
-    /**
-     * @return The Java command used to start the JVM, or null if none exists.
-     */
-    public String getJavaCommand() {
-        String javaCommand = null;
-        if (!vmArguments.isEmpty()) {
-            Iterator<VmArguments> iterator = vmArguments.iterator();
-            while (iterator.hasNext()) {
-                VmArguments event = iterator.next();
-                if (event.isJavaCommand()) {
-                    javaCommand = event.getValue();
-                    break;
-                }
-            }
-        }
-        return javaCommand;
-    }
-
-    /**
-     * @return <code>JavaSpecificiation</code>
-     */
-    public JavaSpecification getJavaSpecification() {
-        JavaSpecification version = JavaSpecification.UNKNOWN;
-        if (vmInfo != null) {
-            version = vmInfo.getJavaSpecification();
-        }
-        // Get from header
-        if (version == JavaSpecification.UNKNOWN && !headers.isEmpty()) {
-            Iterator<Header> iterator = headers.iterator();
-            while (iterator.hasNext()) {
-                Header he = iterator.next();
-                String regEx = "\\((\\d{1,2})\\..+\\)";
-                Pattern pattern = Pattern.compile(regEx);
-                if (he.isJreVersion()) {
-                    Matcher matcher = pattern.matcher(he.getLogEntry());
-                    if (matcher.find()) {
-                        switch (Integer.parseInt(matcher.group(1))) {
-                        case 6:
-                            version = JavaSpecification.JDK6;
-                            break;
-                        case 7:
-                            version = JavaSpecification.JDK7;
-                            break;
-                        case 8:
-                            version = JavaSpecification.JDK8;
-                            break;
-                        case 11:
-                            version = JavaSpecification.JDK11;
-                            break;
-                        case 17:
-                            version = JavaSpecification.JDK17;
-                            break;
-                        case 21:
-                            version = JavaSpecification.JDK21;
-                            break;
-                        default:
-                            break;
-                        }
-                    }
-                }
-            }
-        }
-        // Check dynamic library (rpm)
-        if (version == JavaSpecification.UNKNOWN && !dynamicLibraries.isEmpty()) {
-            if (getRpmDirectory() != null) {
-                String regEx = "^java-.+-openjdk-(1.8.0|11|17|21).+-.+$";
-                Pattern pattern = Pattern.compile(regEx);
-                Matcher matcher = pattern.matcher(getRpmDirectory());
-                if (matcher.find()) {
-                    if (matcher.group(1).equals("1.8.0")) {
-                        version = JavaSpecification.JDK8;
-                    } else if (matcher.group(1).equals("11")) {
-                        version = JavaSpecification.JDK11;
-                    } else if (matcher.group(1).equals("17")) {
-                        version = JavaSpecification.JDK17;
-                    } else if (matcher.group(1).equals("21")) {
-                        version = JavaSpecification.JDK21;
+        List<String> jars = new ArrayList<String>();
+        if (!dynamicLibraries.isEmpty()) {
+            Iterator<DynamicLibrary> iterator = dynamicLibraries.iterator();
+            while (iterator.hasNext()) {
+                DynamicLibrary event = iterator.next();
+                if (event.isJar()) {
+                    if (!jars.contains(event.getFilePath())) {
+                        jars.add(event.getFilePath());
                     }
                 }
             }
         }
-        return version;
+        return jars;
     }
 
     /**
-     * @return The number of Java threads running when the JVM crashed.
+     * @return The Java command used to start the JVM, or null if none exists.
      */
-    public int getJavaThreadCount() {
-        int javaThreadCount = 0;
-        if (!threads.isEmpty()) {
-            Iterator<Thread> iterator = threads.iterator();
+    public String getJavaCommand() {
+        String javaCommand = null;
+        if (!vmArguments.isEmpty()) {
+            Iterator<VmArguments> iterator = vmArguments.iterator();
             while (iterator.hasNext()) {
-                Thread event = iterator.next();
-                if (event.getLogEntry().matches("^Other Threads:$")) {
+                VmArguments event = iterator.next();
+                if (event.isJavaCommand()) {
+                    javaCommand = event.getValue();
                     break;
-                } else if (!(event.getLogEntry().matches(Thread.REGEX_HEADER)
-                        || event.getLogEntry().matches(Thread.REGEX_FOOTER))) {
-                    javaThreadCount++;
                 }
             }
         }
-        return javaThreadCount;
+        return javaCommand;
+    }
+
+    /**
+     * @return <code>JavaSpecificiation</code>
+     */
+    public JavaSpecification getJavaSpecification() {
+        return derive(Derived.JAVA_SPECIFICATION, this::computeJavaSpecification);
+    }
+
+    /**
+     * @return The number of Java threads running when the JVM crashed, or <code>Integer.MIN_VALUE</code> if threads
+     *         were not parsed.
+     */
+    public int getJavaThreadCount() {
+        return derive(Derived.JAVA_THREAD_COUNT, this::computeJavaThreadCount);
     }
 
     /**
      * @param regex
      *            The thread name regex.
-     * @return The number of threads matching the pattern regex.
+     * @return The number of threads matching the pattern regex, or <code>Integer.MIN_VALUE</code> if threads were not
+     *         parsed.
      */
     public int getJavaThreadCount(String regex) {
         int threadCount = 0;
-        if (!threads.isEmpty()) {
+        if (isSkipped(LogEventType.THREAD)) {
+            threadCount = Integer.MIN_VALUE;
+        } else if (!threads.isEmpty()) {
             Iterator<Thread> iterator = threads.iterator();
             while (iterator.hasNext()) {
                 Thread event = iterator.next();
-                if (event.getLogEntry().matches("^.*" + regex + ".*$")) {
+                if (PatternRegistry.matches(event.getLogEntry(), "^.*" + regex + ".*$")) {
                     threadCount++;
                 }
             }
@@ -3120,66 +5233,7 @@ public class FatalErrorLog {
      * @return <code>JavaVendor</code>
      */
     public JavaVendor getJavaVendor() {
-        JavaVendor vendor = JavaVendor.UNIDENTIFIED;
-        if (isRhBuildOpenJdk()) {
-            vendor = JavaVendor.RED_HAT;
-        } else {
-            if (vmInfo != null) {
-                switch (vmInfo.getBuiltBy()) {
-                case JAVA_RE:
-                case MACH5ONE:
-                    vendor = JavaVendor.ORACLE;
-                    break;
-                case JENKINS:
-                    vendor = JavaVendor.ADOPTOPENJDK;
-                    break;
-                case VSTS:
-                    vendor = JavaVendor.MICROSOFT;
-                    break;
-                case TEMURIN:
-                    vendor = JavaVendor.ADOPTIUM;
-                    break;
-                case TESTER:
-                case ZULU_RE:
-                    vendor = JavaVendor.AZUL;
-                    break;
-                // Indeterminate
-                case BUILD:
-                case EMPTY:
-                case MOCKBUILD:
-                case UNKNOWN:
-                default:
-                    break;
-                }
-            }
-        }
-        if (vendor == JavaVendor.UNIDENTIFIED && !headers.isEmpty()) {
-            // Check header
-            Iterator<Header> iterator = headers.iterator();
-            while (iterator.hasNext()) {
-                Header he = iterator.next();
-                if (he.isJreVersion()) {
-                    if (he.getLogEntry().matches("^.+AdoptOpenJDK.+$")) {
-                        vendor = JavaVendor.ADOPTOPENJDK;
-                        break;
-                    } else if (getOs() != Os.UNIDENTIFIED && !isRhVersion()) {
-                        vendor = JavaVendor.NOT_RED_HAT;
-                        // continue checking
-                    }
-                } else if (he.isVendorBugUrl()) {
-                    if (he.getLogEntry().matches("^#   https://github.com/adoptium/adoptium-support/issues$")) {
-                        vendor = JavaVendor.ADOPTIUM;
-                    } else if (he.getLogEntry().matches("^#   http://www.azulsystems.com/support/$")) {
-                        vendor = JavaVendor.AZUL;
-                    }
-                    break;
-                }
-            }
-        }
-        if (vendor == JavaVendor.UNIDENTIFIED && isRhVersion() && isOracleLinux()) {
-            vendor = JavaVendor.ORACLE;
-        }
-        return vendor;
+        return derive(Derived.JAVA_VENDOR, this::computeJavaVendor);
     }
 
     /**
@@ -3247,154 +5301,7 @@ public class FatalErrorLog {
      * @return JDK release string, or UNKNOWN if it cannot be determined.
      */
     public String getJdkReleaseString() {
-        String jdkReleaseString = null;
-        if (vmInfo != null) {
-            jdkReleaseString = vmInfo.getJdkReleaseString();
-            // TODO: Better solution than this hack to account for 2 windows builds based on the same upstream tag?
-            if (vmInfo.getOs() == Os.WINDOWS) {
-                if (vmInfo.getJavaSpecification() == JavaSpecification.JDK8
-                        && jdkReleaseString.equals("1.8.0_332-b09")) {
-                    if (vmInfo.getBuildDate().equals(KrashUtil.getDate("Apr 19 2022 13:36:53"))) {
-                        jdkReleaseString = "1.8.0_332-b09-1";
-                    } else if (vmInfo.getBuildDate().equals(KrashUtil.getDate("Apr 27 2022 21:29:19"))) {
-                        jdkReleaseString = "1.8.0_332-b09-2";
-                    }
-                } else if (vmInfo.getJavaSpecification() == JavaSpecification.JDK11
-                        && jdkReleaseString.equals("11.0.15+9-LTS")) {
-                    if (vmInfo.getBuildDate().equals(KrashUtil.getDate("Apr 17 2022 13:56:34"))) {
-                        jdkReleaseString = "11.0.15+9-LTS-1";
-                    } else if (vmInfo.getBuildDate().equals(KrashUtil.getDate("Apr 27 2022 19:12:18"))) {
-                        jdkReleaseString = "11.0.15+9-LTS-2";
-                    }
-                } else if (vmInfo.getJavaSpecification() == JavaSpecification.JDK17
-                        && jdkReleaseString.equals("17.0.3+6-LTS")) {
-                    if (vmInfo.getBuildDate().equals(KrashUtil.getDate("Apr 17 2022 12:11:44"))) {
-                        jdkReleaseString = "17.0.3+6-LTS-1";
-                    } else if (vmInfo.getBuildDate().equals(KrashUtil.getDate("Apr 27 2022 11:51:42"))) {
-                        jdkReleaseString = "17.0.3+6-LTS-2";
-                    }
-                }
-            }
-        }
-        if (jdkReleaseString == null && !headers.isEmpty()) {
-            // Check header
-            Iterator<Header> iterator = headers.iterator();
-            while (iterator.hasNext()) {
-                Header he = iterator.next();
-                if (he.isJreVersion()) {
-                    String regEx = "^.+\\(" + JdkRegEx.VERSION_STRING + "\\)( \\(build " + JdkRegEx.BUILD_STRING
-                            + "\\))?.*$";
-                    Pattern pattern = Pattern.compile(regEx);
-                    Matcher matcher = pattern.matcher(he.getLogEntry());
-                    if (matcher.find()) {
-                        if (matcher.group(4) != null) {
-                            jdkReleaseString = matcher.group(4);
-                        } else if (matcher.group(1) != null) {
-                            // Add leading "1."
-                            if (matcher.group(1).matches("^[678].+$")) {
-                                jdkReleaseString = "1." + matcher.group(1);
-                            } else {
-                                jdkReleaseString = matcher.group(1);
-                            }
-                        }
-                    }
-                    break;
-                }
-            }
-        }
-        if (jdkReleaseString == null && !dynamicLibraries.isEmpty()) {
-            // Check dynamic libraries (rpm)
-            if (getRpmDirectory() != null) {
-                Iterator<Entry<String, Release>> iterator;
-                if (getJavaSpecification() == JavaSpecification.JDK8) {
-                    switch (getOsVersion()) {
-                    case CENTOS6:
-                    case RHEL6:
-                        iterator = Jdk8.RHEL6_X86_64_RPMS.entrySet().iterator();
-                        while (iterator.hasNext()) {
-                            Entry<String, Release> entry = iterator.next();
-                            if (entry.getKey().equals(getRpmDirectory())) {
-                                Release release = entry.getValue();
-                                jdkReleaseString = release.getVersion();
-                            }
-                        }
-                        break;
-                    case CENTOS7:
-                    case RHEL7:
-                        if (getArch() == Arch.X86_64) {
-                            iterator = Jdk8.RHEL7_X86_64_RPMS.entrySet().iterator();
-                            while (iterator.hasNext()) {
-                                Entry<String, Release> entry = iterator.next();
-                                if (entry.getKey().equals(getRpmDirectory())) {
-                                    Release release = entry.getValue();
-                                    jdkReleaseString = release.getVersion();
-                                }
-                            }
-                        } else if (getArch() == Arch.PPC64) {
-                            iterator = Jdk8.RHEL7_PPC64_RPMS.entrySet().iterator();
-                            while (iterator.hasNext()) {
-                                Entry<String, Release> entry = iterator.next();
-                                if (entry.getKey().equals(getRpmDirectory())) {
-                                    Release release = entry.getValue();
-                                    jdkReleaseString = release.getVersion();
-                                }
-                            }
-                        } else if (getArch() == Arch.PPC64LE) {
-                            iterator = Jdk8.RHEL7_PPC64LE_RPMS.entrySet().iterator();
-                            while (iterator.hasNext()) {
-                                Entry<String, Release> entry = iterator.next();
-                                if (entry.getKey().equals(getRpmDirectory())) {
-                                    Release release = entry.getValue();
-                                    jdkReleaseString = release.getVersion();
-                                }
-                            }
-                        }
-                        break;
-                    case CENTOS8:
-                    case RHEL8:
-                        if (getArch() == Arch.X86_64) {
-                            iterator = Jdk8.RHEL8_X86_64_RPMS.entrySet().iterator();
-                            while (iterator.hasNext()) {
-                                Entry<String, Release> entry = iterator.next();
-                                if (entry.getKey().equals(getRpmDirectory())) {
-                                    Release release = entry.getValue();
-                                    jdkReleaseString = release.getVersion();
-                                }
-                            }
-                        } else if (getArch() == Arch.PPC64LE) {
-                            iterator = Jdk8.RHEL8_PPC64LE_RPMS.entrySet().iterator();
-                            while (iterator.hasNext()) {
-                                Entry<String, Release> entry = iterator.next();
-                                if (entry.getKey().equals(getRpmDirectory())) {
-                                    Release release = entry.getValue();
-                                    jdkReleaseString = release.getVersion();
-                                }
-                            }
-                        }
-                        break;
-                    case CENTOS9:
-                    case RHEL9:
-                        iterator = Jdk8.RHEL9_X86_64_RPMS.entrySet().iterator();
-                        while (iterator.hasNext()) {
-                            Entry<String, Release> entry = iterator.next();
-                            if (entry.getKey().equals(getRpmDirectory())) {
-                                Release release = entry.getValue();
-                                jdkReleaseString = release.getVersion();
-                            }
-                        }
-                        break;
-                    case UNIDENTIFIED:
-                    default:
-                        break;
-                    }
-                }
-            }
-        }
-        if (jdkReleaseString == null) {
-            return org.github.krashpad.util.Constants.PROPERTY_UNKNOWN;
-        } else {
-            return jdkReleaseString;
-        }
+        return derive(Derived.JDK_RELEASE_STRING, this::computeJdkReleaseString);
     }
 
     /**
@@ -3404,8 +5311,8 @@ public class FatalErrorLog {
         String jdkRhelVersion = null;
         String rpmDirectory = getRpmDirectory();
         if (rpmDirectory != null) {
-            Pattern pattern = Pattern.compile(JdkRegEx.RH_RPM_DIR);
-            Matcher matcher = pattern.matcher(rpmDirectory);
+            Pattern pattern = PatternRegistry.getPattern(JdkRegEx.RH_RPM_DIR);
+            Matcher matcher = PatternRegistry.matcher(pattern, rpmDirectory);
             if (matcher.find()) {
                 if (matcher.group(2) != null) {
                     // JDK8
@@ -3428,29 +5335,14 @@ public class FatalErrorLog {
                 }
             }
         }
-        return jdkRhelVersion;
-    }
-
-    /**
-     * @return The JVM options, or null if none exist.
-     */
-    public String getJvmArgs() {
-        String jvmArgs = null;
-        if (!vmArguments.isEmpty()) {
-            Iterator<VmArguments> iterator = vmArguments.iterator();
-            while (iterator.hasNext()) {
-                VmArguments event = iterator.next();
-                if (event.isJvmArgs()) {
-                    jvmArgs = event.getValue();
-                    break;
-                }
-            }
-        } else if (commandLine != null) {
-            if (commandLine.getJvmOptions() != null) {
-                jvmArgs = commandLine.getJvmOptions();
-            }
-        }
-        return jvmArgs;
+        return jdkRhelVersion;
+    }
+
+    /**
+     * @return The JVM options, or null if none exist.
+     */
+    public String getJvmArgs() {
+        return derive(Derived.JVM_ARGS, this::computeJvmArgs);
     }
 
     /**
@@ -3468,7 +5360,7 @@ public class FatalErrorLog {
             while (iterator.hasNext()) {
                 Memory event = iterator.next();
                 if (event.isHeader()) {
-                    Matcher matcher = Memory.PATTERN.matcher(event.getLogEntry());
+                    Matcher matcher = PatternRegistry.matcher(Memory.PATTERN, event.getLogEntry());
                     if (matcher.find()) {
                         physicalMemoryFree = JdkUtil.convertSize(Long.parseLong(matcher.group(7)),
                                 matcher.group(9).charAt(0), 'B');
@@ -3521,65 +5413,70 @@ public class FatalErrorLog {
      * @return Estimated JVM maximum memory in bytes.
      */
     public long getJvmMemoryMax() {
-        long jvmMemoryMax = Long.MIN_VALUE;
-        if (getHeapMaxSize() > 0) {
-            jvmMemoryMax = getHeapMaxSize();
-        }
-        if (getMetaspaceMaxSize() > 0) {
-            if (jvmMemoryMax > 0) {
-                jvmMemoryMax += getMetaspaceMaxSize();
-            } else {
-                jvmMemoryMax = getMetaspaceMaxSize();
-            }
-        }
-        // Thread stack space
-        if (getThreadStackMemory() > 0) {
-            if (jvmMemoryMax > 0) {
-                jvmMemoryMax += getThreadStackMemory();
-            } else {
-                jvmMemoryMax = getThreadStackMemory();
-            }
-        }
-        // code cache
-        if (jvmMemoryMax > 0) {
-            jvmMemoryMax += getCodeCacheSize();
-        } else {
-            jvmMemoryMax = getCodeCacheSize();
-        }
-        // Direct memory
-        if (jvmMemoryMax > 0) {
-            jvmMemoryMax += getDirectMemoryMaxSize();
-        } else {
-            jvmMemoryMax = getDirectMemoryMaxSize();
-        }
-        return jvmMemoryMax;
+        return derive(Derived.JVM_MEMORY_MAX, this::computeJvmMemoryMax);
     }
 
     /**
      * @return The total physical memory reported by the JVM in bytes.
      */
     public long getJvmMemTotal() {
-        long physicalMemory = Long.MIN_VALUE;
-        if (!memories.isEmpty()) {
-            Iterator<Memory> iterator = memories.iterator();
-            while (iterator.hasNext()) {
-                Memory event = iterator.next();
-                if (event.isHeader()) {
-                    Matcher matcher = Memory.PATTERN.matcher(event.getLogEntry());
-                    if (matcher.find()) {
-                        physicalMemory = JdkUtil.convertSize(Long.parseLong(matcher.group(4)),
-                                matcher.group(6).charAt(0), 'B');
-                    }
-                }
-            }
-        }
-        return physicalMemory;
+        return derive(Derived.JVM_MEM_TOTAL, this::computeJvmMemTotal);
     }
 
     public JvmOptions getJvmOptions() {
         return jvmOptions;
     }
 
+    /**
+     * @param item
+     *            The JVM options analysis, a String array with 2 elements, the first the key, the second the display
+     *            literal.
+     * @return The JVM options analysis display literal, with the details from the fatal error log.
+     */
+    private String getJvmOptionsAnalysisLiteral(String[] item) {
+        String literal;
+        if (item[0].equals(org.github.joa.util.Analysis.INFO_INSTRUMENTATION.toString())) {
+            StringBuffer s = new StringBuffer(item[1]);
+            Iterator<String> iterator = getJvmOptions().getJavaagent().iterator();
+            while (iterator.hasNext()) {
+                String option = iterator.next();
+                s.append(" ");
+                s.append(option);
+            }
+            s.append(".");
+            literal = s.toString();
+        } else if (item[0].equals(org.github.joa.util.Analysis.INFO_NATIVE_AGENT.toString())) {
+            StringBuffer s = new StringBuffer(item[1]);
+            if (!getJvmOptions().getAgentlib().isEmpty()) {
+                Iterator<String> iterator = getJvmOptions().getAgentlib().iterator();
+                while (iterator.hasNext()) {
+                    String option = iterator.next();
+                    s.append(" ");
+                    s.append(option);
+                }
+            }
+            if (!getJvmOptions().getAgentpath().isEmpty()) {
+                Iterator<String> iterator = getJvmOptions().getAgentpath().iterator();
+                while (iterator.hasNext()) {
+                    String option = iterator.next();
+                    s.append(" ");
+                    s.append(option);
+                }
+            }
+            s.append(".");
+            literal = s.toString();
+        } else if (item[0].equals(org.github.joa.util.Analysis.INFO_OPTS_UNDEFINED.toString())) {
+            StringBuffer s = new StringBuffer(item[1]);
+            s.append(" Please submit an issue so we can investigate: " + "https://github.com/mgm3746/krashpad/issues. "
+                    + "If attaching a fatal error log, be sure to review it and remove any sensitive "
+                    + "information.");
+            literal = s.toString();
+        } else {
+            literal = item[1];
+        }
+        return literal;
+    }
+
     /**
      * @return The total available swap as reported by the JVM in bytes.
      */
@@ -3590,7 +5487,7 @@ public class FatalErrorLog {
             while (iterator.hasNext()) {
                 Memory event = iterator.next();
                 if (event.isHeader()) {
-                    Matcher matcher = Memory.PATTERN.matcher(event.getLogEntry());
+                    Matcher matcher = PatternRegistry.matcher(Memory.PATTERN, event.getLogEntry());
                     if (matcher.find()) {
                         if (matcher.group(11) != null && matcher.group(13) != null) {
                             swap = JdkUtil.convertSize(Long.parseLong(matcher.group(11)), matcher.group(13).charAt(0),
@@ -3613,7 +5510,7 @@ public class FatalErrorLog {
             while (iterator.hasNext()) {
                 Memory event = iterator.next();
                 if (event.isHeader()) {
-                    Matcher matcher = Memory.PATTERN.matcher(event.getLogEntry());
+                    Matcher matcher = PatternRegistry.matcher(Memory.PATTERN, event.getLogEntry());
                     if (matcher.find()) {
                         if (matcher.group(14) != null && matcher.group(16) != null) {
                             swapFree = JdkUtil.convertSize(Long.parseLong(matcher.group(14)),
@@ -3638,12 +5535,12 @@ public class FatalErrorLog {
         if (!dynamicLibraries.isEmpty()) {
             String regExHsPerfData = System.getProperty("file.separator") + "hsperfdata_([^"
                     + System.getProperty("file.separator") + "]+)";
-            Pattern pattern = Pattern.compile(regExHsPerfData);
+            Pattern pattern = PatternRegistry.getPattern(regExHsPerfData);
             Iterator<DynamicLibrary> iterator = dynamicLibraries.iterator();
             while (iterator.hasNext()) {
                 DynamicLibrary event = iterator.next();
                 if (event.getFilePath() != null) {
-                    Matcher matcher = pattern.matcher(event.getFilePath());
+                    Matcher matcher = PatternRegistry.matcher(pattern, event.getFilePath());
                     if (matcher.find()) {
                         jvmUser = matcher.group(1);
                         break;
@@ -3693,13 +5590,13 @@ public class FatalErrorLog {
         long memBallooned = Long.MIN_VALUE;
         if (!virtualizationInfos.isEmpty()) {
             String regexGuestMemBallooned = "guest.mem.ballooned = (\\d{1,})";
-            Pattern pattern = Pattern.compile(regexGuestMemBallooned);
+            Pattern pattern = PatternRegistry.getPattern(regexGuestMemBallooned);
             Iterator<VirtualizationInfo> iterator = virtualizationInfos.iterator();
             // Get information now, not at startup
             boolean now = false;
             while (iterator.hasNext()) {
                 VirtualizationInfo event = iterator.next();
-                Matcher matcher = pattern.matcher(event.getLogEntry());
+                Matcher matcher = PatternRegistry.matcher(pattern, event.getLogEntry());
                 if (now && matcher.find()) {
                     memBallooned = JdkUtil.convertSize(Long.parseLong(matcher.group(1)), 'K', 'B');
                     break;
@@ -3730,9 +5627,9 @@ public class FatalErrorLog {
             String regex = "^.+failed to (allocate|map) (\\d{1,}) bytes.+$";
             while (iterator.hasNext()) {
                 Header he = iterator.next();
-                if (he.getLogEntry().matches(regex)) {
-                    Pattern pattern = Pattern.compile(regex);
-                    Matcher matcher = pattern.matcher(he.getLogEntry());
+                if (PatternRegistry.matches(he.getLogEntry(), regex)) {
+                    Pattern pattern = PatternRegistry.getPattern(regex);
+                    Matcher matcher = PatternRegistry.matcher(pattern, he.getLogEntry());
                     if (matcher.find()) {
                         memoryAllocation = JdkUtil.convertSize(Long.parseLong(matcher.group(2)), 'B', 'B');
                         break;
@@ -3753,11 +5650,11 @@ public class FatalErrorLog {
         long memTotal = Long.MIN_VALUE;
         if (!meminfos.isEmpty()) {
             String regexMemTotal = "MemTotal:[ ]{0,}(\\d{1,}) kB";
-            Pattern pattern = Pattern.compile(regexMemTotal);
+            Pattern pattern = PatternRegistry.getPattern(regexMemTotal);
             Iterator<Meminfo> iterator = meminfos.iterator();
             while (iterator.hasNext()) {
                 Meminfo event = iterator.next();
-                Matcher matcher = pattern.matcher(event.getLogEntry());
+                Matcher matcher = PatternRegistry.matcher(pattern, event.getLogEntry());
                 if (matcher.find()) {
                     memTotal = JdkUtil.convertSize(Long.parseLong(matcher.group(1)), 'K', 'B');
                     break;
@@ -3781,8 +5678,8 @@ public class FatalErrorLog {
             while (iterator.hasNext()) {
                 Heap event = iterator.next();
                 if (event.isMetaspace()) {
-                    pattern = Pattern.compile(JdkRegEx.METASPACE_SIZE);
-                    matcher = pattern.matcher(event.getLogEntry());
+                    pattern = PatternRegistry.getPattern(JdkRegEx.METASPACE_SIZE);
+                    matcher = PatternRegistry.matcher(pattern, event.getLogEntry());
                     if (matcher.find()) {
                         value = Long.parseLong(matcher.group(8));
                         if (matcher.group(10) != null) {
@@ -3810,8 +5707,8 @@ public class FatalErrorLog {
         if (jvmOptions != null && jvmOptions.getMaxMetaspaceSize() != null) {
             char fromUnits;
             long value;
-            Pattern pattern = Pattern.compile(JdkRegEx.OPTION_SIZE_BYTES);
-            Matcher matcher = pattern.matcher(jvmOptions.getMaxMetaspaceSize());
+            Pattern pattern = PatternRegistry.getPattern(JdkRegEx.OPTION_SIZE_BYTES);
+            Matcher matcher = PatternRegistry.matcher(pattern, jvmOptions.getMaxMetaspaceSize());
             if (matcher.find()) {
                 value = Long.parseLong(matcher.group(2));
                 if (matcher.group(3) != null) {
@@ -3833,8 +5730,8 @@ public class FatalErrorLog {
                 while (iterator.hasNext()) {
                     Heap event = iterator.next();
                     if (event.isMetaspace()) {
-                        pattern = Pattern.compile(JdkRegEx.METASPACE_SIZE);
-                        matcher = pattern.matcher(event.getLogEntry());
+                        pattern = PatternRegistry.getPattern(JdkRegEx.METASPACE_SIZE);
+                        matcher = PatternRegistry.matcher(pattern, event.getLogEntry());
                         if (matcher.find()) {
                             int committedBlock = 11;
                             int committedIndex = 13;
@@ -3868,8 +5765,8 @@ public class FatalErrorLog {
             while (iterator.hasNext()) {
                 Heap event = iterator.next();
                 if (event.isMetaspace()) {
-                    pattern = Pattern.compile(JdkRegEx.METASPACE_SIZE);
-                    matcher = pattern.matcher(event.getLogEntry());
+                    pattern = PatternRegistry.getPattern(JdkRegEx.METASPACE_SIZE);
+                    matcher = PatternRegistry.matcher(pattern, event.getLogEntry());
                     if (matcher.find()) {
                         value = Long.parseLong(matcher.group(1));
                         if (matcher.group(3) != null) {
@@ -3887,15 +5784,18 @@ public class FatalErrorLog {
     }
 
     /**
-     * @return The number of mmap resources in a deleted state.
+     * @return The number of mmap resources in a deleted state, or <code>Integer.MIN_VALUE</code> if dynamic libraries
+     *         were not parsed.
      */
     public int getMmapDeletedCount() {
         int mmapDeletedCount = 0;
-        if (!dynamicLibraries.isEmpty()) {
+        if (isSkipped(LogEventType.DYNAMIC_LIBRARY)) {
+            mmapDeletedCount = Integer.MIN_VALUE;
+        } else if (!dynamicLibraries.isEmpty()) {
             Iterator<DynamicLibrary> iterator = dynamicLibraries.iterator();
             while (iterator.hasNext()) {
                 DynamicLibrary event = iterator.next();
-                if (event.getLogEntry().matches(JdkRegEx.MMAPPED_FILE_DELETED)) {
+                if (PatternRegistry.matches(event.getLogEntry(), JdkRegEx.MMAPPED_FILE_DELETED)) {
                     mmapDeletedCount++;
                 }
             }
@@ -3968,29 +5868,7 @@ public class FatalErrorLog {
      * @return Unknown native libraries (not OS, not Java).
      */
     public List<String> getNativeLibrariesUnknown() {
-        List<String> unidentifiedNativeLibraries = new ArrayList<String>();
-        List<String> nativeLibraries = getNativeLibraries();
-        if (!nativeLibraries.isEmpty()) {
-            Iterator<String> iterator = nativeLibraries.iterator();
-            while (iterator.hasNext()) {
-                String nativeLibraryPath = iterator.next();
-                String nativeLibary = org.github.joa.util.JdkRegEx.getFile(nativeLibraryPath);
-                if (!KrashUtil.NATIVE_LIBRARIES_JBOSS.contains(nativeLibary)
-                        && !KrashUtil.NATIVE_LIBRARIES_LINUX.contains(nativeLibraryPath)
-                        && !KrashUtil.NATIVE_LIBRARIES_LINUX_JAVA.contains(nativeLibary)
-                        && !KrashUtil.NATIVE_LIBRARIES_ORACLE.contains(nativeLibary)
-                        && !KrashUtil.NATIVE_LIBRARIES_TOMCAT
-                                .contains(org.github.joa.util.JdkRegEx.getFile(nativeLibraryPath))
-                        && !KrashUtil.NATIVE_LIBRARIES_VMWARE
-                                .contains(org.github.joa.util.JdkRegEx.getFile(nativeLibraryPath))
-                        && !(KrashUtil.NATIVE_LIBRARIES_WINDOWS.contains(nativeLibary)
-                                && nativeLibraryPath.matches(KrashUtil.NATIVE_LIBRARY_WINDOWS_SYSTEM_HOME + ".+"))
-                        && !KrashUtil.NATIVE_LIBRARIES_WINDOWS_JAVA.contains(nativeLibary)) {
-                    unidentifiedNativeLibraries.add(nativeLibraryPath);
-                }
-            }
-        }
-        return unidentifiedNativeLibraries;
+        return derive(Derived.NATIVE_LIBRARIES_UNKNOWN, this::computeNativeLibrariesUnknown);
     }
 
     /**
@@ -4018,8 +5896,8 @@ public class FatalErrorLog {
     public String getNativeLibraryInCrash() {
         String nativeLibraryInCrash = null;
         if (getStackFrameTop() != null) {
-            Pattern pattern = Pattern.compile("^C[ ]{1,2}\\[(.+\\.(so|dll)).*\\].*$");
-            Matcher matcher = pattern.matcher(getStackFrameTop());
+            Pattern pattern = PatternRegistry.getPattern("^C[ ]{1,2}\\[(.+\\.(so|dll)).*\\].*$");
+            Matcher matcher = PatternRegistry.matcher(pattern, getStackFrameTop());
             if (matcher.find()) {
                 nativeLibraryInCrash = matcher.group(1);
             }
@@ -4043,7 +5921,8 @@ public class FatalErrorLog {
         Iterator<Stack> iterator = stacks.iterator();
         while (iterator.hasNext()) {
             Stack event = iterator.next();
-            if (event.getLogEntry().matches("^" + stackFrame + "$") && stackIndex < stacks.size()) {
+            if (PatternRegistry.matcher(Pattern.compile("^" + stackFrame + "$"), event.getLogEntry()).matches()
+                    && stackIndex < stacks.size()) {
                 nextStackFrame = stacks.get(stackIndex + 1).getLogEntry();
                 break;
             }
@@ -4056,28 +5935,7 @@ public class FatalErrorLog {
      * @return <code>Os</code>
      */
     public Os getOs() {
-        Os osType = Os.UNIDENTIFIED;
-        String osString = getOsString();
-        if (osString != null) {
-            if (osString.matches(".*Linux.*")) {
-                osType = Os.LINUX;
-            } else if (osString.matches("^Windows.+$")) {
-                osType = Os.WINDOWS;
-            } else if (osString.matches(".+Solaris.+")) {
-                osType = Os.SOLARIS;
-            }
-        } else if (!headers.isEmpty()) {
-            // Check header
-            Iterator<Header> iterator = headers.iterator();
-            while (iterator.hasNext()) {
-                Header he = iterator.next();
-                if (he.isJavaVm()) {
-                    osType = he.getOsType();
-                    break;
-                }
-            }
-        }
-        return osType;
+        return derive(Derived.OS, this::computeOs);
     }
 
     /**
@@ -4096,11 +5954,11 @@ public class FatalErrorLog {
         if (!memories.isEmpty()) {
             String regexCommitCharge = "current process commit charge \\(\"private bytes\"\\): (\\d{1,})M, peak: "
                     + "\\d{1,}M";
-            Pattern pattern = Pattern.compile(regexCommitCharge);
+            Pattern pattern = PatternRegistry.getPattern(regexCommitCharge);
             Iterator<Memory> iterator = memories.iterator();
             while (iterator.hasNext()) {
                 Memory event = iterator.next();
-                Matcher matcher = pattern.matcher(event.getLogEntry());
+                Matcher matcher = PatternRegistry.matcher(pattern, event.getLogEntry());
                 if (matcher.find()) {
                     commitCharge = JdkUtil.convertSize(Long.parseLong(matcher.group(1)), 'M', 'B');
                     break;
@@ -4125,21 +5983,7 @@ public class FatalErrorLog {
      * @return The total amount of memory currently available to be allocated by the system in bytes.
      */
     public long getOsCommitLimit() {
-        long commitLimit = Long.MIN_VALUE;
-        if (!meminfos.isEmpty()) {
-            String regexCommitLimit = "CommitLimit:[ ]{0,}(\\d{1,}) kB";
-            Pattern pattern = Pattern.compile(regexCommitLimit);
-            Iterator<Meminfo> iterator = meminfos.iterator();
-            while (iterator.hasNext()) {
-                Meminfo event = iterator.next();
-                Matcher matcher = pattern.matcher(event.getLogEntry());
-                if (matcher.find()) {
-                    commitLimit = JdkUtil.convertSize(Long.parseLong(matcher.group(1)), 'K', 'B');
-                    break;
-                }
-            }
-        }
-        return commitLimit;
+        return derive(Derived.OS_COMMIT_LIMIT, this::computeOsCommitLimit);
     }
 
     /**
@@ -4161,11 +6005,11 @@ public class FatalErrorLog {
         long committedAs = Long.MIN_VALUE;
         if (!meminfos.isEmpty()) {
             String regexCommittedAs = "Committed_AS:[ ]{0,}(\\d{1,}) kB";
-            Pattern pattern = Pattern.compile(regexCommittedAs);
+            Pattern pattern = PatternRegistry.getPattern(regexCommittedAs);
             Iterator<Meminfo> iterator = meminfos.iterator();
             while (iterator.hasNext()) {
                 Meminfo event = iterator.next();
-                Matcher matcher = pattern.matcher(event.getLogEntry());
+                Matcher matcher = PatternRegistry.matcher(pattern, event.getLogEntry());
                 if (matcher.find()) {
                     committedAs = JdkUtil.convertSize(Long.parseLong(matcher.group(1)), 'K', 'B');
                     break;
@@ -4190,11 +6034,11 @@ public class FatalErrorLog {
         long memAvailable = Long.MIN_VALUE;
         if (!meminfos.isEmpty()) {
             String regexMemTotal = "MemAvailable:[ ]{0,}(\\d{1,}) kB";
-            Pattern pattern = Pattern.compile(regexMemTotal);
+            Pattern pattern = PatternRegistry.getPattern(regexMemTotal);
             Iterator<Meminfo> iterator = meminfos.iterator();
             while (iterator.hasNext()) {
                 Meminfo event = iterator.next();
-                Matcher matcher = pattern.matcher(event.getLogEntry());
+                Matcher matcher = PatternRegistry.matcher(pattern, event.getLogEntry());
                 if (matcher.find()) {
                     memAvailable = JdkUtil.convertSize(Long.parseLong(matcher.group(1)), 'K', 'B');
                     break;
@@ -4214,11 +6058,11 @@ public class FatalErrorLog {
         long memFree = Long.MIN_VALUE;
         if (!meminfos.isEmpty()) {
             String regexMemTotal = "MemFree:[ ]{0,}(\\d{1,}) kB";
-            Pattern pattern = Pattern.compile(regexMemTotal);
+            Pattern pattern = PatternRegistry.getPattern(regexMemTotal);
             Iterator<Meminfo> iterator = meminfos.iterator();
             while (iterator.hasNext()) {
                 Meminfo event = iterator.next();
-                Matcher matcher = pattern.matcher(event.getLogEntry());
+                Matcher matcher = PatternRegistry.matcher(pattern, event.getLogEntry());
                 if (matcher.find()) {
                     memFree = JdkUtil.convertSize(Long.parseLong(matcher.group(1)), 'K', 'B');
                     break;
@@ -4229,8 +6073,8 @@ public class FatalErrorLog {
             while (iterator.hasNext()) {
                 Memory event = iterator.next();
                 if (event.isHeader()) {
-                    Pattern pattern = Pattern.compile(Memory._REGEX_HEADER);
-                    Matcher matcher = pattern.matcher(event.getLogEntry());
+                    Pattern pattern = PatternRegistry.getPattern(Memory._REGEX_HEADER);
+                    Matcher matcher = PatternRegistry.matcher(pattern, event.getLogEntry());
                     if (matcher.find()) {
                         memFree = JdkUtil.convertSize(Long.parseLong(matcher.group(6)), matcher.group(8).charAt(0),
                                 'B');
@@ -4246,23 +6090,7 @@ public class FatalErrorLog {
      * @return The total available physical memory reported by the OS in bytes.
      */
     public long getOsMemTotal() {
-        long memTotal = getMemTotal();
-        if (memTotal < 0 && !memories.isEmpty()) {
-            Iterator<Memory> iterator = memories.iterator();
-            while (iterator.hasNext()) {
-                Memory event = iterator.next();
-                if (event.isHeader()) {
-                    Pattern pattern = Pattern.compile(Memory._REGEX_HEADER);
-                    Matcher matcher = pattern.matcher(event.getLogEntry());
-                    if (matcher.find()) {
-                        memTotal = JdkUtil.convertSize(Long.parseLong(matcher.group(3)), matcher.group(5).charAt(0),
-                                'B');
-                    }
-                    break;
-                }
-            }
-        }
-        return memTotal;
+        return derive(Derived.OS_MEM_TOTAL, this::computeOsMemTotal);
     }
 
     /**
@@ -4273,29 +6101,7 @@ public class FatalErrorLog {
      * @return OS string, of null if it doesn't exist.
      */
     public String getOsString() {
-        String osString = null;
-        if (!osInfos.isEmpty()) {
-            Iterator<OsInfo> iterator = osInfos.iterator();
-            while (iterator.hasNext()) {
-                OsInfo event = iterator.next();
-                if (event.isHeader()) {
-                    Matcher matcher = OsInfo.PATTERN.matcher(event.getLogEntry());
-                    if (matcher.find()) {
-                        if (matcher.group(2) != null) {
-                            osString = matcher.group(4).trim();
-                        } else if (iterator.hasNext()) {
-                            // OS is on separate line
-                            event = iterator.next();
-                            osString = event.getLogEntry().trim();
-                        }
-                    }
-                    break;
-                }
-            }
-        } else if (host != null && host.getOsString() != null) {
-            osString = host.getOsString();
-        }
-        return osString;
+        return derive(Derived.OS_STRING, this::computeOsString);
     }
 
     /**
@@ -4305,11 +6111,11 @@ public class FatalErrorLog {
         long swap = Long.MIN_VALUE;
         if (!meminfos.isEmpty()) {
             String regexMemTotal = "SwapTotal:[ ]{0,}(\\d{1,}) kB";
-            Pattern pattern = Pattern.compile(regexMemTotal);
+            Pattern pattern = PatternRegistry.getPattern(regexMemTotal);
             Iterator<Meminfo> iterator = meminfos.iterator();
             while (iterator.hasNext()) {
                 Meminfo event = iterator.next();
-                Matcher matcher = pattern.matcher(event.getLogEntry());
+                Matcher matcher = PatternRegistry.matcher(pattern, event.getLogEntry());
                 if (matcher.find()) {
                     swap = JdkUtil.convertSize(Long.parseLong(matcher.group(1)), 'K', 'B');
                     break;
@@ -4320,8 +6126,8 @@ public class FatalErrorLog {
             while (iterator.hasNext()) {
                 Memory event = iterator.next();
                 if (event.isHeader()) {
-                    Pattern pattern = Pattern.compile(Memory._REGEX_HEADER);
-                    Matcher matcher = pattern.matcher(event.getLogEntry());
+                    Pattern pattern = PatternRegistry.getPattern(Memory._REGEX_HEADER);
+                    Matcher matcher = PatternRegistry.matcher(pattern, event.getLogEntry());
                     if (matcher.find() && matcher.group(9) != null) {
                         swap = JdkUtil.convertSize(Long.parseLong(matcher.group(10)), matcher.group(12).charAt(0), 'B');
                     }
@@ -4343,11 +6149,11 @@ public class FatalErrorLog {
         long swapFree = Long.MIN_VALUE;
         if (!meminfos.isEmpty()) {
             String regexMemTotal = "SwapFree:[ ]{0,}(\\d{1,}) kB";
-            Pattern pattern = Pattern.compile(regexMemTotal);
+            Pattern pattern = PatternRegistry.getPattern(regexMemTotal);
             Iterator<Meminfo> iterator = meminfos.iterator();
             while (iterator.hasNext()) {
                 Meminfo event = iterator.next();
-                Matcher matcher = pattern.matcher(event.getLogEntry());
+                Matcher matcher = PatternRegistry.matcher(pattern, event.getLogEntry());
                 if (matcher.find()) {
                     swapFree = JdkUtil.convertSize(Long.parseLong(matcher.group(1)), 'K', 'B');
                     break;
@@ -4358,8 +6164,8 @@ public class FatalErrorLog {
             while (iterator.hasNext()) {
                 Memory event = iterator.next();
                 if (event.isHeader()) {
-                    Pattern pattern = Pattern.compile(Memory._REGEX_HEADER);
-                    Matcher matcher = pattern.matcher(event.getLogEntry());
+                    Pattern pattern = PatternRegistry.getPattern(Memory._REGEX_HEADER);
+                    Matcher matcher = PatternRegistry.matcher(pattern, event.getLogEntry());
                     if (matcher.find() && matcher.group(9) != null) {
                         swapFree = JdkUtil.convertSize(Long.parseLong(matcher.group(13)), matcher.group(15).charAt(0),
                                 'B');
@@ -4385,17 +6191,17 @@ public class FatalErrorLog {
             while (iterator.hasNext()) {
                 OsInfo event = iterator.next();
                 if (event.isHeader()) {
-                    if (event.getLogEntry().matches("^OS:$")) {
+                    if (PatternRegistry.matches(event.getLogEntry(), "^OS:$") && iterator.hasNext()) {
                         // OS string on next line
                         event = iterator.next();
                     }
-                    if (event.getLogEntry().matches("^.*Red Hat.+$")) {
+                    if (PatternRegistry.matches(event.getLogEntry(), "^.*Red Hat.+$")) {
                         osVendor = OsVendor.REDHAT;
-                    } else if (event.getLogEntry().matches(".*Windows.+$")) {
+                    } else if (PatternRegistry.matches(event.getLogEntry(), ".*Windows.+$")) {
                         osVendor = OsVendor.MICROSOFT;
-                    } else if (event.getLogEntry().matches("^.+Oracle.+$")) {
+                    } else if (PatternRegistry.matches(event.getLogEntry(), "^.+Oracle.+$")) {
                         osVendor = OsVendor.ORACLE;
-                    } else if (event.getLogEntry().matches("^.*CentOS.+$")) {
+                    } else if (PatternRegistry.matches(event.getLogEntry(), "^.*CentOS.+$")) {
                         osVendor = OsVendor.CENTOS;
                     }
                     break;
@@ -4410,42 +6216,7 @@ public class FatalErrorLog {
      * @return <code>OsVersion</code>
      */
     public OsVersion getOsVersion() {
-        OsVersion osVersion = OsVersion.UNIDENTIFIED;
-        if (!osInfos.isEmpty()) {
-            Iterator<OsInfo> iterator = osInfos.iterator();
-            while (iterator.hasNext()) {
-                OsInfo event = iterator.next();
-                if (event.isHeader()) {
-                    if (event.getLogEntry().matches("^OS:$") && iterator.hasNext()) {
-                        // OS on next line
-                        event = iterator.next();
-                    }
-                    if (event.getLogEntry().matches("^.*Red Hat Enterprise Linux (Server|Workstation) release 6.+$")) {
-                        osVersion = OsVersion.RHEL6;
-                    } else if (event.getLogEntry()
-                            .matches("^.*Red Hat Enterprise Linux (Server|Workstation) release 7.+$")) {
-                        osVersion = OsVersion.RHEL7;
-                    } else if (event.getLogEntry().matches("^.*Red Hat Enterprise Linux release 8.+$")) {
-                        osVersion = OsVersion.RHEL8;
-                    } else if (event.getLogEntry().matches("^.*Red Hat Enterprise Linux release 9.+$")) {
-                        osVersion = OsVersion.RHEL9;
-                    } else if (event.getLogEntry().matches("^.*Windows 10.+$")) {
-                        osVersion = OsVersion.WINDOWS10;
-                    } else if (event.getLogEntry().matches("^.*CentOS Linux release 6.+$")) {
-                        osVersion = OsVersion.CENTOS6;
-                    } else if (event.getLogEntry().matches("^.*CentOS Linux release 7.+$")) {
-                        osVersion = OsVersion.CENTOS7;
-                    } else if (event.getLogEntry().matches("^.*CentOS Linux release 8.+$")) {
-                        osVersion = OsVersion.CENTOS8;
-                    }
-                    break;
-                }
-            }
-        }
-        if (osVersion == OsVersion.UNIDENTIFIED && uname != null) {
-            osVersion = uname.getOsVersion();
-        }
-        return osVersion;
+        return derive(Derived.OS_VERSION, this::computeOsVersion);
     }
 
     /**
@@ -4457,11 +6228,11 @@ public class FatalErrorLog {
         long availPageFile = Long.MIN_VALUE;
         if (!memories.isEmpty()) {
             String regexTotalPageFile = "TotalPageFile size \\d{1,}M \\(AvailPageFile size (\\d{1,})M\\)";
-            Pattern pattern = Pattern.compile(regexTotalPageFile);
+            Pattern pattern = PatternRegistry.getPattern(regexTotalPageFile);
             Iterator<Memory> iterator = memories.iterator();
             while (iterator.hasNext()) {
                 Memory event = iterator.next();
-                Matcher matcher = pattern.matcher(event.getLogEntry());
+                Matcher matcher = PatternRegistry.matcher(pattern, event.getLogEntry());
                 if (matcher.find()) {
                     availPageFile = JdkUtil.convertSize(Long.parseLong(matcher.group(1)), 'M', 'B');
                     break;
@@ -4480,11 +6251,11 @@ public class FatalErrorLog {
         long availPageFile = Long.MIN_VALUE;
         if (!memories.isEmpty()) {
             String regexTotalPageFile = "TotalPageFile size (\\d{1,})M \\(AvailPageFile size \\d{1,}M\\)";
-            Pattern pattern = Pattern.compile(regexTotalPageFile);
+            Pattern pattern = PatternRegistry.getPattern(regexTotalPageFile);
             Iterator<Memory> iterator = memories.iterator();
             while (iterator.hasNext()) {
                 Memory event = iterator.next();
-                Matcher matcher = pattern.matcher(event.getLogEntry());
+                Matcher matcher = PatternRegistry.matcher(pattern, event.getLogEntry());
                 if (matcher.find()) {
                     availPageFile = JdkUtil.convertSize(Long.parseLong(matcher.group(1)), 'M', 'B');
                     break;
@@ -4513,6 +6284,99 @@ public class FatalErrorLog {
         return pidMaxLimit;
     }
 
+    /**
+     * @param placeholder
+     *            An analysis message placeholder.
+     * @return The value of the placeholder in this fatal error log.
+     */
+    private Object getPlaceholderValue(Placeholder placeholder) {
+        Object value;
+        switch (placeholder) {
+        case CGROUP_VERSION:
+            value = getCgroupVersion();
+            break;
+        case CRASH_SIGNATURES:
+            StringBuilder crashSignatureIds = new StringBuilder();
+            for (CrashSignature crashSignature : crashSignatures) {
+                if (crashSignatureIds.length() > 0) {
+                    crashSignatureIds.append(", ");
+                }
+                crashSignatureIds.append(crashSignature.getId());
+                if (crashSignature.getTitle() != null) {
+                    crashSignatureIds.append(" (" + crashSignature.getTitle() + ")");
+                }
+            }
+            value = crashSignatureIds;
+            break;
+        case DYNAMIC_LIBRARIES_MAPPING_COUNT:
+            value = getDynamicLibrariesMappingCount();
+            break;
+        case GLOBAL_FLAGS_EXPERIMENTAL_ERGONOMIC:
+            List<String> globalFlags = new ArrayList<String>();
+            Iterator<GlobalFlag> iterator = getGlobalFlagsExperimentalErgonomic().iterator();
+            while (iterator.hasNext()) {
+                GlobalFlag globalFlag = iterator.next();
+                globalFlags.add(globalFlag.getFlag() + "=" + globalFlag.getValue());
+            }
+            value = globalFlags;
+            break;
+        case HEAP_DUMP_PATH:
+            value = getJvmOptions().getHeapDumpPath();
+            break;
+        case JDK_AGE_YEARS:
+            BigDecimal years = new BigDecimal(KrashUtil.dayDiff(getJdkReleaseDate(), new Date()));
+            value = years.divide(new BigDecimal(365), 1, HALF_EVEN);
+            break;
+        case LATEST_RELEASE_DIFFERENCE:
+            StringBuilder difference = new StringBuilder();
+            int releaseDayDiff = KrashUtil.dayDiff(JdkUtil.getJdkReleaseDate(this),
+                    JdkUtil.getLatestJdkReleaseDate(this));
+            int releaseNumberDiff = JdkUtil.getLatestJdkReleaseNumber(this) - JdkUtil.getJdkReleaseNumber(this);
+            if (releaseDayDiff > 0 && releaseNumberDiff > 0) {
+                difference.append(", which is newer by " + releaseNumberDiff);
+                difference.append(" release");
+                if (releaseNumberDiff > 1) {
+                    difference.append("s");
+                }
+                difference.append(" and ");
+                difference.append("" + releaseDayDiff);
+                difference.append(" day");
+                if (releaseDayDiff > 1) {
+                    difference.append("s");
+                }
+            }
+            value = difference;
+            break;
+        case MAX_MAP_COUNT_LIMIT:
+            value = getMaxMapCountLimit();
+            break;
+        case NATIVE_LIBRARIES_JBOSS:
+            value = getNativeLibrariesJBoss();
+            break;
+        case NATIVE_LIBRARIES_TOMCAT:
+            value = getNativeLibrariesTomcat();
+            break;
+        case NATIVE_LIBRARIES_UNKNOWN:
+            value = getNativeLibrariesUnknown();
+            break;
+        case NATIVE_LIBRARIES_VMWARE:
+            value = getNativeLibrariesVmWare();
+            break;
+        case NATIVE_LIBRARY_IN_CRASH:
+            value = getNativeLibraryInCrash();
+            break;
+        case RHEL_VERSION:
+            value = getRhelVersion();
+            break;
+        case RPM_DIRECTORY:
+            value = getRpmDirectory();
+            break;
+        default:
+            throw new AssertionError("Unexpected placeholder value: " + placeholder);
+        }
+        return value;
+    }
+
     public List<RegisterToMemoryMapping> getRegisterToMemoryMappings() {
         return registerToMemoryMappings;
     }
@@ -4521,17 +6385,7 @@ public class FatalErrorLog {
      * @return The RHEL version, or null if unknown.
      */
     public String getRhelVersion() {
-        String rhelVersion = null;
-        String osString = getOsString();
-        if (osString != null) {
-            String regex = "^.*Red Hat Enterprise Linux (Server )?release (\\d\\.\\d{1,2}).*$";
-            Pattern pattern = Pattern.compile(regex);
-            Matcher matcher = pattern.matcher(osString);
-            if (matcher.find()) {
-                rhelVersion = matcher.group(2);
-            }
-        }
-        return rhelVersion;
+        return derive(Derived.RHEL_VERSION, this::computeRhelVersion);
     }
 
     public Rlimit getRlimit() {
@@ -4550,49 +6404,7 @@ public class FatalErrorLog {
      *         java-17-openjdk-17.0.4.1.1-2.el9_0.x86_64
      */
     public String getRpmDirectory() {
-        String rpmDirectory = null;
-        if (getOs() == Os.LINUX) {
-            if (!dynamicLibraries.isEmpty()) {
-                Iterator<DynamicLibrary> iterator = dynamicLibraries.iterator();
-                while (iterator.hasNext()) {
-                    DynamicLibrary event = iterator.next();
-                    if (event.getFilePath() != null) {
-                        Pattern pattern = null;
-                        Matcher matcher = null;
-                        if (event.getFilePath().matches(JdkRegEx.RH_RPM_OPENJDK8_LIBJVM_PATH)) {
-                            pattern = Pattern.compile(JdkRegEx.RH_RPM_OPENJDK8_LIBJVM_PATH);
-                            matcher = pattern.matcher(event.getFilePath());
-                            if (matcher.find()) {
-                                rpmDirectory = matcher.group(1);
-                            }
-                            break;
-                        } else if (event.getFilePath().matches(JdkRegEx.RH_RPM_OPENJDK11_LIBJVM_PATH)) {
-                            pattern = Pattern.compile(JdkRegEx.RH_RPM_OPENJDK11_LIBJVM_PATH);
-                            matcher = pattern.matcher(event.getFilePath());
-                            if (matcher.find()) {
-                                rpmDirectory = matcher.group(1);
-                            }
-                            break;
-                        } else if (event.getFilePath().matches(JdkRegEx.RH_RPM_OPENJDK17_LIBJVM_PATH)) {
-                            pattern = Pattern.compile(JdkRegEx.RH_RPM_OPENJDK17_LIBJVM_PATH);
-                            matcher = pattern.matcher(event.getFilePath());
-                            if (matcher.find()) {
-                                rpmDirectory = matcher.group(1);
-                            }
-                            break;
-                        } else if (event.getFilePath().matches(JdkRegEx.RH_RPM_OPENJDK21_LIBJVM_PATH)) {
-                            pattern = Pattern.compile(JdkRegEx.RH_RPM_OPENJDK21_LIBJVM_PATH);
-                            matcher = pattern.matcher(event.getFilePath());
-                            if (matcher.find()) {
-                                rpmDirectory = matcher.group(1);
-                            }
-                            break;
-                        }
-                    }
-                }
-            }
-        }
-        return rpmDirectory;
+        return derive(Derived.RPM_DIRECTORY, this::computeRpmDirectory);
     }
 
     public SigInfo getSigInfo() {
@@ -4643,6 +6455,13 @@ public class FatalErrorLog {
         return signalNumber;
     }
 
+    /**
+     * @return The event types that were not parsed.
+     */
+    public Set<LogEventType> getSkippedEventTypes() {
+        return skippedEventTypes;
+    }
+
     /**
      * @param i
      *            The stack frame index (1 = top).
@@ -4654,7 +6473,7 @@ public class FatalErrorLog {
         Iterator<Stack> iterator = stacks.iterator();
         while (iterator.hasNext()) {
             Stack event = iterator.next();
-            if (!event.getLogEntry().matches("^(Stack|(Java|Native) frames):.+$")) {
+            if (!PatternRegistry.matches(event.getLogEntry(), "^(Stack|(Java|Native) frames):.+$")) {
                 if (stackIndex == i) {
                     stackFrame = event.getLogEntry();
                     break;
@@ -4669,26 +6488,7 @@ public class FatalErrorLog {
      * @return The top stack frame, or null if none exists.
      */
     public String getStackFrameTop() {
-        String stackFrameTop = null;
-        Iterator<Stack> iteratorStack = stacks.iterator();
-        while (iteratorStack.hasNext()) {
-            Stack event = iteratorStack.next();
-            if (event.getLogEntry().matches("^(A|C|j|J|v|V)[ ]{1,2}.+$")) {
-                stackFrameTop = event.getLogEntry();
-                break;
-            }
-        }
-        if (stackFrameTop == null && !headers.isEmpty()) {
-            Iterator<Header> iteratorHeader = headers.iterator();
-            while (iteratorHeader.hasNext()) {
-                Header he = iteratorHeader.next();
-                if (he.isProblematicFrame()) {
-                    stackFrameTop = he.getLogEntry().substring(2, he.getLogEntry().length());
-                    break;
-                }
-            }
-        }
-        return stackFrameTop;
+        return derive(Derived.STACK_FRAME_TOP, this::computeStackFrameTop);
     }
 
     /**
@@ -4699,7 +6499,7 @@ public class FatalErrorLog {
         Iterator<Stack> iterator = stacks.iterator();
         while (iterator.hasNext()) {
             Stack event = iterator.next();
-            if (event.getLogEntry().matches("^J[ ]{1,2}.+$")) {
+            if (PatternRegistry.matches(event.getLogEntry(), "^J[ ]{1,2}.+$")) {
                 stackFrameTopCompiledJavaCode = event.getLogEntry();
                 break;
             }
@@ -4715,7 +6515,7 @@ public class FatalErrorLog {
         Iterator<Stack> iterator = stacks.iterator();
         while (iterator.hasNext()) {
             Stack event = iterator.next();
-            if (event.getLogEntry().matches("^[jJ][ ]{1,2}.+$")) {
+            if (PatternRegistry.matches(event.getLogEntry(), "^[jJ][ ]{1,2}.+$")) {
                 stackFrameTopJava = event.getLogEntry();
                 break;
             }
@@ -4740,7 +6540,7 @@ public class FatalErrorLog {
             Iterator<DynamicLibrary> iterator = dynamicLibraries.iterator();
             while (iterator.hasNext()) {
                 DynamicLibrary event = iterator.next();
-                if (event.getFilePath() != null && event.getFilePath().matches("^.+libjvm\\.so$")) {
+                if (event.getFilePath() != null && PatternRegistry.matches(event.getFilePath(), "^.+libjvm\\.so$")) {
                     device = event.getDevice();
                     break;
                 }
@@ -4832,8 +6632,9 @@ public class FatalErrorLog {
         } else if (jvmOptions != null && jvmOptions.getThreadStackSize() != null) {
             char fromUnits;
             long value;
-            Pattern pattern = Pattern.compile("^-(X)?(ss|X:ThreadStackSize=)" + JdkRegEx.OPTION_SIZE_BYTES + "$");
-            Matcher matcher = pattern.matcher(jvmOptions.getThreadStackSize());
+            Pattern pattern = PatternRegistry.getPattern("^-(X)?(ss|X:ThreadStackSize=)" + JdkRegEx.OPTION_SIZE_BYTES
+                    + "$");
+            Matcher matcher = PatternRegistry.matcher(pattern, jvmOptions.getThreadStackSize());
             if (matcher.find()) {
                 value = Long.parseLong(matcher.group(4));
                 if (matcher.group(2) != null && matcher.group(2).equals("X:ThreadStackSize=")) {
@@ -4917,11 +6718,11 @@ public class FatalErrorLog {
         String username = null;
         if (!environmentVariables.isEmpty()) {
             String regExUsername = "^USERNAME=(.+)$";
-            Pattern pattern = Pattern.compile(regExUsername);
+            Pattern pattern = PatternRegistry.getPattern(regExUsername);
             Iterator<EnvironmentVariable> iterator = environmentVariables.iterator();
             while (iterator.hasNext()) {
                 EnvironmentVariable event = iterator.next();
-                Matcher matcher = pattern.matcher(event.getLogEntry());
+                Matcher matcher = PatternRegistry.matcher(pattern, event.getLogEntry());
                 if (matcher.find()) {
                     username = matcher.group(1);
                     break;
@@ -4957,19 +6758,8 @@ public class FatalErrorLog {
      * @return True if the {@link org.github.joa.util.Analysis} exists, false otherwise.
      */
     public boolean hasAnalysis(String key) {
-        boolean hasAnalysis = false;
-        List<String[]> analysis = getAnalysis();
-        if (!analysis.isEmpty()) {
-            Iterator<String[]> i = analysis.iterator();
-            while (i.hasNext()) {
-                String[] a = i.next();
-                if (a[0].equals(key)) {
-                    hasAnalysis = true;
-                    break;
-                }
-            }
-        }
-        return hasAnalysis;
+        Analysis item = Analysis.fromKey(key);
+        return (item != null && analysis.contains(item)) || (jvmOptions != null && jvmOptions.hasAnalysis(key));
     }
 
     /**
@@ -4984,7 +6774,8 @@ public class FatalErrorLog {
             while (iterator.hasNext()) {
                 CpuInfo event = iterator.next();
                 if (event.isCpuHeader()) {
-                    hasCpuCapability = event.getLogEntry().matches("^.*( " + capability + ",.+| " + capability + ")$");
+                    hasCpuCapability = PatternRegistry.matches(event.getLogEntry(),
+                            "^.*( " + capability + ",.+| " + capability + ")$");
                     break;
                 }
             }
@@ -5001,7 +6792,7 @@ public class FatalErrorLog {
             Iterator<ContainerInfo> iterator = containerInfos.iterator();
             while (iterator.hasNext()) {
                 ContainerInfo event = iterator.next();
-                if (event.getLogEntry().matches("^memory_limit_in_bytes: \\d{1,}$")) {
+                if (PatternRegistry.matches(event.getLogEntry(), "^memory_limit_in_bytes: \\d{1,}$")) {
                     isCgroupMemoryLimit = true;
                     break;
                 }
@@ -5038,7 +6829,7 @@ public class FatalErrorLog {
             while (iterator1.hasNext()) {
                 Header he = iterator1.next();
                 if (he.isProblematicFrame()) {
-                    haveJdkDebugSymbols = he.getLogEntry().matches("^# V  \\[.+\\].+$");
+                    haveJdkDebugSymbols = PatternRegistry.matches(he.getLogEntry(), "^# V  \\[.+\\].+$");
                     break;
                 }
             }
@@ -5049,8 +6840,8 @@ public class FatalErrorLog {
                 while (iterator2.hasNext() && !haveJdkDebugSymbols) {
                     Stack se = iterator2.next();
                     if (se.isVmFrame()) {
-                        haveJdkDebugSymbols = se.getLogEntry().matches("^V  \\[.+\\].+$")
-                                && !se.getLogEntry().matches("^V  \\[.+\\]  JVM_DoPrivileged.+$");
+                        haveJdkDebugSymbols = PatternRegistry.matches(se.getLogEntry(), "^V  \\[.+\\].+$")
+                                && !PatternRegistry.matches(se.getLogEntry(), "^V  \\[.+\\]  JVM_DoPrivileged.+$");
                     }
                 }
             }
@@ -5068,7 +6859,7 @@ public class FatalErrorLog {
             while (iteratorExceptionCounts.hasNext()) {
                 ExceptionCounts exceptionCountsEvent = iteratorExceptionCounts.next();
                 if (!exceptionCountsEvent.isHeader()
-                        && exceptionCountsEvent.getLogEntry().matches("^LinkageErrors=\\d{1,}$")) {
+                        && PatternRegistry.matches(exceptionCountsEvent.getLogEntry(), "^LinkageErrors=\\d{1,}$")) {
                     haveLinkageError = true;
                     break;
                 }
@@ -5087,8 +6878,9 @@ public class FatalErrorLog {
             Iterator<ExceptionCounts> iteratorExceptionCounts = exceptionCounts.iterator();
             while (iteratorExceptionCounts.hasNext()) {
                 ExceptionCounts exceptionCountsEvent = iteratorExceptionCounts.next();
-                if (!exceptionCountsEvent.isHeader() && exceptionCountsEvent.getLogEntry()
-                        .matches("^OutOfMemoryError class_metaspace_errors=\\d{1,}$")) {
+                if (!exceptionCountsEvent.isHeader()
+                        && PatternRegistry.matches(exceptionCountsEvent.getLogEntry(),
+                                "^OutOfMemoryError class_metaspace_errors=\\d{1,}$")) {
                     haveOomeThrownCompressedClassSpace = true;
                     break;
                 }
@@ -5108,7 +6900,8 @@ public class FatalErrorLog {
             while (iteratorExceptionCounts.hasNext()) {
                 ExceptionCounts exceptionCountsEvent = iteratorExceptionCounts.next();
                 if (!exceptionCountsEvent.isHeader()
-                        && exceptionCountsEvent.getLogEntry().matches("^OutOfMemoryError java_heap_errors=\\d{1,}$")) {
+                        && PatternRegistry.matches(exceptionCountsEvent.getLogEntry(),
+                                "^OutOfMemoryError java_heap_errors=\\d{1,}$")) {
                     haveOomeThrownJavaHeap = true;
                     break;
                 }
@@ -5127,7 +6920,8 @@ public class FatalErrorLog {
             while (iteratorExceptionCounts.hasNext()) {
                 ExceptionCounts exceptionCountsEvent = iteratorExceptionCounts.next();
                 if (!exceptionCountsEvent.isHeader()
-                        && exceptionCountsEvent.getLogEntry().matches("^OutOfMemoryError metaspace_errors=\\d{1,}$")) {
+                        && PatternRegistry.matches(exceptionCountsEvent.getLogEntry(),
+                                "^OutOfMemoryError metaspace_errors=\\d{1,}$")) {
                     haveOomeThrownMetaspace = true;
                     break;
                 }
@@ -5146,7 +6940,8 @@ public class FatalErrorLog {
             while (iteratorExceptionCounts.hasNext()) {
                 ExceptionCounts exceptionCountsEvent = iteratorExceptionCounts.next();
                 if (!exceptionCountsEvent.isHeader()
-                        && exceptionCountsEvent.getLogEntry().matches("^StackOverflowErrors=\\d{1,}$")) {
+                        && PatternRegistry.matches(exceptionCountsEvent.getLogEntry(),
+                                "^StackOverflowErrors=\\d{1,}$")) {
                     haveStackOverFlowError = true;
                     break;
                 }
@@ -5228,6 +7023,22 @@ public class FatalErrorLog {
         return haveVmGeneratedCodeFrameInStack;
     }
 
+    /**
+     * Remove the cached values derived from an input that changed.
+     * 
+     * @param input
+     *            The input that changed.
+     */
+    private void invalidate(Input input) {
+        if (!cache.isEmpty()) {
+            for (Derived key : Derived.values()) {
+                if (key.inputs.contains(input)) {
+                    cache.remove(key);
+                }
+            }
+        }
+    }
+
     /**
      * AdoptOpenJDK has the same release versions as the RH build of OpenJDK but have a different build date/time and
      * builder string ("jenkins").
@@ -5270,7 +7081,7 @@ public class FatalErrorLog {
      */
     public boolean isCrashOnStartup() {
         boolean isCrashOnStartup = false;
-        if (getElapsedTime() != null && getElapsedTime().matches("0d 0h 0m 0s")) {
+        if (getElapsedTime() != null && PatternRegistry.matches(getElapsedTime(), "0d 0h 0m 0s")) {
             isCrashOnStartup = true;
         }
         return isCrashOnStartup;
@@ -5283,14 +7094,21 @@ public class FatalErrorLog {
      */
     public boolean isError(String errorRegEx) {
         boolean isError = false;
-        Pattern pattern = Pattern.compile(errorRegEx);
-        Matcher matcher = pattern.matcher(getError());
+        Pattern pattern = PatternRegistry.getPattern(errorRegEx);
+        Matcher matcher = PatternRegistry.matcher(pattern, getError());
         if (matcher.find()) {
             isError = true;
         }
         return isError;
     }
 
+    /**
+     * @return true if parsing is complete and derived values are cached, false otherwise.
+     */
+    public boolean isFrozen() {
+        return frozen;
+    }
+
     /**
      * @return true if HyperV environment, false otherwise.
      */
@@ -5300,7 +7118,7 @@ public class FatalErrorLog {
             Iterator<ContainerInfo> iterator = containerInfos.iterator();
             while (iterator.hasNext()) {
                 ContainerInfo event = iterator.next();
-                if (event.getLogEntry().matches("^HyperV virtualization detected$")) {
+                if (PatternRegistry.matches(event.getLogEntry(), "^HyperV virtualization detected$")) {
                     isVMWareEnvironment = true;
                     break;
                 }
@@ -5320,7 +7138,7 @@ public class FatalErrorLog {
             Iterator<CompilationEvent> iterator = compilationEvents.iterator();
             while (iterator.hasNext()) {
                 CompilationEvent event = iterator.next();
-                if (event.getLogEntry().matches("^.*" + regEx + ".*$")) {
+                if (PatternRegistry.matches(event.getLogEntry(), "^.*" + regEx + ".*$")) {
                     isInCompilationEvents = true;
                     break;
                 }
@@ -5340,7 +7158,7 @@ public class FatalErrorLog {
             Iterator<EnvironmentVariable> iterator = environmentVariables.iterator();
             while (iterator.hasNext()) {
                 EnvironmentVariable event = iterator.next();
-                if (event.getLogEntry().matches("^.*" + regEx + ".*$")) {
+                if (PatternRegistry.matches(event.getLogEntry(), "^.*" + regEx + ".*$")) {
                     isInEnvironmentVariables = true;
                     break;
                 }
@@ -5360,7 +7178,7 @@ public class FatalErrorLog {
             Iterator<Header> iterator = headers.iterator();
             while (iterator.hasNext()) {
                 Header event = iterator.next();
-                if (event.getLogEntry().matches("^.*" + regEx + ".*$")) {
+                if (PatternRegistry.matches(event.getLogEntry(), "^.*" + regEx + ".*$")) {
                     isInHeader = true;
                 }
             }
@@ -5368,6 +7186,85 @@ public class FatalErrorLog {
         return isInHeader;
     }
 
+    /**
+     * @param rule
+     *            An analysis rule.
+     * @return true if the rule has no input event types or there are events of one of its input event types, false
+     *         otherwise.
+     */
+    private boolean isInputPresent(Rule rule) {
+        boolean isInputPresent = rule.inputs.isEmpty();
+        Iterator<LogEventType> iterator = rule.inputs.iterator();
+        while (!isInputPresent && iterator.hasNext()) {
+            LogEventType eventType = iterator.next();
+            switch (eventType) {
+            case COMMAND_LINE:
+                isInputPresent = commandLine != null;
+                break;
+            case COMPILATION_EVENT:
+                isInputPresent = !compilationEvents.isEmpty();
+                break;
+            case CURRENT_THREAD:
+                isInputPresent = currentThread != null;
+                break;
+            case DYNAMIC_LIBRARY:
+                isInputPresent = !dynamicLibraries.isEmpty();
+                break;
+            case ELAPSED_TIME:
+                isInputPresent = elapsedTime != null;
+                break;
+            case ENVIRONMENT_VARIABLES:
+                isInputPresent = !environmentVariables.isEmpty();
+                break;
+            case EVENT:
+                isInputPresent = !events.isEmpty();
+                break;
+            case EXCEPTION_COUNTS:
+                isInputPresent = !exceptionCounts.isEmpty();
+                break;
+            case GLOBAL_FLAGS:
+                isInputPresent = !globalFlags.isEmpty();
+                break;
+            case HEADER:
+                isInputPresent = !headers.isEmpty();
+                break;
+            case LD_PRELOAD_FILE:
+                isInputPresent = !ldPreloadFiles.isEmpty();
+                break;
+            case REGISTER_TO_MEMORY_MAPPING:
+                isInputPresent = !registerToMemoryMappings.isEmpty();
+                break;
+            case SIGINFO:
+                isInputPresent = sigInfo != null;
+                break;
+            case STACK:
+                isInputPresent = !stacks.isEmpty();
+                break;
+            case STACK_SLOT_TO_MEMORY_MAPPING:
+                isInputPresent = !stackSlotToMemoryMappings.isEmpty();
+                break;
+            case THREAD:
+                isInputPresent = !threads.isEmpty();
+                break;
+            case TIME_ELAPSED_TIME:
+                isInputPresent = timeElapsedTime != null;
+                break;
+            case TIMEOUT:
+                isInputPresent = !timeouts.isEmpty();
+                break;
+            case VM_ARGUMENTS:
+                isInputPresent = !vmArguments.isEmpty();
+                break;
+            case VM_OPERATION:
+                isInputPresent = vmOperation != null;
+                break;
+            default:
+                throw new AssertionError("Unexpected LogEventType value: " + eventType);
+            }
+        }
+        return isInputPresent;
+    }
+
     /**
      * @param classRegEx
      *            A class name as a regular expression.
@@ -5379,7 +7276,7 @@ public class FatalErrorLog {
             Iterator<Stack> iterator = stacks.iterator();
             while (iterator.hasNext()) {
                 Stack event = iterator.next();
-                if (event.getLogEntry().matches("^.+" + classRegEx + ".+$")) {
+                if (PatternRegistry.matches(event.getLogEntry(), "^.+" + classRegEx + ".+$")) {
                     isInStack = true;
                     break;
                 }
@@ -5390,7 +7287,7 @@ public class FatalErrorLog {
                 Iterator<StackSlotToMemoryMapping> iterator = stackSlotToMemoryMappings.iterator();
                 while (iterator.hasNext()) {
                     StackSlotToMemoryMapping event = iterator.next();
-                    if (event.getLogEntry().matches("^.+" + classRegEx + ".+$")) {
+                    if (PatternRegistry.matches(event.getLogEntry(), "^.+" + classRegEx + ".+$")) {
                         isInStack = true;
                         break;
                     }
@@ -5402,7 +7299,7 @@ public class FatalErrorLog {
                 Iterator<RegisterToMemoryMapping> iterator = registerToMemoryMappings.iterator();
                 while (iterator.hasNext()) {
                     RegisterToMemoryMapping event = iterator.next();
-                    if (event.getLogEntry().matches("^.+" + classRegEx + ".+$")) {
+                    if (PatternRegistry.matches(event.getLogEntry(), "^.+" + classRegEx + ".+$")) {
                         isInStack = true;
                         break;
                     }
@@ -5412,6 +7309,21 @@ public class FatalErrorLog {
         return isInStack;
     }
 
+    /**
+     * @return true if the fatal error log is an immutable snapshot (see {@link #snapshot()}), false otherwise.
+     */
+    public boolean isImmutable() {
+        return immutable;
+    }
+
+    /**
+     * @return true if parsing stopped before the end of the fatal error log (time budget exceeded or cancelled), so
+     *         only the log lines before that point were parsed and analyzed, false otherwise.
+     */
+    public boolean isIncomplete() {
+        return incomplete;
+    }
+
     /**
      * @return true if the fatal error log was created by a JDK that is a Long Term Support (LTS) version, false
      *         otherwise.
@@ -5451,7 +7363,7 @@ public class FatalErrorLog {
         boolean isJnaCrash = false;
         if (getStacks() != null && getStacks().size() >= 2) {
             String stackFrame2 = getStackFrame(2);
-            if (stackFrame2 != null && stackFrame2.matches("^[CjJ].+com[\\._]sun[\\._]jna[\\._].+$")) {
+            if (stackFrame2 != null && PatternRegistry.matches(stackFrame2, "^[CjJ].+com[\\._]sun[\\._]jna[\\._].+$")) {
                 isJnaCrash = true;
             }
         }
@@ -5479,11 +7391,11 @@ public class FatalErrorLog {
             while (iterator.hasNext()) {
                 OsInfo event = iterator.next();
                 if (event.isHeader()) {
-                    if (event.getLogEntry().matches("^OS:$")) {
+                    if (PatternRegistry.matches(event.getLogEntry(), "^OS:$") && iterator.hasNext()) {
                         // OS string on next line
                         event = iterator.next();
                     }
-                    isOracleLinux = event.getLogEntry().matches("^.*Oracle Linux Server release.+$");
+                    isOracleLinux = PatternRegistry.matches(event.getLogEntry(), "^.*Oracle Linux Server release.+$");
                     break;
                 }
             }
@@ -5730,7 +7642,7 @@ public class FatalErrorLog {
      * @return true if the fatal error log was created by a RH build of OpenJDK, false otherwise.
      */
     public boolean isRhBuildOpenJdk() {
-        return isRhRpmInstall() || isRhLinuxZipInstall() || isRhWindowsZipInstall() || isRhRpm();
+        return derive(Derived.RH_BUILD_OPEN_JDK, this::computeRhBuildOpenJdk);
     }
 
     /**
@@ -5745,22 +7657,7 @@ public class FatalErrorLog {
      * @return true if the fatal error log was created on RHEL, false otherwise.
      */
     public boolean isRhel() {
-        boolean isRhel = false;
-        if (!osInfos.isEmpty()) {
-            Iterator<OsInfo> iterator = osInfos.iterator();
-            while (iterator.hasNext()) {
-                OsInfo event = iterator.next();
-                if (event.isHeader()) {
-                    if (event.getLogEntry().matches("^OS:$")) {
-                        // OS string on next line
-                        event = iterator.next();
-                    }
-                    isRhel = event.getLogEntry().matches("^.*Red Hat Enterprise Linux.+$");
-                    break;
-                }
-            }
-        }
-        return isRhel;
+        return derive(Derived.RHEL, this::computeRhel);
     }
 
     /**
@@ -5807,7 +7704,10 @@ public class FatalErrorLog {
         String jdkReleaseString = getJdkReleaseString();
         Iterator<Entry<String, Release>> iterator;
         Date jdkBuildDate = getJdkBuildDate();
-        if (getJavaSpecification() == JavaSpecification.JDK8) {
+        if (jdkBuildDate == null) {
+            // The build date is needed to identify the rpm (e.g. vm_info missing from a truncated fatal error log)
+            isRhelRpm = false;
+        } else if (getJavaSpecification() == JavaSpecification.JDK8) {
             switch (getOsVersion()) {
             case CENTOS6:
             case RHEL6:
@@ -6028,125 +7928,7 @@ public class FatalErrorLog {
      *         otherwise.
      */
     public boolean isRhRpmInstall() {
-        boolean isRhelRpmInstall = false;
-        String rpmDirectory = getRpmDirectory();
-        if (rpmDirectory != null) {
-            if (getJavaSpecification() == JavaSpecification.JDK8) {
-                switch (getOsVersion()) {
-                case CENTOS6:
-                case RHEL6:
-                    isRhelRpmInstall = Jdk8.RHEL6_X86_64_RPMS.containsKey(rpmDirectory) && getJdkBuildDate() != null
-                            && getJdkBuildDate()
-                                    .compareTo(Jdk8.RHEL6_X86_64_RPMS.get(rpmDirectory).getBuildDate()) == 0;
-                    break;
-                case CENTOS7:
-                case RHEL7:
-                    if (getArch() == Arch.X86_64) {
-                        isRhelRpmInstall = Jdk8.RHEL7_X86_64_RPMS.containsKey(rpmDirectory) && getJdkBuildDate() != null
-                                && getJdkBuildDate()
-                                        .compareTo(Jdk8.RHEL7_X86_64_RPMS.get(rpmDirectory).getBuildDate()) == 0;
-                    } else if (getArch() == Arch.PPC64) {
-                        isRhelRpmInstall = Jdk8.RHEL7_PPC64_RPMS.containsKey(rpmDirectory) && getJdkBuildDate() != null
-                                && getJdkBuildDate()
-                                        .compareTo(Jdk8.RHEL7_PPC64_RPMS.get(rpmDirectory).getBuildDate()) == 0;
-                    } else if (getArch() == Arch.PPC64LE) {
-                        isRhelRpmInstall = Jdk8.RHEL7_PPC64LE_RPMS.containsKey(rpmDirectory)
-                                && getJdkBuildDate() != null && getJdkBuildDate()
-                                        .compareTo(Jdk8.RHEL7_PPC64LE_RPMS.get(rpmDirectory).getBuildDate()) == 0;
-                    }
-                    break;
-                case CENTOS8:
-                case RHEL8:
-                    if (getArch() == Arch.X86_64) {
-                        isRhelRpmInstall = Jdk8.RHEL8_X86_64_RPMS.containsKey(rpmDirectory) && getJdkBuildDate() != null
-                                && getJdkBuildDate()
-                                        .compareTo(Jdk8.RHEL8_X86_64_RPMS.get(rpmDirectory).getBuildDate()) == 0;
-                    } else if (getArch() == Arch.PPC64LE) {
-                        isRhelRpmInstall = Jdk8.RHEL8_PPC64LE_RPMS.containsKey(rpmDirectory)
-                                && getJdkBuildDate() != null && getJdkBuildDate()
-                                        .compareTo(Jdk8.RHEL8_PPC64LE_RPMS.get(rpmDirectory).getBuildDate()) == 0;
-                    }
-                    break;
-                case CENTOS9:
-                case RHEL9:
-                    isRhelRpmInstall = Jdk8.RHEL9_X86_64_RPMS.containsKey(rpmDirectory) && getJdkBuildDate() != null
-                            && getJdkBuildDate()
-                                    .compareTo(Jdk8.RHEL9_X86_64_RPMS.get(rpmDirectory).getBuildDate()) == 0;
-                    break;
-                case UNIDENTIFIED:
-                default:
-                    break;
-                }
-            } else if (getJavaSpecification() == JavaSpecification.JDK11) {
-                switch (getOsVersion()) {
-                case CENTOS7:
-                case RHEL7:
-                    isRhelRpmInstall = Jdk11.RHEL7_X86_64_RPMS.containsKey(rpmDirectory) && getJdkBuildDate() != null
-                            && getJdkBuildDate()
-                                    .compareTo(Jdk11.RHEL7_X86_64_RPMS.get(rpmDirectory).getBuildDate()) == 0;
-                    break;
-                case CENTOS8:
-                case RHEL8:
-                    isRhelRpmInstall = Jdk11.RHEL8_X86_64_RPMS.containsKey(rpmDirectory) && getJdkBuildDate() != null
-                            && getJdkBuildDate()
-                                    .compareTo(Jdk11.RHEL8_X86_64_RPMS.get(rpmDirectory).getBuildDate()) == 0;
-                    break;
-                case RHEL9:
-                    isRhelRpmInstall = Jdk11.RHEL9_X86_64_RPMS.containsKey(rpmDirectory) && getJdkBuildDate() != null
-                            && getJdkBuildDate()
-                                    .compareTo(Jdk11.RHEL9_X86_64_RPMS.get(rpmDirectory).getBuildDate()) == 0;
-                    break;
-                case CENTOS6:
-                case RHEL6:
-                case UNIDENTIFIED:
-                default:
-                    break;
-                }
-            } else if (getJavaSpecification() == JavaSpecification.JDK17) {
-                switch (getOsVersion()) {
-                case CENTOS8:
-                case RHEL8:
-                    isRhelRpmInstall = Jdk17.RHEL8_X86_64_RPMS.containsKey(rpmDirectory) && getJdkBuildDate() != null
-                            && getJdkBuildDate()
-                                    .compareTo(Jdk17.RHEL8_X86_64_RPMS.get(rpmDirectory).getBuildDate()) == 0;
-                    break;
-                case RHEL9:
-                    isRhelRpmInstall = Jdk17.RHEL9_X86_64_RPMS.containsKey(rpmDirectory) && getJdkBuildDate() != null
-                            && getJdkBuildDate()
-                                    .compareTo(Jdk17.RHEL9_X86_64_RPMS.get(rpmDirectory).getBuildDate()) == 0;
-                    break;
-                case CENTOS6:
-                case RHEL6:
-                case CENTOS7:
-                case RHEL7:
-                case UNIDENTIFIED:
-                default:
-                    break;
-                }
-            } else if (getJavaSpecification() == JavaSpecification.JDK21) {
-                switch (getOsVersion()) {
-                case CENTOS8:
-                case RHEL8:
-                    isRhelRpmInstall = Jdk21.RHEL8_X86_64_RPMS.containsKey(rpmDirectory) && getJdkBuildDate() != null
-                            && getJdkBuildDate()
-                                    .compareTo(Jdk21.RHEL8_X86_64_RPMS.get(rpmDirectory).getBuildDate()) == 0;
-                    break;
-                case RHEL9:
-                    isRhelRpmInstall = Jdk21.RHEL9_X86_64_RPMS.containsKey(rpmDirectory) && getJdkBuildDate() != null
-                            && getJdkBuildDate()
-                                    .compareTo(Jdk21.RHEL9_X86_64_RPMS.get(rpmDirectory).getBuildDate()) == 0;
-                    break;
-                case CENTOS6:
-                case RHEL6:
-                case CENTOS7:
-                case RHEL7:
-                case UNIDENTIFIED:
-                default:
-                    break;
-                }
-            }
-        }
-        return isRhelRpmInstall;
+        return derive(Derived.RH_RPM_INSTALL, this::computeRhRpmInstall);
     }
 
     /**
@@ -6365,6 +8147,16 @@ public class FatalErrorLog {
         return isRhelRpmInstall;
     }
 
+    /**
+     * @param eventType
+     *            The event type.
+     * @return true if events of the type were not parsed, so values derived from them are not known, false
+     *         otherwise.
+     */
+    public boolean isSkipped(LogEventType eventType) {
+        return skippedEventTypes.contains(eventType);
+    }
+
     /**
      * @return true if the fatal error is truncated, false otherwise.
      */
@@ -6386,7 +8178,7 @@ public class FatalErrorLog {
             Iterator<VirtualizationInfo> iterator = virtualizationInfos.iterator();
             while (iterator.hasNext()) {
                 VirtualizationInfo event = iterator.next();
-                if (event.getLogEntry().matches("^VMWare virtualization detected$")) {
+                if (PatternRegistry.matches(event.getLogEntry(), "^VMWare virtualization detected$")) {
                     isVMWareEnvironment = true;
                     break;
                 }
@@ -6408,11 +8200,11 @@ public class FatalErrorLog {
             while (iterator.hasNext()) {
                 OsInfo event = iterator.next();
                 if (event.isHeader()) {
-                    if (event.getLogEntry().matches("^OS:$") && iterator.hasNext()) {
+                    if (PatternRegistry.matches(event.getLogEntry(), "^OS:$") && iterator.hasNext()) {
                         // OS string on next line
                         event = iterator.next();
                     }
-                    isWindows = event.getLogEntry().matches("^OS: Windows.+$");
+                    isWindows = PatternRegistry.matches(event.getLogEntry(), "^OS: Windows.+$");
                     break;
                 }
             }
@@ -6420,6 +8212,70 @@ public class FatalErrorLog {
         return isWindows;
     }
 
+    /**
+     * Find the probes in the event lists, one pass over each list.
+     * 
+     * @return The log entry of the first hit of each probe that is found.
+     */
+    private EnumMap<Probe, String> probe() {
+        EnumMap<Probe, String> probeHits = new EnumMap<Probe, String>(Probe.class);
+        probe(probeHits, ProbeTarget.COMPILATION_EVENTS, compilationEvents);
+        probe(probeHits, ProbeTarget.ENVIRONMENT_VARIABLES, environmentVariables);
+        probe(probeHits, ProbeTarget.EVENTS, events);
+        probe(probeHits, ProbeTarget.HEADER, headers);
+        probe(probeHits, ProbeTarget.STACK, stacks);
+        probe(probeHits, ProbeTarget.STACK, stackSlotToMemoryMappings);
+        probe(probeHits, ProbeTarget.STACK, registerToMemoryMappings);
+        return probeHits;
+    }
+
+    /**
+     * Find the probes of a target in an event list.
+     * 
+     * @param probeHits
+     *            The log entry of the first hit of each probe, updated with the hits in the event list.
+     * @param target
+     *            The target.
+     * @param logEvents
+     *            The event list.
+     */
+    private static void probe(EnumMap<Probe, String> probeHits, ProbeTarget target,
+            List<? extends LogEvent> logEvents) {
+        MultiPatternMatcher matcher = Probe.MATCHERS.get(target);
+        List<Probe> probes = Probe.PROBES.get(target);
+        Iterator<? extends LogEvent> iterator = logEvents.iterator();
+        while (iterator.hasNext()) {
+            String logEntry = iterator.next().getLogEntry();
+            BitSet hits = matcher.match(logEntry);
+            for (int i = hits.nextSetBit(0); i >= 0; i = hits.nextSetBit(i + 1)) {
+                if (!probeHits.containsKey(probes.get(i))) {
+                    probeHits.put(probes.get(i), logEntry);
+                }
+            }
+        }
+    }
+
+    /**
+     * Run an analysis rule and record its cost.
+     * 
+     * @param rule
+     *            The rule.
+     * @param probeHits
+     *            The log entry of the first hit of each probe.
+     */
+    private void profile(Rule rule, EnumMap<Probe, String> probeHits) {
+        AnalysisList before = new AnalysisList(analysis);
+        boolean fired = false;
+        analysisProfile.start();
+        try {
+            analyze(rule, probeHits);
+            fired = !analysis.equals(before)
+                    || (rule == Rule.JVM_OPTIONS && jvmOptions != null && !jvmOptions.getAnalysis().isEmpty());
+        } finally {
+            analysisProfile.stop(rule.name(), fired);
+        }
+    }
+
     /**
      * Convenience method to remove <code>Analysis</code>.
      * 
@@ -6427,98 +8283,180 @@ public class FatalErrorLog {
      *            The <code>Analysis</code> to check.
      */
     public void removeAnalysis(Analysis key) {
+        checkMutable();
         analysis.remove(key);
+        invalidate(Input.ANALYSIS);
+    }
+
+    /**
+     * @param analysisProfile
+     *            The profile to record the cost of each analysis rule in, or null to not profile the analysis.
+     */
+    public void setAnalysisProfile(AnalysisProfile analysisProfile) {
+        checkMutable();
+        this.analysisProfile = analysisProfile;
     }
 
     public void setCommandLine(CommandLine commandLine) {
+        checkMutable();
         this.commandLine = commandLine;
+        invalidate(Input.COMMAND_LINE);
     }
 
     public void setCompressedClassSpaceEvent(CompressedClassSpace compressedClassSpaceEvent) {
+        checkMutable();
         this.compressedClassSpaceEvent = compressedClassSpaceEvent;
     }
 
+    /**
+     * @param crashSignatureDatabase
+     *            The known bug signatures to match the crash against, or null for none.
+     */
+    public void setCrashSignatureDatabase(CrashSignatureDatabase crashSignatureDatabase) {
+        checkMutable();
+        this.crashSignatureDatabase = crashSignatureDatabase;
+    }
+
     public void setCurrentThread(CurrentThread currentThread) {
+        checkMutable();
         this.currentThread = currentThread;
     }
 
     public void setDynamicLibrariesMappingCount(int dynamicLibrariesMappingCount) {
+        checkMutable();
         this.dynamicLibrariesMappingCount = dynamicLibrariesMappingCount;
     }
 
     public void setElapsedTime(ElapsedTime elapsedTime) {
+        checkMutable();
         this.elapsedTime = elapsedTime;
     }
 
     public void setEnd(End end) {
+        checkMutable();
         this.end = end;
     }
 
     public void setHeapAddress(HeapAddress heapAddress) {
+        checkMutable();
         this.heapAddress = heapAddress;
+        invalidate(Input.HEAP_ADDRESS);
     }
 
     public void setHost(Host host) {
+        checkMutable();
         this.host = host;
+        invalidate(Input.HOST);
+    }
+
+    public void setIncomplete(boolean incomplete) {
+        checkMutable();
+        this.incomplete = incomplete;
     }
 
     public void setMaxMapCount(MaxMapCount maxMapCount) {
+        checkMutable();
         this.maxMapCount = maxMapCount;
     }
 
     public void setNarrowKlass(NarrowKlass narrowKlass) {
+        checkMutable();
         this.narrowKlass = narrowKlass;
     }
 
     public void setPeriodicNativeTrim(PeriodicNativeTrim periodicNativeTrim) {
+        checkMutable();
         this.periodicNativeTrim = periodicNativeTrim;
     }
 
     public void setPidMax(PidMax pidMax) {
+        checkMutable();
         this.pidMax = pidMax;
     }
 
     public void setRlimit(Rlimit rlimit) {
+        checkMutable();
         this.rlimit = rlimit;
     }
 
     public void setSigInfo(SigInfo sigInfo) {
+        checkMutable();
         this.sigInfo = sigInfo;
     }
 
+    public void setSkippedEventTypes(Set<LogEventType> skippedEventTypes) {
+        checkMutable();
+        this.skippedEventTypes = skippedEventTypes;
+        invalidate(Input.SKIPPED_EVENT_TYPES);
+    }
+
     public void setThreadsMax(ThreadsMax threadsMax) {
+        checkMutable();
         this.threadsMax = threadsMax;
     }
 
     public void setTime(Time time) {
+        checkMutable();
         this.time = time;
     }
 
     public void setTimeElapsedTime(TimeElapsedTime timeElapsedTime) {
+        checkMutable();
         this.timeElapsedTime = timeElapsedTime;
     }
 
     public void setTimezone(Timezone timezone) {
+        checkMutable();
         this.timezone = timezone;
     }
 
     public void setUname(Uname uname) {
+        checkMutable();
         this.uname = uname;
+        invalidate(Input.UNAME);
     }
 
     public void setUnidentifiedLogLines(List<String> unidentifiedLogLines) {
+        checkMutable();
         this.unidentifiedLogLines = unidentifiedLogLines;
     }
 
     public void setVmInfo(VmInfo vmInfo) {
+        checkMutable();
         this.vmInfo = vmInfo;
+        invalidate(Input.VM_INFO);
     }
 
     public void setVmOperation(VmOperation vmOperation) {
+        checkMutable();
         this.vmOperation = vmOperation;
     }
 
     public void setVmState(VmState vmState) {
+        checkMutable();
         this.vmState = vmState;
     }
-}
\ No newline at end of file
+
+    /**
+     * Create an immutable snapshot of the fatal error log to share across threads (e.g. several renderers and rules
+     * reading the same log). The event lists are unmodifiable, compact copies, and every derived value (including the
+     * analysis literals) is computed before the snapshot is returned, so concurrent readers do not need locks. Setters
+     * and the processing and analysis methods throw <code>UnsupportedOperationException</code>. The
+     * <code>JvmOptions</code> are a copy not shared with this fatal error log, and must not be changed.
+     * 
+     * @return An immutable snapshot of the fatal error log, or this fatal error log if it is already a snapshot.
+     */
+    public FatalErrorLog snapshot() {
+        return immutable ? this : new Snapshot(this).fatalErrorLog;
+    }
+
+    /**
+     * Unfreeze the fatal error log to add more events (e.g. to continue an incremental parse), discarding the cached
+     * derived values.
+     */
+    public void unfreeze() {
+        checkMutable();
+        cache.clear();
+        frozen = false;
+    }
+}
@@ -20,6 +20,7 @@ import java.util.regex.Pattern;
 import org.github.krashpad.domain.HeaderEvent;
 import org.github.krashpad.domain.LogEvent;
 import org.github.krashpad.util.jdk.JdkUtil;
+import org.github.krashpad.util.jdk.PatternRegistry;
 
 /**
  * <p>
@@ -66,7 +67,7 @@ public class GlobalFlag implements LogEvent, HeaderEvent {
      */
     private static final String _REGEX_HEADER = "\\[Global flags\\]";
 
-    private static Pattern pattern = Pattern.compile(GlobalFlag.REGEX);
+    public static final Pattern PATTERN = PatternRegistry.getPattern(GlobalFlag.REGEX);
 
     /**
      * Regular expression defining the logging.
@@ -83,14 +84,29 @@ public class GlobalFlag implements LogEvent, HeaderEvent {
      *            The log line to test.
      * @return true if the log line matches the event pattern, false otherwise.
      */
-    public static final boolean match(String logLine) {
-        return logLine.matches(REGEX);
+    public static final boolean match(CharSequence logLine) {
+        return PatternRegistry.matcher(PATTERN, logLine).matches();
     }
 
+    /**
+     * The flag (or null for the header).
+     */
+    private final String flag;
+
+    /**
+     * Whether the log entry is the header, determined when the event is created.
+     */
+    private final boolean header;
+
     /**
      * The log entry for the event.
      */
-    private String logEntry;
+    private final String logEntry;
+
+    /**
+     * The flag value (or null for the header).
+     */
+    private final String value;
 
     /**
      * Create event from log entry.
@@ -100,17 +116,27 @@ public class GlobalFlag implements LogEvent, HeaderEvent {
      */
     public GlobalFlag(String logEntry) {
         this.logEntry = logEntry;
+        header = logEntry != null && PatternRegistry.matches(logEntry, _REGEX_HEADER);
+        String flag = null;
+        String value = null;
+        if (logEntry != null) {
+            Matcher matcher = PatternRegistry.matcher(PATTERN, logEntry);
+            if (matcher.find()) {
+                flag = matcher.group(3);
+                value = matcher.group(4);
+                if (value != null) {
+                    value = value.trim();
+                }
+            }
+        }
+        this.flag = flag;
+        this.value = value;
     }
 
     /**
      * @return The flag (or null for the header).
      */
     public String getFlag() {
-        String flag = null;
-        Matcher matcher = pattern.matcher(logEntry);
-        if (matcher.find()) {
-            flag = matcher.group(3);
-        }
         return flag;
     }
 
@@ -126,23 +152,11 @@ public class GlobalFlag implements LogEvent, HeaderEvent {
      * @return The flag value (or null for the header).
      */
     public String getValue() {
-        String value = null;
-        Matcher matcher = pattern.matcher(logEntry);
-        if (matcher.find()) {
-            value = matcher.group(4);
-            if (value != null) {
-                value = value.trim();
-            }
-        }
         return value;
     }
 
     @Override
     public boolean isHeader() {
-        boolean isHeader = false;
-        if (this.logEntry != null) {
-            isHeader = logEntry.matches(_REGEX_HEADER);
-        }
-        return isHeader;
+        return header;
     }
 }
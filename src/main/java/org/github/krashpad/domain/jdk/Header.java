@@ -14,10 +14,13 @@
  *********************************************************************************************************************/
 package org.github.krashpad.domain.jdk;
 
+import java.util.regex.Pattern;
+
 import org.github.joa.domain.Os;
 import org.github.krashpad.domain.LogEvent;
 import org.github.krashpad.util.jdk.JdkUtil;
 import org.github.krashpad.util.jdk.JdkUtil.SignalNumber;
+import org.github.krashpad.util.jdk.PatternRegistry;
 
 /**
  * <p>
@@ -110,6 +113,11 @@ import org.github.krashpad.util.jdk.JdkUtil.SignalNumber;
  */
 public class Header implements LogEvent {
 
+    /**
+     * Compiled <code>REGEX</code>.
+     */
+    public static final Pattern PATTERN = PatternRegistry.getPattern(Header.REGEX);
+
     /**
      * Regular expression defining the logging.
      */
@@ -124,14 +132,84 @@ public class Header implements LogEvent {
      *            The log line to test.
      * @return true if the log line matches the event pattern, false otherwise.
      */
-    public static final boolean match(String logLine) {
-        return logLine.matches(REGEX);
+    public static final boolean match(CharSequence logLine) {
+        return PatternRegistry.matcher(PATTERN, logLine).matches();
     }
 
+    /**
+     * True if the event is an error, false otherwise.
+     */
+    private final boolean error;
+
+    /**
+     * True if the event involves a failure, false otherwise.
+     */
+    private final boolean failed;
+
+    /**
+     * True if the event involves something insufficient, false otherwise.
+     */
+    private final boolean insufficient;
+
+    /**
+     * True if the event is an internal error, false otherwise.
+     */
+    private final boolean internalError;
+
+    /**
+     * True if the event is INVALID, false otherwise.
+     */
+    private final boolean invalid;
+
+    /**
+     * True if the event is a Java VM event, false otherwise.
+     */
+    private final boolean javaVm;
+
+    /**
+     * True if the event is a JRE version event, false otherwise.
+     */
+    private final boolean jreVersion;
+
     /**
      * The log entry for the event.
      */
-    private String logEntry;
+    private final String logEntry;
+
+    /**
+     * The <code>OsType</code>.
+     */
+    private final Os osType;
+
+    /**
+     * True if the event involves something out of, false otherwise.
+     */
+    private final boolean outOf;
+
+    /**
+     * True if the event is a problematic frame, false otherwise.
+     */
+    private final boolean problematicFrame;
+
+    /**
+     * True if the event includes a <code>SignalNumber</code>, false otherwise.
+     */
+    private final boolean signalNumber;
+
+    /**
+     * True if the event is a timeout, false otherwise.
+     */
+    private final boolean timeout;
+
+    /**
+     * True if the event is the vendor bug url, false otherwise.
+     */
+    private final boolean vendorBugUrl;
+
+    /**
+     * True if the event is a VM frame, false otherwise.
+     */
+    private final boolean vmFrame;
 
     /**
      * Create event from log entry.
@@ -141,6 +219,47 @@ public class Header implements LogEvent {
      */
     public Header(String logEntry) {
         this.logEntry = logEntry;
+        if (logEntry == null) {
+            error = false;
+            failed = false;
+            insufficient = false;
+            internalError = false;
+            invalid = false;
+            javaVm = false;
+            jreVersion = false;
+            outOf = false;
+            problematicFrame = false;
+            signalNumber = false;
+            timeout = false;
+            vendorBugUrl = false;
+            vmFrame = false;
+            osType = Os.UNIDENTIFIED;
+        } else {
+            error = PatternRegistry.matches(logEntry, "^#  (Error|fatal error):.+$");
+            failed = PatternRegistry.matches(logEntry, "^#.+failed.+$");
+            insufficient = PatternRegistry.matches(logEntry, "^#.+insufficient.+$");
+            internalError = PatternRegistry.matches(logEntry, "^#  Internal Error.+$");
+            invalid = PatternRegistry.matches(logEntry, "^#  INVALID .+$");
+            javaVm = PatternRegistry.matches(logEntry, "^# Java VM:.+$");
+            jreVersion = PatternRegistry.matches(logEntry, "^# JRE version:.+$");
+            outOf = PatternRegistry.matches(logEntry, "^#.+Out of.+$");
+            problematicFrame = PatternRegistry.matches(logEntry, "^# (C  |J |v  |V  ).+$");
+            signalNumber = PatternRegistry.matches(logEntry, "^#  (" + SignalNumber.EXCEPTION_ACCESS_VIOLATION + "|"
+                    + SignalNumber.EXCEPTION_STACK_OVERFLOW + "|" + SignalNumber.SIGBUS + "|" + SignalNumber.SIGFPE
+                    + "|" + SignalNumber.SIGILL + "|" + SignalNumber.SIGSEGV + ").+$");
+            timeout = PatternRegistry.matches(logEntry, "^\\[timeout occurred during error reporting in step.+$");
+            vendorBugUrl = PatternRegistry.matches(logEntry, "^#   http.+$");
+            vmFrame = PatternRegistry.matches(logEntry, "^# (V  ).+$");
+            if (PatternRegistry.matches(logEntry, ".+linux.+")) {
+                osType = Os.LINUX;
+            } else if (PatternRegistry.matches(logEntry, ".+solaris.+")) {
+                osType = Os.SOLARIS;
+            } else if (PatternRegistry.matches(logEntry, ".+windows.+")) {
+                osType = Os.WINDOWS;
+            } else {
+                osType = Os.UNIDENTIFIED;
+            }
+        }
     }
 
     public String getLogEntry() {
@@ -155,14 +274,6 @@ public class Header implements LogEvent {
      * @return The <code>OsType</code>.
      */
     public Os getOsType() {
-        Os osType = Os.UNIDENTIFIED;
-        if (logEntry.matches(".+linux.+")) {
-            osType = Os.LINUX;
-        } else if (logEntry.matches(".+solaris.+")) {
-            osType = Os.SOLARIS;
-        } else if (logEntry.matches(".+windows.+")) {
-            osType = Os.WINDOWS;
-        }
         return osType;
     }
 
@@ -170,28 +281,28 @@ public class Header implements LogEvent {
      * @return True if the event is an error, false otherwise.
      */
     public boolean isError() {
-        return logEntry.matches("^#  (Error|fatal error):.+$");
+        return error;
     }
 
     /**
      * @return True if the event involves a failure, false otherwise.
      */
     public boolean isFailed() {
-        return logEntry.matches("^#.+failed.+$");
+        return failed;
     }
 
     /**
      * @return True if the event involves something insufficient, false otherwise.
      */
     public boolean isInsufficient() {
-        return logEntry.matches("^#.+insufficient.+$");
+        return insufficient;
     }
 
     /**
      * @return True if the event is an itnernal error, false otherwise.
      */
     public boolean isInternalError() {
-        return logEntry.matches("^#  Internal Error.+$");
+        return internalError;
     }
 
     /**
@@ -202,64 +313,62 @@ public class Header implements LogEvent {
      * @return True if the event is INVALID, false otherwise. For example:
      */
     public boolean isInvalid() {
-        return logEntry.matches("^#  INVALID .+$");
+        return invalid;
     }
 
     /**
      * @return True if the event is Java VM event, false otherwise.
      */
     public boolean isJavaVm() {
-        return logEntry.matches("^# Java VM:.+$");
+        return javaVm;
     }
 
     /**
      * @return True if the event is a JRE version event, false otherwise.
      */
     public boolean isJreVersion() {
-        return logEntry.matches("^# JRE version:.+$");
+        return jreVersion;
     }
 
     /**
      * @return True if the event involves something out of, false otherwise.
      */
     public boolean isOutOf() {
-        return logEntry.matches("^#.+Out of.+$");
+        return outOf;
     }
 
     /**
      * @return True if the event is a problematic frame, false otherwise.
      */
     public boolean isProblematicFrame() {
-        return logEntry.matches("^# (C  |J |v  |V  ).+$");
+        return problematicFrame;
     }
 
     /**
      * @return True if the event includes a <code>SignalNumber</code>, false otherwise.
      */
     public boolean isSignalNumber() {
-        return logEntry.matches("^#  (" + SignalNumber.EXCEPTION_ACCESS_VIOLATION + "|"
-                + SignalNumber.EXCEPTION_STACK_OVERFLOW + "|" + SignalNumber.SIGBUS + "|" + SignalNumber.SIGFPE + "|"
-                + SignalNumber.SIGILL + "|" + SignalNumber.SIGSEGV + ").+$");
+        return signalNumber;
     }
 
     /**
      * @return True if the event is a timeout, false otherwise.
      */
     public boolean isTimeout() {
-        return logEntry.matches("^\\[timeout occurred during error reporting in step.+$");
+        return timeout;
     }
 
     /**
      * @return True if the event is the vendor bug url, false otherwise.
      */
     public boolean isVendorBugUrl() {
-        return logEntry.matches("^#   http.+$");
+        return vendorBugUrl;
     }
 
     /**
      * @return True if the event is a VM frame, false otherwise.
      */
     public boolean isVmFrame() {
-        return logEntry.matches("^# (V  ).+$");
+        return vmFrame;
     }
 }
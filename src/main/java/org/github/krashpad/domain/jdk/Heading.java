@@ -14,9 +14,14 @@
  *********************************************************************************************************************/
 package org.github.krashpad.domain.jdk;
 
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
 import org.github.krashpad.domain.LogEvent;
 import org.github.krashpad.domain.ThrowAwayEvent;
 import org.github.krashpad.util.jdk.JdkUtil;
+import org.github.krashpad.util.jdk.JdkUtil.Section;
+import org.github.krashpad.util.jdk.PatternRegistry;
 
 /**
  * <p>
@@ -50,12 +55,47 @@ import org.github.krashpad.util.jdk.JdkUtil;
  */
 public class Heading implements LogEvent, ThrowAwayEvent {
 
+    /**
+     * Compiled <code>REGEX</code>.
+     */
+    public static final Pattern PATTERN = PatternRegistry.getPattern(Heading.REGEX);
+
     /**
      * Regular expression defining the logging.
      */
     private static final String REGEX = "^([-]{15}  (T H R E A D|P R O C E S S|S U M M A R Y|S Y S T E M)"
             + "[ ]{1,2}[-]{12,15}|[-]{70}|[-]{80})$";
 
+    /**
+     * Compiled pattern for the section name in a heading.
+     */
+    private static final Pattern SECTION_PATTERN = PatternRegistry
+            .getPattern("^[-]{15}  (?:(T H R E A D)|(P R O C E S S)|(S U M M A R Y)|(S Y S T E M))");
+
+    /**
+     * Get the section started by a heading without creating the event.
+     * 
+     * @param logLine
+     *            The heading log line.
+     * @return The section started by the heading, or null if the heading is a separator that does not start a section.
+     */
+    public static final Section getSection(CharSequence logLine) {
+        Section section = null;
+        Matcher matcher = PatternRegistry.matcher(SECTION_PATTERN, logLine);
+        if (matcher.lookingAt()) {
+            if (matcher.start(1) >= 0) {
+                section = Section.THREAD;
+            } else if (matcher.start(2) >= 0) {
+                section = Section.PROCESS;
+            } else if (matcher.start(3) >= 0) {
+                section = Section.SUMMARY;
+            } else {
+                section = Section.SYSTEM;
+            }
+        }
+        return section;
+    }
+
     /**
      * Determine if the logLine matches the logging pattern(s) for this event.
      * 
@@ -63,14 +103,14 @@ public class Heading implements LogEvent, ThrowAwayEvent {
      *            The log line to test.
      * @return true if the log line matches the event pattern, false otherwise.
      */
-    public static final boolean match(String logLine) {
-        return logLine.matches(REGEX);
+    public static final boolean match(CharSequence logLine) {
+        return PatternRegistry.matcher(PATTERN, logLine).matches();
     }
 
     /**
      * The log entry for the event.
      */
-    private String logEntry;
+    private final String logEntry;
 
     /**
      * Create event from log entry.
@@ -89,4 +129,11 @@ public class Heading implements LogEvent, ThrowAwayEvent {
     public String getName() {
         return JdkUtil.LogEventType.HEADING.toString();
     }
+
+    /**
+     * @return The section started by the heading, or null if the heading is a separator that does not start a section.
+     */
+    public Section getSection() {
+        return getSection(logEntry);
+    }
 }
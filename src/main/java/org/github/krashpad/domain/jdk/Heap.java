@@ -14,10 +14,13 @@
  *********************************************************************************************************************/
 package org.github.krashpad.domain.jdk;
 
+import java.util.regex.Pattern;
+
 import org.github.krashpad.domain.HeaderEvent;
 import org.github.krashpad.domain.LogEvent;
 import org.github.krashpad.util.jdk.JdkRegEx;
 import org.github.krashpad.util.jdk.JdkUtil;
+import org.github.krashpad.util.jdk.PatternRegistry;
 
 /**
  * <p>
@@ -120,6 +123,11 @@ public class Heap implements LogEvent, HeaderEvent {
      */
     public static final String _REGEX_HEADER = "Heap:";
 
+    /**
+     * Compiled <code>REGEX</code>.
+     */
+    public static final Pattern PATTERN = PatternRegistry.getPattern(Heap.REGEX);
+
     /**
      * Regular expression defining the logging.
      */
@@ -134,14 +142,49 @@ public class Heap implements LogEvent, HeaderEvent {
      *            The log line to test.
      * @return true if the log line matches the event pattern, false otherwise.
      */
-    public static final boolean match(String logLine) {
-        return logLine.matches(REGEX);
+    public static final boolean match(CharSequence logLine) {
+        return PatternRegistry.matcher(PATTERN, logLine).matches();
     }
 
+    /**
+     * True if the log line contains G1 heap information, false otherwise.
+     */
+    private final boolean g1;
+
+    /**
+     * Whether the log entry is the header, determined when the event is created.
+     */
+    private final boolean header;
+
     /**
      * The log entry for the event.
      */
-    private String logEntry;
+    private final String logEntry;
+
+    /**
+     * True if the log line contains metaspace information, false otherwise.
+     */
+    private final boolean metaspace;
+
+    /**
+     * True if the log line contains old generation heap information, false otherwise.
+     */
+    private final boolean oldGen;
+
+    /**
+     * True if the log line contains Shenandoah heap information, false otherwise.
+     */
+    private final boolean shenandoah;
+
+    /**
+     * True if the log line contains young generation heap information, false otherwise.
+     */
+    private final boolean youngGen;
+
+    /**
+     * True if the log line contains zgc information, false otherwise.
+     */
+    private final boolean z;
 
     /**
      * Create event from log entry.
@@ -151,6 +194,13 @@ public class Heap implements LogEvent, HeaderEvent {
      */
     public Heap(String logEntry) {
         this.logEntry = logEntry;
+        header = logEntry != null && PatternRegistry.matches(logEntry, _REGEX_HEADER);
+        g1 = logEntry != null && PatternRegistry.matches(logEntry, JdkRegEx.G1_SIZE);
+        metaspace = logEntry != null && PatternRegistry.matches(logEntry, JdkRegEx.METASPACE_SIZE);
+        oldGen = logEntry != null && PatternRegistry.matches(logEntry, JdkRegEx.OLD_GEN_SIZE);
+        shenandoah = logEntry != null && PatternRegistry.matches(logEntry, JdkRegEx.SHENANDOAH_SIZE);
+        youngGen = logEntry != null && PatternRegistry.matches(logEntry, JdkRegEx.YOUNG_GEN_SIZE);
+        z = logEntry != null && PatternRegistry.matches(logEntry, JdkRegEx.Z);
     }
 
     public String getLogEntry() {
@@ -165,50 +215,46 @@ public class Heap implements LogEvent, HeaderEvent {
      * @return true if the log line contains G1 heap information, false otherwise.
      */
     public boolean isG1() {
-        return logEntry.matches(JdkRegEx.G1_SIZE);
+        return g1;
     }
 
     @Override
     public boolean isHeader() {
-        boolean isHeader = false;
-        if (this.logEntry != null) {
-            isHeader = logEntry.matches(_REGEX_HEADER);
-        }
-        return isHeader;
+        return header;
     }
 
     /**
      * @return true if the log line contains metaspace information, false otherwise.
      */
     public boolean isMetaspace() {
-        return logEntry.matches(JdkRegEx.METASPACE_SIZE);
+        return metaspace;
     }
 
     /**
      * @return true if the log line contains old generation heap information, false otherwise.
      */
     public boolean isOldGen() {
-        return logEntry.matches(JdkRegEx.OLD_GEN_SIZE);
+        return oldGen;
     }
 
     /**
      * @return true if the log line contains Shenandoah heap information, false otherwise.
      */
     public boolean isShenandoah() {
-        return logEntry.matches(JdkRegEx.SHENANDOAH_SIZE);
+        return shenandoah;
     }
 
     /**
      * @return true if the log line contains young generation heap information, false otherwise.
      */
     public boolean isYoungGen() {
-        return logEntry.matches(JdkRegEx.YOUNG_GEN_SIZE);
+        return youngGen;
     }
 
     /**
      * @return true if the log line contains zgc information, false otherwise.
      */
     public boolean isZ() {
-        return logEntry.matches(JdkRegEx.Z);
+        return z;
     }
 }
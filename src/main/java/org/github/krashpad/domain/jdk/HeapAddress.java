@@ -22,6 +22,7 @@ import org.github.krashpad.util.jdk.JdkMath;
 import org.github.krashpad.util.jdk.JdkRegEx;
 import org.github.krashpad.util.jdk.JdkUtil;
 import org.github.krashpad.util.jdk.JdkUtil.CompressedOopMode;
+import org.github.krashpad.util.jdk.PatternRegistry;
 
 /**
  * <p>
@@ -43,6 +44,11 @@ import org.github.krashpad.util.jdk.JdkUtil.CompressedOopMode;
  */
 public class HeapAddress implements LogEvent {
 
+    /**
+     * Compiled <code>REGEX</code>.
+     */
+    public static final Pattern PATTERN = PatternRegistry.getPattern(HeapAddress.REGEX);
+
     /**
      * Regular expression defining the logging.
      */
@@ -56,14 +62,29 @@ public class HeapAddress implements LogEvent {
      *            The log line to test.
      * @return true if the log line matches the event pattern, false otherwise.
      */
-    public static final boolean match(String logLine) {
-        return logLine.matches(REGEX);
+    public static final boolean match(CharSequence logLine) {
+        return PatternRegistry.matcher(PATTERN, logLine).matches();
     }
 
+    /**
+     * The compressed oop mode.
+     */
+    private final CompressedOopMode compressedOopMode;
+
     /**
      * The log entry for the event.
      */
-    private String logEntry;
+    private final String logEntry;
+
+    /**
+     * The heap size reserved in bytes.
+     */
+    private final Long size;
+
+    /**
+     * The heap starting address in bytes.
+     */
+    private final Long startingAddress;
 
     /**
      * Create event from log entry.
@@ -73,20 +94,32 @@ public class HeapAddress implements LogEvent {
      */
     public HeapAddress(String logEntry) {
         this.logEntry = logEntry;
+        CompressedOopMode compressedOopMode = CompressedOopMode.UNKNOWN;
+        long initialSize = Long.MIN_VALUE;
+        long startingAddress = Long.MIN_VALUE;
+        if (logEntry != null) {
+            if (PatternRegistry.matches(logEntry, ".*Compressed Oops mode: 32-bit.*")) {
+                compressedOopMode = CompressedOopMode.BIT32;
+            } else if (PatternRegistry.matches(logEntry, ".*Compressed Oops mode: Zero based.*")) {
+                compressedOopMode = CompressedOopMode.ZERO;
+            } else if (PatternRegistry.matches(logEntry, ".*Compressed Oops mode: Non-zero based.*")) {
+                compressedOopMode = CompressedOopMode.NON_ZERO;
+            }
+            Matcher matcher = PatternRegistry.matcher(PATTERN, logEntry);
+            if (matcher.find() && matcher.group(1) != null) {
+                initialSize = JdkUtil.convertSize(Long.parseLong(matcher.group(7)), 'M', 'B');
+                startingAddress = JdkMath.convertHexToDecimal(matcher.group(2));
+            }
+        }
+        this.compressedOopMode = compressedOopMode;
+        size = initialSize;
+        this.startingAddress = startingAddress;
     }
 
     /**
      * @return The compressed oop mode.
      */
     public final CompressedOopMode getCompressedOopMode() {
-        CompressedOopMode compressedOopMode = CompressedOopMode.UNKNOWN;
-        if (logEntry.matches(".*Compressed Oops mode: 32-bit.*")) {
-            compressedOopMode = CompressedOopMode.BIT32;
-        } else if (logEntry.matches(".*Compressed Oops mode: Zero based.*")) {
-            compressedOopMode = CompressedOopMode.ZERO;
-        } else if (logEntry.matches(".*Compressed Oops mode: Non-zero based.*")) {
-            compressedOopMode = CompressedOopMode.NON_ZERO;
-        }
         return compressedOopMode;
     }
 
@@ -102,25 +135,13 @@ public class HeapAddress implements LogEvent {
      * @return The heap size reserved in bytes.
      */
     public final Long getSize() {
-        long initialSize = Long.MIN_VALUE;
-        Pattern pattern = Pattern.compile(REGEX);
-        Matcher matcher = pattern.matcher(logEntry);
-        if (matcher.find() && matcher.group(1) != null) {
-            initialSize = JdkUtil.convertSize(Long.parseLong(matcher.group(7)), 'M', 'B');
-        }
-        return initialSize;
+        return size;
     }
 
     /**
      * @return The heap starting address in bytes.
      */
     public final Long getStartingAddress() {
-        long startingAddress = Long.MIN_VALUE;
-        Pattern pattern = Pattern.compile(REGEX);
-        Matcher matcher = pattern.matcher(logEntry);
-        if (matcher.find() && matcher.group(1) != null) {
-            return JdkMath.convertHexToDecimal(matcher.group(2));
-        }
         return startingAddress;
     }
 }
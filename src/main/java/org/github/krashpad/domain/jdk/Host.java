@@ -19,6 +19,7 @@ import java.util.regex.Pattern;
 
 import org.github.krashpad.domain.LogEvent;
 import org.github.krashpad.util.jdk.JdkUtil;
+import org.github.krashpad.util.jdk.PatternRegistry;
 
 /**
  * <p>
@@ -40,6 +41,11 @@ import org.github.krashpad.util.jdk.JdkUtil;
  */
 public class Host implements LogEvent {
 
+    /**
+     * Compiled <code>REGEX</code>.
+     */
+    public static final Pattern PATTERN = PatternRegistry.getPattern(Host.REGEX);
+
     /**
      * Regular expression defining the logging.
      */
@@ -52,14 +58,14 @@ public class Host implements LogEvent {
      *            The log line to test.
      * @return true if the log line matches the event pattern, false otherwise.
      */
-    public static final boolean match(String logLine) {
-        return logLine.matches(REGEX);
+    public static final boolean match(CharSequence logLine) {
+        return PatternRegistry.matcher(PATTERN, logLine).matches();
     }
 
     /**
      * The log entry for the event.
      */
-    private String logEntry;
+    private final String logEntry;
 
     /**
      * Create event from log entry.
@@ -82,8 +88,7 @@ public class Host implements LogEvent {
     public String getOsString() {
         String osString = null;
         if (logEntry != null) {
-            Pattern pattern = Pattern.compile(REGEX);
-            Matcher matcher = pattern.matcher(logEntry);
+            Matcher matcher = PatternRegistry.matcher(PATTERN, logEntry);
             if (matcher.find() && matcher.group(2) != null) {
                 osString = matcher.group(2).trim();
             }
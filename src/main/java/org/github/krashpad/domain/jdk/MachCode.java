@@ -21,6 +21,7 @@ import org.github.krashpad.domain.LogEvent;
 import org.github.krashpad.domain.ThrowAwayEvent;
 import org.github.krashpad.util.jdk.JdkRegEx;
 import org.github.krashpad.util.jdk.JdkUtil;
+import org.github.krashpad.util.jdk.PatternRegistry;
 
 /**
  * <p>
@@ -57,7 +58,7 @@ public class MachCode implements LogEvent, HeaderEvent, ThrowAwayEvent {
      */
     public static final String _REGEX_HEADER = "^\\[MachCode\\]$";
 
-    public static final Pattern PATTERN = Pattern.compile(MachCode.REGEX);
+    public static final Pattern PATTERN = PatternRegistry.getPattern(MachCode.REGEX);
 
     /**
      * Regular expression defining the logging.
@@ -71,14 +72,19 @@ public class MachCode implements LogEvent, HeaderEvent, ThrowAwayEvent {
      *            The log line to test.
      * @return true if the log line matches the event pattern, false otherwise.
      */
-    public static final boolean match(String logLine) {
-        return logLine.matches(REGEX);
+    public static final boolean match(CharSequence logLine) {
+        return PatternRegistry.matcher(PATTERN, logLine).matches();
     }
 
+    /**
+     * Whether the log entry is the header, determined when the event is created.
+     */
+    private final boolean header;
+
     /**
      * The log entry for the event.
      */
-    private String logEntry;
+    private final String logEntry;
 
     /**
      * Create event from log entry.
@@ -88,6 +94,7 @@ public class MachCode implements LogEvent, HeaderEvent, ThrowAwayEvent {
      */
     public MachCode(String logEntry) {
         this.logEntry = logEntry;
+        header = logEntry != null && PatternRegistry.matches(logEntry, _REGEX_HEADER);
     }
 
     public String getLogEntry() {
@@ -100,10 +107,6 @@ public class MachCode implements LogEvent, HeaderEvent, ThrowAwayEvent {
 
     @Override
     public boolean isHeader() {
-        boolean isHeader = false;
-        if (this.logEntry != null) {
-            isHeader = logEntry.matches(_REGEX_HEADER);
-        }
-        return isHeader;
+        return header;
     }
 }
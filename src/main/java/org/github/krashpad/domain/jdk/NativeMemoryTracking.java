@@ -19,6 +19,7 @@ import java.util.regex.Pattern;
 import org.github.krashpad.domain.HeaderEvent;
 import org.github.krashpad.domain.LogEvent;
 import org.github.krashpad.util.jdk.JdkUtil;
+import org.github.krashpad.util.jdk.PatternRegistry;
 
 /**
  * <p>
@@ -90,7 +91,7 @@ public class NativeMemoryTracking implements LogEvent, HeaderEvent {
      */
     public static final String _REGEX_HEADER = "Native Memory Tracking:";
 
-    public static final Pattern PATTERN = Pattern.compile(NativeMemoryTracking.REGEX);
+    public static final Pattern PATTERN = PatternRegistry.getPattern(NativeMemoryTracking.REGEX);
 
     /**
      * Regular expression defining the logging.
@@ -107,14 +108,19 @@ public class NativeMemoryTracking implements LogEvent, HeaderEvent {
      *            The log line to test.
      * @return true if the log line matches the event pattern, false otherwise.
      */
-    public static final boolean match(String logLine) {
-        return logLine.matches(REGEX);
+    public static final boolean match(CharSequence logLine) {
+        return PatternRegistry.matcher(PATTERN, logLine).matches();
     }
 
+    /**
+     * Whether the log entry is the header, determined when the event is created.
+     */
+    private final boolean header;
+
     /**
      * The log entry for the event.
      */
-    private String logEntry;
+    private final String logEntry;
 
     /**
      * Create event from log entry.
@@ -124,6 +130,7 @@ public class NativeMemoryTracking implements LogEvent, HeaderEvent {
      */
     public NativeMemoryTracking(String logEntry) {
         this.logEntry = logEntry;
+        header = logEntry != null && PatternRegistry.matches(logEntry, _REGEX_HEADER);
     }
 
     public String getLogEntry() {
@@ -136,10 +143,6 @@ public class NativeMemoryTracking implements LogEvent, HeaderEvent {
 
     @Override
     public boolean isHeader() {
-        boolean isHeader = false;
-        if (this.logEntry != null) {
-            isHeader = logEntry.matches(_REGEX_HEADER);
-        }
-        return isHeader;
+        return header;
     }
 }
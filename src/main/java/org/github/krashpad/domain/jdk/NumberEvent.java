@@ -14,8 +14,11 @@
  *********************************************************************************************************************/
 package org.github.krashpad.domain.jdk;
 
+import java.util.regex.Pattern;
+
 import org.github.krashpad.domain.LogEvent;
 import org.github.krashpad.util.jdk.JdkUtil;
+import org.github.krashpad.util.jdk.PatternRegistry;
 
 /**
  * TODO: Remove (move to associated events).
@@ -29,6 +32,11 @@ import org.github.krashpad.util.jdk.JdkUtil;
  */
 public class NumberEvent implements LogEvent {
 
+    /**
+     * Compiled <code>REGEX</code>.
+     */
+    public static final Pattern PATTERN = PatternRegistry.getPattern(NumberEvent.REGEX);
+
     /**
      * Regular expression defining the logging.
      */
@@ -41,14 +49,14 @@ public class NumberEvent implements LogEvent {
      *            The log line to test.
      * @return true if the log line matches the event pattern, false otherwise.
      */
-    public static final boolean match(String logLine) {
-        return logLine.matches(REGEX);
+    public static final boolean match(CharSequence logLine) {
+        return PatternRegistry.matcher(PATTERN, logLine).matches();
     }
 
     /**
      * The log entry for the event. Can be used for debugging purposes.
      */
-    private String logEntry;
+    private final String logEntry;
 
     /**
      * Create event from log entry.
@@ -19,6 +19,7 @@ import java.util.regex.Pattern;
 import org.github.krashpad.domain.HeaderEvent;
 import org.github.krashpad.domain.LogEvent;
 import org.github.krashpad.util.jdk.JdkUtil;
+import org.github.krashpad.util.jdk.PatternRegistry;
 
 /**
  * <p>
@@ -58,7 +59,7 @@ public class OsInfo implements LogEvent, HeaderEvent {
      */
     private static final String _REGEX_HEADER = "OS:((PRETTY_NAME=\")?(.+)[\"]{0,1})?";
 
-    public static final Pattern PATTERN = Pattern.compile(OsInfo.REGEX);
+    public static final Pattern PATTERN = PatternRegistry.getPattern(OsInfo.REGEX);
 
     /**
      * Regular expression defining the logging.
@@ -76,14 +77,19 @@ public class OsInfo implements LogEvent, HeaderEvent {
      *            The log line to test.
      * @return true if the log line matches the event pattern, false otherwise.
      */
-    public static final boolean match(String logLine) {
-        return logLine.matches(REGEX);
+    public static final boolean match(CharSequence logLine) {
+        return PatternRegistry.matcher(PATTERN, logLine).matches();
     }
 
+    /**
+     * Whether the log entry is the header, determined when the event is created.
+     */
+    private final boolean header;
+
     /**
      * The log entry for the event.
      */
-    private String logEntry;
+    private final String logEntry;
 
     /**
      * Create event from log entry.
@@ -93,6 +99,7 @@ public class OsInfo implements LogEvent, HeaderEvent {
      */
     public OsInfo(String logEntry) {
         this.logEntry = logEntry;
+        header = logEntry != null && PatternRegistry.matches(logEntry, _REGEX_HEADER);
     }
 
     public String getLogEntry() {
@@ -105,10 +112,6 @@ public class OsInfo implements LogEvent, HeaderEvent {
 
     @Override
     public boolean isHeader() {
-        boolean isHeader = false;
-        if (this.logEntry != null) {
-            isHeader = logEntry.matches(_REGEX_HEADER);
-        }
-        return isHeader;
+        return header;
     }
 }
@@ -21,6 +21,7 @@ import org.github.krashpad.domain.HeaderEvent;
 import org.github.krashpad.domain.LogEvent;
 import org.github.krashpad.domain.ThrowAwayEvent;
 import org.github.krashpad.util.jdk.JdkUtil;
+import org.github.krashpad.util.jdk.PatternRegistry;
 
 /**
  * <p>
@@ -49,6 +50,11 @@ public class PidMax implements LogEvent, ThrowAwayEvent, HeaderEvent {
     public static final String _REGEX_HEADER = "/proc/sys/kernel/pid_max \\(system-wide limit on number of process "
             + "identifiers\\):";
 
+    /**
+     * Compiled <code>REGEX</code>.
+     */
+    public static final Pattern PATTERN = PatternRegistry.getPattern(PidMax.REGEX);
+
     /**
      * Regular expression defining the logging.
      */
@@ -61,14 +67,24 @@ public class PidMax implements LogEvent, ThrowAwayEvent, HeaderEvent {
      *            The log line to test.
      * @return true if the log line matches the event pattern, false otherwise.
      */
-    public static final boolean match(String logLine) {
-        return logLine.matches(REGEX);
+    public static final boolean match(CharSequence logLine) {
+        return PatternRegistry.matcher(PATTERN, logLine).matches();
     }
 
+    /**
+     * Whether the log entry is the header, determined when the event is created.
+     */
+    private final boolean header;
+
+    /**
+     * The pid_max limit.
+     */
+    private final Long limit;
+
     /**
      * The log entry for the event.
      */
-    private String logEntry;
+    private final String logEntry;
 
     /**
      * Create event from log entry.
@@ -78,20 +94,23 @@ public class PidMax implements LogEvent, ThrowAwayEvent, HeaderEvent {
      */
     public PidMax(String logEntry) {
         this.logEntry = logEntry;
+        header = logEntry != null && PatternRegistry.matches(logEntry, _REGEX_HEADER);
+        Long limit = Long.MIN_VALUE;
+        if (logEntry != null) {
+            Matcher matcher = PatternRegistry.matcher(PATTERN, logEntry);
+            if (matcher.find()) {
+                if (matcher.group(2) != null) {
+                    limit = Long.parseLong(matcher.group(2));
+                }
+            }
+        }
+        this.limit = limit;
     }
 
     /**
      * @return true if the log line matches the event pattern, false otherwise.
      */
     public Long getLimit() {
-        Long limit = Long.MIN_VALUE;
-        Pattern pattern = Pattern.compile(REGEX);
-        Matcher matcher = pattern.matcher(logEntry);
-        if (matcher.find()) {
-            if (matcher.group(1) != null) {
-                limit = Long.parseLong(matcher.group(2));
-            }
-        }
         return limit;
     }
 
@@ -105,10 +124,6 @@ public class PidMax implements LogEvent, ThrowAwayEvent, HeaderEvent {
 
     @Override
     public boolean isHeader() {
-        boolean isHeader = false;
-        if (this.logEntry != null) {
-            isHeader = logEntry.matches(_REGEX_HEADER);
-        }
-        return isHeader;
+        return header;
     }
 }
@@ -19,6 +19,7 @@ import java.util.regex.Pattern;
 import org.github.krashpad.domain.HeaderEvent;
 import org.github.krashpad.domain.LogEvent;
 import org.github.krashpad.util.jdk.JdkUtil;
+import org.github.krashpad.util.jdk.PatternRegistry;
 
 /**
  * <p>
@@ -50,7 +51,7 @@ public class ProcessMemory implements LogEvent, HeaderEvent {
      */
     public static final String _REGEX_HEADER = "^Process Memory:$";
 
-    public static final Pattern PATTERN = Pattern.compile(ProcessMemory.REGEX);
+    public static final Pattern PATTERN = PatternRegistry.getPattern(ProcessMemory.REGEX);
 
     /**
      * Regular expression defining the logging.
@@ -66,14 +67,19 @@ public class ProcessMemory implements LogEvent, HeaderEvent {
      *            The log line to test.
      * @return true if the log line matches the event pattern, false otherwise.
      */
-    public static final boolean match(String logLine) {
-        return logLine.matches(REGEX);
+    public static final boolean match(CharSequence logLine) {
+        return PatternRegistry.matcher(PATTERN, logLine).matches();
     }
 
+    /**
+     * Whether the log entry is the header, determined when the event is created.
+     */
+    private final boolean header;
+
     /**
      * The log entry for the event.
      */
-    private String logEntry;
+    private final String logEntry;
 
     /**
      * Create event from log entry.
@@ -83,6 +89,7 @@ public class ProcessMemory implements LogEvent, HeaderEvent {
      */
     public ProcessMemory(String logEntry) {
         this.logEntry = logEntry;
+        header = logEntry != null && PatternRegistry.matches(logEntry, _REGEX_HEADER);
     }
 
     public String getLogEntry() {
@@ -95,11 +102,7 @@ public class ProcessMemory implements LogEvent, HeaderEvent {
 
     @Override
     public boolean isHeader() {
-        boolean isHeader = false;
-        if (this.logEntry != null) {
-            isHeader = logEntry.matches(_REGEX_HEADER);
-        }
-        return isHeader;
+        return header;
     }
 
 }
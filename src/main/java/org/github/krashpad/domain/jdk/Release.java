@@ -18,6 +18,7 @@ import java.util.Date;
 
 import org.github.krashpad.util.KrashUtil;
 import org.github.krashpad.util.jdk.JdkRegEx;
+import org.github.krashpad.util.jdk.PatternRegistry;
 
 /**
  * <p>
@@ -46,9 +47,9 @@ public class Release {
 
     public Release(String buildDate, int number, String version) {
         super();
-        if (buildDate.matches(JdkRegEx.BUILD_DATE_TIME)) {
+        if (PatternRegistry.matches(buildDate, JdkRegEx.BUILD_DATE_TIME)) {
             this.buildDate = KrashUtil.getDate(buildDate);
-        } else if (buildDate.matches(JdkRegEx.BUILD_DATE_TIME_21)) {
+        } else if (PatternRegistry.matches(buildDate, JdkRegEx.BUILD_DATE_TIME_21)) {
             this.buildDate = KrashUtil.getDate21(buildDate);
         }
         this.number = number;
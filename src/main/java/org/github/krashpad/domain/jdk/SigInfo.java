@@ -22,6 +22,7 @@ import org.github.krashpad.util.jdk.JdkRegEx;
 import org.github.krashpad.util.jdk.JdkUtil;
 import org.github.krashpad.util.jdk.JdkUtil.SignalCode;
 import org.github.krashpad.util.jdk.JdkUtil.SignalNumber;
+import org.github.krashpad.util.jdk.PatternRegistry;
 
 /**
  * <p>
@@ -66,7 +67,7 @@ import org.github.krashpad.util.jdk.JdkUtil.SignalNumber;
  */
 public class SigInfo implements LogEvent {
 
-    private static final Pattern PATTERN;
+    public static final Pattern PATTERN;
 
     /**
      * Regular expression defining the logging.
@@ -84,7 +85,7 @@ public class SigInfo implements LogEvent {
             + JdkRegEx.WINDOWS_EXCEPTION_CODE_ACCESS_VIOLATION + ")\\), reading address " + JdkRegEx.ADDRESS + ")[ ]*$";
 
     static {
-        PATTERN = Pattern.compile(SigInfo.REGEX);
+        PATTERN = PatternRegistry.getPattern(SigInfo.REGEX);
     }
 
     /**
@@ -94,14 +95,29 @@ public class SigInfo implements LogEvent {
      *            The log line to test.
      * @return true if the log line matches the event pattern, false otherwise.
      */
-    public static final boolean match(String logLine) {
-        return logLine.matches(REGEX);
+    public static final boolean match(CharSequence logLine) {
+        return PatternRegistry.matcher(PATTERN, logLine).matches();
     }
 
     /**
      * The log entry for the event.
      */
-    private String logEntry;
+    private final String logEntry;
+
+    /**
+     * Signal address.
+     */
+    private final String signalAddress;
+
+    /**
+     * Signal code.
+     */
+    private final SignalCode signalCode;
+
+    /**
+     * Signal number.
+     */
+    private final SignalNumber signalNumber;
 
     /**
      * Create event from log entry.
@@ -111,23 +127,11 @@ public class SigInfo implements LogEvent {
      */
     public SigInfo(String logEntry) {
         this.logEntry = logEntry;
-    }
-
-    public String getLogEntry() {
-        return logEntry;
-    }
-
-    public String getName() {
-        return JdkUtil.LogEventType.SIGINFO.toString();
-    }
-
-    /**
-     * @return Signal address.
-     */
-    public String getSignalAddress() {
         String address = null;
-        Matcher matcher = PATTERN.matcher(logEntry);
-        if (matcher.find()) {
+        SignalCode code = SignalCode.UNKNOWN;
+        SignalNumber number = SignalNumber.UNKNOWN;
+        Matcher matcher = logEntry == null ? null : PatternRegistry.matcher(PATTERN, logEntry);
+        if (matcher != null && matcher.find()) {
             if (matcher.group(6) != null) {
                 // linux
                 address = matcher.group(6);
@@ -135,75 +139,84 @@ public class SigInfo implements LogEvent {
                 // windows
                 address = matcher.group(32);
             }
-        }
-        return address;
-    }
-
-    /**
-     * @return Signal code.
-     */
-    public SignalCode getSignalCode() {
-        SignalCode code = SignalCode.UNKNOWN;
-        Matcher matcher = PATTERN.matcher(logEntry);
-        if (matcher.find()) {
             // Linux
             if (matcher.group(4) != null) {
-                if (matcher.group(4).matches(SignalCode.BUS_ADRALN.toString())) {
+                if (PatternRegistry.matches(matcher.group(4), SignalCode.BUS_ADRALN.toString())) {
                     code = SignalCode.BUS_ADRALN;
-                } else if (matcher.group(4).matches(SignalCode.BUS_ADRERR.toString())) {
+                } else if (PatternRegistry.matches(matcher.group(4), SignalCode.BUS_ADRERR.toString())) {
                     code = SignalCode.BUS_ADRERR;
-                } else if (matcher.group(4).matches(SignalCode.BUS_OBJERR.toString())) {
+                } else if (PatternRegistry.matches(matcher.group(4), SignalCode.BUS_OBJERR.toString())) {
                     code = SignalCode.BUS_OBJERR;
-                } else if (matcher.group(4).matches(SignalCode.FPE_INTDIV.toString())) {
+                } else if (PatternRegistry.matches(matcher.group(4), SignalCode.FPE_INTDIV.toString())) {
                     code = SignalCode.FPE_INTDIV;
-                } else if (matcher.group(4).matches(SignalCode.ILL_ILLOPN.toString())) {
+                } else if (PatternRegistry.matches(matcher.group(4), SignalCode.ILL_ILLOPN.toString())) {
                     code = SignalCode.ILL_ILLOPN;
-                } else if (matcher.group(4).matches(SignalCode.SEGV_ACCERR.toString())) {
+                } else if (PatternRegistry.matches(matcher.group(4), SignalCode.SEGV_ACCERR.toString())) {
                     code = SignalCode.SEGV_ACCERR;
-                } else if (matcher.group(4).matches(SignalCode.SEGV_MAPERR.toString())) {
+                } else if (PatternRegistry.matches(matcher.group(4), SignalCode.SEGV_MAPERR.toString())) {
                     code = SignalCode.SEGV_MAPERR;
-                } else if (matcher.group(4).matches(SignalCode.SI_KERNEL.toString())) {
+                } else if (PatternRegistry.matches(matcher.group(4), SignalCode.SI_KERNEL.toString())) {
                     code = SignalCode.SI_KERNEL;
-                } else if (matcher.group(4).matches(SignalCode.SI_USER.toString())) {
+                } else if (PatternRegistry.matches(matcher.group(4), SignalCode.SI_USER.toString())) {
                     code = SignalCode.SI_USER;
                 }
             }
-        }
-        return code;
-    }
-
-    /**
-     * @return Signal number.
-     */
-    public SignalNumber getSignalNumber() {
-        SignalNumber number = SignalNumber.UNKNOWN;
-        Matcher matcher = PATTERN.matcher(logEntry);
-        if (matcher.find()) {
             // Linux
             if (matcher.group(3) != null) {
-                if (matcher.group(3).matches(SignalNumber.SIGBUS.toString())) {
+                if (PatternRegistry.matches(matcher.group(3), SignalNumber.SIGBUS.toString())) {
                     number = SignalNumber.SIGBUS;
-                } else if (matcher.group(3).matches(SignalNumber.SIGFPE.toString())) {
+                } else if (PatternRegistry.matches(matcher.group(3), SignalNumber.SIGFPE.toString())) {
                     number = SignalNumber.SIGFPE;
-                } else if (matcher.group(3).matches(SignalNumber.SIGILL.toString())) {
+                } else if (PatternRegistry.matches(matcher.group(3), SignalNumber.SIGILL.toString())) {
                     number = SignalNumber.SIGILL;
-                } else if (matcher.group(3).matches(SignalNumber.SIGSEGV.toString())) {
+                } else if (PatternRegistry.matches(matcher.group(3), SignalNumber.SIGSEGV.toString())) {
                     number = SignalNumber.SIGSEGV;
                 }
             } else if (matcher.group(13) != null) {
                 // Windows format 1
-                if (matcher.group(13).matches(JdkRegEx.WINDOWS_EXCEPTION_CODE_ACCESS_VIOLATION)) {
+                if (PatternRegistry.matches(matcher.group(13), JdkRegEx.WINDOWS_EXCEPTION_CODE_ACCESS_VIOLATION)) {
                     number = SignalNumber.EXCEPTION_ACCESS_VIOLATION;
-                } else if (matcher.group(13).matches(JdkRegEx.WINDOWS_EXCEPTION_CODE_STACK_OVERFLOW)) {
+                } else if (PatternRegistry.matches(matcher.group(13), JdkRegEx.WINDOWS_EXCEPTION_CODE_STACK_OVERFLOW)) {
                     number = SignalNumber.EXCEPTION_STACK_OVERFLOW;
                 }
             } else if (matcher.group(31) != null) {
                 // Windows format 2
-                if (matcher.group(31).matches(JdkRegEx.WINDOWS_EXCEPTION_CODE_ACCESS_VIOLATION)) {
+                if (PatternRegistry.matches(matcher.group(31), JdkRegEx.WINDOWS_EXCEPTION_CODE_ACCESS_VIOLATION)) {
                     number = SignalNumber.EXCEPTION_ACCESS_VIOLATION;
                 }
             }
         }
-        return number;
+        signalAddress = address;
+        signalCode = code;
+        signalNumber = number;
+    }
+
+    public String getLogEntry() {
+        return logEntry;
+    }
+
+    public String getName() {
+        return JdkUtil.LogEventType.SIGINFO.toString();
+    }
+
+    /**
+     * @return Signal address.
+     */
+    public String getSignalAddress() {
+        return signalAddress;
+    }
+
+    /**
+     * @return Signal code.
+     */
+    public SignalCode getSignalCode() {
+        return signalCode;
+    }
+
+    /**
+     * @return Signal number.
+     */
+    public SignalNumber getSignalNumber() {
+        return signalNumber;
     }
 }
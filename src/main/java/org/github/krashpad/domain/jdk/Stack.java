@@ -21,6 +21,7 @@ import org.github.krashpad.domain.HeaderEvent;
 import org.github.krashpad.domain.LogEvent;
 import org.github.krashpad.util.jdk.JdkRegEx;
 import org.github.krashpad.util.jdk.JdkUtil;
+import org.github.krashpad.util.jdk.PatternRegistry;
 
 /**
  * <p>
@@ -92,7 +93,7 @@ public class Stack implements LogEvent, HeaderEvent {
     private static final String _REGEX_HEADER = "Stack: \\[" + JdkRegEx.ADDRESS + "," + JdkRegEx.ADDRESS + "\\](,  sp="
             + JdkRegEx.ADDRESS + ",  free space=(\\d{1,})k)?";
 
-    private static Pattern pattern = Pattern.compile(Stack.REGEX);
+    public static final Pattern PATTERN = PatternRegistry.getPattern(Stack.REGEX);
 
     /**
      * Regular expression defining the logging.
@@ -108,14 +109,29 @@ public class Stack implements LogEvent, HeaderEvent {
      *            The log line to test.
      * @return true if the log line matches the event pattern, false otherwise.
      */
-    public static final boolean match(String logLine) {
-        return logLine.matches(REGEX);
+    public static final boolean match(CharSequence logLine) {
+        return PatternRegistry.matcher(PATTERN, logLine).matches();
     }
 
+    /**
+     * The frame type (e.g. "V" for vm code), or null if the log entry is not a Java or native frame.
+     */
+    private final String frameType;
+
+    /**
+     * Whether the log entry is the header, determined when the event is created.
+     */
+    private final boolean header;
+
     /**
      * The log entry for the event.
      */
-    private String logEntry;
+    private final String logEntry;
+
+    /**
+     * The stack free space (kilobytes), or <code>Long.MIN_VALUE</code> if not the header or not reported.
+     */
+    private final long stackFreeSpace;
 
     /**
      * Create event from log entry.
@@ -125,6 +141,20 @@ public class Stack implements LogEvent, HeaderEvent {
      */
     public Stack(String logEntry) {
         this.logEntry = logEntry;
+        header = logEntry != null && PatternRegistry.matches(logEntry, _REGEX_HEADER);
+        String frameType = null;
+        long stackFreeSpace = Long.MIN_VALUE;
+        if (logEntry != null) {
+            Matcher matcher = PatternRegistry.matcher(PATTERN, logEntry);
+            if (matcher.find()) {
+                frameType = matcher.group(19);
+                if (header && matcher.group(18) != null) {
+                    stackFreeSpace = Long.parseLong(matcher.group(18));
+                }
+            }
+        }
+        this.frameType = frameType;
+        this.stackFreeSpace = stackFreeSpace;
     }
 
     public String getLogEntry() {
@@ -139,15 +169,6 @@ public class Stack implements LogEvent, HeaderEvent {
      * @return The stack free space (kilobytes).
      */
     public long getStackFreeSpace() {
-        long stackFreeSpace = Long.MIN_VALUE;
-        if (isHeader()) {
-            Matcher matcher = pattern.matcher(logEntry);
-            if (matcher.find()) {
-                if (matcher.group(18) != null) {
-                    stackFreeSpace = Long.parseLong(matcher.group(18));
-                }
-            }
-        }
         return stackFreeSpace;
     }
 
@@ -161,23 +182,12 @@ public class Stack implements LogEvent, HeaderEvent {
      *         C [java.exe+0x1234]
      */
     public boolean isFrame() {
-        boolean isFrame = false;
-        Matcher matcher = pattern.matcher(logEntry);
-        if (matcher.find()) {
-            if (matcher.group(19) != null) {
-                isFrame = true;
-            }
-        }
-        return isFrame;
+        return frameType != null;
     }
 
     @Override
     public boolean isHeader() {
-        boolean isHeader = false;
-        if (this.logEntry != null) {
-            isHeader = logEntry.matches(_REGEX_HEADER);
-        }
-        return isHeader;
+        return header;
     }
 
     /**
@@ -188,14 +198,7 @@ public class Stack implements LogEvent, HeaderEvent {
      *         V [libjvm.so+0x93a382] java_start(Thread*)+0xf2
      */
     public boolean isVmFrame() {
-        boolean isVmCode = false;
-        Matcher matcher = pattern.matcher(logEntry);
-        if (matcher.find()) {
-            if (matcher.group(19) != null && matcher.group(19).equals("V")) {
-                isVmCode = true;
-            }
-        }
-        return isVmCode;
+        return "V".equals(frameType);
     }
 
     /**
@@ -206,13 +209,6 @@ public class Stack implements LogEvent, HeaderEvent {
      *         v ~StubRoutines::call_stub
      */
     public boolean isVmGeneratedCodeFrame() {
-        boolean isVmGeneratedCodeFrame = false;
-        Matcher matcher = pattern.matcher(logEntry);
-        if (matcher.find()) {
-            if (matcher.group(19) != null && matcher.group(19).equals("v")) {
-                isVmGeneratedCodeFrame = true;
-            }
-        }
-        return isVmGeneratedCodeFrame;
+        return "v".equals(frameType);
     }
 }
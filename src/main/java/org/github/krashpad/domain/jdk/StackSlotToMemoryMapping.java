@@ -14,9 +14,12 @@
  *********************************************************************************************************************/
 package org.github.krashpad.domain.jdk;
 
+import java.util.regex.Pattern;
+
 import org.github.krashpad.domain.LogEvent;
 import org.github.krashpad.util.jdk.JdkRegEx;
 import org.github.krashpad.util.jdk.JdkUtil;
+import org.github.krashpad.util.jdk.PatternRegistry;
 
 /**
  * <p>
@@ -52,6 +55,11 @@ public class StackSlotToMemoryMapping implements LogEvent {
      */
     public static final String _REGEX_HEADER = "Stack slot to memory mapping:";
 
+    /**
+     * Compiled <code>REGEX</code>.
+     */
+    public static final Pattern PATTERN = PatternRegistry.getPattern(StackSlotToMemoryMapping.REGEX);
+
     /**
      * Regular expression defining the logging.
      */
@@ -78,14 +86,15 @@ public class StackSlotToMemoryMapping implements LogEvent {
      *            The log line to test.
      * @return true if the log line matches the event pattern, false otherwise.
      */
-    public static final boolean match(String logLine) {
-        return logLine.matches(REGEX) || logLine.matches(JdkRegEx.BLANK_LINE);
+    public static final boolean match(CharSequence logLine) {
+        return PatternRegistry.matcher(PATTERN, logLine).matches()
+                || PatternRegistry.matches(logLine, JdkRegEx.BLANK_LINE);
     }
 
     /**
      * The log entry for the event.
      */
-    private String logEntry;
+    private final String logEntry;
 
     /**
      * Create event from log entry.
@@ -14,10 +14,13 @@
  *********************************************************************************************************************/
 package org.github.krashpad.domain.jdk;
 
+import java.util.regex.Pattern;
+
 import org.github.krashpad.domain.HeaderEvent;
 import org.github.krashpad.domain.LogEvent;
 import org.github.krashpad.domain.ThrowAwayEvent;
 import org.github.krashpad.util.jdk.JdkUtil;
+import org.github.krashpad.util.jdk.PatternRegistry;
 
 /**
  * <p>
@@ -45,6 +48,11 @@ public class ThreadsActiveCompile implements LogEvent, ThrowAwayEvent, HeaderEve
      */
     private static final String _REGEX_HEADER = "Threads with active compile tasks:";
 
+    /**
+     * Compiled <code>REGEX</code>.
+     */
+    public static final Pattern PATTERN = PatternRegistry.getPattern(ThreadsActiveCompile.REGEX);
+
     /**
      * Regular expression defining the logging.
      */
@@ -57,14 +65,19 @@ public class ThreadsActiveCompile implements LogEvent, ThrowAwayEvent, HeaderEve
      *            The log line to test.
      * @return true if the log line matches the event pattern, false otherwise.
      */
-    public static final boolean match(String logLine) {
-        return logLine.matches(REGEX);
+    public static final boolean match(CharSequence logLine) {
+        return PatternRegistry.matcher(PATTERN, logLine).matches();
     }
 
+    /**
+     * Whether the log entry is the header, determined when the event is created.
+     */
+    private final boolean header;
+
     /**
      * The log entry for the event.
      */
-    private String logEntry;
+    private final String logEntry;
 
     /**
      * Create event from log entry.
@@ -74,6 +87,7 @@ public class ThreadsActiveCompile implements LogEvent, ThrowAwayEvent, HeaderEve
      */
     public ThreadsActiveCompile(String logEntry) {
         this.logEntry = logEntry;
+        header = logEntry != null && PatternRegistry.matches(logEntry, _REGEX_HEADER);
     }
 
     public String getLogEntry() {
@@ -86,10 +100,6 @@ public class ThreadsActiveCompile implements LogEvent, ThrowAwayEvent, HeaderEve
 
     @Override
     public boolean isHeader() {
-        boolean isHeader = false;
-        if (this.logEntry != null) {
-            isHeader = logEntry.matches(_REGEX_HEADER);
-        }
-        return isHeader;
+        return header;
     }
 }
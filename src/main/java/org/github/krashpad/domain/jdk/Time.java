@@ -22,6 +22,7 @@ import org.github.krashpad.domain.LogEvent;
 import org.github.krashpad.util.KrashUtil;
 import org.github.krashpad.util.jdk.JdkRegEx;
 import org.github.krashpad.util.jdk.JdkUtil;
+import org.github.krashpad.util.jdk.PatternRegistry;
 
 /**
  * <p>
@@ -43,7 +44,7 @@ import org.github.krashpad.util.jdk.JdkUtil;
  */
 public class Time implements LogEvent {
 
-    private static Pattern pattern = Pattern.compile(Time.REGEX);
+    public static final Pattern PATTERN = PatternRegistry.getPattern(Time.REGEX);
 
     /**
      * Regular expression defining the logging.
@@ -57,8 +58,8 @@ public class Time implements LogEvent {
         String HH = null;
         String mm = null;
         String ss = null;
-        Pattern pattern = Pattern.compile(JdkRegEx.BUILD_DATE_TIME);
-        Matcher matcher = pattern.matcher(buildDate);
+        Pattern pattern = PatternRegistry.getPattern(JdkRegEx.BUILD_DATE_TIME);
+        Matcher matcher = PatternRegistry.matcher(pattern, buildDate);
         if (matcher.find()) {
             MMM = matcher.group(1);
             d = matcher.group(2);
@@ -77,14 +78,19 @@ public class Time implements LogEvent {
      *            The log line to test.
      * @return true if the log line matches the event pattern, false otherwise.
      */
-    public static final boolean match(String logLine) {
-        return logLine.matches(REGEX);
+    public static final boolean match(CharSequence logLine) {
+        return PatternRegistry.matcher(PATTERN, logLine).matches();
     }
 
     /**
      * The log entry for the event.
      */
-    private String logEntry;
+    private final String logEntry;
+
+    /**
+     * The date/time of the crash.
+     */
+    private final String timeString;
 
     /**
      * Create event from log entry.
@@ -94,6 +100,14 @@ public class Time implements LogEvent {
      */
     public Time(String logEntry) {
         this.logEntry = logEntry;
+        String timeString = null;
+        if (logEntry != null) {
+            Matcher matcher = PatternRegistry.matcher(PATTERN, logEntry);
+            if (matcher.find()) {
+                timeString = matcher.group(1);
+            }
+        }
+        this.timeString = timeString;
     }
 
     public String getLogEntry() {
@@ -105,11 +119,6 @@ public class Time implements LogEvent {
     }
 
     public String getTimeString() {
-        String time = null;
-        Matcher matcher = pattern.matcher(logEntry);
-        if (matcher.find()) {
-            time = matcher.group(1);
-        }
-        return time;
+        return timeString;
     }
 }
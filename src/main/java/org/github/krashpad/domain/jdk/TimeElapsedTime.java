@@ -21,6 +21,7 @@ import java.util.regex.Pattern;
 
 import org.github.krashpad.domain.LogEvent;
 import org.github.krashpad.util.jdk.JdkUtil;
+import org.github.krashpad.util.jdk.PatternRegistry;
 
 /**
  * <p>
@@ -42,7 +43,7 @@ import org.github.krashpad.util.jdk.JdkUtil;
  */
 public class TimeElapsedTime implements LogEvent {
 
-    private static Pattern pattern = Pattern.compile(TimeElapsedTime.REGEX);
+    public static final Pattern PATTERN = PatternRegistry.getPattern(TimeElapsedTime.REGEX);
 
     /**
      * Regular expression defining the logging.
@@ -57,14 +58,29 @@ public class TimeElapsedTime implements LogEvent {
      *            The log line to test.
      * @return true if the log line matches the event pattern, false otherwise.
      */
-    public static final boolean match(String logLine) {
-        return logLine.matches(REGEX);
+    public static final boolean match(CharSequence logLine) {
+        return PatternRegistry.matcher(PATTERN, logLine).matches();
     }
 
+    /**
+     * The elapsed time for display purposes in #d #h #m #s format.
+     */
+    private final String literal;
+
     /**
      * The log entry for the event.
      */
-    private String logEntry;
+    private final String logEntry;
+
+    /**
+     * The date/time of the crash.
+     */
+    private final String timeString;
+
+    /**
+     * The uptime in milliseconds.
+     */
+    private final Long uptime;
 
     /**
      * Create event from log entry.
@@ -74,20 +90,33 @@ public class TimeElapsedTime implements LogEvent {
      */
     public TimeElapsedTime(String logEntry) {
         this.logEntry = logEntry;
+        String literal = null;
+        String timeString = null;
+        Long uptime = Long.MIN_VALUE;
+        if (logEntry != null) {
+            Matcher matcher = PatternRegistry.matcher(PATTERN, logEntry);
+            if (matcher.find()) {
+                if (matcher.group(4) != null) {
+                    literal = matcher.group(4);
+                }
+                timeString = matcher.group(1);
+                if (matcher.group(2) != null) {
+                    BigDecimal millis = new BigDecimal(matcher.group(2)).movePointRight(3);
+                    millis.setScale(0, RoundingMode.HALF_EVEN);
+                    uptime = millis.longValue();
+                }
+            }
+        }
+        this.literal = literal;
+        this.timeString = timeString;
+        this.uptime = uptime;
     }
 
     /**
      * @return The elapsed time for display purposes in #d #h #m #s format.
      */
     public String getLiteral() {
-        String time = null;
-        Matcher matcher = pattern.matcher(logEntry);
-        if (matcher.find()) {
-            if (matcher.group(4) != null) {
-                time = matcher.group(4);
-            }
-        }
-        return time;
+        return literal;
     }
 
     public String getLogEntry() {
@@ -102,27 +131,13 @@ public class TimeElapsedTime implements LogEvent {
      * @return The date/time of the crash.
      */
     public String getTimeString() {
-        String time = null;
-        Matcher matcher = pattern.matcher(logEntry);
-        if (matcher.find()) {
-            time = matcher.group(1);
-        }
-        return time;
+        return timeString;
     }
 
     /**
      * @return The uptime in milliseconds.
      */
     public Long getUptime() {
-        Long uptime = Long.MIN_VALUE;
-        Matcher matcher = pattern.matcher(logEntry);
-        if (matcher.find()) {
-            if (matcher.group(2) != null) {
-                BigDecimal millis = new BigDecimal(matcher.group(2)).movePointRight(3);
-                millis.setScale(0, RoundingMode.HALF_EVEN);
-                uptime = millis.longValue();
-            }
-        }
         return uptime;
     }
 }
@@ -20,6 +20,7 @@ import java.util.regex.Pattern;
 import org.github.krashpad.domain.HeaderEvent;
 import org.github.krashpad.domain.LogEvent;
 import org.github.krashpad.util.jdk.JdkUtil;
+import org.github.krashpad.util.jdk.PatternRegistry;
 
 /**
  * <p>
@@ -54,6 +55,11 @@ public class TransparentHugepageEnabled implements LogEvent, HeaderEvent {
      */
     public static final String _REGEX_HEADER = "/sys/kernel/mm/transparent_hugepage/enabled:";
 
+    /**
+     * Compiled <code>REGEX</code>.
+     */
+    public static final Pattern PATTERN = PatternRegistry.getPattern(TransparentHugepageEnabled.REGEX);
+
     /**
      * Regular expression defining the logging.
      */
@@ -67,14 +73,29 @@ public class TransparentHugepageEnabled implements LogEvent, HeaderEvent {
      *            The log line to test.
      * @return true if the log line matches the event pattern, false otherwise.
      */
-    public static final boolean match(String logLine) {
-        return logLine.matches(REGEX);
+    public static final boolean match(CharSequence logLine) {
+        return PatternRegistry.matcher(PATTERN, logLine).matches();
     }
 
+    /**
+     * Whether the log entry is the header, determined when the event is created.
+     */
+    private final boolean header;
+
     /**
      * The log entry for the event.
      */
-    private String logEntry;
+    private final String logEntry;
+
+    /**
+     * The mode.
+     */
+    private final MODE mode;
+
+    /**
+     * True if mode setting, false otherwise.
+     */
+    private final boolean modeSetting;
 
     /**
      * Create event from log entry.
@@ -84,6 +105,26 @@ public class TransparentHugepageEnabled implements LogEvent, HeaderEvent {
      */
     public TransparentHugepageEnabled(String logEntry) {
         this.logEntry = logEntry;
+        header = logEntry != null && PatternRegistry.matches(logEntry, _REGEX_HEADER);
+        MODE mode = MODE.UNKNOWN;
+        boolean isMode = false;
+        if (logEntry != null) {
+            Matcher matcher = PatternRegistry.matcher(PATTERN, logEntry);
+            if (matcher.find()) {
+                if (matcher.group(3) != null) {
+                    isMode = true;
+                    if (PatternRegistry.matches(matcher.group(3), "^\\[always\\] madvise never$")) {
+                        mode = MODE.ALWAYS;
+                    } else if (PatternRegistry.matches(matcher.group(3), "^always \\[madvise\\] never$")) {
+                        mode = MODE.MADVISE;
+                    } else if (PatternRegistry.matches(matcher.group(3), "^always madvise \\[never\\]$")) {
+                        mode = MODE.NEVER;
+                    }
+                }
+            }
+        }
+        this.mode = mode;
+        modeSetting = isMode;
     }
 
     public String getLogEntry() {
@@ -94,20 +135,6 @@ public class TransparentHugepageEnabled implements LogEvent, HeaderEvent {
      * @return THP mode.
      */
     public MODE getMode() {
-        MODE mode = MODE.UNKNOWN;
-        Pattern pattern = Pattern.compile(TransparentHugepageEnabled.REGEX);
-        Matcher matcher = pattern.matcher(logEntry);
-        if (matcher.find()) {
-            if (matcher.group(3) != null) {
-                if (matcher.group(3).matches("^\\[always\\] madvise never$")) {
-                    mode = MODE.ALWAYS;
-                } else if (matcher.group(3).matches("^always \\[madvise\\] never$")) {
-                    mode = MODE.MADVISE;
-                } else if (matcher.group(3).matches("^always madvise \\[never\\]$")) {
-                    mode = MODE.NEVER;
-                }
-            }
-        }
         return mode;
     }
 
@@ -117,25 +144,13 @@ public class TransparentHugepageEnabled implements LogEvent, HeaderEvent {
 
     @Override
     public boolean isHeader() {
-        boolean isHeader = false;
-        if (this.logEntry != null) {
-            isHeader = logEntry.matches(_REGEX_HEADER);
-        }
-        return isHeader;
+        return header;
     }
 
     /**
      * @return True if mode setting, false otherwise.
      */
     public boolean isMode() {
-        boolean isMode = false;
-        Pattern pattern = Pattern.compile(TransparentHugepageEnabled.REGEX);
-        Matcher matcher = pattern.matcher(logEntry);
-        if (matcher.find()) {
-            if (matcher.group(3) != null) {
-                isMode = true;
-            }
-        }
-        return isMode;
+        return modeSetting;
     }
 }
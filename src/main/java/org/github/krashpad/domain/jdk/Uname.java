@@ -24,6 +24,7 @@ import org.github.krashpad.domain.LogEvent;
 import org.github.krashpad.util.Constants.OsVendor;
 import org.github.krashpad.util.Constants.OsVersion;
 import org.github.krashpad.util.jdk.JdkUtil;
+import org.github.krashpad.util.jdk.PatternRegistry;
 
 /**
  * <p>
@@ -79,7 +80,7 @@ public class Uname implements LogEvent, HeaderEvent {
      */
     public static final String _REGEX_HEADER = "uname:[ ]{0,1}((Linux|SunOS) .+(i86pc|sun4v|ppc64(le)?|x86_64).*)";
 
-    private static Pattern pattern = Pattern.compile(Uname.REGEX);
+    public static final Pattern PATTERN = PatternRegistry.getPattern(Uname.REGEX);
 
     /**
      * Regular expression defining the logging.
@@ -93,14 +94,44 @@ public class Uname implements LogEvent, HeaderEvent {
      *            The log line to test.
      * @return true if the log line matches the event pattern, false otherwise.
      */
-    public static final boolean match(String logLine) {
-        return logLine.matches(REGEX);
+    public static final boolean match(CharSequence logLine) {
+        return PatternRegistry.matcher(PATTERN, logLine).matches();
     }
 
+    /**
+     * The chip architecture.
+     */
+    private final Arch arch;
+
+    /**
+     * Whether the log entry is the header, determined when the event is created.
+     */
+    private final boolean header;
+
     /**
      * The log entry for the event.
      */
-    private String logEntry;
+    private final String logEntry;
+
+    /**
+     * The OS type.
+     */
+    private final Os osType;
+
+    /**
+     * The OS vendor.
+     */
+    private final OsVendor osVendor;
+
+    /**
+     * The OS version.
+     */
+    private final OsVersion osVersion;
+
+    /**
+     * The uname string.
+     */
+    private final String uname;
 
     /**
      * Create event from log entry.
@@ -110,28 +141,58 @@ public class Uname implements LogEvent, HeaderEvent {
      */
     public Uname(String logEntry) {
         this.logEntry = logEntry;
+        header = logEntry != null && PatternRegistry.matches(logEntry, _REGEX_HEADER);
+        String uname = null;
+        Arch arch = Arch.UNKNOWN;
+        Os osType = Os.UNIDENTIFIED;
+        OsVendor osVendor = OsVendor.UNIDENTIFIED;
+        OsVersion osVersion = OsVersion.UNIDENTIFIED;
+        if (logEntry != null) {
+            Matcher matcher = PatternRegistry.matcher(PATTERN, logEntry);
+            if (matcher.find() && matcher.group(2) != null) {
+                uname = matcher.group(2);
+                int indexArch = 4;
+                if (matcher.group(indexArch).equals("x86_64")) {
+                    arch = Arch.X86_64;
+                } else if (matcher.group(indexArch).equals("ppc64")) {
+                    arch = Arch.PPC64;
+                } else if (matcher.group(indexArch).equals("ppc64le")) {
+                    arch = Arch.PPC64LE;
+                } else if (matcher.group(indexArch).equals("sun4v")) {
+                    arch = Arch.SPARC;
+                } else if (matcher.group(indexArch).equals("i86pc")) {
+                    arch = Arch.I86PC;
+                }
+                if (PatternRegistry.matches(uname, "Linux.+")) {
+                    osType = Os.LINUX;
+                } else if (PatternRegistry.matches(uname, "SunOS.+")) {
+                    osType = Os.SOLARIS;
+                }
+                if (PatternRegistry.matches(uname, "Linux.+\\.el(6|7|8_\\d)\\..+")) {
+                    osVendor = OsVendor.REDHAT;
+                } else if (PatternRegistry.matches(uname, "SunOS.+")) {
+                    osVendor = OsVendor.ORACLE;
+                }
+                if (PatternRegistry.matches(uname, "Linux.+\\.el6\\..+")) {
+                    osVersion = OsVersion.RHEL6;
+                } else if (PatternRegistry.matches(uname, "Linux.+\\.el7\\..+")) {
+                    osVersion = OsVersion.RHEL7;
+                } else if (PatternRegistry.matches(uname, "Linux.+\\.el8_\\d\\..+")) {
+                    osVersion = OsVersion.RHEL8;
+                }
+            }
+        }
+        this.uname = uname;
+        this.arch = arch;
+        this.osType = osType;
+        this.osVendor = osVendor;
+        this.osVersion = osVersion;
     }
 
     /**
      * @return The chip architecture.
      */
     public Arch getArch() {
-        Arch arch = Arch.UNKNOWN;
-        Matcher matcher = pattern.matcher(logEntry);
-        if (matcher.find()) {
-            int indexArch = 4;
-            if (matcher.group(indexArch).equals("x86_64")) {
-                arch = Arch.X86_64;
-            } else if (matcher.group(indexArch).equals("ppc64")) {
-                arch = Arch.PPC64;
-            } else if (matcher.group(indexArch).equals("ppc64le")) {
-                arch = Arch.PPC64LE;
-            } else if (matcher.group(indexArch).equals("sun4v")) {
-                arch = Arch.SPARC;
-            } else if (matcher.group(indexArch).equals("i86pc")) {
-                arch = Arch.I86PC;
-            }
-        }
         return arch;
     }
 
@@ -147,12 +208,6 @@ public class Uname implements LogEvent, HeaderEvent {
      * @return The OS type.
      */
     public Os getOsType() {
-        Os osType = Os.UNIDENTIFIED;
-        if (getUname().matches("Linux.+")) {
-            osType = Os.LINUX;
-        } else if (getUname().matches("SunOS.+")) {
-            osType = Os.SOLARIS;
-        }
         return osType;
     }
 
@@ -160,12 +215,6 @@ public class Uname implements LogEvent, HeaderEvent {
      * @return The OS vendor.
      */
     public OsVendor getOsVendor() {
-        OsVendor osVendor = OsVendor.UNIDENTIFIED;
-        if (getUname().matches("Linux.+\\.el(6|7|8_\\d)\\..+")) {
-            osVendor = OsVendor.REDHAT;
-        } else if (getUname().matches("SunOS.+")) {
-            osVendor = OsVendor.ORACLE;
-        }
         return osVendor;
     }
 
@@ -173,14 +222,6 @@ public class Uname implements LogEvent, HeaderEvent {
      * @return The OS version.
      */
     public OsVersion getOsVersion() {
-        OsVersion osVersion = OsVersion.UNIDENTIFIED;
-        if (getUname().matches("Linux.+\\.el6\\..+")) {
-            osVersion = OsVersion.RHEL6;
-        } else if (getUname().matches("Linux.+\\.el7\\..+")) {
-            osVersion = OsVersion.RHEL7;
-        } else if (getUname().matches("Linux.+\\.el8_\\d\\..+")) {
-            osVersion = OsVersion.RHEL8;
-        }
         return osVersion;
     }
 
@@ -188,20 +229,11 @@ public class Uname implements LogEvent, HeaderEvent {
      * @return The uname string.
      */
     public String getUname() {
-        String uname = null;
-        Matcher matcher = pattern.matcher(logEntry);
-        if (matcher.find()) {
-            uname = matcher.group(2);
-        }
         return uname;
     }
 
     @Override
     public boolean isHeader() {
-        boolean isHeader = false;
-        if (this.logEntry != null) {
-            isHeader = logEntry.matches(_REGEX_HEADER);
-        }
-        return isHeader;
+        return header;
     }
 }
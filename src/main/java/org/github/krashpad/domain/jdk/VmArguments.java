@@ -20,6 +20,7 @@ import java.util.regex.Pattern;
 import org.github.krashpad.domain.HeaderEvent;
 import org.github.krashpad.domain.LogEvent;
 import org.github.krashpad.util.jdk.JdkUtil;
+import org.github.krashpad.util.jdk.PatternRegistry;
 
 /**
  * <p>
@@ -54,7 +55,7 @@ public class VmArguments implements LogEvent, HeaderEvent {
      */
     private static final String _REGEX_HEADER = "VM Arguments:";
 
-    private static Pattern pattern = Pattern.compile(VmArguments.REGEX);
+    public static final Pattern PATTERN = PatternRegistry.getPattern(VmArguments.REGEX);
 
     /**
      * Regular expression defining the logging.
@@ -69,14 +70,34 @@ public class VmArguments implements LogEvent, HeaderEvent {
      *            The log line to test.
      * @return true if the log line matches the event pattern, false otherwise.
      */
-    public static final boolean match(String logLine) {
-        return logLine.matches(REGEX);
+    public static final boolean match(CharSequence logLine) {
+        return PatternRegistry.matcher(PATTERN, logLine).matches();
     }
 
+    /**
+     * Whether the log entry is the header, determined when the event is created.
+     */
+    private final boolean header;
+
+    /**
+     * True if the event is java_command, false otherwise.
+     */
+    private final boolean javaCommand;
+
+    /**
+     * True if the event is jvm_args, false otherwise.
+     */
+    private final boolean jvmArgs;
+
     /**
      * The log entry for the event.
      */
-    private String logEntry;
+    private final String logEntry;
+
+    /**
+     * The value of the VM argument.
+     */
+    private final String value;
 
     /**
      * Create event from log entry.
@@ -86,6 +107,17 @@ public class VmArguments implements LogEvent, HeaderEvent {
      */
     public VmArguments(String logEntry) {
         this.logEntry = logEntry;
+        header = logEntry != null && PatternRegistry.matches(logEntry, _REGEX_HEADER);
+        javaCommand = logEntry != null && PatternRegistry.matches(logEntry, "^java_command: .+$");
+        jvmArgs = logEntry != null && PatternRegistry.matches(logEntry, "^jvm_args: .+$");
+        String value = null;
+        if (logEntry != null) {
+            Matcher matcher = PatternRegistry.matcher(PATTERN, logEntry);
+            if (matcher.find()) {
+                value = matcher.group(2);
+            }
+        }
+        this.value = value;
     }
 
     public String getLogEntry() {
@@ -100,34 +132,25 @@ public class VmArguments implements LogEvent, HeaderEvent {
      * @return The value of the VM argument.
      */
     public String getValue() {
-        String value = null;
-        Matcher matcher = pattern.matcher(logEntry);
-        if (matcher.find()) {
-            value = matcher.group(2);
-        }
         return value;
     }
 
     @Override
     public boolean isHeader() {
-        boolean isHeader = false;
-        if (this.logEntry != null) {
-            isHeader = logEntry.matches(_REGEX_HEADER);
-        }
-        return isHeader;
+        return header;
     }
 
     /**
      * @return True if the event is java_command, false otherwise.
      */
     public boolean isJavaCommand() {
-        return logEntry.matches("^java_command: .+$");
+        return javaCommand;
     }
 
     /**
      * @return True if the event is jvm_args, false otherwise.
      */
     public boolean isJvmArgs() {
-        return logEntry.matches("^jvm_args: .+$");
+        return jvmArgs;
     }
 }
@@ -27,6 +27,7 @@ import org.github.krashpad.util.KrashUtil;
 import org.github.krashpad.util.jdk.JdkRegEx;
 import org.github.krashpad.util.jdk.JdkUtil;
 import org.github.krashpad.util.jdk.JdkUtil.JavaSpecification;
+import org.github.krashpad.util.jdk.PatternRegistry;
 
 /**
  * <p>
@@ -68,7 +69,7 @@ import org.github.krashpad.util.jdk.JdkUtil.JavaSpecification;
  */
 public class VmInfo implements LogEvent {
 
-    private static Pattern pattern = Pattern.compile(VmInfo.REGEX);
+    public static final Pattern PATTERN = PatternRegistry.getPattern(VmInfo.REGEX);
 
     /**
      * Regular expression defining the logging.
@@ -84,14 +85,44 @@ public class VmInfo implements LogEvent {
      *            The log line to test.
      * @return true if the log line matches the event pattern, false otherwise.
      */
-    public static final boolean match(String logLine) {
-        return logLine.matches(REGEX);
+    public static final boolean match(CharSequence logLine) {
+        return PatternRegistry.matcher(PATTERN, logLine).matches();
     }
 
+    /**
+     * The chip architecture.
+     */
+    private final Arch arch;
+
+    /**
+     * The JDK build date/time.
+     */
+    private final Date buildDate;
+
+    /**
+     * JDK builder.
+     */
+    private final BuiltBy builtBy;
+
+    /**
+     * The JDK version.
+     */
+    private final JavaSpecification javaSpecification;
+
+    /**
+     * The Java release string.
+     */
+    private final String jdkReleaseString;
+
     /**
      * The log entry for the event.
      */
-    private String logEntry;
+    private final String logEntry;
+
+    /**
+     * The OS type.
+     */
+    private final Os os;
 
     /**
      * Create event from log entry.
@@ -101,26 +132,110 @@ public class VmInfo implements LogEvent {
      */
     public VmInfo(String logEntry) {
         this.logEntry = logEntry;
+        Arch arch = Arch.UNKNOWN;
+        Date date = null;
+        BuiltBy builtBy = BuiltBy.UNKNOWN;
+        JavaSpecification version = JavaSpecification.UNKNOWN;
+        String jdkReleaseString = null;
+        Os osType = Os.UNIDENTIFIED;
+        if (logEntry != null) {
+            Matcher matcher = PatternRegistry.matcher(PATTERN, logEntry);
+            if (matcher.find()) {
+                int indexArch = 4;
+                if (matcher.group(indexArch).equals("amd64") || matcher.group(indexArch).equals("linux64")) {
+                    arch = Arch.X86_64;
+                } else if (matcher.group(indexArch).equals("ppc64le")) {
+                    arch = Arch.PPC64LE;
+                } else if (matcher.group(indexArch).equals("ppc64")) {
+                    arch = Arch.PPC64;
+                } else if (matcher.group(indexArch).equals("x86")) {
+                    arch = Arch.X86;
+                }
+                if (PatternRegistry.matches(matcher.group(8), JdkRegEx.BUILD_DATE_TIME)) {
+                    date = KrashUtil.getDate(matcher.group(9), matcher.group(10), matcher.group(11), matcher.group(12),
+                            matcher.group(13), matcher.group(14));
+                } else if (PatternRegistry.matches(matcher.group(8), JdkRegEx.BUILD_DATE_TIME_21)) {
+                    Calendar calendar = Calendar.getInstance();
+                    calendar.set(Calendar.YEAR, Integer.valueOf(matcher.group(15)).intValue());
+                    calendar.set(Calendar.MONTH, Integer.valueOf(matcher.group(16)).intValue() - 1);
+                    calendar.set(Calendar.DAY_OF_MONTH, Integer.valueOf(matcher.group(17)).intValue());
+                    calendar.set(Calendar.HOUR_OF_DAY, Integer.valueOf(matcher.group(18)).intValue());
+                    calendar.set(Calendar.MINUTE, Integer.valueOf(matcher.group(19)).intValue());
+                    calendar.set(Calendar.SECOND, Integer.valueOf(matcher.group(20)).intValue());
+                    calendar.set(Calendar.MILLISECOND, 0);
+                    date = calendar.getTime();
+                }
+                int indexJdkVersion = 7;
+                if (matcher.group(indexJdkVersion).equals("21")) {
+                    version = JavaSpecification.JDK21;
+                } else if (matcher.group(indexJdkVersion).equals("17")) {
+                    version = JavaSpecification.JDK17;
+                } else if (matcher.group(indexJdkVersion).equals("12")) {
+                    version = JavaSpecification.JDK12;
+                } else if (matcher.group(indexJdkVersion).equals("11")) {
+                    version = JavaSpecification.JDK11;
+                } else if (matcher.group(indexJdkVersion).equals("1.8.0")) {
+                    version = JavaSpecification.JDK8;
+                } else if (matcher.group(indexJdkVersion).equals("1.7.0")) {
+                    version = JavaSpecification.JDK7;
+                } else if (matcher.group(indexJdkVersion).equals("1.6.0")) {
+                    version = JavaSpecification.JDK6;
+                }
+                jdkReleaseString = matcher.group(6);
+                int indexOs = 3;
+                if (matcher.group(indexOs).equals("linux")) {
+                    osType = Os.LINUX;
+                } else if (matcher.group(indexOs).equals("windows")) {
+                    osType = Os.WINDOWS;
+                } else if (matcher.group(indexOs).equals("solaris")) {
+                    osType = Os.SOLARIS;
+                }
+            }
+            if (PatternRegistry.matches(logEntry, ".+\"build\".+")) {
+                builtBy = BuiltBy.BUILD;
+            } else if (PatternRegistry.matches(logEntry, ".+\"buildslave\".+")) {
+                builtBy = BuiltBy.BUILDSLAVE;
+            } else if (PatternRegistry.matches(logEntry, ".+\"\".+")) {
+                // Red Hat Windows
+                builtBy = BuiltBy.EMPTY;
+            } else if (PatternRegistry.matches(logEntry, ".+\"jenkins\".+")) {
+                // AdoptOpenJDK
+                builtBy = BuiltBy.JENKINS;
+            } else if (PatternRegistry.matches(logEntry, ".+\"java_re\".+")) {
+                // Oracle current
+                builtBy = BuiltBy.JAVA_RE;
+            } else if (PatternRegistry.matches(logEntry, ".+\"mach5one\".+")) {
+                // Oracle previous
+                builtBy = BuiltBy.MACH5ONE;
+            } else if (PatternRegistry.matches(logEntry, ".+\"mockbuild\".+")) {
+                // Red Hat, CentOS
+                builtBy = BuiltBy.MOCKBUILD;
+            } else if (PatternRegistry.matches(logEntry, ".+\"temurin\".+")) {
+                // Adoptium temurin
+                builtBy = BuiltBy.TEMURIN;
+            } else if (PatternRegistry.matches(logEntry, ".+\"tester\".+")) {
+                // Azul
+                builtBy = BuiltBy.TESTER;
+            } else if (PatternRegistry.matches(logEntry, ".+\"vsts\".+")) {
+                // Microsoft
+                builtBy = BuiltBy.VSTS;
+            } else if (PatternRegistry.matches(logEntry, ".+\"zulu_re\".+")) {
+                // Azul
+                builtBy = BuiltBy.ZULU_RE;
+            }
+        }
+        this.arch = arch;
+        buildDate = date;
+        this.builtBy = builtBy;
+        javaSpecification = version;
+        this.jdkReleaseString = jdkReleaseString;
+        os = osType;
     }
 
     /**
      * @return The chip architecture.
      */
     public Arch getArch() {
-        Arch arch = Arch.UNKNOWN;
-        Matcher matcher = pattern.matcher(logEntry);
-        if (matcher.find()) {
-            int indexArch = 4;
-            if (matcher.group(indexArch).equals("amd64") || matcher.group(indexArch).equals("linux64")) {
-                arch = Arch.X86_64;
-            } else if (matcher.group(indexArch).equals("ppc64le")) {
-                arch = Arch.PPC64LE;
-            } else if (matcher.group(indexArch).equals("ppc64")) {
-                arch = Arch.PPC64;
-            } else if (matcher.group(indexArch).equals("x86")) {
-                arch = Arch.X86;
-            }
-        }
         return arch;
     }
 
@@ -128,64 +243,13 @@ public class VmInfo implements LogEvent {
      * @return The JDK build date/time.
      */
     public Date getBuildDate() {
-        Date date = null;
-        Matcher matcher = pattern.matcher(logEntry);
-        if (matcher.find()) {
-            if (matcher.group(8).matches(JdkRegEx.BUILD_DATE_TIME)) {
-                date = KrashUtil.getDate(matcher.group(9), matcher.group(10), matcher.group(11), matcher.group(12),
-                        matcher.group(13), matcher.group(14));
-            } else if (matcher.group(8).matches(JdkRegEx.BUILD_DATE_TIME_21)) {
-                Calendar calendar = Calendar.getInstance();
-                calendar.set(Calendar.YEAR, Integer.valueOf(matcher.group(15)).intValue());
-                calendar.set(Calendar.MONTH, Integer.valueOf(matcher.group(16)).intValue() - 1);
-                calendar.set(Calendar.DAY_OF_MONTH, Integer.valueOf(matcher.group(17)).intValue());
-                calendar.set(Calendar.HOUR_OF_DAY, Integer.valueOf(matcher.group(18)).intValue());
-                calendar.set(Calendar.MINUTE, Integer.valueOf(matcher.group(19)).intValue());
-                calendar.set(Calendar.SECOND, Integer.valueOf(matcher.group(20)).intValue());
-                calendar.set(Calendar.MILLISECOND, 0);
-                date = calendar.getTime();
-            }
-        }
-        return date;
+        return buildDate;
     }
 
     /**
      * @return JDK builder.
      */
     public BuiltBy getBuiltBy() {
-        BuiltBy builtBy = BuiltBy.UNKNOWN;
-        if (logEntry.matches(".+\"build\".+")) {
-            builtBy = BuiltBy.BUILD;
-        } else if (logEntry.matches(".+\"buildslave\".+")) {
-            builtBy = BuiltBy.BUILDSLAVE;
-        } else if (logEntry.matches(".+\"\".+")) {
-            // Red Hat Windows
-            builtBy = BuiltBy.EMPTY;
-        } else if (logEntry.matches(".+\"jenkins\".+")) {
-            // AdoptOpenJDK
-            builtBy = BuiltBy.JENKINS;
-        } else if (logEntry.matches(".+\"java_re\".+")) {
-            // Oracle current
-            builtBy = BuiltBy.JAVA_RE;
-        } else if (logEntry.matches(".+\"mach5one\".+")) {
-            // Oracle previous
-            builtBy = BuiltBy.MACH5ONE;
-        } else if (logEntry.matches(".+\"mockbuild\".+")) {
-            // Red Hat, CentOS
-            builtBy = BuiltBy.MOCKBUILD;
-        } else if (logEntry.matches(".+\"temurin\".+")) {
-            // Adoptium temurin
-            builtBy = BuiltBy.TEMURIN;
-        } else if (logEntry.matches(".+\"tester\".+")) {
-            // Azul
-            builtBy = BuiltBy.TESTER;
-        } else if (logEntry.matches(".+\"vsts\".+")) {
-            // Microsoft
-            builtBy = BuiltBy.VSTS;
-        } else if (logEntry.matches(".+\"zulu_re\".+")) {
-            // Azul
-            builtBy = BuiltBy.ZULU_RE;
-        }
         return builtBy;
     }
 
@@ -193,27 +257,7 @@ public class VmInfo implements LogEvent {
      * @return The JDK version.
      */
     public JavaSpecification getJavaSpecification() {
-        JavaSpecification version = JavaSpecification.UNKNOWN;
-        Matcher matcher = pattern.matcher(logEntry);
-        if (matcher.find()) {
-            int indexJdkVersion = 7;
-            if (matcher.group(indexJdkVersion).equals("21")) {
-                version = JavaSpecification.JDK21;
-            } else if (matcher.group(indexJdkVersion).equals("17")) {
-                version = JavaSpecification.JDK17;
-            } else if (matcher.group(indexJdkVersion).equals("12")) {
-                version = JavaSpecification.JDK12;
-            } else if (matcher.group(indexJdkVersion).equals("11")) {
-                version = JavaSpecification.JDK11;
-            } else if (matcher.group(indexJdkVersion).equals("1.8.0")) {
-                version = JavaSpecification.JDK8;
-            } else if (matcher.group(indexJdkVersion).equals("1.7.0")) {
-                version = JavaSpecification.JDK7;
-            } else if (matcher.group(indexJdkVersion).equals("1.6.0")) {
-                version = JavaSpecification.JDK6;
-            }
-        }
-        return version;
+        return javaSpecification;
     }
 
     /**
@@ -228,11 +272,6 @@ public class VmInfo implements LogEvent {
      * @return The Java release string.
      */
     public String getJdkReleaseString() {
-        String jdkReleaseString = null;
-        Matcher matcher = pattern.matcher(logEntry);
-        if (matcher.find()) {
-            jdkReleaseString = matcher.group(6);
-        }
         return jdkReleaseString;
     }
 
@@ -248,18 +287,6 @@ public class VmInfo implements LogEvent {
      * @return The OS type.
      */
     public Os getOs() {
-        Os osType = Os.UNIDENTIFIED;
-        Matcher matcher = pattern.matcher(logEntry);
-        if (matcher.find()) {
-            int indexOs = 3;
-            if (matcher.group(indexOs).equals("linux")) {
-                osType = Os.LINUX;
-            } else if (matcher.group(indexOs).equals("windows")) {
-                osType = Os.WINDOWS;
-            } else if (matcher.group(indexOs).equals("solaris")) {
-                osType = Os.SOLARIS;
-            }
-        }
-        return osType;
+        return os;
     }
 }
@@ -20,6 +20,7 @@ import java.util.regex.Pattern;
 import org.github.krashpad.domain.LogEvent;
 import org.github.krashpad.util.jdk.JdkRegEx;
 import org.github.krashpad.util.jdk.JdkUtil;
+import org.github.krashpad.util.jdk.PatternRegistry;
 
 /**
  * <p>
@@ -74,7 +75,7 @@ public class VmOperation implements LogEvent {
     private static final String _REGEX = "^VM_Operation \\(" + JdkRegEx.ADDRESS + "\\): (" + __REGEX_OPERATIONS
             + ".+)$";
 
-    private static Pattern pattern = Pattern.compile(_REGEX);
+    public static final Pattern PATTERN = PatternRegistry.getPattern(_REGEX);
 
     /**
      * Determine if the logLine matches the logging pattern(s) for this event.
@@ -83,14 +84,24 @@ public class VmOperation implements LogEvent {
      *            The log line to test.
      * @return true if the log line matches the event pattern, false otherwise.
      */
-    public static final boolean match(String logLine) {
-        return logLine.matches(_REGEX);
+    public static final boolean match(CharSequence logLine) {
+        return PatternRegistry.matcher(PATTERN, logLine).matches();
     }
 
     /**
      * The log entry for the event.
      */
-    private String logEntry;
+    private final String logEntry;
+
+    /**
+     * The VM operation (e.g. PrintThreads).
+     */
+    private final String vmOperation;
+
+    /**
+     * The VM operation string.
+     */
+    private final String vmOperationString;
 
     /**
      * Create event from log entry.
@@ -100,6 +111,17 @@ public class VmOperation implements LogEvent {
      */
     public VmOperation(String logEntry) {
         this.logEntry = logEntry;
+        String vmOperation = null;
+        String vmOperationString = null;
+        if (logEntry != null) {
+            Matcher matcher = PatternRegistry.matcher(PATTERN, logEntry);
+            if (matcher.find()) {
+                vmOperation = matcher.group(7);
+                vmOperationString = matcher.group(6);
+            }
+        }
+        this.vmOperation = vmOperation;
+        this.vmOperationString = vmOperationString;
     }
 
     public String getLogEntry() {
@@ -116,11 +138,6 @@ public class VmOperation implements LogEvent {
      *         PrintThreads
      */
     public String getVmOperation() {
-        String vmOperation = null;
-        Matcher matcher = pattern.matcher(logEntry);
-        if (matcher.find()) {
-            vmOperation = matcher.group(7);
-        }
         return vmOperation;
     }
 
@@ -130,11 +147,6 @@ public class VmOperation implements LogEvent {
      *         PrintThreads, mode: safepoint, requested by thread 0x0000000001b2a000
      */
     public String getVmOperationString() {
-        String vmOperation = null;
-        Matcher matcher = pattern.matcher(logEntry);
-        if (matcher.find()) {
-            vmOperation = matcher.group(6);
-        }
-        return vmOperation;
+        return vmOperationString;
     }
 }
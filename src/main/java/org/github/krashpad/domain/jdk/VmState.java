@@ -19,6 +19,7 @@ import java.util.regex.Pattern;
 
 import org.github.krashpad.domain.LogEvent;
 import org.github.krashpad.util.jdk.JdkUtil;
+import org.github.krashpad.util.jdk.PatternRegistry;
 
 /**
  * <p>
@@ -40,7 +41,7 @@ import org.github.krashpad.util.jdk.JdkUtil;
  */
 public class VmState implements LogEvent {
 
-    private static Pattern pattern = Pattern.compile(VmState.REGEX);
+    public static final Pattern PATTERN = PatternRegistry.getPattern(VmState.REGEX);
 
     /**
      * Regular expression defining the logging.
@@ -54,14 +55,14 @@ public class VmState implements LogEvent {
      *            The log line to test.
      * @return true if the log line matches the event pattern, false otherwise.
      */
-    public static final boolean match(String logLine) {
-        return logLine.matches(REGEX);
+    public static final boolean match(CharSequence logLine) {
+        return PatternRegistry.matcher(PATTERN, logLine).matches();
     }
 
     /**
      * The log entry for the event.
      */
-    private String logEntry;
+    private final String logEntry;
 
     /**
      * Create event from log entry.
@@ -86,7 +87,7 @@ public class VmState implements LogEvent {
      */
     public String getState() {
         String value = null;
-        Matcher matcher = pattern.matcher(logEntry);
+        Matcher matcher = PatternRegistry.matcher(PATTERN, logEntry);
         if (matcher.find()) {
             value = matcher.group(1);
         }
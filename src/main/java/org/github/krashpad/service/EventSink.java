@@ -0,0 +1,41 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.service;
+
+import org.github.krashpad.domain.LogEvent;
+import org.github.krashpad.domain.jdk.FatalErrorLog;
+
+/**
+ * <p>
+ * Adds a parsed <code>LogEvent</code> to the <code>FatalErrorLog</code> (e.g. to an event list or setter).
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+@FunctionalInterface
+public interface EventSink {
+
+    /**
+     * @param fatalErrorLog
+     *            The fatal error log being built.
+     * @param event
+     *            The log line event.
+     * @param priorEvent
+     *            The previous log line event (blank lines excluded). Used for events that are merged into the prior
+     *            event (e.g. <code>NumberEvent</code>).
+     */
+    void add(FatalErrorLog fatalErrorLog, LogEvent event, LogEvent priorEvent);
+}
@@ -0,0 +1,312 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.service;
+
+import java.util.EnumMap;
+
+import org.github.krashpad.Main;
+import org.github.krashpad.domain.LogEvent;
+import org.github.krashpad.domain.UnknownEvent;
+import org.github.krashpad.domain.jdk.ClassesUnloadedEvent;
+import org.github.krashpad.domain.jdk.CommandLine;
+import org.github.krashpad.domain.jdk.CompilationEvent;
+import org.github.krashpad.domain.jdk.CompressedClassSpace;
+import org.github.krashpad.domain.jdk.ContainerInfo;
+import org.github.krashpad.domain.jdk.CpuInfo;
+import org.github.krashpad.domain.jdk.CurrentCompileTask;
+import org.github.krashpad.domain.jdk.CurrentThread;
+import org.github.krashpad.domain.jdk.DeoptimizationEvent;
+import org.github.krashpad.domain.jdk.DllOperationEvent;
+import org.github.krashpad.domain.jdk.DynamicLibrary;
+import org.github.krashpad.domain.jdk.ElapsedTime;
+import org.github.krashpad.domain.jdk.End;
+import org.github.krashpad.domain.jdk.EnvironmentVariable;
+import org.github.krashpad.domain.jdk.Event;
+import org.github.krashpad.domain.jdk.ExceptionCounts;
+import org.github.krashpad.domain.jdk.FatalErrorLog;
+import org.github.krashpad.domain.jdk.GcHeapHistoryEvent;
+import org.github.krashpad.domain.jdk.GcPreciousLog;
+import org.github.krashpad.domain.jdk.GlobalFlag;
+import org.github.krashpad.domain.jdk.Header;
+import org.github.krashpad.domain.jdk.Heap;
+import org.github.krashpad.domain.jdk.HeapAddress;
+import org.github.krashpad.domain.jdk.Host;
+import org.github.krashpad.domain.jdk.InternalExceptionEvent;
+import org.github.krashpad.domain.jdk.InternalStatistic;
+import org.github.krashpad.domain.jdk.LdPreloadFile;
+import org.github.krashpad.domain.jdk.MaxMapCount;
+import org.github.krashpad.domain.jdk.Meminfo;
+import org.github.krashpad.domain.jdk.Memory;
+import org.github.krashpad.domain.jdk.NarrowKlass;
+import org.github.krashpad.domain.jdk.NativeMemoryTracking;
+import org.github.krashpad.domain.jdk.NumberEvent;
+import org.github.krashpad.domain.jdk.OsInfo;
+import org.github.krashpad.domain.jdk.PeriodicNativeTrim;
+import org.github.krashpad.domain.jdk.PidMax;
+import org.github.krashpad.domain.jdk.RegisterToMemoryMapping;
+import org.github.krashpad.domain.jdk.Rlimit;
+import org.github.krashpad.domain.jdk.SigInfo;
+import org.github.krashpad.domain.jdk.Stack;
+import org.github.krashpad.domain.jdk.StackSlotToMemoryMapping;
+import org.github.krashpad.domain.jdk.Thread;
+import org.github.krashpad.domain.jdk.ThreadsMax;
+import org.github.krashpad.domain.jdk.Time;
+import org.github.krashpad.domain.jdk.TimeElapsedTime;
+import org.github.krashpad.domain.jdk.Timeout;
+import org.github.krashpad.domain.jdk.Timezone;
+import org.github.krashpad.domain.jdk.TransparentHugepageDefrag;
+import org.github.krashpad.domain.jdk.TransparentHugepageEnabled;
+import org.github.krashpad.domain.jdk.Uname;
+import org.github.krashpad.domain.jdk.VirtualizationInfo;
+import org.github.krashpad.domain.jdk.VmArguments;
+import org.github.krashpad.domain.jdk.VmInfo;
+import org.github.krashpad.domain.jdk.VmOperation;
+import org.github.krashpad.domain.jdk.VmState;
+import org.github.krashpad.domain.jdk.ZgcPhaseSwitchEvent;
+import org.github.krashpad.util.jdk.JdkUtil.LogEventType;
+
+/**
+ * <p>
+ * Registry of the <code>EventSink</code> for each <code>LogEventType</code>, so adding a parsed event to the
+ * <code>FatalErrorLog</code> is a single lookup instead of a chain of <code>instanceof</code> checks. Any parser front
+ * end can use the registry to build a <code>FatalErrorLog</code>.
+ * </p>
+ * 
+ * <p>
+ * Event types without a sink (e.g. <code>ThrowAwayEvent</code>s) are ignored.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class EventSinkRegistry {
+
+    /**
+     * Only keep "interesting" dynamic library mappings, but count them all.
+     * 
+     * @param fatalErrorLog
+     *            The fatal error log being built.
+     * @param event
+     *            The <code>DynamicLibrary</code> event.
+     * @param priorEvent
+     *            The previous log line event.
+     */
+    private static final void addDynamicLibrary(FatalErrorLog fatalErrorLog, LogEvent event, LogEvent priorEvent) {
+        DynamicLibrary dynamicLibrary = (DynamicLibrary) event;
+        if (!(dynamicLibrary.isHeader() || dynamicLibrary.isFooter() || dynamicLibrary.isError())) {
+            fatalErrorLog.setDynamicLibrariesMappingCount(fatalErrorLog.getDynamicLibrariesMappingCount() + 1);
+        }
+        if (dynamicLibrary.isInteresting()) {
+            fatalErrorLog.getDynamicLibraries().add(dynamicLibrary);
+        }
+    }
+
+    /**
+     * Add a number split onto its own line to the prior event.
+     * 
+     * @param fatalErrorLog
+     *            The fatal error log being built.
+     * @param event
+     *            The <code>NumberEvent</code> event.
+     * @param priorEvent
+     *            The previous log line event.
+     */
+    private static final void addNumber(FatalErrorLog fatalErrorLog, LogEvent event, LogEvent priorEvent) {
+        String combinedLogLine = priorEvent.getLogEntry() + " " + event.getLogEntry();
+        if (priorEvent instanceof CpuInfo) {
+            fatalErrorLog.getCpuInfos().remove(priorEvent);
+            CpuInfo combinedCpuInfoEvent = new CpuInfo(combinedLogLine);
+            fatalErrorLog.getCpuInfos().add(combinedCpuInfoEvent);
+        } else if (priorEvent instanceof MaxMapCount) {
+            fatalErrorLog.setMaxMapCount(new MaxMapCount(combinedLogLine));
+        } else if (priorEvent instanceof PidMax) {
+            fatalErrorLog.setPidMax(new PidMax(combinedLogLine));
+        } else if (priorEvent instanceof ThreadsMax) {
+            fatalErrorLog.setThreadsMax(new ThreadsMax(combinedLogLine));
+        } else {
+            // catch for future handling
+            addUnidentifiedLogLine(fatalErrorLog, event, priorEvent);
+        }
+    }
+
+    /**
+     * Some uname information is split across 2 lines.
+     * 
+     * @param fatalErrorLog
+     *            The fatal error log being built.
+     * @param event
+     *            The <code>Uname</code> event.
+     * @param priorEvent
+     *            The previous log line event.
+     */
+    private static final void addUname(FatalErrorLog fatalErrorLog, LogEvent event, LogEvent priorEvent) {
+        if (fatalErrorLog.getUname() == null) {
+            fatalErrorLog.setUname((Uname) event);
+        } else {
+            Uname unameEvent = new Uname(fatalErrorLog.getUname().getLogEntry() + ((Uname) event).getLogEntry());
+            fatalErrorLog.setUname(unameEvent);
+        }
+    }
+
+    /**
+     * @param fatalErrorLog
+     *            The fatal error log being built.
+     * @param event
+     *            The unidentified log line event.
+     * @param priorEvent
+     *            The previous log line event.
+     */
+    private static final void addUnidentifiedLogLine(FatalErrorLog fatalErrorLog, LogEvent event,
+            LogEvent priorEvent) {
+        if (fatalErrorLog.getUnidentifiedLogLines().size() < Main.REJECT_LIMIT) {
+            fatalErrorLog.getUnidentifiedLogLines().add(event.getLogEntry());
+        }
+    }
+
+    /**
+     * Event sinks by event type.
+     */
+    private final EnumMap<LogEventType, EventSink> sinks;
+
+    /**
+     * Default constructor. Registers the sinks for the built in event types.
+     */
+    public EventSinkRegistry() {
+        sinks = new EnumMap<LogEventType, EventSink>(LogEventType.class);
+        sinks.put(LogEventType.CLASSES_UNLOADED_EVENT,
+                (fel, event, priorEvent) -> fel.getClassesUnloadedEvents().add((ClassesUnloadedEvent) event));
+        sinks.put(LogEventType.COMMAND_LINE, (fel, event, priorEvent) -> fel.setCommandLine((CommandLine) event));
+        sinks.put(LogEventType.COMPILATION_EVENT,
+                (fel, event, priorEvent) -> fel.getCompilationEvents().add((CompilationEvent) event));
+        sinks.put(LogEventType.COMPRESSED_CLASS_SPACE,
+                (fel, event, priorEvent) -> fel.setCompressedClassSpaceEvent((CompressedClassSpace) event));
+        sinks.put(LogEventType.CONTAINER_INFO,
+                (fel, event, priorEvent) -> fel.getContainerInfos().add((ContainerInfo) event));
+        sinks.put(LogEventType.CPU_INFO, (fel, event, priorEvent) -> fel.getCpuInfos().add((CpuInfo) event));
+        sinks.put(LogEventType.CURRENT_COMPILE_TASK,
+                (fel, event, priorEvent) -> fel.getCurrentCompileTasks().add((CurrentCompileTask) event));
+        sinks.put(LogEventType.CURRENT_THREAD, (fel, event, priorEvent) -> fel.setCurrentThread((CurrentThread) event));
+        sinks.put(LogEventType.DEOPTIMIZATION_EVENT,
+                (fel, event, priorEvent) -> fel.getDeoptimizationEvents().add((DeoptimizationEvent) event));
+        sinks.put(LogEventType.DLL_OPERATION_EVENT,
+                (fel, event, priorEvent) -> fel.getDllOperationEvents().add((DllOperationEvent) event));
+        sinks.put(LogEventType.DYNAMIC_LIBRARY, EventSinkRegistry::addDynamicLibrary);
+        sinks.put(LogEventType.ELAPSED_TIME, (fel, event, priorEvent) -> fel.setElapsedTime((ElapsedTime) event));
+        sinks.put(LogEventType.END, (fel, event, priorEvent) -> fel.setEnd((End) event));
+        sinks.put(LogEventType.ENVIRONMENT_VARIABLES,
+                (fel, event, priorEvent) -> fel.getEnvironmentVariables().add((EnvironmentVariable) event));
+        sinks.put(LogEventType.EVENT, (fel, event, priorEvent) -> fel.getEvents().add((Event) event));
+        sinks.put(LogEventType.EXCEPTION_COUNTS,
+                (fel, event, priorEvent) -> fel.getExceptionCounts().add((ExceptionCounts) event));
+        sinks.put(LogEventType.GC_HEAP_HISTORY_EVENT,
+                (fel, event, priorEvent) -> fel.getGcHeapHistoryEvents().add((GcHeapHistoryEvent) event));
+        sinks.put(LogEventType.GC_PRECIOUS_LOG,
+                (fel, event, priorEvent) -> fel.getGcPreciousLogs().add((GcPreciousLog) event));
+        sinks.put(LogEventType.GLOBAL_FLAGS, (fel, event, priorEvent) -> fel.getGlobalFlags().add((GlobalFlag) event));
+        sinks.put(LogEventType.HEADER, (fel, event, priorEvent) -> fel.getHeaders().add((Header) event));
+        sinks.put(LogEventType.HEAP, (fel, event, priorEvent) -> fel.getHeaps().add((Heap) event));
+        sinks.put(LogEventType.HEAP_ADDRESS, (fel, event, priorEvent) -> fel.setHeapAddress((HeapAddress) event));
+        sinks.put(LogEventType.HOST, (fel, event, priorEvent) -> fel.setHost((Host) event));
+        sinks.put(LogEventType.INTERNAL_EXCEPTION_EVENT,
+                (fel, event, priorEvent) -> fel.getInternalExceptionEvents().add((InternalExceptionEvent) event));
+        sinks.put(LogEventType.INTERNAL_STATISTICS,
+                (fel, event, priorEvent) -> fel.getInternalStatistics().add((InternalStatistic) event));
+        sinks.put(LogEventType.LD_PRELOAD_FILE,
+                (fel, event, priorEvent) -> fel.getLdPreloadFiles().add((LdPreloadFile) event));
+        sinks.put(LogEventType.MAX_MAP_COUNT, (fel, event, priorEvent) -> fel.setMaxMapCount((MaxMapCount) event));
+        sinks.put(LogEventType.MEMINFO, (fel, event, priorEvent) -> fel.getMeminfos().add((Meminfo) event));
+        sinks.put(LogEventType.MEMORY, (fel, event, priorEvent) -> fel.getMemories().add((Memory) event));
+        sinks.put(LogEventType.NARROW_KLASS, (fel, event, priorEvent) -> fel.setNarrowKlass((NarrowKlass) event));
+        sinks.put(LogEventType.NATIVE_MEMORY_TRACKING,
+                (fel, event, priorEvent) -> fel.getNativeMemoryTrackings().add((NativeMemoryTracking) event));
+        sinks.put(LogEventType.NUMBER, EventSinkRegistry::addNumber);
+        sinks.put(LogEventType.OS_INFO, (fel, event, priorEvent) -> fel.getOsInfos().add((OsInfo) event));
+        sinks.put(LogEventType.PERIODIC_NATIVE_TRIM,
+                (fel, event, priorEvent) -> fel.setPeriodicNativeTrim((PeriodicNativeTrim) event));
+        sinks.put(LogEventType.PID_MAX, (fel, event, priorEvent) -> fel.setPidMax((PidMax) event));
+        sinks.put(LogEventType.REGISTER_TO_MEMORY_MAPPING,
+                (fel, event, priorEvent) -> fel.getRegisterToMemoryMappings().add((RegisterToMemoryMapping) event));
+        sinks.put(LogEventType.RLIMIT, (fel, event, priorEvent) -> fel.setRlimit((Rlimit) event));
+        sinks.put(LogEventType.SIGINFO, (fel, event, priorEvent) -> fel.setSigInfo((SigInfo) event));
+        sinks.put(LogEventType.STACK, (fel, event, priorEvent) -> fel.getStacks().add((Stack) event));
+        sinks.put(LogEventType.STACK_SLOT_TO_MEMORY_MAPPING,
+                (fel, event, priorEvent) -> fel.getStackSlotToMemoryMappings().add((StackSlotToMemoryMapping) event));
+        sinks.put(LogEventType.THREAD, (fel, event, priorEvent) -> fel.getThreads().add((Thread) event));
+        sinks.put(LogEventType.THREADS_MAX, (fel, event, priorEvent) -> fel.setThreadsMax((ThreadsMax) event));
+        sinks.put(LogEventType.TIME, (fel, event, priorEvent) -> fel.setTime((Time) event));
+        sinks.put(LogEventType.TIMEOUT, (fel, event, priorEvent) -> fel.getTimeouts().add((Timeout) event));
+        sinks.put(LogEventType.TIMEZONE, (fel, event, priorEvent) -> fel.setTimezone((Timezone) event));
+        sinks.put(LogEventType.TIME_ELAPSED_TIME,
+                (fel, event, priorEvent) -> fel.setTimeElapsedTime((TimeElapsedTime) event));
+        sinks.put(LogEventType.TRANSPARENT_HUGEPAGE_DEFRAG,
+                (fel, event, priorEvent) -> fel.getTransparentHugepageDefrags().add((TransparentHugepageDefrag) event));
+        sinks.put(LogEventType.TRANSPARENT_HUGEPAGE_ENABLED, (fel, event, priorEvent) -> fel
+                .getTransparentHugepageEnableds().add((TransparentHugepageEnabled) event));
+        sinks.put(LogEventType.UNAME, EventSinkRegistry::addUname);
+        sinks.put(LogEventType.UNKNOWN, EventSinkRegistry::addUnidentifiedLogLine);
+        sinks.put(LogEventType.VIRTUALIZATION_INFO,
+                (fel, event, priorEvent) -> fel.getVirtualizationInfos().add((VirtualizationInfo) event));
+        sinks.put(LogEventType.VM_ARGUMENTS, (fel, event, priorEvent) -> fel.getVmArguments().add((VmArguments) event));
+        sinks.put(LogEventType.VM_INFO, (fel, event, priorEvent) -> fel.setVmInfo((VmInfo) event));
+        sinks.put(LogEventType.VM_OPERATION, (fel, event, priorEvent) -> fel.setVmOperation((VmOperation) event));
+        sinks.put(LogEventType.VM_STATE, (fel, event, priorEvent) -> fel.setVmState((VmState) event));
+        sinks.put(LogEventType.ZGC_PHASE_SWITCH_EVENT,
+                (fel, event, priorEvent) -> fel.getZgcPhaseSwitchEvents().add((ZgcPhaseSwitchEvent) event));
+    }
+
+    /**
+     * Add the event to the fatal error log.
+     * 
+     * @param fatalErrorLog
+     *            The fatal error log being built.
+     * @param eventType
+     *            The event type.
+     * @param event
+     *            The log line event.
+     * @param priorEvent
+     *            The previous log line event (blank lines excluded).
+     */
+    public void dispatch(FatalErrorLog fatalErrorLog, LogEventType eventType, LogEvent event, LogEvent priorEvent) {
+        EventSink sink = sinks.get(eventType);
+        if (sink != null) {
+            sink.add(fatalErrorLog, event, priorEvent);
+        }
+    }
+
+    /**
+     * @param eventType
+     *            The event type.
+     * @return The <code>EventSink</code> for the event type, or null if events of the type are ignored.
+     */
+    public EventSink getSink(LogEventType eventType) {
+        return sinks.get(eventType);
+    }
+
+    /**
+     * Register (or replace) the sink for an event type.
+     * 
+     * @param eventType
+     *            The event type.
+     * @param sink
+     *            The <code>EventSink</code>, or null to ignore events of the type.
+     */
+    public void register(LogEventType eventType, EventSink sink) {
+        if (sink == null) {
+            sinks.remove(eventType);
+        } else {
+            sinks.put(eventType, sink);
+        }
+    }
+}
@@ -0,0 +1,226 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.service;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import org.github.krashpad.domain.jdk.FatalErrorLog;
+import org.github.krashpad.util.ByteLineIterator;
+
+/**
+ * <p>
+ * Incrementally parses a fatal error log that is still being written (e.g. while error reporting is hung or timing
+ * out), without reparsing the log lines already parsed.
+ * </p>
+ * 
+ * <p>
+ * Bytes are appended as they are written to the fatal error log, and only complete log lines are parsed. The prior
+ * event, section, and byte position are kept between appends, and the bytes of an incomplete last log line are held
+ * until the rest of the log line arrives (or {@link #finish()} is called). The fatal error log is processed and
+ * analyzed again after each append that completes log lines, so <code>FatalErrorLog.isTruncated()</code> and the
+ * analysis reflect the log lines parsed so far.
+ * </p>
+ * 
+ * <p>
+ * Log lines are always parsed sequentially with the settings (e.g. parse profile) of the manager.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class IncrementalParser {
+
+    /**
+     * The maximum number of bytes read from the fatal error log at a time.
+     */
+    private static final int READ_SIZE = 1024 * 1024;
+
+    /**
+     * The manager holding the fatal error log and the parse state.
+     */
+    private final Manager manager;
+
+    /**
+     * The bytes of the incomplete last log line.
+     */
+    private byte[] pending;
+
+    /**
+     * The number of bytes appended.
+     */
+    private long position;
+
+    /**
+     * Whether the log lines are parsed section aware.
+     */
+    private final boolean sectionAware;
+
+    /**
+     * Whether the last log line parsed ended with "\r", so a "\n" at the start of the next bytes ends the same log
+     * line.
+     */
+    private boolean skipLineFeed;
+
+    /**
+     * Default constructor.
+     */
+    public IncrementalParser() {
+        this(new Manager(), false);
+    }
+
+    /**
+     * @param manager
+     *            A new manager with the settings (e.g. parse profile) to parse with. It holds the fatal error log, so
+     *            it must not be used for anything else.
+     * @param sectionAware
+     *            true to track the section from the headings (see {@link Manager#parse(java.io.File, boolean)}), false
+     *            to test all event types.
+     */
+    public IncrementalParser(Manager manager, boolean sectionAware) {
+        this.manager = manager;
+        this.sectionAware = sectionAware;
+        this.pending = new byte[0];
+        this.position = 0;
+        this.skipLineFeed = false;
+    }
+
+    /**
+     * Parse bytes appended to the fatal error log.
+     * 
+     * @param bytes
+     *            The appended bytes.
+     * @return The fatal error log object.
+     */
+    public FatalErrorLog append(byte[] bytes) {
+        return append(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Parse bytes appended to the fatal error log.
+     * 
+     * @param bytes
+     *            The buffer holding the appended bytes.
+     * @param offset
+     *            The buffer index of the first appended byte.
+     * @param length
+     *            The number of appended bytes.
+     * @return The fatal error log object.
+     */
+    public FatalErrorLog append(byte[] bytes, int offset, int length) {
+        return parse(bytes, offset, length) ? manager.analyze() : manager.getFatalErrorLog();
+    }
+
+    /**
+     * @param head
+     *            The leading bytes.
+     * @param bytes
+     *            The buffer holding the trailing bytes.
+     * @param from
+     *            The buffer index of the first trailing byte.
+     * @param to
+     *            The buffer index after the last trailing byte.
+     * @return The leading bytes followed by the trailing bytes.
+     */
+    private static byte[] concat(byte[] head, byte[] bytes, int from, int to) {
+        byte[] concat = Arrays.copyOf(head, head.length + to - from);
+        System.arraycopy(bytes, from, concat, head.length, to - from);
+        return concat;
+    }
+
+    /**
+     * Parse the incomplete last log line, if any (e.g. when the fatal error log will not be written to anymore).
+     * 
+     * @return The fatal error log object.
+     */
+    public FatalErrorLog finish() {
+        if (pending.length > 0) {
+            manager.parse(new ByteLineIterator(ByteBuffer.wrap(pending)), sectionAware);
+            pending = new byte[0];
+        }
+        return manager.analyze();
+    }
+
+    /**
+     * @return The number of bytes appended (the byte offset in the fatal error log to continue reading from).
+     */
+    public long getPosition() {
+        return position;
+    }
+
+    /**
+     * Parse the complete log lines in the appended bytes, and hold the bytes of an incomplete last log line.
+     * 
+     * @param bytes
+     *            The buffer holding the appended bytes.
+     * @param offset
+     *            The buffer index of the first appended byte.
+     * @param length
+     *            The number of appended bytes.
+     * @return true if log lines were parsed, false otherwise.
+     */
+    private boolean parse(byte[] bytes, int offset, int length) {
+        position += length;
+        int start = offset;
+        int end = offset + length;
+        if (skipLineFeed && start < end) {
+            if (bytes[start] == '\n') {
+                start++;
+            }
+            skipLineFeed = false;
+        }
+        // The end of the last complete log line
+        int last = end - 1;
+        while (last >= start && bytes[last] != '\n' && bytes[last] != '\r') {
+            last--;
+        }
+        if (last < start) {
+            pending = concat(pending, bytes, start, end);
+            return false;
+        }
+        byte[] logLines = concat(pending, bytes, start, last + 1);
+        skipLineFeed = last == end - 1 && bytes[last] == '\r';
+        pending = Arrays.copyOfRange(bytes, last + 1, end);
+        manager.parse(new ByteLineIterator(ByteBuffer.wrap(logLines)), sectionAware);
+        return true;
+    }
+
+    /**
+     * Parse the bytes written to the fatal error log since the last update.
+     * 
+     * @param logFile
+     *            The fatal error log being written.
+     * @return The fatal error log object.
+     * @throws IOException
+     *             If the fatal error log cannot be read.
+     */
+    public FatalErrorLog update(Path logFile) throws IOException {
+        boolean parsed = false;
+        try (FileChannel fileChannel = FileChannel.open(logFile, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(READ_SIZE);
+            int read = fileChannel.read(buffer, position);
+            while (read > 0) {
+                parsed = parse(buffer.array(), 0, read) || parsed;
+                buffer.clear();
+                read = fileChannel.read(buffer, position);
+            }
+        }
+        return parsed ? manager.analyze() : manager.getFatalErrorLog();
+    }
+}
@@ -0,0 +1,113 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.github.krashpad.domain.BlankLine;
+import org.github.krashpad.domain.jdk.End;
+import org.github.krashpad.domain.jdk.Header;
+import org.github.krashpad.util.jdk.PatternRegistry;
+
+/**
+ * <p>
+ * Splits the log lines of several fatal error logs concatenated together (e.g. in a support bundle) into one list of
+ * log lines per fatal error log.
+ * </p>
+ * 
+ * <p>
+ * A new fatal error log starts with:
+ * </p>
+ * 
+ * <ol>
+ * <li>A header log line (e.g. "# A fatal error has been detected by the Java Runtime Environment:") after log lines
+ * past the header of the current fatal error log.</li>
+ * <li>A header start log line (e.g. "# A fatal error has been detected by the Java Runtime Environment:") after the
+ * header start log line of the current fatal error log (e.g. the current fatal error log is truncated in the
+ * header).</li>
+ * <li>Any log line other than a blank line after the "END." log line of the current fatal error log.</li>
+ * </ol>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class LogSplitter {
+
+    /**
+     * Regular expression for the header log line that starts a fatal error log.
+     * 
+     * # A fatal error has been detected by the Java Runtime Environment:
+     * 
+     * # There is insufficient memory for the Java Runtime Environment to continue.
+     */
+    private static final String START_REGEX = "^# (A fatal error has been detected by|There is "
+            + "insufficient memory for) the Java Runtime Environment.*$";
+
+    /**
+     * @param logLines
+     *            The log lines of one or more fatal error logs.
+     * @return The log lines of each fatal error log, in order. Empty if there are no log lines.
+     */
+    public static List<List<String>> split(List<String> logLines) {
+        List<List<String>> logs = new ArrayList<List<String>>();
+        List<String> log = null;
+        // Whether the current log has log lines past the header
+        boolean body = false;
+        boolean end = false;
+        // Whether the current log has the header start log line
+        boolean start = false;
+        for (String logLine : logLines) {
+            boolean blank = BlankLine.match(logLine);
+            boolean header = !blank && Header.match(logLine);
+            boolean headerStart = header && PatternRegistry.matches(logLine, START_REGEX);
+            // The "#" log line opening the header of the next log when the current log is truncated in the header
+            String opening = null;
+            if (log != null && !blank && (end || (body && header) || (start && headerStart))) {
+                if (!body && !end && log.get(log.size() - 1).equals("#")) {
+                    opening = log.remove(log.size() - 1);
+                }
+                log = null;
+            }
+            if (log == null) {
+                log = new ArrayList<String>();
+                logs.add(log);
+                if (opening != null) {
+                    log.add(opening);
+                }
+                body = false;
+                end = false;
+                start = false;
+            }
+            log.add(logLine);
+            if (headerStart) {
+                start = true;
+            }
+            if (End.match(logLine)) {
+                end = true;
+            } else if (!blank && !header) {
+                body = true;
+            }
+        }
+        return logs;
+    }
+
+    /**
+     * Make default constructor private so the class cannot be instantiated.
+     */
+    private LogSplitter() {
+
+    }
+}
@@ -19,69 +19,33 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileReader;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
 
-import org.github.krashpad.Main;
 import org.github.krashpad.domain.BlankLine;
 import org.github.krashpad.domain.LogEvent;
-import org.github.krashpad.domain.ThrowAwayEvent;
-import org.github.krashpad.domain.UnknownEvent;
-import org.github.krashpad.domain.jdk.ClassesUnloadedEvent;
-import org.github.krashpad.domain.jdk.CommandLine;
-import org.github.krashpad.domain.jdk.CompilationEvent;
-import org.github.krashpad.domain.jdk.CompressedClassSpace;
-import org.github.krashpad.domain.jdk.ContainerInfo;
-import org.github.krashpad.domain.jdk.CpuInfo;
-import org.github.krashpad.domain.jdk.CurrentCompileTask;
-import org.github.krashpad.domain.jdk.CurrentThread;
-import org.github.krashpad.domain.jdk.DeoptimizationEvent;
-import org.github.krashpad.domain.jdk.DllOperationEvent;
-import org.github.krashpad.domain.jdk.DynamicLibrary;
-import org.github.krashpad.domain.jdk.ElapsedTime;
-import org.github.krashpad.domain.jdk.End;
-import org.github.krashpad.domain.jdk.EnvironmentVariable;
-import org.github.krashpad.domain.jdk.Event;
-import org.github.krashpad.domain.jdk.ExceptionCounts;
 import org.github.krashpad.domain.jdk.FatalErrorLog;
-import org.github.krashpad.domain.jdk.GcHeapHistoryEvent;
-import org.github.krashpad.domain.jdk.GcPreciousLog;
-import org.github.krashpad.domain.jdk.GlobalFlag;
-import org.github.krashpad.domain.jdk.Header;
-import org.github.krashpad.domain.jdk.Heap;
-import org.github.krashpad.domain.jdk.HeapAddress;
-import org.github.krashpad.domain.jdk.Host;
-import org.github.krashpad.domain.jdk.InternalExceptionEvent;
-import org.github.krashpad.domain.jdk.InternalStatistic;
-import org.github.krashpad.domain.jdk.LdPreloadFile;
-import org.github.krashpad.domain.jdk.MaxMapCount;
-import org.github.krashpad.domain.jdk.Meminfo;
-import org.github.krashpad.domain.jdk.Memory;
-import org.github.krashpad.domain.jdk.NarrowKlass;
-import org.github.krashpad.domain.jdk.NativeMemoryTracking;
-import org.github.krashpad.domain.jdk.NumberEvent;
-import org.github.krashpad.domain.jdk.OsInfo;
-import org.github.krashpad.domain.jdk.PeriodicNativeTrim;
-import org.github.krashpad.domain.jdk.PidMax;
-import org.github.krashpad.domain.jdk.RegisterToMemoryMapping;
-import org.github.krashpad.domain.jdk.Rlimit;
-import org.github.krashpad.domain.jdk.SigInfo;
-import org.github.krashpad.domain.jdk.Stack;
-import org.github.krashpad.domain.jdk.StackSlotToMemoryMapping;
-import org.github.krashpad.domain.jdk.Thread;
-import org.github.krashpad.domain.jdk.ThreadsMax;
-import org.github.krashpad.domain.jdk.Time;
-import org.github.krashpad.domain.jdk.TimeElapsedTime;
-import org.github.krashpad.domain.jdk.Timeout;
-import org.github.krashpad.domain.jdk.Timezone;
-import org.github.krashpad.domain.jdk.TransparentHugepageDefrag;
-import org.github.krashpad.domain.jdk.TransparentHugepageEnabled;
-import org.github.krashpad.domain.jdk.Uname;
-import org.github.krashpad.domain.jdk.VirtualizationInfo;
-import org.github.krashpad.domain.jdk.VmArguments;
-import org.github.krashpad.domain.jdk.VmInfo;
-import org.github.krashpad.domain.jdk.VmOperation;
-import org.github.krashpad.domain.jdk.VmState;
-import org.github.krashpad.domain.jdk.ZgcPhaseSwitchEvent;
+import org.github.krashpad.domain.jdk.Heading;
+import org.github.krashpad.util.ByteLineIterator;
+import org.github.krashpad.util.Constants;
+import org.github.krashpad.util.KrashUtil;
+import org.github.krashpad.util.jdk.AnalysisProfile;
+import org.github.krashpad.util.jdk.CrashSignatureDatabase;
 import org.github.krashpad.util.jdk.JdkUtil;
+import org.github.krashpad.util.jdk.JdkUtil.LogEventType;
+import org.github.krashpad.util.jdk.JdkUtil.Section;
 
 /**
  * <p>
@@ -93,16 +57,189 @@ import org.github.krashpad.util.jdk.JdkUtil;
  */
 public class Manager {
 
+    /**
+     * The number of characters at the start of a log line used to identify the event type.
+     */
+    private int classificationWindow = Constants.DEFAULT_CLASSIFICATION_WINDOW;
+
+    /**
+     * The known bug signatures to match crashes against, or null for none.
+     */
+    private CrashSignatureDatabase crashSignatureDatabase = null;
+
+    /**
+     * Adds parsed events to the fatal error log.
+     */
+    private EventSinkRegistry eventSinkRegistry;
+
     /**
      * The fatal error log object.
      */
     private FatalErrorLog fatalErrorLog;
 
+    /**
+     * One event for each event type that is classified and dropped, created from the first log line of that type and
+     * used as the prior event for the log lines that follow.
+     */
+    private EnumMap<LogEventType, LogEvent> flyweights;
+
+    /**
+     * Whether the parser is in a requested block of a section that is sought through.
+     */
+    private boolean inBlock = false;
+
+    /**
+     * The maximum number of characters of a log line kept in the event.
+     */
+    private int maxLineLength = Constants.DEFAULT_MAX_LINE_LENGTH;
+
+    /**
+     * Whether large fatal error logs are classified in parallel.
+     */
+    private boolean parallel = false;
+
+    /**
+     * The minimum number of log lines for a fatal error log to be parsed in parallel.
+     */
+    private int parallelThreshold = Constants.DEFAULT_PARALLEL_THRESHOLD;
+
+    /**
+     * The time budget, progress listener, and cancellation, or null for none.
+     */
+    private ParseControl parseControl = null;
+
+    /**
+     * The event types to materialize.
+     */
+    private ParseProfile parseProfile = ParseProfile.FULL;
+
+    /**
+     * The last event that was not a blank line, carried across calls to parse more log lines.
+     */
+    private LogEvent priorEvent = null;
+
+    /**
+     * Whether the cost of each analysis rule is recorded.
+     */
+    private boolean profile = false;
+
+    /**
+     * The current section.
+     */
+    private Section section = Section.UNKNOWN;
+
+    /**
+     * The log line prefixes to seek to in the current section, or null if not seeking.
+     */
+    private List<String> seekPrefixes = null;
+
+    /**
+     * Whether parsing returns an immutable snapshot of the fatal error log.
+     */
+    private boolean snapshot = false;
+
     /**
      * Default constructor.
      */
     public Manager() {
+        this.eventSinkRegistry = new EventSinkRegistry();
         this.fatalErrorLog = new FatalErrorLog();
+        this.flyweights = new EnumMap<LogEventType, LogEvent>(LogEventType.class);
+    }
+
+    /**
+     * Process and analyze the log lines parsed so far. The fatal error log is frozen first, so the values derived from
+     * the events are computed once.
+     * 
+     * @return The fatal error log object, or an immutable snapshot of it if snapshots are enabled.
+     */
+    FatalErrorLog analyze() {
+        fatalErrorLog.setSkippedEventTypes(parseProfile.getSkippedEventTypes());
+        fatalErrorLog.freeze();
+        fatalErrorLog.doProcessing();
+        fatalErrorLog.setAnalysisProfile(profile ? new AnalysisProfile() : null);
+        fatalErrorLog.setCrashSignatureDatabase(crashSignatureDatabase);
+        fatalErrorLog.doAnalysis();
+        return snapshot ? fatalErrorLog.snapshot() : fatalErrorLog;
+    }
+
+    /**
+     * @return A new manager with the settings of this manager (e.g. to parse one of several fatal error logs).
+     */
+    private Manager copySettings() {
+        Manager manager = new Manager();
+        manager.classificationWindow = classificationWindow;
+        manager.crashSignatureDatabase = crashSignatureDatabase;
+        manager.eventSinkRegistry = eventSinkRegistry;
+        manager.maxLineLength = maxLineLength;
+        manager.parallel = parallel;
+        manager.parallelThreshold = parallelThreshold;
+        manager.parseControl = parseControl;
+        manager.parseProfile = parseProfile;
+        manager.profile = profile;
+        manager.snapshot = snapshot;
+        return manager;
+    }
+
+    /**
+     * Add the event to the fatal error log.
+     * 
+     * @param eventType
+     *            The event type.
+     * @param event
+     *            The log line event.
+     * @param priorEvent
+     *            The previous log line event.
+     * @return The prior event for the next log line (blank lines are thrown away).
+     */
+    private LogEvent dispatch(LogEventType eventType, LogEvent event, LogEvent priorEvent) {
+        eventSinkRegistry.dispatch(fatalErrorLog, eventType, event, priorEvent);
+        return event instanceof BlankLine ? priorEvent : event;
+    }
+
+    /**
+     * @param logLines
+     *            The log lines.
+     * @param byteCount
+     *            The number of characters read plus one line terminator per log line.
+     * @return The number of bytes processed: the position in a memory-mapped log (including log lines sought past),
+     *         otherwise the byte count.
+     */
+    private static long getByteCount(Iterator<? extends CharSequence> logLines, long byteCount) {
+        return logLines instanceof ByteLineIterator ? ((ByteLineIterator) logLines).getPosition() : byteCount;
+    }
+
+    /**
+     * @return The registry used to add parsed events to the fatal error log.
+     */
+    public EventSinkRegistry getEventSinkRegistry() {
+        return eventSinkRegistry;
+    }
+
+    /**
+     * @return The fatal error log being built.
+     */
+    FatalErrorLog getFatalErrorLog() {
+        return fatalErrorLog;
+    }
+
+    /**
+     * Block continuation is identified from the class of the prior event, not its content, so one event of a type can
+     * stand in for every log line of that type.
+     * 
+     * @param eventType
+     *            The event type.
+     * @param logLine
+     *            The log line.
+     * @return The shared event for the event type.
+     */
+    private LogEvent getFlyweight(LogEventType eventType, CharSequence logLine) {
+        LogEvent flyweight = flyweights.get(eventType);
+        if (flyweight == null) {
+            flyweight = JdkUtil.createLogEvent(eventType, logLine.toString());
+            flyweights.put(eventType, flyweight);
+        }
+        return flyweight;
     }
 
     /**
@@ -113,185 +250,464 @@ public class Manager {
      * @return The fatal error log object.
      */
     public FatalErrorLog parse(File logFile) {
-        if (logFile != null) {
+        return parse(logFile, false);
+    }
 
-            // Parse vm log file
-            BufferedReader bufferedReader = null;
-            try {
+    /**
+     * Parse the fatal error log.
+     * 
+     * @param logFile
+     *            The fatal error log to parse.
+     * @param sectionAware
+     *            true to track the section (THREAD, PROCESS, SYSTEM, etc.) from the headings and only test each log
+     *            line against the event types that can appear in the section, false to test all event types.
+     * @return The fatal error log object.
+     */
+    public FatalErrorLog parse(File logFile, boolean sectionAware) {
+        // Parse vm log file
+        BufferedReader bufferedReader = null;
+        try {
+            if (logFile != null) {
                 bufferedReader = new BufferedReader(new FileReader(logFile));
-                String logLine = bufferedReader.readLine();
-                LogEvent priorEvent = null;
-                while (logLine != null) {
-                    LogEvent event = JdkUtil.parseLogLine(logLine, priorEvent);
-                    if (event instanceof ClassesUnloadedEvent) {
-                        fatalErrorLog.getClassesUnloadedEvents().add((ClassesUnloadedEvent) event);
-                    } else if (event instanceof CommandLine) {
-                        fatalErrorLog.setCommandLine((CommandLine) event);
-                    } else if (event instanceof CompilationEvent) {
-                        fatalErrorLog.getCompilationEvents().add((CompilationEvent) event);
-                    } else if (event instanceof CompressedClassSpace) {
-                        fatalErrorLog.setCompressedClassSpaceEvent((CompressedClassSpace) event);
-                    } else if (event instanceof ContainerInfo) {
-                        fatalErrorLog.getContainerInfos().add((ContainerInfo) event);
-                    } else if (event instanceof CpuInfo) {
-                        fatalErrorLog.getCpuInfos().add((CpuInfo) event);
-                    } else if (event instanceof CurrentCompileTask) {
-                        fatalErrorLog.getCurrentCompileTasks().add((CurrentCompileTask) event);
-                    } else if (event instanceof CurrentThread) {
-                        fatalErrorLog.setCurrentThread((CurrentThread) event);
-                    } else if (event instanceof DeoptimizationEvent) {
-                        fatalErrorLog.getDeoptimizationEvents().add((DeoptimizationEvent) event);
-                    } else if (event instanceof DllOperationEvent) {
-                        fatalErrorLog.getDllOperationEvents().add((DllOperationEvent) event);
-                    } else if (event instanceof DynamicLibrary) {
-                        if (!(((DynamicLibrary) event).isHeader() || ((DynamicLibrary) event).isFooter()
-                                || ((DynamicLibrary) event).isError())) {
-                            fatalErrorLog.setDynamicLibrariesMappingCount(
-                                    fatalErrorLog.getDynamicLibrariesMappingCount() + 1);
-                        }
-                        // Only keep "interesting" mappings
-                        if (((DynamicLibrary) event).isInteresting()) {
-                            fatalErrorLog.getDynamicLibraries().add((DynamicLibrary) event);
-                        }
-                    } else if (event instanceof EnvironmentVariable) {
-                        fatalErrorLog.getEnvironmentVariables().add((EnvironmentVariable) event);
-                    } else if (event instanceof ElapsedTime) {
-                        fatalErrorLog.setElapsedTime((ElapsedTime) event);
-                    } else if (event instanceof End) {
-                        fatalErrorLog.setEnd((End) event);
-                    } else if (event instanceof Event) {
-                        fatalErrorLog.getEvents().add((Event) event);
-                    } else if (event instanceof ExceptionCounts) {
-                        fatalErrorLog.getExceptionCounts().add((ExceptionCounts) event);
-                    } else if (event instanceof GcHeapHistoryEvent) {
-                        fatalErrorLog.getGcHeapHistoryEvents().add((GcHeapHistoryEvent) event);
-                    } else if (event instanceof GcPreciousLog) {
-                        fatalErrorLog.getGcPreciousLogs().add((GcPreciousLog) event);
-                    } else if (event instanceof GlobalFlag) {
-                        fatalErrorLog.getGlobalFlags().add((GlobalFlag) event);
-                    } else if (event instanceof Header) {
-                        fatalErrorLog.getHeaders().add((Header) event);
-                    } else if (event instanceof HeapAddress) {
-                        fatalErrorLog.setHeapAddress((HeapAddress) event);
-                    } else if (event instanceof Heap) {
-                        fatalErrorLog.getHeaps().add((Heap) event);
-                    } else if (event instanceof LdPreloadFile) {
-                        fatalErrorLog.getLdPreloadFiles().add((LdPreloadFile) event);
-                    } else if (event instanceof Host) {
-                        fatalErrorLog.setHost((Host) event);
-                    } else if (event instanceof MaxMapCount) {
-                        fatalErrorLog.setMaxMapCount((MaxMapCount) event);
-                    } else if (event instanceof Meminfo) {
-                        fatalErrorLog.getMeminfos().add((Meminfo) event);
-                    } else if (event instanceof Memory) {
-                        fatalErrorLog.getMemories().add((Memory) event);
-                    } else if (event instanceof NativeMemoryTracking) {
-                        fatalErrorLog.getNativeMemoryTrackings().add((NativeMemoryTracking) event);
-                    } else if (event instanceof NarrowKlass) {
-                        fatalErrorLog.setNarrowKlass((NarrowKlass) event);
-                    } else if (event instanceof NumberEvent) {
-                        // Add number to prior event
-                        String combinedLogLine = priorEvent.getLogEntry() + " " + event.getLogEntry();
-                        if (priorEvent instanceof CpuInfo) {
-                            fatalErrorLog.getCpuInfos().remove(priorEvent);
-                            CpuInfo combinedCpuInfoEvent = new CpuInfo(combinedLogLine);
-                            fatalErrorLog.getCpuInfos().add(combinedCpuInfoEvent);
-                        } else if (priorEvent instanceof MaxMapCount) {
-                            fatalErrorLog.setMaxMapCount(new MaxMapCount(combinedLogLine));
-                        } else if (priorEvent instanceof PidMax) {
-                            fatalErrorLog.setPidMax(new PidMax(combinedLogLine));
-                        } else if (priorEvent instanceof ThreadsMax) {
-                            fatalErrorLog.setThreadsMax(new ThreadsMax(combinedLogLine));
-                        } else if (fatalErrorLog.getUnidentifiedLogLines().size() < Main.REJECT_LIMIT) {
-                            // catch for future handling
-                            fatalErrorLog.getUnidentifiedLogLines().add(logLine);
-                        }
-                    } else if (event instanceof OsInfo) {
-                        fatalErrorLog.getOsInfos().add((OsInfo) event);
-                    } else if (event instanceof PeriodicNativeTrim) {
-                        fatalErrorLog.setPeriodicNativeTrim((PeriodicNativeTrim) event);
-                    } else if (event instanceof PidMax) {
-                        fatalErrorLog.setPidMax((PidMax) event);
-                    } else if (event instanceof RegisterToMemoryMapping) {
-                        fatalErrorLog.getRegisterToMemoryMappings().add((RegisterToMemoryMapping) event);
-                    } else if (event instanceof Rlimit) {
-                        fatalErrorLog.setRlimit((Rlimit) event);
-                    } else if (event instanceof SigInfo) {
-                        fatalErrorLog.setSigInfo((SigInfo) event);
-                    } else if (event instanceof Stack) {
-                        fatalErrorLog.getStacks().add((Stack) event);
-                    } else if (event instanceof StackSlotToMemoryMapping) {
-                        fatalErrorLog.getStackSlotToMemoryMappings().add((StackSlotToMemoryMapping) event);
-                    } else if (event instanceof InternalExceptionEvent) {
-                        fatalErrorLog.getInternalExceptionEvents().add((InternalExceptionEvent) event);
-                    } else if (event instanceof InternalStatistic) {
-                        fatalErrorLog.getInternalStatistics().add((InternalStatistic) event);
-                    } else if (event instanceof Thread) {
-                        fatalErrorLog.getThreads().add((Thread) event);
-                    } else if (event instanceof ThreadsMax) {
-                        fatalErrorLog.setThreadsMax((ThreadsMax) event);
-                    } else if (event instanceof ThrowAwayEvent) {
-                        // ThrowAwayEvents are ignored
-                    } else if (event instanceof Time) {
-                        fatalErrorLog.setTime((Time) event);
-                    } else if (event instanceof TimeElapsedTime) {
-                        fatalErrorLog.setTimeElapsedTime((TimeElapsedTime) event);
-                    } else if (event instanceof Timeout) {
-                        fatalErrorLog.getTimeouts().add((Timeout) event);
-                    } else if (event instanceof Timezone) {
-                        fatalErrorLog.setTimezone((Timezone) event);
-                    } else if (event instanceof TransparentHugepageDefrag) {
-                        fatalErrorLog.getTransparentHugepageDefrags().add((TransparentHugepageDefrag) event);
-                    } else if (event instanceof TransparentHugepageEnabled) {
-                        fatalErrorLog.getTransparentHugepageEnableds().add((TransparentHugepageEnabled) event);
-                    } else if (event instanceof Uname) {
-                        // some uname information is split across 2 lines
-                        if (fatalErrorLog.getUname() == null) {
-                            fatalErrorLog.setUname((Uname) event);
-                        } else {
-                            Uname unameEvent = new Uname(
-                                    fatalErrorLog.getUname().getLogEntry() + ((Uname) event).getLogEntry());
-                            fatalErrorLog.setUname(unameEvent);
-                        }
-                    } else if (event instanceof UnknownEvent
-                            && fatalErrorLog.getUnidentifiedLogLines().size() < Main.REJECT_LIMIT) {
-                        fatalErrorLog.getUnidentifiedLogLines().add(logLine);
-                    } else if (event instanceof VirtualizationInfo) {
-                        fatalErrorLog.getVirtualizationInfos().add((VirtualizationInfo) event);
-                    } else if (event instanceof VmArguments) {
-                        fatalErrorLog.getVmArguments().add((VmArguments) event);
-                    } else if (event instanceof VmInfo) {
-                        fatalErrorLog.setVmInfo((VmInfo) event);
-                    } else if (event instanceof VmOperation) {
-                        fatalErrorLog.setVmOperation((VmOperation) event);
-                    } else if (event instanceof VmState) {
-                        fatalErrorLog.setVmState((VmState) event);
-                    } else if (event instanceof ZgcPhaseSwitchEvent) {
-                        fatalErrorLog.getZgcPhaseSwitchEvents().add((ZgcPhaseSwitchEvent) event);
-                    }
-                    if (!(event instanceof BlankLine)) {
-                        // throw away blank lines
-                        priorEvent = event;
-                    }
-                    logLine = bufferedReader.readLine();
+            }
+        } catch (FileNotFoundException e) {
+            e.printStackTrace();
+        }
+        try {
+            return parse(bufferedReader, sectionAware);
+        } finally {
+            // Close streams
+            if (bufferedReader != null) {
+                try {
+                    bufferedReader.close();
+                } catch (IOException e) {
+                    e.printStackTrace();
                 }
-            } catch (FileNotFoundException e) {
-                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Parse the fatal error log from a stream. Gzip and zip input is decompressed transparently. The stream is not
+     * closed.
+     * 
+     * @param inputStream
+     *            The fatal error log to parse.
+     * @return The fatal error log object.
+     */
+    public FatalErrorLog parse(InputStream inputStream) {
+        return parse(inputStream, false);
+    }
+
+    /**
+     * Parse the fatal error log from a stream. Gzip and zip input (identified by the magic bytes at the start of the
+     * stream) is decompressed transparently, and the log lines are decoded with the platform charset. The stream is
+     * not closed.
+     * 
+     * @param inputStream
+     *            The fatal error log to parse.
+     * @param sectionAware
+     *            true to track the section from the headings (see {@link #parse(File, boolean)}), false to test all
+     *            event types.
+     * @return The fatal error log object.
+     */
+    public FatalErrorLog parse(InputStream inputStream, boolean sectionAware) {
+        Reader reader = null;
+        if (inputStream != null) {
+            try {
+                reader = new InputStreamReader(KrashUtil.decompress(inputStream));
             } catch (IOException e) {
                 e.printStackTrace();
-            } finally {
-                // Close streams
-                if (bufferedReader != null) {
-                    try {
-                        bufferedReader.close();
-                    } catch (IOException e) {
-                        e.printStackTrace();
-                    }
+            }
+        }
+        return parse(reader, sectionAware);
+    }
+
+    /**
+     * Parse the fatal error log from a memory-mapped file.
+     * 
+     * @param logFile
+     *            The fatal error log to parse.
+     * @return The fatal error log object.
+     */
+    public FatalErrorLog parse(Path logFile) {
+        return parse(logFile, false);
+    }
+
+    /**
+     * Parse the fatal error log from a memory-mapped file. ASCII log lines are identified directly from the mapped
+     * bytes without charset decoding, and a <code>String</code> is only created for the event.
+     * 
+     * @param logFile
+     *            The fatal error log to parse.
+     * @param sectionAware
+     *            true to track the section from the headings (see {@link #parse(File, boolean)}), false to test all
+     *            event types.
+     * @return The fatal error log object.
+     */
+    public FatalErrorLog parse(Path logFile, boolean sectionAware) {
+        if (logFile == null) {
+            return parse((Reader) null, sectionAware);
+        }
+        FileChannel fileChannel = null;
+        try {
+            fileChannel = FileChannel.open(logFile, StandardOpenOption.READ);
+            if (fileChannel.size() > Integer.MAX_VALUE) {
+                // Too large to map into a single buffer
+                return parse(logFile.toFile(), sectionAware);
+            }
+            MappedByteBuffer buffer = fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, fileChannel.size());
+            if (parallel) {
+                parse(readLines(new ByteLineIterator(buffer)), sectionAware);
+            } else {
+                parse(new ByteLineIterator(buffer), sectionAware);
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        } finally {
+            // Close channel
+            if (fileChannel != null) {
+                try {
+                    fileChannel.close();
+                } catch (IOException e) {
+                    e.printStackTrace();
                 }
             }
         }
-        fatalErrorLog.doProcessing();
-        fatalErrorLog.doAnalysis();
-        return fatalErrorLog;
+        return analyze();
+    }
+
+    /**
+     * Parse the fatal error log from a reader. The reader is not closed.
+     * 
+     * @param reader
+     *            The fatal error log to parse.
+     * @return The fatal error log object.
+     */
+    public FatalErrorLog parse(Reader reader) {
+        return parse(reader, false);
+    }
+
+    /**
+     * Parse the fatal error log from a reader. The log lines are read as they are parsed, so the whole log is never
+     * held in memory (unless it is parsed in parallel). The reader is not closed.
+     * 
+     * @param reader
+     *            The fatal error log to parse.
+     * @param sectionAware
+     *            true to track the section from the headings (see {@link #parse(File, boolean)}), false to test all
+     *            event types.
+     * @return The fatal error log object.
+     */
+    public FatalErrorLog parse(Reader reader, boolean sectionAware) {
+        if (reader != null) {
+            BufferedReader bufferedReader = reader instanceof BufferedReader ? (BufferedReader) reader
+                    : new BufferedReader(reader);
+            try {
+                if (parallel) {
+                    parse(readLines(bufferedReader.lines().iterator()), sectionAware);
+                } else {
+                    parse(bufferedReader.lines().iterator(), sectionAware);
+                }
+            } catch (UncheckedIOException e) {
+                e.printStackTrace();
+            }
+        }
+        return analyze();
+    }
+
+    /**
+     * Parse the log lines sequentially. Log lines of an event type with no sink, or not in the parse profile, are
+     * classified and dropped without creating an event or keeping the log line. In a section sought through by the
+     * parse profile, log lines are consumed without classification up to the next requested block or section heading.
+     * The prior event and section are kept, so a later call continues where this one stopped. Parsing stops early if
+     * the parse control's time budget is exceeded or the parse is cancelled.
+     * 
+     * @param logLines
+     *            The log lines.
+     * @param sectionAware
+     *            true to track the section from the headings, false to test all event types.
+     */
+    void parse(Iterator<? extends CharSequence> logLines, boolean sectionAware) {
+        fatalErrorLog.unfreeze();
+        boolean trackSections = sectionAware || !parseProfile.isFull();
+        long deadline = parseControl == null ? Long.MAX_VALUE : parseControl.getDeadline(System.nanoTime());
+        ProgressListener progressListener = parseControl == null ? null : parseControl.getProgressListener();
+        long lineCount = 0;
+        long byteCount = 0;
+        while (logLines.hasNext()) {
+            if (parseControl != null && parseControl.isStopped(deadline)) {
+                fatalErrorLog.setIncomplete(true);
+                break;
+            }
+            CharSequence logLine = logLines.next();
+            lineCount++;
+            byteCount += logLine.length() + 1;
+            if (progressListener != null && lineCount % ParseControl.PROGRESS_INTERVAL == 0) {
+                progressListener.progress(getByteCount(logLines, byteCount), lineCount, section);
+            }
+            if (seekPrefixes != null && !inBlock && !startsWith(logLine, seekPrefixes)) {
+                continue;
+            }
+            // Bound the cost of identifying a long log line
+            CharSequence window = KrashUtil.truncate(logLine, classificationWindow);
+            LogEventType eventType = JdkUtil.identifyEventType(window, priorEvent,
+                    sectionAware ? section : Section.UNKNOWN);
+            if (trackSections && eventType == LogEventType.HEADING && Heading.getSection(window) != null) {
+                section = Heading.getSection(window);
+                seekPrefixes = parseProfile.getSeekPrefixes(section);
+                inBlock = false;
+            } else if (seekPrefixes != null) {
+                // A requested block runs from its header to the next log line of an event type not requested
+                if (eventType != LogEventType.BLANK_LINE) {
+                    inBlock = parseProfile.includes(eventType);
+                }
+            }
+            if (parseProfile.includes(eventType) && eventSinkRegistry.getSink(eventType) != null) {
+                LogEvent event = JdkUtil.createLogEvent(eventType,
+                        KrashUtil.truncate(logLine, maxLineLength).toString());
+                priorEvent = dispatch(eventType, event, priorEvent);
+            } else if (eventType != LogEventType.BLANK_LINE) {
+                // Classified and dropped
+                priorEvent = getFlyweight(eventType, window);
+            }
+            if (seekPrefixes != null && !inBlock && logLines instanceof ByteLineIterator) {
+                ((ByteLineIterator) logLines).seek(seekPrefixes);
+            }
+        }
+        if (progressListener != null) {
+            progressListener.progress(getByteCount(logLines, byteCount), lineCount, section);
+        }
+    }
+
+    /**
+     * Parse the log lines, in parallel if there are enough of them.
+     * 
+     * @param logLines
+     *            The log lines.
+     * @param sectionAware
+     *            true to track the section from the headings, false to test all event types.
+     */
+    private void parse(List<String> logLines, boolean sectionAware) {
+        fatalErrorLog.unfreeze();
+        // Skipping sections and stopping early are sequential
+        if (logLines.size() >= parallelThreshold && parseProfile.isFull() && parseControl == null) {
+            ParallelParser parallelParser = new ParallelParser(logLines, sectionAware, classificationWindow,
+                    maxLineLength);
+            parallelParser.parse(ForkJoinPool.commonPool());
+            for (int i = 0; i < parallelParser.size(); i++) {
+                priorEvent = dispatch(parallelParser.getEventType(i), parallelParser.getEvent(i), priorEvent);
+            }
+        } else {
+            parse(logLines.iterator(), sectionAware);
+        }
+    }
+
+    /**
+     * Parse a file holding one or more fatal error logs (e.g. several fatal error logs concatenated together in a
+     * support bundle).
+     * 
+     * @param logFile
+     *            The fatal error logs to parse.
+     * @return The fatal error log objects, in the order they appear in the file.
+     */
+    public List<FatalErrorLog> parseAll(File logFile) {
+        return parseAll(logFile, false);
+    }
+
+    /**
+     * Parse a file holding one or more fatal error logs.
+     * 
+     * @param logFile
+     *            The fatal error logs to parse.
+     * @param sectionAware
+     *            true to track the section from the headings (see {@link #parse(File, boolean)}), false to test all
+     *            event types.
+     * @return The fatal error log objects, in the order they appear in the file.
+     */
+    public List<FatalErrorLog> parseAll(File logFile, boolean sectionAware) {
+        BufferedReader bufferedReader = null;
+        try {
+            if (logFile != null) {
+                bufferedReader = new BufferedReader(new FileReader(logFile));
+            }
+        } catch (FileNotFoundException e) {
+            e.printStackTrace();
+        }
+        try {
+            return parseAll(bufferedReader, sectionAware);
+        } finally {
+            // Close streams
+            if (bufferedReader != null) {
+                try {
+                    bufferedReader.close();
+                } catch (IOException e) {
+                    e.printStackTrace();
+                }
+            }
+        }
+    }
+
+    /**
+     * Parse one or more fatal error logs from a reader. The reader is not closed.
+     * 
+     * @param reader
+     *            The fatal error logs to parse.
+     * @return The fatal error log objects, in the order they appear in the reader.
+     */
+    public List<FatalErrorLog> parseAll(Reader reader) {
+        return parseAll(reader, false);
+    }
+
+    /**
+     * Parse one or more fatal error logs from a reader. The log lines are split into one fatal error log at each log
+     * boundary (see {@link LogSplitter}), and the fatal error logs are parsed concurrently, each with the settings of
+     * this manager. The reader is not closed.
+     * 
+     * @param reader
+     *            The fatal error logs to parse.
+     * @param sectionAware
+     *            true to track the section from the headings (see {@link #parse(File, boolean)}), false to test all
+     *            event types.
+     * @return The fatal error log objects, in the order they appear in the reader.
+     */
+    public List<FatalErrorLog> parseAll(Reader reader, boolean sectionAware) {
+        List<String> logLines = new ArrayList<String>();
+        if (reader != null) {
+            BufferedReader bufferedReader = reader instanceof BufferedReader ? (BufferedReader) reader
+                    : new BufferedReader(reader);
+            try {
+                logLines = readLines(bufferedReader.lines().iterator());
+            } catch (UncheckedIOException e) {
+                e.printStackTrace();
+            }
+        }
+        return LogSplitter.split(logLines).parallelStream().map(log -> copySettings().parseLog(log, sectionAware))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Parse the log lines of one fatal error log.
+     * 
+     * @param logLines
+     *            The log lines.
+     * @param sectionAware
+     *            true to track the section from the headings, false to test all event types.
+     * @return The fatal error log object.
+     */
+    private FatalErrorLog parseLog(List<String> logLines, boolean sectionAware) {
+        parse(logLines, sectionAware);
+        return analyze();
+    }
+
+    /**
+     * @param logLines
+     *            The log lines.
+     * @return The log lines in a list.
+     */
+    private static List<String> readLines(Iterator<? extends CharSequence> logLines) {
+        List<String> list = new ArrayList<String>();
+        while (logLines.hasNext()) {
+            list.add(logLines.next().toString());
+        }
+        return list;
+    }
+
+    /**
+     * @param classificationWindow
+     *            The number of characters at the start of a log line used to identify the event type. The cost of
+     *            identifying a log line is bounded by the window, not the length of the log line.
+     */
+    public void setClassificationWindow(int classificationWindow) {
+        this.classificationWindow = classificationWindow;
+    }
+
+    /**
+     * @param crashSignatureDatabase
+     *            The known bug signatures to match crashes against, or null for none.
+     */
+    public void setCrashSignatureDatabase(CrashSignatureDatabase crashSignatureDatabase) {
+        this.crashSignatureDatabase = crashSignatureDatabase;
+    }
+
+    /**
+     * @param maxLineLength
+     *            The maximum number of characters of a log line kept in the event. Longer log lines are truncated.
+     */
+    public void setMaxLineLength(int maxLineLength) {
+        this.maxLineLength = maxLineLength;
+    }
+
+    /**
+     * @param parallel
+     *            true to classify large fatal error logs in parallel, false to always parse sequentially. The result
+     *            is the same either way.
+     */
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    /**
+     * @param parallelThreshold
+     *            The minimum number of log lines for a fatal error log to be parsed in parallel.
+     */
+    public void setParallelThreshold(int parallelThreshold) {
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    /**
+     * @param parseControl
+     *            The time budget, progress listener, and cancellation for each parse, or null for none. Fatal error
+     *            logs are always parsed sequentially with a parse control.
+     */
+    public void setParseControl(ParseControl parseControl) {
+        this.parseControl = parseControl;
+    }
+
+    /**
+     * @param parseProfile
+     *            The event types to materialize. Fatal error logs are always parsed sequentially with a profile other
+     *            than <code>ParseProfile.FULL</code>.
+     */
+    public void setParseProfile(ParseProfile parseProfile) {
+        this.parseProfile = parseProfile;
+    }
+
+    /**
+     * @param profile
+     *            true to record the cost of each analysis rule (see <code>FatalErrorLog.getAnalysisProfile()</code>),
+     *            false otherwise.
+     */
+    public void setProfile(boolean profile) {
+        this.profile = profile;
+    }
+
+    /**
+     * @param snapshot
+     *            true to return an immutable snapshot of the fatal error log that can be shared across threads without
+     *            locks (see <code>FatalErrorLog.snapshot()</code>), false to return the fatal error log.
+     */
+    public void setSnapshot(boolean snapshot) {
+        this.snapshot = snapshot;
+    }
+
+    /**
+     * @param logLine
+     *            The log line.
+     * @param prefixes
+     *            The prefixes.
+     * @return true if the log line starts with one of the prefixes, false otherwise.
+     */
+    private static boolean startsWith(CharSequence logLine, List<String> prefixes) {
+        for (String prefix : prefixes) {
+            boolean startsWith = logLine.length() >= prefix.length();
+            for (int i = 0; startsWith && i < prefix.length(); i++) {
+                startsWith = logLine.charAt(i) == prefix.charAt(i);
+            }
+            if (startsWith) {
+                return true;
+            }
+        }
+        return false;
     }
 }
\ No newline at end of file
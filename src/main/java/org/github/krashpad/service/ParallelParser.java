@@ -0,0 +1,344 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.github.krashpad.domain.BlankLine;
+import org.github.krashpad.domain.LogEvent;
+import org.github.krashpad.domain.jdk.Heading;
+import org.github.krashpad.util.Constants;
+import org.github.krashpad.util.KrashUtil;
+import org.github.krashpad.util.jdk.JdkUtil;
+import org.github.krashpad.util.jdk.JdkUtil.LogEventType;
+import org.github.krashpad.util.jdk.JdkUtil.Section;
+
+/**
+ * <p>
+ * Classifies the log lines of a large fatal error log in parallel.
+ * </p>
+ * 
+ * <p>
+ * A pre-scan splits the log lines into chunks, preferring to start a chunk at a heading or after a blank line (the
+ * start of a section or block). Each chunk is classified on a <code>ForkJoinPool</code> as if it started with no prior
+ * event, in the section given by the last heading before it.
+ * </p>
+ * 
+ * <p>
+ * The chunks are then stitched together in line order. The start of each chunk is reclassified with the actual prior
+ * event and section from the previous chunk until the result agrees with the chunk (same event type and section on a
+ * log line that is not blank). Identification only depends on the class of the prior event, so from that point on the
+ * chunk is identical to a sequential parse. In the worst case (e.g. a chunk that starts in the middle of a block that
+ * needs its header as the prior event) the whole chunk is reclassified, so the result is always identical to the
+ * sequential parse.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class ParallelParser {
+
+    /**
+     * Classifies a chunk.
+     */
+    private class ChunkTask extends RecursiveAction {
+
+        /**
+         * Serialization version.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The index of the first log line in the chunk.
+         */
+        private final int from;
+
+        /**
+         * The section at the start of the chunk.
+         */
+        private final Section section;
+
+        /**
+         * The index after the last log line in the chunk.
+         */
+        private final int to;
+
+        private ChunkTask(int from, int to, Section section) {
+            this.from = from;
+            this.to = to;
+            this.section = section;
+        }
+
+        @Override
+        protected void compute() {
+            classify(from, to, null, section);
+        }
+    }
+
+    /**
+     * The minimum number of log lines in a chunk.
+     */
+    public static final int MIN_CHUNK_SIZE = 1000;
+
+    /**
+     * @param logLine
+     *            The log line.
+     * @return true if the log line is empty or only whitespace, false otherwise.
+     */
+    private static final boolean isBlank(String logLine) {
+        for (int i = 0; i < logLine.length(); i++) {
+            if (!Character.isWhitespace(logLine.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The number of characters at the start of a log line used to identify the event type.
+     */
+    private final int classificationWindow;
+
+    /**
+     * The event for each log line.
+     */
+    private final LogEvent[] events;
+
+    /**
+     * The event type for each log line.
+     */
+    private final LogEventType[] eventTypes;
+
+    /**
+     * The log lines.
+     */
+    private final List<String> logLines;
+
+    /**
+     * The maximum number of characters of a log line kept in the event.
+     */
+    private final int maxLineLength;
+
+    /**
+     * Whether the section is tracked from the headings.
+     */
+    private final boolean sectionAware;
+
+    /**
+     * The section after each log line.
+     */
+    private final Section[] sections;
+
+    /**
+     * @param logLines
+     *            The log lines.
+     * @param sectionAware
+     *            true to track the section from the headings (see <code>Manager.parse(File, boolean)</code>), false
+     *            otherwise.
+     */
+    public ParallelParser(List<String> logLines, boolean sectionAware) {
+        this(logLines, sectionAware, Constants.DEFAULT_CLASSIFICATION_WINDOW, Constants.DEFAULT_MAX_LINE_LENGTH);
+    }
+
+    /**
+     * @param logLines
+     *            The log lines.
+     * @param sectionAware
+     *            true to track the section from the headings (see <code>Manager.parse(File, boolean)</code>), false
+     *            otherwise.
+     * @param classificationWindow
+     *            The number of characters at the start of a log line used to identify the event type.
+     * @param maxLineLength
+     *            The maximum number of characters of a log line kept in the event.
+     */
+    public ParallelParser(List<String> logLines, boolean sectionAware, int classificationWindow, int maxLineLength) {
+        this.logLines = logLines;
+        this.sectionAware = sectionAware;
+        this.classificationWindow = classificationWindow;
+        this.maxLineLength = maxLineLength;
+        events = new LogEvent[logLines.size()];
+        eventTypes = new LogEventType[logLines.size()];
+        sections = new Section[logLines.size()];
+    }
+
+    /**
+     * Classify the log lines in a range.
+     * 
+     * @param from
+     *            The index of the first log line.
+     * @param to
+     *            The index after the last log line.
+     * @param priorEvent
+     *            The previous log line event.
+     * @param section
+     *            The section at the first log line.
+     */
+    private void classify(int from, int to, LogEvent priorEvent, Section section) {
+        for (int i = from; i < to; i++) {
+            section = classify(i, priorEvent, section);
+            if (!(events[i] instanceof BlankLine)) {
+                priorEvent = events[i];
+            }
+        }
+    }
+
+    /**
+     * Classify a log line.
+     * 
+     * @param i
+     *            The index of the log line.
+     * @param priorEvent
+     *            The previous log line event.
+     * @param section
+     *            The section at the log line.
+     * @return The section after the log line.
+     */
+    private Section classify(int i, LogEvent priorEvent, Section section) {
+        String logLine = logLines.get(i);
+        eventTypes[i] = JdkUtil.identifyEventType(KrashUtil.truncate(logLine, classificationWindow), priorEvent,
+                section);
+        events[i] = JdkUtil.createLogEvent(eventTypes[i], KrashUtil.truncate(logLine, maxLineLength).toString());
+        if (sectionAware && events[i] instanceof Heading && ((Heading) events[i]).getSection() != null) {
+            section = ((Heading) events[i]).getSection();
+        }
+        sections[i] = section;
+        return section;
+    }
+
+    /**
+     * Pre-scan for the chunk boundaries.
+     * 
+     * @param chunkSize
+     *            The target number of log lines in a chunk.
+     * @return The index of the first log line in each chunk.
+     */
+    private List<Integer> getChunkStarts(int chunkSize) {
+        List<Integer> chunkStarts = new ArrayList<Integer>();
+        chunkStarts.add(0);
+        int chunkStart = 0;
+        for (int i = 1; i < logLines.size(); i++) {
+            int size = i - chunkStart;
+            if (size >= chunkSize) {
+                String logLine = logLines.get(i);
+                boolean sectionOrBlockStart = Heading.match(logLine)
+                        || (isBlank(logLines.get(i - 1)) && !isBlank(logLine));
+                if (sectionOrBlockStart || size >= 2 * chunkSize) {
+                    chunkStarts.add(i);
+                    chunkStart = i;
+                }
+            }
+        }
+        return chunkStarts;
+    }
+
+    /**
+     * @param i
+     *            The index of the log line.
+     * @return The event for the log line.
+     */
+    public LogEvent getEvent(int i) {
+        return events[i];
+    }
+
+    /**
+     * @param i
+     *            The index of the log line.
+     * @return The event type for the log line.
+     */
+    public LogEventType getEventType(int i) {
+        return eventTypes[i];
+    }
+
+    /**
+     * Classify the log lines.
+     * 
+     * @param pool
+     *            The pool to classify the chunks on.
+     */
+    public void parse(ForkJoinPool pool) {
+        parse(pool, Math.max(MIN_CHUNK_SIZE, logLines.size() / (pool.getParallelism() * 4)));
+    }
+
+    /**
+     * Classify the log lines.
+     * 
+     * @param pool
+     *            The pool to classify the chunks on.
+     * @param chunkSize
+     *            The target number of log lines in a chunk.
+     */
+    public void parse(ForkJoinPool pool, int chunkSize) {
+        List<Integer> chunkStarts = getChunkStarts(chunkSize);
+        chunkStarts.add(logLines.size());
+        // The section at the start of each chunk, assuming every section heading is identified as a heading
+        List<ChunkTask> tasks = new ArrayList<ChunkTask>();
+        Section section = Section.UNKNOWN;
+        for (int i = 0; i < chunkStarts.size() - 1; i++) {
+            int from = chunkStarts.get(i);
+            int to = chunkStarts.get(i + 1);
+            tasks.add(new ChunkTask(from, to, section));
+            if (sectionAware) {
+                for (int j = from; j < to; j++) {
+                    String logLine = logLines.get(j);
+                    if (logLine.startsWith("-") && Heading.match(logLine) && Heading.getSection(logLine) != null) {
+                        section = Heading.getSection(logLine);
+                    }
+                }
+            }
+        }
+        for (ChunkTask task : tasks) {
+            pool.execute(task);
+        }
+        for (ChunkTask task : tasks) {
+            task.join();
+        }
+        // Stitch the chunks together in line order
+        LogEvent priorEvent = null;
+        section = Section.UNKNOWN;
+        for (ChunkTask task : tasks) {
+            int i = task.from;
+            boolean converged = false;
+            while (i < task.to && !converged) {
+                LogEventType chunkEventType = eventTypes[i];
+                Section chunkSection = sections[i];
+                section = classify(i, priorEvent, section);
+                if (!(events[i] instanceof BlankLine)) {
+                    priorEvent = events[i];
+                    converged = eventTypes[i] == chunkEventType && section == chunkSection;
+                }
+                i++;
+            }
+            if (converged) {
+                for (int j = task.to - 1; j >= i; j--) {
+                    if (!(events[j] instanceof BlankLine)) {
+                        priorEvent = events[j];
+                        break;
+                    }
+                }
+                section = sections[task.to - 1];
+            }
+        }
+    }
+
+    /**
+     * @return The number of log lines.
+     */
+    public int size() {
+        return logLines.size();
+    }
+}
@@ -0,0 +1,105 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.service;
+
+/**
+ * <p>
+ * Limits and observes a parse: a time budget, a progress listener, and cancellation.
+ * </p>
+ * 
+ * <p>
+ * When the time budget is exceeded or the parse is cancelled, parsing stops before the next log line, and the log lines
+ * parsed so far are processed and analyzed as usual. The <code>FatalErrorLog</code> is marked incomplete (see
+ * {@link org.github.krashpad.domain.jdk.FatalErrorLog#isIncomplete()}).
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class ParseControl {
+
+    /**
+     * The number of log lines between progress notifications.
+     */
+    public static final int PROGRESS_INTERVAL = 1000;
+
+    /**
+     * Whether the parse has been cancelled. Set from another thread.
+     */
+    private volatile boolean cancelled = false;
+
+    /**
+     * Receives parse progress, or null for none.
+     */
+    private ProgressListener progressListener;
+
+    /**
+     * The time budget for each parse in milliseconds, or 0 for no limit.
+     */
+    private long timeBudget = 0;
+
+    /**
+     * Cancel the parse. Can be called from any thread.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    /**
+     * @param start
+     *            The <code>System.nanoTime()</code> when the parse started.
+     * @return The <code>System.nanoTime()</code> after which the parse stops, or <code>Long.MAX_VALUE</code> if there
+     *         is no time budget.
+     */
+    public long getDeadline(long start) {
+        return timeBudget > 0 ? start + timeBudget * 1000000 : Long.MAX_VALUE;
+    }
+
+    public ProgressListener getProgressListener() {
+        return progressListener;
+    }
+
+    public long getTimeBudget() {
+        return timeBudget;
+    }
+
+    /**
+     * @return true if the parse has been cancelled, false otherwise.
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * @param deadline
+     *            The deadline from {@link #getDeadline(long)}.
+     * @return true if the parse has been cancelled or the deadline has passed, false otherwise.
+     */
+    public boolean isStopped(long deadline) {
+        return cancelled || (deadline != Long.MAX_VALUE && System.nanoTime() - deadline > 0);
+    }
+
+    public void setProgressListener(ProgressListener progressListener) {
+        this.progressListener = progressListener;
+    }
+
+    /**
+     * @param timeBudget
+     *            The time budget for each parse in milliseconds, or 0 for no limit.
+     */
+    public void setTimeBudget(long timeBudget) {
+        this.timeBudget = timeBudget;
+    }
+}
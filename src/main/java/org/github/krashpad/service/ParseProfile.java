@@ -0,0 +1,193 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import org.github.krashpad.util.jdk.JdkUtil.LogEventType;
+import org.github.krashpad.util.jdk.JdkUtil.Section;
+import org.github.krashpad.util.jdk.LogEventTypeIndex;
+
+/**
+ * <p>
+ * The event types to materialize when parsing a fatal error log.
+ * </p>
+ * 
+ * <p>
+ * Log lines of other event types are classified and dropped. A section (e.g. PROCESS) with none of the profile's event
+ * types is consumed up to the next heading without classifying the log lines. The event types that were not parsed
+ * are recorded in the <code>FatalErrorLog</code> (see
+ * {@link org.github.krashpad.domain.jdk.FatalErrorLog#isSkipped(LogEventType)}).
+ * </p>
+ * 
+ * <p>
+ * If the profile's event types in a section all start with a block header (e.g. "VM Arguments:"), the section is
+ * sought through: the parser skips ahead to the next block header or section heading (scanning the raw bytes of a
+ * memory-mapped log), and only the requested blocks are parsed.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class ParseProfile {
+
+    /**
+     * The header that starts the block of log lines for event types that can be sought to.
+     */
+    private static final EnumMap<LogEventType, String> BLOCK_HEADERS;
+
+    /**
+     * All event types.
+     */
+    public static final ParseProfile FULL = new ParseProfile(EnumSet.allOf(LogEventType.class));
+
+    /**
+     * The start of a section heading (e.g. "---------------  S Y S T E M  ---------------").
+     */
+    private static final String SECTION_HEADING = "---------------  ";
+
+    /**
+     * The SYSTEM section (OS, memory, container, limits).
+     */
+    public static final ParseProfile SYSTEM_ONLY;
+
+    /**
+     * The header, SUMMARY section, signal info, crashing thread and stack, VM operation, and SYSTEM section. The
+     * PROCESS section (threads, libraries, events, environment variables, etc.) is skipped.
+     */
+    public static final ParseProfile TRIAGE;
+
+    static {
+        BLOCK_HEADERS = new EnumMap<LogEventType, String>(LogEventType.class);
+        BLOCK_HEADERS.put(LogEventType.CLASSES_UNLOADED_EVENT, "Classes unloaded (");
+        BLOCK_HEADERS.put(LogEventType.COMPILATION_EVENT, "Compilation events (");
+        BLOCK_HEADERS.put(LogEventType.DEOPTIMIZATION_EVENT, "Deoptimization events (");
+        BLOCK_HEADERS.put(LogEventType.DLL_OPERATION_EVENT, "Dll operation events (");
+        BLOCK_HEADERS.put(LogEventType.DYNAMIC_LIBRARY, "Dynamic libraries:");
+        BLOCK_HEADERS.put(LogEventType.ENVIRONMENT_VARIABLES, "Environment Variables:");
+        BLOCK_HEADERS.put(LogEventType.EVENT, "Events (");
+        BLOCK_HEADERS.put(LogEventType.EXCEPTION_COUNTS, "OutOfMemory and StackOverflow Exception counts:");
+        BLOCK_HEADERS.put(LogEventType.GC_HEAP_HISTORY_EVENT, "GC Heap History (");
+        BLOCK_HEADERS.put(LogEventType.GC_PRECIOUS_LOG, "GC Precious Log:");
+        BLOCK_HEADERS.put(LogEventType.GLOBAL_FLAGS, "[Global flags]");
+        BLOCK_HEADERS.put(LogEventType.HEAP, "Heap:");
+        BLOCK_HEADERS.put(LogEventType.INTERNAL_EXCEPTION_EVENT, "Internal exceptions (");
+        BLOCK_HEADERS.put(LogEventType.INTERNAL_STATISTICS, "Internal statistics:");
+        BLOCK_HEADERS.put(LogEventType.NATIVE_MEMORY_TRACKING, "Native Memory Tracking:");
+        BLOCK_HEADERS.put(LogEventType.VM_ARGUMENTS, "VM Arguments:");
+        EnumSet<LogEventType> eventTypes = EnumSet.copyOf(LogEventTypeIndex.getEventTypes(Section.SYSTEM));
+        // Leave out event types shared with the PROCESS section (uid, umask) so it can be skipped
+        eventTypes.removeAll(LogEventTypeIndex.getEventTypes(Section.PROCESS));
+        eventTypes.add(LogEventType.UNKNOWN);
+        SYSTEM_ONLY = new ParseProfile(eventTypes);
+        eventTypes.addAll(LogEventTypeIndex.getEventTypes(Section.SUMMARY));
+        eventTypes.add(LogEventType.CURRENT_THREAD);
+        eventTypes.add(LogEventType.HEADER);
+        eventTypes.add(LogEventType.SIGINFO);
+        eventTypes.add(LogEventType.STACK);
+        eventTypes.add(LogEventType.VM_OPERATION);
+        TRIAGE = new ParseProfile(eventTypes);
+    }
+
+    /**
+     * The event types to materialize.
+     */
+    private final Set<LogEventType> eventTypes;
+
+    /**
+     * @param eventTypes
+     *            The event types to materialize. Include <code>LogEventType.UNKNOWN</code> to report unidentified log
+     *            lines.
+     */
+    public ParseProfile(Set<LogEventType> eventTypes) {
+        EnumSet<LogEventType> copy = EnumSet.noneOf(LogEventType.class);
+        copy.addAll(eventTypes);
+        this.eventTypes = Collections.unmodifiableSet(copy);
+    }
+
+    /**
+     * @return The event types to materialize.
+     */
+    public Set<LogEventType> getEventTypes() {
+        return eventTypes;
+    }
+
+    /**
+     * @param section
+     *            The section.
+     * @return The prefixes of the log lines to seek to in the section (the section heading and the headers of the
+     *         requested blocks), or null if the section must be parsed line by line.
+     */
+    public List<String> getSeekPrefixes(Section section) {
+        if (section == Section.UNKNOWN) {
+            return null;
+        }
+        List<String> prefixes = new ArrayList<String>();
+        prefixes.add(SECTION_HEADING);
+        for (LogEventType eventType : LogEventTypeIndex.getEventTypes(section)) {
+            if (eventType != LogEventType.BLANK_LINE && eventType != LogEventType.HEADING
+                    && eventType != LogEventType.TIMEOUT && eventTypes.contains(eventType)) {
+                if (!BLOCK_HEADERS.containsKey(eventType)) {
+                    return null;
+                }
+                prefixes.add(BLOCK_HEADERS.get(eventType));
+            }
+        }
+        return prefixes;
+    }
+
+    /**
+     * @return The event types that are not materialized.
+     */
+    public Set<LogEventType> getSkippedEventTypes() {
+        EnumSet<LogEventType> skippedEventTypes = EnumSet.allOf(LogEventType.class);
+        skippedEventTypes.removeAll(eventTypes);
+        return skippedEventTypes;
+    }
+
+    /**
+     * @param eventType
+     *            The event type.
+     * @return true if events of the type are materialized, false otherwise.
+     */
+    public boolean includes(LogEventType eventType) {
+        return eventTypes.contains(eventType);
+    }
+
+    /**
+     * @return true if all event types are materialized, false otherwise.
+     */
+    public boolean isFull() {
+        return eventTypes.size() == LogEventType.values().length;
+    }
+
+    /**
+     * @param eventTypes
+     *            Additional event types to materialize.
+     * @return A profile with the event types of this profile and the additional event types (e.g.
+     *         <code>ParseProfile.TRIAGE.with(LogEventType.VM_ARGUMENTS)</code>).
+     */
+    public ParseProfile with(LogEventType... eventTypes) {
+        EnumSet<LogEventType> union = EnumSet.noneOf(LogEventType.class);
+        union.addAll(this.eventTypes);
+        Collections.addAll(union, eventTypes);
+        return new ParseProfile(union);
+    }
+}
@@ -0,0 +1,40 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.service;
+
+import org.github.krashpad.util.jdk.JdkUtil.Section;
+
+/**
+ * <p>
+ * Receives parse progress (see {@link ParseControl#setProgressListener(ProgressListener)}).
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+@FunctionalInterface
+public interface ProgressListener {
+
+    /**
+     * @param bytes
+     *            The number of bytes processed (characters plus one line terminator per log line when the log is not
+     *            memory-mapped).
+     * @param logLines
+     *            The number of log lines read.
+     * @param section
+     *            The current section, or <code>Section.UNKNOWN</code> if sections are not tracked.
+     */
+    void progress(long bytes, long logLines, Section section);
+}
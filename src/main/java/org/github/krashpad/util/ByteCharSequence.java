@@ -0,0 +1,96 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.util;
+
+import java.nio.ByteBuffer;
+
+/**
+ * <p>
+ * A read-only <code>CharSequence</code> view over a range of single-byte characters in a <code>ByteBuffer</code>.
+ * </p>
+ * 
+ * <p>
+ * Each byte is one character (ISO-8859-1), so a log line can be matched against the event patterns directly from a
+ * memory-mapped file without decoding it or copying it into a <code>String</code>. Only use it for ASCII text; other
+ * bytes are not decoded with the platform charset.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class ByteCharSequence implements CharSequence {
+
+    /**
+     * The buffer holding the characters.
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * The number of characters.
+     */
+    private final int length;
+
+    /**
+     * The buffer index of the first character.
+     */
+    private final int offset;
+
+    /**
+     * @param buffer
+     *            The buffer holding the characters.
+     * @param offset
+     *            The buffer index of the first character.
+     * @param length
+     *            The number of characters.
+     */
+    public ByteCharSequence(ByteBuffer buffer, int offset, int length) {
+        if (offset < 0 || length < 0 || offset + length > buffer.limit()) {
+            throw new IndexOutOfBoundsException("offset=" + offset + ", length=" + length);
+        }
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("index=" + index);
+        }
+        return (char) (buffer.get(offset + index) & 0xff);
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        if (start < 0 || end > length || start > end) {
+            throw new IndexOutOfBoundsException("start=" + start + ", end=" + end);
+        }
+        return new ByteCharSequence(buffer, offset + start, end - start);
+    }
+
+    @Override
+    public String toString() {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = (char) (buffer.get(offset + i) & 0xff);
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,184 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.util;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * <p>
+ * Iterates over the lines in a <code>ByteBuffer</code> (e.g. a memory-mapped fatal error log).
+ * </p>
+ * 
+ * <p>
+ * Lines are split the same way as <code>BufferedReader.readLine()</code>: a line is terminated by "\n", "\r", or
+ * "\r\n", and a trailing line terminator does not start a new line. ASCII lines are returned as a
+ * {@link ByteCharSequence} view over the buffer with no decoding or copying. Lines with non-ASCII bytes are decoded
+ * into a <code>String</code> with the charset (the platform default, the same as <code>FileReader</code>).
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class ByteLineIterator implements Iterator<CharSequence> {
+
+    /**
+     * The buffer holding the lines.
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * The charset used to decode lines with non-ASCII bytes.
+     */
+    private final Charset charset;
+
+    /**
+     * The buffer index of the start of the next line.
+     */
+    private int position;
+
+    /**
+     * @param buffer
+     *            The buffer holding the lines, from index 0 to the limit.
+     */
+    public ByteLineIterator(ByteBuffer buffer) {
+        this(buffer, Charset.defaultCharset());
+    }
+
+    /**
+     * @param buffer
+     *            The buffer holding the lines, from index 0 to the limit.
+     * @param charset
+     *            The charset used to decode lines with non-ASCII bytes.
+     */
+    public ByteLineIterator(ByteBuffer buffer, Charset charset) {
+        this.buffer = buffer;
+        this.charset = charset;
+        this.position = 0;
+    }
+
+    /**
+     * @param lineStart
+     *            The buffer index of the start of a line.
+     * @return The buffer index of the start of the next line.
+     */
+    private int getNextLineStart(int lineStart) {
+        int i = lineStart;
+        while (i < buffer.limit() && buffer.get(i) != '\n' && buffer.get(i) != '\r') {
+            i++;
+        }
+        if (i < buffer.limit()) {
+            i++;
+            if (buffer.get(i - 1) == '\r' && i < buffer.limit() && buffer.get(i) == '\n') {
+                i++;
+            }
+        }
+        return i;
+    }
+
+    /**
+     * @return The buffer index of the start of the next line (the number of bytes consumed).
+     */
+    public int getPosition() {
+        return position;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return position < buffer.limit();
+    }
+
+    @Override
+    public CharSequence next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        int start = position;
+        int end = start;
+        boolean ascii = true;
+        byte b = 0;
+        while (end < buffer.limit()) {
+            b = buffer.get(end);
+            if (b == '\n' || b == '\r') {
+                break;
+            }
+            if (b < 0) {
+                ascii = false;
+            }
+            end++;
+        }
+        position = end;
+        if (position < buffer.limit()) {
+            position++;
+            if (b == '\r' && position < buffer.limit() && buffer.get(position) == '\n') {
+                position++;
+            }
+        }
+        if (ascii) {
+            return new ByteCharSequence(buffer, start, end - start);
+        }
+        byte[] bytes = new byte[end - start];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = buffer.get(start + i);
+        }
+        return new String(bytes, charset);
+    }
+
+    /**
+     * Skip ahead to the next line that starts with one of the prefixes, scanning the raw bytes without creating the
+     * skipped lines.
+     * 
+     * @param prefixes
+     *            The ASCII line prefixes to seek to.
+     * @return true if a line starting with one of the prefixes was found (it is returned by the next call to
+     *         {@link #next()}), false if the end of the buffer was reached.
+     */
+    public boolean seek(List<String> prefixes) {
+        int lineStart = position;
+        while (lineStart < buffer.limit()) {
+            for (String prefix : prefixes) {
+                if (startsWith(lineStart, prefix)) {
+                    position = lineStart;
+                    return true;
+                }
+            }
+            lineStart = getNextLineStart(lineStart);
+        }
+        position = lineStart;
+        return false;
+    }
+
+    /**
+     * @param lineStart
+     *            The buffer index of the start of a line.
+     * @param prefix
+     *            The ASCII prefix.
+     * @return true if the line starts with the prefix, false otherwise.
+     */
+    private boolean startsWith(int lineStart, String prefix) {
+        if (lineStart + prefix.length() > buffer.limit()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (buffer.get(lineStart + i) != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -57,12 +57,37 @@ public class Constants {
      */
     public static final String ANALYSIS_PROPERTY_FILE = "analysis";
 
+    /**
+     * Analysis template property file: the analysis messages with placeholders (see
+     * {@link org.github.krashpad.util.jdk.AnalysisTemplate}).
+     */
+    public static final String ANALYSIS_TEMPLATE_PROPERTY_FILE = "analysis-templates";
+
     /**
      * The minimum throughput (percent of time spent not doing garbage collection for a given time interval) to not be
      * flagged a bottleneck.
      */
     public static final int DEFAULT_BOTTLENECK_THROUGHPUT_THRESHOLD = 90;
 
+    /**
+     * The number of characters at the start of a log line used to identify the event type. Longer log lines (e.g. a
+     * huge <code>jvm_args</code> or <code>CLASSPATH</code>, or binary junk) are identified from the prefix, so the cost
+     * of identifying a log line does not grow with its length.
+     */
+    public static final int DEFAULT_CLASSIFICATION_WINDOW = 4096;
+
+    /**
+     * The maximum number of characters of a log line kept in the event. Longer log lines are truncated.
+     */
+    public static final int DEFAULT_MAX_LINE_LENGTH = 1024 * 1024;
+
+    /**
+     * The minimum number of log lines for a fatal error log to be parsed in parallel (when parallel parsing is
+     * enabled). Smaller logs are parsed sequentially, since splitting and stitching the chunks costs more than it
+     * saves.
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 20000;
+
     /**
      * The threshold for the time (seconds) for the first log entry for a VM log to be considered complete. First log
      * entries with timestamps below the threshold may indicate a partial VN log or VM events that were not a
@@ -70,6 +95,11 @@ public class Constants {
      */
     public static final int FIRST_TIMESTAMP_THRESHOLD = 60;
 
+    /**
+     * Input file name for reading the fatal error log from standard input.
+     */
+    public static final String INPUT_STANDARD_IN = "-";
+
     /**
      * Line separator used for report and preparsing.
      */
@@ -95,6 +125,26 @@ public class Constants {
      */
     public static final String OPTION_OUTPUT_SHORT = "o";
 
+    /**
+     * Profile file (name of the analysis rule cost file) command line long option.
+     */
+    public static final String OPTION_PROFILE_FILE_LONG = "profile-file";
+
+    /**
+     * Profile file (name of the analysis rule cost file) command line short option.
+     */
+    public static final String OPTION_PROFILE_FILE_SHORT = "P";
+
+    /**
+     * Profile (report the cost of each analysis rule) command line long option.
+     */
+    public static final String OPTION_PROFILE_LONG = "profile";
+
+    /**
+     * Profile (report the cost of each analysis rule) command line short option.
+     */
+    public static final String OPTION_PROFILE_SHORT = "p";
+
     /**
      * Report console command line long option.
      */
@@ -105,6 +155,16 @@ public class Constants {
      */
     public static final String OPTION_REPORT_CONSOLE_SHORT = "c";
 
+    /**
+     * Signatures (name of the known bug signature database file) command line long option.
+     */
+    public static final String OPTION_SIGNATURES_LONG = "signatures";
+
+    /**
+     * Signatures (name of the known bug signature database file) command line short option.
+     */
+    public static final String OPTION_SIGNATURES_SHORT = "s";
+
     /**
      * Default output file name.
      */
@@ -115,6 +175,13 @@ public class Constants {
      */
     public static final String PROPERTY_UNKNOWN = ("UNKNOWN");
 
+    /**
+     * The number of characters the regular expressions can read per character of a log line when identifying the
+     * event type. Log lines in the test data read at most ~40. A log line that needs more (e.g. catastrophic
+     * backtracking on a corrupted log line) is identified as <code>LogEventType.UNKNOWN</code>.
+     */
+    public static final int REGEX_STEP_BUDGET_PER_CHARACTER = 256;
+
     /**
      * Test data directory.
      */
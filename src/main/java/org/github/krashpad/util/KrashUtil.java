@@ -14,6 +14,11 @@
  *********************************************************************************************************************/
 package org.github.krashpad.util;
 
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Calendar;
@@ -22,8 +27,12 @@ import java.util.List;
 import java.util.ResourceBundle;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 
 import org.github.krashpad.util.jdk.JdkRegEx;
+import org.github.krashpad.util.jdk.PatternRegistry;
 
 /**
  * Utility methods and constants.
@@ -33,6 +42,11 @@ import org.github.krashpad.util.jdk.JdkRegEx;
  */
 public class KrashUtil {
 
+    /**
+     * The number of bytes at the start of the input used to identify gzip and zip compression.
+     */
+    private static final int MAGIC_LENGTH = 4;
+
     /**
      * JBoss native libraries.
      */
@@ -894,6 +908,35 @@ public class KrashUtil {
         return days.divideToIntegralValue(new BigDecimal(1000 * 60 * 60 * 24)).intValue();
     }
 
+    /**
+     * Transparently decompress a gzip or zip input stream, identified by the magic bytes at the start of the stream.
+     * Other input is returned as is. For zip input, the first file entry is read.
+     * 
+     * @param inputStream
+     *            The input stream.
+     * @return The decompressed input stream.
+     * @throws IOException
+     *             if the input cannot be read.
+     */
+    public static final InputStream decompress(InputStream inputStream) throws IOException {
+        InputStream in = inputStream.markSupported() ? inputStream : new BufferedInputStream(inputStream);
+        in.mark(MAGIC_LENGTH);
+        byte[] magic = readMagic(in);
+        in.reset();
+        if (isGzip(magic)) {
+            return new GZIPInputStream(in);
+        } else if (isZip(magic)) {
+            ZipInputStream zipInputStream = new ZipInputStream(in);
+            ZipEntry zipEntry = zipInputStream.getNextEntry();
+            while (zipEntry != null && zipEntry.isDirectory()) {
+                zipEntry = zipInputStream.getNextEntry();
+            }
+            return zipInputStream;
+        } else {
+            return in;
+        }
+    }
+
     /**
      * @param buildDate
      *            The build date in {@link org.github.krashpad.util.jdk.JdkRegEx#BUILD_DATE_TIME} format.
@@ -907,8 +950,8 @@ public class KrashUtil {
         String HH = null;
         String mm = null;
         String ss = null;
-        Pattern pattern = Pattern.compile(JdkRegEx.BUILD_DATE_TIME);
-        Matcher matcher = pattern.matcher(buildDate);
+        Pattern pattern = PatternRegistry.getPattern(JdkRegEx.BUILD_DATE_TIME);
+        Matcher matcher = PatternRegistry.matcher(pattern, buildDate);
         if (matcher.find()) {
             MMM = matcher.group(1);
             d = matcher.group(2);
@@ -1000,8 +1043,8 @@ public class KrashUtil {
      */
     public static final Date getDate21(String buildDate) {
         Date date = null;
-        Pattern pattern = Pattern.compile(JdkRegEx.BUILD_DATE_TIME_21);
-        Matcher matcher = pattern.matcher(buildDate);
+        Pattern pattern = PatternRegistry.getPattern(JdkRegEx.BUILD_DATE_TIME_21);
+        Matcher matcher = PatternRegistry.matcher(pattern, buildDate);
         if (matcher.find()) {
             Calendar calendar = Calendar.getInstance();
             calendar.set(Calendar.YEAR, Integer.valueOf(matcher.group(1)).intValue());
@@ -1030,6 +1073,51 @@ public class KrashUtil {
         return rb.getString(key);
     }
 
+    /**
+     * @param propertyFile
+     *            The property file.
+     * @param key
+     *            The property key.
+     * @return true if the property file has a value for the key, false otherwise.
+     */
+    public static final boolean hasPropertyValue(String propertyFile, String key) {
+        ResourceBundle rb = ResourceBundle.getBundle("org.github.krashpad." + propertyFile);
+        return rb.containsKey(key);
+    }
+
+    /**
+     * @param file
+     *            The file.
+     * @return true if the file is gzip or zip compressed (identified by the magic bytes at the start of the file),
+     *         false otherwise.
+     * @throws IOException
+     *             if the file cannot be read.
+     */
+    public static final boolean isCompressed(File file) throws IOException {
+        if (!file.isFile()) {
+            return false;
+        }
+        InputStream in = null;
+        try {
+            in = new FileInputStream(file);
+            byte[] magic = readMagic(in);
+            return isGzip(magic) || isZip(magic);
+        } finally {
+            if (in != null) {
+                in.close();
+            }
+        }
+    }
+
+    /**
+     * @param magic
+     *            The bytes at the start of the input.
+     * @return true if the input is gzip compressed, false otherwise.
+     */
+    private static final boolean isGzip(byte[] magic) {
+        return magic.length >= 2 && (magic[0] & 0xff) == 0x1f && (magic[1] & 0xff) == 0x8b;
+    }
+
     /**
      * Check if the <code>TagHtmlEvent</code> is a start tag.
      * 
@@ -1041,6 +1129,15 @@ public class KrashUtil {
         return htmlTag.matches("^<[^/].+$");
     }
 
+    /**
+     * @param magic
+     *            The bytes at the start of the input.
+     * @return true if the input is zip compressed, false otherwise.
+     */
+    private static final boolean isZip(byte[] magic) {
+        return magic.length >= 4 && magic[0] == 'P' && magic[1] == 'K' && magic[2] == 3 && magic[3] == 4;
+    }
+
     /**
      * Calculate the number of milliseconds between two dates.
      * 
@@ -1058,6 +1155,39 @@ public class KrashUtil {
         return millisDiff;
     }
 
+    /**
+     * @param in
+     *            The input stream.
+     * @return The bytes at the start of the input stream (fewer if the input is shorter).
+     * @throws IOException
+     *             if the input cannot be read.
+     */
+    private static final byte[] readMagic(InputStream in) throws IOException {
+        byte[] magic = new byte[MAGIC_LENGTH];
+        int length = 0;
+        int read = 0;
+        while (length < MAGIC_LENGTH && read != -1) {
+            read = in.read(magic, length, MAGIC_LENGTH - length);
+            if (read > 0) {
+                length += read;
+            }
+        }
+        byte[] bytes = new byte[length];
+        System.arraycopy(magic, 0, bytes, 0, length);
+        return bytes;
+    }
+
+    /**
+     * @param logLine
+     *            The log line.
+     * @param maxLength
+     *            The maximum number of characters.
+     * @return The log line, or its first <code>maxLength</code> characters if it is longer.
+     */
+    public static final CharSequence truncate(CharSequence logLine, int maxLength) {
+        return logLine.length() > maxLength ? logLine.subSequence(0, maxLength) : logLine;
+    }
+
     /**
      * Make default constructor private so the class cannot be instantiated.
      */
@@ -0,0 +1,112 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.util;
+
+/**
+ * <p>
+ * A <code>CharSequence</code> wrapper that limits the number of characters read from it, to abort regular expression
+ * matching that runs away (e.g. catastrophic backtracking on a corrupted log line).
+ * </p>
+ * 
+ * <p>
+ * <code>java.util.regex</code> reads the input through {@link #charAt(int)}, so the number of characters read is a
+ * measure of the matching work. When it exceeds the budget, {@link BudgetExceededException} is thrown out of the
+ * match. The budget is shared by all the matches against the wrapper.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class StepBudgetCharSequence implements CharSequence {
+
+    /**
+     * Thrown when the step budget is exceeded.
+     */
+    public static class BudgetExceededException extends RuntimeException {
+
+        /**
+         * Serialization version.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * @param budget
+         *            The step budget that was exceeded.
+         */
+        public BudgetExceededException(long budget) {
+            super("Regular expression step budget exceeded: " + budget);
+        }
+    }
+
+    /**
+     * The maximum number of characters that can be read.
+     */
+    private final long budget;
+
+    /**
+     * The wrapped character sequence.
+     */
+    private final CharSequence sequence;
+
+    /**
+     * The number of characters read.
+     */
+    private long steps;
+
+    /**
+     * @param sequence
+     *            The character sequence to wrap.
+     * @param budget
+     *            The maximum number of characters that can be read.
+     */
+    public StepBudgetCharSequence(CharSequence sequence, long budget) {
+        this.sequence = sequence;
+        this.budget = budget;
+        this.steps = 0;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (++steps > budget) {
+            throw new BudgetExceededException(budget);
+        }
+        return sequence.charAt(index);
+    }
+
+    /**
+     * @return The number of characters read.
+     */
+    public long getSteps() {
+        return steps;
+    }
+
+    @Override
+    public int length() {
+        return sequence.length();
+    }
+
+    /**
+     * The subsequence is not budgeted (e.g. a matched group).
+     */
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return sequence.subSequence(start, end);
+    }
+
+    @Override
+    public String toString() {
+        return sequence.toString();
+    }
+}
@@ -14,6 +14,10 @@
  *********************************************************************************************************************/
 package org.github.krashpad.util.jdk;
 
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
 import org.github.krashpad.util.Constants;
 import org.github.krashpad.util.KrashUtil;
 
@@ -76,6 +80,11 @@ public enum Analysis {
      */
     ERROR_CRASH_ON_OOME_HEAP("error.crash.on.oome.heap"),
 
+    /**
+     * Property key for a crash matching one or more known bug signatures.
+     */
+    ERROR_CRASH_SIGNATURE("error.crash.signature"),
+
     /**
      * Property key for a crash due to multiple threads access DirectByteBuffer at the same time.
      */
@@ -603,6 +612,11 @@ public enum Analysis {
      */
     INFO_OVERCOMMIT_DISABLED_RATIO_100("info.overcommit.disabled.ratio.100"),
 
+    /**
+     * Property key for a partial parse (event types skipped by the parse profile).
+     */
+    INFO_PARSE_PARTIAL("info.parse.partial"),
+
     /**
      * Property key for Red Hat Certificate System, Red Hat Enterprise Linux (RHEL) Identity Management (IdM), or
      * upstream Dogtag Certificate System detected.
@@ -918,6 +932,11 @@ public enum Analysis {
      */
     WARN_ORACLE_JDBC_OCI_CONNECION("warn.oracle.jdbc.oci.connection"),
 
+    /**
+     * Property key for parsing stopped before the end of the fatal error log (time budget exceeded or cancelled).
+     */
+    WARN_PARSE_INCOMPLETE("warn.parse.incomplete"),
+
     /**
      * Property key RHEL/JDK rpm version mismatch.
      */
@@ -982,6 +1001,38 @@ public enum Analysis {
      */
     WARN_WILY("warn.wily");
 
+    /**
+     * The <code>Analysis</code> by property file key.
+     */
+    private static final Map<String, Analysis> KEYS;
+
+    /**
+     * The analysis messages, compiled once. A message with placeholders is in the analysis template property file,
+     * otherwise it is the analysis property file value.
+     */
+    private static final EnumMap<Analysis, AnalysisTemplate> TEMPLATES;
+
+    static {
+        KEYS = new HashMap<String, Analysis>();
+        TEMPLATES = new EnumMap<Analysis, AnalysisTemplate>(Analysis.class);
+        for (Analysis analysis : values()) {
+            KEYS.put(analysis.getKey(), analysis);
+            String propertyFile = KrashUtil.hasPropertyValue(Constants.ANALYSIS_TEMPLATE_PROPERTY_FILE,
+                    analysis.getKey()) ? Constants.ANALYSIS_TEMPLATE_PROPERTY_FILE : Constants.ANALYSIS_PROPERTY_FILE;
+            String message = KrashUtil.getPropertyValue(propertyFile, analysis.getKey());
+            TEMPLATES.put(analysis, AnalysisTemplate.compile(message));
+        }
+    }
+
+    /**
+     * @param key
+     *            The analysis property file key.
+     * @return The <code>Analysis</code> with the key, or null if there is none.
+     */
+    public static Analysis fromKey(String key) {
+        return KEYS.get(key);
+    }
+
     private String key;
 
     private Analysis(final String key) {
@@ -995,6 +1046,13 @@ public enum Analysis {
         return key;
     }
 
+    /**
+     * @return The compiled analysis message, with any placeholders (see {@link AnalysisTemplate}).
+     */
+    public AnalysisTemplate getTemplate() {
+        return TEMPLATES.get(this);
+    }
+
     /**
      * @return Analysis property file value.
      */
@@ -0,0 +1,163 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.util.jdk;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * <p>
+ * The <code>Analysis</code> identified for a fatal error log, in the order it is reported.
+ * </p>
+ * 
+ * <p>
+ * Membership is kept in an <code>EnumSet</code>, so {@link #contains(Analysis)} is a constant time check no matter how
+ * much analysis there is. An <code>Analysis</code> is only added once; adding it again does not change the order.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class AnalysisList implements Iterable<Analysis> {
+
+    /**
+     * The <code>Analysis</code> in the list.
+     */
+    private final EnumSet<Analysis> keys;
+
+    /**
+     * The <code>Analysis</code> in the order it is reported.
+     */
+    private final List<Analysis> order;
+
+    /**
+     * Create an empty list.
+     */
+    public AnalysisList() {
+        keys = EnumSet.noneOf(Analysis.class);
+        order = new ArrayList<Analysis>();
+    }
+
+    /**
+     * Create a copy of a list.
+     * 
+     * @param analysis
+     *            The list to copy.
+     */
+    public AnalysisList(AnalysisList analysis) {
+        keys = EnumSet.copyOf(analysis.keys);
+        order = new ArrayList<Analysis>(analysis.order);
+    }
+
+    /**
+     * Add <code>Analysis</code> to the end of the list.
+     * 
+     * @param key
+     *            The <code>Analysis</code> to add.
+     * @return true if the <code>Analysis</code> was added, false if it was already in the list.
+     */
+    public boolean add(Analysis key) {
+        boolean added = keys.add(key);
+        if (added) {
+            order.add(key);
+        }
+        return added;
+    }
+
+    /**
+     * Add <code>Analysis</code> at a position in the list (e.g. 0 to report it first).
+     * 
+     * @param index
+     *            The position to add the <code>Analysis</code>.
+     * @param key
+     *            The <code>Analysis</code> to add.
+     */
+    public void add(int index, Analysis key) {
+        if (keys.add(key)) {
+            order.add(index, key);
+        }
+    }
+
+    /**
+     * Remove all <code>Analysis</code>.
+     */
+    public void clear() {
+        keys.clear();
+        order.clear();
+    }
+
+    /**
+     * @param key
+     *            The <code>Analysis</code>.
+     * @return true if the <code>Analysis</code> is in the list, false otherwise.
+     */
+    public boolean contains(Analysis key) {
+        return keys.contains(key);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof AnalysisList)) {
+            return false;
+        }
+        return order.equals(((AnalysisList) obj).order);
+    }
+
+    @Override
+    public int hashCode() {
+        return order.hashCode();
+    }
+
+    /**
+     * @return true if the list has no <code>Analysis</code>, false otherwise.
+     */
+    public boolean isEmpty() {
+        return order.isEmpty();
+    }
+
+    /**
+     * @return An iterator over the <code>Analysis</code> in the order it is reported. It does not support removal.
+     */
+    @Override
+    public Iterator<Analysis> iterator() {
+        return Collections.unmodifiableList(order).iterator();
+    }
+
+    /**
+     * @param key
+     *            The <code>Analysis</code> to remove.
+     * @return true if the <code>Analysis</code> was removed, false if it was not in the list.
+     */
+    public boolean remove(Analysis key) {
+        boolean removed = keys.remove(key);
+        if (removed) {
+            order.remove(key);
+        }
+        return removed;
+    }
+
+    /**
+     * @return The number of <code>Analysis</code> in the list.
+     */
+    public int size() {
+        return order.size();
+    }
+}
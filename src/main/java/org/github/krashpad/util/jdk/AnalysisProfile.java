@@ -0,0 +1,278 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.util.jdk;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import org.github.krashpad.util.Constants;
+
+/**
+ * <p>
+ * The cost of each analysis rule run by {@link org.github.krashpad.domain.jdk.FatalErrorLog#doAnalysis()}: wall time,
+ * regular expressions evaluated (through {@link PatternRegistry}), bytes allocated, and whether the rule added or
+ * removed analysis. The probe pass the rules share is recorded first, as {@link #PROBE}, followed by the values derived
+ * from the events that the rules share (e.g. the application), as {@link #DERIVED}, so they count toward the total and
+ * are not charged to the first rule that reads them.
+ * </p>
+ * 
+ * <p>
+ * Allocated bytes are measured with <code>com.sun.management.ThreadMXBean</code> and are unknown (Long.MIN_VALUE) when
+ * the JVM does not support or has disabled thread allocation measurement. A profile is not thread safe; it is meant to
+ * be used by the thread doing the analysis.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class AnalysisProfile {
+
+    /**
+     * The cost of one analysis rule.
+     */
+    public static class RuleCost {
+
+        /**
+         * The number of bytes allocated, or Long.MIN_VALUE if unknown.
+         */
+        private final long allocatedBytes;
+
+        /**
+         * Whether the rule added or removed analysis.
+         */
+        private final boolean fired;
+
+        /**
+         * The wall time in nanoseconds.
+         */
+        private final long nanos;
+
+        /**
+         * The number of regular expressions evaluated.
+         */
+        private final long regexEvaluations;
+
+        /**
+         * The rule name.
+         */
+        private final String rule;
+
+        /**
+         * @param rule
+         *            The rule name.
+         * @param nanos
+         *            The wall time in nanoseconds.
+         * @param regexEvaluations
+         *            The number of regular expressions evaluated.
+         * @param allocatedBytes
+         *            The number of bytes allocated, or Long.MIN_VALUE if unknown.
+         * @param fired
+         *            Whether the rule added or removed analysis.
+         */
+        public RuleCost(String rule, long nanos, long regexEvaluations, long allocatedBytes, boolean fired) {
+            this.rule = rule;
+            this.nanos = nanos;
+            this.regexEvaluations = regexEvaluations;
+            this.allocatedBytes = allocatedBytes;
+            this.fired = fired;
+        }
+
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+
+        public long getNanos() {
+            return nanos;
+        }
+
+        public long getRegexEvaluations() {
+            return regexEvaluations;
+        }
+
+        public String getRule() {
+            return rule;
+        }
+
+        public boolean isFired() {
+            return fired;
+        }
+    }
+
+    /**
+     * The rule name recorded for computing the derived values the rules share.
+     */
+    public static final String DERIVED = "DERIVED";
+
+    /**
+     * The rule name recorded for the probe pass that scans the log entries once for all rules.
+     */
+    public static final String PROBE = "PROBE";
+
+    /**
+     * The thread bean used to measure allocated bytes, or null if allocation cannot be measured.
+     */
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN;
+
+    static {
+        java.lang.management.ThreadMXBean threadMxBean = ManagementFactory.getThreadMXBean();
+        if (threadMxBean instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) threadMxBean).isThreadAllocatedMemorySupported()) {
+            THREAD_MX_BEAN = (com.sun.management.ThreadMXBean) threadMxBean;
+        } else {
+            THREAD_MX_BEAN = null;
+        }
+    }
+
+    /**
+     * The cost of each rule, in the order the rules were run.
+     */
+    private final List<RuleCost> ruleCosts = new ArrayList<RuleCost>();
+
+    /**
+     * The bytes allocated by the current thread when the rule was started, or Long.MIN_VALUE if unknown.
+     */
+    private long startAllocatedBytes;
+
+    /**
+     * The time the rule was started.
+     */
+    private long startNanos;
+
+    /**
+     * Remove the rule costs (e.g. when the analysis is redone).
+     */
+    public void clear() {
+        ruleCosts.clear();
+    }
+
+    /**
+     * @return The number of bytes allocated by the current thread, or Long.MIN_VALUE if unknown.
+     */
+    private long getAllocatedBytes() {
+        if (THREAD_MX_BEAN == null || !THREAD_MX_BEAN.isThreadAllocatedMemoryEnabled()) {
+            return Long.MIN_VALUE;
+        }
+        return THREAD_MX_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * @return The cost of each rule, in the order the rules were run.
+     */
+    public List<RuleCost> getRuleCosts() {
+        return Collections.unmodifiableList(ruleCosts);
+    }
+
+    /**
+     * @return The cost of each rule, most expensive (wall time) first.
+     */
+    public List<RuleCost> getRuleCostsByTime() {
+        List<RuleCost> sorted = new ArrayList<RuleCost>(ruleCosts);
+        Collections.sort(sorted, new Comparator<RuleCost>() {
+            @Override
+            public int compare(RuleCost ruleCost1, RuleCost ruleCost2) {
+                return Long.compare(ruleCost2.getNanos(), ruleCost1.getNanos());
+            }
+        });
+        return sorted;
+    }
+
+    /**
+     * @return The wall time in nanoseconds of all rules.
+     */
+    public long getTotalNanos() {
+        long totalNanos = 0;
+        for (RuleCost ruleCost : ruleCosts) {
+            totalNanos += ruleCost.getNanos();
+        }
+        return totalNanos;
+    }
+
+    /**
+     * Start measuring a rule.
+     */
+    public void start() {
+        PatternRegistry.setCounting(true);
+        startAllocatedBytes = getAllocatedBytes();
+        startNanos = System.nanoTime();
+    }
+
+    /**
+     * Stop measuring the rule started with {@link #start()} and record its cost.
+     * 
+     * @param rule
+     *            The rule name.
+     * @param fired
+     *            Whether the rule added or removed analysis.
+     */
+    public void stop(String rule, boolean fired) {
+        long nanos = System.nanoTime() - startNanos;
+        long allocatedBytes = getAllocatedBytes();
+        if (allocatedBytes == Long.MIN_VALUE || startAllocatedBytes == Long.MIN_VALUE) {
+            allocatedBytes = Long.MIN_VALUE;
+        } else {
+            allocatedBytes = allocatedBytes - startAllocatedBytes;
+        }
+        long regexEvaluations = PatternRegistry.getEvaluationCount();
+        PatternRegistry.setCounting(false);
+        ruleCosts.add(new RuleCost(rule, nanos, regexEvaluations, allocatedBytes, fired));
+    }
+
+    /**
+     * @return The rule costs as comma separated values with a header line, most expensive first (e.g. to collect from
+     *         batch runs). The allocated bytes are empty if unknown.
+     */
+    public String toCsv() {
+        StringBuilder csv = new StringBuilder("rule,nanos,regex_evaluations,allocated_bytes,fired");
+        csv.append(Constants.LINE_SEPARATOR);
+        for (RuleCost ruleCost : getRuleCostsByTime()) {
+            csv.append(ruleCost.getRule());
+            csv.append(',');
+            csv.append(ruleCost.getNanos());
+            csv.append(',');
+            csv.append(ruleCost.getRegexEvaluations());
+            csv.append(',');
+            if (ruleCost.getAllocatedBytes() != Long.MIN_VALUE) {
+                csv.append(ruleCost.getAllocatedBytes());
+            }
+            csv.append(',');
+            csv.append(ruleCost.isFired());
+            csv.append(Constants.LINE_SEPARATOR);
+        }
+        return csv.toString();
+    }
+
+    /**
+     * @return The rule costs as a table for the report, most expensive first, followed by the total time.
+     */
+    public String toTable() {
+        String format = "%-40s %12s %8s %14s %6s";
+        StringBuilder table = new StringBuilder();
+        table.append(String.format(format, "RULE", "TIME (us)", "REGEX", "ALLOCATED (B)", "FIRED"));
+        table.append(Constants.LINE_SEPARATOR);
+        for (RuleCost ruleCost : getRuleCostsByTime()) {
+            String allocatedBytes = ruleCost.getAllocatedBytes() == Long.MIN_VALUE ? Constants.PROPERTY_UNKNOWN
+                    : Long.toString(ruleCost.getAllocatedBytes());
+            table.append(String.format(format, ruleCost.getRule(), ruleCost.getNanos() / 1000,
+                    ruleCost.getRegexEvaluations(), allocatedBytes, ruleCost.isFired() ? "yes" : "no"));
+            table.append(Constants.LINE_SEPARATOR);
+        }
+        table.append("Total: " + getTotalNanos() / 1000 + " us");
+        table.append(Constants.LINE_SEPARATOR);
+        return table.toString();
+    }
+}
@@ -0,0 +1,206 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.util.jdk;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * <p>
+ * An analysis message compiled once into literal text and named placeholders (e.g. "cgroup version: {cgroup.version}.")
+ * so it can be rendered in a single pass with the details from a fatal error log.
+ * </p>
+ * 
+ * <p>
+ * A placeholder is a {@link Placeholder} name in braces. A value that is an <code>Iterable</code> (e.g. a list of
+ * native libraries) is rendered as its elements separated by ", ". Other values are rendered with
+ * <code>String.valueOf()</code>.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class AnalysisTemplate {
+
+    /**
+     * Details from the fatal error log that can be included in an analysis message.
+     */
+    public enum Placeholder {
+        //
+        CGROUP_VERSION("cgroup.version"),
+        //
+        CRASH_SIGNATURES("crash.signatures"),
+        //
+        DYNAMIC_LIBRARIES_MAPPING_COUNT("dynamic.libraries.mapping.count"),
+        //
+        GLOBAL_FLAGS_EXPERIMENTAL_ERGONOMIC("global.flags.experimental.ergonomic"),
+        //
+        HEAP_DUMP_PATH("heap.dump.path"),
+        //
+        JDK_AGE_YEARS("jdk.age.years"),
+        //
+        LATEST_RELEASE_DIFFERENCE("latest.release.difference"),
+        //
+        MAX_MAP_COUNT_LIMIT("max.map.count.limit"),
+        //
+        NATIVE_LIBRARIES_JBOSS("native.libraries.jboss"),
+        //
+        NATIVE_LIBRARIES_TOMCAT("native.libraries.tomcat"),
+        //
+        NATIVE_LIBRARIES_UNKNOWN("native.libraries.unknown"),
+        //
+        NATIVE_LIBRARIES_VMWARE("native.libraries.vmware"),
+        //
+        NATIVE_LIBRARY_IN_CRASH("native.library.in.crash"),
+        //
+        RHEL_VERSION("rhel.version"),
+        //
+        RPM_DIRECTORY("rpm.directory");
+
+        /**
+         * @param name
+         *            The placeholder name used in analysis messages.
+         * @return The <code>Placeholder</code> with the name, or null if there is none.
+         */
+        public static Placeholder fromName(String name) {
+            Placeholder placeholder = null;
+            for (Placeholder candidate : values()) {
+                if (candidate.name.equals(name)) {
+                    placeholder = candidate;
+                    break;
+                }
+            }
+            return placeholder;
+        }
+
+        private String name;
+
+        private Placeholder(final String name) {
+            this.name = name;
+        }
+
+        /**
+         * @return The placeholder name used in analysis messages.
+         */
+        public String getName() {
+            return name;
+        }
+    }
+
+    /**
+     * @param message
+     *            The analysis message.
+     * @return The compiled message.
+     * @throws IllegalArgumentException
+     *             if the message has an unclosed or unknown placeholder.
+     */
+    public static AnalysisTemplate compile(String message) {
+        List<String> literals = new ArrayList<String>();
+        List<Placeholder> placeholders = new ArrayList<Placeholder>();
+        int start = 0;
+        int open;
+        while ((open = message.indexOf('{', start)) >= 0) {
+            int close = message.indexOf('}', open);
+            if (close < 0) {
+                throw new IllegalArgumentException("Unclosed placeholder: " + message);
+            }
+            String name = message.substring(open + 1, close);
+            Placeholder placeholder = Placeholder.fromName(name);
+            if (placeholder == null) {
+                throw new IllegalArgumentException("Unknown placeholder " + name + ": " + message);
+            }
+            literals.add(message.substring(start, open));
+            placeholders.add(placeholder);
+            start = close + 1;
+        }
+        literals.add(message.substring(start));
+        return new AnalysisTemplate(message, literals.toArray(new String[literals.size()]),
+                placeholders.toArray(new Placeholder[placeholders.size()]));
+    }
+
+    /**
+     * The literal text before, between, and after the placeholders (one more than the number of placeholders).
+     */
+    private final String[] literals;
+
+    /**
+     * The analysis message.
+     */
+    private final String message;
+
+    /**
+     * The placeholders, in the order they appear in the message.
+     */
+    private final Placeholder[] placeholders;
+
+    /**
+     * @param message
+     *            The analysis message.
+     * @param literals
+     *            The literal text before, between, and after the placeholders.
+     * @param placeholders
+     *            The placeholders, in the order they appear in the message.
+     */
+    private AnalysisTemplate(String message, String[] literals, Placeholder[] placeholders) {
+        this.message = message;
+        this.literals = literals;
+        this.placeholders = placeholders;
+    }
+
+    /**
+     * @return The analysis message, with the placeholders.
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * @return true if the message has placeholders, false if it is rendered as is.
+     */
+    public boolean hasPlaceholders() {
+        return placeholders.length > 0;
+    }
+
+    /**
+     * Render the message.
+     * 
+     * @param literal
+     *            The <code>StringBuilder</code> the message is appended to.
+     * @param values
+     *            The value of each placeholder.
+     */
+    public void render(StringBuilder literal, Function<Placeholder, Object> values) {
+        literal.append(literals[0]);
+        for (int i = 0; i < placeholders.length; i++) {
+            Object value = values.apply(placeholders[i]);
+            if (value instanceof Iterable) {
+                Iterator<?> iterator = ((Iterable<?>) value).iterator();
+                boolean punctuate = false;
+                while (iterator.hasNext()) {
+                    if (punctuate) {
+                        literal.append(", ");
+                    }
+                    literal.append(iterator.next());
+                    punctuate = true;
+                }
+            } else {
+                literal.append(value);
+            }
+            literal.append(literals[i + 1]);
+        }
+    }
+}
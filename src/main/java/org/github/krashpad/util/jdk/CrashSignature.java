@@ -0,0 +1,363 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.util.jdk;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.github.krashpad.domain.jdk.FatalErrorLog;
+import org.github.krashpad.util.jdk.JdkUtil.JavaSpecification;
+import org.github.krashpad.util.jdk.JdkUtil.SignalNumber;
+
+/**
+ * <p>
+ * A known bug identified by the crash it causes: the top stack frame symbol and library, the signal, the top stack
+ * frames, the JDK releases, and JVM options. Unset conditions match any crash.
+ * </p>
+ * 
+ * <p>
+ * Signatures are loaded from a {@link CrashSignatureDatabase} file, with the stack frame regular expressions compiled
+ * when the signature is created.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class CrashSignature {
+
+    /**
+     * The attributes of a crash that signatures are matched against, derived once per lookup.
+     */
+    public static class Crash {
+
+        /**
+         * The Java specification.
+         */
+        private final JavaSpecification javaSpecification;
+
+        /**
+         * The JVM options and system properties.
+         */
+        private final Set<String> options;
+
+        /**
+         * The signal.
+         */
+        private final SignalNumber signal;
+
+        /**
+         * The top stack frames, top first.
+         */
+        private final List<String> stackFrames;
+
+        /**
+         * The native library of the top stack frame, or null if it is not a native frame.
+         */
+        private final String stackFrameTopLibrary;
+
+        /**
+         * The function or method of the top stack frame, or null if it cannot be determined.
+         */
+        private final String stackFrameTopSymbol;
+
+        /**
+         * The JDK update number, or <code>Integer.MIN_VALUE</code> if it cannot be determined.
+         */
+        private final int updateNumber;
+
+        /**
+         * @param fatalErrorLog
+         *            The fatal error log.
+         * @param depth
+         *            The number of top stack frames to match.
+         */
+        public Crash(FatalErrorLog fatalErrorLog, int depth) {
+            stackFrames = new ArrayList<String>(depth);
+            for (int i = 1; i <= depth; i++) {
+                String stackFrame = fatalErrorLog.getStackFrame(i);
+                if (stackFrame == null) {
+                    break;
+                }
+                stackFrames.add(stackFrame);
+            }
+            String stackFrameTop = fatalErrorLog.getStackFrameTop();
+            stackFrameTopLibrary = JdkUtil.getStackFrameLibrary(stackFrameTop);
+            stackFrameTopSymbol = JdkUtil.getStackFrameSymbol(stackFrameTop);
+            signal = fatalErrorLog.getSignalNumber();
+            javaSpecification = fatalErrorLog.getJavaSpecification();
+            updateNumber = JdkUtil.getJdkUpdateNumber(javaSpecification, fatalErrorLog.getJdkReleaseString());
+            options = new HashSet<String>();
+            if (fatalErrorLog.getJvmArgs() != null) {
+                Collections.addAll(options, fatalErrorLog.getJvmArgs().trim().split("\\s+"));
+            }
+        }
+
+        public JavaSpecification getJavaSpecification() {
+            return javaSpecification;
+        }
+
+        public Set<String> getOptions() {
+            return options;
+        }
+
+        public SignalNumber getSignal() {
+            return signal;
+        }
+
+        public List<String> getStackFrames() {
+            return stackFrames;
+        }
+
+        public String getStackFrameTopLibrary() {
+            return stackFrameTopLibrary;
+        }
+
+        public String getStackFrameTopSymbol() {
+            return stackFrameTopSymbol;
+        }
+
+        public int getUpdateNumber() {
+            return updateNumber;
+        }
+    }
+
+    /**
+     * A range of JDK updates for a Java specification (e.g. JDK11 updates 1-9).
+     */
+    public static class ReleaseRange {
+
+        /**
+         * The Java specification.
+         */
+        private final JavaSpecification javaSpecification;
+
+        /**
+         * The last update in the range, or <code>Integer.MAX_VALUE</code> for no upper bound.
+         */
+        private final int maxUpdate;
+
+        /**
+         * The first update in the range, or <code>Integer.MIN_VALUE</code> for no lower bound.
+         */
+        private final int minUpdate;
+
+        /**
+         * @param javaSpecification
+         *            The Java specification.
+         * @param minUpdate
+         *            The first update in the range, or <code>Integer.MIN_VALUE</code> for no lower bound.
+         * @param maxUpdate
+         *            The last update in the range, or <code>Integer.MAX_VALUE</code> for no upper bound.
+         */
+        public ReleaseRange(JavaSpecification javaSpecification, int minUpdate, int maxUpdate) {
+            this.javaSpecification = javaSpecification;
+            this.minUpdate = minUpdate;
+            this.maxUpdate = maxUpdate;
+        }
+
+        /**
+         * @param javaSpecification
+         *            The Java specification.
+         * @param updateNumber
+         *            The JDK update number, or <code>Integer.MIN_VALUE</code> if unknown.
+         * @return true if the release is in the range, false otherwise. An unknown update is only in a range with no
+         *         bounds.
+         */
+        public boolean includes(JavaSpecification javaSpecification, int updateNumber) {
+            if (javaSpecification != this.javaSpecification) {
+                return false;
+            }
+            if (updateNumber == Integer.MIN_VALUE) {
+                return minUpdate == Integer.MIN_VALUE && maxUpdate == Integer.MAX_VALUE;
+            }
+            return updateNumber >= minUpdate && updateNumber <= maxUpdate;
+        }
+    }
+
+    /**
+     * The JVM options that must not be used.
+     */
+    private final List<String> absentOptions;
+
+    /**
+     * The bug identifier (e.g. JDK-8240913).
+     */
+    private final String id;
+
+    /**
+     * The native library of the top stack frame (e.g. libjvm.so), or null for any.
+     */
+    private final String library;
+
+    /**
+     * The JVM options that must be used.
+     */
+    private final List<String> options;
+
+    /**
+     * The JDK releases with the bug, or empty for any.
+     */
+    private final List<ReleaseRange> releases;
+
+    /**
+     * The signal, or null for any.
+     */
+    private final SignalNumber signal;
+
+    /**
+     * The regular expressions the top stack frames must match, top first.
+     */
+    private final List<Pattern> stack;
+
+    /**
+     * The function or method of the top stack frame (e.g. MinINode::Ideal), or null for any.
+     */
+    private final String symbol;
+
+    /**
+     * The bug description.
+     */
+    private final String title;
+
+    /**
+     * @param id
+     *            The bug identifier (e.g. JDK-8240913).
+     * @param title
+     *            The bug description.
+     * @param symbol
+     *            The function or method of the top stack frame, or null for any.
+     * @param library
+     *            The native library of the top stack frame, or null for any.
+     * @param signal
+     *            The signal, or null for any.
+     * @param stack
+     *            The regular expressions the top stack frames must match, top first.
+     * @param releases
+     *            The JDK releases with the bug, or empty for any.
+     * @param options
+     *            The JVM options that must be used.
+     * @param absentOptions
+     *            The JVM options that must not be used.
+     */
+    public CrashSignature(String id, String title, String symbol, String library, SignalNumber signal,
+            List<String> stack, List<ReleaseRange> releases, List<String> options, List<String> absentOptions) {
+        this.id = id;
+        this.title = title;
+        this.symbol = symbol;
+        this.library = library;
+        this.signal = signal;
+        List<Pattern> patterns = new ArrayList<Pattern>(stack.size());
+        for (String regex : stack) {
+            patterns.add(Pattern.compile(regex));
+        }
+        this.stack = Collections.unmodifiableList(patterns);
+        this.releases = Collections.unmodifiableList(new ArrayList<ReleaseRange>(releases));
+        this.options = Collections.unmodifiableList(new ArrayList<String>(options));
+        this.absentOptions = Collections.unmodifiableList(new ArrayList<String>(absentOptions));
+    }
+
+    public List<String> getAbsentOptions() {
+        return absentOptions;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getLibrary() {
+        return library;
+    }
+
+    public List<String> getOptions() {
+        return options;
+    }
+
+    public List<ReleaseRange> getReleases() {
+        return releases;
+    }
+
+    public SignalNumber getSignal() {
+        return signal;
+    }
+
+    /**
+     * @return The number of top stack frames the signature matches.
+     */
+    public int getStackDepth() {
+        return stack.size();
+    }
+
+    public String getSymbol() {
+        return symbol;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    /**
+     * @return true if the signature has no conditions (it would match every crash), false otherwise.
+     */
+    public boolean isUnconditional() {
+        return symbol == null && library == null && signal == null && stack.isEmpty() && releases.isEmpty()
+                && options.isEmpty() && absentOptions.isEmpty();
+    }
+
+    /**
+     * @param crash
+     *            The crash.
+     * @return true if the crash meets every condition of the signature, false otherwise.
+     */
+    public boolean matches(Crash crash) {
+        if ((symbol != null && !symbol.equals(crash.getStackFrameTopSymbol()))
+                || (library != null && !library.equals(crash.getStackFrameTopLibrary()))
+                || (signal != null && signal != crash.getSignal())) {
+            return false;
+        }
+        if (!releases.isEmpty()) {
+            boolean released = false;
+            for (ReleaseRange release : releases) {
+                if (release.includes(crash.getJavaSpecification(), crash.getUpdateNumber())) {
+                    released = true;
+                    break;
+                }
+            }
+            if (!released) {
+                return false;
+            }
+        }
+        if (!crash.getOptions().containsAll(options)) {
+            return false;
+        }
+        for (String absentOption : absentOptions) {
+            if (crash.getOptions().contains(absentOption)) {
+                return false;
+            }
+        }
+        if (stack.size() > crash.getStackFrames().size()) {
+            return false;
+        }
+        for (int i = 0; i < stack.size(); i++) {
+            if (!PatternRegistry.matcher(stack.get(i), crash.getStackFrames().get(i)).matches()) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
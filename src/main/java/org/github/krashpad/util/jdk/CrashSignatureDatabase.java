@@ -0,0 +1,404 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.util.jdk;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.github.krashpad.domain.jdk.FatalErrorLog;
+import org.github.krashpad.util.jdk.CrashSignature.Crash;
+import org.github.krashpad.util.jdk.CrashSignature.ReleaseRange;
+import org.github.krashpad.util.jdk.JdkUtil.JavaSpecification;
+import org.github.krashpad.util.jdk.JdkUtil.SignalNumber;
+
+/**
+ * <p>
+ * A database of known bug {@link CrashSignature}s, indexed so a lookup only verifies the signatures that can match the
+ * crash.
+ * </p>
+ * 
+ * <p>
+ * Each signature is indexed by its most selective discriminator: the top stack frame symbol, else the top stack frame
+ * library, else the signal. A lookup derives the crash discriminators once and verifies the signatures under the
+ * crash symbol, library, and signal, plus any signatures with no discriminator. The cost of a lookup depends on the
+ * number of signatures sharing the crash discriminators, not the size of the database.
+ * </p>
+ * 
+ * <p>
+ * The database file has one section per signature. The section header is the bug identifier in brackets, followed by
+ * <code>key=value</code> conditions. Lines starting with "#" and blank lines are ignored. For example:
+ * </p>
+ * 
+ * <pre>
+ * [JDK-8240913]
+ * title=Crash in String.compareTo(Object) compiled with AVX2
+ * symbol=java.lang.String.compareTo
+ * stack=^J \d{1,} C2 java\.lang\.String\.compareTo\(Ljava/lang/Object;\)I.+$
+ * option=!-XX:UseAVX=0
+ * 
+ * [JDK-8248837]
+ * title=C2 crash in MinINode::Ideal
+ * symbol=MinINode::Ideal
+ * library=libjvm.so
+ * signal=SIGSEGV
+ * release=JDK8:1-274
+ * release=JDK11:1-9
+ * </pre>
+ * 
+ * <ul>
+ * <li><code>symbol</code>: The function or method of the top stack frame (see
+ * {@link JdkUtil#getStackFrameSymbol(String)}).</li>
+ * <li><code>library</code>: The native library of the top stack frame (see
+ * {@link JdkUtil#getStackFrameLibrary(String)}).</li>
+ * <li><code>signal</code>: The {@link SignalNumber}.</li>
+ * <li><code>stack</code>: A regular expression the next top stack frame must match (the first is the top frame).</li>
+ * <li><code>release</code>: A {@link JavaSpecification} and optional update range (e.g. JDK8:-274, JDK11:10-, JDK17).
+ * A release in any of the ranges matches.</li>
+ * <li><code>option</code>: A JVM option that must be used, or must not be used if it starts with "!".</li>
+ * </ul>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class CrashSignatureDatabase {
+
+    /**
+     * Collects the conditions of a signature section.
+     */
+    private static class SignatureBuilder {
+
+        /**
+         * The JVM options that must not be used.
+         */
+        private final List<String> absentOptions = new ArrayList<String>();
+
+        /**
+         * The bug identifier.
+         */
+        private final String id;
+
+        /**
+         * The native library of the top stack frame.
+         */
+        private String library;
+
+        /**
+         * The JVM options that must be used.
+         */
+        private final List<String> options = new ArrayList<String>();
+
+        /**
+         * The JDK releases with the bug.
+         */
+        private final List<ReleaseRange> releases = new ArrayList<ReleaseRange>();
+
+        /**
+         * The signal.
+         */
+        private SignalNumber signal;
+
+        /**
+         * The regular expressions the top stack frames must match, top first.
+         */
+        private final List<String> stack = new ArrayList<String>();
+
+        /**
+         * The function or method of the top stack frame.
+         */
+        private String symbol;
+
+        /**
+         * The bug description.
+         */
+        private String title;
+
+        /**
+         * @param id
+         *            The bug identifier.
+         */
+        private SignatureBuilder(String id) {
+            this.id = id;
+        }
+
+        /**
+         * @return The signature.
+         * @throws IllegalArgumentException
+         *             if the signature has no conditions or a stack frame regular expression is not valid.
+         */
+        private CrashSignature build() {
+            CrashSignature signature = new CrashSignature(id, title, symbol, library, signal, stack, releases,
+                    options, absentOptions);
+            if (signature.isUnconditional()) {
+                throw new IllegalArgumentException("No conditions.");
+            }
+            return signature;
+        }
+
+        /**
+         * @param release
+         *            The release condition (e.g. JDK8:-274, JDK11:1-9, JDK17).
+         * @return The release range.
+         */
+        private ReleaseRange parseRelease(String release) {
+            int separator = release.indexOf(':');
+            String specification = separator < 0 ? release : release.substring(0, separator);
+            JavaSpecification javaSpecification = JavaSpecification.valueOf(specification.trim());
+            int minUpdate = Integer.MIN_VALUE;
+            int maxUpdate = Integer.MAX_VALUE;
+            if (separator >= 0) {
+                String range = release.substring(separator + 1).trim();
+                int dash = range.indexOf('-');
+                if (dash < 0) {
+                    minUpdate = Integer.parseInt(range);
+                    maxUpdate = minUpdate;
+                } else {
+                    if (dash > 0) {
+                        minUpdate = Integer.parseInt(range.substring(0, dash).trim());
+                    }
+                    if (dash < range.length() - 1) {
+                        maxUpdate = Integer.parseInt(range.substring(dash + 1).trim());
+                    }
+                }
+            }
+            return new ReleaseRange(javaSpecification, minUpdate, maxUpdate);
+        }
+
+        /**
+         * @param key
+         *            The condition key.
+         * @param value
+         *            The condition value.
+         * @throws IllegalArgumentException
+         *             if the key or value is not valid.
+         */
+        private void set(String key, String value) {
+            switch (key) {
+            case "library":
+                library = value;
+                break;
+            case "option":
+                if (value.startsWith("!")) {
+                    absentOptions.add(value.substring(1));
+                } else {
+                    options.add(value);
+                }
+                break;
+            case "release":
+                releases.add(parseRelease(value));
+                break;
+            case "signal":
+                signal = SignalNumber.valueOf(value);
+                break;
+            case "stack":
+                stack.add(value);
+                break;
+            case "symbol":
+                symbol = value;
+                break;
+            case "title":
+                title = value;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown key: " + key);
+            }
+        }
+    }
+
+    /**
+     * @param builder
+     *            The conditions of a signature section.
+     * @return The signature.
+     * @throws IllegalArgumentException
+     *             if the section is not a valid signature.
+     */
+    private static CrashSignature build(SignatureBuilder builder) {
+        try {
+            return builder.build();
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(
+                    "Invalid crash signature " + builder.id + " (" + e.getMessage() + ")", e);
+        }
+    }
+
+    /**
+     * @param path
+     *            The database file.
+     * @return The database.
+     * @throws IOException
+     *             if the file cannot be read.
+     * @throws IllegalArgumentException
+     *             if the file is not a valid database.
+     */
+    public static final CrashSignatureDatabase load(Path path) throws IOException {
+        BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8);
+        try {
+            return load(reader);
+        } finally {
+            reader.close();
+        }
+    }
+
+    /**
+     * @param reader
+     *            The database content.
+     * @return The database.
+     * @throws IOException
+     *             if the content cannot be read.
+     * @throws IllegalArgumentException
+     *             if the content is not a valid database.
+     */
+    public static final CrashSignatureDatabase load(BufferedReader reader) throws IOException {
+        List<CrashSignature> signatures = new ArrayList<CrashSignature>();
+        SignatureBuilder builder = null;
+        int lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            if (line.startsWith("[") && line.endsWith("]") && line.length() > 2) {
+                if (builder != null) {
+                    signatures.add(build(builder));
+                }
+                builder = new SignatureBuilder(line.substring(1, line.length() - 1).trim());
+            } else if (builder != null && line.indexOf('=') > 0) {
+                int separator = line.indexOf('=');
+                try {
+                    builder.set(line.substring(0, separator).trim(), line.substring(separator + 1).trim());
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("Invalid crash signature at line " + lineNumber + ": " + line
+                            + " (" + e.getMessage() + ")", e);
+                }
+            } else {
+                throw new IllegalArgumentException("Invalid crash signature at line " + lineNumber + ": " + line
+                        + " (Expected a [bug id] section or key=value condition.)");
+            }
+        }
+        if (builder != null) {
+            signatures.add(build(builder));
+        }
+        return new CrashSignatureDatabase(signatures);
+    }
+
+    /**
+     * Signatures indexed by the native library of the top stack frame.
+     */
+    private final Map<String, List<CrashSignature>> byLibrary;
+
+    /**
+     * Signatures indexed by signal.
+     */
+    private final EnumMap<SignalNumber, List<CrashSignature>> bySignal;
+
+    /**
+     * Signatures indexed by the function or method of the top stack frame.
+     */
+    private final Map<String, List<CrashSignature>> bySymbol;
+
+    /**
+     * The number of signatures.
+     */
+    private int size;
+
+    /**
+     * The maximum number of top stack frames a signature matches.
+     */
+    private int stackDepth;
+
+    /**
+     * Signatures with no symbol, library, or signal.
+     */
+    private final List<CrashSignature> unindexed;
+
+    /**
+     * @param signatures
+     *            The signatures.
+     */
+    public CrashSignatureDatabase(Collection<CrashSignature> signatures) {
+        byLibrary = new HashMap<String, List<CrashSignature>>();
+        bySignal = new EnumMap<SignalNumber, List<CrashSignature>>(SignalNumber.class);
+        bySymbol = new HashMap<String, List<CrashSignature>>();
+        unindexed = new ArrayList<CrashSignature>();
+        for (CrashSignature signature : signatures) {
+            List<CrashSignature> bucket;
+            if (signature.getSymbol() != null) {
+                bucket = bySymbol.computeIfAbsent(signature.getSymbol(), k -> new ArrayList<CrashSignature>());
+            } else if (signature.getLibrary() != null) {
+                bucket = byLibrary.computeIfAbsent(signature.getLibrary(), k -> new ArrayList<CrashSignature>());
+            } else if (signature.getSignal() != null) {
+                bucket = bySignal.computeIfAbsent(signature.getSignal(), k -> new ArrayList<CrashSignature>());
+            } else {
+                bucket = unindexed;
+            }
+            bucket.add(signature);
+            stackDepth = Math.max(stackDepth, signature.getStackDepth());
+            size++;
+        }
+    }
+
+    /**
+     * @param crash
+     *            The crash.
+     * @return The signatures indexed under the crash discriminators, which must be verified.
+     */
+    List<CrashSignature> getCandidates(Crash crash) {
+        List<CrashSignature> candidates = new ArrayList<CrashSignature>();
+        if (crash.getStackFrameTopSymbol() != null && bySymbol.containsKey(crash.getStackFrameTopSymbol())) {
+            candidates.addAll(bySymbol.get(crash.getStackFrameTopSymbol()));
+        }
+        if (crash.getStackFrameTopLibrary() != null && byLibrary.containsKey(crash.getStackFrameTopLibrary())) {
+            candidates.addAll(byLibrary.get(crash.getStackFrameTopLibrary()));
+        }
+        if (crash.getSignal() != null && bySignal.containsKey(crash.getSignal())) {
+            candidates.addAll(bySignal.get(crash.getSignal()));
+        }
+        candidates.addAll(unindexed);
+        return candidates;
+    }
+
+    /**
+     * @param fatalErrorLog
+     *            The fatal error log.
+     * @return The signatures the crash matches, in database order within each index.
+     */
+    public List<CrashSignature> match(FatalErrorLog fatalErrorLog) {
+        Crash crash = new Crash(fatalErrorLog, stackDepth);
+        List<CrashSignature> matches = new ArrayList<CrashSignature>();
+        for (CrashSignature candidate : getCandidates(crash)) {
+            if (candidate.matches(crash)) {
+                matches.add(candidate);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * @return The number of signatures.
+     */
+    public int size() {
+        return size;
+    }
+}
@@ -636,7 +636,7 @@ public class JdkRegEx {
     /**
      * Oracle JDBC OCI driver path.
      */
-    public static final String ORACLE_JDBC_OCI_DRIVER_PATH = "([A-Z]:)?(.*[/\\\\])*" + ORACLE_JDBC_OCI_DRIVER;
+    public static final String ORACLE_JDBC_OCI_DRIVER_PATH = "([A-Z]:)?(.*[/\\\\])?" + ORACLE_JDBC_OCI_DRIVER;
 
     /**
      * AppDynamics package.
@@ -679,7 +679,7 @@ public class JdkRegEx {
     /**
      * PostgreSQL JDBC driver path.
      */
-    public static final String POSTGRESQL_JDBC_DRIVER_PATH = "([A-Z]:)?(.*[/\\\\])*" + POSTGRESQL_JDBC_DRIVER;
+    public static final String POSTGRESQL_JDBC_DRIVER_PATH = "([A-Z]:)?(.*[/\\\\])?" + POSTGRESQL_JDBC_DRIVER;
 
     /**
      * A 32-bit or 64-bit register.
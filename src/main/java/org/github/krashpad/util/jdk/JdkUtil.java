@@ -21,6 +21,7 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -118,6 +119,7 @@ import org.github.krashpad.domain.jdk.ZgcGlobals;
 import org.github.krashpad.domain.jdk.ZgcMetadataBits;
 import org.github.krashpad.domain.jdk.ZgcPageTable;
 import org.github.krashpad.domain.jdk.ZgcPhaseSwitchEvent;
+import org.github.krashpad.util.StepBudgetCharSequence;
 
 /**
  * <p>
@@ -252,6 +254,19 @@ public class JdkUtil {
         ZGC_METADATA_BITS, ZGC_PAGE_TABLE, ZGC_PHASE_SWITCH_EVENT
     }
 
+    /**
+     * Fatal error log sections, started by a heading. For example:
+     * 
+     * <pre>
+     * ---------------  T H R E A D  ---------------
+     * </pre>
+     * 
+     * UNKNOWN: Before the first heading, or a partial fatal error log with no headings.
+     */
+    public enum Section {
+        PROCESS, SUMMARY, SYSTEM, THREAD, UNKNOWN
+    }
+
     /**
      * Signal codes.
      * 
@@ -314,7 +329,7 @@ public class JdkUtil {
         if (fromUnits == toUnits) {
             return size;
         } else {
-            if (!"bBkKmMgG".matches("^.*" + Character.toString(toUnits) + ".*$")) {
+            if (!PatternRegistry.matches("bBkKmMgG", "^.*" + Character.toString(toUnits) + ".*$")) {
                 throw new AssertionError("Unexpected toUnits value: " + toUnits);
             }
             BigDecimal newSize = new BigDecimal(size);
@@ -368,686 +383,15 @@ public class JdkUtil {
     }
 
     /**
-     * Get the bytes of a JVM option that specifies a byte value. For example, the bytes for <code>128k</code> is 128 x
-     * 1024 = 131,072.
-     * 
-     * @param optionValue
-     *            The JVM option value.
-     * @return The JVM option value in bytes, or <code>Long.MIN_VALUE</code> if the option does not exist
-     */
-    public static final long getByteOptionBytes(final String optionValue) {
-        long bytes = Long.MIN_VALUE;
-        if (optionValue != null) {
-            char fromUnits;
-            long value;
-            Pattern pattern = Pattern.compile(JdkRegEx.OPTION_SIZE_BYTES);
-            Matcher matcher = pattern.matcher(optionValue);
-            if (matcher.find()) {
-                value = Long.parseLong(matcher.group(2));
-                if (matcher.group(3) != null) {
-                    fromUnits = matcher.group(3).charAt(0);
-                } else {
-                    fromUnits = 'B';
-                }
-                char toUnits = 'B';
-                if (fromUnits == toUnits) {
-                    bytes = value;
-                } else {
-                    bytes = JdkUtil.convertSize(value, fromUnits, toUnits);
-                }
-            }
-        }
-        return bytes;
-    }
-
-    /**
-     * Get the value of a JVM option that specifies a byte value. For example, the value for <code>-Xss128k</code> is
-     * 128k. The value for <code>-XX:PermSize=128M</code> is 128M.
+     * Create the <code>LogEvent</code> for an identified log line.
      * 
-     * @param option
-     *            The JVM option.
-     * @return The JVM option value, or null if the option does not exist.
-     */
-    public static final String getByteOptionValue(final String option) {
-        String value = null;
-        if (option != null) {
-            String regex = "^-[a-zA-Z:.]+={0,1}(" + JdkRegEx.OPTION_SIZE_BYTES + ")$";
-            Pattern pattern = Pattern.compile(regex);
-            Matcher matcher = pattern.matcher(option);
-            if (matcher.find()) {
-                value = matcher.group(1);
-            }
-        }
-        return value;
-    }
-
-    /**
-     * @param jdkReleaseString
-     *            The JDK release string. For example: "11.0.15+10-LTS".
-     * @param releases
-     *            The JDK releases for a given OS and distribution method (e.g. zip, rpm).
-     * @return The first release that matches the build string, or null if none found.
-     */
-    public static final Release getFirstReleaseFromReleases(String jdkReleaseString,
-            HashMap<String, Release> releases) {
-        Release firstRelease = null;
-        Iterator<Entry<String, Release>> i = releases.entrySet().iterator();
-        while (i.hasNext()) {
-            Entry<String, Release> entry = i.next();
-            Release release = entry.getValue();
-            if (release.getVersion().equals(jdkReleaseString)) {
-                firstRelease = release;
-                break;
-            }
-        }
-        return firstRelease;
-    }
-
-    /**
-     * @param version
-     *            The JDK version.
-     * @return The Java specification as a release number that can be used for comparing release order.
-     */
-    public static final int getJavaSpecificationNumber(JavaSpecification version) {
-        int javaSpecificationNumber = Integer.MIN_VALUE;
-        if (version != JavaSpecification.UNKNOWN) {
-            javaSpecificationNumber = Integer.parseInt(version.toString().substring(3));
-        }
-        return javaSpecificationNumber;
-    }
-
-    /**
-     * @param jdk11ReleaseString
-     *            The JDK11 release string (e.g. 11.0.9+11-LTS).
-     * @return The JDK11 update number (e.g. 9).
-     */
-    public static final int getJdk11UpdateNumber(String jdk11ReleaseString) {
-        int jdk11UpdateNumber = Integer.MIN_VALUE;
-        String regEx = "11.0.(\\d{1,}).+";
-        Pattern pattern = Pattern.compile(regEx);
-        Matcher matcher = pattern.matcher(jdk11ReleaseString);
-        if (matcher.find()) {
-            jdk11UpdateNumber = Integer.parseInt(matcher.group(1));
-        }
-        return jdk11UpdateNumber;
-    }
-
-    /**
-     * @param jdk17ReleaseString
-     *            The JDK17 release string (e.g. 17.0.4+8-LTS).
-     * @return The JDK update number (e.g. 4).
-     */
-    public static final int getJdk17UpdateNumber(String jdk17ReleaseString) {
-        int jdk17UpdateNumber = Integer.MIN_VALUE;
-        String regEx = "17.0.(\\d{1,}).+";
-        Pattern pattern = Pattern.compile(regEx);
-        Matcher matcher = pattern.matcher(jdk17ReleaseString);
-        if (matcher.find()) {
-            jdk17UpdateNumber = Integer.parseInt(matcher.group(1));
-        }
-        return jdk17UpdateNumber;
-    }
-
-    /**
-     * @param jdk8ReleaseString
-     *            The JDK8 release string (e.g. 1.8.0_222-b10).
-     * @return The JDK8 update number (e.g. 222).
-     */
-    public static final int getJdk8UpdateNumber(String jdk8ReleaseString) {
-        int jdk8UpdateNumber = Integer.MIN_VALUE;
-        String regEx = "(1.)?8.0_(\\d{1,}).+";
-        Pattern pattern = Pattern.compile(regEx);
-        Matcher matcher = pattern.matcher(jdk8ReleaseString);
-        if (matcher.find()) {
-            jdk8UpdateNumber = Integer.parseInt(matcher.group(2));
-        }
-        return jdk8UpdateNumber;
-    }
-
-    /**
-     * @param fatalErrorLog
-     *            The fatal error log.
-     * @return The known release date for the JDK build that produced the fatal error log.
-     */
-    public static final Date getJdkReleaseDate(FatalErrorLog fatalErrorLog) {
-        Date date = null;
-        if (fatalErrorLog != null) {
-            Release release = null;
-            HashMap<String, Release> releases = getJdkReleases(fatalErrorLog);
-            if (releases != null && !releases.isEmpty()) {
-                if (fatalErrorLog.isRhRpmInstall()) {
-                    release = releases.get(fatalErrorLog.getRpmDirectory());
-                } else if (fatalErrorLog.isRhLinuxZipInstall() || fatalErrorLog.isRhWindowsZipInstall()) {
-                    release = releases.get(fatalErrorLog.getJdkReleaseString());
-                }
-            } else {
-                // Approximate release
-                release = fatalErrorLog.getFirstRelease(fatalErrorLog.getJdkReleaseString());
-            }
-            if (release != null) {
-                date = release.getBuildDate();
-            }
-        }
-        return date;
-    }
-
-    /**
-     * @param fatalErrorLog
-     *            The fatal error log.
-     * @return The release number for the JDK that produced the fatal error log.
-     */
-    public static final int getJdkReleaseNumber(FatalErrorLog fatalErrorLog) {
-        int number = 0;
-        if (fatalErrorLog != null) {
-            HashMap<String, Release> releases = getJdkReleases(fatalErrorLog);
-            if (releases != null && !releases.isEmpty()) {
-                Release release = null;
-                if (fatalErrorLog.isRhRpmInstall()) {
-                    release = releases.get(fatalErrorLog.getRpmDirectory());
-                } else if (fatalErrorLog.isRhLinuxZipInstall() || fatalErrorLog.isRhWindowsZipInstall()) {
-                    release = releases.get(fatalErrorLog.getJdkReleaseString());
-                }
-                if (release != null) {
-                    number = release.getNumber();
-                }
-            }
-        }
-        return number;
-    }
-
-    /**
-     * @param fatalErrorLog
-     *            The fatal error log.
-     * @return The JDK releases for the JDK that produced the fatal error log.
+     * @param eventType
+     *            The <code>LogEventType</code> of the log line.
+     * @param logLine
+     *            The log line as it appears in the VM log.
+     * @return The <code>LogEvent</code> corresponding to the log line.
      */
-    public static final HashMap<String, Release> getJdkReleases(FatalErrorLog fatalErrorLog) {
-        HashMap<String, Release> releases = null;
-        if (fatalErrorLog.getJavaVendor().equals(JavaVendor.RED_HAT)) {
-            if (fatalErrorLog.isRhel()) {
-                if (fatalErrorLog.isRhRpmInstall()) {
-                    switch (fatalErrorLog.getOsVersion()) {
-                    case RHEL6:
-                        if (fatalErrorLog.getJavaSpecification() == JavaSpecification.JDK8) {
-                            releases = Jdk8.RHEL6_X86_64_RPMS;
-                        }
-                        break;
-                    case RHEL7:
-                        if (fatalErrorLog.getJavaSpecification() == JavaSpecification.JDK8) {
-                            if (fatalErrorLog.getArch() == Arch.X86_64) {
-                                releases = Jdk8.RHEL7_X86_64_RPMS;
-                            } else if (fatalErrorLog.getArch() == Arch.PPC64) {
-                                releases = Jdk8.RHEL7_PPC64_RPMS;
-                            } else if (fatalErrorLog.getArch() == Arch.PPC64LE) {
-                                releases = Jdk8.RHEL7_PPC64LE_RPMS;
-                            }
-                        } else if (fatalErrorLog.getJavaSpecification() == JavaSpecification.JDK11) {
-                            releases = Jdk11.RHEL7_X86_64_RPMS;
-                        }
-                        break;
-                    case RHEL8:
-                        if (fatalErrorLog.getJavaSpecification() == JavaSpecification.JDK8) {
-                            releases = Jdk8.RHEL8_X86_64_RPMS;
-                        } else if (fatalErrorLog.getJavaSpecification() == JavaSpecification.JDK11) {
-                            releases = Jdk11.RHEL8_X86_64_RPMS;
-                        } else if (fatalErrorLog.getJavaSpecification() == JavaSpecification.JDK17) {
-                            releases = Jdk17.RHEL8_X86_64_RPMS;
-                        } else if (fatalErrorLog.getJavaSpecification() == JavaSpecification.JDK21) {
-                            releases = Jdk21.RHEL8_X86_64_RPMS;
-                        }
-                        break;
-                    case RHEL9:
-                        if (fatalErrorLog.getJavaSpecification() == JavaSpecification.JDK8) {
-                            releases = Jdk8.RHEL9_X86_64_RPMS;
-                        } else if (fatalErrorLog.getJavaSpecification() == JavaSpecification.JDK11) {
-                            releases = Jdk11.RHEL9_X86_64_RPMS;
-                        } else if (fatalErrorLog.getJavaSpecification() == JavaSpecification.JDK17) {
-                            releases = Jdk17.RHEL9_X86_64_RPMS;
-                        } else if (fatalErrorLog.getJavaSpecification() == JavaSpecification.JDK21) {
-                            releases = Jdk21.RHEL9_X86_64_RPMS;
-                        }
-                        break;
-                    default:
-                    }
-                } else if (fatalErrorLog.isRhLinuxZipInstall()) {
-                    switch (fatalErrorLog.getJavaSpecification()) {
-                    case JDK8:
-                        releases = Jdk8.RHEL_ZIPS;
-                        break;
-                    case JDK11:
-                        releases = Jdk11.RHEL_ZIPS;
-                        break;
-                    case JDK17:
-                        releases = Jdk17.RHEL_ZIPS;
-                        break;
-                    case JDK21:
-                        releases = Jdk21.RHEL_ZIPS;
-                        break;
-                    case UNKNOWN:
-                    default:
-                    }
-                }
-            } else if (fatalErrorLog.isRhWindowsZipInstall()) {
-                switch (fatalErrorLog.getJavaSpecification()) {
-                case JDK8:
-                    releases = Jdk8.WINDOWS_ZIPS;
-                    break;
-                case JDK11:
-                    releases = Jdk11.WINDOWS_ZIPS;
-                    break;
-                case JDK17:
-                    releases = Jdk17.WINDOWS_ZIPS;
-                    break;
-                case JDK21:
-                    releases = Jdk21.WINDOWS_ZIPS;
-                    break;
-                case UNKNOWN:
-                default:
-                }
-            }
-        }
-        return releases;
-
-    }
-
-    /**
-     * @param fatalErrorLog
-     *            The fatal error log.
-     * @return Latest JDK release date for the JDK that produced the fatal error log.
-     */
-    public static final Date getLatestJdkReleaseDate(FatalErrorLog fatalErrorLog) {
-        Date date = null;
-        HashMap<String, Release> releases = getJdkReleases(fatalErrorLog);
-        if (releases != null && releases.get("LATEST") != null) {
-            date = releases.get("LATEST").getBuildDate();
-        }
-        return date;
-    }
-
-    /**
-     * @param fatalErrorLog
-     *            The fatal error log.
-     * @return Latest JDK release number for the JDK that produced the fatal error log.
-     */
-    public static final int getLatestJdkReleaseNumber(FatalErrorLog fatalErrorLog) {
-        int number = 0;
-        HashMap<String, Release> releases = getJdkReleases(fatalErrorLog);
-        if (releases != null && !releases.isEmpty()) {
-            Release latest = releases.get("LATEST");
-            number = latest.getNumber();
-        }
-        return number;
-    }
-
-    /**
-     * @param fatalErrorLog
-     *            The fatal error log.
-     * @return Latest JDK release string for the JDK that produced the fatal error log.
-     */
-    public static final String getLatestJdkReleaseString(FatalErrorLog fatalErrorLog) {
-        String release = null;
-        HashMap<String, Release> releases = getJdkReleases(fatalErrorLog);
-        if (releases != null && !releases.isEmpty()) {
-            release = releases.get("LATEST").getVersion();
-        }
-        return release;
-    }
-
-    /**
-     * Get the value of a JVM option that specifies a number value.
-     * 
-     * For example:
-     * <ul>
-     * <li>The value for <code>-XX:MaxTenuringThreshold=9</code> is 9.</li>
-     * <li>The value for <code>-Dsun.rmi.dgc.client.gcInterval=3600000</code> is 3600000.</li>
-     * </ul>
-     * 
-     * @param option
-     *            The JVM option or system property.
-     * @return The JVM option or system property value, or <code>Integer.MIN_VALUE</code> if the option does not exist.
-     */
-    public static final long getNumberOptionValue(final String option) {
-        long value = Long.MIN_VALUE;
-        if (option != null) {
-            String regex = "^.+=(\\d{1,19})$";
-            Pattern pattern = Pattern.compile(regex);
-            Matcher matcher = pattern.matcher(option);
-            if (matcher.find()) {
-                value = Long.parseLong(matcher.group(1));
-            }
-        }
-        return value;
-    }
-
-    /**
-     * Identify the log line fatal error log event.
-     * 
-     * @param logLine
-     *            The log entry.
-     * @param priorEvent
-     *            The previous log line event.
-     * @return The <code>LogEventType</code> of the log entry.
-     */
-    public static final LogEventType identifyEventType(String logLine, LogEvent priorEvent) {
-        LogEventType logEventType = LogEventType.UNKNOWN;
-        if (ActiveLocale.match(logLine)
-                && (logLine.matches(ActiveLocale._REGEX_HEADER) || priorEvent instanceof ActiveLocale)) {
-            logEventType = LogEventType.ACTIVE_LOCALE;
-        } else if (BitsEvent.match(logLine)) {
-            logEventType = LogEventType.BITS;
-        } else if (BlankLine.match(logLine)) {
-            logEventType = LogEventType.BLANK_LINE;
-        } else if (CardTable.match(logLine)) {
-            logEventType = LogEventType.CARD_TABLE;
-        } else if (CdsArchive.match(logLine)) {
-            logEventType = LogEventType.CDS_ARCHIVE;
-        } else if (ClassesLoadedEvent.match(logLine)
-                && (logLine.matches(ClassesLoadedEvent._REGEX_HEADER) || priorEvent instanceof ClassesLoadedEvent)) {
-            logEventType = LogEventType.CLASSES_LOADED_EVENT;
-        } else if (ClassesRedefinedEvent.match(logLine) && (logLine.matches(ClassesRedefinedEvent._REGEX_HEADER)
-                || priorEvent instanceof ClassesRedefinedEvent)) {
-            logEventType = LogEventType.CLASSES_REDEFINED_EVENT;
-        } else if (ClassesUnloadedEvent.match(logLine) && (logLine.matches(ClassesUnloadedEvent._REGEX_HEADER)
-                || priorEvent instanceof ClassesUnloadedEvent)) {
-            logEventType = LogEventType.CLASSES_UNLOADED_EVENT;
-        } else if (CodeCache.match(logLine)) {
-            logEventType = LogEventType.CODE_CACHE;
-        } else if (CommandLine.match(logLine)) {
-            logEventType = LogEventType.COMMAND_LINE;
-        } else if (CompilationEvent.match(logLine)
-                && (logLine.matches(CompilationEvent._REGEX_HEADER) || priorEvent instanceof CompilationEvent)) {
-            logEventType = LogEventType.COMPILATION_EVENT;
-        } else if (CompressedClassSpace.match(logLine)) {
-            logEventType = LogEventType.COMPRESSED_CLASS_SPACE;
-        } else if (ConstantPool.match(logLine)) {
-            logEventType = LogEventType.CONSTANT_POOL;
-        } else if (ContainerInfo.match(logLine)) {
-            logEventType = LogEventType.CONTAINER_INFO;
-        } else if (CpuInfo.match(logLine)
-                && (logLine.matches(CpuInfo._REGEX_HEADER) || priorEvent instanceof CpuInfo)) {
-            logEventType = LogEventType.CPU_INFO;
-        } else if (CurrentCompileTask.match(logLine)) {
-            logEventType = LogEventType.CURRENT_COMPILE_TASK;
-        } else if (CurrentThread.match(logLine)) {
-            logEventType = LogEventType.CURRENT_THREAD;
-        } else if (DeoptimizationEvent.match(logLine)
-                && (logLine.matches(DeoptimizationEvent._REGEX_HEADER) || priorEvent instanceof DeoptimizationEvent)) {
-            logEventType = LogEventType.DEOPTIMIZATION_EVENT;
-        } else if (DllOperationEvent.match(logLine)
-                && (logLine.matches(DllOperationEvent._REGEX_HEADER) || priorEvent instanceof DllOperationEvent)) {
-            logEventType = LogEventType.DLL_OPERATION_EVENT;
-        } else if (DynamicLibrary.match(logLine)
-                && (logLine.matches(DynamicLibrary._REGEX_HEADER) || priorEvent instanceof DynamicLibrary)) {
-            logEventType = LogEventType.DYNAMIC_LIBRARY;
-        } else if (ElapsedTime.match(logLine)) {
-            logEventType = LogEventType.ELAPSED_TIME;
-        } else if (End.match(logLine)) {
-            logEventType = LogEventType.END;
-        } else if (EnvironmentVariable.match(logLine)
-                && (logLine.matches(EnvironmentVariable._REGEX_HEADER) || priorEvent instanceof EnvironmentVariable)) {
-            logEventType = LogEventType.ENVIRONMENT_VARIABLES;
-        } else if (Event.match(logLine) && (logLine.matches(Event._REGEX_HEADER) || priorEvent instanceof Event)) {
-            logEventType = LogEventType.EVENT;
-        } else if (ExceptionCounts.match(logLine)) {
-            logEventType = LogEventType.EXCEPTION_COUNTS;
-        } else if (GcHeapHistoryEvent.match(logLine)
-                && (logLine.matches(GcHeapHistoryEvent._REGEX_HEADER) || priorEvent instanceof GcHeapHistoryEvent)) {
-            logEventType = LogEventType.GC_HEAP_HISTORY_EVENT;
-        } else if (GcPreciousLog.match(logLine)) {
-            logEventType = LogEventType.GC_PRECIOUS_LOG;
-        } else if (GlobalFlag.match(logLine)) {
-            logEventType = LogEventType.GLOBAL_FLAGS;
-        } else if (Header.match(logLine)
-                && (priorEvent == null || priorEvent instanceof UnknownEvent || priorEvent instanceof Header)) {
-            logEventType = LogEventType.HEADER;
-        } else if (Heading.match(logLine)) {
-            logEventType = LogEventType.HEADING;
-        } else if (Heap.match(logLine) && (logLine.matches(Heap._REGEX_HEADER) || priorEvent instanceof Heap)) {
-            logEventType = LogEventType.HEAP;
-        } else if (HeapAddress.match(logLine)) {
-            logEventType = LogEventType.HEAP_ADDRESS;
-        } else if (HeapRegions.match(logLine)) {
-            logEventType = LogEventType.HEAP_REGIONS;
-        } else if (Host.match(logLine)) {
-            logEventType = LogEventType.HOST;
-        } else if (Instructions.match(logLine)) {
-            logEventType = LogEventType.INSTRUCTIONS;
-        } else if (InternalExceptionEvent.match(logLine) && (logLine.matches(InternalExceptionEvent._REGEX_HEADER)
-                || priorEvent instanceof InternalExceptionEvent)) {
-            logEventType = LogEventType.INTERNAL_EXCEPTION_EVENT;
-        } else if (InternalStatistic.match(logLine)
-                && (logLine.matches(InternalStatistic._REGEX_HEADER) || priorEvent instanceof InternalStatistic)) {
-            logEventType = LogEventType.INTERNAL_STATISTICS;
-        } else if (LdPreloadFile.match(logLine)
-                && (logLine.matches(LdPreloadFile._REGEX_HEADER) || priorEvent instanceof LdPreloadFile)) {
-            logEventType = LogEventType.LD_PRELOAD_FILE;
-        } else if (Libc.match(logLine)) {
-            logEventType = LogEventType.LIBC;
-        } else if (LoadAverage.match(logLine)) {
-            logEventType = LogEventType.LOAD_AVERAGE;
-        } else if (Logging.match(logLine)) {
-            logEventType = LogEventType.LOGGING;
-        } else if (MachCode.match(logLine)
-                && (logLine.matches(MachCode._REGEX_HEADER) || priorEvent instanceof MachCode)) {
-            logEventType = LogEventType.MACH_CODE;
-        } else if (MaxMapCount.match(logLine)) {
-            logEventType = LogEventType.MAX_MAP_COUNT;
-        } else if (Meminfo.match(logLine)
-                && (logLine.matches(Meminfo._REGEX_HEADER) || priorEvent instanceof Meminfo)) {
-            logEventType = LogEventType.MEMINFO;
-        } else if (Memory.match(logLine) && (logLine.matches(Memory._REGEX_HEADER) || priorEvent instanceof Memory)) {
-            logEventType = LogEventType.MEMORY;
-        } else if (Metaspace.match(logLine)) {
-            logEventType = LogEventType.METASPACE;
-        } else if (NarrowKlass.match(logLine)) {
-            logEventType = LogEventType.NARROW_KLASS;
-        } else if (NativeDecoderState.match(logLine)) {
-            logEventType = LogEventType.NATIVE_DECODER_STATE;
-        } else if (NativeMemoryTracking.match(logLine) && (logLine.matches(NativeMemoryTracking._REGEX_HEADER)
-                || priorEvent instanceof NativeMemoryTracking)) {
-            logEventType = LogEventType.NATIVE_MEMORY_TRACKING;
-        } else if (NumberEvent.match(logLine)) {
-            logEventType = LogEventType.NUMBER;
-        } else if (OsInfo.match(logLine)) {
-            logEventType = LogEventType.OS_INFO;
-        } else if (OsUptime.match(logLine)) {
-            logEventType = LogEventType.OS_UPTIME;
-        } else if (PeriodicNativeTrim.match(logLine)) {
-            logEventType = LogEventType.PERIODIC_NATIVE_TRIM;
-        } else if (PidMax.match(logLine)) {
-            logEventType = LogEventType.PID_MAX;
-        } else if (PollingPage.match(logLine)) {
-            logEventType = LogEventType.POLLING_PAGE;
-        } else if (ProcessMemory.match(logLine)) {
-            logEventType = LogEventType.PROCESS_MEMORY;
-        } else if (Register.match(logLine)) {
-            logEventType = LogEventType.REGISTER;
-        } else if (RegisterToMemoryMapping.match(logLine) && (logLine.matches(RegisterToMemoryMapping._REGEX_HEADER)
-                || priorEvent instanceof RegisterToMemoryMapping)) {
-            logEventType = LogEventType.REGISTER_TO_MEMORY_MAPPING;
-        } else if (Rlimit.match(logLine)) {
-            logEventType = LogEventType.RLIMIT;
-        } else if (SigInfo.match(logLine)) {
-            logEventType = LogEventType.SIGINFO;
-        } else if (SignalHandlers.match(logLine)) {
-            logEventType = LogEventType.SIGNAL_HANDLERS;
-        } else if (Stack.match(logLine)) {
-            logEventType = LogEventType.STACK;
-        } else if (StackSlotToMemoryMapping.match(logLine) && (logLine.matches(StackSlotToMemoryMapping._REGEX_HEADER)
-                || priorEvent instanceof StackSlotToMemoryMapping)) {
-            logEventType = LogEventType.STACK_SLOT_TO_MEMORY_MAPPING;
-        } else if (Thread.match(logLine)) {
-            logEventType = LogEventType.THREAD;
-        } else if (ThreadsActiveCompile.match(logLine)) {
-            logEventType = LogEventType.THREADS_ACTIVE_COMPILE;
-        } else if (ThreadsClassSmrInfo.match(logLine)
-                && (logLine.matches(ThreadsClassSmrInfo._REGEX_HEADER) || priorEvent instanceof ThreadsClassSmrInfo)) {
-            logEventType = LogEventType.THREADS_CLASS_SMR_INFO;
-        } else if (ThreadsMax.match(logLine)) {
-            logEventType = LogEventType.THREADS_MAX;
-        } else if (Time.match(logLine)) {
-            logEventType = LogEventType.TIME;
-        } else if (Timeout.match(logLine)) {
-            logEventType = LogEventType.TIMEOUT;
-        } else if (TimeElapsedTime.match(logLine)) {
-            logEventType = LogEventType.TIME_ELAPSED_TIME;
-        } else if (Timezone.match(logLine)) {
-            logEventType = LogEventType.TIMEZONE;
-        } else if (TopOfStack.match(logLine)) {
-            logEventType = LogEventType.TOP_OF_STACK;
-        } else if (TransparentHugepageDefrag.match(logLine)) {
-            logEventType = LogEventType.TRANSPARENT_HUGEPAGE_DEFRAG;
-        } else if (TransparentHugepageEnabled.match(logLine)) {
-            logEventType = LogEventType.TRANSPARENT_HUGEPAGE_ENABLED;
-        } else if (Uid.match(logLine)) {
-            logEventType = LogEventType.UID;
-        } else if (Umask.match(logLine)) {
-            logEventType = LogEventType.UMASK;
-        } else if (Uname.match(logLine)) {
-            logEventType = LogEventType.UNAME;
-        } else if (VmArguments.match(logLine)) {
-            logEventType = LogEventType.VM_ARGUMENTS;
-        } else if (VmInfo.match(logLine)) {
-            logEventType = LogEventType.VM_INFO;
-        } else if (VmMutex.match(logLine)) {
-            logEventType = LogEventType.VM_MUTEX;
-        } else if (VmOperation.match(logLine)) {
-            logEventType = LogEventType.VM_OPERATION;
-        } else if (VmOperationEvent.match(logLine)
-                && (logLine.matches(VmOperationEvent._REGEX_HEADER) || priorEvent instanceof VmOperationEvent)) {
-            logEventType = LogEventType.VM_OPERATION_EVENT;
-        } else if (VmState.match(logLine)) {
-            logEventType = LogEventType.VM_STATE;
-        } else if (VirtualizationInfo.match(logLine)
-                && (logLine.matches(VirtualizationInfo._REGEX_HEADER) || priorEvent instanceof VirtualizationInfo)) {
-            logEventType = LogEventType.VIRTUALIZATION_INFO;
-        } else if (ZgcGlobals.match(logLine)) {
-            logEventType = LogEventType.ZGC_GLOBALS;
-        } else if (ZgcMetadataBits.match(logLine)) {
-            logEventType = LogEventType.ZGC_METADATA_BITS;
-        } else if (ZgcGlobals.match(logLine)) {
-            logEventType = LogEventType.ZGC_GLOBALS;
-        } else if (ZgcMetadataBits.match(logLine)) {
-            logEventType = LogEventType.ZGC_METADATA_BITS;
-        } else if (ZgcPageTable.match(logLine)) {
-            logEventType = LogEventType.ZGC_PAGE_TABLE;
-        } else if (ZgcPhaseSwitchEvent.match(logLine)) {
-            logEventType = LogEventType.ZGC_PHASE_SWITCH_EVENT;
-        }
-        return logEventType;
-    }
-
-    /**
-     * Determine if a build date is a known date/time or an estimate. Estimate have 0 for hh:mm:ss.
-     * 
-     * The following build date/time is a known date/time:
-     * 
-     * Apr 19 2022 00:14:41
-     * 
-     * The following build date/time is an estimate:
-     * 
-     * Apr 19 2022 00:00:00
-     * 
-     * @param buildDate
-     *            The JDK build date/time, or an estimate if unknown.
-     * 
-     * @return true if the JDK build date is known, false otherwise.
-     */
-    public static final boolean isBuildDateKnown(Date buildDate) {
-        boolean isBuildDateKnown = false;
-        Calendar calendar = Calendar.getInstance();
-        calendar.setTime(buildDate);
-        if (!(calendar.get(Calendar.HOUR) == 0 && calendar.get(Calendar.MINUTE) == 0
-                && calendar.get(Calendar.SECOND) == 0)) {
-            isBuildDateKnown = true;
-        }
-        return isBuildDateKnown;
-    }
-
-    /**
-     * @param fatalErrorLog
-     *            The fatal error log.
-     * @return true if the JDK that produced the fatal error log is the latest release, false otherwise.
-     */
-    public static final boolean isLatestJdkRelease(FatalErrorLog fatalErrorLog) {
-        boolean isLatestRelease = true;
-        HashMap<String, Release> releases = getJdkReleases(fatalErrorLog);
-        if (releases != null && !releases.isEmpty()) {
-            Release latest = releases.get("LATEST");
-            if (latest != null) {
-                if (latest.getVersion() != null && !latest.getVersion().equals(fatalErrorLog.getJdkReleaseString())) {
-                    isLatestRelease = false;
-                } else if (latest.getBuildDate() != null
-                        && !latest.getBuildDate().equals(fatalErrorLog.getJdkReleaseDate())) {
-                    // There is a newer release with the same release string
-                    isLatestRelease = false;
-                }
-            }
-        }
-        return isLatestRelease;
-    }
-
-    /**
-     * Determine if a JVM option is explicitly disabled. For example, <code>-XX:-TraceClassUnloading</code> is disabled.
-     * 
-     * @param option
-     *            The JVM option.
-     * @return True if the JVM option is disabled, false otherwise.
-     */
-    public static final boolean isOptionDisabled(final String option) {
-        boolean disabled = false;
-        if (option != null) {
-            disabled = option.matches("^-XX:-.+$");
-        }
-        return disabled;
-    }
-
-    /**
-     * Determine if a JVM option is explicitly enabled. For example, <code>-XX:+TraceClassUnloading</code> is enabled.
-     * 
-     * @param option
-     *            The JVM option.
-     * @return True if the JVM option is enabled, false otherwise.
-     */
-    public static final boolean isOptionEnabled(final String option) {
-        boolean enabled = false;
-        if (option != null) {
-            enabled = option.matches("^-XX:\\+.+$");
-        }
-        return enabled;
-    }
-
-    /**
-     * @param jdkReleaseString
-     *            The JDK release string. For example: "11.0.15+10-LTS".
-     * @param releases
-     *            The JDK releases for a given OS and distribution method (e.g. zip, rpm).
-     * @return True if the release string exists in the releases, false otherwise.
-     */
-    public static final boolean isReleaseStringInReleases(String jdkReleaseString, HashMap<String, Release> releases) {
-        boolean containsJdkReleaseString = false;
-        Iterator<Entry<String, Release>> i = releases.entrySet().iterator();
-        while (i.hasNext()) {
-            Entry<String, Release> entry = i.next();
-            Release release = entry.getValue();
-            if (release.getVersion().equals(jdkReleaseString)) {
-                containsJdkReleaseString = true;
-                break;
-            }
-        }
-        return containsJdkReleaseString;
-    }
-
-    /**
-     * Create <code>LogEvent</code> from VM log line.
-     * 
-     * @param logLine
-     *            The log line as it appears in the VM log.
-     * @param priorEvent
-     *            The previous log line event.
-     * @return The <code>LogEvent</code> corresponding to the log line.
-     */
-    public static final LogEvent parseLogLine(String logLine, LogEvent priorEvent) {
-        LogEventType eventType = identifyEventType(logLine, priorEvent);
+    public static final LogEvent createLogEvent(LogEventType eventType, String logLine) {
         LogEvent event = null;
         switch (eventType) {
         case ACTIVE_LOCALE:
@@ -1320,7 +664,981 @@ public class JdkUtil {
         default:
             throw new AssertionError("Unexpected event type value: " + eventType);
         }
-        return event;
+        return event;
+    }
+
+    /**
+     * Get the bytes of a JVM option that specifies a byte value. For example, the bytes for <code>128k</code> is 128 x
+     * 1024 = 131,072.
+     * 
+     * @param optionValue
+     *            The JVM option value.
+     * @return The JVM option value in bytes, or <code>Long.MIN_VALUE</code> if the option does not exist
+     */
+    public static final long getByteOptionBytes(final String optionValue) {
+        long bytes = Long.MIN_VALUE;
+        if (optionValue != null) {
+            char fromUnits;
+            long value;
+            Pattern pattern = PatternRegistry.getPattern(JdkRegEx.OPTION_SIZE_BYTES);
+            Matcher matcher = PatternRegistry.matcher(pattern, optionValue);
+            if (matcher.find()) {
+                value = Long.parseLong(matcher.group(2));
+                if (matcher.group(3) != null) {
+                    fromUnits = matcher.group(3).charAt(0);
+                } else {
+                    fromUnits = 'B';
+                }
+                char toUnits = 'B';
+                if (fromUnits == toUnits) {
+                    bytes = value;
+                } else {
+                    bytes = JdkUtil.convertSize(value, fromUnits, toUnits);
+                }
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Get the value of a JVM option that specifies a byte value. For example, the value for <code>-Xss128k</code> is
+     * 128k. The value for <code>-XX:PermSize=128M</code> is 128M.
+     * 
+     * @param option
+     *            The JVM option.
+     * @return The JVM option value, or null if the option does not exist.
+     */
+    public static final String getByteOptionValue(final String option) {
+        String value = null;
+        if (option != null) {
+            String regex = "^-[a-zA-Z:.]+={0,1}(" + JdkRegEx.OPTION_SIZE_BYTES + ")$";
+            Pattern pattern = PatternRegistry.getPattern(regex);
+            Matcher matcher = PatternRegistry.matcher(pattern, option);
+            if (matcher.find()) {
+                value = matcher.group(1);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * @param jdkReleaseString
+     *            The JDK release string. For example: "11.0.15+10-LTS".
+     * @param releases
+     *            The JDK releases for a given OS and distribution method (e.g. zip, rpm).
+     * @return The first release that matches the build string, or null if none found.
+     */
+    public static final Release getFirstReleaseFromReleases(String jdkReleaseString,
+            HashMap<String, Release> releases) {
+        Release firstRelease = null;
+        Iterator<Entry<String, Release>> i = releases.entrySet().iterator();
+        while (i.hasNext()) {
+            Entry<String, Release> entry = i.next();
+            Release release = entry.getValue();
+            if (release.getVersion().equals(jdkReleaseString)) {
+                firstRelease = release;
+                break;
+            }
+        }
+        return firstRelease;
+    }
+
+    /**
+     * @param version
+     *            The JDK version.
+     * @return The Java specification as a release number that can be used for comparing release order.
+     */
+    public static final int getJavaSpecificationNumber(JavaSpecification version) {
+        int javaSpecificationNumber = Integer.MIN_VALUE;
+        if (version != JavaSpecification.UNKNOWN) {
+            javaSpecificationNumber = Integer.parseInt(version.toString().substring(3));
+        }
+        return javaSpecificationNumber;
+    }
+
+    /**
+     * @param jdk11ReleaseString
+     *            The JDK11 release string (e.g. 11.0.9+11-LTS).
+     * @return The JDK11 update number (e.g. 9).
+     */
+    public static final int getJdk11UpdateNumber(String jdk11ReleaseString) {
+        int jdk11UpdateNumber = Integer.MIN_VALUE;
+        String regEx = "11.0.(\\d{1,}).+";
+        Pattern pattern = PatternRegistry.getPattern(regEx);
+        Matcher matcher = PatternRegistry.matcher(pattern, jdk11ReleaseString);
+        if (matcher.find()) {
+            jdk11UpdateNumber = Integer.parseInt(matcher.group(1));
+        }
+        return jdk11UpdateNumber;
+    }
+
+    /**
+     * @param jdk17ReleaseString
+     *            The JDK17 release string (e.g. 17.0.4+8-LTS).
+     * @return The JDK update number (e.g. 4).
+     */
+    public static final int getJdk17UpdateNumber(String jdk17ReleaseString) {
+        int jdk17UpdateNumber = Integer.MIN_VALUE;
+        String regEx = "17.0.(\\d{1,}).+";
+        Pattern pattern = PatternRegistry.getPattern(regEx);
+        Matcher matcher = PatternRegistry.matcher(pattern, jdk17ReleaseString);
+        if (matcher.find()) {
+            jdk17UpdateNumber = Integer.parseInt(matcher.group(1));
+        }
+        return jdk17UpdateNumber;
+    }
+
+    /**
+     * @param jdk8ReleaseString
+     *            The JDK8 release string (e.g. 1.8.0_222-b10).
+     * @return The JDK8 update number (e.g. 222).
+     */
+    public static final int getJdk8UpdateNumber(String jdk8ReleaseString) {
+        int jdk8UpdateNumber = Integer.MIN_VALUE;
+        String regEx = "(1.)?8.0_(\\d{1,}).+";
+        Pattern pattern = PatternRegistry.getPattern(regEx);
+        Matcher matcher = PatternRegistry.matcher(pattern, jdk8ReleaseString);
+        if (matcher.find()) {
+            jdk8UpdateNumber = Integer.parseInt(matcher.group(2));
+        }
+        return jdk8UpdateNumber;
+    }
+
+    /**
+     * @param fatalErrorLog
+     *            The fatal error log.
+     * @return The known release date for the JDK build that produced the fatal error log.
+     */
+    public static final Date getJdkReleaseDate(FatalErrorLog fatalErrorLog) {
+        Date date = null;
+        if (fatalErrorLog != null) {
+            Release release = null;
+            HashMap<String, Release> releases = getJdkReleases(fatalErrorLog);
+            if (releases != null && !releases.isEmpty()) {
+                if (fatalErrorLog.isRhRpmInstall()) {
+                    release = releases.get(fatalErrorLog.getRpmDirectory());
+                } else if (fatalErrorLog.isRhLinuxZipInstall() || fatalErrorLog.isRhWindowsZipInstall()) {
+                    release = releases.get(fatalErrorLog.getJdkReleaseString());
+                }
+            } else {
+                // Approximate release
+                release = fatalErrorLog.getFirstRelease(fatalErrorLog.getJdkReleaseString());
+            }
+            if (release != null) {
+                date = release.getBuildDate();
+            }
+        }
+        return date;
+    }
+
+    /**
+     * @param fatalErrorLog
+     *            The fatal error log.
+     * @return The release number for the JDK that produced the fatal error log.
+     */
+    public static final int getJdkReleaseNumber(FatalErrorLog fatalErrorLog) {
+        int number = 0;
+        if (fatalErrorLog != null) {
+            HashMap<String, Release> releases = getJdkReleases(fatalErrorLog);
+            if (releases != null && !releases.isEmpty()) {
+                Release release = null;
+                if (fatalErrorLog.isRhRpmInstall()) {
+                    release = releases.get(fatalErrorLog.getRpmDirectory());
+                } else if (fatalErrorLog.isRhLinuxZipInstall() || fatalErrorLog.isRhWindowsZipInstall()) {
+                    release = releases.get(fatalErrorLog.getJdkReleaseString());
+                }
+                if (release != null) {
+                    number = release.getNumber();
+                }
+            }
+        }
+        return number;
+    }
+
+    /**
+     * @param fatalErrorLog
+     *            The fatal error log.
+     * @return The JDK releases for the JDK that produced the fatal error log.
+     */
+    public static final HashMap<String, Release> getJdkReleases(FatalErrorLog fatalErrorLog) {
+        HashMap<String, Release> releases = null;
+        if (fatalErrorLog.getJavaVendor().equals(JavaVendor.RED_HAT)) {
+            if (fatalErrorLog.isRhel()) {
+                if (fatalErrorLog.isRhRpmInstall()) {
+                    switch (fatalErrorLog.getOsVersion()) {
+                    case RHEL6:
+                        if (fatalErrorLog.getJavaSpecification() == JavaSpecification.JDK8) {
+                            releases = Jdk8.RHEL6_X86_64_RPMS;
+                        }
+                        break;
+                    case RHEL7:
+                        if (fatalErrorLog.getJavaSpecification() == JavaSpecification.JDK8) {
+                            if (fatalErrorLog.getArch() == Arch.X86_64) {
+                                releases = Jdk8.RHEL7_X86_64_RPMS;
+                            } else if (fatalErrorLog.getArch() == Arch.PPC64) {
+                                releases = Jdk8.RHEL7_PPC64_RPMS;
+                            } else if (fatalErrorLog.getArch() == Arch.PPC64LE) {
+                                releases = Jdk8.RHEL7_PPC64LE_RPMS;
+                            }
+                        } else if (fatalErrorLog.getJavaSpecification() == JavaSpecification.JDK11) {
+                            releases = Jdk11.RHEL7_X86_64_RPMS;
+                        }
+                        break;
+                    case RHEL8:
+                        if (fatalErrorLog.getJavaSpecification() == JavaSpecification.JDK8) {
+                            releases = Jdk8.RHEL8_X86_64_RPMS;
+                        } else if (fatalErrorLog.getJavaSpecification() == JavaSpecification.JDK11) {
+                            releases = Jdk11.RHEL8_X86_64_RPMS;
+                        } else if (fatalErrorLog.getJavaSpecification() == JavaSpecification.JDK17) {
+                            releases = Jdk17.RHEL8_X86_64_RPMS;
+                        } else if (fatalErrorLog.getJavaSpecification() == JavaSpecification.JDK21) {
+                            releases = Jdk21.RHEL8_X86_64_RPMS;
+                        }
+                        break;
+                    case RHEL9:
+                        if (fatalErrorLog.getJavaSpecification() == JavaSpecification.JDK8) {
+                            releases = Jdk8.RHEL9_X86_64_RPMS;
+                        } else if (fatalErrorLog.getJavaSpecification() == JavaSpecification.JDK11) {
+                            releases = Jdk11.RHEL9_X86_64_RPMS;
+                        } else if (fatalErrorLog.getJavaSpecification() == JavaSpecification.JDK17) {
+                            releases = Jdk17.RHEL9_X86_64_RPMS;
+                        } else if (fatalErrorLog.getJavaSpecification() == JavaSpecification.JDK21) {
+                            releases = Jdk21.RHEL9_X86_64_RPMS;
+                        }
+                        break;
+                    default:
+                    }
+                } else if (fatalErrorLog.isRhLinuxZipInstall()) {
+                    switch (fatalErrorLog.getJavaSpecification()) {
+                    case JDK8:
+                        releases = Jdk8.RHEL_ZIPS;
+                        break;
+                    case JDK11:
+                        releases = Jdk11.RHEL_ZIPS;
+                        break;
+                    case JDK17:
+                        releases = Jdk17.RHEL_ZIPS;
+                        break;
+                    case JDK21:
+                        releases = Jdk21.RHEL_ZIPS;
+                        break;
+                    case UNKNOWN:
+                    default:
+                    }
+                }
+            } else if (fatalErrorLog.isRhWindowsZipInstall()) {
+                switch (fatalErrorLog.getJavaSpecification()) {
+                case JDK8:
+                    releases = Jdk8.WINDOWS_ZIPS;
+                    break;
+                case JDK11:
+                    releases = Jdk11.WINDOWS_ZIPS;
+                    break;
+                case JDK17:
+                    releases = Jdk17.WINDOWS_ZIPS;
+                    break;
+                case JDK21:
+                    releases = Jdk21.WINDOWS_ZIPS;
+                    break;
+                case UNKNOWN:
+                default:
+                }
+            }
+        }
+        return releases;
+
+    }
+
+    /**
+     * @param javaSpecification
+     *            The Java specification.
+     * @param jdkReleaseString
+     *            The JDK release string (e.g. 1.8.0_222-b10, 11.0.9+11-LTS).
+     * @return The update number (e.g. 222, 9), or <code>Integer.MIN_VALUE</code> if it cannot be determined.
+     */
+    public static final int getJdkUpdateNumber(JavaSpecification javaSpecification, String jdkReleaseString) {
+        int updateNumber = Integer.MIN_VALUE;
+        if (jdkReleaseString != null) {
+            switch (javaSpecification) {
+            case JDK8:
+                updateNumber = getJdk8UpdateNumber(jdkReleaseString);
+                break;
+            case JDK11:
+                updateNumber = getJdk11UpdateNumber(jdkReleaseString);
+                break;
+            case JDK17:
+                updateNumber = getJdk17UpdateNumber(jdkReleaseString);
+                break;
+            case UNKNOWN:
+                break;
+            default:
+                String regEx = "^" + getJavaSpecificationNumber(javaSpecification) + "\\.0\\.(\\d{1,}).*$";
+                Matcher matcher = PatternRegistry.matcher(PatternRegistry.getPattern(regEx), jdkReleaseString);
+                if (matcher.find()) {
+                    updateNumber = Integer.parseInt(matcher.group(1));
+                }
+                break;
+            }
+        }
+        return updateNumber;
+    }
+
+    /**
+     * @param fatalErrorLog
+     *            The fatal error log.
+     * @return Latest JDK release date for the JDK that produced the fatal error log.
+     */
+    public static final Date getLatestJdkReleaseDate(FatalErrorLog fatalErrorLog) {
+        Date date = null;
+        HashMap<String, Release> releases = getJdkReleases(fatalErrorLog);
+        if (releases != null && releases.get("LATEST") != null) {
+            date = releases.get("LATEST").getBuildDate();
+        }
+        return date;
+    }
+
+    /**
+     * @param fatalErrorLog
+     *            The fatal error log.
+     * @return Latest JDK release number for the JDK that produced the fatal error log.
+     */
+    public static final int getLatestJdkReleaseNumber(FatalErrorLog fatalErrorLog) {
+        int number = 0;
+        HashMap<String, Release> releases = getJdkReleases(fatalErrorLog);
+        if (releases != null && !releases.isEmpty()) {
+            Release latest = releases.get("LATEST");
+            number = latest.getNumber();
+        }
+        return number;
+    }
+
+    /**
+     * @param fatalErrorLog
+     *            The fatal error log.
+     * @return Latest JDK release string for the JDK that produced the fatal error log.
+     */
+    public static final String getLatestJdkReleaseString(FatalErrorLog fatalErrorLog) {
+        String release = null;
+        HashMap<String, Release> releases = getJdkReleases(fatalErrorLog);
+        if (releases != null && !releases.isEmpty()) {
+            release = releases.get("LATEST").getVersion();
+        }
+        return release;
+    }
+
+    /**
+     * Get the value of a JVM option that specifies a number value.
+     * 
+     * For example:
+     * <ul>
+     * <li>The value for <code>-XX:MaxTenuringThreshold=9</code> is 9.</li>
+     * <li>The value for <code>-Dsun.rmi.dgc.client.gcInterval=3600000</code> is 3600000.</li>
+     * </ul>
+     * 
+     * @param option
+     *            The JVM option or system property.
+     * @return The JVM option or system property value, or <code>Integer.MIN_VALUE</code> if the option does not exist.
+     */
+    public static final long getNumberOptionValue(final String option) {
+        long value = Long.MIN_VALUE;
+        if (option != null) {
+            String regex = "^.+=(\\d{1,19})$";
+            Pattern pattern = PatternRegistry.getPattern(regex);
+            Matcher matcher = PatternRegistry.matcher(pattern, option);
+            if (matcher.find()) {
+                value = Long.parseLong(matcher.group(1));
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Get the native library of a stack frame.
+     * 
+     * For example, the library for <code>V  [libjvm.so+0x42737e]  MinINode::Ideal(PhaseGVN*, bool)+0x15e</code> is
+     * <code>libjvm.so</code>.
+     * 
+     * @param stackFrame
+     *            The stack frame.
+     * @return The native library of the stack frame, or null if it is not a native frame.
+     */
+    public static final String getStackFrameLibrary(final String stackFrame) {
+        String library = null;
+        int start = stackFrame == null ? -1 : stackFrame.indexOf('[');
+        if (start == 2 || start == 3) {
+            int end = stackFrame.indexOf(']');
+            if (end > start + 1) {
+                library = stackFrame.substring(start + 1, end);
+                int offset = library.indexOf('+');
+                if (offset >= 0) {
+                    library = library.substring(0, offset);
+                }
+            }
+        }
+        return library;
+    }
+
+    /**
+     * Get the function or method of a stack frame, without the arguments or offset.
+     * 
+     * For example:
+     * <ul>
+     * <li>The symbol for <code>V  [libjvm.so+0x42737e]  MinINode::Ideal(PhaseGVN*, bool)+0x15e</code> is
+     * <code>MinINode::Ideal</code>.</li>
+     * <li>The symbol for <code>J 3896 C2 java.lang.String.compareTo(Ljava/lang/Object;)I (9 bytes)</code> is
+     * <code>java.lang.String.compareTo</code>.</li>
+     * <li>The symbol for <code>v  ~BufferBlob::flush_icache_stub</code> is
+     * <code>BufferBlob::flush_icache_stub</code>.</li>
+     * </ul>
+     * 
+     * @param stackFrame
+     *            The stack frame.
+     * @return The function or method of the stack frame, or null if it cannot be determined.
+     */
+    public static final String getStackFrameSymbol(final String stackFrame) {
+        String symbol = null;
+        if (stackFrame != null && stackFrame.length() > 3) {
+            int start = stackFrame.indexOf('[');
+            int stub = stackFrame.indexOf('~');
+            if (start == 2 || start == 3) {
+                int end = stackFrame.indexOf(']');
+                if (end > start) {
+                    symbol = stackFrame.substring(end + 1).trim();
+                }
+            } else if (stub == 2 || stub == 3) {
+                symbol = stackFrame.substring(stub + 1).trim();
+            } else if (stackFrame.charAt(0) == 'J' || stackFrame.charAt(0) == 'j') {
+                for (String token : stackFrame.split("\\s+")) {
+                    if (token.indexOf('(') > 0) {
+                        symbol = token;
+                        break;
+                    }
+                }
+            }
+        }
+        if (symbol != null) {
+            int end = symbol.indexOf('(');
+            int offset = symbol.indexOf("+0x");
+            if (offset >= 0 && (end < 0 || offset < end)) {
+                end = offset;
+            }
+            if (end >= 0) {
+                symbol = symbol.substring(0, end);
+            }
+            if (symbol.isEmpty()) {
+                symbol = null;
+            }
+        }
+        return symbol;
+    }
+
+    /**
+     * Continuation fast path for multi-line blocks. Blocks (e.g. threads, dynamic libraries, events) are typically
+     * hundreds or thousands of consecutive lines, so when the prior event is a block event, the block is tested first.
+     * Blank lines and headings terminate a block and always go through the full identification.
+     * 
+     * @param logLine
+     *            The log entry.
+     * @param priorEvent
+     *            The previous log line event.
+     * @return The <code>LogEventType</code> of the block the log entry continues, or <code>LogEventType.UNKNOWN</code>
+     *         if the log entry does not continue the prior event block.
+     */
+    private static final LogEventType identifyBlockContinuation(CharSequence logLine, LogEvent priorEvent) {
+        LogEventType logEventType = LogEventType.UNKNOWN;
+        if (priorEvent != null && !isBlockTerminator(logLine)) {
+            if (priorEvent instanceof ActiveLocale && ActiveLocale.match(logLine)) {
+                logEventType = LogEventType.ACTIVE_LOCALE;
+            } else if (priorEvent instanceof ClassesLoadedEvent && ClassesLoadedEvent.match(logLine)) {
+                logEventType = LogEventType.CLASSES_LOADED_EVENT;
+            } else if (priorEvent instanceof ClassesRedefinedEvent && ClassesRedefinedEvent.match(logLine)) {
+                logEventType = LogEventType.CLASSES_REDEFINED_EVENT;
+            } else if (priorEvent instanceof ClassesUnloadedEvent && ClassesUnloadedEvent.match(logLine)) {
+                logEventType = LogEventType.CLASSES_UNLOADED_EVENT;
+            } else if (priorEvent instanceof CompilationEvent && CompilationEvent.match(logLine)) {
+                logEventType = LogEventType.COMPILATION_EVENT;
+            } else if (priorEvent instanceof CpuInfo && CpuInfo.match(logLine)) {
+                logEventType = LogEventType.CPU_INFO;
+            } else if (priorEvent instanceof DeoptimizationEvent && DeoptimizationEvent.match(logLine)) {
+                logEventType = LogEventType.DEOPTIMIZATION_EVENT;
+            } else if (priorEvent instanceof DllOperationEvent && DllOperationEvent.match(logLine)) {
+                logEventType = LogEventType.DLL_OPERATION_EVENT;
+            } else if (priorEvent instanceof DynamicLibrary && DynamicLibrary.match(logLine)) {
+                logEventType = LogEventType.DYNAMIC_LIBRARY;
+            } else if (priorEvent instanceof EnvironmentVariable && EnvironmentVariable.match(logLine)) {
+                logEventType = LogEventType.ENVIRONMENT_VARIABLES;
+            } else if (priorEvent instanceof Event && Event.match(logLine)) {
+                logEventType = LogEventType.EVENT;
+            } else if (priorEvent instanceof GcHeapHistoryEvent && GcHeapHistoryEvent.match(logLine)) {
+                logEventType = LogEventType.GC_HEAP_HISTORY_EVENT;
+            } else if (priorEvent instanceof Heap && Heap.match(logLine)) {
+                logEventType = LogEventType.HEAP;
+            } else if (priorEvent instanceof InternalExceptionEvent && InternalExceptionEvent.match(logLine)) {
+                logEventType = LogEventType.INTERNAL_EXCEPTION_EVENT;
+            } else if (priorEvent instanceof InternalStatistic && InternalStatistic.match(logLine)) {
+                logEventType = LogEventType.INTERNAL_STATISTICS;
+            } else if (priorEvent instanceof LdPreloadFile && LdPreloadFile.match(logLine)) {
+                logEventType = LogEventType.LD_PRELOAD_FILE;
+            } else if (priorEvent instanceof MachCode && MachCode.match(logLine)) {
+                logEventType = LogEventType.MACH_CODE;
+            } else if (priorEvent instanceof Meminfo && Meminfo.match(logLine)) {
+                logEventType = LogEventType.MEMINFO;
+            } else if (priorEvent instanceof Memory && Memory.match(logLine)) {
+                logEventType = LogEventType.MEMORY;
+            } else if (priorEvent instanceof NativeMemoryTracking && NativeMemoryTracking.match(logLine)) {
+                logEventType = LogEventType.NATIVE_MEMORY_TRACKING;
+            } else if (priorEvent instanceof RegisterToMemoryMapping && RegisterToMemoryMapping.match(logLine)) {
+                logEventType = LogEventType.REGISTER_TO_MEMORY_MAPPING;
+            } else if (priorEvent instanceof StackSlotToMemoryMapping && StackSlotToMemoryMapping.match(logLine)) {
+                logEventType = LogEventType.STACK_SLOT_TO_MEMORY_MAPPING;
+            } else if (priorEvent instanceof Thread && Thread.match(logLine)) {
+                logEventType = LogEventType.THREAD;
+            } else if (priorEvent instanceof ThreadsClassSmrInfo && ThreadsClassSmrInfo.match(logLine)) {
+                logEventType = LogEventType.THREADS_CLASS_SMR_INFO;
+            } else if (priorEvent instanceof VirtualizationInfo && VirtualizationInfo.match(logLine)) {
+                logEventType = LogEventType.VIRTUALIZATION_INFO;
+            } else if (priorEvent instanceof VmOperationEvent && VmOperationEvent.match(logLine)) {
+                logEventType = LogEventType.VM_OPERATION_EVENT;
+            }
+        }
+        return logEventType;
+    }
+
+    /**
+     * Identify the log line fatal error log event. Event types that cannot match the first character of the log line
+     * are skipped without running their regular expressions (see {@link LogEventTypeIndex}).
+     * 
+     * @param logLine
+     *            The log entry.
+     * @param priorEvent
+     *            The previous log line event.
+     * @return The <code>LogEventType</code> of the log entry.
+     */
+    public static final LogEventType identifyEventType(CharSequence logLine, LogEvent priorEvent) {
+        return identifyEventType(logLine, priorEvent, Section.UNKNOWN);
+    }
+
+    /**
+     * Identify the log line fatal error log event, only testing the event types that can appear in the section. If
+     * none match, the log line is tested against all event types to handle out of place logging (e.g. a partial or
+     * edited fatal error log).
+     * 
+     * @param logLine
+     *            The log entry.
+     * @param priorEvent
+     *            The previous log line event.
+     * @param section
+     *            The section the log line is in, or <code>Section.UNKNOWN</code> if not known.
+     * @return The <code>LogEventType</code> of the log entry, or <code>LogEventType.UNKNOWN</code> if matching exceeds
+     *         the step budget (see <code>Constants.REGEX_STEP_BUDGET_PER_CHARACTER</code>).
+     */
+    public static final LogEventType identifyEventType(CharSequence logLine, LogEvent priorEvent, Section section) {
+        // Abort runaway matching
+        long budget = (long) org.github.krashpad.util.Constants.REGEX_STEP_BUDGET_PER_CHARACTER
+                * (logLine.length() + 1);
+        CharSequence budgetedLogLine = new StepBudgetCharSequence(logLine, budget);
+        LogEventType logEventType;
+        try {
+            logEventType = identifyBlockContinuation(budgetedLogLine, priorEvent);
+            if (logEventType == LogEventType.UNKNOWN) {
+                logEventType = identifyEventType(budgetedLogLine, priorEvent,
+                        LogEventTypeIndex.getCandidates(budgetedLogLine, section));
+                if (logEventType == LogEventType.UNKNOWN && section != Section.UNKNOWN) {
+                    logEventType = identifyEventType(budgetedLogLine, priorEvent,
+                            LogEventTypeIndex.getCandidates(budgetedLogLine));
+                }
+            }
+        } catch (StepBudgetCharSequence.BudgetExceededException e) {
+            logEventType = LogEventType.UNKNOWN;
+        }
+        return logEventType;
+    }
+
+    /**
+     * Identify the log line fatal error log event, only testing the candidate event types.
+     * 
+     * @param logLine
+     *            The log entry.
+     * @param priorEvent
+     *            The previous log line event.
+     * @param candidates
+     *            The event types that could match the log line.
+     * @return The <code>LogEventType</code> of the log entry.
+     */
+    private static final LogEventType identifyEventType(CharSequence logLine, LogEvent priorEvent,
+            Set<LogEventType> candidates) {
+        LogEventType logEventType = LogEventType.UNKNOWN;
+        if (candidates.contains(LogEventType.ACTIVE_LOCALE) && ActiveLocale.match(logLine)
+                && (PatternRegistry.matches(logLine, ActiveLocale._REGEX_HEADER)
+                || priorEvent instanceof ActiveLocale)) {
+            logEventType = LogEventType.ACTIVE_LOCALE;
+        } else if (candidates.contains(LogEventType.BITS) && BitsEvent.match(logLine)) {
+            logEventType = LogEventType.BITS;
+        } else if (candidates.contains(LogEventType.BLANK_LINE) && BlankLine.match(logLine)) {
+            logEventType = LogEventType.BLANK_LINE;
+        } else if (candidates.contains(LogEventType.CARD_TABLE) && CardTable.match(logLine)) {
+            logEventType = LogEventType.CARD_TABLE;
+        } else if (candidates.contains(LogEventType.CDS_ARCHIVE) && CdsArchive.match(logLine)) {
+            logEventType = LogEventType.CDS_ARCHIVE;
+        } else if (candidates.contains(LogEventType.CLASSES_LOADED_EVENT) && ClassesLoadedEvent.match(logLine)
+                && (PatternRegistry.matches(logLine, ClassesLoadedEvent._REGEX_HEADER)
+                || priorEvent instanceof ClassesLoadedEvent)) {
+            logEventType = LogEventType.CLASSES_LOADED_EVENT;
+        } else if (candidates.contains(LogEventType.CLASSES_REDEFINED_EVENT) && ClassesRedefinedEvent.match(logLine)
+                && (PatternRegistry.matches(logLine, ClassesRedefinedEvent._REGEX_HEADER)
+                || priorEvent instanceof ClassesRedefinedEvent)) {
+            logEventType = LogEventType.CLASSES_REDEFINED_EVENT;
+        } else if (candidates.contains(LogEventType.CLASSES_UNLOADED_EVENT) && ClassesUnloadedEvent.match(logLine)
+                && (PatternRegistry.matches(logLine, ClassesUnloadedEvent._REGEX_HEADER)
+                || priorEvent instanceof ClassesUnloadedEvent)) {
+            logEventType = LogEventType.CLASSES_UNLOADED_EVENT;
+        } else if (candidates.contains(LogEventType.CODE_CACHE) && CodeCache.match(logLine)) {
+            logEventType = LogEventType.CODE_CACHE;
+        } else if (candidates.contains(LogEventType.COMMAND_LINE) && CommandLine.match(logLine)) {
+            logEventType = LogEventType.COMMAND_LINE;
+        } else if (candidates.contains(LogEventType.COMPILATION_EVENT) && CompilationEvent.match(logLine)
+                && (PatternRegistry.matches(logLine, CompilationEvent._REGEX_HEADER)
+                || priorEvent instanceof CompilationEvent)) {
+            logEventType = LogEventType.COMPILATION_EVENT;
+        } else if (candidates.contains(LogEventType.COMPRESSED_CLASS_SPACE) && CompressedClassSpace.match(logLine)) {
+            logEventType = LogEventType.COMPRESSED_CLASS_SPACE;
+        } else if (candidates.contains(LogEventType.CONSTANT_POOL) && ConstantPool.match(logLine)) {
+            logEventType = LogEventType.CONSTANT_POOL;
+        } else if (candidates.contains(LogEventType.CONTAINER_INFO) && ContainerInfo.match(logLine)) {
+            logEventType = LogEventType.CONTAINER_INFO;
+        } else if (candidates.contains(LogEventType.CPU_INFO) && CpuInfo.match(logLine)
+                && (PatternRegistry.matches(logLine, CpuInfo._REGEX_HEADER) || priorEvent instanceof CpuInfo)) {
+            logEventType = LogEventType.CPU_INFO;
+        } else if (candidates.contains(LogEventType.CURRENT_COMPILE_TASK) && CurrentCompileTask.match(logLine)) {
+            logEventType = LogEventType.CURRENT_COMPILE_TASK;
+        } else if (candidates.contains(LogEventType.CURRENT_THREAD) && CurrentThread.match(logLine)) {
+            logEventType = LogEventType.CURRENT_THREAD;
+        } else if (candidates.contains(LogEventType.DEOPTIMIZATION_EVENT) && DeoptimizationEvent.match(logLine)
+                && (PatternRegistry.matches(logLine, DeoptimizationEvent._REGEX_HEADER)
+                || priorEvent instanceof DeoptimizationEvent)) {
+            logEventType = LogEventType.DEOPTIMIZATION_EVENT;
+        } else if (candidates.contains(LogEventType.DLL_OPERATION_EVENT) && DllOperationEvent.match(logLine)
+                && (PatternRegistry.matches(logLine, DllOperationEvent._REGEX_HEADER)
+                || priorEvent instanceof DllOperationEvent)) {
+            logEventType = LogEventType.DLL_OPERATION_EVENT;
+        } else if (candidates.contains(LogEventType.DYNAMIC_LIBRARY) && DynamicLibrary.match(logLine)
+                && (PatternRegistry.matches(logLine, DynamicLibrary._REGEX_HEADER)
+                || priorEvent instanceof DynamicLibrary)) {
+            logEventType = LogEventType.DYNAMIC_LIBRARY;
+        } else if (candidates.contains(LogEventType.ELAPSED_TIME) && ElapsedTime.match(logLine)) {
+            logEventType = LogEventType.ELAPSED_TIME;
+        } else if (candidates.contains(LogEventType.END) && End.match(logLine)) {
+            logEventType = LogEventType.END;
+        } else if (candidates.contains(LogEventType.ENVIRONMENT_VARIABLES) && EnvironmentVariable.match(logLine)
+                && (PatternRegistry.matches(logLine, EnvironmentVariable._REGEX_HEADER)
+                || priorEvent instanceof EnvironmentVariable)) {
+            logEventType = LogEventType.ENVIRONMENT_VARIABLES;
+        } else if (candidates.contains(LogEventType.EVENT) && Event.match(logLine)
+                && (PatternRegistry.matches(logLine, Event._REGEX_HEADER) || priorEvent instanceof Event)) {
+            logEventType = LogEventType.EVENT;
+        } else if (candidates.contains(LogEventType.EXCEPTION_COUNTS) && ExceptionCounts.match(logLine)) {
+            logEventType = LogEventType.EXCEPTION_COUNTS;
+        } else if (candidates.contains(LogEventType.GC_HEAP_HISTORY_EVENT) && GcHeapHistoryEvent.match(logLine)
+                && (PatternRegistry.matches(logLine, GcHeapHistoryEvent._REGEX_HEADER)
+                || priorEvent instanceof GcHeapHistoryEvent)) {
+            logEventType = LogEventType.GC_HEAP_HISTORY_EVENT;
+        } else if (candidates.contains(LogEventType.GC_PRECIOUS_LOG) && GcPreciousLog.match(logLine)) {
+            logEventType = LogEventType.GC_PRECIOUS_LOG;
+        } else if (candidates.contains(LogEventType.GLOBAL_FLAGS) && GlobalFlag.match(logLine)) {
+            logEventType = LogEventType.GLOBAL_FLAGS;
+        } else if (candidates.contains(LogEventType.HEADER) && Header.match(logLine) && (priorEvent == null
+                || priorEvent instanceof UnknownEvent || priorEvent instanceof Header)) {
+            logEventType = LogEventType.HEADER;
+        } else if (candidates.contains(LogEventType.HEADING) && Heading.match(logLine)) {
+            logEventType = LogEventType.HEADING;
+        } else if (candidates.contains(LogEventType.HEAP) && Heap.match(logLine)
+                && (PatternRegistry.matches(logLine, Heap._REGEX_HEADER) || priorEvent instanceof Heap)) {
+            logEventType = LogEventType.HEAP;
+        } else if (candidates.contains(LogEventType.HEAP_ADDRESS) && HeapAddress.match(logLine)) {
+            logEventType = LogEventType.HEAP_ADDRESS;
+        } else if (candidates.contains(LogEventType.HEAP_REGIONS) && HeapRegions.match(logLine)) {
+            logEventType = LogEventType.HEAP_REGIONS;
+        } else if (candidates.contains(LogEventType.HOST) && Host.match(logLine)) {
+            logEventType = LogEventType.HOST;
+        } else if (candidates.contains(LogEventType.INSTRUCTIONS) && Instructions.match(logLine)) {
+            logEventType = LogEventType.INSTRUCTIONS;
+        } else if (candidates.contains(LogEventType.INTERNAL_EXCEPTION_EVENT) && InternalExceptionEvent.match(logLine)
+                && (PatternRegistry.matches(logLine, InternalExceptionEvent._REGEX_HEADER)
+                || priorEvent instanceof InternalExceptionEvent)) {
+            logEventType = LogEventType.INTERNAL_EXCEPTION_EVENT;
+        } else if (candidates.contains(LogEventType.INTERNAL_STATISTICS) && InternalStatistic.match(logLine)
+                && (PatternRegistry.matches(logLine, InternalStatistic._REGEX_HEADER)
+                || priorEvent instanceof InternalStatistic)) {
+            logEventType = LogEventType.INTERNAL_STATISTICS;
+        } else if (candidates.contains(LogEventType.LD_PRELOAD_FILE) && LdPreloadFile.match(logLine)
+                && (PatternRegistry.matches(logLine, LdPreloadFile._REGEX_HEADER)
+                || priorEvent instanceof LdPreloadFile)) {
+            logEventType = LogEventType.LD_PRELOAD_FILE;
+        } else if (candidates.contains(LogEventType.LIBC) && Libc.match(logLine)) {
+            logEventType = LogEventType.LIBC;
+        } else if (candidates.contains(LogEventType.LOAD_AVERAGE) && LoadAverage.match(logLine)) {
+            logEventType = LogEventType.LOAD_AVERAGE;
+        } else if (candidates.contains(LogEventType.LOGGING) && Logging.match(logLine)) {
+            logEventType = LogEventType.LOGGING;
+        } else if (candidates.contains(LogEventType.MACH_CODE) && MachCode.match(logLine)
+                && (PatternRegistry.matches(logLine, MachCode._REGEX_HEADER) || priorEvent instanceof MachCode)) {
+            logEventType = LogEventType.MACH_CODE;
+        } else if (candidates.contains(LogEventType.MAX_MAP_COUNT) && MaxMapCount.match(logLine)) {
+            logEventType = LogEventType.MAX_MAP_COUNT;
+        } else if (candidates.contains(LogEventType.MEMINFO) && Meminfo.match(logLine)
+                && (PatternRegistry.matches(logLine, Meminfo._REGEX_HEADER) || priorEvent instanceof Meminfo)) {
+            logEventType = LogEventType.MEMINFO;
+        } else if (candidates.contains(LogEventType.MEMORY) && Memory.match(logLine)
+                && (PatternRegistry.matches(logLine, Memory._REGEX_HEADER) || priorEvent instanceof Memory)) {
+            logEventType = LogEventType.MEMORY;
+        } else if (candidates.contains(LogEventType.METASPACE) && Metaspace.match(logLine)) {
+            logEventType = LogEventType.METASPACE;
+        } else if (candidates.contains(LogEventType.NARROW_KLASS) && NarrowKlass.match(logLine)) {
+            logEventType = LogEventType.NARROW_KLASS;
+        } else if (candidates.contains(LogEventType.NATIVE_DECODER_STATE) && NativeDecoderState.match(logLine)) {
+            logEventType = LogEventType.NATIVE_DECODER_STATE;
+        } else if (candidates.contains(LogEventType.NATIVE_MEMORY_TRACKING) && NativeMemoryTracking.match(logLine)
+                && (PatternRegistry.matches(logLine, NativeMemoryTracking._REGEX_HEADER)
+                || priorEvent instanceof NativeMemoryTracking)) {
+            logEventType = LogEventType.NATIVE_MEMORY_TRACKING;
+        } else if (candidates.contains(LogEventType.NUMBER) && NumberEvent.match(logLine)) {
+            logEventType = LogEventType.NUMBER;
+        } else if (candidates.contains(LogEventType.OS_INFO) && OsInfo.match(logLine)) {
+            logEventType = LogEventType.OS_INFO;
+        } else if (candidates.contains(LogEventType.OS_UPTIME) && OsUptime.match(logLine)) {
+            logEventType = LogEventType.OS_UPTIME;
+        } else if (candidates.contains(LogEventType.PERIODIC_NATIVE_TRIM) && PeriodicNativeTrim.match(logLine)) {
+            logEventType = LogEventType.PERIODIC_NATIVE_TRIM;
+        } else if (candidates.contains(LogEventType.PID_MAX) && PidMax.match(logLine)) {
+            logEventType = LogEventType.PID_MAX;
+        } else if (candidates.contains(LogEventType.POLLING_PAGE) && PollingPage.match(logLine)) {
+            logEventType = LogEventType.POLLING_PAGE;
+        } else if (candidates.contains(LogEventType.PROCESS_MEMORY) && ProcessMemory.match(logLine)) {
+            logEventType = LogEventType.PROCESS_MEMORY;
+        } else if (candidates.contains(LogEventType.REGISTER) && Register.match(logLine)) {
+            logEventType = LogEventType.REGISTER;
+        } else if (candidates.contains(LogEventType.REGISTER_TO_MEMORY_MAPPING)
+                && RegisterToMemoryMapping.match(logLine)
+                && (PatternRegistry.matches(logLine, RegisterToMemoryMapping._REGEX_HEADER)
+                || priorEvent instanceof RegisterToMemoryMapping)) {
+            logEventType = LogEventType.REGISTER_TO_MEMORY_MAPPING;
+        } else if (candidates.contains(LogEventType.RLIMIT) && Rlimit.match(logLine)) {
+            logEventType = LogEventType.RLIMIT;
+        } else if (candidates.contains(LogEventType.SIGINFO) && SigInfo.match(logLine)) {
+            logEventType = LogEventType.SIGINFO;
+        } else if (candidates.contains(LogEventType.SIGNAL_HANDLERS) && SignalHandlers.match(logLine)) {
+            logEventType = LogEventType.SIGNAL_HANDLERS;
+        } else if (candidates.contains(LogEventType.STACK) && Stack.match(logLine)) {
+            logEventType = LogEventType.STACK;
+        } else if (candidates.contains(LogEventType.STACK_SLOT_TO_MEMORY_MAPPING)
+                && StackSlotToMemoryMapping.match(logLine)
+                && (PatternRegistry.matches(logLine, StackSlotToMemoryMapping._REGEX_HEADER)
+                || priorEvent instanceof StackSlotToMemoryMapping)) {
+            logEventType = LogEventType.STACK_SLOT_TO_MEMORY_MAPPING;
+        } else if (candidates.contains(LogEventType.THREAD) && Thread.match(logLine)) {
+            logEventType = LogEventType.THREAD;
+        } else if (candidates.contains(LogEventType.THREADS_ACTIVE_COMPILE) && ThreadsActiveCompile.match(logLine)) {
+            logEventType = LogEventType.THREADS_ACTIVE_COMPILE;
+        } else if (candidates.contains(LogEventType.THREADS_CLASS_SMR_INFO) && ThreadsClassSmrInfo.match(logLine)
+                && (PatternRegistry.matches(logLine, ThreadsClassSmrInfo._REGEX_HEADER)
+                || priorEvent instanceof ThreadsClassSmrInfo)) {
+            logEventType = LogEventType.THREADS_CLASS_SMR_INFO;
+        } else if (candidates.contains(LogEventType.THREADS_MAX) && ThreadsMax.match(logLine)) {
+            logEventType = LogEventType.THREADS_MAX;
+        } else if (candidates.contains(LogEventType.TIME) && Time.match(logLine)) {
+            logEventType = LogEventType.TIME;
+        } else if (candidates.contains(LogEventType.TIMEOUT) && Timeout.match(logLine)) {
+            logEventType = LogEventType.TIMEOUT;
+        } else if (candidates.contains(LogEventType.TIME_ELAPSED_TIME) && TimeElapsedTime.match(logLine)) {
+            logEventType = LogEventType.TIME_ELAPSED_TIME;
+        } else if (candidates.contains(LogEventType.TIMEZONE) && Timezone.match(logLine)) {
+            logEventType = LogEventType.TIMEZONE;
+        } else if (candidates.contains(LogEventType.TOP_OF_STACK) && TopOfStack.match(logLine)) {
+            logEventType = LogEventType.TOP_OF_STACK;
+        } else if (candidates.contains(LogEventType.TRANSPARENT_HUGEPAGE_DEFRAG)
+                && TransparentHugepageDefrag.match(logLine)) {
+            logEventType = LogEventType.TRANSPARENT_HUGEPAGE_DEFRAG;
+        } else if (candidates.contains(LogEventType.TRANSPARENT_HUGEPAGE_ENABLED)
+                && TransparentHugepageEnabled.match(logLine)) {
+            logEventType = LogEventType.TRANSPARENT_HUGEPAGE_ENABLED;
+        } else if (candidates.contains(LogEventType.UID) && Uid.match(logLine)) {
+            logEventType = LogEventType.UID;
+        } else if (candidates.contains(LogEventType.UMASK) && Umask.match(logLine)) {
+            logEventType = LogEventType.UMASK;
+        } else if (candidates.contains(LogEventType.UNAME) && Uname.match(logLine)) {
+            logEventType = LogEventType.UNAME;
+        } else if (candidates.contains(LogEventType.VM_ARGUMENTS) && VmArguments.match(logLine)) {
+            logEventType = LogEventType.VM_ARGUMENTS;
+        } else if (candidates.contains(LogEventType.VM_INFO) && VmInfo.match(logLine)) {
+            logEventType = LogEventType.VM_INFO;
+        } else if (candidates.contains(LogEventType.VM_MUTEX) && VmMutex.match(logLine)) {
+            logEventType = LogEventType.VM_MUTEX;
+        } else if (candidates.contains(LogEventType.VM_OPERATION) && VmOperation.match(logLine)) {
+            logEventType = LogEventType.VM_OPERATION;
+        } else if (candidates.contains(LogEventType.VM_OPERATION_EVENT) && VmOperationEvent.match(logLine)
+                && (PatternRegistry.matches(logLine, VmOperationEvent._REGEX_HEADER)
+                || priorEvent instanceof VmOperationEvent)) {
+            logEventType = LogEventType.VM_OPERATION_EVENT;
+        } else if (candidates.contains(LogEventType.VM_STATE) && VmState.match(logLine)) {
+            logEventType = LogEventType.VM_STATE;
+        } else if (candidates.contains(LogEventType.VIRTUALIZATION_INFO) && VirtualizationInfo.match(logLine)
+                && (PatternRegistry.matches(logLine, VirtualizationInfo._REGEX_HEADER)
+                || priorEvent instanceof VirtualizationInfo)) {
+            logEventType = LogEventType.VIRTUALIZATION_INFO;
+        } else if (candidates.contains(LogEventType.ZGC_GLOBALS) && ZgcGlobals.match(logLine)) {
+            logEventType = LogEventType.ZGC_GLOBALS;
+        } else if (candidates.contains(LogEventType.ZGC_METADATA_BITS) && ZgcMetadataBits.match(logLine)) {
+            logEventType = LogEventType.ZGC_METADATA_BITS;
+        } else if (candidates.contains(LogEventType.ZGC_GLOBALS) && ZgcGlobals.match(logLine)) {
+            logEventType = LogEventType.ZGC_GLOBALS;
+        } else if (candidates.contains(LogEventType.ZGC_METADATA_BITS) && ZgcMetadataBits.match(logLine)) {
+            logEventType = LogEventType.ZGC_METADATA_BITS;
+        } else if (candidates.contains(LogEventType.ZGC_PAGE_TABLE) && ZgcPageTable.match(logLine)) {
+            logEventType = LogEventType.ZGC_PAGE_TABLE;
+        } else if (candidates.contains(LogEventType.ZGC_PHASE_SWITCH_EVENT) && ZgcPhaseSwitchEvent.match(logLine)) {
+            logEventType = LogEventType.ZGC_PHASE_SWITCH_EVENT;
+        }
+        return logEventType;
+    }
+
+    /**
+     * @param logLine
+     *            The log entry.
+     * @return true if the log entry terminates a multi-line block (a blank line or heading), false otherwise.
+     */
+    private static final boolean isBlockTerminator(CharSequence logLine) {
+        Set<LogEventType> candidates = LogEventTypeIndex.getCandidates(logLine);
+        return (candidates.contains(LogEventType.BLANK_LINE) && BlankLine.match(logLine))
+                || (candidates.contains(LogEventType.HEADING) && Heading.match(logLine));
+    }
+
+    /**
+     * Determine if a build date is a known date/time or an estimate. Estimate have 0 for hh:mm:ss.
+     * 
+     * The following build date/time is a known date/time:
+     * 
+     * Apr 19 2022 00:14:41
+     * 
+     * The following build date/time is an estimate:
+     * 
+     * Apr 19 2022 00:00:00
+     * 
+     * @param buildDate
+     *            The JDK build date/time, or an estimate if unknown.
+     * 
+     * @return true if the JDK build date is known, false otherwise.
+     */
+    public static final boolean isBuildDateKnown(Date buildDate) {
+        boolean isBuildDateKnown = false;
+        Calendar calendar = Calendar.getInstance();
+        calendar.setTime(buildDate);
+        if (!(calendar.get(Calendar.HOUR) == 0 && calendar.get(Calendar.MINUTE) == 0
+                && calendar.get(Calendar.SECOND) == 0)) {
+            isBuildDateKnown = true;
+        }
+        return isBuildDateKnown;
+    }
+
+    /**
+     * @param fatalErrorLog
+     *            The fatal error log.
+     * @return true if the JDK that produced the fatal error log is the latest release, false otherwise.
+     */
+    public static final boolean isLatestJdkRelease(FatalErrorLog fatalErrorLog) {
+        boolean isLatestRelease = true;
+        HashMap<String, Release> releases = getJdkReleases(fatalErrorLog);
+        if (releases != null && !releases.isEmpty()) {
+            Release latest = releases.get("LATEST");
+            if (latest != null) {
+                if (latest.getVersion() != null && !latest.getVersion().equals(fatalErrorLog.getJdkReleaseString())) {
+                    isLatestRelease = false;
+                } else if (latest.getBuildDate() != null
+                        && !latest.getBuildDate().equals(fatalErrorLog.getJdkReleaseDate())) {
+                    // There is a newer release with the same release string
+                    isLatestRelease = false;
+                }
+            }
+        }
+        return isLatestRelease;
+    }
+
+    /**
+     * Determine if a JVM option is explicitly disabled. For example, <code>-XX:-TraceClassUnloading</code> is disabled.
+     * 
+     * @param option
+     *            The JVM option.
+     * @return True if the JVM option is disabled, false otherwise.
+     */
+    public static final boolean isOptionDisabled(final String option) {
+        boolean disabled = false;
+        if (option != null) {
+            disabled = PatternRegistry.matches(option, "^-XX:-.+$");
+        }
+        return disabled;
+    }
+
+    /**
+     * Determine if a JVM option is explicitly enabled. For example, <code>-XX:+TraceClassUnloading</code> is enabled.
+     * 
+     * @param option
+     *            The JVM option.
+     * @return True if the JVM option is enabled, false otherwise.
+     */
+    public static final boolean isOptionEnabled(final String option) {
+        boolean enabled = false;
+        if (option != null) {
+            enabled = PatternRegistry.matches(option, "^-XX:\\+.+$");
+        }
+        return enabled;
+    }
+
+    /**
+     * @param jdkReleaseString
+     *            The JDK release string. For example: "11.0.15+10-LTS".
+     * @param releases
+     *            The JDK releases for a given OS and distribution method (e.g. zip, rpm).
+     * @return True if the release string exists in the releases, false otherwise.
+     */
+    public static final boolean isReleaseStringInReleases(String jdkReleaseString, HashMap<String, Release> releases) {
+        boolean containsJdkReleaseString = false;
+        Iterator<Entry<String, Release>> i = releases.entrySet().iterator();
+        while (i.hasNext()) {
+            Entry<String, Release> entry = i.next();
+            Release release = entry.getValue();
+            if (release.getVersion().equals(jdkReleaseString)) {
+                containsJdkReleaseString = true;
+                break;
+            }
+        }
+        return containsJdkReleaseString;
+    }
+
+    /**
+     * Create <code>LogEvent</code> from VM log line.
+     * 
+     * @param logLine
+     *            The log line as it appears in the VM log.
+     * @param priorEvent
+     *            The previous log line event.
+     * @return The <code>LogEvent</code> corresponding to the log line.
+     */
+    public static final LogEvent parseLogLine(String logLine, LogEvent priorEvent) {
+        return parseLogLine(logLine, priorEvent, Section.UNKNOWN);
+    }
+
+    /**
+     * Create <code>LogEvent</code> from VM log line, only testing the event types that can appear in the section.
+     * 
+     * @param logLine
+     *            The log line as it appears in the VM log.
+     * @param priorEvent
+     *            The previous log line event.
+     * @param section
+     *            The section the log line is in, or <code>Section.UNKNOWN</code> if not known.
+     * @return The <code>LogEvent</code> corresponding to the log line.
+     */
+    public static final LogEvent parseLogLine(String logLine, LogEvent priorEvent, Section section) {
+        return createLogEvent(identifyEventType(logLine, priorEvent, section), logLine);
     }
 
     /**
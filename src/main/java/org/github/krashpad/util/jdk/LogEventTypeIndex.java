@@ -0,0 +1,395 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.util.jdk;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.github.krashpad.domain.BlankLine;
+import org.github.krashpad.domain.jdk.ActiveLocale;
+import org.github.krashpad.domain.jdk.BitsEvent;
+import org.github.krashpad.domain.jdk.CardTable;
+import org.github.krashpad.domain.jdk.CdsArchive;
+import org.github.krashpad.domain.jdk.ClassesLoadedEvent;
+import org.github.krashpad.domain.jdk.ClassesRedefinedEvent;
+import org.github.krashpad.domain.jdk.ClassesUnloadedEvent;
+import org.github.krashpad.domain.jdk.CodeCache;
+import org.github.krashpad.domain.jdk.CommandLine;
+import org.github.krashpad.domain.jdk.CompilationEvent;
+import org.github.krashpad.domain.jdk.CompressedClassSpace;
+import org.github.krashpad.domain.jdk.ConstantPool;
+import org.github.krashpad.domain.jdk.ContainerInfo;
+import org.github.krashpad.domain.jdk.CpuInfo;
+import org.github.krashpad.domain.jdk.CurrentCompileTask;
+import org.github.krashpad.domain.jdk.CurrentThread;
+import org.github.krashpad.domain.jdk.DeoptimizationEvent;
+import org.github.krashpad.domain.jdk.DllOperationEvent;
+import org.github.krashpad.domain.jdk.DynamicLibrary;
+import org.github.krashpad.domain.jdk.ElapsedTime;
+import org.github.krashpad.domain.jdk.End;
+import org.github.krashpad.domain.jdk.EnvironmentVariable;
+import org.github.krashpad.domain.jdk.Event;
+import org.github.krashpad.domain.jdk.ExceptionCounts;
+import org.github.krashpad.domain.jdk.GcHeapHistoryEvent;
+import org.github.krashpad.domain.jdk.GcPreciousLog;
+import org.github.krashpad.domain.jdk.GlobalFlag;
+import org.github.krashpad.domain.jdk.Header;
+import org.github.krashpad.domain.jdk.Heading;
+import org.github.krashpad.domain.jdk.Heap;
+import org.github.krashpad.domain.jdk.HeapAddress;
+import org.github.krashpad.domain.jdk.HeapRegions;
+import org.github.krashpad.domain.jdk.Host;
+import org.github.krashpad.domain.jdk.Instructions;
+import org.github.krashpad.domain.jdk.InternalExceptionEvent;
+import org.github.krashpad.domain.jdk.InternalStatistic;
+import org.github.krashpad.domain.jdk.LdPreloadFile;
+import org.github.krashpad.domain.jdk.Libc;
+import org.github.krashpad.domain.jdk.LoadAverage;
+import org.github.krashpad.domain.jdk.Logging;
+import org.github.krashpad.domain.jdk.MachCode;
+import org.github.krashpad.domain.jdk.MaxMapCount;
+import org.github.krashpad.domain.jdk.Meminfo;
+import org.github.krashpad.domain.jdk.Memory;
+import org.github.krashpad.domain.jdk.Metaspace;
+import org.github.krashpad.domain.jdk.NarrowKlass;
+import org.github.krashpad.domain.jdk.NativeDecoderState;
+import org.github.krashpad.domain.jdk.NativeMemoryTracking;
+import org.github.krashpad.domain.jdk.NumberEvent;
+import org.github.krashpad.domain.jdk.OsInfo;
+import org.github.krashpad.domain.jdk.OsUptime;
+import org.github.krashpad.domain.jdk.PeriodicNativeTrim;
+import org.github.krashpad.domain.jdk.PidMax;
+import org.github.krashpad.domain.jdk.PollingPage;
+import org.github.krashpad.domain.jdk.ProcessMemory;
+import org.github.krashpad.domain.jdk.Register;
+import org.github.krashpad.domain.jdk.RegisterToMemoryMapping;
+import org.github.krashpad.domain.jdk.Rlimit;
+import org.github.krashpad.domain.jdk.SigInfo;
+import org.github.krashpad.domain.jdk.SignalHandlers;
+import org.github.krashpad.domain.jdk.Stack;
+import org.github.krashpad.domain.jdk.StackSlotToMemoryMapping;
+import org.github.krashpad.domain.jdk.Thread;
+import org.github.krashpad.domain.jdk.ThreadsActiveCompile;
+import org.github.krashpad.domain.jdk.ThreadsClassSmrInfo;
+import org.github.krashpad.domain.jdk.ThreadsMax;
+import org.github.krashpad.domain.jdk.Time;
+import org.github.krashpad.domain.jdk.TimeElapsedTime;
+import org.github.krashpad.domain.jdk.Timeout;
+import org.github.krashpad.domain.jdk.Timezone;
+import org.github.krashpad.domain.jdk.TopOfStack;
+import org.github.krashpad.domain.jdk.TransparentHugepageDefrag;
+import org.github.krashpad.domain.jdk.TransparentHugepageEnabled;
+import org.github.krashpad.domain.jdk.Uid;
+import org.github.krashpad.domain.jdk.Umask;
+import org.github.krashpad.domain.jdk.Uname;
+import org.github.krashpad.domain.jdk.VirtualizationInfo;
+import org.github.krashpad.domain.jdk.VmArguments;
+import org.github.krashpad.domain.jdk.VmInfo;
+import org.github.krashpad.domain.jdk.VmMutex;
+import org.github.krashpad.domain.jdk.VmOperation;
+import org.github.krashpad.domain.jdk.VmOperationEvent;
+import org.github.krashpad.domain.jdk.VmState;
+import org.github.krashpad.domain.jdk.ZgcGlobals;
+import org.github.krashpad.domain.jdk.ZgcMetadataBits;
+import org.github.krashpad.domain.jdk.ZgcPageTable;
+import org.github.krashpad.domain.jdk.ZgcPhaseSwitchEvent;
+import org.github.krashpad.util.jdk.JdkUtil.LogEventType;
+import org.github.krashpad.util.jdk.JdkUtil.Section;
+
+/**
+ * <p>
+ * Dispatch index used by {@link JdkUtil#identifyEventType(CharSequence, org.github.krashpad.domain.LogEvent)} to skip
+ * event types that cannot match a log line before any regular expression is run.
+ * </p>
+ * 
+ * <p>
+ * Log lines are indexed by their first character. The candidates for each character are derived from the event
+ * regular expressions themselves: each pattern is run against the single character, and the event type is a candidate
+ * if the pattern matches or the match reached the end of input (<code>Matcher.hitEnd()</code>), meaning more input
+ * could still produce a match. Otherwise no line starting with that character can match, and the event type is
+ * skipped. Deriving the index from the patterns keeps it in sync with the event regular expressions.
+ * </p>
+ * 
+ * <p>
+ * The candidates can be further narrowed to the event types that can appear in a fatal error log section (e.g. a
+ * <code>Thread</code> can only appear in the PROCESS section).
+ * </p>
+ * 
+ * <p>
+ * The index only narrows the event types that are tested. <code>identifyEventType</code> still tests the candidates
+ * in its existing order, so precedence is unchanged. Lines starting with a character outside the index, and event
+ * types without an indexed pattern, are always candidates.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class LogEventTypeIndex {
+
+    /**
+     * Candidates indexed by section, then by the first character of the log line. The last two entries are the
+     * candidates for an empty log line and for a log line starting with a character outside the index.
+     */
+    private static final EnumMap<Section, List<Set<LogEventType>>> CANDIDATES;
+
+    /**
+     * Candidates entry for an empty log line.
+     */
+    private static final int EMPTY_LINE = 128;
+
+    /**
+     * Candidates entry for a log line starting with a character outside the index.
+     */
+    private static final int OTHER = 129;
+
+    /**
+     * The number of first characters indexed (7-bit ASCII).
+     */
+    private static final int SIZE = 128;
+
+    /**
+     * The event types that can appear in each section.
+     */
+    private static final EnumMap<Section, Set<LogEventType>> SECTION_EVENT_TYPES;
+
+    static {
+        // The patterns tested by each event type's <code>match()</code> method.
+        EnumMap<LogEventType, Pattern[]> patterns = new EnumMap<LogEventType, Pattern[]>(LogEventType.class);
+        patterns.put(LogEventType.ACTIVE_LOCALE, new Pattern[] { ActiveLocale.PATTERN });
+        patterns.put(LogEventType.BITS, new Pattern[] { BitsEvent.PATTERN });
+        patterns.put(LogEventType.BLANK_LINE, new Pattern[] { BlankLine.PATTERN });
+        patterns.put(LogEventType.CARD_TABLE, new Pattern[] { CardTable.PATTERN });
+        patterns.put(LogEventType.CDS_ARCHIVE, new Pattern[] { CdsArchive.PATTERN });
+        patterns.put(LogEventType.CLASSES_LOADED_EVENT, new Pattern[] { ClassesLoadedEvent.PATTERN });
+        patterns.put(LogEventType.CLASSES_REDEFINED_EVENT, new Pattern[] { ClassesRedefinedEvent.PATTERN });
+        patterns.put(LogEventType.CLASSES_UNLOADED_EVENT, new Pattern[] { ClassesUnloadedEvent.PATTERN });
+        patterns.put(LogEventType.CODE_CACHE, new Pattern[] { CodeCache.PATTERN });
+        patterns.put(LogEventType.COMMAND_LINE, new Pattern[] { CommandLine.PATTERN });
+        patterns.put(LogEventType.COMPILATION_EVENT, new Pattern[] { CompilationEvent.PATTERN });
+        patterns.put(LogEventType.COMPRESSED_CLASS_SPACE, new Pattern[] { CompressedClassSpace.PATTERN });
+        patterns.put(LogEventType.CONSTANT_POOL, new Pattern[] { ConstantPool.PATTERN });
+        patterns.put(LogEventType.CONTAINER_INFO, new Pattern[] {
+                PatternRegistry.getPattern(ContainerInfo._REGEX_HEADER),
+                PatternRegistry.getPattern(ContainerInfo._SETTING) });
+        patterns.put(LogEventType.CPU_INFO, new Pattern[] { CpuInfo.PATTERN });
+        patterns.put(LogEventType.CURRENT_COMPILE_TASK, new Pattern[] { CurrentCompileTask.PATTERN });
+        patterns.put(LogEventType.CURRENT_THREAD, new Pattern[] { CurrentThread.PATTERN });
+        patterns.put(LogEventType.DEOPTIMIZATION_EVENT, new Pattern[] { DeoptimizationEvent.PATTERN });
+        patterns.put(LogEventType.DLL_OPERATION_EVENT, new Pattern[] { DllOperationEvent.PATTERN });
+        patterns.put(LogEventType.DYNAMIC_LIBRARY, new Pattern[] { DynamicLibrary.PATTERN });
+        patterns.put(LogEventType.ELAPSED_TIME, new Pattern[] { ElapsedTime.PATTERN });
+        patterns.put(LogEventType.END, new Pattern[] { End.PATTERN });
+        patterns.put(LogEventType.ENVIRONMENT_VARIABLES, new Pattern[] { EnvironmentVariable.PATTERN });
+        patterns.put(LogEventType.EVENT, new Pattern[] { Event.PATTERN });
+        patterns.put(LogEventType.EXCEPTION_COUNTS, new Pattern[] { ExceptionCounts.PATTERN });
+        patterns.put(LogEventType.GC_HEAP_HISTORY_EVENT, new Pattern[] { GcHeapHistoryEvent.PATTERN });
+        patterns.put(LogEventType.GC_PRECIOUS_LOG, new Pattern[] { GcPreciousLog.PATTERN });
+        patterns.put(LogEventType.GLOBAL_FLAGS, new Pattern[] { GlobalFlag.PATTERN });
+        patterns.put(LogEventType.HEADER, new Pattern[] { Header.PATTERN });
+        patterns.put(LogEventType.HEADING, new Pattern[] { Heading.PATTERN });
+        patterns.put(LogEventType.HEAP, new Pattern[] { Heap.PATTERN });
+        patterns.put(LogEventType.HEAP_ADDRESS, new Pattern[] { HeapAddress.PATTERN });
+        patterns.put(LogEventType.HEAP_REGIONS, new Pattern[] { HeapRegions.PATTERN });
+        patterns.put(LogEventType.HOST, new Pattern[] { Host.PATTERN });
+        patterns.put(LogEventType.INSTRUCTIONS, new Pattern[] { Instructions.PATTERN });
+        patterns.put(LogEventType.INTERNAL_EXCEPTION_EVENT, new Pattern[] { InternalExceptionEvent.PATTERN });
+        patterns.put(LogEventType.INTERNAL_STATISTICS, new Pattern[] { InternalStatistic.PATTERN });
+        patterns.put(LogEventType.LD_PRELOAD_FILE, new Pattern[] { LdPreloadFile.PATTERN });
+        patterns.put(LogEventType.LIBC, new Pattern[] { Libc.PATTERN });
+        patterns.put(LogEventType.LOAD_AVERAGE, new Pattern[] { LoadAverage.PATTERN });
+        patterns.put(LogEventType.LOGGING, new Pattern[] { Logging.PATTERN });
+        patterns.put(LogEventType.MACH_CODE, new Pattern[] { MachCode.PATTERN });
+        patterns.put(LogEventType.MAX_MAP_COUNT, new Pattern[] { MaxMapCount.PATTERN });
+        patterns.put(LogEventType.MEMINFO, new Pattern[] { Meminfo.PATTERN });
+        patterns.put(LogEventType.MEMORY, new Pattern[] { Memory.PATTERN });
+        patterns.put(LogEventType.METASPACE, new Pattern[] { Metaspace.PATTERN });
+        patterns.put(LogEventType.NARROW_KLASS, new Pattern[] { NarrowKlass.PATTERN });
+        patterns.put(LogEventType.NATIVE_DECODER_STATE, new Pattern[] { NativeDecoderState.PATTERN });
+        patterns.put(LogEventType.NATIVE_MEMORY_TRACKING, new Pattern[] { NativeMemoryTracking.PATTERN });
+        patterns.put(LogEventType.NUMBER, new Pattern[] { NumberEvent.PATTERN });
+        patterns.put(LogEventType.OS_INFO, new Pattern[] { OsInfo.PATTERN });
+        patterns.put(LogEventType.OS_UPTIME, new Pattern[] { OsUptime.PATTERN });
+        patterns.put(LogEventType.PERIODIC_NATIVE_TRIM, new Pattern[] { PeriodicNativeTrim.PATTERN });
+        patterns.put(LogEventType.PID_MAX, new Pattern[] { PidMax.PATTERN });
+        patterns.put(LogEventType.POLLING_PAGE, new Pattern[] { PollingPage.PATTERN });
+        patterns.put(LogEventType.PROCESS_MEMORY, new Pattern[] { ProcessMemory.PATTERN });
+        patterns.put(LogEventType.REGISTER, new Pattern[] { Register.PATTERN });
+        patterns.put(LogEventType.REGISTER_TO_MEMORY_MAPPING, new Pattern[] { RegisterToMemoryMapping.PATTERN });
+        patterns.put(LogEventType.RLIMIT, new Pattern[] { Rlimit.PATTERN });
+        patterns.put(LogEventType.SIGINFO, new Pattern[] { SigInfo.PATTERN });
+        patterns.put(LogEventType.SIGNAL_HANDLERS, new Pattern[] { SignalHandlers.PATTERN });
+        patterns.put(LogEventType.STACK, new Pattern[] { Stack.PATTERN });
+        patterns.put(LogEventType.STACK_SLOT_TO_MEMORY_MAPPING, new Pattern[] { StackSlotToMemoryMapping.PATTERN,
+                PatternRegistry.getPattern(JdkRegEx.BLANK_LINE) });
+        patterns.put(LogEventType.THREAD, new Pattern[] { Thread.PATTERN });
+        patterns.put(LogEventType.THREADS_ACTIVE_COMPILE, new Pattern[] { ThreadsActiveCompile.PATTERN });
+        patterns.put(LogEventType.THREADS_CLASS_SMR_INFO, new Pattern[] { ThreadsClassSmrInfo.PATTERN });
+        patterns.put(LogEventType.THREADS_MAX, new Pattern[] { ThreadsMax.PATTERN });
+        patterns.put(LogEventType.TIME, new Pattern[] { Time.PATTERN });
+        patterns.put(LogEventType.TIMEOUT, new Pattern[] { Timeout.PATTERN });
+        patterns.put(LogEventType.TIMEZONE, new Pattern[] { Timezone.PATTERN });
+        patterns.put(LogEventType.TIME_ELAPSED_TIME, new Pattern[] { TimeElapsedTime.PATTERN });
+        patterns.put(LogEventType.TOP_OF_STACK, new Pattern[] { TopOfStack.PATTERN });
+        patterns.put(LogEventType.TRANSPARENT_HUGEPAGE_DEFRAG, new Pattern[] { TransparentHugepageDefrag.PATTERN });
+        patterns.put(LogEventType.TRANSPARENT_HUGEPAGE_ENABLED, new Pattern[] { TransparentHugepageEnabled.PATTERN });
+        patterns.put(LogEventType.UID, new Pattern[] { Uid.PATTERN });
+        patterns.put(LogEventType.UMASK, new Pattern[] { Umask.PATTERN });
+        patterns.put(LogEventType.UNAME, new Pattern[] { Uname.PATTERN });
+        patterns.put(LogEventType.VIRTUALIZATION_INFO, new Pattern[] { VirtualizationInfo.PATTERN });
+        patterns.put(LogEventType.VM_ARGUMENTS, new Pattern[] { VmArguments.PATTERN });
+        patterns.put(LogEventType.VM_INFO, new Pattern[] { VmInfo.PATTERN });
+        patterns.put(LogEventType.VM_MUTEX, new Pattern[] { VmMutex.PATTERN });
+        patterns.put(LogEventType.VM_OPERATION, new Pattern[] { VmOperation.PATTERN });
+        patterns.put(LogEventType.VM_OPERATION_EVENT, new Pattern[] { VmOperationEvent.PATTERN });
+        patterns.put(LogEventType.VM_STATE, new Pattern[] { VmState.PATTERN });
+        patterns.put(LogEventType.ZGC_GLOBALS, new Pattern[] { ZgcGlobals.PATTERN });
+        patterns.put(LogEventType.ZGC_METADATA_BITS, new Pattern[] { ZgcMetadataBits.PATTERN });
+        patterns.put(LogEventType.ZGC_PAGE_TABLE, new Pattern[] { ZgcPageTable.PATTERN });
+        patterns.put(LogEventType.ZGC_PHASE_SWITCH_EVENT, new Pattern[] { ZgcPhaseSwitchEvent.PATTERN });
+        // The event types that can appear in each section, in addition to blank lines, headings, and timeouts
+        EnumMap<Section, EnumSet<LogEventType>> sections = new EnumMap<Section, EnumSet<LogEventType>>(Section.class);
+        sections.put(Section.PROCESS, EnumSet.of(LogEventType.ACTIVE_LOCALE, LogEventType.BITS, LogEventType.CARD_TABLE,
+                LogEventType.CDS_ARCHIVE, LogEventType.CLASSES_LOADED_EVENT, LogEventType.CLASSES_REDEFINED_EVENT,
+                LogEventType.CLASSES_UNLOADED_EVENT, LogEventType.CODE_CACHE, LogEventType.COMPILATION_EVENT,
+                LogEventType.COMPRESSED_CLASS_SPACE, LogEventType.DEOPTIMIZATION_EVENT,
+                LogEventType.DLL_OPERATION_EVENT, LogEventType.DYNAMIC_LIBRARY, LogEventType.ENVIRONMENT_VARIABLES,
+                LogEventType.EVENT, LogEventType.EXCEPTION_COUNTS, LogEventType.GC_HEAP_HISTORY_EVENT,
+                LogEventType.GC_PRECIOUS_LOG, LogEventType.GLOBAL_FLAGS, LogEventType.HEAP, LogEventType.HEAP_ADDRESS,
+                LogEventType.HEAP_REGIONS, LogEventType.INTERNAL_EXCEPTION_EVENT, LogEventType.INTERNAL_STATISTICS,
+                LogEventType.LOGGING, LogEventType.METASPACE, LogEventType.NARROW_KLASS,
+                LogEventType.NATIVE_DECODER_STATE, LogEventType.NATIVE_MEMORY_TRACKING,
+                LogEventType.PERIODIC_NATIVE_TRIM, LogEventType.POLLING_PAGE, LogEventType.SIGNAL_HANDLERS,
+                LogEventType.THREAD, LogEventType.THREADS_ACTIVE_COMPILE, LogEventType.THREADS_CLASS_SMR_INFO,
+                LogEventType.UID, LogEventType.UMASK, LogEventType.VM_ARGUMENTS, LogEventType.VM_MUTEX,
+                LogEventType.VM_OPERATION_EVENT, LogEventType.VM_STATE, LogEventType.ZGC_GLOBALS,
+                LogEventType.ZGC_METADATA_BITS, LogEventType.ZGC_PAGE_TABLE, LogEventType.ZGC_PHASE_SWITCH_EVENT));
+        sections.put(Section.SUMMARY, EnumSet.of(LogEventType.COMMAND_LINE, LogEventType.ELAPSED_TIME,
+                LogEventType.HOST, LogEventType.TIME, LogEventType.TIME_ELAPSED_TIME, LogEventType.TIMEZONE));
+        sections.put(Section.SYSTEM, EnumSet.of(LogEventType.CONTAINER_INFO, LogEventType.CPU_INFO,
+                LogEventType.ELAPSED_TIME, LogEventType.END, LogEventType.LD_PRELOAD_FILE, LogEventType.LIBC,
+                LogEventType.LOAD_AVERAGE, LogEventType.MAX_MAP_COUNT, LogEventType.MEMINFO, LogEventType.MEMORY,
+                LogEventType.NUMBER, LogEventType.OS_INFO, LogEventType.OS_UPTIME, LogEventType.PID_MAX,
+                LogEventType.PROCESS_MEMORY, LogEventType.RLIMIT, LogEventType.THREADS_MAX, LogEventType.TIME,
+                LogEventType.TIMEZONE, LogEventType.TRANSPARENT_HUGEPAGE_DEFRAG,
+                LogEventType.TRANSPARENT_HUGEPAGE_ENABLED, LogEventType.UID, LogEventType.UMASK, LogEventType.UNAME,
+                LogEventType.VIRTUALIZATION_INFO, LogEventType.VM_INFO));
+        sections.put(Section.THREAD, EnumSet.of(LogEventType.CONSTANT_POOL, LogEventType.CURRENT_COMPILE_TASK,
+                LogEventType.CURRENT_THREAD, LogEventType.INSTRUCTIONS, LogEventType.MACH_CODE, LogEventType.REGISTER,
+                LogEventType.REGISTER_TO_MEMORY_MAPPING, LogEventType.SIGINFO, LogEventType.STACK,
+                LogEventType.STACK_SLOT_TO_MEMORY_MAPPING, LogEventType.TOP_OF_STACK, LogEventType.VM_OPERATION));
+        sections.put(Section.UNKNOWN, EnumSet.allOf(LogEventType.class));
+        List<EnumSet<LogEventType>> candidates = new ArrayList<EnumSet<LogEventType>>(OTHER + 1);
+        for (char c = 0; c < SIZE; c++) {
+            candidates.add(getCandidates(patterns, String.valueOf(c)));
+        }
+        EnumSet<LogEventType> emptyLine = getCandidates(patterns, "");
+        // BlankLine matches an empty line without a pattern
+        emptyLine.add(LogEventType.BLANK_LINE);
+        candidates.add(emptyLine);
+        candidates.add(EnumSet.allOf(LogEventType.class));
+        CANDIDATES = new EnumMap<Section, List<Set<LogEventType>>>(Section.class);
+        SECTION_EVENT_TYPES = new EnumMap<Section, Set<LogEventType>>(Section.class);
+        for (Entry<Section, EnumSet<LogEventType>> section : sections.entrySet()) {
+            section.getValue().add(LogEventType.BLANK_LINE);
+            section.getValue().add(LogEventType.HEADING);
+            section.getValue().add(LogEventType.TIMEOUT);
+            SECTION_EVENT_TYPES.put(section.getKey(), Collections.unmodifiableSet(section.getValue()));
+            List<Set<LogEventType>> sectionCandidates = new ArrayList<Set<LogEventType>>(candidates.size());
+            for (EnumSet<LogEventType> eventTypes : candidates) {
+                EnumSet<LogEventType> sectionEventTypes = EnumSet.copyOf(eventTypes);
+                sectionEventTypes.retainAll(section.getValue());
+                sectionCandidates.add(Collections.unmodifiableSet(sectionEventTypes));
+            }
+            CANDIDATES.put(section.getKey(), sectionCandidates);
+        }
+    }
+
+    /**
+     * @param logLine
+     *            The log line as it appears in the fatal error log.
+     * @return The event types that could match the log line.
+     */
+    public static final Set<LogEventType> getCandidates(CharSequence logLine) {
+        return getCandidates(logLine, Section.UNKNOWN);
+    }
+
+    /**
+     * @param logLine
+     *            The log line as it appears in the fatal error log.
+     * @param section
+     *            The section the log line is in, or <code>Section.UNKNOWN</code> if not known.
+     * @return The event types that could match the log line and can appear in the section.
+     */
+    public static final Set<LogEventType> getCandidates(CharSequence logLine, Section section) {
+        int entry;
+        if (logLine.length() == 0) {
+            entry = EMPTY_LINE;
+        } else if (logLine.charAt(0) < SIZE) {
+            entry = logLine.charAt(0);
+        } else {
+            entry = OTHER;
+        }
+        return CANDIDATES.get(section).get(entry);
+    }
+
+    /**
+     * @param patterns
+     *            The patterns tested by each event type.
+     * @param probe
+     *            The log line prefix. An empty prefix only matches an empty log line.
+     * @return The event types that could match a log line starting with the prefix.
+     */
+    private static final EnumSet<LogEventType> getCandidates(EnumMap<LogEventType, Pattern[]> patterns,
+            String probe) {
+        EnumSet<LogEventType> candidates = EnumSet.allOf(LogEventType.class);
+        for (Entry<LogEventType, Pattern[]> entry : patterns.entrySet()) {
+            boolean candidate = false;
+            for (Pattern pattern : entry.getValue()) {
+                Matcher matcher = PatternRegistry.matcher(pattern, probe);
+                if (matcher.matches() || (probe.length() > 0 && matcher.hitEnd())) {
+                    candidate = true;
+                    break;
+                }
+            }
+            if (!candidate) {
+                candidates.remove(entry.getKey());
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * @param section
+     *            The section.
+     * @return The event types that can appear in the section, including blank lines, headings, and timeouts.
+     */
+    public static final Set<LogEventType> getEventTypes(Section section) {
+        return SECTION_EVENT_TYPES.get(section);
+    }
+
+    /**
+     * Make default constructor private so the class cannot be instantiated.
+     */
+    private LogEventTypeIndex() {
+
+    }
+}
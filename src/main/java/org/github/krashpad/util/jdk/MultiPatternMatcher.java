@@ -0,0 +1,309 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.util.jdk;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.regex.Pattern;
+
+/**
+ * <p>
+ * Finds which of a set of regular expressions are in a log line, scanning the log line once.
+ * </p>
+ * 
+ * <p>
+ * Each regular expression is reduced to the longest literal it requires (e.g. "libclntsh" for
+ * "^.+libclntsh.(dll|so).+$"). The literals are compiled into an Aho-Corasick automaton, so one pass over a log line
+ * finds every regular expression whose literal is present. Only those are verified with
+ * <code>Matcher.find()</code>. A regular expression without a required literal (e.g. a top level alternation) is
+ * always verified.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class MultiPatternMatcher {
+
+    /**
+     * @param regex
+     *            A regular expression.
+     * @return The longest literal every match of the regular expression contains, or null if none is identified. The
+     *         analysis is conservative: groups, character classes, and optional or repeated characters are not part of
+     *         a literal, and a regular expression with a top level alternation, an inline flag, or a character escape
+     *         has no literal.
+     */
+    static String getRequiredLiteral(String regex) {
+        if (regex.contains("(?")) {
+            return null;
+        }
+        String longest = "";
+        StringBuilder run = new StringBuilder();
+        int i = 0;
+        while (i < regex.length()) {
+            char c = regex.charAt(i);
+            if (c == '\\') {
+                if (i + 1 >= regex.length()) {
+                    return null;
+                }
+                char escaped = regex.charAt(i + 1);
+                if (!Character.isLetterOrDigit(escaped)) {
+                    run.append(escaped);
+                } else if ("dDsSwWbB".indexOf(escaped) >= 0) {
+                    longest = longest(longest, run);
+                } else {
+                    return null;
+                }
+                i += 2;
+            } else if (c == '[') {
+                longest = longest(longest, run);
+                i = skipClass(regex, i);
+            } else if (c == '(') {
+                longest = longest(longest, run);
+                i = skipGroup(regex, i);
+                if (i < 0) {
+                    return null;
+                }
+            } else if (c == '|') {
+                return null;
+            } else if (c == '*' || c == '?' || c == '{') {
+                // The preceding character is optional
+                if (run.length() > 0) {
+                    run.setLength(run.length() - 1);
+                }
+                longest = longest(longest, run);
+                if (c == '{') {
+                    i = regex.indexOf('}', i);
+                    if (i < 0) {
+                        return null;
+                    }
+                }
+                i++;
+            } else if (c == '+' || c == '.' || c == '^' || c == '$') {
+                longest = longest(longest, run);
+                i++;
+            } else {
+                run.append(c);
+                i++;
+            }
+        }
+        longest = longest(longest, run);
+        return longest.isEmpty() ? null : longest;
+    }
+
+    /**
+     * @param longest
+     *            The longest literal so far.
+     * @param run
+     *            The literal that just ended. It is cleared.
+     * @return The longer of the two literals.
+     */
+    private static String longest(String longest, StringBuilder run) {
+        if (run.length() > longest.length()) {
+            longest = run.toString();
+        }
+        run.setLength(0);
+        return longest;
+    }
+
+    /**
+     * @param regex
+     *            A regular expression.
+     * @param start
+     *            The index of the "[" that starts a character class.
+     * @return The index after the "]" that ends the character class.
+     */
+    private static int skipClass(String regex, int start) {
+        int i = start + 1;
+        if (i < regex.length() && regex.charAt(i) == '^') {
+            i++;
+        }
+        if (i < regex.length() && regex.charAt(i) == ']') {
+            i++;
+        }
+        int depth = 1;
+        while (i < regex.length() && depth > 0) {
+            char c = regex.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == '[') {
+                depth++;
+            } else if (c == ']') {
+                depth--;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * @param regex
+     *            A regular expression.
+     * @param start
+     *            The index of the "(" that starts a group.
+     * @return The index after the ")" that ends the group, or -1 if the group is not closed.
+     */
+    private static int skipGroup(String regex, int start) {
+        int i = start + 1;
+        int depth = 1;
+        while (i < regex.length() && depth > 0) {
+            char c = regex.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == '[') {
+                i = skipClass(regex, i) - 1;
+            } else if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            }
+            i++;
+        }
+        return depth == 0 ? i : -1;
+    }
+
+    /**
+     * The regular expressions that have no required literal and are always verified.
+     */
+    private final BitSet alwaysVerified;
+
+    /**
+     * The automaton failure transition for each state.
+     */
+    private final int[] failures;
+
+    /**
+     * The regular expressions whose literal ends at each automaton state (including by failure transitions).
+     */
+    private final BitSet[] outputs;
+
+    /**
+     * The compiled regular expressions.
+     */
+    private final Pattern[] patterns;
+
+    /**
+     * The automaton goto transitions for each state.
+     */
+    private final List<Map<Character, Integer>> transitions;
+
+    /**
+     * @param regexes
+     *            The regular expressions.
+     */
+    public MultiPatternMatcher(List<String> regexes) {
+        patterns = new Pattern[regexes.size()];
+        alwaysVerified = new BitSet(regexes.size());
+        transitions = new ArrayList<Map<Character, Integer>>();
+        transitions.add(new HashMap<Character, Integer>());
+        List<BitSet> ends = new ArrayList<BitSet>();
+        ends.add(new BitSet());
+        for (int i = 0; i < regexes.size(); i++) {
+            patterns[i] = PatternRegistry.getPattern(regexes.get(i));
+            String literal = getRequiredLiteral(regexes.get(i));
+            if (literal == null) {
+                alwaysVerified.set(i);
+            } else {
+                int state = 0;
+                for (int j = 0; j < literal.length(); j++) {
+                    Integer next = transitions.get(state).get(literal.charAt(j));
+                    if (next == null) {
+                        next = transitions.size();
+                        transitions.get(state).put(literal.charAt(j), next);
+                        transitions.add(new HashMap<Character, Integer>());
+                        ends.add(new BitSet());
+                    }
+                    state = next;
+                }
+                ends.get(state).set(i);
+            }
+        }
+        failures = new int[transitions.size()];
+        outputs = ends.toArray(new BitSet[ends.size()]);
+        // Breadth first, so the failure state of each state is set before its children
+        Queue<Integer> queue = new ArrayDeque<Integer>(transitions.get(0).values());
+        while (!queue.isEmpty()) {
+            int state = queue.remove();
+            for (Map.Entry<Character, Integer> transition : transitions.get(state).entrySet()) {
+                int child = transition.getValue();
+                int failure = failures[state];
+                while (failure > 0 && !transitions.get(failure).containsKey(transition.getKey())) {
+                    failure = failures[failure];
+                }
+                Integer target = transitions.get(failure).get(transition.getKey());
+                failures[child] = target != null && target != child ? target : 0;
+                outputs[child].or(outputs[failures[child]]);
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * @param text
+     *            The text (e.g. a log line).
+     * @return The indexes of the regular expressions with a required literal that is in the text, plus those that
+     *         have none. They still need to be verified.
+     */
+    BitSet getCandidates(CharSequence text) {
+        BitSet candidates = (BitSet) alwaysVerified.clone();
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            Integer next = transitions.get(state).get(c);
+            while (next == null && state > 0) {
+                state = failures[state];
+                next = transitions.get(state).get(c);
+            }
+            state = next == null ? 0 : next;
+            candidates.or(outputs[state]);
+        }
+        return candidates;
+    }
+
+    /**
+     * @param index
+     *            The index of a regular expression.
+     * @return The compiled regular expression.
+     */
+    public Pattern getPattern(int index) {
+        return patterns[index];
+    }
+
+    /**
+     * @param text
+     *            The text (e.g. a log line).
+     * @return The indexes of the regular expressions found in the text (<code>Matcher.find()</code>).
+     */
+    public BitSet match(CharSequence text) {
+        BitSet matches = getCandidates(text);
+        for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+            if (!PatternRegistry.matcher(patterns[i], text).find()) {
+                matches.clear(i);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * @return The number of regular expressions.
+     */
+    public int size() {
+        return patterns.length;
+    }
+}
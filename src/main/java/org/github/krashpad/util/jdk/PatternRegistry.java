@@ -0,0 +1,160 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.util.jdk;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * <p>
+ * Central registry of compiled regular expressions.
+ * </p>
+ * 
+ * <p>
+ * <code>String.matches(regex)</code> compiles a new <code>Pattern</code> on every call. Event classes are tested
+ * against every log line, so the event, header, footer, and error regular expressions are compiled once here and
+ * shared. <code>Pattern</code> is immutable and thread safe. A new <code>Matcher</code> is created for each match so
+ * callers do not share mutable state.
+ * </p>
+ * 
+ * <p>
+ * Only use the registry for regular expressions that are constants (or a bounded set of values). Patterns are never
+ * evicted.
+ * </p>
+ * 
+ * <p>
+ * A thread can count the patterns it evaluates (e.g. to profile the analysis rules) with {@link #setCounting(boolean)}.
+ * Each <code>Matcher</code> created with {@link #matcher(Pattern, CharSequence)} (or {@link #matches(CharSequence,
+ * String)}) is counted as one evaluation, whether or not the pattern is registered (e.g. a pattern built from log
+ * content), so match through the registry rather than with <code>Pattern.matcher</code> or
+ * <code>String.matches</code>.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class PatternRegistry {
+
+    /**
+     * The number of threads counting evaluations, so lookups skip the thread local when no thread is counting.
+     */
+    private static final AtomicInteger COUNTING_THREADS = new AtomicInteger();
+
+    /**
+     * The number of evaluations by the current thread, or null if the thread is not counting.
+     */
+    private static final ThreadLocal<long[]> EVALUATIONS = new ThreadLocal<long[]>();
+
+    /**
+     * Compiled patterns keyed by regular expression.
+     */
+    private static final ConcurrentMap<String, Pattern> PATTERNS = new ConcurrentHashMap<String, Pattern>();
+
+    /**
+     * @return The number of patterns evaluated by the current thread since counting was enabled, or 0 if the thread
+     *         is not counting.
+     */
+    public static final long getEvaluationCount() {
+        long[] evaluations = EVALUATIONS.get();
+        return evaluations == null ? 0 : evaluations[0];
+    }
+
+    /**
+     * @param regex
+     *            The regular expression.
+     * @return The compiled <code>Pattern</code> for the regular expression.
+     */
+    public static final Pattern getPattern(final String regex) {
+        Pattern pattern = PATTERNS.get(regex);
+        if (pattern == null) {
+            pattern = Pattern.compile(regex);
+            Pattern existing = PATTERNS.putIfAbsent(regex, pattern);
+            if (existing != null) {
+                pattern = existing;
+            }
+        }
+        return pattern;
+    }
+
+    /**
+     * @return The compiled patterns registered so far (e.g. for testing the regular expressions).
+     */
+    public static final Collection<Pattern> getPatterns() {
+        return Collections.unmodifiableCollection(PATTERNS.values());
+    }
+
+    /**
+     * Equivalent to <code>pattern.matcher(input)</code>, counted as one evaluation when the current thread is counting.
+     * 
+     * @param pattern
+     *            The compiled regular expression.
+     * @param input
+     *            The character sequence to match.
+     * @return A new <code>Matcher</code> of the input.
+     */
+    public static final Matcher matcher(final Pattern pattern, final CharSequence input) {
+        if (COUNTING_THREADS.get() > 0) {
+            long[] evaluations = EVALUATIONS.get();
+            if (evaluations != null) {
+                evaluations[0]++;
+            }
+        }
+        return pattern.matcher(input);
+    }
+
+    /**
+     * Equivalent to <code>input.matches(regex)</code> without compiling the regular expression on every call.
+     * 
+     * @param input
+     *            The character sequence to test.
+     * @param regex
+     *            The regular expression.
+     * @return true if the entire input matches the regular expression, false otherwise.
+     */
+    public static final boolean matches(final CharSequence input, final String regex) {
+        return matcher(getPattern(regex), input).matches();
+    }
+
+    /**
+     * @param counting
+     *            true to count the patterns evaluated by the current thread (starting from 0), false to stop counting.
+     */
+    public static final void setCounting(final boolean counting) {
+        long[] evaluations = EVALUATIONS.get();
+        if (counting) {
+            if (evaluations == null) {
+                EVALUATIONS.set(new long[1]);
+                COUNTING_THREADS.incrementAndGet();
+            } else {
+                evaluations[0] = 0;
+            }
+        } else if (evaluations != null) {
+            EVALUATIONS.remove();
+            COUNTING_THREADS.decrementAndGet();
+        }
+    }
+
+    /**
+     * Make default constructor private so the class cannot be instantiated.
+     */
+    private PatternRegistry() {
+
+    }
+}
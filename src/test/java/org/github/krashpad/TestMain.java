@@ -19,6 +19,12 @@ import static org.github.krashpad.util.Constants.OPTION_HELP_LONG;
 import static org.github.krashpad.util.Constants.OPTION_HELP_SHORT;
 import static org.github.krashpad.util.Constants.OPTION_OUTPUT_LONG;
 import static org.github.krashpad.util.Constants.OPTION_OUTPUT_SHORT;
+import static org.github.krashpad.util.Constants.OPTION_PROFILE_FILE_LONG;
+import static org.github.krashpad.util.Constants.OPTION_PROFILE_FILE_SHORT;
+import static org.github.krashpad.util.Constants.OPTION_PROFILE_LONG;
+import static org.github.krashpad.util.Constants.OPTION_PROFILE_SHORT;
+import static org.github.krashpad.util.Constants.OPTION_SIGNATURES_LONG;
+import static org.github.krashpad.util.Constants.OPTION_SIGNATURES_SHORT;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -54,6 +60,11 @@ class TestMain {
                 "--help", //
                 "--output", //
                 "12345678.txt", //
+                "--profile", //
+                "--profile-file", //
+                "12345678.csv", //
+                "--signatures", //
+                "signatures.txt", //
                 // Instead of a file, use a location sure to exist.
                 temporaryFolder.getAbsolutePath() //
         };
@@ -61,6 +72,9 @@ class TestMain {
         assertNotNull(cmd);
         assertHasOption(cmd, OPTION_HELP_LONG);
         assertHasOption(cmd, OPTION_OUTPUT_LONG);
+        assertHasOption(cmd, OPTION_PROFILE_LONG);
+        assertHasOption(cmd, OPTION_PROFILE_FILE_LONG);
+        assertHasOption(cmd, OPTION_SIGNATURES_LONG);
     }
 
     @Test
@@ -98,6 +112,11 @@ class TestMain {
                 "-h", //
                 "-o", //
                 "12345678.txt", //
+                "-p", //
+                "-P", //
+                "12345678.csv", //
+                "-s", //
+                "signatures.txt", //
                 // Instead of a file, use a location sure to exist.
                 temporaryFolder.getAbsolutePath() //
         };
@@ -105,5 +124,16 @@ class TestMain {
         assertNotNull(cmd);
         assertHasOption(cmd, OPTION_HELP_SHORT);
         assertHasOption(cmd, OPTION_OUTPUT_SHORT);
+        assertHasOption(cmd, OPTION_PROFILE_SHORT);
+        assertHasOption(cmd, OPTION_PROFILE_FILE_SHORT);
+        assertHasOption(cmd, OPTION_SIGNATURES_SHORT);
+    }
+
+    @Test
+    void testStandardInput() throws Exception {
+        // Method arguments
+        String[] args = new String[] { "-c", "-" };
+        CommandLine cmd = OptionsParser.parseOptions(args);
+        assertNotNull(cmd);
     }
 }
@@ -16,10 +16,25 @@ package org.github.krashpad.domain.jdk;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.GZIPOutputStream;
 
 import org.github.joa.domain.Arch;
 import org.github.joa.domain.GarbageCollector;
@@ -31,6 +46,7 @@ import org.github.krashpad.util.Constants.OsVendor;
 import org.github.krashpad.util.Constants.OsVersion;
 import org.github.krashpad.util.KrashUtil;
 import org.github.krashpad.util.jdk.Analysis;
+import org.github.krashpad.util.jdk.AnalysisProfile;
 import org.github.krashpad.util.jdk.JdkUtil;
 import org.github.krashpad.util.jdk.JdkUtil.Application;
 import org.github.krashpad.util.jdk.JdkUtil.CompressedOopMode;
@@ -78,6 +94,70 @@ class TestFatalErrorLog {
         assertFalse(Application.AMQ_CLI == fel.getApplication(), "AMQ CLI application incorrectly identified.");
     }
 
+    @Test
+    void testAnalysisProfile() {
+        File testFile = new File(Constants.TEST_DATA_DIR + "dataset34.txt");
+        Manager manager = new Manager();
+        FatalErrorLog fel = manager.parse(testFile);
+        assertNull(fel.getAnalysisProfile(), "Analysis incorrectly profiled.");
+        List<String[]> analysis = fel.getAnalysis();
+        manager = new Manager();
+        manager.setProfile(true);
+        fel = manager.parse(testFile);
+        AnalysisProfile profile = fel.getAnalysisProfile();
+        assertNotNull(profile, "Analysis not profiled.");
+        assertEquals(analysis.size(), fel.getAnalysis().size(), "Profiling changed the analysis.");
+        assertEquals(AnalysisProfile.PROBE, profile.getRuleCosts().get(0).getRule(), "Probe pass not profiled.");
+        assertEquals(AnalysisProfile.DERIVED, profile.getRuleCosts().get(1).getRule(), "Derived values not profiled.");
+        assertTrue(profile.getRuleCosts().get(1).getRegexEvaluations() > 0,
+                "Derived value regex evaluations not counted.");
+        AnalysisProfile.RuleCost storage = null;
+        long regexEvaluations = 0;
+        for (AnalysisProfile.RuleCost ruleCost : profile.getRuleCosts()) {
+            if (ruleCost.getRule().equals("STORAGE")) {
+                storage = ruleCost;
+            }
+            regexEvaluations += ruleCost.getRegexEvaluations();
+        }
+        assertNotNull(storage, "STORAGE rule not profiled.");
+        assertTrue(storage.isFired(), "STORAGE rule not fired.");
+        assertTrue(regexEvaluations > 0, "Regex evaluations not counted.");
+        int ruleCount = profile.getRuleCosts().size();
+        fel.doAnalysis();
+        assertEquals(ruleCount, profile.getRuleCosts().size(), "Rule costs not redone with the analysis.");
+    }
+
+    @Test
+    void testAnalysisRules() {
+        File testFile = new File(Constants.TEST_DATA_DIR + "dataset34.txt");
+        Manager manager = new Manager();
+        FatalErrorLog fel = manager.parse(testFile);
+        assertTrue(fel.hasAnalysis(Analysis.INFO_STORAGE_AWS.getKey()),
+                Analysis.INFO_STORAGE_AWS + " analysis not identified.");
+        List<String[]> analysis = fel.getAnalysis();
+        fel.doAnalysis();
+        List<String[]> reanalysis = fel.getAnalysis();
+        assertEquals(analysis.size(), reanalysis.size(), "Analysis count not correct after reanalysis.");
+        for (int i = 0; i < analysis.size(); i++) {
+            assertEquals(analysis.get(i)[0], reanalysis.get(i)[0], "Analysis order not correct after reanalysis.");
+        }
+        fel = new FatalErrorLog();
+        fel.setAnalysisProfile(new AnalysisProfile());
+        fel.doAnalysis();
+        assertFalse(fel.hasAnalysis(Analysis.INFO_STORAGE_UNKNOWN.getKey()),
+                Analysis.INFO_STORAGE_UNKNOWN + " analysis incorrectly identified without dynamic libraries.");
+        assertFalse(fel.hasAnalysis(Analysis.INFO_SHUTDOWN.getKey()),
+                Analysis.INFO_SHUTDOWN + " analysis incorrectly identified without events.");
+        List<String> rules = new ArrayList<String>();
+        for (AnalysisProfile.RuleCost ruleCost : fel.getAnalysisProfile().getRuleCosts()) {
+            rules.add(ruleCost.getRule());
+        }
+        assertTrue(rules.contains("JVM_OPTIONS"), "JVM_OPTIONS rule not run.");
+        assertFalse(rules.contains("LIBJVM"), "LIBJVM rule run without a stack, header, or current thread.");
+        assertFalse(rules.contains("APP_DYNAMICS"), "APP_DYNAMICS rule run without JVM options or compilation events.");
+        assertFalse(rules.contains("POINTER"), "POINTER rule run without signal information.");
+    }
+
     @Test
     void testAnonHugePages() {
         FatalErrorLog fel = new FatalErrorLog();
@@ -340,6 +420,24 @@ class TestFatalErrorLog {
         assertEquals(874, fel.getDynamicLibraries().size(), "Dynamic library count not correct.");
     }
 
+    @Test
+    void testFreeze() {
+        File testFile = new File(Constants.TEST_DATA_DIR + "dataset32.txt");
+        Manager manager = new Manager();
+        FatalErrorLog fel = manager.parse(testFile);
+        assertTrue(fel.isFrozen(), "Fatal error log not frozen after analysis.");
+        fel = new FatalErrorLog();
+        fel.setUname(new Uname("uname:Linux 3.10.0-514.6.1.el7.x86_64 #1 SMP Sat Dec 10 11:15:38 EST 2016 x86_64"));
+        fel.freeze();
+        assertEquals(OsVersion.RHEL7, fel.getOsVersion(), "OS version not correct.");
+        assertEquals(OsVersion.RHEL7, fel.getOsVersion(), "Cached OS version not correct.");
+        fel.setUname(new Uname("uname:Linux 4.18.0-348.2.1.el8_5.x86_64 #1 SMP Mon Nov 8 13:30:15 EST 2021 x86_64"));
+        assertEquals(OsVersion.RHEL8, fel.getOsVersion(), "OS version not recomputed after setting uname.");
+        fel.unfreeze();
+        assertFalse(fel.isFrozen(), "Fatal error log not unfrozen.");
+        assertEquals(OsVersion.RHEL8, fel.getOsVersion(), "OS version not correct after unfreezing.");
+    }
+
     @Test
     void testG1() {
         File testFile = new File(Constants.TEST_DATA_DIR + "dataset32.txt");
@@ -434,6 +532,24 @@ class TestFatalErrorLog {
         assertFalse(fel.isRhBuildString(), "RH build string identified.");
     }
 
+    @Test
+    void testGzipInputStream() throws IOException {
+        File testFile = new File(Constants.TEST_DATA_DIR + "dataset41.txt");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        GZIPOutputStream gzipOutputStream = new GZIPOutputStream(out);
+        gzipOutputStream.write(Files.readAllBytes(testFile.toPath()));
+        gzipOutputStream.close();
+        FatalErrorLog fel = new Manager().parse(testFile);
+        FatalErrorLog felGzip = new Manager().parse(new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(0, felGzip.getUnidentifiedLogLines().size(), "Unidentified log lines.");
+        assertEquals(fel.getThreads().size(), felGzip.getThreads().size(), "Thread count not correct.");
+        assertEquals(fel.getStacks().size(), felGzip.getStacks().size(), "Stack count not correct.");
+        assertEquals(fel.getDynamicLibrariesMappingCount(), felGzip.getDynamicLibrariesMappingCount(),
+                "Dynamic library mapping count not correct.");
+        assertEquals(fel.getMeminfos().size(), felGzip.getMeminfos().size(), "Meminfo count not correct.");
+        assertEquals(fel.getAnalysis().size(), felGzip.getAnalysis().size(), "Analysis not correct.");
+    }
+
     @Test
     void testHaveDebuggingSymbols() {
         FatalErrorLog fel = new FatalErrorLog();
@@ -815,6 +931,37 @@ class TestFatalErrorLog {
         assertEquals(Application.KAFKA, fel.getApplication(), Application.KAFKA + " application not identified.");
     }
 
+    @Test
+    void testLongLines() throws IOException {
+        File testFile = new File(Constants.TEST_DATA_DIR + "dataset41.txt");
+        StringBuilder classpath = new StringBuilder("/opt/app/lib/app.jar");
+        for (int i = 0; i < 20000; i++) {
+            classpath.append(":/opt/app/lib/lib" + i + ".jar");
+        }
+        StringBuilder log = new StringBuilder();
+        for (String logLine : Files.readAllLines(testFile.toPath())) {
+            if (logLine.startsWith("jvm_args: ")) {
+                logLine = logLine + " -cp " + classpath;
+            }
+            log.append(logLine).append(Constants.LINE_SEPARATOR);
+            if (logLine.startsWith("Environment Variables:")) {
+                log.append("CLASSPATH=" + classpath).append(Constants.LINE_SEPARATOR);
+            }
+        }
+        Manager manager = new Manager();
+        manager.setClassificationWindow(256);
+        manager.setMaxLineLength(1024);
+        FatalErrorLog fel = manager.parse(new ByteArrayInputStream(log.toString().getBytes()));
+        FatalErrorLog felFull = new Manager().parse(testFile);
+        assertEquals(1024 - "jvm_args: ".length(), fel.getJvmArgs().length(), "jvm_args not truncated.");
+        assertTrue(fel.getJvmArgs().startsWith(felFull.getJvmArgs()), "jvm_args not correct.");
+        assertEquals(felFull.getVmArguments().size(), fel.getVmArguments().size(), "VM argument count not correct.");
+        assertEquals(felFull.getEnvironmentVariables().size() + 1, fel.getEnvironmentVariables().size(),
+                "Environment variable count not correct.");
+        assertEquals(felFull.getUnidentifiedLogLines().size(), fel.getUnidentifiedLogLines().size(),
+                "Unidentified log line count not correct.");
+    }
+
     @Test
     void testLogicalCpus() {
         File testFile = new File(Constants.TEST_DATA_DIR + "dataset53.txt");
@@ -904,6 +1051,20 @@ class TestFatalErrorLog {
         assertEquals(committedAs, fel.getOsCommittedAs(), "Committed_AS not correct.");
     }
 
+    @Test
+    void testMemoryMapped() {
+        File testFile = new File(Constants.TEST_DATA_DIR + "dataset41.txt");
+        FatalErrorLog fel = new Manager().parse(testFile);
+        FatalErrorLog felMemoryMapped = new Manager().parse(testFile.toPath());
+        assertEquals(0, felMemoryMapped.getUnidentifiedLogLines().size(), "Unidentified log lines.");
+        assertEquals(fel.getThreads().size(), felMemoryMapped.getThreads().size(), "Thread count not correct.");
+        assertEquals(fel.getStacks().size(), felMemoryMapped.getStacks().size(), "Stack count not correct.");
+        assertEquals(fel.getDynamicLibrariesMappingCount(), felMemoryMapped.getDynamicLibrariesMappingCount(),
+                "Dynamic library mapping count not correct.");
+        assertEquals(fel.getMeminfos().size(), felMemoryMapped.getMeminfos().size(), "Meminfo count not correct.");
+        assertEquals(fel.getAnalysis().size(), felMemoryMapped.getAnalysis().size(), "Analysis not correct.");
+    }
+
     @Test
     void testMemoryWindows() {
         File testFile = new File(Constants.TEST_DATA_DIR + "dataset80.txt");
@@ -1271,6 +1432,20 @@ class TestFatalErrorLog {
                 Analysis.INFO_RH_BUILD_WINDOWS_ZIP + " analysis not identified.");
     }
 
+    @Test
+    void testSectionAware() {
+        File testFile = new File(Constants.TEST_DATA_DIR + "dataset41.txt");
+        FatalErrorLog fel = new Manager().parse(testFile);
+        FatalErrorLog felSectionAware = new Manager().parse(testFile, true);
+        assertEquals(0, felSectionAware.getUnidentifiedLogLines().size(), "Unidentified log lines.");
+        assertEquals(fel.getThreads().size(), felSectionAware.getThreads().size(), "Thread count not correct.");
+        assertEquals(fel.getStacks().size(), felSectionAware.getStacks().size(), "Stack count not correct.");
+        assertEquals(fel.getDynamicLibrariesMappingCount(), felSectionAware.getDynamicLibrariesMappingCount(),
+                "Dynamic library mapping count not correct.");
+        assertEquals(fel.getMeminfos().size(), felSectionAware.getMeminfos().size(), "Meminfo count not correct.");
+        assertEquals(fel.getAnalysis().size(), felSectionAware.getAnalysis().size(), "Analysis not correct.");
+    }
+
     @Test
     void testShenandoah() {
         File testFile = new File(Constants.TEST_DATA_DIR + "dataset31.txt");
@@ -1335,6 +1510,63 @@ class TestFatalErrorLog {
         assertEquals(causedBy.toString(), fel.getError(), "Caused by incorrect.");
     }
 
+    @Test
+    void testSnapshot() throws Exception {
+        File testFile = new File(Constants.TEST_DATA_DIR + "dataset32.txt");
+        Manager manager = new Manager();
+        FatalErrorLog fel = manager.parse(testFile);
+        manager = new Manager();
+        manager.setSnapshot(true);
+        FatalErrorLog snapshot = manager.parse(testFile);
+        assertFalse(fel.isImmutable(), "Fatal error log incorrectly immutable.");
+        assertTrue(snapshot.isImmutable(), "Snapshot not immutable.");
+        assertSame(snapshot, snapshot.snapshot(), "Snapshot copied again.");
+        assertEquals(fel.getStacks().size(), snapshot.getStacks().size(), "Stack count not correct.");
+        assertEquals(fel.getAnalysis().size(), snapshot.getAnalysis().size(), "Analysis count not correct.");
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getStacks().clear(),
+                "Snapshot event list modified.");
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.setUname(null), "Snapshot event set.");
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.doAnalysis(), "Snapshot analyzed again.");
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Integer>> results = new ArrayList<Future<Integer>>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(new Callable<Integer>() {
+                    @Override
+                    public Integer call() {
+                        assertEquals(OsVersion.RHEL7, snapshot.getOsVersion(), "OS version not correct.");
+                        String key = snapshot.getAnalysis().get(0)[0];
+                        assertTrue(snapshot.hasAnalysis(key), key + " analysis not identified.");
+                        return snapshot.getAnalysis().size();
+                    }
+                }));
+            }
+            for (Future<Integer> result : results) {
+                assertEquals(fel.getAnalysis().size(), result.get().intValue(), "Concurrent analysis not correct.");
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testSnapshotJvmOptions() {
+        File testFile = new File(Constants.TEST_DATA_DIR + "dataset32.txt");
+        Manager manager = new Manager();
+        FatalErrorLog fel = manager.parse(testFile);
+        FatalErrorLog snapshot = fel.snapshot();
+        assertNotNull(snapshot.getJvmOptions(), "Snapshot JVM options not copied.");
+        assertNotSame(fel.getJvmOptions(), snapshot.getJvmOptions(), "Snapshot JVM options shared.");
+        int size = snapshot.getJvmOptions().getAnalysis().size();
+        assertEquals(fel.getJvmOptions().getAnalysis().size(), size, "Snapshot JVM options analysis not copied.");
+        fel.addAnalysis(org.github.joa.util.Analysis.WARN_EXPLICIT_GC_DISABLED);
+        assertEquals(size, snapshot.getJvmOptions().getAnalysis().size(),
+                "Snapshot JVM options changed with the fatal error log.");
+        assertFalse(
+                snapshot.getJvmOptions().hasAnalysis(org.github.joa.util.Analysis.WARN_EXPLICIT_GC_DISABLED.getKey()),
+                "Snapshot JVM options changed with the fatal error log.");
+    }
+
     @Test
     void testSolaris() {
         File testFile = new File(Constants.TEST_DATA_DIR + "dataset7.txt");
@@ -14,9 +14,12 @@
  *********************************************************************************************************************/
 package org.github.krashpad.domain.jdk;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.github.krashpad.util.jdk.JdkUtil;
+import org.github.krashpad.util.jdk.JdkUtil.Section;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -60,6 +63,16 @@ class TestHeading {
                 JdkUtil.LogEventType.HEADING.toString() + " not identified.");
     }
 
+    @Test
+    void testSection() {
+        assertEquals(Section.THREAD, new Heading("---------------  T H R E A D  ---------------").getSection(),
+                "Section not correct.");
+        assertEquals(Section.SUMMARY, new Heading("---------------  S U M M A R Y ------------").getSection(),
+                "Section not correct.");
+        assertNull(new Heading("----------------------------------------------------------------------").getSection(),
+                "Separator incorrectly identified as a section.");
+    }
+
     @Test
     void testSummary() {
         String logLine = "---------------  S U M M A R Y ------------";
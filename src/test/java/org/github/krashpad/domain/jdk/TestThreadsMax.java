@@ -14,6 +14,7 @@
  *********************************************************************************************************************/
 package org.github.krashpad.domain.jdk;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.github.krashpad.util.jdk.JdkUtil;
@@ -37,6 +38,7 @@ class TestThreadsMax {
         String logLine = "/proc/sys/kernel/threads-max (system-wide limit on the number of threads): 254790";
         assertTrue(JdkUtil.parseLogLine(logLine, null) instanceof ThreadsMax,
                 JdkUtil.LogEventType.THREADS_MAX.toString() + " not parsed.");
+        assertEquals(254790L, ((ThreadsMax) JdkUtil.parseLogLine(logLine, null)).getLimit(), "Limit not correct.");
     }
 
     @Test
@@ -44,5 +46,8 @@ class TestThreadsMax {
         String logLine = "/proc/sys/kernel/threads-max (system-wide limit on the number of threads):";
         assertTrue(JdkUtil.parseLogLine(logLine, null) instanceof ThreadsMax,
                 JdkUtil.LogEventType.THREADS_MAX.toString() + " not parsed.");
+        ThreadsMax event = (ThreadsMax) JdkUtil.parseLogLine(logLine, null);
+        assertTrue(event.isHeader(), "Header not identified.");
+        assertEquals(Long.MIN_VALUE, event.getLimit(), "Limit not correct.");
     }
 }
\ No newline at end of file
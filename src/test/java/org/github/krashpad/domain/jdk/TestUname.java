@@ -15,6 +15,7 @@
 package org.github.krashpad.domain.jdk;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.github.joa.domain.Arch;
@@ -130,5 +131,9 @@ class TestUname {
         String logLine = "  (T2 libthread)";
         assertTrue(JdkUtil.identifyEventType(logLine, null) == JdkUtil.LogEventType.UNAME,
                 JdkUtil.LogEventType.UNAME.toString() + " not identified.");
+        Uname event = (Uname) JdkUtil.parseLogLine(logLine, null);
+        assertNull(event.getUname(), "Uname not correct.");
+        assertEquals(Arch.UNKNOWN, event.getArch(), "Arch not correct.");
+        assertEquals(Os.UNIDENTIFIED, event.getOsType(), "OS type not correct.");
     }
 }
@@ -0,0 +1,94 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.github.krashpad.domain.LogEvent;
+import org.github.krashpad.domain.UnknownEvent;
+import org.github.krashpad.domain.jdk.CpuInfo;
+import org.github.krashpad.domain.jdk.FatalErrorLog;
+import org.github.krashpad.domain.jdk.Heading;
+import org.github.krashpad.domain.jdk.NumberEvent;
+import org.github.krashpad.domain.jdk.Thread;
+import org.github.krashpad.util.Constants;
+import org.github.krashpad.util.jdk.JdkUtil.LogEventType;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestEventSinkRegistry {
+
+    @Test
+    void testDispatch() {
+        EventSinkRegistry registry = new EventSinkRegistry();
+        FatalErrorLog fel = new FatalErrorLog();
+        Thread thread = new Thread("  0x00007f19aa5128e0 JavaThread \"Thread-8\" daemon [_thread_blocked, id=18881, "
+                + "stack(0x00007f199cf04000,0x00007f199d005000)]");
+        registry.dispatch(fel, LogEventType.THREAD, thread, null);
+        assertEquals(1, fel.getThreads().size(), "Thread not added.");
+        registry.dispatch(fel, LogEventType.UNKNOWN, new UnknownEvent("MGM was here!"), thread);
+        assertEquals(1, fel.getUnidentifiedLogLines().size(), "Unidentified log line not added.");
+    }
+
+    @Test
+    void testNoSink() {
+        assertNull(new EventSinkRegistry().getSink(LogEventType.HEADING),
+                LogEventType.HEADING.toString() + " incorrectly has a sink.");
+    }
+
+    @Test
+    void testNumberMergedWithPriorEvent() {
+        EventSinkRegistry registry = new EventSinkRegistry();
+        FatalErrorLog fel = new FatalErrorLog();
+        CpuInfo cpuInfo = new CpuInfo("/sys/kernel/mm/transparent_hugepage/enabled:");
+        registry.dispatch(fel, LogEventType.CPU_INFO, cpuInfo, null);
+        registry.dispatch(fel, LogEventType.NUMBER, new NumberEvent("1"), cpuInfo);
+        assertEquals(1, fel.getCpuInfos().size(), "Number not merged with prior event.");
+        assertEquals("/sys/kernel/mm/transparent_hugepage/enabled: 1", fel.getCpuInfos().get(0).getLogEntry(),
+                "Merged log entry not correct.");
+    }
+
+    @Test
+    void testRegister() {
+        File testFile = new File(Constants.TEST_DATA_DIR + "dataset41.txt");
+        Manager manager = new Manager();
+        manager.getEventSinkRegistry().register(LogEventType.THREAD, null);
+        FatalErrorLog fel = manager.parse(testFile);
+        assertEquals(0, fel.getThreads().size(), "Threads not ignored.");
+        assertEquals(0, fel.getUnidentifiedLogLines().size(), "Unidentified log lines.");
+    }
+
+    @Test
+    void testRegisterDroppedType() {
+        File testFile = new File(Constants.TEST_DATA_DIR + "dataset41.txt");
+        Manager manager = new Manager();
+        List<LogEvent> headings = new ArrayList<LogEvent>();
+        manager.getEventSinkRegistry().register(LogEventType.HEADING,
+                (fatalErrorLog, event, priorEvent) -> headings.add(event));
+        manager.parse(testFile);
+        assertEquals(4, headings.size(), "Heading count not correct.");
+        assertTrue(headings.get(0) instanceof Heading, "Heading event not created.");
+        assertTrue(headings.get(0) != headings.get(1), "Heading event not created for each log line.");
+    }
+}
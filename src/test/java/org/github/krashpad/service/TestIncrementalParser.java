@@ -0,0 +1,104 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import org.github.krashpad.domain.jdk.FatalErrorLog;
+import org.github.krashpad.util.Constants;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestIncrementalParser {
+
+    @TempDir
+    Path temporaryFolder;
+
+    private static void assertSame(FatalErrorLog expected, FatalErrorLog actual) {
+        assertEquals(expected.getHeaders().size(), actual.getHeaders().size(), "Header count not correct.");
+        assertEquals(expected.getStacks().size(), actual.getStacks().size(), "Stack count not correct.");
+        assertEquals(expected.getEvents().size(), actual.getEvents().size(), "Event count not correct.");
+        assertEquals(expected.getVmArguments().size(), actual.getVmArguments().size(),
+                "VM argument count not correct.");
+        assertEquals(expected.getMeminfos().size(), actual.getMeminfos().size(), "Meminfo count not correct.");
+        assertEquals(expected.getUnidentifiedLogLines(), actual.getUnidentifiedLogLines(),
+                "Unidentified log lines not correct.");
+        assertEquals(expected.getAnalysis().size(), actual.getAnalysis().size(), "Analysis count not correct.");
+        assertEquals(expected.isTruncated(), actual.isTruncated(), "Truncated not correct.");
+    }
+
+    @Test
+    void testAppend() throws IOException {
+        File testFile = new File(Constants.TEST_DATA_DIR + "dataset70.txt");
+        byte[] bytes = Files.readAllBytes(testFile.toPath());
+        IncrementalParser parser = new IncrementalParser();
+        FatalErrorLog fel = parser.append(bytes, 0, bytes.length / 2);
+        assertTrue(fel.isTruncated(), "Partial fatal error log not identified as truncated.");
+        int headerCount = fel.getHeaders().size();
+        // Odd chunk size to split log lines across appends
+        for (int i = bytes.length / 2; i < bytes.length; i += 37) {
+            fel = parser.append(bytes, i, Math.min(37, bytes.length - i));
+        }
+        fel = parser.finish();
+        assertEquals(bytes.length, parser.getPosition(), "Position not correct.");
+        assertEquals(headerCount, fel.getHeaders().size(), "Log lines parsed more than once.");
+        assertFalse(fel.isTruncated(), "Complete fatal error log identified as truncated.");
+        assertSame(new Manager().parse(testFile), fel);
+    }
+
+    @Test
+    void testIncompleteLogLine() {
+        IncrementalParser parser = new IncrementalParser();
+        FatalErrorLog fel = parser.append("#\r\n# A fatal error has been detected by the Java Runtime Environment:\r"
+                .getBytes(StandardCharsets.US_ASCII));
+        assertEquals(2, fel.getHeaders().size(), "Header count not correct.");
+        fel = parser.append("\n#  SIGSEGV (0xb) at pc=0x00007f".getBytes(StandardCharsets.US_ASCII));
+        assertEquals(2, fel.getHeaders().size(), "Incomplete log line parsed.");
+        fel = parser.finish();
+        assertEquals(3, fel.getHeaders().size(), "Incomplete log line not parsed.");
+        assertEquals("#  SIGSEGV (0xb) at pc=0x00007f", fel.getHeaders().get(2).getLogEntry(),
+                "Log line not correct.");
+    }
+
+    @Test
+    void testUpdate() throws IOException {
+        File testFile = new File(Constants.TEST_DATA_DIR + "dataset41.txt");
+        byte[] bytes = Files.readAllBytes(testFile.toPath());
+        Path logFile = temporaryFolder.resolve("hs_err_pid1.log");
+        Files.write(logFile, Arrays.copyOf(bytes, 1000));
+        IncrementalParser parser = new IncrementalParser();
+        FatalErrorLog fel = parser.update(logFile);
+        assertEquals(1000, parser.getPosition(), "Position not correct.");
+        assertTrue(fel.isTruncated(), "Partial fatal error log not identified as truncated.");
+        Files.write(logFile, Arrays.copyOfRange(bytes, 1000, bytes.length), StandardOpenOption.APPEND);
+        fel = parser.update(logFile);
+        assertEquals(bytes.length, parser.getPosition(), "Position not correct.");
+        assertSame(new Manager().parse(testFile), fel);
+    }
+}
@@ -0,0 +1,177 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.github.krashpad.domain.jdk.FatalErrorLog;
+import org.github.krashpad.util.Constants;
+import org.github.krashpad.util.jdk.Analysis;
+import org.github.krashpad.util.jdk.CrashSignatureDatabase;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestLogSplitter {
+
+    private static List<String> readLines(String fileName) throws IOException {
+        return Files.readAllLines(new File(Constants.TEST_DATA_DIR + fileName).toPath(), StandardCharsets.ISO_8859_1);
+    }
+
+    @Test
+    void testEmpty() {
+        assertEquals(0, LogSplitter.split(new ArrayList<String>()).size(), "Logs found in no log lines.");
+    }
+
+    @Test
+    void testEnd() throws IOException {
+        List<String> logLines = new ArrayList<String>(readLines("dataset41.txt"));
+        int size41 = logLines.size();
+        logLines.addAll(readLines("dataset70.txt"));
+        List<List<String>> logs = LogSplitter.split(logLines);
+        assertEquals(2, logs.size(), "Log count not correct.");
+        assertEquals(size41, logs.get(0).size(), "First log size not correct.");
+        assertEquals(logLines.size() - size41, logs.get(1).size(), "Second log size not correct.");
+    }
+
+    @Test
+    void testHeaderAfterBody() {
+        List<String> logLines = Arrays.asList("#", "# A fatal error has been detected by the Java Runtime Environment:",
+                "#", "", "---------------  S U M M A R Y ------------", "", "#",
+                "# A fatal error has been detected by the Java Runtime Environment:");
+        List<List<String>> logs = LogSplitter.split(logLines);
+        assertEquals(2, logs.size(), "Log count not correct.");
+        assertEquals(6, logs.get(0).size(), "First log size not correct.");
+    }
+
+    @Test
+    void testParseAll() throws IOException {
+        StringBuilder text = new StringBuilder();
+        for (String fileName : new String[] { "dataset41.txt", "dataset70.txt", "dataset41.txt" }) {
+            for (String logLine : readLines(fileName)) {
+                text.append(logLine).append(Constants.LINE_SEPARATOR);
+            }
+        }
+        List<FatalErrorLog> fels = new Manager().parseAll(new StringReader(text.toString()));
+        assertEquals(3, fels.size(), "Log count not correct.");
+        FatalErrorLog fel41 = new Manager().parse(new File(Constants.TEST_DATA_DIR + "dataset41.txt"));
+        FatalErrorLog fel70 = new Manager().parse(new File(Constants.TEST_DATA_DIR + "dataset70.txt"));
+        assertEquals(fel41.getHeaders().size(), fels.get(0).getHeaders().size(), "Header count not correct.");
+        assertEquals(fel41.getMeminfos().size(), fels.get(0).getMeminfos().size(), "Meminfo count not correct.");
+        assertEquals(fel70.getHeaders().size(), fels.get(1).getHeaders().size(), "Header count not correct.");
+        assertEquals(fel70.getStacks().size(), fels.get(1).getStacks().size(), "Stack count not correct.");
+        assertEquals(fel70.getVmArguments().size(), fels.get(1).getVmArguments().size(),
+                "VM argument count not correct.");
+        assertEquals(fel41.getStackFrameTop(), fels.get(2).getStackFrameTop(), "Top stack frame not correct.");
+        assertEquals(0, fels.get(1).getUnidentifiedLogLines().size(), "Unidentified log lines.");
+    }
+
+    @Test
+    void testParseAllCrashSignature() throws IOException {
+        StringBuilder text = new StringBuilder();
+        for (String fileName : new String[] { "dataset41.txt", "dataset87.txt" }) {
+            for (String logLine : readLines(fileName)) {
+                text.append(logLine).append(Constants.LINE_SEPARATOR);
+            }
+        }
+        Manager manager = new Manager();
+        manager.setCrashSignatureDatabase(
+                CrashSignatureDatabase.load(new File(Constants.TEST_DATA_DIR + "crash-signatures.ini").toPath()));
+        List<FatalErrorLog> fels = manager.parseAll(new StringReader(text.toString()));
+        assertEquals(2, fels.size(), "Log count not correct.");
+        assertFalse(fels.get(0).hasAnalysis(Analysis.ERROR_CRASH_SIGNATURE.getKey()),
+                Analysis.ERROR_CRASH_SIGNATURE + " analysis incorrectly identified.");
+        assertTrue(fels.get(1).hasAnalysis(Analysis.ERROR_CRASH_SIGNATURE.getKey()),
+                Analysis.ERROR_CRASH_SIGNATURE + " analysis not identified.");
+    }
+
+    @Test
+    void testParseAllProfile() throws IOException {
+        StringBuilder text = new StringBuilder();
+        for (String fileName : new String[] { "dataset41.txt", "dataset70.txt" }) {
+            for (String logLine : readLines(fileName)) {
+                text.append(logLine).append(Constants.LINE_SEPARATOR);
+            }
+        }
+        Manager manager = new Manager();
+        manager.setProfile(true);
+        List<FatalErrorLog> fels = manager.parseAll(new StringReader(text.toString()));
+        assertEquals(2, fels.size(), "Log count not correct.");
+        for (FatalErrorLog fel : fels) {
+            assertNotNull(fel.getAnalysisProfile(), "Analysis profile not recorded.");
+        }
+    }
+
+    @Test
+    void testParseAllSnapshot() throws IOException {
+        StringBuilder text = new StringBuilder();
+        for (String fileName : new String[] { "dataset41.txt", "dataset70.txt" }) {
+            for (String logLine : readLines(fileName)) {
+                text.append(logLine).append(Constants.LINE_SEPARATOR);
+            }
+        }
+        Manager manager = new Manager();
+        manager.setSnapshot(true);
+        List<FatalErrorLog> fels = manager.parseAll(new StringReader(text.toString()));
+        assertEquals(2, fels.size(), "Log count not correct.");
+        for (FatalErrorLog fel : fels) {
+            assertTrue(fel.isImmutable(), "Fatal error log not a snapshot.");
+        }
+    }
+
+    @Test
+    void testHeaderTruncated() throws IOException {
+        for (String[] fileNames : new String[][] { { "dataset2.txt", "dataset20.txt" },
+                { "dataset21.txt", "dataset22.txt" } }) {
+            List<String> logLines = new ArrayList<String>(readLines(fileNames[0]));
+            int size = logLines.size();
+            logLines.addAll(readLines(fileNames[1]));
+            List<List<String>> logs = LogSplitter.split(logLines);
+            assertEquals(2, logs.size(), "Log count not correct for " + Arrays.toString(fileNames) + ".");
+            assertEquals(size, logs.get(0).size(), "First log size not correct.");
+            assertEquals(logLines.size() - size, logs.get(1).size(), "Second log size not correct.");
+        }
+    }
+
+    @Test
+    void testHeaderTruncatedSynthetic() {
+        List<String> logLines = Arrays.asList("#", "# A fatal error has been detected by the Java Runtime Environment:",
+                "#", "#", "# There is insufficient memory for the Java Runtime Environment to continue.", "#",
+                "# Native memory allocation (mmap) failed to map 754974720 bytes for committing reserved memory.");
+        List<List<String>> logs = LogSplitter.split(logLines);
+        assertEquals(2, logs.size(), "Log count not correct.");
+        assertEquals(3, logs.get(0).size(), "First log size not correct.");
+        assertEquals("#", logs.get(1).get(0), "Second log header opening log line not correct.");
+    }
+
+    @Test
+    void testSingle() throws IOException {
+        assertEquals(1, LogSplitter.split(readLines("dataset41.txt")).size(), "Log count not correct.");
+    }
+}
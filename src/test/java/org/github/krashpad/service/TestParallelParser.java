@@ -0,0 +1,87 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.github.krashpad.domain.BlankLine;
+import org.github.krashpad.domain.LogEvent;
+import org.github.krashpad.domain.jdk.FatalErrorLog;
+import org.github.krashpad.util.Constants;
+import org.github.krashpad.util.jdk.JdkUtil;
+import org.github.krashpad.util.jdk.JdkUtil.LogEventType;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestParallelParser {
+
+    /**
+     * Compare every chunk size up to 50 log lines, so chunks start in the middle of blocks, to a sequential parse.
+     */
+    @Test
+    void testChunksSameAsSequential() throws IOException {
+        File testFile = new File(Constants.TEST_DATA_DIR + "dataset41.txt");
+        List<String> logLines = Files.readAllLines(testFile.toPath(), StandardCharsets.ISO_8859_1);
+        LogEventType[] eventTypes = new LogEventType[logLines.size()];
+        LogEvent priorEvent = null;
+        for (int i = 0; i < logLines.size(); i++) {
+            eventTypes[i] = JdkUtil.identifyEventType(logLines.get(i), priorEvent);
+            LogEvent event = JdkUtil.createLogEvent(eventTypes[i], logLines.get(i));
+            if (!(event instanceof BlankLine)) {
+                priorEvent = event;
+            }
+        }
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int chunkSize = 1; chunkSize <= 50; chunkSize++) {
+                ParallelParser parallelParser = new ParallelParser(logLines, false);
+                parallelParser.parse(pool, chunkSize);
+                for (int i = 0; i < logLines.size(); i++) {
+                    assertEquals(eventTypes[i], parallelParser.getEventType(i),
+                            "Chunk size " + chunkSize + " line " + (i + 1) + " event type not correct.");
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testParallel() {
+        File testFile = new File(Constants.TEST_DATA_DIR + "dataset83.txt");
+        FatalErrorLog fel = new Manager().parse(testFile);
+        Manager manager = new Manager();
+        manager.setParallel(true);
+        manager.setParallelThreshold(0);
+        FatalErrorLog felParallel = manager.parse(testFile);
+        assertEquals(fel.getUnidentifiedLogLines(), felParallel.getUnidentifiedLogLines(),
+                "Unidentified log lines not correct.");
+        assertEquals(fel.getThreads().size(), felParallel.getThreads().size(), "Thread count not correct.");
+        assertEquals(fel.getDynamicLibrariesMappingCount(), felParallel.getDynamicLibrariesMappingCount(),
+                "Dynamic library mapping count not correct.");
+        assertEquals(fel.getCpuInfos().size(), felParallel.getCpuInfos().size(), "Cpu info count not correct.");
+        assertEquals(fel.getAnalysis().size(), felParallel.getAnalysis().size(), "Analysis not correct.");
+    }
+}
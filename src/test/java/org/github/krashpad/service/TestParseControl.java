@@ -0,0 +1,119 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.github.krashpad.domain.jdk.FatalErrorLog;
+import org.github.krashpad.util.Constants;
+import org.github.krashpad.util.jdk.Analysis;
+import org.github.krashpad.util.jdk.JdkUtil.Section;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestParseControl {
+
+    @Test
+    void testCancelFromProgressListener() {
+        File testFile = new File(Constants.TEST_DATA_DIR + "dataset83.txt");
+        ParseControl parseControl = new ParseControl();
+        List<Long> lineCounts = new ArrayList<Long>();
+        parseControl.setProgressListener((bytes, logLines, section) -> {
+            lineCounts.add(logLines);
+            parseControl.cancel();
+        });
+        Manager manager = new Manager();
+        manager.setParseControl(parseControl);
+        FatalErrorLog fel = manager.parse(testFile);
+        assertTrue(fel.isIncomplete(), "Cancelled parse not identified as incomplete.");
+        assertTrue(fel.hasAnalysis(Analysis.WARN_PARSE_INCOMPLETE.getKey()),
+                Analysis.WARN_PARSE_INCOMPLETE + " analysis not identified.");
+        assertEquals((long) ParseControl.PROGRESS_INTERVAL, lineCounts.get(0), "Progress line count not correct.");
+        assertEquals((long) ParseControl.PROGRESS_INTERVAL, lineCounts.get(lineCounts.size() - 1),
+                "Log lines parsed after cancel.");
+        assertEquals(new Manager().parse(testFile).getHeaders().size(), fel.getHeaders().size(),
+                "Header count not correct.");
+    }
+
+    @Test
+    void testComplete() {
+        FatalErrorLog fel = new Manager().parse(new File(Constants.TEST_DATA_DIR + "dataset41.txt"));
+        assertFalse(fel.isIncomplete(), "Complete parse identified as incomplete.");
+        assertFalse(fel.hasAnalysis(Analysis.WARN_PARSE_INCOMPLETE.getKey()),
+                Analysis.WARN_PARSE_INCOMPLETE + " analysis incorrectly identified.");
+    }
+
+    @Test
+    void testProgress() throws IOException {
+        File testFile = new File(Constants.TEST_DATA_DIR + "dataset83.txt");
+        ParseControl parseControl = new ParseControl();
+        List<long[]> progress = new ArrayList<long[]>();
+        List<Section> sections = new ArrayList<Section>();
+        parseControl.setProgressListener((bytes, logLines, section) -> {
+            progress.add(new long[] { bytes, logLines });
+            sections.add(section);
+        });
+        Manager manager = new Manager();
+        manager.setParseControl(parseControl);
+        FatalErrorLog fel = manager.parse(testFile.toPath(), true);
+        assertFalse(fel.isIncomplete(), "Complete parse identified as incomplete.");
+        long lineCount = Files.readAllLines(testFile.toPath(), StandardCharsets.ISO_8859_1).size();
+        assertEquals(lineCount / ParseControl.PROGRESS_INTERVAL + 1, progress.size(), "Progress count not correct.");
+        assertEquals(testFile.length(), progress.get(progress.size() - 1)[0], "Final byte count not correct.");
+        assertEquals(lineCount, progress.get(progress.size() - 1)[1], "Final line count not correct.");
+        assertEquals(Section.SYSTEM, sections.get(sections.size() - 1), "Final section not correct.");
+    }
+
+    @Test
+    void testTimeBudget() throws IOException {
+        ParseControl parseControl = new ParseControl();
+        parseControl.setTimeBudget(1);
+        Manager manager = new Manager();
+        manager.setParseControl(parseControl);
+        // Reading the first log line takes longer than the time budget
+        try (Reader reader = new FilterReader(new FileReader(Constants.TEST_DATA_DIR + "dataset41.txt")) {
+            @Override
+            public int read(char[] cbuf, int off, int len) throws IOException {
+                try {
+                    Thread.sleep(20);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.read(cbuf, off, len);
+            }
+        }) {
+            FatalErrorLog fel = manager.parse(reader);
+            assertTrue(fel.isIncomplete(), "Parse over time budget not identified as incomplete.");
+            assertEquals(0, fel.getHeaders().size(), "Log lines parsed after the time budget was exceeded.");
+            assertTrue(fel.hasAnalysis(Analysis.WARN_PARSE_INCOMPLETE.getKey()),
+                    Analysis.WARN_PARSE_INCOMPLETE + " analysis not identified.");
+        }
+    }
+}
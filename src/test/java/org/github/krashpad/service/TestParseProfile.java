@@ -0,0 +1,120 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.util.EnumSet;
+
+import org.github.krashpad.domain.jdk.FatalErrorLog;
+import org.github.krashpad.util.Constants;
+import org.github.krashpad.util.jdk.Analysis;
+import org.github.krashpad.util.jdk.JdkUtil.LogEventType;
+import org.github.krashpad.util.jdk.JdkUtil.Section;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestParseProfile {
+
+    @Test
+    void testCustom() {
+        File testFile = new File(Constants.TEST_DATA_DIR + "dataset41.txt");
+        Manager manager = new Manager();
+        manager.setParseProfile(new ParseProfile(EnumSet.of(LogEventType.MEMINFO)));
+        FatalErrorLog fel = manager.parse(testFile);
+        FatalErrorLog felFull = new Manager().parse(testFile);
+        assertEquals(felFull.getMeminfos().size(), fel.getMeminfos().size(), "Meminfo count not correct.");
+        assertEquals(0, fel.getHeaders().size(), "Headers not skipped.");
+        assertTrue(fel.isSkipped(LogEventType.HEADER), "Header not reported as skipped.");
+    }
+
+    @Test
+    void testFull() {
+        assertTrue(ParseProfile.FULL.isFull(), "FULL profile not full.");
+        assertTrue(ParseProfile.FULL.getSkippedEventTypes().isEmpty(), "FULL profile skips event types.");
+        for (Section section : Section.values()) {
+            assertEquals(null, ParseProfile.FULL.getSeekPrefixes(section),
+                    "FULL profile seeks through section " + section + ".");
+        }
+        FatalErrorLog fel = new Manager().parse(new File(Constants.TEST_DATA_DIR + "dataset41.txt"));
+        assertFalse(fel.hasAnalysis(Analysis.INFO_PARSE_PARTIAL.getKey()),
+                Analysis.INFO_PARSE_PARTIAL + " analysis incorrectly identified.");
+    }
+
+    @Test
+    void testSeek() {
+        assertEquals(null, ParseProfile.TRIAGE.getSeekPrefixes(Section.SYSTEM), "SYSTEM section sought through.");
+        ParseProfile parseProfile = ParseProfile.TRIAGE.with(LogEventType.VM_ARGUMENTS, LogEventType.HEAP);
+        assertEquals(3, parseProfile.getSeekPrefixes(Section.PROCESS).size(), "Seek prefix count not correct.");
+        File testFile = new File(Constants.TEST_DATA_DIR + "dataset41.txt");
+        Manager manager = new Manager();
+        manager.setParseProfile(parseProfile);
+        FatalErrorLog fel = manager.parse(testFile.toPath());
+        FatalErrorLog felFull = new Manager().parse(testFile);
+        assertEquals(0, fel.getUnidentifiedLogLines().size(), "Unidentified log lines.");
+        assertEquals(0, fel.getThreads().size(), "Threads not skipped.");
+        assertEquals(felFull.getVmArguments().size(), fel.getVmArguments().size(), "VM argument count not correct.");
+        assertEquals(felFull.getHeaps().size(), fel.getHeaps().size(), "Heap count not correct.");
+        assertEquals(felFull.getMeminfos().size(), fel.getMeminfos().size(), "Meminfo count not correct.");
+    }
+
+    @Test
+    void testSystemOnly() {
+        assertEquals(1, ParseProfile.SYSTEM_ONLY.getSeekPrefixes(Section.PROCESS).size(),
+                "PROCESS section not skipped.");
+        assertEquals(1, ParseProfile.SYSTEM_ONLY.getSeekPrefixes(Section.THREAD).size(), "THREAD section not skipped.");
+        assertEquals(null, ParseProfile.SYSTEM_ONLY.getSeekPrefixes(Section.SYSTEM), "SYSTEM section skipped.");
+        assertEquals(null, ParseProfile.SYSTEM_ONLY.getSeekPrefixes(Section.UNKNOWN), "UNKNOWN section skipped.");
+        File testFile = new File(Constants.TEST_DATA_DIR + "dataset41.txt");
+        Manager manager = new Manager();
+        manager.setParseProfile(ParseProfile.SYSTEM_ONLY);
+        FatalErrorLog fel = manager.parse(testFile);
+        FatalErrorLog felFull = new Manager().parse(testFile);
+        assertEquals(0, fel.getUnidentifiedLogLines().size(), "Unidentified log lines.");
+        assertEquals(0, fel.getStacks().size(), "Stack not skipped.");
+        assertEquals(felFull.getMeminfos().size(), fel.getMeminfos().size(), "Meminfo count not correct.");
+        assertEquals(felFull.getOsMemTotal(), fel.getOsMemTotal(), "OS memory not correct.");
+    }
+
+    @Test
+    void testTriage() {
+        assertEquals(1, ParseProfile.TRIAGE.getSeekPrefixes(Section.PROCESS).size(), "PROCESS section not skipped.");
+        assertEquals(null, ParseProfile.TRIAGE.getSeekPrefixes(Section.THREAD), "THREAD section skipped.");
+        File testFile = new File(Constants.TEST_DATA_DIR + "dataset41.txt");
+        Manager manager = new Manager();
+        manager.setParseProfile(ParseProfile.TRIAGE);
+        FatalErrorLog fel = manager.parse(testFile);
+        FatalErrorLog felFull = new Manager().parse(testFile);
+        assertEquals(0, fel.getUnidentifiedLogLines().size(), "Unidentified log lines.");
+        assertEquals(0, fel.getThreads().size(), "Threads not skipped.");
+        assertEquals(0, fel.getDynamicLibraries().size(), "Dynamic libraries not skipped.");
+        assertTrue(fel.isSkipped(LogEventType.THREAD), "Threads not reported as skipped.");
+        assertEquals(Integer.MIN_VALUE, fel.getJavaThreadCount(), "Java thread count not reported as unknown.");
+        assertEquals(Integer.MIN_VALUE, fel.getDynamicLibrariesMappingCount(),
+                "Dynamic library mapping count not reported as unknown.");
+        assertEquals(felFull.getHeaders().size(), fel.getHeaders().size(), "Header count not correct.");
+        assertEquals(felFull.getStacks().size(), fel.getStacks().size(), "Stack count not correct.");
+        assertEquals(felFull.getMeminfos().size(), fel.getMeminfos().size(), "Meminfo count not correct.");
+        assertEquals(felFull.getStackFrameTop(), fel.getStackFrameTop(), "Top stack frame not correct.");
+        assertTrue(fel.hasAnalysis(Analysis.INFO_PARSE_PARTIAL.getKey()),
+                Analysis.INFO_PARSE_PARTIAL + " analysis not identified.");
+    }
+}
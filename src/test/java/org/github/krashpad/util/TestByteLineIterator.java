@@ -0,0 +1,111 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestByteLineIterator {
+
+    private static List<String> readLines(String text) throws IOException {
+        List<String> lines = new ArrayList<String>();
+        BufferedReader bufferedReader = new BufferedReader(new StringReader(text));
+        String line = bufferedReader.readLine();
+        while (line != null) {
+            lines.add(line);
+            line = bufferedReader.readLine();
+        }
+        return lines;
+    }
+
+    private static List<String> splitLines(String text) {
+        List<String> lines = new ArrayList<String>();
+        ByteLineIterator iterator = new ByteLineIterator(ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8)),
+                StandardCharsets.UTF_8);
+        while (iterator.hasNext()) {
+            lines.add(iterator.next().toString());
+        }
+        return lines;
+    }
+
+    @Test
+    void testAsciiLineIsView() {
+        ByteLineIterator iterator = new ByteLineIterator(
+                ByteBuffer.wrap("# A fatal error has been detected".getBytes(StandardCharsets.US_ASCII)));
+        assertTrue(iterator.next() instanceof ByteCharSequence, "ASCII line not a view over the buffer.");
+        assertFalse(iterator.hasNext(), "Extra line.");
+    }
+
+    @Test
+    void testEmpty() {
+        assertEquals(0, splitLines("").size(), "Empty buffer has lines.");
+    }
+
+    @Test
+    void testLineTerminators() throws IOException {
+        String[] texts = { "a\nb\n", "a\nb", "a\r\nb\r\n", "a\rb\r", "\n\n", "a\r\n\r\nb", "\r", "a\n\rb" };
+        for (String text : texts) {
+            assertEquals(readLines(text), splitLines(text), "Lines not split the same as BufferedReader.");
+        }
+    }
+
+    @Test
+    void testNonAscii() {
+        String text = "USER=jörg\nLANG=en_US.UTF-8\n";
+        List<String> lines = splitLines(text);
+        assertEquals(2, lines.size(), "Line count not correct.");
+        assertEquals("USER=jörg", lines.get(0), "Non-ASCII line not decoded.");
+        assertEquals("LANG=en_US.UTF-8", lines.get(1), "ASCII line not correct.");
+    }
+
+    @Test
+    void testSeek() {
+        String text = "Heap:\nx\n\nVM Arguments:\njvm_args: -Xmx1g\n---------------  S Y S T E M  ---------------\n";
+        ByteLineIterator iterator = new ByteLineIterator(ByteBuffer.wrap(text.getBytes(StandardCharsets.US_ASCII)));
+        List<String> prefixes = Arrays.asList("---------------  ", "VM Arguments:");
+        assertTrue(iterator.seek(prefixes), "Block header not found.");
+        assertEquals("VM Arguments:", iterator.next().toString(), "Block header not next.");
+        assertTrue(iterator.seek(prefixes), "Section heading not found.");
+        assertEquals("---------------  S Y S T E M  ---------------", iterator.next().toString(),
+                "Section heading not next.");
+        assertFalse(iterator.seek(prefixes), "Prefix found past the end.");
+        assertFalse(iterator.hasNext(), "Extra line.");
+    }
+
+    @Test
+    void testSubSequence() {
+        ByteCharSequence sequence = new ByteCharSequence(
+                ByteBuffer.wrap("xxHeap address: 0x00000006c0000000".getBytes(StandardCharsets.US_ASCII)), 2, 32);
+        assertEquals("Heap address: 0x00000006c0000000", sequence.toString(), "Sequence not correct.");
+        assertEquals('H', sequence.charAt(0), "First character not correct.");
+        assertEquals("address", sequence.subSequence(5, 12).toString(), "Subsequence not correct.");
+    }
+}
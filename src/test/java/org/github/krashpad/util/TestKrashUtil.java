@@ -15,12 +15,24 @@
 package org.github.krashpad.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 /**
  * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
@@ -28,6 +40,39 @@ import org.junit.jupiter.api.Test;
  */
 class TestKrashUtil {
 
+    private static final String LOG = "#\n# A fatal error has been detected by the Java Runtime Environment:\n";
+
+    private static byte[] gzip(String text) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        GZIPOutputStream gzipOutputStream = new GZIPOutputStream(out);
+        gzipOutputStream.write(text.getBytes(StandardCharsets.UTF_8));
+        gzipOutputStream.close();
+        return out.toByteArray();
+    }
+
+    private static String read(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[1024];
+        int read = in.read(buffer);
+        while (read != -1) {
+            out.write(buffer, 0, read);
+            read = in.read(buffer);
+        }
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] zip(String text) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ZipOutputStream zipOutputStream = new ZipOutputStream(out);
+        zipOutputStream.putNextEntry(new ZipEntry("bundle/"));
+        zipOutputStream.closeEntry();
+        zipOutputStream.putNextEntry(new ZipEntry("bundle/hs_err_pid1234.log"));
+        zipOutputStream.write(text.getBytes(StandardCharsets.UTF_8));
+        zipOutputStream.closeEntry();
+        zipOutputStream.close();
+        return out.toByteArray();
+    }
+
     @Test
     void testConvertStringToDate() {
         String MMM = "Jul";
@@ -48,6 +93,44 @@ class TestKrashUtil {
         assertEquals(8, calendar.get(Calendar.SECOND), "Start second not parsed correctly.");
     }
 
+    @Test
+    void testDecompressGzip() throws IOException {
+        assertEquals(LOG, read(KrashUtil.decompress(new ByteArrayInputStream(gzip(LOG)))), "Gzip not decompressed.");
+    }
+
+    @Test
+    void testDecompressPlain() throws IOException {
+        assertEquals(LOG, read(KrashUtil.decompress(new ByteArrayInputStream(LOG.getBytes(StandardCharsets.UTF_8)))),
+                "Uncompressed input not correct.");
+        assertEquals("", read(KrashUtil.decompress(new ByteArrayInputStream(new byte[0]))), "Empty input not correct.");
+    }
+
+    @Test
+    void testDecompressZip() throws IOException {
+        assertEquals(LOG, read(KrashUtil.decompress(new ByteArrayInputStream(zip(LOG)))), "Zip not decompressed.");
+    }
+
+    @Test
+    void testIsCompressed(@TempDir File temporaryFolder) throws IOException {
+        File gzipFile = new File(temporaryFolder, "hs_err_pid1234.log.gz");
+        Files.write(gzipFile.toPath(), gzip(LOG));
+        File zipFile = new File(temporaryFolder, "bundle.zip");
+        Files.write(zipFile.toPath(), zip(LOG));
+        File logFile = new File(temporaryFolder, "hs_err_pid1234.log");
+        Files.write(logFile.toPath(), LOG.getBytes(StandardCharsets.UTF_8));
+        assertTrue(KrashUtil.isCompressed(gzipFile), "Gzip file not identified.");
+        assertTrue(KrashUtil.isCompressed(zipFile), "Zip file not identified.");
+        assertFalse(KrashUtil.isCompressed(logFile), "Uncompressed file identified as compressed.");
+        assertFalse(KrashUtil.isCompressed(temporaryFolder), "Directory identified as compressed.");
+    }
+
+    @Test
+    void testTruncate() {
+        String logLine = "jvm_args: -Xmx1g -Xms1g";
+        assertEquals("jvm_args: -Xmx1g", KrashUtil.truncate(logLine, 16).toString(), "Log line not truncated.");
+        assertEquals(logLine, KrashUtil.truncate(logLine, logLine.length()), "Log line truncated.");
+    }
+
     @Test
     void testWindowsNativeLibrary() {
         String library = "rmi.dll";
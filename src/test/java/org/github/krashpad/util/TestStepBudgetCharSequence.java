@@ -0,0 +1,54 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestStepBudgetCharSequence {
+
+    @Test
+    void testBudgetExceeded() {
+        StringBuilder input = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            input.append('a');
+        }
+        input.append('c');
+        // Polynomial backtracking
+        Pattern pattern = Pattern.compile("^.*a.*a.*a.*b$");
+        StepBudgetCharSequence sequence = new StepBudgetCharSequence(input, 100000);
+        assertThrows(StepBudgetCharSequence.BudgetExceededException.class, () -> pattern.matcher(sequence).matches(),
+                "Runaway match not aborted.");
+    }
+
+    @Test
+    void testWithinBudget() {
+        String logLine = "jvm_args: -Xmx1g";
+        StepBudgetCharSequence sequence = new StepBudgetCharSequence(logLine, 1000);
+        assertTrue(Pattern.compile("^jvm_args: (.+)$").matcher(sequence).matches(), "Log line not matched.");
+        assertTrue(sequence.getSteps() > 0 && sequence.getSteps() <= 1000, "Steps not counted.");
+        assertEquals(logLine, sequence.toString(), "Sequence not correct.");
+        assertEquals("-Xmx1g", sequence.subSequence(10, 16).toString(), "Subsequence not correct.");
+    }
+}
@@ -20,6 +20,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.Date;
 
 import org.github.joa.domain.GarbageCollector;
@@ -558,6 +559,22 @@ class TestAnalysis {
                 Analysis.ERROR_LIBJVM_SO + " analysis incorrectly identified.");
     }
 
+    @Test
+    void testCrashSignature() throws IOException {
+        File testFile = new File(Constants.TEST_DATA_DIR + "dataset87.txt");
+        Manager manager = new Manager();
+        manager.setCrashSignatureDatabase(
+                CrashSignatureDatabase.load(new File(Constants.TEST_DATA_DIR + "crash-signatures.ini").toPath()));
+        FatalErrorLog fel = manager.parse(testFile);
+        assertTrue(fel.hasAnalysis(Analysis.ERROR_CRASH_SIGNATURE.getKey()),
+                Analysis.ERROR_CRASH_SIGNATURE + " analysis not identified.");
+        assertEquals("Crash matches known bug signature(s): JDK-8248837 (C2 crash in MinINode::Ideal).",
+                fel.getAnalysisLiteral(Analysis.ERROR_CRASH_SIGNATURE.getKey()), "Analysis literal not correct.");
+        fel = new Manager().parse(testFile);
+        assertFalse(fel.hasAnalysis(Analysis.ERROR_CRASH_SIGNATURE.getKey()),
+                Analysis.ERROR_CRASH_SIGNATURE + " analysis incorrectly identified without a signature database.");
+    }
+
     @Test
     void testCrashStartup() {
         File testFile = new File(Constants.TEST_DATA_DIR + "dataset33.txt");
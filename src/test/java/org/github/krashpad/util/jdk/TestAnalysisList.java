@@ -0,0 +1,86 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.util.jdk;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Iterator;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestAnalysisList {
+
+    @Test
+    void testAddFirst() {
+        AnalysisList analysis = new AnalysisList();
+        analysis.add(Analysis.WARN_DEBUG_SYMBOLS);
+        analysis.add(0, Analysis.INFO_OPTS_NONE);
+        Iterator<Analysis> iterator = analysis.iterator();
+        assertEquals(Analysis.INFO_OPTS_NONE, iterator.next(), "First analysis not correct.");
+        assertEquals(Analysis.WARN_DEBUG_SYMBOLS, iterator.next(), "Second analysis not correct.");
+    }
+
+    @Test
+    void testDuplicate() {
+        AnalysisList analysis = new AnalysisList();
+        assertTrue(analysis.add(Analysis.ERROR_OOME), "Analysis not added.");
+        analysis.add(Analysis.WARN_SWAPPING);
+        assertFalse(analysis.add(Analysis.ERROR_OOME), "Duplicate analysis added.");
+        analysis.add(0, Analysis.WARN_SWAPPING);
+        assertEquals(2, analysis.size(), "Analysis count not correct.");
+        assertEquals(Analysis.ERROR_OOME, analysis.iterator().next(), "Analysis order changed by duplicate.");
+    }
+
+    @Test
+    void testEquals() {
+        AnalysisList analysis = new AnalysisList();
+        analysis.add(Analysis.WARN_DEBUG_SYMBOLS);
+        analysis.add(Analysis.INFO_OPTS_NONE);
+        AnalysisList copy = new AnalysisList(analysis);
+        assertEquals(analysis, copy, "Copy not equal.");
+        assertEquals(analysis.hashCode(), copy.hashCode(), "Copy hash code not equal.");
+        copy.remove(Analysis.WARN_DEBUG_SYMBOLS);
+        copy.add(Analysis.WARN_DEBUG_SYMBOLS);
+        assertNotEquals(analysis, copy, "Analysis in a different order incorrectly equal.");
+    }
+
+    @Test
+    void testFromKey() {
+        assertEquals(Analysis.ERROR_OOME, Analysis.fromKey(Analysis.ERROR_OOME.getKey()), "Analysis not found.");
+        assertNull(Analysis.fromKey("not.a.key"), "Analysis incorrectly found.");
+    }
+
+    @Test
+    void testRemove() {
+        AnalysisList analysis = new AnalysisList();
+        analysis.add(Analysis.ERROR_OOME);
+        analysis.add(Analysis.WARN_SWAPPING);
+        assertTrue(analysis.remove(Analysis.ERROR_OOME), "Analysis not removed.");
+        assertFalse(analysis.contains(Analysis.ERROR_OOME), "Removed analysis found.");
+        assertFalse(analysis.remove(Analysis.ERROR_OOME), "Missing analysis removed.");
+        assertEquals(Analysis.WARN_SWAPPING, analysis.iterator().next(), "Remaining analysis not correct.");
+        analysis.clear();
+        assertTrue(analysis.isEmpty(), "Analysis not cleared.");
+        assertFalse(analysis.contains(Analysis.WARN_SWAPPING), "Cleared analysis found.");
+    }
+}
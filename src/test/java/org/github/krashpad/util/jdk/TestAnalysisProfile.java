@@ -0,0 +1,77 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.util.jdk;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.github.krashpad.util.Constants;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestAnalysisProfile {
+
+    @Test
+    void testCsv() {
+        AnalysisProfile profile = new AnalysisProfile();
+        profile.start();
+        profile.stop("SWAP", true);
+        String[] lines = profile.toCsv().split(Constants.LINE_SEPARATOR);
+        assertEquals(2, lines.length, "Line count not correct.");
+        assertEquals("rule,nanos,regex_evaluations,allocated_bytes,fired", lines[0], "Header not correct.");
+        assertTrue(lines[1].matches("^SWAP,\\d{1,},0,(\\d{1,})?,true$"), "Rule cost not correct: " + lines[1]);
+    }
+
+    @Test
+    void testRegexEvaluations() {
+        AnalysisProfile profile = new AnalysisProfile();
+        profile.start();
+        PatternRegistry.matches("Dynamic libraries:", "^Dynamic libraries:$");
+        PatternRegistry.matches("Dynamic libraries:", "^Environment Variables:$");
+        profile.stop("STORAGE", false);
+        List<AnalysisProfile.RuleCost> ruleCosts = profile.getRuleCosts();
+        assertEquals(1, ruleCosts.size(), "Rule cost count not correct.");
+        assertEquals("STORAGE", ruleCosts.get(0).getRule(), "Rule not correct.");
+        assertEquals(2, ruleCosts.get(0).getRegexEvaluations(), "Regex evaluations not correct.");
+        assertFalse(ruleCosts.get(0).isFired(), "Rule incorrectly fired.");
+        assertEquals(0, PatternRegistry.getEvaluationCount(), "Evaluations still counted after the rule stopped.");
+        profile.clear();
+        assertTrue(profile.getRuleCosts().isEmpty(), "Rule costs not cleared.");
+    }
+
+    @Test
+    void testSortedByTime() {
+        AnalysisProfile profile = new AnalysisProfile();
+        profile.start();
+        profile.stop("SWAP", false);
+        profile.start();
+        long start = System.nanoTime();
+        while (System.nanoTime() - start < 2000000) {
+            // Take longer than the first rule
+        }
+        profile.stop("STORAGE", false);
+        assertEquals("SWAP", profile.getRuleCosts().get(0).getRule(), "Rules not in run order.");
+        assertEquals("STORAGE", profile.getRuleCostsByTime().get(0).getRule(), "Rules not sorted by time.");
+        assertEquals(profile.getRuleCosts().get(0).getNanos() + profile.getRuleCosts().get(1).getNanos(),
+                profile.getTotalNanos(), "Total time not correct.");
+        assertTrue(profile.toTable().startsWith("RULE"), "Table header not correct.");
+    }
+}
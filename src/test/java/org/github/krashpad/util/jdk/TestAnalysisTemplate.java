@@ -0,0 +1,92 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.util.jdk;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import org.github.krashpad.util.jdk.AnalysisTemplate.Placeholder;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestAnalysisTemplate {
+
+    @Test
+    void testAllMessagesCompile() {
+        for (Analysis analysis : Analysis.values()) {
+            if (analysis.getTemplate().hasPlaceholders()) {
+                assertFalse(analysis.getValue().contains("{"), analysis + " value has a placeholder.");
+            } else {
+                assertEquals(analysis.getValue(), analysis.getTemplate().getMessage(),
+                        analysis + " message not correct.");
+            }
+        }
+        assertEquals("cgroup version: ", Analysis.INFO_CGROUP_VERSION.getValue(),
+                Analysis.INFO_CGROUP_VERSION + " value not correct.");
+        assertEquals("cgroup version: {cgroup.version}.", Analysis.INFO_CGROUP_VERSION.getTemplate().getMessage(),
+                Analysis.INFO_CGROUP_VERSION + " message not correct.");
+        assertTrue(Analysis.INFO_CGROUP_VERSION.getTemplate().hasPlaceholders(),
+                Analysis.INFO_CGROUP_VERSION + " placeholder not identified.");
+        assertFalse(Analysis.ERROR_OOME.getTemplate().hasPlaceholders(),
+                Analysis.ERROR_OOME + " placeholder incorrectly identified.");
+    }
+
+    @Test
+    void testIterable() {
+        AnalysisTemplate template = AnalysisTemplate
+                .compile("Tomcat native libraries detected: {native.libraries.tomcat}.");
+        StringBuilder literal = new StringBuilder();
+        template.render(literal, placeholder -> Arrays.asList("libtcnative-1.so", "libapr-1.so.0"));
+        assertEquals("Tomcat native libraries detected: libtcnative-1.so, libapr-1.so.0.", literal.toString(),
+                "Literal not correct.");
+    }
+
+    @Test
+    void testMultiplePlaceholders() {
+        AnalysisTemplate template = AnalysisTemplate.compile("Mismatch: RHEL {rhel.version} + {rpm.directory}.");
+        StringBuilder literal = new StringBuilder();
+        template.render(literal,
+                placeholder -> placeholder == Placeholder.RHEL_VERSION ? "7.9" : "java-11-openjdk-11.0.20.0.8-1.el7_9");
+        assertEquals("Mismatch: RHEL 7.9 + java-11-openjdk-11.0.20.0.8-1.el7_9.", literal.toString(),
+                "Literal not correct.");
+    }
+
+    @Test
+    void testNoPlaceholders() {
+        AnalysisTemplate template = AnalysisTemplate.compile("Unknown JDK version.");
+        StringBuilder literal = new StringBuilder();
+        template.render(literal, placeholder -> "unused");
+        assertEquals("Unknown JDK version.", literal.toString(), "Literal not correct.");
+    }
+
+    @Test
+    void testUnclosedPlaceholder() {
+        assertThrows(IllegalArgumentException.class, () -> AnalysisTemplate.compile("cgroup version: {cgroup.version"),
+                "Unclosed placeholder not rejected.");
+    }
+
+    @Test
+    void testUnknownPlaceholder() {
+        assertThrows(IllegalArgumentException.class, () -> AnalysisTemplate.compile("Version: {not.a.placeholder}."),
+                "Unknown placeholder not rejected.");
+    }
+}
@@ -0,0 +1,79 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.util.jdk;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.github.krashpad.domain.jdk.FatalErrorLog;
+import org.github.krashpad.domain.jdk.Stack;
+import org.github.krashpad.domain.jdk.VmArguments;
+import org.github.krashpad.util.jdk.CrashSignature.Crash;
+import org.github.krashpad.util.jdk.CrashSignature.ReleaseRange;
+import org.github.krashpad.util.jdk.JdkUtil.JavaSpecification;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestCrashSignature {
+
+    @Test
+    void testOptions() {
+        FatalErrorLog fel = new FatalErrorLog();
+        fel.getStacks().add(new Stack("J 3896 C2 java.lang.String.compareTo(Ljava/lang/Object;)I (9 bytes) @ "
+                + "0x00007f0e4c7f0a3c [0x00007f0e4c7f09e0+0x5c]"));
+        fel.getVmArguments().add(new VmArguments("jvm_args: -Xmx1g -XX:UseAVX=0"));
+        List<String> none = Collections.emptyList();
+        List<ReleaseRange> any = Collections.emptyList();
+        CrashSignature signature = new CrashSignature("JDK-8240913", null, "java.lang.String.compareTo", null, null,
+                none, any, none, Arrays.asList("-XX:UseAVX=0"));
+        assertFalse(signature.matches(new Crash(fel, 0)), "Signature incorrectly matched with an absent option.");
+        signature = new CrashSignature("JDK-8240913", null, "java.lang.String.compareTo", null, null, none, any,
+                Arrays.asList("-Xmx1g"), none);
+        assertTrue(signature.matches(new Crash(fel, 0)), "Signature not matched with a required option.");
+    }
+
+    @Test
+    void testReleaseRange() {
+        ReleaseRange range = new ReleaseRange(JavaSpecification.JDK11, 1, 9);
+        assertTrue(range.includes(JavaSpecification.JDK11, 9), "Update not in range.");
+        assertFalse(range.includes(JavaSpecification.JDK11, 10), "Update incorrectly in range.");
+        assertFalse(range.includes(JavaSpecification.JDK8, 9), "Java specification incorrectly in range.");
+        assertFalse(range.includes(JavaSpecification.JDK11, Integer.MIN_VALUE), "Unknown update incorrectly in range.");
+        range = new ReleaseRange(JavaSpecification.JDK17, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        assertTrue(range.includes(JavaSpecification.JDK17, Integer.MIN_VALUE), "Unknown update not in open range.");
+    }
+
+    @Test
+    void testStack() {
+        FatalErrorLog fel = new FatalErrorLog();
+        fel.getStacks().add(new Stack("V  [libjvm.so+0x42737e]  MinINode::Ideal(PhaseGVN*, bool)+0x15e"));
+        fel.getStacks().add(new Stack("V  [libjvm.so+0xc5a0bb]  PhaseIterGVN::transform_old(Node*)+0x9b"));
+        List<String> none = Collections.emptyList();
+        List<ReleaseRange> any = Collections.emptyList();
+        CrashSignature signature = new CrashSignature("JDK-8248837", null, null, "libjvm.so", null,
+                Arrays.asList("^.+MinINode::Ideal.+$", "^.+PhaseIterGVN::transform_old.+$"), any, none, none);
+        assertTrue(signature.matches(new Crash(fel, 2)), "Signature not matched.");
+        signature = new CrashSignature("JDK-8248837", null, null, "libjvm.so", null,
+                Arrays.asList("^.+PhaseIterGVN::transform_old.+$"), any, none, none);
+        assertFalse(signature.matches(new Crash(fel, 1)), "Signature incorrectly matched out of frame order.");
+    }
+}
@@ -0,0 +1,131 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.util.jdk;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.github.krashpad.domain.jdk.FatalErrorLog;
+import org.github.krashpad.service.Manager;
+import org.github.krashpad.util.Constants;
+import org.github.krashpad.util.jdk.CrashSignature.Crash;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestCrashSignatureDatabase {
+
+    private static CrashSignatureDatabase load(String content) throws IOException {
+        return CrashSignatureDatabase.load(new BufferedReader(new StringReader(content)));
+    }
+
+    @Test
+    void testCandidatesIndependentOfSize() {
+        List<CrashSignature> signatures = new ArrayList<CrashSignature>();
+        List<String> none = Collections.emptyList();
+        for (int i = 0; i < 20000; i++) {
+            signatures.add(new CrashSignature("BUG-" + i, null, "Symbol" + i + "::f", null, null, none,
+                    Collections.<CrashSignature.ReleaseRange> emptyList(), none, none));
+        }
+        signatures.add(new CrashSignature("JDK-8248837", null, "MinINode::Ideal", null, null, none,
+                Collections.<CrashSignature.ReleaseRange> emptyList(), none, none));
+        CrashSignatureDatabase database = new CrashSignatureDatabase(signatures);
+        assertEquals(20001, database.size(), "Signature count not correct.");
+        FatalErrorLog fel = new Manager().parse(new File(Constants.TEST_DATA_DIR + "dataset87.txt"));
+        List<CrashSignature> candidates = database.getCandidates(new Crash(fel, 0));
+        assertEquals(1, candidates.size(), "Candidate count not correct.");
+        assertEquals("JDK-8248837", database.match(fel).get(0).getId(), "Signature not matched.");
+    }
+
+    @Test
+    void testIndexedBySignal() throws IOException {
+        CrashSignatureDatabase database = load("[SIGSEGV-ANY]\nsignal=SIGSEGV\n\n[SIGBUS-ANY]\nsignal=SIGBUS\n");
+        FatalErrorLog fel = new Manager().parse(new File(Constants.TEST_DATA_DIR + "dataset87.txt"));
+        List<CrashSignature> matches = database.match(fel);
+        assertEquals(1, matches.size(), "Match count not correct.");
+        assertEquals("SIGSEGV-ANY", matches.get(0).getId(), "Signature not correct.");
+    }
+
+    @Test
+    void testInvalid() {
+        assertThrows(IllegalArgumentException.class, new Executable() {
+            @Override
+            public void execute() throws Throwable {
+                load("symbol=MinINode::Ideal\n");
+            }
+        }, "Condition outside a section not rejected.");
+        assertThrows(IllegalArgumentException.class, new Executable() {
+            @Override
+            public void execute() throws Throwable {
+                load("[JDK-1]\nframe=MinINode::Ideal\n");
+            }
+        }, "Unknown key not rejected.");
+        assertThrows(IllegalArgumentException.class, new Executable() {
+            @Override
+            public void execute() throws Throwable {
+                load("[JDK-1]\nstack=^V  \\[libjvm\\.so(\n");
+            }
+        }, "Invalid regular expression not rejected.");
+        assertThrows(IllegalArgumentException.class, new Executable() {
+            @Override
+            public void execute() throws Throwable {
+                load("[JDK-1]\ntitle=No conditions\n");
+            }
+        }, "Signature with no conditions not rejected.");
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, new Executable() {
+            @Override
+            public void execute() throws Throwable {
+                load("[JDK-1]\n[JDK-2]\nsymbol=MinINode::Ideal\n");
+            }
+        }, "Signature with no conditions followed by another section not rejected.");
+        assertTrue(e.getMessage().startsWith("Invalid crash signature JDK-1 "),
+                "Error does not identify the section: " + e.getMessage());
+    }
+
+    @Test
+    void testLoad() throws IOException {
+        CrashSignatureDatabase database = CrashSignatureDatabase
+                .load(new File(Constants.TEST_DATA_DIR + "crash-signatures.ini").toPath());
+        assertEquals(3, database.size(), "Signature count not correct.");
+        FatalErrorLog fel = new Manager().parse(new File(Constants.TEST_DATA_DIR + "dataset87.txt"));
+        List<CrashSignature> matches = database.match(fel);
+        assertEquals(1, matches.size(), "Match count not correct.");
+        assertEquals("JDK-8248837", matches.get(0).getId(), "Signature not correct.");
+        assertEquals(2, matches.get(0).getReleases().size(), "Release count not correct.");
+        fel = new Manager().parse(new File(Constants.TEST_DATA_DIR + "dataset34.txt"));
+        matches = database.match(fel);
+        assertEquals(1, matches.size(), "Match count not correct.");
+        assertEquals("BUFFERBLOB-FLUSH-ICACHE-STUB", matches.get(0).getId(), "Signature not correct.");
+    }
+
+    @Test
+    void testReleaseOutOfRange() throws IOException {
+        CrashSignatureDatabase database = load("[JDK-8248837]\nsymbol=MinINode::Ideal\nrelease=JDK11:10-\n");
+        FatalErrorLog fel = new Manager().parse(new File(Constants.TEST_DATA_DIR + "dataset87.txt"));
+        assertTrue(database.match(fel).isEmpty(), "Signature incorrectly matched outside the release range.");
+    }
+}
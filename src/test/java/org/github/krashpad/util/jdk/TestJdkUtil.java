@@ -16,10 +16,15 @@ package org.github.krashpad.util.jdk;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import org.github.krashpad.domain.LogEvent;
+import org.github.krashpad.domain.jdk.DynamicLibrary;
+import org.github.krashpad.domain.jdk.Thread;
 import org.github.krashpad.util.KrashUtil;
 import org.github.krashpad.util.jdk.JdkUtil.JavaSpecification;
+import org.github.krashpad.util.jdk.JdkUtil.LogEventType;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -28,6 +33,31 @@ import org.junit.jupiter.api.Test;
  */
 class TestJdkUtil {
 
+    @Test
+    void testBlockContinuation() {
+        LogEvent priorEvent = new DynamicLibrary("Dynamic libraries:");
+        String logLine = "7f825ad07000-7f825b9bc000 r-xp 00000000 08:21 524725                     "
+                + "/sdo/jdk8u265-b01/jre/lib/amd64/server/libjvm.so";
+        assertEquals(LogEventType.DYNAMIC_LIBRARY, JdkUtil.identifyEventType(logLine, priorEvent),
+                LogEventType.DYNAMIC_LIBRARY.toString() + " continuation not identified.");
+        priorEvent = new Thread("  0x00007f19aa5128e0 JavaThread \"Thread-8\" daemon [_thread_blocked, id=18881, "
+                + "stack(0x00007f199cf04000,0x00007f199d005000)]");
+        logLine = "  0x00007f19aa512000 JavaThread \"Thread-7\" daemon [_thread_blocked, id=18880, "
+                + "stack(0x00007f199d005000,0x00007f199d106000)]";
+        assertEquals(LogEventType.THREAD, JdkUtil.identifyEventType(logLine, priorEvent),
+                LogEventType.THREAD.toString() + " continuation not identified.");
+    }
+
+    @Test
+    void testBlockTerminator() {
+        LogEvent priorEvent = new DynamicLibrary("Dynamic libraries:");
+        assertEquals(LogEventType.BLANK_LINE, JdkUtil.identifyEventType("", priorEvent),
+                LogEventType.BLANK_LINE.toString() + " not identified.");
+        assertEquals(LogEventType.HEADING,
+                JdkUtil.identifyEventType("---------------  S Y S T E M  ---------------", priorEvent),
+                LogEventType.HEADING.toString() + " not identified.");
+    }
+
     @Test
     void testBuildDateEstimate() {
         String buildDate = "Apr 19 2022 00:00:00";
@@ -94,6 +124,35 @@ class TestJdkUtil {
                 "-XX:-TraceClassUnloading incorrectly identified as enabled.");
     }
 
+    @Test
+    void testStackFrameLibrary() {
+        assertEquals("libjvm.so",
+                JdkUtil.getStackFrameLibrary("V  [libjvm.so+0x42737e]  MinINode::Ideal(PhaseGVN*, bool)+0x15e"),
+                "Library not correct.");
+        assertEquals("libc.so.6", JdkUtil.getStackFrameLibrary("C  [libc.so.6+0x7d1e4]  cfree+0x1c"),
+                "Library not correct.");
+        assertNull(JdkUtil.getStackFrameLibrary("v  ~BufferBlob::flush_icache_stub"),
+                "Library incorrectly identified.");
+    }
+
+    @Test
+    void testStackFrameSymbol() {
+        assertEquals("MinINode::Ideal",
+                JdkUtil.getStackFrameSymbol("V  [libjvm.so+0x42737e]  MinINode::Ideal(PhaseGVN*, bool)+0x15e"),
+                "Symbol not correct.");
+        assertEquals("cfree", JdkUtil.getStackFrameSymbol("C  [libc.so.6+0x7d1e4]  cfree+0x1c"),
+                "Symbol not correct.");
+        assertEquals("java.lang.String.compareTo",
+                JdkUtil.getStackFrameSymbol("J 3896 C2 java.lang.String.compareTo(Ljava/lang/Object;)I (9 bytes) @ "
+                        + "0x00007f0e4c7f0a3c [0x00007f0e4c7f09e0+0x5c]"),
+                "Symbol not correct.");
+        assertEquals("java.lang.Thread.run", JdkUtil.getStackFrameSymbol("j  java.lang.Thread.run()V+11"),
+                "Symbol not correct.");
+        assertEquals("BufferBlob::flush_icache_stub",
+                JdkUtil.getStackFrameSymbol("v  ~BufferBlob::flush_icache_stub"), "Symbol not correct.");
+        assertNull(JdkUtil.getStackFrameSymbol("C  0x0000000000000000"), "Symbol incorrectly identified.");
+    }
+
     @Test
     void testUpdateNumberFromBuildStringJdk8() {
         assertEquals(282, JdkUtil.getJdk8UpdateNumber("1.8.0_282-b08"), "Update number not correct.");
@@ -116,6 +175,16 @@ class TestJdkUtil {
         assertEquals(4, JdkUtil.getJdk17UpdateNumber(jdk17ReleaseString), "JDK17 update number not correct.");
     }
 
+    @Test
+    void testUpdateNumberJdk21() {
+        assertEquals(2, JdkUtil.getJdkUpdateNumber(JavaSpecification.JDK21, "21.0.2+13-LTS"),
+                "JDK21 update number not correct.");
+        assertEquals(222, JdkUtil.getJdkUpdateNumber(JavaSpecification.JDK8, "1.8.0_222-b10"),
+                "JDK8 update number not correct.");
+        assertEquals(Integer.MIN_VALUE, JdkUtil.getJdkUpdateNumber(JavaSpecification.UNKNOWN, "21.0.2+13-LTS"),
+                "Unknown update number not correct.");
+    }
+
     @Test
     void testUpdateNumberJdk8() {
         String jdk8ReleaseString = "1.8.0_222-b10";
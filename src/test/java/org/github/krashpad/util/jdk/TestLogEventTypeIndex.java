@@ -0,0 +1,86 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.util.jdk;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import org.github.krashpad.util.jdk.JdkUtil.LogEventType;
+import org.github.krashpad.util.jdk.JdkUtil.Section;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestLogEventTypeIndex {
+
+    @Test
+    void testEmptyLine() {
+        Set<LogEventType> candidates = LogEventTypeIndex.getCandidates("");
+        assertTrue(candidates.contains(LogEventType.BLANK_LINE), "Empty line not a " + LogEventType.BLANK_LINE + ".");
+        assertFalse(candidates.contains(LogEventType.THREAD), "Empty line incorrectly a " + LogEventType.THREAD + ".");
+        assertEquals(LogEventType.BLANK_LINE, JdkUtil.identifyEventType("", null),
+                LogEventType.BLANK_LINE.toString() + " not identified.");
+    }
+
+    @Test
+    void testHeader() {
+        String logLine = "# A fatal error has been detected by the Java Runtime Environment:";
+        Set<LogEventType> candidates = LogEventTypeIndex.getCandidates(logLine);
+        assertTrue(candidates.contains(LogEventType.HEADER), LogEventType.HEADER.toString() + " not a candidate.");
+        assertFalse(candidates.contains(LogEventType.DYNAMIC_LIBRARY),
+                LogEventType.DYNAMIC_LIBRARY.toString() + " incorrectly a candidate.");
+        assertFalse(candidates.contains(LogEventType.THREAD),
+                LogEventType.THREAD.toString() + " incorrectly a candidate.");
+    }
+
+    @Test
+    void testNonAsciiFirstCharacter() {
+        assertEquals(EnumSet.allOf(LogEventType.class), LogEventTypeIndex.getCandidates("été"),
+                "Line starting with a character outside the index not tested against all event types.");
+    }
+
+    @Test
+    void testSection() {
+        String logLine = "  0x00007f19aa5128e0 JavaThread \"Thread-8\" daemon [_thread_blocked, id=18881, "
+                + "stack(0x00007f199cf04000,0x00007f199d005000)]";
+        assertTrue(LogEventTypeIndex.getCandidates(logLine, Section.PROCESS).contains(LogEventType.THREAD),
+                LogEventType.THREAD.toString() + " not a candidate in the PROCESS section.");
+        assertFalse(LogEventTypeIndex.getCandidates(logLine, Section.SYSTEM).contains(LogEventType.THREAD),
+                LogEventType.THREAD.toString() + " incorrectly a candidate in the SYSTEM section.");
+        assertEquals(LogEventTypeIndex.getCandidates(logLine),
+                LogEventTypeIndex.getCandidates(logLine, Section.UNKNOWN), "UNKNOWN section not all candidates.");
+        assertEquals(LogEventType.THREAD, JdkUtil.identifyEventType(logLine, null, Section.SYSTEM),
+                "Out of place " + LogEventType.THREAD.toString() + " not identified.");
+    }
+
+    @Test
+    void testThread() {
+        String logLine = "  0x00007f19aa5128e0 JavaThread \"Thread-8\" daemon [_thread_blocked, id=18881, "
+                + "stack(0x00007f199cf04000,0x00007f199d005000)]";
+        Set<LogEventType> candidates = LogEventTypeIndex.getCandidates(logLine);
+        assertTrue(candidates.contains(LogEventType.THREAD), LogEventType.THREAD.toString() + " not a candidate.");
+        assertFalse(candidates.contains(LogEventType.HEADER),
+                LogEventType.HEADER.toString() + " incorrectly a candidate.");
+        assertTrue(candidates.size() < EnumSet.allOf(LogEventType.class).size(), "Event types not narrowed.");
+        assertEquals(LogEventType.THREAD, JdkUtil.identifyEventType(logLine, null),
+                LogEventType.THREAD.toString() + " not identified.");
+    }
+}
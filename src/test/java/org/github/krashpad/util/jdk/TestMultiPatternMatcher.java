@@ -0,0 +1,101 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.util.jdk;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestMultiPatternMatcher {
+
+    @Test
+    void testAlwaysVerified() {
+        MultiPatternMatcher matcher = new MultiPatternMatcher(Arrays.asList("(dll|so)", "libjvm"));
+        BitSet matches = matcher.match("libzip.so");
+        assertTrue(matches.get(0), "Regular expression without a literal not verified.");
+        assertFalse(matches.get(1), "Regular expression incorrectly matched.");
+    }
+
+    @Test
+    void testCandidates() {
+        MultiPatternMatcher matcher = new MultiPatternMatcher(Arrays.asList("^.+libclntsh.(dll|so).+$", "wily"));
+        BitSet candidates = matcher.getCandidates("C  [libclntsh.dylib+0x1]");
+        assertTrue(candidates.get(0), "Literal not found.");
+        assertFalse(candidates.get(1), "Literal incorrectly found.");
+        assertFalse(matcher.match("C  [libclntsh.dylib+0x1]").get(0), "Candidate not verified.");
+    }
+
+    @Test
+    void testMatchSameAsFind() {
+        List<String> regexes = Arrays.asList("^.+libclntsh.(dll|so).+$", "^.+com\\.itextpdf\\.text.+$",
+                "^.+ org\\.mozilla\\.jss\\..+$", "^.*compressed oops.*$", JdkRegEx.NATIVE_LIBRARY_DYNATRACE,
+                "^Event: (\\d{1,}\\.\\d{3}) Loaded shared library .+libocijdbc.+.(dll|so)$");
+        MultiPatternMatcher matcher = new MultiPatternMatcher(regexes);
+        List<String> logLines = Arrays.asList("C  [libclntsh.so.12.1+0x1d3a8b4]  kpuhhalo+0x834",
+                "j  com.itextpdf.text.pdf.PdfReader.<init>([B)V+4",
+                "J 1234 c2 org.mozilla.jss.pkcs11.PK11Cert.getEncoded()[B (27 bytes)",
+                "# Native memory allocation (mmap) failed to map 12288 bytes. Possible reasons: compressed oops",
+                "C  [liboneagentjava.so+0x2bc3]",
+                "Event: 5.140 Loaded shared library /opt/oracle/lib/libocijdbc11.so", "");
+        for (String logLine : logLines) {
+            BitSet matches = matcher.match(logLine);
+            for (int i = 0; i < regexes.size(); i++) {
+                assertEquals(matcher.getPattern(i).matcher(logLine).find(), matches.get(i),
+                        "Match not correct for " + regexes.get(i) + ": " + logLine);
+            }
+        }
+    }
+
+    @Test
+    void testOverlappingLiterals() {
+        MultiPatternMatcher matcher = new MultiPatternMatcher(Arrays.asList("he", "she", "his", "hers"));
+        BitSet matches = matcher.match("ushers");
+        assertTrue(matches.get(0), "he not found.");
+        assertTrue(matches.get(1), "she not found.");
+        assertFalse(matches.get(2), "his incorrectly found.");
+        assertTrue(matches.get(3), "hers not found.");
+        assertEquals(4, matcher.size(), "Size not correct.");
+    }
+
+    @Test
+    void testRequiredLiteral() {
+        assertEquals("libclntsh", MultiPatternMatcher.getRequiredLiteral("^.+libclntsh.(dll|so).+$"),
+                "Literal not correct.");
+        assertEquals(" org.mozilla.jss.", MultiPatternMatcher.getRequiredLiteral("^.+ org\\.mozilla\\.jss\\..+$"),
+                "Escaped literal not correct.");
+        assertEquals("ok_to_convert(Node*, Node*)",
+                MultiPatternMatcher.getRequiredLiteral("^.*ok_to_convert\\(Node\\*, Node\\*\\).*$"),
+                "Escaped literal not correct.");
+        assertEquals("IdealLoopTree::", MultiPatternMatcher.getRequiredLiteral("^.+[a-z]IdealLoopTree::(\\w+).+$"),
+                "Longest literal not correct.");
+        assertEquals("Event: ", MultiPatternMatcher.getRequiredLiteral("^Event: (\\d{1,}\\.\\d{3}) Loaded"),
+                "Literal not correct.");
+        assertEquals("abc", MultiPatternMatcher.getRequiredLiteral("abcd?"), "Optional character not dropped.");
+        assertNull(MultiPatternMatcher.getRequiredLiteral("dll|so"), "Alternation has a literal.");
+        assertNull(MultiPatternMatcher.getRequiredLiteral("(?i)libjvm"), "Inline flag has a literal.");
+        assertNull(MultiPatternMatcher.getRequiredLiteral("\\Qlibjvm\\E"), "Character escape has a literal.");
+    }
+}
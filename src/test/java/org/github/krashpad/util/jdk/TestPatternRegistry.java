@@ -0,0 +1,70 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.util.jdk;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.regex.Pattern;
+
+import org.github.krashpad.domain.jdk.DynamicLibrary;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestPatternRegistry {
+
+    @Test
+    void testEvaluationCount() {
+        assertEquals(0, PatternRegistry.getEvaluationCount(), "Evaluations counted without counting enabled.");
+        PatternRegistry.setCounting(true);
+        try {
+            PatternRegistry.matches("Dynamic libraries:", DynamicLibrary._REGEX_HEADER);
+            Pattern pattern = PatternRegistry.getPattern(DynamicLibrary._REGEX_HEADER);
+            assertEquals(1, PatternRegistry.getEvaluationCount(), "Pattern lookup counted as an evaluation.");
+            PatternRegistry.matcher(pattern, "Dynamic libraries:").matches();
+            PatternRegistry.matcher(Pattern.compile("^Dynamic .+$"), "Dynamic libraries:").matches();
+            assertEquals(3, PatternRegistry.getEvaluationCount(), "Evaluation count not correct.");
+            PatternRegistry.setCounting(true);
+            assertEquals(0, PatternRegistry.getEvaluationCount(), "Evaluation count not reset.");
+        } finally {
+            PatternRegistry.setCounting(false);
+        }
+        PatternRegistry.matches("Dynamic libraries:", DynamicLibrary._REGEX_HEADER);
+        assertEquals(0, PatternRegistry.getEvaluationCount(), "Evaluations counted after counting disabled.");
+    }
+
+    @Test
+    void testMatchesIsFullMatch() {
+        String logLine = "Dynamic libraries:";
+        assertTrue(PatternRegistry.matches(logLine, DynamicLibrary._REGEX_HEADER), "Header not matched.");
+        assertFalse(PatternRegistry.matches(logLine + " ", DynamicLibrary._REGEX_HEADER),
+                "Partial match incorrectly identified.");
+        assertEquals(logLine.matches(DynamicLibrary._REGEX_HEADER),
+                PatternRegistry.matches(logLine, DynamicLibrary._REGEX_HEADER), "Result differs from String.matches.");
+    }
+
+    @Test
+    void testPatternCompiledOnce() {
+        String regex = "^Total number of mappings: \\d{1,}$";
+        assertSame(PatternRegistry.getPattern(regex), PatternRegistry.getPattern(regex), "Pattern not cached.");
+        assertSame(PatternRegistry.getPattern(regex), PatternRegistry.getPattern(new String(regex)),
+                "Pattern not cached by regular expression value.");
+    }
+}
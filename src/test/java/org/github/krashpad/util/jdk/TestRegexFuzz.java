@@ -0,0 +1,194 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.util.jdk;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.github.krashpad.service.Manager;
+import org.github.krashpad.util.Constants;
+import org.github.krashpad.util.StepBudgetCharSequence;
+import org.github.krashpad.util.jdk.JdkUtil.LogEventType;
+import org.junit.jupiter.api.Test;
+
+/**
+ * <p>
+ * Fuzzes the registered regular expressions with log lines from the test data mutated to grow in length, and reports
+ * the patterns whose matching work grows super-linearly with the length of the input.
+ * </p>
+ * 
+ * <p>
+ * The work is measured as the number of characters read by the matcher (see {@link StepBudgetCharSequence}), so the
+ * results are deterministic and do not depend on the speed of the machine.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestRegexFuzz {
+
+    /**
+     * The growth in matching work above which a pattern is reported when the input is 4 times longer (4 for linear
+     * matching, 16 for quadratic).
+     */
+    private static final double MAX_GROWTH = 8;
+
+    /**
+     * The minimum matching work on the longer input to be reported (ignores patterns that fail fast).
+     */
+    private static final long MIN_STEPS = 16 * 1024;
+
+    /**
+     * Use every nth non-blank log line in the test data as a seed.
+     */
+    private static final int SEED_INTERVAL = 31;
+
+    /**
+     * The length of the shorter mutated log line.
+     */
+    private static final int SIZE = 128;
+
+    /**
+     * @param seed
+     *            The log line to mutate.
+     * @param length
+     *            The length to grow the log line to.
+     * @param mutation
+     *            The mutation.
+     * @return The mutated log line.
+     */
+    private static String mutate(String seed, int length, int mutation) {
+        StringBuilder mutated = new StringBuilder();
+        switch (mutation) {
+        case 0:
+            // Repeat the log line
+            while (mutated.length() < length) {
+                mutated.append(seed).append(' ');
+            }
+            mutated.setLength(length);
+            break;
+        case 1:
+            // Repeat the second half of the log line, then break the match at the end
+            mutated.append(seed, 0, seed.length() / 2);
+            String tail = seed.substring(seed.length() / 2) + " ";
+            while (mutated.length() < length) {
+                mutated.append(tail);
+            }
+            mutated.setLength(length);
+            mutated.append('\u0001');
+            break;
+        case 2:
+            // Pad with whitespace, then break the match at the end
+            mutated.append(seed);
+            while (mutated.length() < length) {
+                mutated.append(' ');
+            }
+            mutated.append('!');
+            break;
+        default:
+            // Append address, number, and identifier junk
+            mutated.append(seed);
+            while (mutated.length() < length) {
+                mutated.append("0x00007f 1234 abc:");
+            }
+            mutated.setLength(length);
+            break;
+        }
+        return mutated.toString();
+    }
+
+    /**
+     * @return Log lines from the test data, up to 80 characters long. The test data is parsed first, so the patterns
+     *         used by the event types and analysis are registered.
+     */
+    private static List<String> getSeeds() throws IOException {
+        List<String> seeds = new ArrayList<String>();
+        File[] files = new File(Constants.TEST_DATA_DIR).listFiles();
+        Arrays.sort(files);
+        int count = 0;
+        for (File file : files) {
+            if (file.isFile() && file.getName().endsWith(".txt")) {
+                new Manager().parse(file);
+                for (String logLine : Files.readAllLines(file.toPath(), StandardCharsets.ISO_8859_1)) {
+                    if (!logLine.trim().isEmpty() && count++ % SEED_INTERVAL == 0) {
+                        seeds.add(logLine.length() > 80 ? logLine.substring(0, 80) : logLine);
+                    }
+                }
+            }
+        }
+        return seeds;
+    }
+
+    /**
+     * @param pattern
+     *            The pattern.
+     * @param input
+     *            The input.
+     * @return The number of characters read to match the input.
+     */
+    private static long getSteps(Pattern pattern, String input) {
+        StepBudgetCharSequence sequence = new StepBudgetCharSequence(input, Long.MAX_VALUE);
+        pattern.matcher(sequence).matches();
+        return sequence.getSteps();
+    }
+
+    @Test
+    void testIdentifyEventTypeBudget() {
+        StringBuilder logLine = new StringBuilder();
+        for (int i = 0; i < 4096; i++) {
+            logLine.append('a');
+        }
+        StepBudgetCharSequence sequence = new StepBudgetCharSequence(logLine, Long.MAX_VALUE);
+        JdkUtil.identifyEventType(sequence, null);
+        assertTrue(sequence.getSteps() <= (long) Constants.REGEX_STEP_BUDGET_PER_CHARACTER * (logLine.length() + 1),
+                "Identification exceeded the step budget.");
+        assertEquals(LogEventType.UNKNOWN, JdkUtil.identifyEventType(logLine, null), "Event type not correct.");
+    }
+
+    @Test
+    void testLinearMatching() throws IOException {
+        List<String> seeds = getSeeds();
+        List<String> superLinear = new ArrayList<String>();
+        List<Pattern> patterns = new ArrayList<Pattern>(PatternRegistry.getPatterns());
+        for (Pattern pattern : patterns) {
+            for (String seed : seeds) {
+                boolean reported = false;
+                for (int mutation = 0; mutation < 4 && !reported; mutation++) {
+                    long steps = getSteps(pattern, mutate(seed, SIZE, mutation));
+                    long stepsLonger = getSteps(pattern, mutate(seed, 4 * SIZE, mutation));
+                    if (stepsLonger >= MIN_STEPS && stepsLonger > MAX_GROWTH * Math.max(steps, 1)) {
+                        superLinear.add(pattern.pattern() + " (" + steps + " -> " + stepsLonger + " steps, mutation "
+                                + mutation + " of \"" + seed + "\")");
+                        reported = true;
+                    }
+                }
+                if (reported) {
+                    break;
+                }
+            }
+        }
+        assertTrue(patterns.size() > 100, "Patterns not registered.");
+        assertTrue(superLinear.isEmpty(), "Super-linear patterns: " + superLinear);
+    }
+}